@@ -27,6 +27,7 @@ import org.stekikun.dolmen.syntax.Lexer;
 import org.stekikun.dolmen.syntax.Located;
 import org.stekikun.dolmen.syntax.Reporter;
 import org.stekikun.dolmen.syntax.IReport.Severity;
+import org.stekikun.dolmen.tagged.Keywords;
 import org.stekikun.dolmen.tagged.TLexerEntry.Finisher;
 
 /**
@@ -81,7 +82,14 @@ public final class Automata {
 		public final List<@NonNull Finisher> finishers;
 		
 		/**
-		 * Builds an automaton entry from the given arguments
+		 * The keyword clauses which are not recognized by
+		 * the automaton, but by looking lexemes up
+		 */
+		public final Keywords keywords;
+		
+		/**
+		 * Builds an automaton entry from the given arguments,
+		 * without any keywords
 		 * 
 		 * @param name
 		 * @param returnType
@@ -94,6 +102,26 @@ public final class Automata {
 		public Entry(boolean visibility, String name, Extent returnType,
 				@Nullable Extent args, int memSize, int initialState, 
 				List<MemAction> initializer, List<Finisher> finishers) {
+			this(visibility, name, returnType, args, memSize, 
+				initialState, initializer, finishers, Keywords.NONE);
+		}
+		
+		/**
+		 * Builds an automaton entry from the given arguments
+		 * 
+		 * @param name
+		 * @param returnType
+		 * @param args
+		 * @param memSize
+		 * @param initialState
+		 * @param initializer
+		 * @param finishers
+		 * @param keywords
+		 */
+		public Entry(boolean visibility, String name, Extent returnType,
+				@Nullable Extent args, int memSize, int initialState, 
+				List<MemAction> initializer, List<Finisher> finishers,
+				Keywords keywords) {
 			this.visibility = visibility;
 			this.name = name;
 			this.returnType = returnType;
@@ -102,6 +130,7 @@ public final class Automata {
 			this.initialState = initialState;
 			this.initializer = initializer;
 			this.finishers = finishers;
+			this.keywords = keywords;
 		}
 		
 		StringBuilder append(StringBuilder buf) {
@@ -114,6 +143,8 @@ public final class Automata {
 			buf.append("\n initializer = ").append(initializer);
 			buf.append("\n finishers = ");
 			finishers.forEach(fi -> buf.append("\n   ").append(fi));
+			if (!keywords.isEmpty())
+				buf.append("\n keywords = ").append(keywords);
 			return buf;
 		}
 		
@@ -225,15 +256,15 @@ public final class Automata {
 			if (!aentry.isPresent())
 				throw new IllegalStateException("Lexer entry " + entry.name.val
 					+ " has no corresponding entry in automaton: " + this.toString());
-			findProblemsInEntry(reporter, entry, aentry.get().initialState);
+			findProblemsInEntry(reporter, entry, aentry.get());
 		}
 		return reporter.getReports();
 	}
 	
 	/**
-	 * Checks the automaton entry whose initial state is {@code initialState}
-	 * and must correspond to the syntactic lexer entry {@code entry} for issues,
-	 * and report all of them in {@code reporter}.
+	 * Checks the automaton entry {@code aentry}, which must correspond
+	 * to the syntactic lexer entry {@code entry}, for issues, and report
+	 * all of them in {@code reporter}.
 	 * <p>
 	 * The following issues can be reported:
 	 * <ul>
@@ -244,10 +275,11 @@ public final class Automata {
 	 * 
 	 * @param reporter
 	 * @param entry
-	 * @param initialState
+	 * @param aentry
 	 */
 	private void findProblemsInEntry(Reporter reporter, 
-			Lexer.Entry entry, int initialState) {
+			Lexer.Entry entry, Entry aentry) {
+		final int initialState = aentry.initialState;
 		// First look for potential token errors
 		findEmptyTokenStates(reporter, entry, initialState);
 		
@@ -288,6 +320,13 @@ public final class Automata {
 			}
 			}
 		}
+		// Keywords are used whenever their identifier clause is
+		for (Map.Entry<Integer, Map<String, Integer>> kws : 
+				aentry.keywords.tables.entrySet()) {
+			if (!reachable[kws.getKey()]) continue;
+			for (int action : kws.getValue().values())
+				reachable[action] = true;
+		}
 		
 		// Now report all unreachable actions in this lexer entry
 		int i = 0;
@@ -1,5 +1,6 @@
 package org.stekikun.dolmen.automaton;
 
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -218,22 +219,26 @@ public class DFA {
 		public final TagInfo tag;
 		/** 
 		 * Sets of NFA states which define the tag
-		 * in a common memory cell
+		 * in a common memory cell, as sets of 
+		 * {@linkplain NFA.Event#code() event codes}
 		 */
-		public final Set<Set<NFA.@NonNull Event>> equiv;
+		public final Set<@NonNull BitSet> equiv;
+		/** The cached hash code */
+		private final int hash;
 		
-		TEquiv(TagInfo tag, Set<Set<NFA.Event>> equiv) {
+		TEquiv(TagInfo tag, Set<BitSet> equiv) {
 			this.tag = tag;
 			this.equiv = equiv;
-		}
-
-		@Override
-		public int hashCode() {
 			final int prime = 31;
 			int result = 1;
 			result = prime * result + equiv.hashCode();
 			result = prime * result + tag.hashCode();
-			return result;
+			this.hash = result;
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
 		}
 
 		@Override
@@ -245,6 +250,8 @@ public class DFA {
 			if (getClass() != obj.getClass())
 				return false;
 			TEquiv other = (TEquiv) obj;
+			if (hash != other.hash)
+				return false;
 			if (!equiv.equals(other.equiv))
 				return false;
 			if (!tag.equals(other.tag))
@@ -260,30 +267,41 @@ public class DFA {
 	 * that the DFA state stands for, in such a way that two
 	 * different states with the same key can be made equal
 	 * by copying some memory cells in others.
+	 * <p>
+	 * NFA states are represented by bit sets of their
+	 * {@linkplain NFA.Event#code() codes}, and hash codes are
+	 * computed once and for all, so that keys can be compared
+	 * cheaply when looking up states during determinization.
 	 * 
 	 * @author Stéphane Lescuyer
 	 */
 	public static final class Key {
-		/** The set of NFA states (the 'untagged' DFA state) */
-		public final Set<NFA.Event> state;
+		/** 
+		 * The set of NFA states (the 'untagged' DFA state),
+		 * as a set of event codes
+		 */
+		public final BitSet state;
 		/** 
 		 * The set of {@link TEquiv} structures which abstract,
 		 * for every tag defined in the DFA state, 
 		 */
 		public final Set<@NonNull TEquiv> mem;
+		/** The cached hash code */
+		private final int hash;
 		
-		Key(Set<NFA.Event> state, Set<TEquiv> mem) {
+		Key(BitSet state, Set<TEquiv> mem) {
 			this.state = state;
 			this.mem = mem;
-		}
-
-		@Override
-		public int hashCode() {
 			final int prime = 31;
 			int result = 1;
 			result = prime * result + mem.hashCode();
 			result = prime * result + state.hashCode();
-			return result;
+			this.hash = result;
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
 		}
 
 		@Override
@@ -295,10 +313,12 @@ public class DFA {
 			if (getClass() != obj.getClass())
 				return false;
 			Key other = (Key) obj;
-			if (!mem.equals(other.mem))
+			if (hash != other.hash)
 				return false;
 			if (!state.equals(other.state))
 				return false;
+			if (!mem.equals(other.mem))
+				return false;
 			return true;
 		}
 	}
@@ -316,9 +336,9 @@ public class DFA {
 	 */
 	private static class TagEvents {
 		final TagInfo tag;
-		final Set<NFA.Event> transitions;
+		final BitSet transitions;
 		
-		TagEvents(TagInfo tag, Set<NFA.Event> transitions) {
+		TagEvents(TagInfo tag, BitSet transitions) {
 			this.tag = tag;
 			this.transitions = transitions;
 		}
@@ -334,9 +354,9 @@ public class DFA {
 		// First compute the set of sets of transitions
 		// which are associated to some tag info in the
 		// provided tag events
-		Map<TagInfo, Set<Set<NFA.Event>>> env1 = new HashMap<>();
+		Map<TagInfo, Set<BitSet>> env1 = new HashMap<>();
 		m.values().forEach(te -> {
-			@Nullable Set<Set<NFA.Event>> x = Maps.get(env1, te.tag);
+			@Nullable Set<BitSet> x = Maps.get(env1, te.tag);
 			if (x == null)
 				env1.put(te.tag, Sets.singleton(te.transitions));
 			else {
@@ -361,24 +381,24 @@ public class DFA {
 	 * with contributions from the NFA state {@code trans} and
 	 * memory map {@code m}
 	 * 
-	 * @param trans
+	 * @param trans	the code of an NFA state
 	 * @param m
 	 * @param acc
 	 */
 	private static void inverseMemMap(
-		NFA.Event trans, Map<TagInfo, Integer> m, 
+		int trans, Map<TagInfo, Integer> m, 
 		Map<Integer, TagEvents> acc) {
 		m.forEach((tag, addr) -> {
 			@Nullable TagEvents te = Maps.get(acc, addr);
 			if (te == null) {
-				Set<NFA.Event> transs = Sets.create();
-				transs.add(trans);
+				BitSet transs = new BitSet();
+				transs.set(trans);
 				acc.put(addr, new TagEvents(tag, transs));
 			}
 			else {
 				if (!tag.equals(te.tag))
 					throw new IllegalStateException();
-				te.transitions.add(trans);
+				te.transitions.set(trans);
 			}
 		});
 	}
@@ -393,20 +413,20 @@ public class DFA {
 		Map<Integer, TagEvents> env = new HashMap<>();
 		@Nullable MemMap fmap = s.finisher;
 		if (fmap != null)
-			inverseMemMap(NFA.Event.toAction(s.finalAction),
+			inverseMemMap(NFA.Event.toAction(s.finalAction).code(),
 						  fmap.locs, env);
 		s.others.forEach((n, mmap) ->
-			inverseMemMap(NFA.Event.onChars(n),
+			inverseMemMap(NFA.Event.onChars(n).code(),
 						  mmap.locs, env));
 		Set<TEquiv> memKey = envToClass(env);
 		
 		// The state part of the key is all the NFA states
 		// appearing in s
-		Set<NFA.Event> stateKey = Sets.create();
+		BitSet stateKey = new BitSet();
 		if (s.isFinal())
-			stateKey.add(NFA.Event.toAction(s.finalAction));
+			stateKey.set(NFA.Event.toAction(s.finalAction).code());
 		s.others.keySet().forEach(
-			n -> stateKey.add(NFA.Event.onChars(n)));
+			n -> stateKey.set(NFA.Event.onChars(n).code()));
 		
 		return new Key(stateKey, memKey);
 	}
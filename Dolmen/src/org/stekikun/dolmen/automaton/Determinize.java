@@ -11,6 +11,8 @@ import java.util.Set;
 import java.util.Stack;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.function.Function;
 
 import org.eclipse.jdt.annotation.NonNull;
@@ -456,7 +458,7 @@ public class Determinize {
 			final TagInfo tag = teq.tag;
 			teq.equiv.forEach(s -> {
 				assert (!s.isEmpty());
-				NFA.Event t = s.iterator().next();
+				NFA.Event t = NFA.Event.ofCode(s.nextSetBit(0));
 				// Because [src] and [tgt] have the key [memKey],
 				// every tag in the key must be accounted for in their locations
 				int asrc = Nulls.ok(src.getLocsFor(t).get(tag));
@@ -497,8 +499,10 @@ public class Determinize {
 		final DFA.Key key = DFA.getKey(st);
 		@Nullable Integer num = Maps.get(stateMap, key);
 		if (num != null) {
-			debug("Found equivalent state for " + st);
-			debug("  rep is: " + stateTable.get(num));
+			if (withDebug) {
+				debug("Found equivalent state for " + st);
+				debug("  rep is: " + stateTable.get(num));
+			}
 			moveTo(key.mem, st, stateTable.get(num), moves);
 			return num;
 		} else {
@@ -545,9 +549,11 @@ public class Determinize {
 		Function<DFA.State, T> f, List<Indexed<T>> acc) {
 		while (!todo.isEmpty()) {
 			StateNum sn = todo.pop();
-			debug("States to visit: " + (todo.size() +  1));
-			debug("Picking state " + sn.num + " on todo stack");
-			debug(sn.state.toString());
+			if (withDebug) {
+				debug("States to visit: " + (todo.size() +  1));
+				debug("Picking state " + sn.num + " on todo stack");
+				debug(sn.state.toString());
+			}
 //			Prompt.getInputLine("Proceed?");
 			T r = f.apply(sn.state);
 			acc.add(new Indexed<>(sn.num, r));
@@ -585,31 +591,74 @@ public class Determinize {
 	}
 	
 	/**
+	 * A DFA state under construction, which is extended in place
+	 * with NFA transitions, so that the memory maps need not be
+	 * copied for every transition. Partial states are only copied
+	 * when a character set in a shifting table is split.
+	 * 
+	 * @author Stéphane Lescuyer
+	 * @see DFA.State
+	 */
+	private static final class PartialState {
+		/** The final action, or {@link DFA#NO_ACTION} */
+		int finalAction;
+		/** The memory map of the final action, if any */
+		@Nullable MemMap finisher;
+		/** The memory maps of the non-final NFA states */
+		final HashMap<@NonNull Integer, MemMap> others;
+		
+		PartialState() {
+			this.finalAction = DFA.NO_ACTION;
+			this.finisher = null;
+			this.others = new HashMap<>();
+		}
+		
+		PartialState(PartialState ps) {
+			this.finalAction = ps.finalAction;
+			this.finisher = ps.finisher;
+			this.others = new HashMap<>(ps.others);
+		}
+		
+		/**
+		 * @return the DFA state described by this partial state
+		 */
+		DFA.State toState() {
+			final @Nullable MemMap fmap = finisher;
+			if (fmap == null) {
+				if (others.isEmpty()) return DFA.State.EMPTY;
+				return new DFA.State(others);
+			}
+			return new DFA.State(finalAction, fmap, others);
+		}
+	}
+	
+	/**
+	 * Extends the partial state {@code st} by applying the
+	 * given NFA transition
+	 * 
 	 * @param gen
 	 * @param st
 	 * @param priority
 	 * @param locs
 	 * @param trans
-	 * @return the state obtained by applying the given 
-	 * 	NFA transition to the state {@code st}
 	 */
-	private DFA.State applyTransition(AddressGen gen,
-		DFA.State st, int priority, Map<TagInfo, Integer> locs,
+	private void applyTransition(AddressGen gen,
+		PartialState st, int priority, Map<TagInfo, Integer> locs,
 		NFA.Transition trans) {
 		
 		final Set<TagInfo> tags = trans.tags;
 		final int n = trans.event.n;
 		switch (trans.event.kind) {
 		case ON_CHARS: {
-			@Nullable MemMap other = Maps.get(st.others, n);
+			@Nullable MemMap other = st.others.get(n);
 			// If already some state for this char of higher priority,
 			// don't change anything. Otherwise, we add the new
 			// mapping (or remplace the old one)
 			if (other != null && priority >= other.priority)
-				return st;
-			return st.withLocs(n,
-						new MemMap(priority,
-							addTagsToMap(gen, tags, locs)));
+				return;
+			st.others.put(n, 
+				new MemMap(priority, addTagsToMap(gen, tags, locs)));
+			return;
 		}
 		case TO_ACTION: {
 			int on = st.finalAction;
@@ -620,31 +669,30 @@ public class Determinize {
 				(n < on || (n == on && priority < finisher.priority))) {
 				Map<TagInfo, Integer> newLocs =
 					addTagsToMap(gen, tags, locs);
-				MemMap newFinisher = new MemMap(priority, newLocs);
-				return new DFA.State(n, newFinisher, st.others);
+				st.finalAction = n;
+				st.finisher = new MemMap(priority, newLocs);
 			}
-			else return st;
+			return;
 		}
 		}
 		throw new IllegalStateException();
 	}
 	
 	/**
+	 * Extends the partial state {@code st} with all the 
+	 * NFA states provided in {@code transs}
+	 * 
 	 * @param gen
 	 * @param st
 	 * @param priority
 	 * @param locs
 	 * @param transs
-	 * @return the result of extending the state {@code st}
-	 * 	with all the NFA states provided in {@code transs}
 	 */
-	private DFA.State applyTransitions(
-		AddressGen gen, DFA.State st, int priority,
+	private void applyTransitions(
+		AddressGen gen, PartialState st, int priority,
 		Map<TagInfo, Integer> locs, Set<NFA.Transition> transs) {
-		DFA.State res = st;
 		for (NFA.Transition tr : transs)
-			res = applyTransition(gen, res, priority, locs, tr);
-		return res;
+			applyTransition(gen, st, priority, locs, tr);
 	}
 	
 	/**
@@ -657,9 +705,9 @@ public class Determinize {
 	 */
 	private static final class CSetState {
 		final CSet chars;
-		final DFA.State state;
+		final PartialState state;
 		
-		CSetState(CSet chars, DFA.State state) {
+		CSetState(CSet chars, PartialState state) {
 			this.chars = chars;
 			this.state = state;
 		}
@@ -698,7 +746,7 @@ public class Determinize {
 		// st1
 		final CSetState p = partition.get(from);
 		final CSet s1 = p.chars;
-		final DFA.State st1 = p.state;
+		final PartialState st1 = p.state;
 		
 		// Find the intersection with the current charset
 		final CSet here = CSet.inter(chars, s1);
@@ -719,17 +767,20 @@ public class Determinize {
 			// list, so we can continue local insertions
 		}
 		
+		// If not all characters from s1 are accounted by chars,
+		// we need to keep them in the partition with a copy
+		// of the original state
+		final CSet stay = CSet.diff(s1, here);
+		final @Nullable PartialState stSt = 
+			stay.isEmpty() ? null : new PartialState(st1);
+		
 		// Compute the state associated to this refined character
 		// set, and add it to the partition instead of the old one
-		DFA.State newSt =
-			applyTransitions(gen, st1, pos, locs, follow);
-		partition.set(from, new CSetState(here, newSt));
+		applyTransitions(gen, st1, pos, locs, follow);
+		partition.set(from, new CSetState(here, st1));
 		
-		// If not all characters from s1 are accounted by chars,
-		// we need to keep them in the partition
-		final CSet stay = CSet.diff(s1, here);
-		if (!stay.isEmpty())
-			partition.add(from, new CSetState(stay, st1));
+		if (stSt != null)
+			partition.add(from, new CSetState(stay, stSt));
 	}
 	
 	/**
@@ -746,7 +797,7 @@ public class Determinize {
 		
 		final List<CSetState> partition = new ArrayList<>(4);
 		// Start with a trivial partition: all chars to nowhere
-		partition.add(new CSetState(CSet.ALL, DFA.State.EMPTY));
+		partition.add(new CSetState(CSet.ALL, new PartialState()));
 		// and refine it for every possible outgoing charset
 		st.forEach((pos, mmap) -> {
 			@NonNull Set<NFA.Transition> follow = follows[pos];
@@ -777,7 +828,7 @@ public class Determinize {
 		// A tree-map is used so that the key-set order is deterministic.
 		TreeMap<CSet, TransActions> res = new TreeMap<CSet, TransActions>();
 		charMap.forEach(css -> {
-			res.put(css.chars, gotoState(css.state));
+			res.put(css.chars, gotoState(css.state.toState()));
 		});
 		return res;
 	}
@@ -944,53 +995,61 @@ public class Determinize {
 	}
 	
 	/**
-	 * @param lexer
-	 * @param optimisation
-	 * @return a deterministic automata that recognizes
-	 * 	the rules in the provided lexer definition
+	 * The automaton computed for a single lexer entry,
+	 * where states are numbered from {@code 0}
+	 * 
+	 * @author Stéphane Lescuyer
 	 */
-	public static Automata lexer(Lexer lexer, boolean optimisation) {
-		// First get a tagged optimized version of the lexer entries
-		final TLexer tlexer = Encoder.encodeLexer(lexer, optimisation);
-		// Compute the follow sets for the whole entries
-		Set<NFA.Transition>[] follows = NFA.followPos(tlexer);
+	private static final class EntryAutomaton {
+		/** The number of the initial state */
+		final int initNum;
+		/** The memory actions to perform before entering the initial state */
+		final List<@NonNull MemAction> initActions;
+		/** The number of memory cells used by the automaton */
+		final int memSize;
+		/** The cells of the automaton, indexed by state numbers */
+		final DFA.@NonNull Cell[] cells;
 		
+		EntryAutomaton(int initNum, List<MemAction> initActions,
+				int memSize, DFA.@NonNull Cell[] cells) {
+			this.initNum = initNum;
+			this.initActions = initActions;
+			this.memSize = memSize;
+			this.cells = cells;
+		}
+	}
+	
+	/**
+	 * @param tlexer
+	 * @param follows	the follow sets for all entries in {@code tlexer}
+	 * @param tentry	an entry of {@code tlexer}
+	 * @return the automaton recognizing the entry {@code tentry},
+	 * 	computed in a fresh determinization context
+	 */
+	private static EntryAutomaton entry(TLexer tlexer,
+			@NonNull Set<NFA.Transition>[] follows, TLexerEntry tentry) {
 		// Create a fresh determinization context
-		Determinize det = new Determinize();
-		List<Indexed<DFA.Cell>> indexedCells = new ArrayList<>(); 
-		List<Automata.@NonNull Entry> automataEntries =
-			new ArrayList<>(tlexer.entries.size());
+		final Determinize det = new Determinize();
+		final List<Indexed<DFA.Cell>> indexedCells = new ArrayList<>(); 
 		
-		// For every rule, compute the corresponding initializers
-		// and finishers, and create all the corresponding cells
-		for (final TLexerEntry tentry : tlexer.entries) {
-			// Extract all tags from this entry's actions
-			final @NonNull Map<TagInfo, Integer>[] tags = extractTags(tentry.actions);
-			det.resetPartial(tentry.memTags);
-			
-			// Compute the initial state by looking at the 
-			// set of first possible transitions
-			final Set<NFA.Transition> possible = NFA.firstPos(tentry.regexp);
-			DFA.State initState = det.createInitState(possible);
-			final ArrayList<MemAction> initActions = new ArrayList<>(2);
-			final int initNum = det.getState(initState, initActions);
-			
-			// Perform the closure of all states reachable from
-			// this initial state. This fills the indexedCells array
-			// by side effect
-			det.mapOnAllStates(st ->
-				det.translateState(tentry.shortest, tags, 
-								   tlexer.charsets, follows, st), 
-				indexedCells);
-			
-			// And finally register the automaton entry corresponding
-			// to this lexer entry
-			Automata.Entry autoEntry =
-				new Automata.Entry(tentry.visibility, tentry.name, tentry.returnType, 
-						tentry.args, det.tempPending ? det.nextMemCell + 1 : det.nextMemCell, 
-						initNum, initActions, tentry.actions);
-			automataEntries.add(autoEntry);
-		}
+		// Extract all tags from this entry's actions
+		final @NonNull Map<TagInfo, Integer>[] tags = extractTags(tentry.actions);
+		det.resetPartial(tentry.memTags);
+		
+		// Compute the initial state by looking at the 
+		// set of first possible transitions
+		final Set<NFA.Transition> possible = NFA.firstPos(tentry.regexp);
+		DFA.State initState = det.createInitState(possible);
+		final ArrayList<MemAction> initActions = new ArrayList<>(2);
+		final int initNum = det.getState(initState, initActions);
+		
+		// Perform the closure of all states reachable from
+		// this initial state. This fills the indexedCells array
+		// by side effect
+		det.mapOnAllStates(st ->
+			det.translateState(tentry.shortest, tags, 
+							   tlexer.charsets, follows, st), 
+			indexedCells);
 		
 		// Gather all constructed cells in an array
 		if (det.nextStateNum != indexedCells.size())
@@ -1006,6 +1065,127 @@ public class Determinize {
 		// nulls anymore
 		@SuppressWarnings("null")
 		DFA.@NonNull Cell[] checkedCells = cells;
+		return new EntryAutomaton(initNum, initActions,
+			det.tempPending ? det.nextMemCell + 1 : det.nextMemCell, checkedCells);
+	}
+	
+	/**
+	 * @param cell
+	 * @param offset
+	 * @return a copy of {@code cell} where the targets of all
+	 * 	transitions are shifted by {@code offset}
+	 */
+	private static DFA.Cell shiftCell(DFA.Cell cell, int offset) {
+		if (offset == 0 || cell.getKind() != DFA.Cell.Kind.SHIFT) return cell;
+		final DFA.Shift shift = (DFA.Shift) cell;
+		final TreeMap<CSet, TransActions> table = new TreeMap<>();
+		shift.transTable.forEach((cset, trans) -> {
+			if (trans.gotoAction == GotoAction.BACKTRACK)
+				table.put(cset, trans);
+			else
+				table.put(cset, new TransActions(
+					GotoAction.Goto(trans.gotoAction.target + offset),
+					trans.memActions));
+		});
+		return new DFA.Shift(shift.remember, table);
+	}
+	
+	/**
+	 * @param lexer
+	 * @param optimisation
+	 * @return a deterministic automata that recognizes
+	 * 	the rules in the provided lexer definition
+	 */
+	public static Automata lexer(Lexer lexer, boolean optimisation) {
+		return lexer(lexer, optimisation, false);
+	}
+	
+	/**
+	 * When {@code utf8} holds, the resulting automata run on
+	 * UTF-8 encoded input, one byte at a time, and are suitable
+	 * for lexers based on {@link org.stekikun.dolmen.codegen.ByteLexBuffer}.
+	 * Bytes are represented by the characters in {@code [0x00-0xFF]}.
+	 * 
+	 * @param lexer
+	 * @param optimisation
+	 * @param utf8
+	 * @return a deterministic automata that recognizes
+	 * 	the rules in the provided lexer definition
+	 * @see org.stekikun.dolmen.syntax.Regulars#toUTF8
+	 */
+	public static Automata lexer(Lexer lexer, boolean optimisation, boolean utf8) {
+		return lexer(lexer, optimisation, utf8, false);
+	}
+	
+	/**
+	 * When {@code keywords} holds, keyword clauses are left
+	 * out of the resulting automata, and must be recognized by
+	 * looking up the lexemes matched by the corresponding
+	 * identifier clauses instead.
+	 * 
+	 * @param lexer
+	 * @param optimisation
+	 * @param utf8
+	 * @param keywords
+	 * @return a deterministic automata that recognizes
+	 * 	the rules in the provided lexer definition
+	 * @see #lexer(Lexer, boolean, boolean)
+	 * @see org.stekikun.dolmen.tagged.Keywords
+	 */
+	public static Automata lexer(Lexer lexer, boolean optimisation, 
+			boolean utf8, boolean keywords) {
+		return lexer(lexer, optimisation, utf8, keywords, ForkJoinPool.commonPool());
+	}
+	
+	/**
+	 * The automata of the various entries are independent and are
+	 * computed concurrently on {@code pool}, each in its own
+	 * determinization context. Their cells are then numbered in the
+	 * order of the entries, so that the result does not depend on
+	 * how the computations were scheduled.
+	 * 
+	 * @param lexer
+	 * @param optimisation
+	 * @param utf8
+	 * @param keywords
+	 * @param pool
+	 * @return a deterministic automata that recognizes
+	 * 	the rules in the provided lexer definition
+	 * @see #lexer(Lexer, boolean, boolean, boolean)
+	 */
+	public static Automata lexer(Lexer lexer, boolean optimisation, 
+			boolean utf8, boolean keywords, ForkJoinPool pool) {
+		// First get a tagged optimized version of the lexer entries
+		final TLexer tlexer = 
+			Encoder.encodeLexer(lexer, optimisation, utf8, keywords);
+		// Compute the follow sets for the whole entries
+		final Set<NFA.Transition>[] follows = NFA.followPos(tlexer);
+		
+		// Determinize every entry concurrently
+		final List<ForkJoinTask<EntryAutomaton>> tasks = 
+			new ArrayList<>(tlexer.entries.size());
+		for (final TLexerEntry tentry : tlexer.entries)
+			tasks.add(pool.submit(() -> entry(tlexer, follows, tentry)));
+		
+		// Gather the entries and their cells in order, shifting
+		// the states of every entry after the ones of the previous
+		// entries, exactly as if they had been determinized in turn
+		final List<Automata.@NonNull Entry> automataEntries =
+			new ArrayList<>(tlexer.entries.size());
+		final List<DFA.@NonNull Cell> cells = new ArrayList<>();
+		for (int k = 0; k < tasks.size(); ++k) {
+			final TLexerEntry tentry = tlexer.entries.get(k);
+			final EntryAutomaton res = tasks.get(k).join();
+			final int offset = cells.size();
+			automataEntries.add(
+				new Automata.Entry(tentry.visibility, tentry.name, tentry.returnType, 
+						tentry.args, res.memSize, res.initNum + offset, 
+						res.initActions, tentry.actions, tentry.keywords));
+			for (DFA.Cell cell : res.cells)
+				cells.add(shiftCell(cell, offset));
+		}
+		@SuppressWarnings("null")
+		DFA.@NonNull Cell[] checkedCells = cells.toArray(new DFA.Cell[cells.size()]);
 		
 		// Job done! We can return the full deterministic automata
 		Automata aut = new Automata(tlexer.imports, tlexer.header, tlexer.footer, 
@@ -0,0 +1,234 @@
+package org.stekikun.dolmen.automaton;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.stekikun.dolmen.automaton.DFA.Cell;
+import org.stekikun.dolmen.automaton.DFA.GotoAction;
+import org.stekikun.dolmen.automaton.DFA.MemAction;
+import org.stekikun.dolmen.automaton.DFA.Perform;
+import org.stekikun.dolmen.automaton.DFA.Remember;
+import org.stekikun.dolmen.automaton.DFA.Shift;
+import org.stekikun.dolmen.automaton.DFA.TagAction;
+import org.stekikun.dolmen.automaton.DFA.TransActions;
+import org.stekikun.dolmen.common.CSet;
+
+/**
+ * Minimisation of the deterministic automata produced by
+ * {@link Determinize}, which merges the cells whose behaviours
+ * cannot be told apart.
+ * <p>
+ * Two cells are equivalent when they are of the same kind and:
+ * <ul>
+ * <li> for {@link Perform} cells, they perform the same semantic
+ * 	action with the same tag actions;
+ * <li> for {@link Shift} cells, they {@linkplain Remember remember}
+ * 	the same action with the same tag actions, and every character
+ * 	leads both cells to equivalent cells, with the same memory actions,
+ * 	or makes both of them backtrack.
+ * </ul>
+ * Memory cells are compared by number, so that merged cells behave
+ * exactly the same in the generated code. Cells of different entries
+ * can be merged as well, since cells only return the number of the
+ * semantic action to perform.
+ * <p>
+ * Equivalence classes are computed by partition refinement: cells
+ * are first partitioned according to their own actions, and classes
+ * are then split according to the classes of the cells they lead to,
+ * until the partition is stable. The resulting cells are numbered
+ * in the order of the first original cell in each class, and every
+ * class is represented by that cell, so that the result is
+ * deterministic and is the same automata if no cells can be merged.
+ *
+ * @author Stéphane Lescuyer
+ */
+public final class Minimize {
+
+	private Minimize() {
+		// Static utilities only
+	}
+
+	/**
+	 * @param aut
+	 * @return automata equivalent to {@code aut}, where all
+	 * 	equivalent cells have been merged
+	 */
+	public static Automata automata(Automata aut) {
+		final DFA.@NonNull Cell[] cells = aut.automataCells;
+		final int n = cells.length;
+
+		// Initial partition according to the cells' own actions
+		int[] classes = new int[n];
+		int nclasses = 0;
+		{
+			final Map<List<?>, Integer> sigs = new HashMap<>();
+			for (int i = 0; i < n; ++i)
+				nclasses = assign(sigs, ownSignature(cells[i]), classes, i);
+		}
+		// Refine until the partition is stable
+		while (true) {
+			final Map<List<?>, Integer> sigs = new HashMap<>();
+			final int[] next = new int[n];
+			int nnext = 0;
+			for (int i = 0; i < n; ++i)
+				nnext = assign(sigs, signature(cells[i], classes[i], classes), next, i);
+			// Classes can only be split, so the partition is
+			// stable when the number of classes does not change
+			classes = next;
+			if (nnext == nclasses) break;
+			nclasses = nnext;
+		}
+		if (nclasses == n) return aut;
+
+		// Build the merged cells from the classes' representatives
+		final DFA.@Nullable Cell[] merged = new DFA.Cell[nclasses];
+		for (int i = 0; i < n; ++i) {
+			if (merged[classes[i]] != null) continue;
+			merged[classes[i]] = rename(cells[i], classes);
+		}
+		@SuppressWarnings("null")
+		final DFA.@NonNull Cell[] checkedMerged = merged;
+
+		final List<Automata.@NonNull Entry> entries =
+			new ArrayList<>(aut.automataEntries.size());
+		for (Automata.Entry entry : aut.automataEntries) {
+			entries.add(new Automata.Entry(entry.visibility, entry.name,
+				entry.returnType, entry.args, entry.memSize,
+				classes[entry.initialState], entry.initializer,
+				entry.finishers, entry.keywords));
+		}
+		return new Automata(aut.imports, aut.header, aut.footer,
+				entries, checkedMerged);
+	}
+
+	/**
+	 * Assigns the class of the cell {@code i} in {@code classes},
+	 * numbering classes by order of first appearance of their signature
+	 *
+	 * @param sigs
+	 * @param sig
+	 * @param classes
+	 * @param i
+	 * @return the number of classes so far
+	 */
+	private static int assign(Map<List<?>, Integer> sigs,
+			List<?> sig, int[] classes, int i) {
+		@Nullable Integer cl = sigs.get(sig);
+		if (cl == null) {
+			cl = sigs.size();
+			sigs.put(sig, cl);
+		}
+		classes[i] = cl;
+		return sigs.size();
+	}
+
+	private static void addTagActions(List<Integer> sig, List<TagAction> tagActions) {
+		sig.add(tagActions.size());
+		for (TagAction ta : tagActions) {
+			sig.add(ta.tag);
+			sig.add(ta.from);
+		}
+	}
+
+	private static void addMemActions(List<Integer> sig, List<MemAction> memActions) {
+		sig.add(memActions.size());
+		for (MemAction ma : memActions) {
+			sig.add(ma.getDest());
+			sig.add(ma.getSrc());
+		}
+	}
+
+	/**
+	 * @param cell
+	 * @return a description of the actions performed by {@code cell}
+	 * 	itself, regardless of its transitions
+	 */
+	private static List<Integer> ownSignature(Cell cell) {
+		final List<Integer> sig = new ArrayList<>();
+		switch (cell.getKind()) {
+		case PERFORM: {
+			final Perform perform = (Perform) cell;
+			sig.add(0);
+			sig.add(perform.action);
+			addTagActions(sig, perform.tagActions);
+			break;
+		}
+		case SHIFT: {
+			final Shift shift = (Shift) cell;
+			sig.add(1);
+			sig.add(shift.remember.action);
+			addTagActions(sig, shift.remember.tagActions);
+			break;
+		}
+		}
+		return sig;
+	}
+
+	/**
+	 * The transitions are described with the union of all characters
+	 * leading to the same class with the same memory actions, so that
+	 * the signature does not depend on how the characters were
+	 * partitioned in the cell's transition table.
+	 *
+	 * @param cell
+	 * @param cl	the current class of {@code cell}
+	 * @param classes
+	 * @return a description of {@code cell}'s class and of its
+	 * 	transitions, in terms of the given classes
+	 */
+	private static List<Object> signature(Cell cell, int cl, int[] classes) {
+		final List<Object> sig = new ArrayList<>();
+		sig.add(cl);
+		if (cell.getKind() != Cell.Kind.SHIFT) return sig;
+		final Shift shift = (Shift) cell;
+		final TreeMap<List<Integer>, CSet> moves = new TreeMap<>(Minimize::compare);
+		shift.transTable.forEach((cset, trans) -> {
+			final List<Integer> move = new ArrayList<>();
+			move.add(trans.gotoAction == GotoAction.BACKTRACK ?
+					-1 : classes[trans.gotoAction.target]);
+			addMemActions(move, trans.memActions);
+			final @Nullable CSet prev = moves.get(move);
+			moves.put(move, prev == null ? cset : CSet.union(prev, cset));
+		});
+		moves.forEach((move, cset) -> {
+			sig.addAll(move);
+			sig.add(cset);
+		});
+		return sig;
+	}
+
+	private static int compare(List<Integer> l1, List<Integer> l2) {
+		final int n = Math.min(l1.size(), l2.size());
+		for (int i = 0; i < n; ++i) {
+			final int c = Integer.compare(l1.get(i), l2.get(i));
+			if (c != 0) return c;
+		}
+		return Integer.compare(l1.size(), l2.size());
+	}
+
+	/**
+	 * @param cell
+	 * @param classes
+	 * @return a copy of {@code cell} where the targets of
+	 * 	transitions are replaced by their classes
+	 */
+	private static Cell rename(Cell cell, int[] classes) {
+		if (cell.getKind() != Cell.Kind.SHIFT) return cell;
+		final Shift shift = (Shift) cell;
+		final TreeMap<CSet, TransActions> table = new TreeMap<>();
+		shift.transTable.forEach((cset, trans) -> {
+			if (trans.gotoAction == GotoAction.BACKTRACK)
+				table.put(cset, trans);
+			else
+				table.put(cset, new TransActions(
+					GotoAction.Goto(classes[trans.gotoAction.target]),
+					trans.memActions));
+		});
+		return new Shift(shift.remember, table);
+	}
+}
@@ -92,18 +92,42 @@ public class NFA {
 			return new Event(EventKind.TO_ACTION, n);
 		}
 		
+		/**
+		 * Events are numbered densely, by interleaving character set
+		 * events and semantic action events, so that sets of events
+		 * can be represented as bit sets.
+		 *
+		 * @return a non-negative number identifying this event
+		 * @see #ofCode(int)
+		 */
+		public int code() {
+			return kind == EventKind.ON_CHARS ? n << 1 : (n << 1) | 1;
+		}
+
+		/**
+		 * @param code
+		 * @return the event whose {@linkplain #code() code} is {@code code}
+		 */
+		public static Event ofCode(int code) {
+			return (code & 1) == 0 ? onChars(code >>> 1) : toAction(code >>> 1);
+		}
+
 		@Override
 		public String toString() {
 			return kind.name() + "(" + n + ")";
 		}
 
+		/**
+		 * Events are hashed by their {@linkplain #code() code}, and not
+		 * by the identity hash of {@link #kind}, so that iterating over
+		 * sets of events or {@linkplain Transition transitions} always
+		 * follows the same order, regardless of the thread or process
+		 * where the sets were built. This keeps generated automata
+		 * reproducible.
+		 */
 		@Override
 		public int hashCode() {
-			final int prime = 31;
-			int result = 1;
-			result = prime * result + kind.hashCode();
-			result = prime * result + n;
-			return result;
+			return code();
 		}
 
 		@Override
@@ -175,6 +175,12 @@ public final class Args {
 		REPORTS('r', "reports", Type.STRING, Value.mkString(""),
 			"file where potential problems should be reported (by default, the source file + '.reports')",
 			false, NONE, NONE),
+		CACHE(null, "cache", Type.STRING, Value.mkString(""),
+			"directory where generated classes are cached (by default, no cache)",
+			false, NONE, NONE),
+		JOBS('j', "jobs", Type.NUMERIC, Value.mkNumeric(0),
+			"number of source files handled concurrently (by default, or if 0, the number of processors)",
+			false, NONE, NONE),
 		NO_COLORS(null, "no-colors", Type.FLAG, Value.NO,
 			"disable colors in output");
 		
@@ -417,17 +423,21 @@ public final class Args {
 					aarg = null;
 				else
 					aarg = args[idx];
-				if (aarg == null || aarg.charAt(0) == '-')
+				if (aarg == null || (aarg.charAt(0) == '-' && item.type != Type.NUMERIC))
 					throw new ArgsParsingException("Missing argument for option " + arg);
 				
 				Value v;
 				if (item.type == Type.NUMERIC) {
+					int n;
 					try {
-						v = Value.mkNumeric(Integer.parseInt(aarg));
+						n = Integer.parseInt(aarg);
 					}
 					catch (NumberFormatException e) {
 						throw new ArgsParsingException("Expected numeric argument for option " + arg);
 					}
+					if (n < 0)
+						throw new ArgsParsingException("Expected non-negative argument for option " + arg);
+					v = Value.mkNumeric(n);
 				}
 				else
 					v = Value.mkString(aarg);
@@ -468,9 +478,12 @@ public final class Args {
 	 */
 	static String getUsage() {
 		StringBuilder buf = new StringBuilder();
-		buf.append("java -jar Dolmen.jar <options> source\n");
+		buf.append("java -jar Dolmen.jar <options> source...\n");
 		buf.append("\n");
-		buf.append("Dolmen will generate a lexical or syntactic analyzer based on the description given in the 'source' file.\n");
+		buf.append("Dolmen will generate a lexical or syntactic analyzer based on the description given in each 'source' file.\n");
+		buf.append("Directories given as sources are searched recursively for lexer (.jl) and parser (.jg) descriptions,\n");
+		buf.append("or only for one kind of descriptions if --lexer or --grammar is specified.\n");
+		buf.append("Several sources are handled concurrently, using the number of threads given by --jobs.\n");
 		buf.append("Options:\n");
 		for (Item item : Item.values()) {
 			buf.append(" ");
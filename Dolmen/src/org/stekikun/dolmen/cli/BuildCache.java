@@ -0,0 +1,148 @@
+package org.stekikun.dolmen.cli;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
+import org.stekikun.dolmen.common.Constants;
+
+/**
+ * A content-addressed cache of the files generated by the
+ * {@linkplain Dolmen command-line interface}, which allows
+ * skipping the generation of lexers and parsers whose
+ * descriptions have not changed since they were last generated.
+ * <p>
+ * Cache entries are {@linkplain #key(File, boolean, String, String) keyed}
+ * on the contents of the source description, which includes all the
+ * {@linkplain org.stekikun.dolmen.codegen.Config configuration options}
+ * of the generated class, on the command-line arguments which influence
+ * the generated class, and on the {@linkplain Constants#VERSION version}
+ * of Dolmen. Every entry stores the generated class and the problems
+ * reported during the generation, in two files named after the key
+ * in the cache directory.
+ * <p>
+ * Entries are written atomically when possible, so that several Dolmen
+ * processes can share the same cache directory.
+ *
+ * @author Stéphane Lescuyer
+ */
+final class BuildCache {
+
+	/** The directory where cache entries are stored */
+	private final Path dir;
+
+	/**
+	 * Builds a cache whose entries are stored in the
+	 * directory {@code dir}, which is created if needed
+	 *
+	 * @param dir
+	 * @throws IOException if the cache directory cannot be created
+	 */
+	BuildCache(File dir) throws IOException {
+		this.dir = dir.toPath();
+		Files.createDirectories(this.dir);
+	}
+
+	/**
+	 * @param source		the source description
+	 * @param lexer			whether {@code source} is a lexer or a parser description
+	 * @param packageName	the package of the generated class
+	 * @param className		the name of the generated class
+	 * @return the key of the cache entry for the generation of
+	 * 	the class {@code className} from {@code source}
+	 * @throws IOException if {@code source} cannot be read
+	 */
+	static String key(File source, boolean lexer,
+			String packageName, String className) throws IOException {
+		final MessageDigest md;
+		try {
+			md = MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			// Every Java platform is required to support SHA-256
+			throw new IllegalStateException(e);
+		}
+		final String header = String.join("\0", "Dolmen", Constants.VERSION,
+			lexer ? "lexer" : "parser", source.getPath(), packageName, className, "");
+		md.update(header.getBytes(StandardCharsets.UTF_8));
+		md.update(Files.readAllBytes(source.toPath()));
+		final StringBuilder buf = new StringBuilder();
+		for (byte b : md.digest())
+			buf.append(String.format("%02x", b));
+		return buf.toString();
+	}
+
+	private Path generated(String key) {
+		return dir.resolve(key + ".java");
+	}
+
+	private Path reports(String key) {
+		return dir.resolve(key + ".reports");
+	}
+
+	/**
+	 * If there is an entry for {@code key} in the cache, stores the
+	 * generated class and problem reports of this entry in the files
+	 * {@code output} and {@code reportsFile} respectively. Files whose
+	 * contents are already the cached ones are left untouched, so that
+	 * their timestamps do not change.
+	 *
+	 * @param key
+	 * @param output
+	 * @param reportsFile
+	 * @return {@code true} if an entry for {@code key} was found
+	 * @throws IOException
+	 */
+	boolean restore(String key, File output, File reportsFile) throws IOException {
+		final Path cachedOutput = generated(key);
+		final Path cachedReports = reports(key);
+		if (!Files.isRegularFile(cachedOutput) || !Files.isRegularFile(cachedReports))
+			return false;
+		update(output.toPath(), Files.readAllBytes(cachedOutput));
+		update(reportsFile.toPath(), Files.readAllBytes(cachedReports));
+		return true;
+	}
+
+	private static void update(Path file, byte[] contents) throws IOException {
+		if (Files.isRegularFile(file)
+			&& Arrays.equals(Files.readAllBytes(file), contents))
+			return;
+		Files.write(file, contents);
+	}
+
+	/**
+	 * Stores the generated class in {@code output} and the problem
+	 * reports in {@code reportsFile} in the cache entry for {@code key}
+	 *
+	 * @param key
+	 * @param output
+	 * @param reportsFile
+	 * @throws IOException
+	 */
+	void store(String key, File output, File reportsFile) throws IOException {
+		// The generated class is stored last, since
+		// it is the one which marks the entry as complete
+		copy(reportsFile.toPath(), reports(key));
+		copy(output.toPath(), generated(key));
+	}
+
+	private void copy(Path src, Path dst) throws IOException {
+		final Path tmp = Files.createTempFile(dir, "entry", ".tmp");
+		try {
+			Files.copy(src, tmp, StandardCopyOption.REPLACE_EXISTING);
+			try {
+				Files.move(tmp, dst, StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(tmp, dst, StandardCopyOption.REPLACE_EXISTING);
+			}
+		} finally {
+			Files.deleteIfExists(tmp);
+		}
+	}
+}
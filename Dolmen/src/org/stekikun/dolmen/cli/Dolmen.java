@@ -1,5 +1,6 @@
 package org.stekikun.dolmen.cli;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.FileReader;
@@ -7,11 +8,25 @@ import java.io.FileWriter;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.PrintStream;
+import java.io.UncheckedIOException;
 import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
 
+import org.eclipse.jdt.annotation.Nullable;
 import org.stekikun.dolmen.automaton.Automata;
 import org.stekikun.dolmen.automaton.Determinize;
+import org.stekikun.dolmen.automaton.Minimize;
 import org.stekikun.dolmen.cli.Args.ArgsParsingException;
 import org.stekikun.dolmen.cli.Args.Item;
 import org.stekikun.dolmen.codegen.AutomataOutput;
@@ -83,10 +98,13 @@ public final class Dolmen {
 	 * @param output		where the lexical analyzer shall be written
 	 * @param reportsFile   where the problems will be reported
 	 * @param className		the class name of the generated lexical analyzer
+	 * @param out			where messages shall be displayed
+	 * @return whether the lexical analyzer was successfully generated
 	 */
-	private static void generateLexer(Args args,
-			File input, File output, File reportsFile, String className) {
-		PrintStream log = args.getFlag(Item.QUIET) ? nullStream : System.out;
+	private static boolean generateLexer(Args args,
+			File input, File output, File reportsFile, String className,
+			PrintStream out) {
+		PrintStream log = args.getFlag(Item.QUIET) ? nullStream : out;
 		final boolean colored = !args.getFlag(Item.NO_COLORS);
 		final Bookkeeper tasks = Bookkeeper.start(log, "Compiling lexer description " + input, colored);
 
@@ -104,10 +122,18 @@ public final class Dolmen {
 				tasks.problems(configReporter.getReports().size());
 				report(configReporter.getReports(), reports);
 				
-				Automata aut = Determinize.lexer(lexer, true);
+				Automata aut = Determinize.lexer(lexer, true, 
+						config.byteInput, config.keywordHashing);
 				tasks.done("Compiled lexer description to automata");
 				tasks.infos("(" + aut.automataCells.length + " states in " 
 						+ aut.automataEntries.size() + " automata)");
+				if (config.minimizeAutomata) {
+					final int before = aut.automataCells.length;
+					aut = Minimize.automata(aut);
+					tasks.done("Minimized automata");
+					tasks.infos("(" + before + " states reduced to " 
+						+ aut.automataCells.length + " states)");
+				}
 				
 				List<IReport> autReports = aut.findProblems(lexer);
 				tasks.problems(autReports.size());
@@ -121,21 +147,21 @@ public final class Dolmen {
 				} catch (IOException e) {
 					e.printStackTrace(log);
 					tasks.aborted("Could not output generated lexer");
-					return;
+					return false;
 				}			
-				return;
+				return true;
 			}
 			catch (LexicalError e) {
 				tasks.aborted("Lexical error in lexer description");
-				System.out.println(e.getMessage());
+				out.println(e.getMessage());
 			}
 			catch (ParsingException e) {
 				tasks.aborted("Syntax error in lexer description");
-				System.out.println(e.getMessage());
+				out.println(e.getMessage());
 			}
 			catch (Lexer.IllFormedException e) {
 				tasks.aborted("Lexer description is not well-formed");
-				System.out.println(e.getMessage());
+				out.println(e.getMessage());
 			}
 		}
 		catch (FileNotFoundException e) {
@@ -144,6 +170,7 @@ public final class Dolmen {
 		catch (IOException e) {
 			e.printStackTrace(log);
 		} 
+		return false;
 	}
 
 	/**
@@ -157,10 +184,13 @@ public final class Dolmen {
 	 * @param output		where the syntactic analyzer shall be written
 	 * @param reportsFile   where the problems will be reported
 	 * @param className		the class name of the generated syntactic analyzer
+	 * @param out			where messages shall be displayed
+	 * @return whether the syntactic analyzer was successfully generated
 	 */
-	private static void generateParser(Args args,
-			File input, File output, File reportsFile, String className) {
-		PrintStream log = args.getFlag(Item.QUIET) ? nullStream : System.out; 
+	private static boolean generateParser(Args args,
+			File input, File output, File reportsFile, String className,
+			PrintStream out) {
+		PrintStream log = args.getFlag(Item.QUIET) ? nullStream : out; 
 		final boolean colored = !args.getFlag(Item.NO_COLORS);
 		final Bookkeeper tasks = Bookkeeper.start(log, "Compiling grammar description " + input, colored);
 		
@@ -187,8 +217,8 @@ public final class Dolmen {
 				tasks.problems(pdepsReporter.getReports().size());
 				if (pdepsReporter.hasErrors()) {
 					tasks.aborted("Inconsistent use of parametric rules");
-					System.out.println(pdepsReporter);
-					return;
+					out.println(pdepsReporter);
+					return false;
 				}
 				report(pdepsReporter.getReports(), reports);
 	
@@ -209,8 +239,8 @@ public final class Dolmen {
 				List<IReport> conflicts = predictTable.findConflicts();
 				if (!conflicts.isEmpty()) {
 					tasks.aborted("Expanded grammar is not LL(1)");
-					conflicts.forEach(conf -> System.out.println(conf.display()));
-					return;
+					conflicts.forEach(conf -> out.println(conf.display()));
+					return false;
 				}
 				tasks.done("Expanded grammar is LL(1)");
 				
@@ -222,30 +252,30 @@ public final class Dolmen {
 				} catch (IOException e) {
 					e.printStackTrace(log);
 					tasks.aborted("Could not output generated parser");
-					return;
+					return false;
 				}
 				
-				return;
+				return true;
 			}
 			catch (LexicalError e) {
 				tasks.aborted("Lexical error in grammar description");
-				System.out.println(e.getMessage());
+				out.println(e.getMessage());
 			}
 			catch (ParsingException e) {
 				tasks.aborted("Syntax error in grammar description");
-				System.out.println(e.getMessage());
+				out.println(e.getMessage());
 			}
 			catch (PGrammar.IllFormedException e) {
 				tasks.aborted("Grammar description is not well-formed");
-				System.out.println(e.getMessage());
+				out.println(e.getMessage());
 			}
 			catch (Grammar.IllFormedException e) {
 				tasks.aborted("Grammar description is not well-formed");
-				System.out.println(e.getMessage());
+				out.println(e.getMessage());
 			}
 			catch (PGrammarNotExpandable e) {
 				tasks.aborted("Grammar is not expandable");
-				System.out.println(e.getReport().display());
+				out.println(e.getReport().display());
 			}
 		}
 		catch (FileNotFoundException e) {
@@ -254,6 +284,22 @@ public final class Dolmen {
 		catch (IOException e) {
 			e.printStackTrace(log);
 		}
+		return false;
+	}
+	
+	/**
+	 * @param args
+	 * @param file
+	 * @return the name of the class generated from the source {@code file}
+	 */
+	private static String className(Args args, File file) {
+		String className = args.getString(Item.CLASS);
+		if (className.isEmpty()) {
+			String fname = file.getName();
+			int ext = fname.lastIndexOf('.');
+			className = ext < 0 ? fname : fname.substring(0, ext);
+		}
+		return className;
 	}
 	
 	/**
@@ -264,19 +310,20 @@ public final class Dolmen {
 	 * 
 	 * @param args			the command-line arguments
 	 * @param filename		the input file name
+	 * @param out			where messages shall be displayed
 	 */
-	private static void handle(Args args, String filename) {
+	private static void handle(Args args, String filename, PrintStream out) {
 		File file = new File(filename);
 		if (!file.exists()) {
-			System.out.println("Cannot find file " + filename);
+			out.println("Cannot find file " + filename);
 			return;
 		}
 		if (!file.canRead()) {
-			System.out.println("Cannot read file " + filename + ", check permissions");
+			out.println("Cannot read file " + filename + ", check permissions");
 			return;
 		}
 		if (!file.isFile()) {
-			System.out.println("Specified file " + filename + " is not a regular file");
+			out.println("Specified file " + filename + " is not a regular file");
 			return;
 		}
 		
@@ -291,7 +338,7 @@ public final class Dolmen {
 				lexer = false;
 			}
 			else {
-				System.out.println("Cannot determine whether " + filename
+				out.println("Cannot determine whether " + filename
 						+ " is a lexer or parser description. Please specify --lexer or --grammar.");
 				return;
 			}
@@ -301,12 +348,7 @@ public final class Dolmen {
 			lexer = args.getFlag(Item.LEXER);
 		
 		// Compute the generated class name and filename
-		String className = args.getString(Item.CLASS);
-		if (className.isEmpty()) {
-			String fname = file.getName();
-			int ext = fname.lastIndexOf('.');
-			className = ext < 0 ? fname : fname.substring(0, ext);
-		}
+		String className = className(args, file);
 		String dir = args.getString(Item.OUTPUT);
 		if (!dir.endsWith("/")) dir += "/";
 		String genFilename = dir + className + ".java";
@@ -317,11 +359,11 @@ public final class Dolmen {
 			try {
 				genFile.createNewFile();
 			} catch (IOException e) {
-				System.out.println("Cannot create output file " + genFile);
+				out.println("Cannot create output file " + genFile);
 				return;
 			}
 		if (!genFile.canWrite()) {
-			System.out.println("Cannot write to output file " +  genFile);
+			out.println("Cannot write to output file " +  genFile);
 			return;
 		}
 		
@@ -333,24 +375,142 @@ public final class Dolmen {
 		else
 			reportsFile = new File(reportsName);
 
+		// Look the generated class up in the cache, if any
+		@Nullable BuildCache cache = null;
+		String key = "";
+		String cacheDir = args.getString(Item.CACHE);
+		if (!cacheDir.isEmpty()) {
+			try {
+				cache = new BuildCache(new File(cacheDir));
+				key = BuildCache.key(file, lexer, args.getString(Item.PACKAGE), className);
+				if (cache.restore(key, genFile, reportsFile)) {
+					PrintStream log = args.getFlag(Item.QUIET) ? nullStream : out;
+					final Bookkeeper tasks = Bookkeeper.start(log, 
+						(lexer ? "Compiling lexer description " : "Compiling grammar description ")
+						+ file, !args.getFlag(Item.NO_COLORS));
+					tasks.leaveWith("Found up-to-date " + genFile + " in cache");
+					return;
+				}
+			} catch (IOException e) {
+				out.println("Cannot use cache directory " + cacheDir + ": " + e.getMessage());
+				cache = null;
+			}
+		}
+		
 		// Call the lexer or parser generation, as adequate
+		boolean generated;
 		if (lexer)
-			generateLexer(args, file, genFile, reportsFile, className);
+			generated = generateLexer(args, file, genFile, reportsFile, className, out);
 		else
-			generateParser(args, file, genFile, reportsFile, className);
+			generated = generateParser(args, file, genFile, reportsFile, className, out);
+		
+		// Only successful generations are cached
+		if (generated && cache != null) {
+			try {
+				cache.store(key, genFile, reportsFile);
+			} catch (IOException e) {
+				out.println("Cannot store " + genFile + " in cache: " + e.getMessage());
+			}
+		}
+	}
+	
+	/**
+	 * Returns the source files designated by the extra command-line
+	 * arguments in {@code args}. Directories are searched recursively
+	 * for lexer and parser descriptions, i.e. files with the {@code .jl}
+	 * and {@code .jg} extensions, unless {@link Item#LEXER --lexer} or
+	 * {@link Item#PARSER --grammar} restrict the search to one kind of
+	 * descriptions. Other arguments are returned as is.
+	 *
+	 * @param args		the command-line arguments
+	 * @return the source files to handle, in a deterministic order
+	 * @throws ArgsParsingException if some directory cannot be searched
+	 */
+	private static List<String> sources(Args args) throws ArgsParsingException {
+		final boolean lexers = !args.getFlag(Item.PARSER);
+		final boolean parsers = !args.getFlag(Item.LEXER);
+		final List<String> sources = new ArrayList<>();
+		for (String extra : args.getExtras()) {
+			Path path = Paths.get(extra);
+			if (!Files.isDirectory(path)) {
+				sources.add(extra);
+				continue;
+			}
+			try (Stream<Path> files = Files.walk(path)) {
+				files.filter(Files::isRegularFile)
+					.map(Path::toString)
+					.filter(f -> (lexers && f.endsWith(".jl")) || (parsers && f.endsWith(".jg")))
+					.sorted()
+					.forEach(sources::add);
+			} catch (IOException | UncheckedIOException e) {
+				throw new ArgsParsingException("Cannot search directory " + extra + ": " + e.getMessage());
+			}
+		}
+		return sources;
+	}
+	
+	/**
+	 * Handles the command-line requests for all the given source files
+	 * concurrently, using {@link Item#JOBS} threads. The messages displayed
+	 * when handling each source file are buffered and displayed all at
+	 * once when the source file has been handled, in the order of
+	 * {@code sources}, so that messages for different files are
+	 * never interleaved.
+	 *
+	 * @param args		the command-line arguments
+	 * @param sources	the input file names
+	 */
+	private static void handleAll(Args args, List<String> sources) {
+		int jobs = args.getNumeric(Item.JOBS);
+		if (jobs == 0) jobs = Runtime.getRuntime().availableProcessors();
+		final ExecutorService executor =
+			Executors.newFixedThreadPool(Math.min(jobs, sources.size()));
+		try {
+			final List<Future<byte[]>> results = new ArrayList<>(sources.size());
+			for (String source : sources) {
+				results.add(executor.submit(() -> {
+					ByteArrayOutputStream buf = new ByteArrayOutputStream();
+					try (PrintStream out = new PrintStream(buf, true)) {
+						try {
+							handle(args, source, out);
+						} catch (RuntimeException e) {
+							// Do not lose the messages for this source
+							e.printStackTrace(out);
+						}
+					}
+					return buf.toByteArray();
+				}));
+			}
+			for (Future<byte[]> result : results) {
+				System.out.write(result.get());
+				System.out.flush();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (ExecutionException e) {
+			// Tasks report their own exceptions
+			throw new IllegalStateException(e);
+		} catch (IOException e) {
+			// Cannot happen with System.out
+			throw new IllegalStateException(e);
+		} finally {
+			executor.shutdownNow();
+		}
 	}
 	
 	/**
 	 * Dolmen's command-line entry point
 	 * <p>
-	 * Possible command-line arguments are described in {@link Item}. 
-	 * 
+	 * Possible command-line arguments are described in {@link Item}.
+	 * Several source files, or directories containing source files,
+	 * can be given, in which case they are handled concurrently.
+	 *
 	 * @param args_
 	 */
 	public static void main(String[] args_) {
 		// First of all, try and parse the arguments, abort if anything goes wrong
 		Args args;
-		String filename;
+		List<String> sources;
 		try {
 			args = Args.parse(args_);
 			
@@ -359,12 +519,28 @@ public final class Dolmen {
 				System.out.println(Args.getUsage());
 			}
 			
-			// Check that there is exactly one stray argument, which must be the source
+			// Check that there is at least one stray argument, and
+			// find the sources that they designate
 			if (args.getExtras().isEmpty())
 				throw new ArgsParsingException("No source file was specified");
-			if (args.getExtras().size() > 1)
-				throw new ArgsParsingException("Exactly one source file required");
-			filename = args.getExtras().get(0);
+			sources = sources(args);
+			if (sources.isEmpty())
+				throw new ArgsParsingException("No source file was found in " + args.getExtras());
+			if (sources.size() > 1) {
+				if (!args.getString(Item.CLASS).isEmpty()
+					|| !args.getString(Item.REPORTS).isEmpty())
+					throw new ArgsParsingException(
+						"Options --class and --reports require exactly one source file");
+				// Make sure no two sources are generated in the same file
+				Map<String, String> classes = new HashMap<>();
+				for (String source : sources) {
+					@Nullable String other =
+						classes.put(className(args, new File(source)), source);
+					if (other != null)
+						throw new ArgsParsingException("Sources " + other + " and " + source
+							+ " would generate the same class");
+				}
+			}
 		}
 		catch (ArgsParsingException e) {
 			System.out.println(e.getMessage());
@@ -373,6 +549,9 @@ public final class Dolmen {
 		}
 		
 		// Handle the command
-		handle(args, filename);
+		if (sources.size() == 1)
+			handle(args, sources.get(0), System.out);
+		else
+			handleAll(args, sources);
 	}
 }
\ No newline at end of file
@@ -2,9 +2,15 @@ package org.stekikun.dolmen.codegen;
 
 import java.io.IOException;
 import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.Stack;
 import java.util.TreeMap;
+import java.util.TreeSet;
 
 import org.eclipse.jdt.annotation.NonNull;
 import org.eclipse.jdt.annotation.Nullable;
@@ -21,6 +27,7 @@ import org.stekikun.dolmen.automaton.DFA.TransActions;
 import org.stekikun.dolmen.codegen.DecisionTree.Return;
 import org.stekikun.dolmen.codegen.DecisionTree.Split;
 import org.stekikun.dolmen.codegen.DecisionTree.Switch;
+import org.stekikun.dolmen.codegen.DecisionTree.Table;
 import org.stekikun.dolmen.common.CSet;
 import org.stekikun.dolmen.common.Constants;
 import org.stekikun.dolmen.common.CountingWriter;
@@ -66,11 +73,57 @@ public final class AutomataOutput {
 	 */
 	private final Map<Integer, Integer> shortCircuits;
 	
+	/**
+	 * The contents of the static index arrays used to implement
+	 * {@link DecisionTree.Table} transitions, in the order in which
+	 * they were generated. The array number {@code i} is emitted
+	 * with the name {@link #tableName(int) tableName(i)}.
+	 */
+	private final List<byte[]> tables;
+	
+	/**
+	 * The table-based encoding of the automata, when the lexer
+	 * is generated in the {@link Config.LexerStyle#TABLES} style,
+	 * and {@code null} otherwise
+	 */
+	private final @Nullable AutomataTables automataTables;
+	
+	/**
+	 * Whether cells are currently being generated as the cases
+	 * of a state-machine loop, in the {@link Config.LexerStyle#LOOP}
+	 * style, in which case the current position and buffer are
+	 * cached in local variables
+	 */
+	private boolean inLoop;
+	
+	/**
+	 * Whether the cell currently generated as a case of a state-machine
+	 * loop remembers some action, in which case its reflexive transitions
+	 * must go through the case of the cell again, since the cell may have
+	 * been entered past its remembered action when resuming a match
+	 */
+	private boolean loopRemembers;
+	
+	/**
+	 * The equivalence classes of characters used by the generated
+	 * lexer, if any. When not {@code null}, decision trees in cells
+	 * dispatch on class ids rather than on characters.
+	 */
+	private final @Nullable CharClasses charClasses;
+	
 	private AutomataOutput(Config config, Automata aut) {
 		this.config = config;
 		this.aut = aut;
 		this.buf = new CodeBuilder(0);
 		this.needsEmptyMemories = aut.needsEmptyMemories();
+		this.tables = new ArrayList<>();
+		this.automataTables =
+			config.lexerStyle == Config.LexerStyle.TABLES ?
+				AutomataTables.of(aut) : null;
+		final @Nullable AutomataTables automataTables = this.automataTables;
+		this.charClasses =
+			automataTables != null ? automataTables.classes :
+			config.charClasses ? CharClasses.of(aut) : null;
 		
 		// Initialize the shortCircuits map used to inline
 		// calls to action cells.
@@ -102,6 +155,10 @@ public final class AutomataOutput {
 //    }
 	
 	private void genConstructor(String name) {
+		if (config.byteInput) {
+			genByteConstructor(name);
+			return;
+		}
 		buf.newline();
 	    buf.emitln("/**");
 	    buf.emitln(" * Returns a fresh lexer based on the given character stream");
@@ -110,6 +167,84 @@ public final class AutomataOutput {
 	    buf.emitln(" */");
 		buf.emit("public ").emit(name).emit("(String inputname, java.io.Reader reader)").openBlock();
 	    buf.emit("super(\"").emit(Constants.VERSION).emit("\", inputname, reader);");
+	    genBufferLimits();
+	    buf.closeBlock();
+	    
+		buf.newline();
+	    buf.emitln("/**");
+	    buf.emitln(" * Returns a fresh lexer based on the given range of characters,");
+	    buf.emitln(" * which is used in place and must not be modified while lexing");
+	    buf.emitln(" * @param inputname");
+	    buf.emitln(" * @param chars");
+	    buf.emitln(" * @param offset");
+	    buf.emitln(" * @param length");
+	    buf.emitln(" */");
+		buf.emit("public ").emit(name)
+			.emit("(String inputname, char[] chars, int offset, int length)").openBlock();
+	    buf.emit("super(\"").emit(Constants.VERSION)
+	    	.emit("\", inputname, chars, offset, length);");
+	    genBufferLimits();
+	    buf.closeBlock();
+	    
+		buf.newline();
+	    buf.emitln("/**");
+	    buf.emitln(" * Returns a fresh lexer based on the given in-memory characters");
+	    buf.emitln(" * @param inputname");
+	    buf.emitln(" * @param input");
+	    buf.emitln(" */");
+		buf.emit("public ").emit(name).emit("(String inputname, CharSequence input)").openBlock();
+	    buf.emit("super(\"").emit(Constants.VERSION).emit("\", inputname, input);");
+	    genBufferLimits();
+	    buf.closeBlock();
+	}
+	
+	/**
+	 * Emits the configuration of buffer limits in constructors,
+	 * when they are not the default ones
+	 */
+	private void genBufferLimits() {
+		if (config.bufferSize == LexBuffer.DEFAULT_BUFFER_SIZE
+			&& config.maxTokenLength == Integer.MAX_VALUE) return;
+		buf.newline().emit("setBufferLimits(").emit("" + config.bufferSize)
+			.emit(", ").emit("" + config.maxTokenLength).emit(");");
+	}
+	
+	private void genByteConstructor(String name) {
+		buf.newline();
+	    buf.emitln("/**");
+	    buf.emitln(" * Returns a fresh lexer based on the given UTF-8 byte stream");
+	    buf.emitln(" * @param inputname");
+	    buf.emitln(" * @param input");
+	    buf.emitln(" */");
+		buf.emit("public ").emit(name).emit("(String inputname, java.io.InputStream input)").openBlock();
+	    buf.emit("super(\"").emit(Constants.VERSION).emit("\", inputname, input);");
+	    genBufferLimits();
+	    buf.closeBlock();
+	    
+		buf.newline();
+	    buf.emitln("/**");
+	    buf.emitln(" * Returns a fresh lexer based on the given range of UTF-8 bytes");
+	    buf.emitln(" * @param inputname");
+	    buf.emitln(" * @param bytes");
+	    buf.emitln(" * @param offset");
+	    buf.emitln(" * @param length");
+	    buf.emitln(" */");
+		buf.emit("public ").emit(name)
+			.emit("(String inputname, byte[] bytes, int offset, int length)").openBlock();
+	    buf.emit("super(\"").emit(Constants.VERSION)
+	    	.emit("\", inputname, bytes, offset, length);");
+	    genBufferLimits();
+	    buf.closeBlock();
+	    
+		buf.newline();
+	    buf.emitln("/**");
+	    buf.emitln(" * Returns a fresh lexer based on the remaining UTF-8 bytes in {@code input}");
+	    buf.emitln(" * @param inputname");
+	    buf.emitln(" * @param input");
+	    buf.emitln(" */");
+		buf.emit("public ").emit(name).emit("(String inputname, java.nio.ByteBuffer input)").openBlock();
+	    buf.emit("super(\"").emit(Constants.VERSION).emit("\", inputname, input);");
+	    genBufferLimits();
 	    buf.closeBlock();
 	}
 		
@@ -131,6 +266,18 @@ public final class AutomataOutput {
 		return "_jl_mem_" + entryName;
 	}
 	
+	private static String loopName(String entryName) {
+		return "_jl_loop_" + entryName;
+	}
+	
+	private static String tableName(int idx) {
+		return "_jl_table" + idx;
+	}
+	
+	private static String keywordsName(String entryName, int action) {
+		return "_jl_kw_" + entryName + "_" + action;
+	}
+	
 	private String cellCall(int idx) {
 		@Nullable Integer ret = shortCircuits.get(idx);
 		if (ret == null)
@@ -147,6 +294,7 @@ public final class AutomataOutput {
 	
 	private void genRemember(Remember remember) {
 		if (remember == Remember.NOTHING) return;
+		if (inLoop) buf.emitln("curPos = _jl_pos;");
 		buf.emitln("mark(" + remember.action + ");");
 		genTagActions(remember.tagActions);
 	}
@@ -168,8 +316,32 @@ public final class AutomataOutput {
 		}
 	}
 	
+	/**
+	 * @return the variable holding the value on which
+	 * 	transitions dispatch in the generated code
+	 */
+	private String selector() {
+		return charClasses == null ? "_jl_char" : "_jl_class";
+	}
+	
+	/**
+	 * @param cset	a set of characters, or of class ids if
+	 * 	{@link #charClasses} are used
+	 * @return a description of the characters in {@code cset}
+	 */
+	private String describe(CSet cset) {
+		final @Nullable CharClasses charClasses = this.charClasses;
+		if (charClasses == null) return cset.toString();
+		final CSet[] chars = new CSet[] { CSet.EMPTY };
+		cset.forEach(k -> {
+			if (k < charClasses.size())
+				chars[0] = CSet.union(chars[0], charClasses.classes.get(k));
+		});
+		return chars[0].toString();
+	}
+	
 	private void genPattern(CSet cset) {
-		buf.emit("// ").emit(cset.toString());
+		buf.emit("// ").emit(describe(cset));
 		cset.forEach(c -> {
 			buf.newline().emit("case " + (int)c + ":");
 		});
@@ -182,7 +354,7 @@ public final class AutomataOutput {
 			if (src < 0) {
 				// Set(dst)
 				genMemAccess(dst);
-				buf.emitln(" = curPos;");
+				buf.emitln(inLoop ? " = _jl_pos;" : " = curPos;");
 			}
 			else {
 				// Copy(dst <- src)
@@ -204,8 +376,19 @@ public final class AutomataOutput {
 		}
 		else {
 			// Optimize away reflexive transitions
-			if (source == gotoAction.target)
+			if (source == gotoAction.target && !loopRemembers)
 				buf.emit("continue;");
+			else if (inLoop) {
+				// Jump to the target state, or return directly
+				// if it can be inlined
+				@Nullable Integer ret = shortCircuits.get(gotoAction.target);
+				if (ret == null)
+					buf.emitln("_jl_state = " + gotoAction.target + ";")
+						.emit("continue;");
+				else
+					buf.emitln("curPos = _jl_pos;")
+						.emit("return " + ret + ";");
+			}
 			else
 				buf.emit("return ").emit(cellCall(gotoAction.target))
 									.emit(';');
@@ -230,7 +413,7 @@ public final class AutomataOutput {
 		// Generates a large switch where each charset is
 		// written as some or-pattern, and the most frequent
 		// one uses "default"
-		buf.emit("switch (_jl_char) {").newline();
+		buf.emit("switch (" + selector() + ") {").newline();
 		CSet defCSet = mostFrequent(table);
 		// defCSet belongs to table.keySet()
 		TransActions defTrans = Nulls.ok(table.get(defCSet)); 		
@@ -249,7 +432,69 @@ public final class AutomataOutput {
 		buf.emit("}");
 	}
 	
-	private void genDecisionTree(int source, DecisionTree tree) {
+	private void genTable(int source, Table table, char min, char max) {
+		// Index the different shifting actions in the table, the
+		// most frequent one will use the "default" clause
+		final Map<TransActions, Integer> indices = new IdentityHashMap<>();
+		final List<TransActions> actions = new ArrayList<>();
+		final List<CSet> csets = new ArrayList<>();
+		final byte[] contents = new byte[table.table.length];
+		for (int i = 0; i < table.table.length; ++i) {
+			final TransActions trans = table.table[i];
+			@Nullable Integer idx = indices.get(trans);
+			if (idx == null) {
+				idx = actions.size();
+				if (idx > Byte.MAX_VALUE)
+					throw new IllegalStateException("Too many actions in DecisionTree.Table");
+				indices.put(trans, idx);
+				actions.add(trans);
+				csets.add(CSet.EMPTY);
+			}
+			final char c = (char) (table.base + i);
+			csets.set(idx, CSet.union(csets.get(idx), CSet.singleton(c)));
+			contents[i] = (byte) (int) idx;
+		}
+		int defIdx = 0;
+		for (int k = 1; k < csets.size(); ++k)
+			if (csets.get(k).cardinal() > csets.get(defIdx).cardinal())
+				defIdx = k;
+		
+		// Register the static array for this table, unless an identical
+		// one can be shared. Characters outside the table's domain should
+		// have been dispatched elsewhere by enclosing splits, but we check
+		// it nonetheless when they have not.
+		int tableIdx = 0;
+		while (tableIdx < tables.size()
+				&& !Arrays.equals(tables.get(tableIdx), contents))
+			++tableIdx;
+		if (tableIdx == tables.size())
+			tables.add(contents);
+		final int last = table.base + table.table.length - 1;
+		final boolean guarded = min < table.base || max > last;
+		if (guarded) {
+			buf.emit("if (" + selector() + " < " + (int) table.base
+				+ " || " + selector() + " > " + last + ")").openBlock();
+			buf.emit("throw new IllegalStateException(\"Should not happen\");");
+			buf.closeBlock();
+		}
+		buf.emit("switch (").emit(tableName(tableIdx)).emit("[" + selector());
+		if (table.base != 0) buf.emit(" - " + (int) table.base);
+		buf.emit("]) {").newline();
+		for (int k = 0; k < actions.size(); ++k) {
+			if (k == defIdx) continue;
+			buf.emit("// ").emit(describe(csets.get(k)));
+			buf.newline().emit("case " + k + ":");
+			buf.openBlock();
+			genTransActions(source, actions.get(k));
+			buf.closeBlock();
+		}
+		buf.emit("default: ").openBlock();
+		genTransActions(source, actions.get(defIdx));
+		buf.closeBlock();
+		buf.emit("}");
+	}
+	
+	private void genDecisionTree(int source, DecisionTree tree, char min, char max) {
 		switch (tree.getKind()) {
 		case IMPOSSIBLE:
 			buf.emitln("throw new IllegalStateException(\"Should not happen\");");
@@ -260,10 +505,10 @@ public final class AutomataOutput {
 			return;
 		case SPLIT:
 			Split split = (Split) tree;
-			buf.emit("if (_jl_char <= ").emit("" + (int)split.pivot).emit(")").openBlock();
-			genDecisionTree(source, split.left);
+			buf.emit("if (" + selector() + " <= ").emit("" + (int)split.pivot).emit(")").openBlock();
+			genDecisionTree(source, split.left, min, split.pivot);
 			buf.closeBlock0().emit(" else ").openBlock();
-			genDecisionTree(source, split.right);
+			genDecisionTree(source, split.right, (char)(split.pivot + 1), max);
 			buf.closeBlock0();
 			return;
 		case SWITCH:
@@ -271,20 +516,141 @@ public final class AutomataOutput {
 			genSwitchTable(source, switch_.table);
 			return;
 		case TABLE:
-			throw new IllegalStateException("DecisionTree.Table is not supported yet");
+			Table table = (Table) tree;
+			genTable(source, table, min, max);
+			return;
 		}
 		throw new IllegalStateException("Unexpected tree kind: " + tree.getKind());
 	}
+	
+	private void genStaticTables() {
+		if (tables.isEmpty()) return;
+		buf.newline();
+		for (int i = 0; i < tables.size(); ++i) {
+			final byte[] contents = tables.get(i);
+			buf.emit("private static final byte[] ").emit(tableName(i))
+				.emit(" = {").incrIndent().newline();
+			for (int j = 0; j < contents.length; ++j) {
+				if (j > 0) {
+					buf.emit(",");
+					if (j % 16 == 0) buf.newline();
+					else buf.emit(" ");
+				}
+				buf.emit("" + contents[j]);
+			}
+			buf.decrIndent().newline().emitln("};");
+		}
+	}
 
+	/**
+	 * @param charClasses
+	 * @param table
+	 * @return the transition table {@code table} where every
+	 * 	character set is replaced by the set of ids of the classes
+	 * 	it contains, seen as characters. The remaining characters
+	 * 	beyond the last class id are added to the most frequent
+	 * 	transition, so that the resulting table stays exhaustive.
+	 */
+	private static TreeMap<@NonNull CSet, @NonNull TransActions> onClasses(
+		CharClasses charClasses, TreeMap<@NonNull CSet, @NonNull TransActions> table) {
+		final List<@NonNull CSet> ids = new ArrayList<>();
+		final List<@NonNull TransActions> actions = new ArrayList<>();
+		for (Map.Entry<@NonNull CSet, @NonNull TransActions> e : table.entrySet()) {
+			final CSet[] cids = new CSet[] { CSet.EMPTY };
+			e.getKey().forEachInterval((first, last) -> {
+				int c = first;
+				while (c <= last) {
+					final char k = (char) charClasses.classOf((char) c);
+					cids[0] = CSet.union(cids[0], CSet.singleton(k));
+					c = charClasses.lastInInterval((char) c) + 1;
+				}
+			});
+			ids.add(cids[0]);
+			actions.add(e.getValue());
+		}
+		int best = 0;
+		for (int i = 1; i < ids.size(); ++i)
+			if (ids.get(i).cardinal() > ids.get(best).cardinal()) best = i;
+		ids.set(best, CSet.union(ids.get(best),
+			CSet.interval((char) charClasses.size(), (char) 0xFFFF)));
+		final TreeMap<@NonNull CSet, @NonNull TransActions> res = new TreeMap<>();
+		for (int i = 0; i < ids.size(); ++i)
+			res.put(ids.get(i), actions.get(i));
+		return res;
+	}
+	
+	/**
+	 * @param var
+	 * @return an expression for the class id of the character
+	 * 	held in the variable {@code var}
+	 */
+	private static String classOf(String var) {
+		return "_jl_cmap[" + var + " < " + CharClasses.BLOCK_SIZE + " ? " + var
+			+ " : _jl_cmapHi[" + var + " >> 8] + (" + var + " & 0xFF)]";
+	}
+	
+	private void genCharClasses(CharClasses charClasses) {
+		buf.newline();
+		buf.emitln("// Character classes (" + charClasses.size() + ")");
+		genPackedArray("_jl_cmapHi", charClasses.blockOffsets);
+		genPackedArray("_jl_cmap", charClasses.blocks);
+	}
+	
+	/** The non-ASCII characters, except for end-of-input */
+	private static final CSet NON_ASCII = CSet.interval((char) 128, (char) 0xFFFE);
+	
+	/**
+	 * @param table
+	 * @return whether the non-ASCII characters in {@code table} all
+	 * 	share the same transition, except for end-of-input, and the
+	 * 	table is compiled into a single switch without the ASCII fast
+	 * 	path: there is no point in splitting such a switch in a table
+	 * 	for ASCII characters and another switch for the rest
+	 */
+	private static boolean hasSingleDefault(
+			TreeMap<@NonNull CSet, @NonNull TransActions> table) {
+		boolean found = false;
+		for (CSet cset : table.keySet())
+			found |= CSet.diff(NON_ASCII, cset).isEmpty();
+		if (!found) return false;
+		final DecisionTree tree = DecisionTree.compile(table);
+		return tree instanceof Switch || tree instanceof Return;
+	}
+	
 	private void genTransTable(int source,
 			TreeMap<@NonNull CSet, @NonNull TransActions> table) {
-		// Compile the transition table into a hopefully efficient decision tree
-		DecisionTree tree = DecisionTree.compile(table);
+		// Compile the transition table into a hopefully efficient decision tree,
+		// on equivalence classes of characters if they are used, or with
+		// a table-based fast path for ASCII characters if required and
+		// the table does not boil down to a single switch anyway
+		final @Nullable CharClasses charClasses = this.charClasses;
+		final DecisionTree tree;
+		if (charClasses != null)
+			tree = DecisionTree.compile(onClasses(charClasses, table));
+		else if (config.asciiFastPath && !hasSingleDefault(table))
+			tree = DecisionTree.compileWithFastPath(table, (char) 128);
+		else
+			tree = DecisionTree.compile(table);
 		// Output code that implements the tree. If it's not a simple switch
 		// it will need to access the next character more than once so we read
 		// it once first in _jl_char
-		buf.emitln("final char _jl_char = getNextChar();");
-		genDecisionTree(source, tree);
+		if (inLoop) {
+			// Read directly from the cached buffer when possible
+			buf.emitln("final char _jl_char;");
+			buf.emitln("if (_jl_pos < _jl_limit) _jl_char = _jl_buf[_jl_pos++];");
+			buf.emit("else").openBlock();
+			buf.emitln("curPos = _jl_pos;");
+			buf.emitln("_jl_char = getNextChar(" + source + ");");
+			buf.emitln("_jl_pos = curPos;");
+			buf.emitln("_jl_buf = tokenBuf;");
+			buf.emit("_jl_limit = bufLimit;");
+			buf.closeBlock();
+		}
+		else
+			buf.emitln("final char _jl_char = getNextChar();");
+		if (charClasses != null)
+			buf.emit("final int _jl_class = ").emit(classOf("_jl_char")).emitln(";");
+		genDecisionTree(source, tree, (char) 0, (char) 0xFFFF);
 	}
 	
 	private void genCell(int cellIdx, DFA.Cell cell) {
@@ -314,6 +680,243 @@ public final class AutomataOutput {
 		buf.closeBlock();
 	}
 	
+	/**
+	 * Generates the code entering the cell {@code _jl_cell} in the
+	 * interpreter of table-driven automata, i.e. which returns its
+	 * action if it is final, and performs its mark and memory
+	 * actions otherwise
+	 * 
+	 * @param hasOps	whether there are memory actions at all
+	 */
+	private void genInterpreterCell(boolean hasOps) {
+		buf.emitln("final int _jl_action = _jl_actions[_jl_cell];");
+		buf.emit("if (_jl_action >= 0)").openBlock();
+		if (hasOps) buf.emitln("_jl_exec(_jl_cellOps[_jl_cell]);");
+		buf.emit("return _jl_action;").closeBlock();
+		buf.emitln("final int _jl_mark = _jl_marks[_jl_cell];");
+		buf.emit("if (_jl_mark >= 0)").openBlock();
+		buf.emit("mark(_jl_mark);");
+		if (hasOps) buf.newline().emit("_jl_exec(_jl_cellOps[_jl_cell]);");
+		buf.closeBlock0();
+	}
+	
+	private void genInterpreter(AutomataTables automataTables) {
+		final boolean hasOps = automataTables.hasOps();
+		buf.newline()
+			.emit("private int _jl_interpret(int _jl_cell)").openBlock();
+		// A negative cell stands for a match which is resumed from the
+		// transitions of ~_jl_cell, which has already been entered
+		buf.emit("if (_jl_cell >= 0)").openBlock();
+		genInterpreterCell(hasOps);
+		buf.closeBlock0();
+		buf.emitln(" else _jl_cell = ~_jl_cell;");
+		buf.emit("while (true)").openBlock();
+		buf.emitln("final char _jl_char = getNextChar(_jl_cell);");
+		buf.emitln("final int _jl_slot = _jl_base[_jl_cell] + " + classOf("_jl_char") + ";");
+		buf.emitln("final int _jl_trans = _jl_check[_jl_slot] == _jl_cell ? "
+			+ "_jl_next[_jl_slot] : _jl_deflt[_jl_cell];");
+		if (hasOps) buf.emitln("_jl_exec(_jl_transOps[_jl_trans]);");
+		buf.emitln("_jl_cell = _jl_transTargets[_jl_trans];");
+		buf.emitln("if (_jl_cell < 0) return rewind();");
+		genInterpreterCell(hasOps);
+		buf.closeBlock0();
+		buf.closeBlock();
+		if (!hasOps) return;
+		
+		// Memory and tag actions are only interpreted when needed
+		buf.newline()
+			.emit("private void _jl_exec(int _jl_pc)").openBlock();
+		buf.emit("while (true)").openBlock();
+		buf.emitln("switch (_jl_ops[_jl_pc]) {");
+		buf.emitln("case " + AutomataTables.OP_END + ":").incrIndent();
+		buf.emit("return;").decrIndent().newline();
+		buf.emitln("case " + AutomataTables.OP_SET + ":").incrIndent();
+		buf.emitln("memory[_jl_ops[_jl_pc + 1]] = curPos;");
+		buf.emit("_jl_pc += 2; break;").decrIndent().newline();
+		buf.emitln("case " + AutomataTables.OP_COPY + ":").incrIndent();
+		buf.emitln("memory[_jl_ops[_jl_pc + 1]] = memory[_jl_ops[_jl_pc + 2]];");
+		buf.emit("_jl_pc += 3; break;").decrIndent().newline();
+		buf.emitln("default:").incrIndent();
+		buf.emitln("memory[_jl_ops[_jl_pc + 1]] = -1;");
+		buf.emit("_jl_pc += 2; break;").decrIndent().newline();
+		buf.emit("}");
+		buf.closeBlock0();
+		buf.closeBlock();
+	}
+	
+	private static void genStringChar(StringBuilder sb, char c) {
+		if (c >= 0x20 && c < 0x7F && c != '"' && c != '\\')
+			sb.append(c);
+		else if (c < 0x100)
+			// 3-digit octal escapes never absorb following characters
+			sb.append(String.format("\\%03o", (int) c));
+		else
+			sb.append(String.format("\\u%04x", (int) c));
+	}
+	
+	private void genPackedArray(String name, int[] data) {
+		final List<String> chunks = AutomataTables.pack(data);
+		buf.emit("private static final int[] ").emit(name)
+			.emit(" = unpack(" + data.length + ",").incrIndent();
+		for (int i = 0; i < chunks.size(); ++i) {
+			final String chunk = chunks.get(i);
+			buf.newline();
+			StringBuilder line = new StringBuilder("\"");
+			for (int j = 0; j < chunk.length(); ++j) {
+				genStringChar(line, chunk.charAt(j));
+				if (line.length() >= 72 && j + 1 < chunk.length()) {
+					buf.emit(line.append("\" +").toString()).newline();
+					line = new StringBuilder("\"");
+				}
+			}
+			line.append('"');
+			if (i + 1 < chunks.size()) line.append(',');
+			buf.emit(line.toString());
+		}
+		buf.emit(");").decrIndent().newline();
+	}
+	
+	private void genArrayElements(List<String> elements) {
+		StringBuilder line = new StringBuilder();
+		for (int i = 0; i < elements.size(); ++i) {
+			if (line.length() > 0 && line.length() + elements.get(i).length() >= 72) {
+				buf.emit(line.toString()).newline();
+				line = new StringBuilder();
+			}
+			line.append(elements.get(i));
+			if (i + 1 < elements.size())
+				line.append(line.length() >= 72 ? "," : ", ");
+		}
+		buf.emit(line.toString());
+	}
+	
+	private void genKeywordTable(String name, KeywordTable table) {
+		final List<String> keywords = new ArrayList<>(table.keywords.length);
+		for (String kw : table.keywords) {
+			StringBuilder sb = new StringBuilder("\"");
+			for (int i = 0; i < kw.length(); ++i)
+				genStringChar(sb, kw.charAt(i));
+			keywords.add(sb.append('"').toString());
+		}
+		buf.emit("private static final String[] ").emit(name)
+			.emit(" = {").incrIndent().newline();
+		genArrayElements(keywords);
+		buf.decrIndent().newline().emitln("};");
+		final List<String> actions = new ArrayList<>(table.actions.length);
+		for (int a : table.actions) actions.add("" + a);
+		buf.emit("private static final int[] ").emit(name).emit("_actions")
+			.emit(" = {").incrIndent().newline();
+		genArrayElements(actions);
+		buf.decrIndent().newline().emitln("};");
+		final List<String> seeds = new ArrayList<>(table.seeds.length);
+		for (int seed : table.seeds) seeds.add("" + seed);
+		buf.emit("private static final int[] ").emit(name).emit("_seeds")
+			.emit(" = {").incrIndent().newline();
+		genArrayElements(seeds);
+		buf.decrIndent().newline().emitln("};");
+	}
+	
+	private void genAutomataTables(AutomataTables automataTables) {
+		genCharClasses(automataTables.classes);
+		buf.emitln("// Cells (" + aut.automataCells.length + ")");
+		genPackedArray("_jl_actions", automataTables.actions);
+		genPackedArray("_jl_marks", automataTables.marks);
+		if (automataTables.hasOps())
+			genPackedArray("_jl_cellOps", automataTables.cellOps);
+		buf.emitln("// Compressed transition rows");
+		genPackedArray("_jl_base", automataTables.base);
+		genPackedArray("_jl_deflt", automataTables.deflt);
+		genPackedArray("_jl_check", automataTables.check);
+		genPackedArray("_jl_next", automataTables.next);
+		buf.emitln("// Transitions (" + automataTables.transTargets.length + ")");
+		genPackedArray("_jl_transTargets", automataTables.transTargets);
+		if (automataTables.hasOps()) {
+			genPackedArray("_jl_transOps", automataTables.transOps);
+			buf.emitln("// Memory and tag actions");
+			genPackedArray("_jl_ops", automataTables.ops);
+		}
+	}
+	
+	/**
+	 * @param initialState
+	 * @return the cells which are reachable from {@code initialState},
+	 * 	in increasing order
+	 */
+	private Set<Integer> reachableCells(int initialState) {
+		final Set<Integer> reachable = new TreeSet<>();
+		final Stack<Integer> todo = new Stack<>();
+		todo.push(initialState);
+		while (!todo.isEmpty()) {
+			final int idx = todo.pop();
+			if (!reachable.add(idx)) continue;
+			final DFA.Cell cell = aut.automataCells[idx];
+			if (cell.getKind() != Cell.Kind.SHIFT) continue;
+			for (TransActions trans : ((Shift) cell).transTable.values()) {
+				if (trans.gotoAction != GotoAction.BACKTRACK)
+					todo.push(trans.gotoAction.target);
+			}
+		}
+		return reachable;
+	}
+	
+	private void genLoopCase(int cellIdx, DFA.Cell cell) {
+		switch (cell.getKind()) {
+		case PERFORM: {
+			buf.emit("case " + cellIdx + ":").openBlock();
+			final Perform perform = (Perform) cell;
+			genTagActions(perform.tagActions);
+			buf.emitln("curPos = _jl_pos;");
+			buf.emit("return " + perform.action + ";");
+			break;
+		}
+		case SHIFT: {
+			final Shift shift = (Shift) cell;
+			// Matches resumed in this cell start with its transitions,
+			// in the case for the bitwise complement of the cell
+			loopRemembers = shift.remember != Remember.NOTHING;
+			if (loopRemembers) {
+				buf.emit("case " + cellIdx + ":").incrIndent().newline();
+				genRemember(shift.remember);
+				buf.emit("//$FALL-THROUGH$").decrIndent().newline();
+			}
+			else
+				buf.emitln("case " + cellIdx + ":");
+			buf.emit("case " + (~cellIdx) + ":").openBlock();
+			genTransTable(cellIdx, shift.transTable);
+			loopRemembers = false;
+		}
+		}
+		buf.closeBlock();
+	}
+	
+	private void genLoop(Automata.Entry entry) {
+		// Remembering cells fall through to their transitions,
+		// which javac only accepts silently with the annotation
+		buf.newline()
+			.emitln("@SuppressWarnings(\"fallthrough\")")
+			.emit("private int ").emit(loopName(entry.name))
+			.emit("(int _jl_state)").openBlock();
+		buf.emitln("char[] _jl_buf = tokenBuf;");
+		buf.emitln("int _jl_pos = curPos;");
+		buf.emitln("int _jl_limit = bufLimit;");
+		buf.emit("while (true)").openBlock();
+		buf.emitln("switch (_jl_state) {");
+		inLoop = true;
+		for (int idx : reachableCells(entry.initialState)) {
+			// Inlined cells need no case, unless initial
+			if (idx != entry.initialState && shortCircuits.containsKey(idx))
+				continue;
+			genLoopCase(idx, aut.automataCells[idx]);
+		}
+		inLoop = false;
+		buf.emit("default:").incrIndent().newline();
+		buf.emit("throw new IllegalStateException(\"Should not happen\");");
+		buf.decrIndent().newline();
+		buf.emit("}");
+		buf.closeBlock0();
+		buf.closeBlock();
+	}
+	
 	private void genEntryArgs(@Nullable Extent args) {
 		if (args == null) return;
 		buf.emitTracked(args);
@@ -400,6 +1003,12 @@ public final class AutomataOutput {
 			.emit(entry.name).emit("(");
 		genEntryArgs(entry.args);
 		buf.emit(")").openBlock();
+		// In the loop and table-driven styles, interrupted matches
+		// can be resumed when the input is fed incrementally
+		final boolean resumable = 
+			automataTables != null || config.lexerStyle == Config.LexerStyle.LOOP;
+		if (resumable)
+			buf.emitln("final boolean _jl_top = enterEntry();");
 		// Add infinite loop around the entry's code for
 		// action which want to efficiently reenter
 		buf.emitln(entry.name + ":");
@@ -420,10 +1029,28 @@ public final class AutomataOutput {
 			genMemActions(entry.initializer);
 		}
 		// Launch the recognition...
-		buf.emit("int result = ").emit(cellCall(entry.initialState))
-								.emitln(";");
+		if (automataTables != null)
+			buf.emit("int result = _jl_interpret(startMatch(")
+				.emit("" + entry.initialState).emitln(", _jl_top));");
+		else if (config.lexerStyle == Config.LexerStyle.LOOP)
+			buf.emit("int result = ").emit(loopName(entry.name))
+				.emit("(startMatch(").emit("" + entry.initialState).emitln(", _jl_top));");
+		else
+			buf.emit("int result = ").emit(cellCall(entry.initialState))
+									.emitln(";");
 		// ...update positions on return...
 		buf.emitln("endToken();");
+		// ...look lexemes matched by identifiers up in keyword tables...
+		final Map<Integer, KeywordTable> keywordTables = new TreeMap<>();
+		entry.keywords.tables.forEach((ident, keywords) ->
+			keywordTables.put(ident, KeywordTable.build(keywords, config.byteInput)));
+		keywordTables.keySet().forEach(ident -> {
+			final String name = keywordsName(entry.name, ident);
+			buf.emit("if (result == " + ident + ") ")
+				.emit("result = keyword(").emit(name).emit(", ")
+				.emit(name).emit("_actions, ").emit(name).emit("_seeds, ")
+				.emit("" + ident).emitln(");");
+		});
 		// ...and switch on the returned action
 		// (if Backtrack is encountered before a final state,
 		//  lastAction will be -1)
@@ -442,6 +1069,9 @@ public final class AutomataOutput {
 				.emit(memoryName(entry.name))
 				.emit(" = new int[").emit("" + entry.memSize).emitln("];");
 		}
+		// Add the keyword tables used by this entry
+		keywordTables.forEach((ident, table) ->
+			genKeywordTable(keywordsName(entry.name, ident), table));
 	}
 	
 	private void genAnnotations(String annotations) {
@@ -467,7 +1097,8 @@ public final class AutomataOutput {
 		   .emitln(" */");
 		genAnnotations(config.classAnnotations);
 		buf.emit("public final class ").emit(name);
-		buf.emit(" extends org.stekikun.dolmen.codegen.LexBuffer").openBlock();
+		buf.emit(" extends org.stekikun.dolmen.codegen.")
+			.emit(config.byteInput ? "ByteLexBuffer" : "LexBuffer").openBlock();
 		// genLexicalError();
 		
 		genHeader();
@@ -485,11 +1116,29 @@ public final class AutomataOutput {
 		for (Automata.@NonNull Entry entry : aut.automataEntries)
 			genEntry(entry);
 		
-		// Generate code for every non-inlined cell in the automata
-		for (int i = 0; i < aut.automataCells.length; ++i) {
-			if (!shortCircuits.containsKey(i))
-				genCell(i, aut.automataCells[i]);
+		final @Nullable AutomataTables automataTables = this.automataTables;
+		if (automataTables != null) {
+			// Generate the interpreter and the tables describing the automata
+			genInterpreter(automataTables);
+			genAutomataTables(automataTables);
+		}
+		else if (config.lexerStyle == Config.LexerStyle.LOOP) {
+			// Generate a state-machine loop for every entry
+			for (Automata.@NonNull Entry entry : aut.automataEntries)
+				genLoop(entry);
+			genStaticTables();
+		}
+		else {
+			// Generate code for every non-inlined cell in the automata
+			for (int i = 0; i < aut.automataCells.length; ++i) {
+				if (!shortCircuits.containsKey(i))
+					genCell(i, aut.automataCells[i]);
+			}
+			// Generate the static arrays used by tabulated transitions
+			genStaticTables();
 		}
+		if (charClasses != null && automataTables == null)
+			genCharClasses(charClasses);
 		
 		genFooter();
 		buf.closeBlock();
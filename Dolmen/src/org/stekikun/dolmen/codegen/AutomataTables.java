@@ -0,0 +1,338 @@
+package org.stekikun.dolmen.codegen;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.stekikun.dolmen.automaton.Automata;
+import org.stekikun.dolmen.automaton.DFA;
+import org.stekikun.dolmen.automaton.DFA.GotoAction;
+import org.stekikun.dolmen.automaton.DFA.MemAction;
+import org.stekikun.dolmen.automaton.DFA.Remember;
+import org.stekikun.dolmen.automaton.DFA.TagAction;
+import org.stekikun.dolmen.automaton.DFA.TransActions;
+import org.stekikun.dolmen.common.CSet;
+
+/**
+ * This class encodes the cells of some {@link Automata} instance
+ * into a bunch of integer arrays, which can be interpreted by a
+ * generic loop instead of being compiled to code. This is used
+ * when generating lexers in the {@link Config.LexerStyle#TABLES}
+ * style.
+ * <p>
+ * Transitions are expressed in terms of {@linkplain CharClasses
+ * character classes} and the resulting state-class matrix is
+ * compressed by <i>row displacement</i>: for every cell {@code s}
+ * and class {@code k}, the index of the transition to take is
+ * <pre>
+ *   check[base[s] + k] == s ? next[base[s] + k] : deflt[s]
+ * </pre>
+ * Transitions themselves are described by their {@link #transTargets target}
+ * (or {@code -1} for backtracking) and by the memory actions to perform
+ * beforehand. Memory and tag actions are encoded as sequences of
+ * opcodes in {@link #ops}, each sequence being terminated by
+ * {@link #OP_END}. The sequence at index {@code 0} is always empty.
+ *
+ * @author Stéphane Lescuyer
+ */
+public final class AutomataTables {
+
+	/** Opcode ending a sequence of memory actions */
+	public static final int OP_END = 0;
+	/** Opcode for {@code memory[dst] = curPos}, followed by {@code dst} */
+	public static final int OP_SET = 1;
+	/** Opcode for {@code memory[dst] = memory[src]}, followed by {@code dst} and {@code src} */
+	public static final int OP_COPY = 2;
+	/** Opcode for {@code memory[dst] = -1}, followed by {@code dst} */
+	public static final int OP_ERASE = 3;
+
+	/** The character classes used to index transitions */
+	public final CharClasses classes;
+
+	/** For each cell, the displacement of its row in {@link #check} and {@link #next} */
+	public final int[] base;
+	/** For each cell, the transition taken on classes which are not in its row */
+	public final int[] deflt;
+	/** For each slot in the compressed rows, the cell which owns the slot, or {@code -1} */
+	public final int[] check;
+	/** For each slot in the compressed rows, the index of the transition */
+	public final int[] next;
+
+	/** For each cell, the semantic action it performs, or {@code -1} for shifting cells */
+	public final int[] actions;
+	/** For each cell, the semantic action it remembers, or {@code -1} */
+	public final int[] marks;
+	/** For each cell, the index in {@link #ops} of its tag actions */
+	public final int[] cellOps;
+
+	/** For each transition, the target cell or {@code -1} to backtrack */
+	public final int[] transTargets;
+	/** For each transition, the index in {@link #ops} of its memory actions */
+	public final int[] transOps;
+
+	/** The sequences of memory and tag actions */
+	public final int[] ops;
+
+	private final List<Integer> opsList;
+	private final Map<List<Integer>, Integer> opsIndex;
+
+	private AutomataTables(Automata aut) {
+		final int ncells = aut.automataCells.length;
+		this.classes = CharClasses.of(aut);
+		this.actions = new int[ncells];
+		this.marks = new int[ncells];
+		this.cellOps = new int[ncells];
+		this.base = new int[ncells];
+		this.deflt = new int[ncells];
+		this.opsList = new ArrayList<>();
+		this.opsIndex = new HashMap<>();
+		// The empty sequence is always found at index 0
+		registerOps(new ArrayList<>());
+
+		// Encode cells and compute the transition row for each one
+		final Map<List<Integer>, Integer> transIndex = new HashMap<>();
+		final List<Integer> targets = new ArrayList<>();
+		final List<Integer> transOps = new ArrayList<>();
+		final int[][] rows = new int[ncells][];
+		for (int s = 0; s < ncells; ++s) {
+			final DFA.Cell cell = aut.automataCells[s];
+			switch (cell.getKind()) {
+			case PERFORM: {
+				final DFA.Perform perform = (DFA.Perform) cell;
+				actions[s] = perform.action;
+				marks[s] = -1;
+				cellOps[s] = encodeTagActions(perform.tagActions);
+				break;
+			}
+			case SHIFT: {
+				final DFA.Shift shift = (DFA.Shift) cell;
+				actions[s] = -1;
+				if (shift.remember == Remember.NOTHING) {
+					marks[s] = -1;
+					cellOps[s] = 0;
+				}
+				else {
+					marks[s] = shift.remember.action;
+					cellOps[s] = encodeTagActions(shift.remember.tagActions);
+				}
+				final int[] row = new int[classes.size()];
+				for (Map.Entry<@NonNull CSet, @NonNull TransActions> e :
+						shift.transTable.entrySet()) {
+					final TransActions trans = e.getValue();
+					final GotoAction gotoAction = trans.gotoAction;
+					final int target =
+						gotoAction == GotoAction.BACKTRACK ? -1 : gotoAction.target;
+					final int opsIdx = encodeMemActions(trans.memActions);
+					final List<Integer> key = Arrays.asList(target, opsIdx);
+					@Nullable Integer idx = transIndex.get(key);
+					if (idx == null) {
+						idx = targets.size();
+						transIndex.put(key, idx);
+						targets.add(target);
+						transOps.add(opsIdx);
+					}
+					final int tidx = idx;
+					e.getKey().forEachInterval((first, last) -> {
+						int c = first;
+						while (c <= last) {
+							row[classes.classOf((char) c)] = tidx;
+							c = classes.lastInInterval((char) c) + 1;
+						}
+					});
+				}
+				rows[s] = row;
+				break;
+			}
+			}
+		}
+		this.transTargets = toArray(targets);
+		this.transOps = toArray(transOps);
+		this.ops = toArray(opsList);
+
+		// Compress the rows, starting with the densest ones
+		// which are the hardest to place
+		final int[] ndefs = new int[ncells];
+		final List<Integer> order = new ArrayList<>();
+		for (int s = 0; s < ncells; ++s) {
+			final int[] row = rows[s];
+			if (row == null) continue;
+			deflt[s] = mostFrequent(row);
+			for (int t : row)
+				if (t != deflt[s]) ++ndefs[s];
+			if (ndefs[s] > 0) order.add(s);
+		}
+		order.sort((s1, s2) -> ndefs[s1] != ndefs[s2] ?
+				Integer.compare(ndefs[s2], ndefs[s1]) : Integer.compare(s1, s2));
+		final int nclasses = classes.size();
+		int[] check = new int[2 * nclasses];
+		int[] next = new int[2 * nclasses];
+		Arrays.fill(check, -1);
+		int used = 0;
+		for (int s : order) {
+			final int[] row = rows[s];
+			int b = 0;
+			search:
+			while (true) {
+				if (b + nclasses > check.length) {
+					int len = check.length;
+					check = Arrays.copyOf(check, 2 * len);
+					next = Arrays.copyOf(next, 2 * len);
+					Arrays.fill(check, len, 2 * len, -1);
+				}
+				for (int k = 0; k < nclasses; ++k) {
+					if (row[k] != deflt[s] && check[b + k] >= 0) {
+						++b;
+						continue search;
+					}
+				}
+				break;
+			}
+			base[s] = b;
+			for (int k = 0; k < nclasses; ++k) {
+				if (row[k] == deflt[s]) continue;
+				check[b + k] = s;
+				next[b + k] = row[k];
+				used = Math.max(used, b + k + 1);
+			}
+		}
+		// Any cell's row must be addressable without going out of bounds
+		final int length = used + nclasses;
+		if (length > check.length) {
+			int len = check.length;
+			check = Arrays.copyOf(check, length);
+			next = Arrays.copyOf(next, length);
+			Arrays.fill(check, len, length, -1);
+		}
+		this.check = Arrays.copyOf(check, length);
+		this.next = Arrays.copyOf(next, length);
+	}
+
+	private static int mostFrequent(int[] row) {
+		final Map<Integer, Integer> counts = new HashMap<>();
+		int best = row[0], bestCount = 0;
+		for (int t : row) {
+			int count = counts.merge(t, 1, Integer::sum);
+			if (count > bestCount || (count == bestCount && t < best)) {
+				best = t; bestCount = count;
+			}
+		}
+		return best;
+	}
+
+	private static int[] toArray(List<Integer> l) {
+		final int[] res = new int[l.size()];
+		for (int i = 0; i < res.length; ++i)
+			res[i] = l.get(i);
+		return res;
+	}
+
+	private int registerOps(List<Integer> seq) {
+		seq.add(OP_END);
+		@Nullable Integer idx = opsIndex.get(seq);
+		if (idx != null) return idx;
+		idx = opsList.size();
+		opsIndex.put(seq, idx);
+		opsList.addAll(seq);
+		return idx;
+	}
+
+	private int encodeTagActions(List<@NonNull TagAction> tagActions) {
+		final List<Integer> seq = new ArrayList<>();
+		for (TagAction action : tagActions) {
+			if (action.from >= 0) {
+				seq.add(OP_COPY); seq.add(action.tag); seq.add(action.from);
+			}
+			else {
+				seq.add(OP_ERASE); seq.add(action.tag);
+			}
+		}
+		return registerOps(seq);
+	}
+
+	private int encodeMemActions(List<@NonNull MemAction> memActions) {
+		final List<Integer> seq = new ArrayList<>();
+		for (MemAction action : memActions) {
+			final int src = action.getSrc();
+			if (src < 0) {
+				seq.add(OP_SET); seq.add(action.getDest());
+			}
+			else {
+				seq.add(OP_COPY); seq.add(action.getDest()); seq.add(src);
+			}
+		}
+		return registerOps(seq);
+	}
+
+	/**
+	 * @return whether the encoded automata perform
+	 * 	any memory or tag actions at all
+	 */
+	public boolean hasOps() {
+		return ops.length > 1;
+	}
+
+	/**
+	 * @param aut
+	 * @return the table-based encoding of the automata {@code aut}
+	 */
+	public static AutomataTables of(Automata aut) {
+		return new AutomataTables(aut);
+	}
+
+	/**
+	 * The maximal number of characters in a packed chunk, chosen
+	 * so that every chunk fits in a class file constant string
+	 */
+	private static final int CHUNK_SIZE = 16000;
+
+	private static void packValue(StringBuilder buf, int v) {
+		if (v < 0x8000)
+			buf.append((char) v);
+		else {
+			buf.append((char) (0x8000 | (v >>> 16)));
+			buf.append((char) (v & 0xFFFF));
+		}
+	}
+
+	/**
+	 * Packs the given array of integers into a list of strings,
+	 * which can be embedded in generated code and decoded at
+	 * run-time with {@link LexBuffer#unpack(int, String...)}.
+	 * Integers must all be greater or equal to {@code -1}.
+	 * <p>
+	 * The encoding is a run-length encoding of the array
+	 * where every run is described by its length and by the
+	 * repeated value, shifted by one so that {@code -1} can
+	 * be represented. Both numbers are encoded on one character
+	 * when smaller than {@code 0x8000}, and on two characters
+	 * otherwise, the first one with its high bit set.
+	 *
+	 * @param data
+	 * @return a list of strings encoding {@code data}
+	 */
+	public static List<String> pack(int[] data) {
+		final List<String> chunks = new ArrayList<>();
+		StringBuilder buf = new StringBuilder();
+		int i = 0;
+		while (i < data.length) {
+			int j = i + 1;
+			while (j < data.length && data[j] == data[i]) ++j;
+			if (data[i] < -1)
+				throw new IllegalArgumentException("Cannot pack value " + data[i]);
+			if (buf.length() + 4 > CHUNK_SIZE) {
+				chunks.add(buf.toString());
+				buf = new StringBuilder();
+			}
+			packValue(buf, j - i);
+			packValue(buf, data[i] + 1);
+			i = j;
+		}
+		if (buf.length() > 0 || chunks.isEmpty())
+			chunks.add(buf.toString());
+		return chunks;
+	}
+}
@@ -107,8 +107,9 @@ public abstract class BaseParser<Token> {
      * 	parsing position
      */
     protected ParsingException parsingError(String msg) {
-    	return new ParsingException(_jl_lastTokenStart,
-    		_jl_lastTokenEnd.offset - _jl_lastTokenStart.offset, msg);
+    	final Position start = getLastTokenStart();
+    	return new ParsingException(start,
+    		getLastTokenEnd().offset - start.offset, msg);
     }
 	
 	/** The underlying lexing buffer */
@@ -127,19 +128,31 @@ public abstract class BaseParser<Token> {
 
 	/**
 	 * The start position of the last token that was consumed by
-	 * the parser, or the start-of-input position if no token
-	 * was consumed yet
+	 * the parser, if it was set explicitly by the lexer or if it has
+	 * already been built by {@link #getLastTokenStart()}. Otherwise,
+	 * it is described by the primitive fields below, copied from the
+	 * lexer in {@link #eat()} without allocating any position.
 	 */
-	@DolmenInternal(read = true)
-    protected LexBuffer.Position _jl_lastTokenStart;
+    private LexBuffer.@Nullable Position lastStart;
+    private String lastStartFilename;
+    private int lastStartOffset;
+    private int lastStartLine;
+    private int lastStartBol;
 
 	/**
 	 * The end position of the last token that was consumed by
-	 * the parser, or the start-of-input position if no token
-	 * was consumed yet
+	 * the parser, if it was set explicitly by the lexer or if it has
+	 * already been built by {@link #getLastTokenEnd()}. Otherwise,
+	 * it is described by the primitive fields below.
 	 */
-	@DolmenInternal(read = true)
-	protected LexBuffer.Position _jl_lastTokenEnd;
+    private LexBuffer.@Nullable Position lastEnd;
+    private String lastEndFilename;
+    private int lastEndOffset;
+    private int lastEndLine;
+    private int lastEndBol;
+    
+    /** The line index of the lexer when the last token was consumed, if any */
+    private LexBuffer.@Nullable LineIndex lastLines;
 	
 	/**
 	 * Construct a new parser which will feed on the
@@ -168,8 +181,66 @@ public abstract class BaseParser<Token> {
 		this._jl_lexbuf = lexbuf;
 		this._jl_tokens = () -> tokens.apply(lexbuf);
 		this._jl_nextToken = null;
-		this._jl_lastTokenStart = new Position(lexbuf.filename);
-		this._jl_lastTokenEnd = new Position(lexbuf.filename);
+		this.lastStart = null;
+		this.lastStartFilename = lexbuf.filename;
+		this.lastStartLine = 1;
+		this.lastEnd = null;
+		this.lastEndFilename = lexbuf.filename;
+		this.lastEndLine = 1;
+		this.lastLines = null;
+	}
+	
+	/**
+	 * Resets the state of this parser so that it can be used
+	 * to parse a new input from the start. This must be called
+	 * after the underlying lexing buffer has been reset with
+	 * {@link LexBuffer#reset(String, java.io.Reader)} or
+	 * {@link LexBuffer#reset(String, CharSequence)}, or the
+	 * convenience methods {@link #reset(String, java.io.Reader)}
+	 * and {@link #reset(String, CharSequence)} can be used instead.
+	 * <p>
+	 * Reusing lexers and parsers avoids allocating new instances
+	 * and new lexer buffers for every input.
+	 */
+	public void reset() {
+		this._jl_nextToken = null;
+		this.lastStart = null;
+		this.lastStartFilename = _jl_lexbuf.filename;
+		this.lastStartOffset = 0;
+		this.lastStartLine = 1;
+		this.lastStartBol = 0;
+		this.lastEnd = null;
+		this.lastEndFilename = _jl_lexbuf.filename;
+		this.lastEndOffset = 0;
+		this.lastEndLine = 1;
+		this.lastEndBol = 0;
+		this.lastLines = null;
+	}
+	
+	/**
+	 * Resets the underlying lexing buffer to analyze the given 
+	 * character stream, and this parser to parse it from the start
+	 * 
+	 * @param filename
+	 * @param reader
+	 * @see LexBuffer#reset(String, java.io.Reader)
+	 */
+	public final void reset(String filename, java.io.Reader reader) {
+		_jl_lexbuf.reset(filename, reader);
+		reset();
+	}
+	
+	/**
+	 * Resets the underlying lexing buffer to analyze the given 
+	 * in-memory characters, and this parser to parse them from the start
+	 * 
+	 * @param filename
+	 * @param input
+	 * @see LexBuffer#reset(String, CharSequence)
+	 */
+	public final void reset(String filename, CharSequence input) {
+		_jl_lexbuf.reset(filename, input);
+		reset();
 	}
 	
 	/**
@@ -188,11 +259,61 @@ public abstract class BaseParser<Token> {
     @DolmenInternal
 	protected final Token eat() {
 		Token t = peek(); _jl_nextToken = null;
-		_jl_lastTokenStart = _jl_lexbuf.getLexemeStart();
-		_jl_lastTokenEnd = _jl_lexbuf.getLexemeEnd();
+		final LexBuffer lexbuf = _jl_lexbuf;
+		lastStart = lexbuf.startLoc;
+		lastStartFilename = lexbuf.startFilename;
+		lastStartOffset = lexbuf.startOffset;
+		lastStartLine = lexbuf.startLine;
+		lastStartBol = lexbuf.startBol;
+		lastEnd = lexbuf.curLoc;
+		lastEndFilename = lexbuf.curFilename;
+		lastEndOffset = lexbuf.curOffset;
+		lastEndLine = lexbuf.curLine;
+		lastEndBol = lexbuf.curBol;
+		lastLines = lexbuf.lineIndex;
 		return t;
 	}
 	
+	/**
+	 * This replaces the {@code _jl_lastTokenStart} field of earlier
+	 * versions, which semantic actions must not use anymore.
+	 * 
+	 * @return the start position of the last token that was consumed 
+	 * 	by the parser, or the start-of-input position if no token
+	 * 	was consumed yet
+	 */
+	protected final LexBuffer.Position getLastTokenStart() {
+		LexBuffer.@Nullable Position res = lastStart;
+		if (res == null) {
+			final LexBuffer.@Nullable LineIndex lines = lastLines;
+			res = lines != null ? lines.resolve(lastStartFilename, lastStartOffset) :
+				new Position(lastStartFilename, 
+					lastStartOffset, lastStartLine, lastStartBol);
+			lastStart = res;
+		}
+		return res;
+	}
+	
+	/**
+	 * This replaces the {@code _jl_lastTokenEnd} field of earlier
+	 * versions, which semantic actions must not use anymore.
+	 * 
+	 * @return the end position of the last token that was consumed 
+	 * 	by the parser, or the start-of-input position if no token
+	 * 	was consumed yet
+	 */
+	protected final LexBuffer.Position getLastTokenEnd() {
+		LexBuffer.@Nullable Position res = lastEnd;
+		if (res == null) {
+			final LexBuffer.@Nullable LineIndex lines = lastLines;
+			res = lines != null ? lines.resolve(lastEndFilename, lastEndOffset) :
+				new Position(lastEndFilename, 
+					lastEndOffset, lastEndLine, lastEndBol);
+			lastEnd = res;
+		}
+		return res;
+	}
+	
 	/**
 	 * Base class for generated parsers which track positions
 	 * of terminals and non-terminals as the parsing goes on.
@@ -271,9 +392,15 @@ public abstract class BaseParser<Token> {
 			this._jl_locationStack = new Stack<>();
 		}
 
+		@Override
+		public void reset() {
+			super.reset();
+			this._jl_locationStack.clear();
+		}
+
 		private final static boolean withDebug = false;
 		private final void print() {
-			System.out.println(String.format("  lastToken=%s", Objects.toString(_jl_lastTokenEnd)));
+			System.out.println(String.format("  lastToken=%s", Objects.toString(getLastTokenEnd())));
 			System.out.println(String.format("  stack=%s", _jl_locationStack));
 			Prompt.getInputLine("Press to continue");
 		}
@@ -378,7 +505,7 @@ public abstract class BaseParser<Token> {
 				throw noRule("getStartPos");
 			}
 			if (locs.isEmpty())
-				return _jl_lastTokenEnd;
+				return getLastTokenEnd();
 			return locs.get(0).start;
 		}
 		
@@ -394,7 +521,7 @@ public abstract class BaseParser<Token> {
 				throw noRule("getEndPos");
 			}
 			if (locs.isEmpty())
-				return _jl_lastTokenEnd;
+				return getLastTokenEnd();
 			return locs.get(locs.size() - 1).end;
 		}
 		
@@ -421,7 +548,7 @@ public abstract class BaseParser<Token> {
 				}
 			}
 			if (found == null)
-				return _jl_lastTokenEnd;
+				return getLastTokenEnd();
 			return found.start;
 		}
 
@@ -0,0 +1,517 @@
+package org.stekikun.dolmen.codegen;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import org.eclipse.jdt.annotation.Nullable;
+import org.stekikun.dolmen.common.Exceptions.DolmenVersionException;
+
+/**
+ * Instances of buffers used by lexers generated with the
+ * {@code byte_input} option, whose automata run directly on
+ * UTF-8 encoded bytes instead of decoded characters.
+ * <p>
+ * Input bytes are never decoded as they are read: each byte is
+ * stored as is in the underlying {@linkplain LexBuffer buffer} as a
+ * character in the range {@code [0x00-0xFF]}, which is what the
+ * generated automata expect. UTF-8 decoding only happens when a
+ * semantic action asks for the contents of a lexeme, via
+ * {@link #getLexeme()}, {@link #getLexemeChar(int)} or any bound
+ * variable, and the lexeme is decoded at most once per token.
+ * <p>
+ * Since the buffer holds characters, bytes are still copied once:
+ * a {@code byte[]} or {@link ByteBuffer} input of {@code n} bytes
+ * is widened once and for all into a new array of {@code n}
+ * characters, which takes {@code 2n} bytes of memory in addition
+ * to the input, and bytes read from an {@link java.io.InputStream}
+ * are widened into the lexer's buffer as they are read. Widening
+ * the bytes and checking that they are well-formed UTF-8 is done
+ * in a single pass, without any charset decoder.
+ * <p>
+ * Malformed UTF-8 input is handled as if it were decoded by
+ * {@link StandardCharsets#UTF_8}, i.e. each malformed subsequence
+ * reported by this decoder stands for one {@code U+FFFD} replacement
+ * character. To that end, such subsequences are replaced, as they are
+ * read, by byte sequences of the same length which never appear in
+ * well-formed UTF-8, namely {@code [0xFF]}, {@code [0xFE 0x80]} and
+ * {@code [0xFD 0x80 0x80]}: they are matched by the character sets
+ * which contain {@code U+FFFD} and decoded as {@code U+FFFD}, and
+ * offsets in the input are preserved.
+ * <p>
+ * Beware that, in contrast with other lexer buffers, offsets in
+ * {@linkplain Position positions} and {@link #getLexemeLength()} are
+ * expressed in <i>bytes</i>, and that {@link #peekNextChar()} and
+ * {@link #peekNextChars(char[])} return bytes, where malformed
+ * subparts have been replaced as described above.
+ *
+ * @author Stéphane Lescuyer
+ */
+public class ByteLexBuffer extends LexBuffer {
+
+	/**
+	 * The bytes fed last which start a UTF-8 sequence
+	 * that they do not complete
+	 */
+	private final byte[] pending = new byte[3];
+	private int pendingLength = 0;
+
+	/** The lexeme decoded last, if any */
+	private @Nullable String lexeme = null;
+	/** The token, start and end positions of {@link #lexeme} */
+	private int lexemeToken, lexemeStart, lexemeEnd;
+
+	/**
+	 * Constructs a new lexer buffer based on the given byte stream,
+	 * which is read without any charset decoding.
+	 *
+	 * @param version	the version of Dolmen which generated the subclass
+	 * @param filename
+	 * @param input
+	 * @throws DolmenVersionException if {@code version} is not equal to
+	 * 	the version of this {@code LexBuffer}
+	 */
+	protected ByteLexBuffer(String version,
+			@Nullable String filename, java.io.@Nullable InputStream input) {
+		super(version, filename, input == null ? null : new SanitizingReader(input));
+	}
+
+	/**
+	 * Constructs a new lexer buffer which reads the {@code length}
+	 * bytes of {@code bytes} starting at index {@code offset}.
+	 * Offsets in positions are relative to {@code offset}.
+	 *
+	 * @param version	the version of Dolmen which generated the subclass
+	 * @param filename
+	 * @param bytes
+	 * @param offset
+	 * @param length
+	 * @throws DolmenVersionException if {@code version} is not equal to
+	 * 	the version of this {@code LexBuffer}
+	 * @throws IndexOutOfBoundsException if {@code offset} and {@code length}
+	 * 	do not describe a valid range of {@code bytes}
+	 */
+	protected ByteLexBuffer(String version,
+			@Nullable String filename, byte @Nullable[] bytes, int offset, int length) {
+		super(version, filename, widen(bytes, offset, length), 0, length);
+	}
+
+	/**
+	 * Constructs a new lexer buffer which reads the remaining bytes
+	 * in {@code input}. The position of {@code input} is left unchanged.
+	 *
+	 * @param version	the version of Dolmen which generated the subclass
+	 * @param filename
+	 * @param input
+	 * @throws DolmenVersionException if {@code version} is not equal to
+	 * 	the version of this {@code LexBuffer}
+	 */
+	protected ByteLexBuffer(String version,
+			@Nullable String filename, @Nullable ByteBuffer input) {
+		super(version, filename, widen(input), 0,
+			input == null ? 0 : input.remaining());
+	}
+
+	/**
+	 * Resets this lexer buffer so that it analyzes the given byte
+	 * stream from the start, reusing its current buffer.
+	 *
+	 * @param filename
+	 * @param input
+	 * @see #reset(String, java.io.Reader)
+	 */
+	public void reset(@Nullable String filename, java.io.@Nullable InputStream input) {
+		reset(filename, input == null ? null : new SanitizingReader(input));
+	}
+
+	/**
+	 * Resets this lexer buffer so that it analyzes the {@code length}
+	 * bytes of {@code bytes} starting at index {@code offset}.
+	 *
+	 * @param filename
+	 * @param bytes
+	 * @param offset
+	 * @param length
+	 * @throws IndexOutOfBoundsException if {@code offset} and {@code length}
+	 * 	do not describe a valid range of {@code bytes}
+	 * @see #reset(String, CharSequence)
+	 */
+	public void reset(@Nullable String filename, byte @Nullable[] bytes, int offset, int length) {
+		final char[] chars = widen(bytes, offset, length);
+		reset(filename, chars == null ? null : java.nio.CharBuffer.wrap(chars));
+	}
+
+	/**
+	 * Appends the remaining bytes of {@code input} to the input
+	 * of this lexer, and advances the position of {@code input}
+	 * accordingly.
+	 * <p>
+	 * Trailing bytes which start a well-formed UTF-8 sequence but do not
+	 * complete it are only appended to the input of the lexer once the
+	 * sequence is completed by the next fed bytes, or once
+	 * {@link #endOfInput()} is called, at which point they are malformed.
+	 *
+	 * @param input
+	 * @throws IllegalStateException if the input of this lexer is
+	 * 	not {@linkplain #reset(String) fed incrementally}, or if
+	 * 	{@link #endOfInput()} has already been called
+	 * @see #feed(java.nio.CharBuffer)
+	 */
+	public void feed(ByteBuffer input) {
+		final byte[] bytes;
+		final int from;
+		if (pendingLength == 0 && input.hasArray()) {
+			bytes = input.array();
+			from = input.arrayOffset() + input.position();
+		}
+		else {
+			bytes = new byte[pendingLength + input.remaining()];
+			System.arraycopy(pending, 0, bytes, 0, pendingLength);
+			input.duplicate().get(bytes, pendingLength, input.remaining());
+			from = 0;
+		}
+		final int to = from + pendingLength + input.remaining();
+		final char[] chars = new char[to - from];
+		final int ready = widen(bytes, from, to, chars, 0, false);
+		feed(java.nio.CharBuffer.wrap(chars, 0, ready - from));
+		pendingLength = to - ready;
+		System.arraycopy(bytes, ready, pending, 0, pendingLength);
+		input.position(input.limit());
+	}
+
+	@Override
+	public void reset(@Nullable String filename) {
+		super.reset(filename);
+		pendingLength = 0;
+	}
+
+	/**
+	 * Bytes which were held back by {@link #feed(ByteBuffer)} because
+	 * they did not complete a UTF-8 sequence are appended to the input
+	 * first, as malformed input.
+	 */
+	@Override
+	public void endOfInput() {
+		if (pendingLength > 0) {
+			final char[] chars = new char[pendingLength];
+			widen(pending, 0, pendingLength, chars, 0, true);
+			pendingLength = 0;
+			feed(java.nio.CharBuffer.wrap(chars));
+		}
+		super.endOfInput();
+	}
+
+	/**
+	 * @param bytes
+	 * @param offset
+	 * @param length
+	 * @return an array with the {@code length} bytes of {@code bytes}
+	 * 	starting at index {@code offset}, as characters in {@code [0x00-0xFF]},
+	 * 	where malformed UTF-8 has been
+	 * 	{@linkplain #widen(byte[], int, int, char[], int, boolean) replaced}
+	 */
+	private static char @Nullable[] widen(byte @Nullable[] bytes, int offset, int length) {
+		if (bytes == null) return null;
+		if (offset < 0 || length < 0 || offset > bytes.length - length)
+			throw new IndexOutOfBoundsException(
+				"Invalid range [" + offset + ", " + offset + " + " + length + "[");
+		final char[] chars = new char[length];
+		widen(bytes, offset, offset + length, chars, 0, true);
+		return chars;
+	}
+
+	/**
+	 * @param input
+	 * @return an array with the remaining bytes of {@code input},
+	 * 	as characters in {@code [0x00-0xFF]}, where malformed UTF-8 has been
+	 * 	{@linkplain #widen(byte[], int, int, char[], int, boolean) replaced}
+	 */
+	private static char @Nullable[] widen(@Nullable ByteBuffer input) {
+		if (input == null) return null;
+		if (input.hasArray())
+			return widen(input.array(),
+				input.arrayOffset() + input.position(), input.remaining());
+		final byte[] bytes = new byte[input.remaining()];
+		input.duplicate().get(bytes);
+		return widen(bytes, 0, bytes.length);
+	}
+
+	/**
+	 * Stores the bytes of {@code bytes} in {@code [from, to)} as characters
+	 * in {@code [0x00-0xFF]} in {@code chars}, starting at index {@code dst},
+	 * and replaces the malformed subsequences of UTF-8 among them, as
+	 * delimited by the {@linkplain StandardCharsets#UTF_8 JDK decoder}, by
+	 * the byte sequences of the same length {@code [0xFF]}, {@code [0xFE 0x80]}
+	 * or {@code [0xFD 0x80 0x80]}. Unless {@code end} holds, a sequence which
+	 * is not complete by {@code to} but may still be completed by the
+	 * following bytes is left out.
+	 *
+	 * @param bytes
+	 * @param from
+	 * @param to
+	 * @param chars
+	 * @param dst
+	 * @param end	whether the bytes end at {@code to}
+	 * @return the index where the incomplete sequence which was left
+	 * 	out starts if any, {@code to} otherwise
+	 */
+	private static int widen(byte[] bytes, int from, int to,
+			char[] chars, int dst, boolean end) {
+		int i = from;
+		int j = dst;
+		while (i < to) {
+			final int b0 = bytes[i] & 0xFF;
+			if (b0 < 0x80) {
+				chars[j++] = (char) b0;
+				++i;
+				continue;
+			}
+			// The number of continuation bytes expected after b0, and
+			// the range of the first one, following Table 3-7 of the
+			// Unicode Standard, except that like the JDK decoder, encoded
+			// surrogates are read in full and then rejected as a whole
+			int needed = 0;
+			int lo = 0x80, hi = 0xBF;
+			if (b0 >= 0xC2 && b0 <= 0xDF)
+				needed = 1;
+			else if (b0 >= 0xE0 && b0 <= 0xEF) {
+				needed = 2;
+				if (b0 == 0xE0) lo = 0xA0;
+			}
+			else if (b0 >= 0xF0 && b0 <= 0xF4) {
+				needed = 3;
+				if (b0 == 0xF0) lo = 0x90;
+				else if (b0 == 0xF4) hi = 0x8F;
+			}
+			int found = 0;
+			while (found < needed && i + 1 + found < to) {
+				final int b = bytes[i + 1 + found] & 0xFF;
+				if (b < lo || b > hi) break;
+				lo = 0x80; hi = 0xBF;
+				++found;
+			}
+			if (needed > 0 && found == needed
+					&& (b0 != 0xED || (bytes[i + 1] & 0xFF) < 0xA0)) {
+				for (int k = 0; k <= needed; ++k)
+					chars[j++] = (char) (bytes[i + k] & 0xFF);
+				i += 1 + needed;
+				continue;
+			}
+			if (found < needed && i + 1 + found == to && !end)
+				return i;
+			// Malformed subsequence of length 1 + found
+			chars[j++] = (char) (0xFF - found);
+			for (int k = 1; k <= found; ++k)
+				chars[j++] = 0x80;
+			i += 1 + found;
+		}
+		return to;
+	}
+
+	/**
+	 * @param start
+	 * @param end
+	 * @return the string obtained by decoding the UTF-8 bytes
+	 * 	between positions {@code start} and {@code end} (exclusive)
+	 * 	in the token buffer
+	 */
+	private String decode(int start, int end) {
+		final char[] buf = tokenBuf;
+		// Fast path when all bytes are ASCII characters
+		int i = start;
+		while (i < end && buf[i] < 0x80) ++i;
+		if (i == end) return new String(buf, start, end - start);
+		final byte[] bytes = new byte[end - start];
+		boolean malformed = false;
+		for (int j = start; j < end; ++j) {
+			if (buf[j] >= 0xFD) malformed = true;
+			bytes[j - start] = (byte) buf[j];
+		}
+		if (!malformed) return new String(bytes, StandardCharsets.UTF_8);
+		// Replaced malformed subparts are decoded as U+FFFD
+		final StringBuilder res = new StringBuilder(bytes.length);
+		int from = 0;
+		int j = 0;
+		while (j < bytes.length) {
+			final int b = bytes[j] & 0xFF;
+			if (b < 0xFD) {
+				++j;
+				continue;
+			}
+			res.append(new String(bytes, from, j - from, StandardCharsets.UTF_8));
+			res.append('\uFFFD');
+			j = Math.min(bytes.length, j + 0x100 - b);
+			from = j;
+		}
+		res.append(new String(bytes, from, j - from, StandardCharsets.UTF_8));
+		return res.toString();
+	}
+
+	/**
+	 * Characters outside the Basic Multilingual Plane are
+	 * returned as their high surrogate.
+	 *
+	 * @param pos
+	 * @return the character whose UTF-8 encoding starts at
+	 * 	position {@code pos} in the token buffer
+	 */
+	private char decodeChar(int pos) {
+		final char b0 = tokenBuf[pos];
+		if (b0 < 0x80) return b0;
+		if (b0 >= 0xFD) return '\uFFFD';
+		final int length = b0 >= 0xF0 ? 4 : b0 >= 0xE0 ? 3 : 2;
+		return decode(pos, Math.min(pos + length, bufLimit)).charAt(0);
+	}
+
+	/**
+	 * The decoded lexeme is cached until the next token
+	 * is started, or until the lexeme changes.
+	 */
+	@Override
+	protected String getLexeme() {
+		final @Nullable String cached = lexeme;
+		if (cached != null && lexemeToken == tokens
+				&& lexemeStart == startPos && lexemeEnd == curPos)
+			return cached;
+		final String res = decode(startPos, curPos);
+		lexeme = res;
+		lexemeToken = tokens;
+		lexemeStart = startPos;
+		lexemeEnd = curPos;
+		return res;
+	}
+
+	/**
+	 * Only lexemes made of ASCII characters are interned.
+	 */
+	@Override
+	protected String getInternedLexeme() {
+		final char[] buf = tokenBuf;
+		for (int i = startPos; i < curPos; ++i)
+			if (buf[i] >= 0x80) return getLexeme();
+		return super.getInternedLexeme();
+	}
+
+	/**
+	 * Unlike in other lexer buffers, this requires decoding
+	 * the whole lexeme, and {@code idx} is an index in the
+	 * decoded lexeme. The lexeme is only decoded on the first
+	 * call for a given token, so that actions can iterate over
+	 * its characters in linear time.
+	 */
+	@Override
+	protected char getLexemeChar(int idx) {
+		final String lexeme = getLexeme();
+		if (idx < 0 || idx >= lexeme.length())
+			throw error("Invalid index  " + idx
+						+ " in lexeme of length " + lexeme.length());
+		return lexeme.charAt(idx);
+	}
+
+	@Override
+	protected CharSequence getLexemeChars() {
+		return getLexeme();
+	}
+
+	@Override
+	protected void appendLexeme(StringBuilder buf) {
+		buf.append(getLexeme());
+	}
+
+	@Override
+	@DolmenInternal
+	protected String getSubLexeme(int start, int end) {
+		return decode(start, end);
+	}
+
+	@Override
+	@DolmenInternal
+	protected Optional<String> getSubLexemeOpt(int start, int end) {
+		if (start < 0)
+			return Optional.empty();
+		return Optional.of(decode(start, end));
+	}
+
+	@Override
+	@DolmenInternal
+	protected char getSubLexemeChar(int pos) {
+		return decodeChar(pos);
+	}
+
+	@Override
+	@DolmenInternal
+	protected Optional<Character> getSubLexemeOptChar(int pos) {
+		if (pos < 0)
+			return Optional.empty();
+		return Optional.of(decodeChar(pos));
+	}
+
+	/**
+	 * A reader which returns the bytes of an input stream as characters
+	 * in {@code [0x00-0xFF]}, where malformed UTF-8 has been
+	 * {@linkplain ByteLexBuffer#widen(byte[], int, int, char[], int, boolean) replaced}
+	 *
+	 * @author Stéphane Lescuyer
+	 */
+	private static final class SanitizingReader extends java.io.Reader {
+		/** The maximal length of a UTF-8 encoded code point */
+		private static final int MAX_SEQUENCE = 4;
+
+		private final java.io.InputStream input;
+		private final byte[] buf = new byte[4096];
+		// Bytes in [pos, limit) have been read but not returned yet
+		private int pos = 0;
+		private int limit = 0;
+		private boolean eof = false;
+		// Characters returned to readers asking for fewer
+		// characters than a UTF-8 sequence may take
+		private final char[] spill = new char[MAX_SEQUENCE];
+		private int spillPos = 0;
+		private int spillLimit = 0;
+
+		SanitizingReader(java.io.InputStream input) {
+			this.input = input;
+		}
+
+		@Override
+		public int read(char[] cbuf, int off, int len) throws java.io.IOException {
+			if (len == 0) return 0;
+			if (spillPos < spillLimit) {
+				final int n = Math.min(len, spillLimit - spillPos);
+				System.arraycopy(spill, spillPos, cbuf, off, n);
+				spillPos += n;
+				return n;
+			}
+			if (len < MAX_SEQUENCE) {
+				final int n = read(spill, 0, MAX_SEQUENCE);
+				if (n < 0) return -1;
+				spillPos = 0;
+				spillLimit = n;
+				return read(cbuf, off, len);
+			}
+			while (true) {
+				// Every sequence starting before to fits in cbuf, so that
+				// no progress can only mean that more bytes are needed
+				final int to = Math.min(limit, pos + len);
+				final int stop = widen(buf, pos, to, cbuf, off, eof && to == limit);
+				if (stop > pos) {
+					final int n = stop - pos;
+					pos = stop;
+					return n;
+				}
+				if (eof) return -1;
+				System.arraycopy(buf, pos, buf, 0, limit - pos);
+				limit -= pos;
+				pos = 0;
+				final int n = input.read(buf, limit, buf.length - limit);
+				if (n < 0) eof = true;
+				else limit += n;
+			}
+		}
+
+		@Override
+		public void close() throws java.io.IOException {
+			input.close();
+		}
+	}
+}
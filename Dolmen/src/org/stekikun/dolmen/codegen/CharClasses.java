@@ -0,0 +1,223 @@
+package org.stekikun.dolmen.codegen;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.stekikun.dolmen.automaton.Automata;
+import org.stekikun.dolmen.automaton.DFA;
+import org.stekikun.dolmen.common.CSet;
+
+/**
+ * Instances of this class describe a partition of the whole
+ * range of characters into <i>equivalence classes</i>, such that
+ * two characters in the same class are never distinguished by
+ * a given set of character sets. When these character sets are
+ * the transitions of some {@linkplain Automata automata}, the
+ * classes can be used as a (usually very small) alphabet
+ * in place of characters.
+ * <p>
+ * Classes are numbered densely from {@code 0}, in the order
+ * of their smallest characters. The mapping from characters
+ * to classes can be encoded in a compact two-level table,
+ * as described in {@link #blockOffsets}.
+ *
+ * @author Stéphane Lescuyer
+ */
+public final class CharClasses {
+
+	/** The number of characters in each block of the two-level map */
+	public static final int BLOCK_SIZE = 256;
+
+	/**
+	 * The character sets corresponding to each class,
+	 * indexed by the class number
+	 */
+	public final List<@NonNull CSet> classes;
+
+	/**
+	 * The first character of each of the maximal intervals
+	 * of characters which belong to a same class, in
+	 * increasing order
+	 */
+	private final char[] starts;
+
+	/**
+	 * The class of each of the intervals described
+	 * in {@link #starts}
+	 */
+	private final int[] segClasses;
+
+	/**
+	 * For each block of {@link #BLOCK_SIZE} characters, the offset
+	 * in {@link #blocks} where the classes of the characters in
+	 * the block can be found. In other words, the class of some
+	 * character {@code c} is:
+	 * <pre>
+	 *   blocks[blockOffsets[c / BLOCK_SIZE] + c % BLOCK_SIZE]
+	 * </pre>
+	 * The first block, i.e. the Latin-1 characters, is always
+	 * found at the very start of {@link #blocks}.
+	 */
+	public final int[] blockOffsets;
+
+	/**
+	 * The concatenation of all different blocks
+	 * of classes, see {@link #blockOffsets}
+	 */
+	public final int[] blocks;
+
+	private CharClasses(char[] starts, int[] segClasses, int nclasses) {
+		this.starts = starts;
+		this.segClasses = segClasses;
+
+		// Gather the character sets for every class
+		CSet[] csets = new CSet[nclasses];
+		Arrays.fill(csets, CSet.EMPTY);
+		for (int i = 0; i < starts.length; ++i) {
+			char last = i + 1 < starts.length ? (char) (starts[i + 1] - 1) : 0xFFFF;
+			int k = segClasses[i];
+			csets[k] = CSet.union(csets[k], CSet.interval(starts[i], last));
+		}
+		List<@NonNull CSet> classes = new ArrayList<>(nclasses);
+		for (CSet cset : csets) classes.add(cset);
+		this.classes = classes;
+
+		// Build the two-level map, sharing identical blocks
+		final int nblocks = 0x10000 / BLOCK_SIZE;
+		this.blockOffsets = new int[nblocks];
+		final Map<List<Integer>, Integer> offsets = new HashMap<>();
+		final List<Integer> contents = new ArrayList<>();
+		int seg = 0;
+		for (int b = 0; b < nblocks; ++b) {
+			List<Integer> block = new ArrayList<>(BLOCK_SIZE);
+			for (int c = b * BLOCK_SIZE; c < (b + 1) * BLOCK_SIZE; ++c) {
+				while (seg + 1 < starts.length && starts[seg + 1] <= c) ++seg;
+				block.add(segClasses[seg]);
+			}
+			@Nullable Integer offset = offsets.get(block);
+			if (offset == null) {
+				offset = contents.size();
+				offsets.put(block, offset);
+				contents.addAll(block);
+			}
+			blockOffsets[b] = offset;
+		}
+		this.blocks = new int[contents.size()];
+		for (int i = 0; i < blocks.length; ++i)
+			blocks[i] = contents.get(i);
+	}
+
+	/**
+	 * @return the number of different character classes
+	 */
+	public int size() {
+		return classes.size();
+	}
+
+	/**
+	 * @param c
+	 * @return the class of the character {@code c}
+	 */
+	public int classOf(char c) {
+		int idx = Arrays.binarySearch(starts, c);
+		if (idx < 0) idx = -idx - 2;
+		return segClasses[idx];
+	}
+
+	/**
+	 * @param c
+	 * @return the last character of the maximal interval
+	 * 	containing {@code c} whose characters all belong 
+	 * 	to the same class as {@code c}
+	 */
+	public char lastInInterval(char c) {
+		int idx = Arrays.binarySearch(starts, c);
+		if (idx < 0) idx = -idx - 2;
+		return idx + 1 < starts.length ? (char) (starts[idx + 1] - 1) : 0xFFFF;
+	}
+
+	/**
+	 * @param csets
+	 * @return the coarsest partition of characters where every
+	 * 	character set in {@code csets} is a union of classes
+	 */
+	public static CharClasses of(Collection<@NonNull CSet> csets) {
+		// Split the range of characters into elementary intervals
+		// delimited by the bounds of all character sets
+		final Set<@NonNull CSet> distinct = new TreeSet<>(csets);
+		final TreeSet<Integer> bounds = new TreeSet<>();
+		bounds.add(0);
+		for (CSet cset : distinct) {
+			cset.forEachInterval((first, last) -> {
+				bounds.add((int) first);
+				if (last < 0xFFFF) bounds.add(last + 1);
+			});
+		}
+		final char[] starts = new char[bounds.size()];
+		int n = 0;
+		for (int b : bounds) starts[n++] = (char) b;
+
+		// Refine the partition of the elementary intervals with
+		// every character set in turn
+		int[] segClasses = new int[n];
+		int nclasses = 1;
+		final boolean[] in = new boolean[n];
+		for (CSet cset : distinct) {
+			Arrays.fill(in, false);
+			cset.forEachInterval((first, last) -> {
+				int i = Arrays.binarySearch(starts, first);
+				while (i < starts.length && starts[i] <= last)
+					in[i++] = true;
+			});
+			final Map<Integer, Integer> split = new HashMap<>();
+			for (int i = 0; i < n; ++i) {
+				if (!in[i]) continue;
+				@Nullable Integer k = split.get(segClasses[i]);
+				if (k == null) {
+					k = nclasses++;
+					split.put(segClasses[i], k);
+				}
+				segClasses[i] = k;
+			}
+		}
+
+		// Renumber classes densely, in the order of
+		// their first character, and merge adjacent
+		// intervals which ended up in the same class
+		final int[] renaming = new int[nclasses];
+		Arrays.fill(renaming, -1);
+		int next = 0;
+		int m = 0;
+		for (int i = 0; i < n; ++i) {
+			int k = segClasses[i];
+			if (renaming[k] < 0) renaming[k] = next++;
+			if (m > 0 && segClasses[m - 1] == renaming[k]) continue;
+			starts[m] = starts[i];
+			segClasses[m++] = renaming[k];
+		}
+		return new CharClasses(
+			Arrays.copyOf(starts, m), Arrays.copyOf(segClasses, m), next);
+	}
+
+	/**
+	 * @param aut
+	 * @return the coarsest partition of characters which
+	 * 	are never distinguished by any transition in {@code aut}
+	 */
+	public static CharClasses of(Automata aut) {
+		List<@NonNull CSet> csets = new ArrayList<>();
+		for (DFA.Cell cell : aut.automataCells) {
+			if (cell.getKind() != DFA.Cell.Kind.SHIFT) continue;
+			csets.addAll(((DFA.Shift) cell).transTable.keySet());
+		}
+		return of(csets);
+	}
+}
@@ -80,6 +80,34 @@ public final class Config {
 		}
 	}
 	
+	/**
+	 * Enumeration of the different ways in which the automata
+	 * of a lexer description can be realized in generated code.
+	 * 
+	 * @author Stéphane Lescuyer
+	 */
+	public static enum LexerStyle {
+		/** Each automaton cell is generated as a separate method */
+		METHODS("methods"),
+		/**
+		 * The cells reachable from each entry are generated as
+		 * the cases of a single state-machine loop
+		 */
+		LOOP("loop"),
+		/** 
+		 * Automata are encoded as compressed static tables which
+		 * are interpreted by a generic loop
+		 */
+		TABLES("tables");
+		
+		/** The name of the style, as used in option values */
+		public final String name;
+		
+		private LexerStyle(String name) {
+			this.name = name;
+		}
+	}
+	
 	/**
 	 * Enumeration of the keys for configurable options.
 	 * <p>
@@ -96,7 +124,15 @@ public final class Config {
 	public static enum Keys {
 		Positions(Relevance.PARSER, "positions", false, Keys::asBoolean),
 		TokenAnnotations(Relevance.PARSER, "token_annotations", "@SuppressWarnings(\"javadoc\")", Keys::asString),
-		ClassAnnotations(Relevance.BOTH, "class_annotations", "", Keys::asString);
+		ClassAnnotations(Relevance.BOTH, "class_annotations", "", Keys::asString),
+		LexerStyle(Relevance.LEXER, "lexer_style", Config.LexerStyle.METHODS, Keys::asLexerStyle),
+		CharClasses(Relevance.LEXER, "char_classes", false, Keys::asBoolean),
+		AsciiFastPath(Relevance.LEXER, "ascii_fast_path", false, Keys::asBoolean),
+		ByteInput(Relevance.LEXER, "byte_input", false, Keys::asBoolean),
+		BufferSize(Relevance.LEXER, "buffer_size", LexBuffer.DEFAULT_BUFFER_SIZE, Keys::asBufferSize),
+		MaxTokenLength(Relevance.LEXER, "max_token_length", Integer.MAX_VALUE, Keys::asPositiveInteger),
+		KeywordHashing(Relevance.LEXER, "keyword_hashing", false, Keys::asBoolean),
+		MinimizeAutomata(Relevance.LEXER, "minimize_automata", true, Keys::asBoolean);
 		
 		/** Relevance of the option associated to that key */
 		public final Relevance relevance;
@@ -142,6 +178,36 @@ public final class Config {
 		private static String asString(String s) {
 			return s;
 		}
+		
+		private static Integer asPositiveInteger(String s) {
+			final int n;
+			try {
+				n = Integer.parseInt(s);
+			} catch (NumberFormatException e) {
+				throw new IllegalArgumentException("expected a positive integer");
+			}
+			if (n <= 0)
+				throw new IllegalArgumentException("expected a positive integer");
+			return n;
+		}
+		
+		private static Integer asBufferSize(String s) {
+			final int n = asPositiveInteger(s);
+			if (n < LexBuffer.MIN_BUFFER_SIZE)
+				throw new IllegalArgumentException(
+					"expected a size of at least " + LexBuffer.MIN_BUFFER_SIZE);
+			return n;
+		}
+		
+		private static Config.LexerStyle asLexerStyle(String s) {
+			StringBuilder expected = new StringBuilder();
+			for (Config.LexerStyle style : Config.LexerStyle.values()) {
+				if (style.name.equals(s)) return style;
+				if (expected.length() > 0) expected.append(", ");
+				expected.append('\'').append(style.name).append('\'');
+			}
+			throw new IllegalArgumentException("expected one of " + expected);
+		}
 	}
 	
 	/** 
@@ -161,6 +227,57 @@ public final class Config {
 	 * token class in a generated parser
 	 */
 	public final String tokenAnnotations;
+	
+	/**
+	 * How the automata of a lexer must be realized
+	 * in the generated lexer class
+	 */
+	public final LexerStyle lexerStyle;
+	
+	/**
+	 * Whether the generated lexer should map input characters
+	 * to equivalence classes before dispatching on them
+	 */
+	public final boolean charClasses;
+	
+	/**
+	 * Whether the generated lexer should dispatch ASCII characters
+	 * first, using a lookup table in every state which is not
+	 * simply dispatched by a single switch
+	 */
+	public final boolean asciiFastPath;
+	
+	/**
+	 * Whether the generated lexer should run on UTF-8 encoded
+	 * bytes rather than on characters, see {@link ByteLexBuffer}
+	 */
+	public final boolean byteInput;
+	
+	/**
+	 * The initial size of the buffers of the generated lexer,
+	 * see {@link LexBuffer#setBufferLimits(int, int)}
+	 */
+	public final int bufferSize;
+	
+	/**
+	 * The maximal length of tokens matched by the generated lexer,
+	 * see {@link LexBuffer#setBufferLimits(int, int)}
+	 */
+	public final int maxTokenLength;
+	
+	/**
+	 * Whether the generated lexer should recognize keywords
+	 * by looking lexemes up in perfect hash tables rather
+	 * than in its automata, see {@link org.stekikun.dolmen.tagged.Keywords}
+	 */
+	public final boolean keywordHashing;
+	
+	/**
+	 * Whether equivalent states in the lexer's automata should
+	 * be merged before generating code, see 
+	 * {@link org.stekikun.dolmen.automaton.Minimize}
+	 */
+	public final boolean minimizeAutomata;
 
 	/**
 	 * Builds a default configuration
@@ -185,6 +302,14 @@ public final class Config {
 		this.positions = (boolean) Keys.Positions.from(options);
 		this.classAnnotations = (String) Keys.ClassAnnotations.from(options);
 		this.tokenAnnotations = (String) Keys.TokenAnnotations.from(options);
+		this.lexerStyle = (LexerStyle) Keys.LexerStyle.from(options);
+		this.charClasses = (boolean) Keys.CharClasses.from(options);
+		this.asciiFastPath = (boolean) Keys.AsciiFastPath.from(options);
+		this.byteInput = (boolean) Keys.ByteInput.from(options);
+		this.bufferSize = (int) Keys.BufferSize.from(options);
+		this.maxTokenLength = (int) Keys.MaxTokenLength.from(options);
+		this.keywordHashing = (boolean) Keys.KeywordHashing.from(options);
+		this.minimizeAutomata = (boolean) Keys.MinimizeAutomata.from(options);
 	}
 	
 	/**
@@ -356,6 +481,86 @@ public final class Config {
 			return this;
 		}
 		
+		/**
+		 * @see Keys#LexerStyle
+		 * @param style
+		 * @return {@code this}
+		 */
+		public Builder lexerStyle(LexerStyle style) {
+			options.put(Keys.LexerStyle, style);
+			return this;
+		}
+		
+		/**
+		 * @see Keys#CharClasses
+		 * @param b
+		 * @return {@code this}
+		 */
+		public Builder charClasses(boolean b) {
+			options.put(Keys.CharClasses, b);
+			return this;
+		}
+		
+		/**
+		 * @see Keys#AsciiFastPath
+		 * @param b
+		 * @return {@code this}
+		 */
+		public Builder asciiFastPath(boolean b) {
+			options.put(Keys.AsciiFastPath, b);
+			return this;
+		}
+		
+		/**
+		 * @see Keys#ByteInput
+		 * @param b
+		 * @return {@code this}
+		 */
+		public Builder byteInput(boolean b) {
+			options.put(Keys.ByteInput, b);
+			return this;
+		}
+		
+		/**
+		 * @see Keys#BufferSize
+		 * @param n
+		 * @return {@code this}
+		 */
+		public Builder bufferSize(int n) {
+			options.put(Keys.BufferSize, n);
+			return this;
+		}
+		
+		/**
+		 * @see Keys#MaxTokenLength
+		 * @param n
+		 * @return {@code this}
+		 */
+		public Builder maxTokenLength(int n) {
+			options.put(Keys.MaxTokenLength, n);
+			return this;
+		}
+		
+		/**
+		 * @see Keys#KeywordHashing
+		 * @param b
+		 * @return {@code this}
+		 */
+		public Builder keywordHashing(boolean b) {
+			options.put(Keys.KeywordHashing, b);
+			return this;
+		}
+		
+		/**
+		 * @see Keys#MinimizeAutomata
+		 * @param b
+		 * @return {@code this}
+		 */
+		public Builder minimizeAutomata(boolean b) {
+			options.put(Keys.MinimizeAutomata, b);
+			return this;
+		}
+		
 		/**
 		 * @return the configuration from this builder's state
 		 */
@@ -5,6 +5,7 @@ import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.TreeMap;
 
 import org.eclipse.jdt.annotation.NonNull;
@@ -16,6 +17,7 @@ import org.stekikun.dolmen.common.CSet;
 import org.stekikun.dolmen.common.Hierarchy;
 import org.stekikun.dolmen.common.Lists;
 import org.stekikun.dolmen.common.Nulls;
+import org.stekikun.dolmen.common.Sets;
 
 /**
  * An instance of {@link DecisionTree} describes the transition table 
@@ -249,7 +251,7 @@ public abstract class DecisionTree {
 
 		@Override
 		public CSet getDomain() {
-			return CSet.interval(base, (char)(base + table.length));
+			return CSet.interval(base, (char)(base + table.length - 1));
 		}
 
 		@Override
@@ -420,16 +422,32 @@ public abstract class DecisionTree {
 			final char first;
 			final char last;
 			final TransActions trans;
+			/**
+			 * If non-null, this segment stands for a cluster of segments
+			 * which have been gathered in this jump table, and {@link #trans}
+			 * is irrelevant
+			 */
+			final @Nullable Table table;
 			
 			Segment(char first, char last, TransActions trans) {
 				if (last < first) throw new IllegalArgumentException();
 				this.first = first;
 				this.last = last;
 				this.trans = trans;
+				this.table = null;
+			}
+			
+			Segment(Table table) {
+				this.first = table.base;
+				this.last = (char) (table.base + table.table.length - 1);
+				this.trans = table.table[0];
+				this.table = table;
 			}
 			
 			@Override
 			public String toString() {
+				if (table != null)
+					return String.format("%s -> TABLE", CSet.interval(first, last));
 				return String.format("%s -> %s", CSet.interval(first, last), trans);
 			}
 			
@@ -512,6 +530,9 @@ public abstract class DecisionTree {
 		
 		private static final int SWITCH_LIMIT = 64;	// enough for [_0-9a-zA-Z]
 		private static final int SPLIT_LIMIT = 4;
+		private static final int TABLE_LIMIT = 256;	// maximal span of a table
+		private static final int TABLE_MIN_SEGMENTS = 16;	// would need 4+ splits otherwise
+		private static final int TABLE_MAX_ACTIONS = 128;	// indices must fit in a byte
 		
 		static DecisionTree compile(TreeMap<@NonNull CSet, @NonNull TransActions> partition) {
 			// Strategy: try to minimize some notion of 'cost' which will account
@@ -527,10 +548,13 @@ public abstract class DecisionTree {
 			// - as far as efficiency is concerned, there is no guarantee as to what
 			//   the Java compiler will do with the switch, it may use a lookupswitch
 			//   or a tableswitch. If there aren't too many gaps in the chars, it will probably
-			//   use a table switch [NB: FOR THAT REASON I WON'T USE DecisionTree.Table
-			//   FOR THE MOMENT]. Lookupswitch may be executed as an if cascade or something
+			//   use a table switch. Lookupswitch may be executed as an if cascade or something
 			//   better but I won't rely on it and large switches should be implemented as
 			//   balanced decision trees.
+			// - when the partition is too fragmented for a switch but the remaining
+			//   segments are confined to a small range of characters (typically
+			//   Unicode letter classes), a DecisionTree.Table is used: it costs
+			//   one array load and one dense switch instead of a chain of splits.
 			
 			// Strategy for now : evaluate the length of a potential switch-block for
 			//	the current partition, and if it exceeds a certain number (say 64 or 128)
@@ -542,10 +566,45 @@ public abstract class DecisionTree {
 			int allNonDefault = sizeForSwitch(partition.keySet());
 			if (allNonDefault <= SWITCH_LIMIT)
 				return switchTable(partition);
-			List<Segment> segments = segments(partition);
+			List<Segment> segments = clusters(segments(partition));
 			return balance(0, segments, 0, segments.size());
 		}
 		
+		/**
+		 * Looks for dense clusters of segments in the given sorted list,
+		 * i.e. runs of at least {@link #TABLE_MIN_SEGMENTS} segments spanning
+		 * no more than {@link #TABLE_LIMIT} characters, and replaces
+		 * each of them by a single segment standing for a jump table.
+		 * Clusters are chosen greedily from the left.
+		 * 
+		 * @param segments
+		 * @return the list of segments where dense clusters have been tabulated
+		 */
+		private static List<Segment> clusters(List<Segment> segments) {
+			final int n = segments.size();
+			if (n < TABLE_MIN_SEGMENTS) return segments;
+			final List<Segment> res = new ArrayList<>(n);
+			int i = 0;
+			while (i < n) {
+				// Find the longest run of segments starting at i which 
+				// fits in a table, and the number of different actions in it
+				final char first = segments.get(i).first;
+				Set<TransActions> actions = Sets.create();
+				int j = i;
+				while (j < n && segments.get(j).last - first < TABLE_LIMIT) {
+					actions.add(segments.get(j).trans);
+					++j;
+				}
+				if (j - i >= TABLE_MIN_SEGMENTS && actions.size() <= TABLE_MAX_ACTIONS) {
+					res.add(new Segment(tabulate(segments, i, j - i)));
+					i = j;
+				}
+				else
+					res.add(segments.get(i++));
+			}
+			return res;
+		}
+		
 		private static DecisionTree balance(int depth, List<Segment> segments, int from, int length) {
 			if (from < 0 || from >= segments.size())
 				throw new IllegalArgumentException(
@@ -554,18 +613,24 @@ public abstract class DecisionTree {
 				throw new IllegalArgumentException(
 					String.format("Invalid range %d (size %d, from %d)", length, segments.size(), from));
 			
-			if (length == 1)
+			if (length == 1) {
 				// If the remainder of the partition is just one segment, we're done
-				return ret(segments.get(from).trans);
+				Segment segment = segments.get(from);
+				@Nullable Table table = segment.table;
+				return table == null ? ret(segment.trans) : table;
+			}
 			
 			// If the classes left are amenable for a switch-block, let's do it
 			// We divide the maximum size for a switch by 2^depth for the worst case
 			// where every leaf would contain a big switch
-			TreeMap<@NonNull CSet, @NonNull TransActions> part =
-				partitionOf(segments, from, length);
-			int allNonDefault = sizeForSwitch(part.keySet());
-			if (allNonDefault <= Math.max(SPLIT_LIMIT, SWITCH_LIMIT >> depth))
-				return switchTable(part);
+			// (this is not possible if some of the segments were tabulated)
+			if (!hasTable(segments, from, length)) {
+				TreeMap<@NonNull CSet, @NonNull TransActions> part =
+					partitionOf(segments, from, length);
+				int allNonDefault = sizeForSwitch(part.keySet());
+				if (allNonDefault <= Math.max(SPLIT_LIMIT, SWITCH_LIMIT >> depth))
+					return switchTable(part);
+			}
 			
 			// Otherwise let us look for a pivot. It is not important that the total
 			// cardinality of the segments be balanced across the pivot, but instead we
@@ -576,6 +641,25 @@ public abstract class DecisionTree {
 			DecisionTree rightTree = balance(depth + 1, segments, from + half, length - half);
 			return split(pivotSegment.last, leftTree, rightTree);
 		}
+		
+		private static boolean hasTable(List<Segment> segments, int from, int length) {
+			for (int i = from; i < from + length; ++i)
+				if (segments.get(i).table != null) return true;
+			return false;
+		}
+		
+		private static Table tabulate(List<Segment> segments, int from, int length) {
+			final char base = segments.get(from).first;
+			final char last = segments.get(from + length - 1).last;
+			TransActions table[] = new TransActions[last - base + 1];
+			for (int i = from; i < from + length; ++i) {
+				Segment segi = segments.get(i);
+				for (int c = segi.first; c <= segi.last; ++c)
+					table[c - base] = segi.trans;
+			}
+			// Segments are contiguous, so all cells in table are initialized
+			return new Table(base, Nulls.arrayOk(table));
+		}
 	}
 	
 	/**
@@ -590,6 +674,44 @@ public abstract class DecisionTree {
 		return tree;
 	}
 	
+	/**
+	 * Same as {@link #compile(TreeMap)} except that characters below
+	 * {@code limit} are always handled first, and via a single
+	 * {@linkplain Table table} unless they all share the same transition.
+	 * Only the remaining characters are dispatched with a compiled
+	 * decision tree. This is typically used with {@code limit = 128}
+	 * in order to provide a fast path for ASCII input.
+	 * 
+	 * @param partition	a transition table for a lexer's automaton cell,
+	 * 		mapping sets of characters to the associated shifting action
+	 * @param limit		must be between {@code 1} and {@code 256}
+	 * @return a decision tree that encodes the given transition table {@code partition}
+	 * 	and tests characters below {@code limit} first
+	 */
+	public static DecisionTree compileWithFastPath(
+			TreeMap<@NonNull CSet, @NonNull TransActions> partition, char limit) {
+		if (limit < 1 || limit > Compiling.TABLE_LIMIT)
+			throw new IllegalArgumentException("Invalid fast path limit: " + (int) limit);
+		final @Nullable TransActions fast[] = new TransActions[limit];
+		final TreeMap<@NonNull CSet, @NonNull TransActions> rest = new TreeMap<>();
+		final CSet low = CSet.interval((char) 0, (char) (limit - 1));
+		final CSet high = CSet.interval(limit, (char) 0xFFFF);
+		partition.forEach((cset, trans) -> {
+			CSet.inter(cset, low).forEach(c -> fast[c] = trans);
+			CSet hcset = CSet.inter(cset, high);
+			if (!hcset.isEmpty()) rest.put(hcset, trans);
+		});
+		// The partition is exhaustive so all cells in fast are initialized
+		final @NonNull TransActions table[] = Nulls.arrayOk(fast);
+		boolean uniform = true;
+		for (TransActions trans : table)
+			uniform &= trans == table[0];
+		final DecisionTree left = uniform ? ret(table[0]) : tabulated((char) 0, table);
+		final DecisionTree right = rest.isEmpty() ? IMPOSSIBLE :
+			clamp(Compiling.compile(rest), limit, (char) 0xFFFF);
+		return split((char) (limit - 1), left, right);
+	}
+	
 	
 	// ========================================================
 	//   LOCAL TESTING
@@ -652,5 +774,24 @@ public abstract class DecisionTree {
 			CSet.complement(map2.keySet().stream().reduce(CSet.EMPTY, CSet::union)));
 		map3.put(others, rewind.transActions);
 		compile(map3);
+		
+		// Alternating classes, such as upper/lower case letters in
+		// Latin Extended-A, should result in jump tables
+		CSet even = CSet.EMPTY;
+		CSet odd = CSet.EMPTY;
+		for (char c = 0x100; c < 0x180; c += 2) {
+			even = CSet.union(even, CSet.singleton(c));
+			odd = CSet.union(odd, CSet.singleton((char)(c + 1)));
+		}
+		TreeMap<@NonNull CSet, @NonNull TransActions> map4 = new TreeMap<>();
+		map4.put(even, r1.transActions);
+		map4.put(odd, r2.transActions);
+		map4.put(CSet.complement(CSet.union(even, odd)), rewind.transActions);
+		test(compile(map4));
+		
+		// With an ASCII fast path, ASCII characters are
+		// dispatched first and via a single table
+		test(compileWithFastPath(map3, (char) 128));
+		test(compileWithFastPath(map4, (char) 128));
 	}
 }
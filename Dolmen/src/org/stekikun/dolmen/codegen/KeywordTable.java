@@ -0,0 +1,149 @@
+package org.stekikun.dolmen.codegen;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * Instances of this class are perfect hash tables for the
+ * keywords of some identifier clause in a lexer entry, in the
+ * format expected by {@link LexBuffer#keyword(String[], int[], int[], int)}.
+ * <p>
+ * The tables are built with the <i>hash-and-displace</i> technique:
+ * keywords are first distributed in buckets using their hash with
+ * seed {@code 0}, and then for every bucket, starting with the
+ * largest ones, a seed is found which sends all the keywords in the
+ * bucket to free slots in the table. Seeds are searched in a
+ * deterministic order, so that the same keywords always yield the
+ * same tables.
+ *
+ * @author Stéphane Lescuyer
+ * @see org.stekikun.dolmen.tagged.Keywords
+ */
+final class KeywordTable {
+
+	/** The maximal number of seeds tried for a bucket before growing the table */
+	private static final int MAX_TRIES = 1 << 16;
+
+	/** The keywords in the table, and empty strings for free slots */
+	final String[] keywords;
+	/** The semantic actions of the keywords, and {@code -1} for free slots */
+	final int[] actions;
+	/** The seeds used for every bucket */
+	final int[] seeds;
+
+	private KeywordTable(String[] keywords, int[] actions, int[] seeds) {
+		this.keywords = keywords;
+		this.actions = actions;
+		this.seeds = seeds;
+	}
+
+	private static int pow2(int n) {
+		int res = 1;
+		while (res < n) res <<= 1;
+		return res;
+	}
+
+	/**
+	 * When {@code utf8} holds, the keywords are stored as their
+	 * UTF-8 encoding, one byte per character, as expected by
+	 * lexers based on {@link ByteLexBuffer}.
+	 *
+	 * @param keywords	the keywords and their semantic actions
+	 * @param utf8
+	 * @return a perfect hash table for the given keywords
+	 */
+	static KeywordTable build(Map<String, Integer> keywords, boolean utf8) {
+		final int n = keywords.size();
+		final List<char[]> keys = new ArrayList<>(n);
+		final int[] acts = new int[n];
+		int k = 0;
+		for (Map.Entry<String, Integer> entry : keywords.entrySet()) {
+			keys.add(utf8 ? encode(entry.getKey()) : entry.getKey().toCharArray());
+			acts[k++] = entry.getValue();
+		}
+		final int nbuckets = pow2((n + 1) / 2);
+		for (int size = pow2(2 * n); ; size <<= 1) {
+			final @Nullable KeywordTable res = tryBuild(keys, acts, nbuckets, size);
+			if (res != null) return res;
+		}
+	}
+
+	private static char[] encode(String s) {
+		final byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+		final char[] res = new char[bytes.length];
+		for (int i = 0; i < bytes.length; ++i)
+			res[i] = (char) (bytes[i] & 0xFF);
+		return res;
+	}
+
+	private static int hash(int seed, char[] key) {
+		return LexBuffer.keywordHash(seed, key, 0, key.length);
+	}
+
+	private static @Nullable KeywordTable tryBuild(
+			List<char[]> keys, int[] acts, int nbuckets, int size) {
+		final List<List<Integer>> buckets = new ArrayList<>(nbuckets);
+		for (int b = 0; b < nbuckets; ++b)
+			buckets.add(new ArrayList<>());
+		for (int k = 0; k < keys.size(); ++k)
+			buckets.get(hash(0, keys.get(k)) & (nbuckets - 1)).add(k);
+		// Place larger buckets first, the sort is stable
+		final List<Integer> order = new ArrayList<>(nbuckets);
+		for (int b = 0; b < nbuckets; ++b) order.add(b);
+		order.sort(Comparator.comparingInt((Integer b) -> -buckets.get(b).size()));
+
+		final int[] seeds = new int[nbuckets];
+		final int[] slots = new int[size];
+		Arrays.fill(slots, -1);
+		for (int b : order) {
+			final List<Integer> bucket = buckets.get(b);
+			if (bucket.isEmpty()) break;
+			final int[] targets = new int[bucket.size()];
+			int seed = 1;
+			for (; seed <= MAX_TRIES; ++seed) {
+				if (fits(keys, bucket, seed, slots, targets)) break;
+			}
+			if (seed > MAX_TRIES) return null;
+			seeds[b] = seed;
+			for (int i = 0; i < targets.length; ++i)
+				slots[targets[i]] = bucket.get(i);
+		}
+
+		final String[] keywords = new String[size];
+		final int[] actions = new int[size];
+		for (int s = 0; s < size; ++s) {
+			final int k = slots[s];
+			keywords[s] = k < 0 ? "" : new String(keys.get(k));
+			actions[s] = k < 0 ? -1 : acts[k];
+		}
+		return new KeywordTable(keywords, actions, seeds);
+	}
+
+	/**
+	 * @param keys
+	 * @param bucket
+	 * @param seed
+	 * @param slots
+	 * @param targets	filled with the slots of the keys in {@code bucket}
+	 * @return whether all the keys in {@code bucket} are sent to
+	 * 	distinct free slots when hashed with {@code seed}
+	 */
+	private static boolean fits(List<char[]> keys, List<Integer> bucket,
+			int seed, int[] slots, int[] targets) {
+		final int mask = slots.length - 1;
+		for (int i = 0; i < targets.length; ++i) {
+			final int slot = hash(seed, keys.get(bucket.get(i))) & mask;
+			if (slots[slot] >= 0) return false;
+			for (int j = 0; j < i; ++j)
+				if (targets[j] == slot) return false;
+			targets[i] = slot;
+		}
+		return true;
+	}
+}
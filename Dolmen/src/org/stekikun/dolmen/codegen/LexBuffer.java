@@ -1,6 +1,7 @@
 package org.stekikun.dolmen.codegen;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.PrimitiveIterator;
@@ -42,7 +43,8 @@ public class LexBuffer {
 	 * {@link LexBuffer}s do not manage line numbers by themselves, only absolute
 	 * character offsets, so that updating {@link #line} and {@link #bol} is
 	 * the responsibility of the lexer's semantic actions.
-	 * See {@link LexBuffer#newline()}.
+	 * See {@link LexBuffer#newline()}. Alternatively, lines can be
+	 * {@linkplain LexBuffer#enableLineIndex() indexed} by the lexer buffer.
 	 * <p>
 	 * Instances of this class are <i>immutable</i> so the lexer must create
 	 * new ones when updating them, but a parser using this lexer or semantic
@@ -127,6 +129,30 @@ public class LexBuffer {
             this.pos = pos;
         }
     }
+    
+    /**
+     * Exception raised by lexers whose input is 
+     * {@linkplain LexBuffer#feed(java.nio.CharBuffer) fed incrementally},
+     * when they need more input to decide on the next token. It
+     * is raised by entries called via {@link LexBuffer#poll(Supplier)},
+     * which restores the lexer in a state from which the call can be
+     * retried once more input is available.
+     * <p>
+     * There is only one instance of this exception, which carries
+     * no stack trace.
+     * 
+     * @see LexBuffer#reset(String)
+     */
+    public static final class NeedInput extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+        
+        /** The only instance of this exception */
+        public static final NeedInput INSTANCE = new NeedInput();
+        
+        private NeedInput() {
+        	super("More input is needed", null, false, false);
+        }
+    }
 
 	/**
 	 * A container class describing the lexer state with respect to some input
@@ -165,7 +191,13 @@ public class LexBuffer {
 		final int curPos;
 
 		/** Current token position */
-		protected Position curLoc;
+		final Position curLoc;
+		
+		/** The index of line starts in this input, if any */
+		final @Nullable LineIndex lineIndex;
+		
+		/** Whether this input is fed incrementally */
+		final boolean fed;
 
 		Input(LexBuffer lexbuf) {
 			this.filename = lexbuf.filename;
@@ -175,7 +207,275 @@ public class LexBuffer {
 			this.absPos = lexbuf.absPos;
 			this.eofReached = lexbuf.eofReached;
 			this.curPos = lexbuf.curPos;
-			this.curLoc = lexbuf.curLoc;
+			this.curLoc = lexbuf.getLexemeEnd();
+			this.lineIndex = lexbuf.lineIndex;
+			this.fed = lexbuf.fed;
+		}
+	}
+	
+	/**
+	 * An index of the offsets at which lines start in some input,
+	 * which is filled as characters are read from the input and
+	 * which can be used to resolve the line of any offset in
+	 * the input, by binary search.
+	 * <p>
+	 * Line terminators are {@code '\n'}, {@code '\r'} and {@code "\r\n"}.
+	 * 
+	 * @author Stéphane Lescuyer
+	 */
+	static final class LineIndex {
+		/** The offsets at which lines start, in increasing order */
+		private int[] starts;
+		/** The number of valid entries in {@link #starts} */
+		private int size;
+		/** The offset following the last {@code '\r'} found, or {@code -1} */
+		private int afterCR;
+		
+		LineIndex() {
+			this.starts = new int[64];
+			this.starts[0] = 0;
+			this.size = 1;
+			this.afterCR = -1;
+		}
+		
+		private void add(int start) {
+			if (size == starts.length)
+				starts = Arrays.copyOf(starts, 2 * size);
+			starts[size++] = start;
+		}
+		
+		/**
+		 * Records the line starts found in the characters of
+		 * {@code buf} between {@code from} and {@code to} (exclusive),
+		 * which must immediately follow the characters already indexed
+		 * 
+		 * @param buf
+		 * @param from
+		 * @param to
+		 * @param absPos	the absolute offset of {@code buf[0]}
+		 */
+		void scan(char[] buf, int from, int to, int absPos) {
+			for (int i = from; i < to; ++i) {
+				final char c = buf[i];
+				if (c > '\r') continue;
+				if (c == '\n') {
+					final int off = absPos + i;
+					// Lines ending with "\r\n" start after the '\n'
+					if (afterCR == off)
+						starts[size - 1] = off + 1;
+					else
+						add(off + 1);
+				}
+				else if (c == '\r') {
+					afterCR = absPos + i + 1;
+					add(afterCR);
+				}
+			}
+		}
+		
+		/**
+		 * @param filename
+		 * @param offset
+		 * @return the position at the given {@code offset}
+		 * 	in the input described by {@code filename}
+		 */
+		Position resolve(String filename, int offset) {
+			int lo = 0, hi = size - 1;
+			// Find the last line start before offset
+			while (lo < hi) {
+				int mid = (lo + hi + 1) >>> 1;
+				if (starts[mid] <= offset) lo = mid;
+				else hi = mid - 1;
+			}
+			return new Position(filename, offset, lo + 1, starts[lo]);
+		}
+	}
+	
+	/**
+	 * A bounded table of canonical strings for lexemes, which is
+	 * looked up directly with a range of characters in a buffer,
+	 * so that frequent lexemes such as identifiers and keywords can
+	 * be returned without allocating new strings.
+	 * <p>
+	 * The table uses open addressing with a short linear probe
+	 * sequence. When a lexeme is not found and all slots in its probe
+	 * sequence are taken, it evicts the entry in its first slot,
+	 * so that the table never holds more than {@link #CAPACITY} strings.
+	 * 
+	 * @author Stéphane Lescuyer
+	 */
+	static final class LexemeTable {
+		/** The number of slots in the table, a power of 2 */
+		static final int CAPACITY = 1024;
+		/** The maximal length of lexemes stored in the table */
+		static final int MAX_LENGTH = 64;
+		/** The maximal number of slots looked up for a lexeme */
+		private static final int PROBES = 4;
+		
+		/** The interned strings, or {@code null} for free slots */
+		private final @Nullable String[] entries;
+		/** The hash codes of the interned strings */
+		private final int[] hashes;
+		
+		LexemeTable() {
+			this.entries = new @Nullable String[CAPACITY];
+			this.hashes = new int[CAPACITY];
+		}
+		
+		/**
+		 * @param buf
+		 * @param start
+		 * @param end
+		 * @return a string with the characters in {@code buf} between
+		 * 	{@code start} and {@code end} (exclusive), which is shared
+		 * 	with previous calls as long as it remains in the table
+		 */
+		String intern(char[] buf, int start, int end) {
+			final int length = end - start;
+			if (length > MAX_LENGTH)
+				return new String(buf, start, length);
+			int h = 0;
+			for (int i = start; i < end; ++i)
+				h = 31 * h + buf[i];
+			final int home = (h ^ (h >>> 16)) & (CAPACITY - 1);
+			for (int p = 0; p < PROBES; ++p) {
+				final int slot = (home + p) & (CAPACITY - 1);
+				final @Nullable String entry = entries[slot];
+				if (entry == null) 
+					return store(slot, h, buf, start, length);
+				if (hashes[slot] == h && matches(entry, buf, start, length))
+					return entry;
+			}
+			return store(home, h, buf, start, length);
+		}
+		
+		private String store(int slot, int h, char[] buf, int start, int length) {
+			final String res = new String(buf, start, length);
+			entries[slot] = res;
+			hashes[slot] = h;
+			return res;
+		}
+		
+		private static boolean matches(String s, char[] buf, int start, int length) {
+			if (s.length() != length) return false;
+			for (int i = 0; i < length; ++i)
+				if (s.charAt(i) != buf[start + i]) return false;
+			return true;
+		}
+	}
+	
+	/**
+	 * Records the state of a lexer buffer before some entry is
+	 * {@linkplain LexBuffer#poll(Supplier) polled}, so that it can
+	 * be restored if the entry needs more input than is available.
+	 * Instances are reused from one call to the next.
+	 * <p>
+	 * In the {@linkplain Config.LexerStyle#LOOP loop} and
+	 * {@linkplain Config.LexerStyle#TABLES table-driven} styles, it also
+	 * records the state of the last token match which was interrupted for
+	 * lack of input, i.e. the automaton cell, the memory cells and the last
+	 * action and its position, so that this match can be resumed where it
+	 * stopped instead of being started all over again. Offsets in this 
+	 * state are absolute, since the buffer can be flushed in the meantime.
+	 * 
+	 * @author Stéphane Lescuyer
+	 */
+	private static final class Checkpoint {
+		int curPos;
+		@Nullable Position startLoc;
+		@Nullable Position curLoc;
+		String startFilename = "";
+		int startOffset;
+		int startLine;
+		int startBol;
+		String curFilename = "";
+		int curOffset;
+		int curLine;
+		int curBol;
+		
+		void save(LexBuffer lexbuf) {
+			curPos = lexbuf.curPos;
+			startLoc = lexbuf.startLoc;
+			curLoc = lexbuf.curLoc;
+			startFilename = lexbuf.startFilename;
+			startOffset = lexbuf.startOffset;
+			startLine = lexbuf.startLine;
+			startBol = lexbuf.startBol;
+			curFilename = lexbuf.curFilename;
+			curOffset = lexbuf.curOffset;
+			curLine = lexbuf.curLine;
+			curBol = lexbuf.curBol;
+		}
+		
+		void restore(LexBuffer lexbuf) {
+			lexbuf.startPos = curPos;
+			lexbuf.curPos = curPos;
+			lexbuf.lastPos = curPos;
+			lexbuf.lastAction = -1;
+			lexbuf.startLoc = startLoc;
+			lexbuf.curLoc = curLoc;
+			lexbuf.startFilename = startFilename;
+			lexbuf.startOffset = startOffset;
+			lexbuf.startLine = startLine;
+			lexbuf.startBol = startBol;
+			lexbuf.curFilename = curFilename;
+			lexbuf.curOffset = curOffset;
+			lexbuf.curLine = curLine;
+			lexbuf.curBol = curBol;
+		}
+		
+		/**
+		 * The cell from whose transitions the interrupted match
+		 * must be resumed, or {@code -1} if there is none
+		 */
+		int matchCell = -1;
+		/** Whether the match was interrupted during the current poll */
+		boolean matchFresh;
+		/** Whether the match was started by the polled entry call itself */
+		boolean matchTop;
+		/** The initial cell of the automaton performing the match */
+		int matchInitial;
+		int matchStart;
+		int matchPos;
+		int matchAction;
+		int matchLastPos;
+		int[] matchMemory = NO_MEMORY;
+		
+		void suspend(LexBuffer lexbuf, int cell) {
+			final int abs = lexbuf.absPos;
+			matchCell = cell;
+			matchFresh = true;
+			matchTop = lexbuf.matchTop;
+			matchInitial = lexbuf.matchInitial;
+			matchStart = abs + lexbuf.startPos;
+			matchPos = abs + lexbuf.curPos;
+			matchAction = lexbuf.lastAction;
+			matchLastPos = abs + lexbuf.lastPos;
+			final int[] memory = lexbuf.memory;
+			if (matchMemory.length != memory.length)
+				matchMemory = new int[memory.length];
+			for (int i = 0; i < memory.length; ++i) {
+				final int v = memory[i];
+				matchMemory[i] = v < 0 ? v : abs + v;
+			}
+		}
+		
+		int resume(LexBuffer lexbuf, int initial) {
+			final int abs = lexbuf.absPos;
+			final int[] memory = lexbuf.memory;
+			if (initial != matchInitial || abs + lexbuf.startPos != matchStart
+				|| memory.length != matchMemory.length)
+				return initial;
+			final int cell = matchCell;
+			matchCell = -1;
+			lexbuf.curPos = matchPos - abs;
+			lexbuf.lastAction = matchAction;
+			lexbuf.lastPos = matchLastPos - abs;
+			for (int i = 0; i < memory.length; ++i) {
+				final int v = matchMemory[i];
+				memory[i] = v < 0 ? v : v - abs;
+			}
+			return ~cell;
 		}
 	}
 	
@@ -197,7 +497,9 @@ public class LexBuffer {
 		// the compiler with respect to final or non-nullable fields.
     	this.filename = filename;
     	this.reader = reader;
-    	this.tokenBuf = new char[1024];
+    	// The buffer is only allocated upon the first refill, so that
+    	// its size can be configured with #setBufferLimits beforehand
+    	this.tokenBuf = NO_CHARS;
     	this.bufLimit = 0;
     	this.absPos = 0;
     	this.eofReached = false;
@@ -205,11 +507,146 @@ public class LexBuffer {
     	this.curPos = 0;
     	this.lastAction = -1;
     	this.lastPos = 0;
-    	this.memory = new int[0];
-    	this.startLoc = new Position(filename);
-    	this.curLoc = startLoc;
+    	this.memory = NO_MEMORY;
+    	this.startLoc = null;
+    	this.curLoc = null;
+    	this.startFilename = this.curFilename = filename;
+    	this.startLine = this.curLine = 1;
+    }
+    
+    /**
+     * Constructs a new lexer buffer which reads the {@code length}
+     * characters of {@code chars} starting at index {@code offset}.
+     * <p>
+     * The array is used in place as the lexer's buffer, i.e. it is
+     * neither copied nor modified by the lexer, and must not be
+     * modified by the caller while the lexer is in use. Offsets in
+     * positions are relative to {@code offset}.
+     *
+	 * @param version	the version of Dolmen which generated the subclass
+     * @param filename
+     * @param chars
+     * @param offset
+     * @param length
+	 * @throws DolmenVersionException if {@code version} is not equal to
+	 * 	the version of this {@code LexBuffer}
+	 * @throws IndexOutOfBoundsException if {@code offset} and {@code length}
+	 * 	do not describe a valid range of {@code chars}
+     */
+    protected LexBuffer(String version, 
+    		@Nullable String filename, char @Nullable[] chars, int offset, int length) {
+    	DolmenVersionException.checkLexer(version);
+    	if (filename == null || chars == null)
+    		throw new IllegalArgumentException();
+    	if (offset < 0 || length < 0 || offset > chars.length - length)
+    		throw new IndexOutOfBoundsException(
+    			"Invalid range [" + offset + ", " + offset + " + " + length + "[");
+    	this.filename = filename;
+    	this.reader = NO_READER;
+    	this.tokenBuf = chars;
+    	this.bufLimit = offset + length;
+    	this.absPos = -offset;
+    	// All the input is readily available in the buffer, so
+    	// there is no need to ever refill it
+    	this.eofReached = true;
+    	this.startPos = offset;
+    	this.curPos = offset;
+    	this.lastAction = -1;
+    	this.lastPos = offset;
+    	this.memory = NO_MEMORY;
+    	this.startLoc = null;
+    	this.curLoc = null;
+    	this.startFilename = this.curFilename = filename;
+    	this.startLine = this.curLine = 1;
+    }
+    
+    /**
+     * Constructs a new lexer buffer which reads the characters in
+     * {@code input}. 
+     * <p>
+     * When {@code input} is a {@link java.nio.CharBuffer} backed by
+     * an accessible array, the latter is used in place as described in
+     * {@link #LexBuffer(String, String, char[], int, int)}. Otherwise, 
+     * the characters are copied once and for all in the lexer's buffer,
+     * which is never refilled afterwards.
+     * 
+	 * @param version	the version of Dolmen which generated the subclass
+     * @param filename
+     * @param input
+	 * @throws DolmenVersionException if {@code version} is not equal to
+	 * 	the version of this {@code LexBuffer}
+     */
+    protected LexBuffer(String version,
+    		@Nullable String filename, @Nullable CharSequence input) {
+    	this(version, filename, charsOf(input), offsetOf(input),
+    		input == null ? 0 : input.length());
+    }
+    
+    /**
+     * @param input
+     * @return an array containing the characters of {@code input}
+     * 	starting at index {@link #offsetOf(CharSequence) offsetOf(input)},
+     * 	which is only a copy if {@code input} has no accessible backing array
+     */
+    private static char[] charsOf(@Nullable CharSequence input) {
+    	if (input == null)
+    		throw new IllegalArgumentException();
+    	if (input instanceof java.nio.CharBuffer) {
+    		java.nio.CharBuffer cb = (java.nio.CharBuffer) input;
+    		if (cb.hasArray()) return cb.array();
+    	}
+    	final char[] chars = new char[input.length()];
+    	copyChars(input, chars);
+    	return chars;
+    }
+    
+    /**
+     * Copies the characters of {@code input} at the start of {@code chars}
+     * 
+     * @param input
+     * @param chars		must be at least as long as {@code input}
+     */
+    private static void copyChars(CharSequence input, char[] chars) {
+    	final int length = input.length();
+    	if (input instanceof String)
+    		((String) input).getChars(0, length, chars, 0);
+    	else if (input instanceof StringBuilder)
+    		((StringBuilder) input).getChars(0, length, chars, 0);
+    	else {
+    		for (int i = 0; i < length; ++i)
+    			chars[i] = input.charAt(i);
+    	}
     }
     
+    /**
+     * @param input
+     * @return the index where the characters of {@code input}
+     * 	start in {@link #charsOf(CharSequence) charsOf(input)}
+     */
+    private static int offsetOf(@Nullable CharSequence input) {
+    	if (input instanceof java.nio.CharBuffer) {
+    		java.nio.CharBuffer cb = (java.nio.CharBuffer) input;
+    		if (cb.hasArray()) return cb.arrayOffset() + cb.position();
+    	}
+    	return 0;
+    }
+    
+    /**
+     * A character stream which is always at end-of-input, and is used
+     * by lexer buffers reading directly from in-memory characters
+     */
+    private static final java.io.Reader NO_READER = new java.io.Reader() {
+		@Override
+		public int read(char[] cbuf, int off, int len) {
+			return -1;
+		}
+
+		@Override
+		public void close() {
+			// Nothing to do
+		}
+	};
+    
 	/**
 	 * Resets this lexer buffer to read from the start of the given 
 	 * input source
@@ -218,19 +655,345 @@ public class LexBuffer {
 	 * @param reader		input character stream
 	 */
 	private void init(String filename, java.io.Reader reader) {
+		init(filename, reader, NO_CHARS, 0, 0, false);
+	}
+	
+	/**
+	 * Resets this lexer buffer to read from the start of the given 
+	 * input source, whose first {@code length} characters are 
+	 * already available in {@code buf} at index {@code offset}
+	 * 
+	 * @param filename		name describing the input
+	 * @param reader		input character stream
+	 * @param buf			the buffer to use
+	 * @param offset		
+	 * @param length
+	 * @param eof			whether {@code reader} is known to be exhausted
+	 */
+	private void init(String filename, java.io.Reader reader,
+			char[] buf, int offset, int length, boolean eof) {
 		this.filename = filename;
 		this.reader = reader;
-		this.tokenBuf = new char[1024];
-		this.bufLimit = 0;
-		this.absPos = 0;
-		this.eofReached = false;
-		this.startPos = 0;
-		this.curPos = 0;
+		this.tokenBuf = buf;
+		this.bufLimit = offset + length;
+		this.absPos = -offset;
+		this.eofReached = eof;
+		this.fed = false;
+		this.startPos = offset;
+		this.curPos = offset;
 		this.lastAction = -1;
-		this.lastPos = 0;
-		this.memory = new int[0];
-		this.startLoc = hasPositions ? new Position(filename) : DUMMY_POS;
+		this.lastPos = offset;
+		this.memory = NO_MEMORY;
+		this.startLoc = hasPositions ? null : DUMMY_POS;
 		this.curLoc = startLoc;
+		this.startFilename = this.curFilename = filename;
+		this.startOffset = this.curOffset = 0;
+		this.startLine = this.curLine = 1;
+		this.startBol = this.curBol = 0;
+		forgetMatch();
+		if (lineIndex != null) {
+			final LineIndex index = new LineIndex();
+			index.scan(buf, offset, offset + length, absPos);
+			this.lineIndex = index;
+		}
+	}
+	
+	/**
+	 * Resets this lexer buffer so that it analyzes the given character
+	 * stream from the start, as a freshly constructed lexer would. 
+	 * <p>
+	 * Unlike constructing a new lexer though, the buffer which was
+	 * allocated by this lexer during previous analyses is reused,
+	 * unless it grew larger than the {@linkplain #getBufferSize()
+	 * configured size}. The input stack is cleared, and the input
+	 * streams in use until then are <i>not</i> closed. Whether positions
+	 * are {@linkplain #disablePositions() disabled} or lines
+	 * {@linkplain #enableLineIndex() indexed} is left unchanged.
+	 * <p>
+	 * This can be used to analyze many inputs with the same lexer, 
+	 * or to keep lexers in a pool, e.g. one per thread.
+	 * 
+	 * @param filename		name describing the input
+	 * @param reader		input character stream
+	 */
+	public void reset(@Nullable String filename, java.io.@Nullable Reader reader) {
+		if (filename == null || reader == null)
+			throw new IllegalArgumentException();
+		char @Nullable[] buf = ownBuf;
+		if (buf == null || buf.length > bufferSize) {
+			// Shrink back a buffer which grew too large
+			buf = NO_CHARS;
+			ownBuf = null;
+		}
+		inputs = null;
+		init(filename, reader, buf, 0, 0, false);
+	}
+	
+	/**
+	 * Resets this lexer buffer so that it analyzes the given in-memory
+	 * characters from the start, as described in 
+	 * {@link #reset(String, java.io.Reader)}.
+	 * <p>
+	 * When {@code input} is a {@link java.nio.CharBuffer} backed by
+	 * an accessible array, the latter is used in place. Otherwise,
+	 * the characters are copied in the buffer allocated by this lexer,
+	 * which is only replaced if it is not large enough.
+	 * 
+	 * @param filename		name describing the input
+	 * @param input			input characters
+	 */
+	public void reset(@Nullable String filename, @Nullable CharSequence input) {
+		if (filename == null || input == null)
+			throw new IllegalArgumentException();
+		inputs = null;
+		if (input instanceof java.nio.CharBuffer && ((java.nio.CharBuffer) input).hasArray()) {
+			init(filename, NO_READER, charsOf(input), offsetOf(input), input.length(), true);
+			return;
+		}
+		final int length = input.length();
+		char @Nullable[] buf = ownBuf;
+		if (buf == null || buf.length < length) {
+			buf = new char[length];
+			ownBuf = buf.length <= bufferSize ? buf : null;
+		}
+		copyChars(input, buf);
+		init(filename, NO_READER, buf, 0, length, true);
+	}
+	
+	/**
+	 * Resets this lexer buffer so that it analyzes input which is
+	 * not read from a stream, but <i>fed</i> incrementally by the
+	 * caller with {@link #feed(java.nio.CharBuffer)}, until
+	 * {@link #endOfInput()} is called. Otherwise, this behaves as
+	 * described in {@link #reset(String, java.io.Reader)}.
+	 * <p>
+	 * In this mode, the lexer never blocks waiting for input: entries
+	 * must be called via {@link #poll(Supplier)}, and whenever the
+	 * characters fed so far are not enough to decide on the next token,
+	 * the lexer is restored in a state from which the call can be retried
+	 * and {@link NeedInput} is thrown. The call can then be retried
+	 * once more input has been fed. This makes it possible to use
+	 * lexers on non-blocking inputs, e.g. in event-driven servers:
+	 * <pre>
+	 *   lexer.feed(chunk);
+	 *   try {
+	 *     while (true) handle(lexer.poll(lexer::main));
+	 *   } catch (LexBuffer.NeedInput e) {
+	 *     // wait for the next chunk
+	 *   }
+	 * </pre>
+	 * How a call is retried depends on the 
+	 * {@linkplain Config.LexerStyle style} of the generated lexer:
+	 * <ul>
+	 * <li> in the {@linkplain Config.LexerStyle#LOOP loop} and
+	 *   {@linkplain Config.LexerStyle#TABLES table-driven} styles, the
+	 *   match of the token which needed more input is resumed where it
+	 *   stopped. When this token was matched by the polled entry call 
+	 *   itself, i.e. not by some entry called from a semantic action, 
+	 *   the call is resumed at this token and the semantic actions of
+	 *   the former tokens are not performed again; this is the case of 
+	 *   tokens skipped with a {@code continue} statement, but not with
+	 *   a recursive call such as {@code return main();}. Otherwise, the
+	 *   call is retried from its start, as described below, and only
+	 *   the interrupted match is resumed;
+	 * <li> in the {@linkplain Config.LexerStyle#METHODS methods} style, 
+	 *   the call is always retried from its start, and all the tokens
+	 *   it matched are matched again, so that lexing a long token fed
+	 *   in small chunks takes time quadratic in the length of the token.
+	 * </ul>
+	 * When a call is retried from its start, the semantic actions it
+	 * performed are performed again, so they must not have side effects
+	 * which cannot be performed twice, besides those on the lexer's
+	 * positions. Similarly, a call can only be resumed at some token
+	 * if its semantic actions do not assign the entry's parameters.
+	 * 
+	 * @param filename		name describing the input
+	 */
+	public void reset(@Nullable String filename) {
+		if (filename == null)
+			throw new IllegalArgumentException();
+		char @Nullable[] buf = ownBuf;
+		if (buf == null || buf.length > bufferSize) {
+			buf = NO_CHARS;
+			ownBuf = null;
+		}
+		inputs = null;
+		init(filename, NO_READER, buf, 0, 0, false);
+		this.fed = true;
+	}
+	
+	/**
+	 * Appends the remaining characters of {@code chars} to the input
+	 * of this lexer, and advances the position of {@code chars}
+	 * accordingly. The characters are copied, and characters which
+	 * have already been consumed by the lexer are discarded from
+	 * the buffer at that point.
+	 * 
+	 * @param chars
+	 * @throws IllegalStateException if the input of this lexer is
+	 * 	not {@linkplain #reset(String) fed incrementally}, or if
+	 * 	{@link #endOfInput()} has already been called
+	 */
+	public void feed(java.nio.CharBuffer chars) {
+		if (!fed || eofReached)
+			throw new IllegalStateException("Lexer input cannot be fed");
+		final int length = chars.remaining();
+		final int needed = bufLimit - startPos + length;
+		// The memory cells of the last entry are stale, and
+		// must not be shifted
+		memory = NO_MEMORY;
+		if (tokenBuf.length > bufferSize && needed <= bufferSize)
+			flush(new char[bufferSize]);
+		else if (tokenBuf.length - bufLimit < length) {
+			if (needed <= tokenBuf.length) flush(tokenBuf);
+			else flush(new char[Math.max(bufferSize, needed + (needed >> 1))]);
+		}
+		chars.get(tokenBuf, bufLimit, length);
+		final @Nullable LineIndex index = lineIndex;
+		if (index != null)
+			index.scan(tokenBuf, bufLimit, bufLimit + length, absPos);
+		bufLimit += length;
+	}
+	
+	/**
+	 * Signals that all the input of this lexer has been 
+	 * {@linkplain #feed(java.nio.CharBuffer) fed}, so that 
+	 * subsequent entries can match end-of-input.
+	 * 
+	 * @throws IllegalStateException if the input of this lexer is
+	 * 	not {@linkplain #reset(String) fed incrementally}
+	 */
+	public void endOfInput() {
+		if (!fed)
+			throw new IllegalStateException("Lexer input cannot be fed");
+		eofReached = true;
+	}
+	
+	/**
+	 * Calls an entry of this lexer, such that if it throws 
+	 * {@link NeedInput} because its input is 
+	 * {@linkplain #reset(String) fed incrementally} and it needs
+	 * more input than is available, the lexer is restored in a
+	 * state from which the call can be retried, as described in
+	 * {@link #reset(String)}. For other inputs, this simply
+	 * calls {@code entry}.
+	 * 
+	 * @param entry	a call to an entry of this lexer
+	 * @return the result of {@code entry}
+	 * @throws NeedInput if the entry needs more input
+	 */
+	public final <T> T poll(Supplier<T> entry) {
+		if (!fed) return entry.get();
+		@Nullable Checkpoint ckpt = checkpoint;
+		if (ckpt == null) {
+			ckpt = new Checkpoint();
+			checkpoint = ckpt;
+		}
+		ckpt.save(this);
+		ckpt.matchFresh = false;
+		entered = 0;
+		try {
+			return entry.get();
+		} catch (NeedInput e) {
+			if (ckpt.matchFresh && ckpt.matchTop) {
+				// The polled call was matching a token in its own loop,
+				// so it can be resumed there by calling the entry again
+				curPos = startPos;
+				ckpt.save(this);
+			}
+			ckpt.restore(this);
+			throw e;
+		}
+	}
+	
+	/**
+	 * Moves this lexer buffer to the given absolute offset in its input,
+	 * as if the characters before that offset had just been consumed and
+	 * ended at the given line. This can only be used for in-memory inputs,
+	 * where lexing resumes with the character at {@code offset}, and for
+	 * input which is {@linkplain #reset(String) fed incrementally}, where
+	 * the characters fed but not consumed yet are discarded and the next
+	 * characters fed are considered to start at {@code offset}. In the
+	 * latter case, lines must not be {@linkplain #enableLineIndex() indexed}.
+	 * 
+	 * @param offset	the absolute offset at which to resume lexing
+	 * @param line		the line at {@code offset}
+	 * @param bol		the absolute offset of the beginning of that line
+	 * @throws IllegalStateException if the input is not in memory nor fed,
+	 * 	or if the input is fed and lines are indexed
+	 * @throws IndexOutOfBoundsException if {@code offset} is not in 
+	 * 	the in-memory input
+	 * @see ParallelLexer
+	 * @see org.stekikun.dolmen.debug.IncrementalTokenizer
+	 */
+	public final void restartAt(int offset, int line, int bol) {
+		final int pos;
+		if (fed) {
+			if (lineIndex != null)
+				throw new IllegalStateException("Cannot restart fed input with a line index");
+			pos = curPos;
+			this.bufLimit = pos;
+			this.absPos = offset - pos;
+			this.eofReached = false;
+		}
+		else {
+			if (reader != NO_READER)
+				throw new IllegalStateException("Lexer input is not in memory");
+			pos = offset - absPos;
+			if (pos < 0 || pos > bufLimit)
+				throw new IndexOutOfBoundsException("Invalid offset " + offset);
+		}
+		this.startPos = pos;
+		this.curPos = pos;
+		this.lastAction = -1;
+		this.lastPos = pos;
+		this.memory = NO_MEMORY;
+		this.startLoc = hasPositions ? null : DUMMY_POS;
+		this.curLoc = startLoc;
+		this.startFilename = this.curFilename = filename;
+		this.startOffset = this.curOffset = offset;
+		this.startLine = this.curLine = line;
+		this.startBol = this.curBol = bol;
+		forgetMatch();
+	}
+	
+	/**
+	 * Unlike the offset of {@link #getLexemeEnd()}, which can be
+	 * adjusted by semantic actions, this is always the offset at which
+	 * the next entry call would start.
+	 * 
+	 * @return the absolute offset of the current position in the input
+	 */
+	public final int getCurrentOffset() {
+		return absPos + curPos;
+	}
+
+	/**
+	 * Same as the offset of {@link #getLexemeStart()}, without
+	 * allocating a position. When positions are disabled, this
+	 * is the start of the last matched lexeme.
+	 *
+	 * @return the absolute offset of the last lexeme start
+	 * @see TokenBuffer
+	 */
+	final int getLexemeStartOffset() {
+		if (!hasPositions) return absPos + startPos;
+		final @Nullable Position start = startLoc;
+		return start == null ? startOffset : start.offset;
+	}
+
+	/**
+	 * Same as the offset of {@link #getLexemeEnd()}, without
+	 * allocating a position. When positions are disabled, this
+	 * is the end of the last matched lexeme.
+	 *
+	 * @return the absolute offset of the last lexeme end
+	 * @see TokenBuffer
+	 */
+	final int getLexemeEndOffset() {
+		if (!hasPositions) return absPos + curPos;
+		final @Nullable Position end = curLoc;
+		return end == null ? curOffset : end.offset;
 	}
 
 	/**
@@ -249,13 +1012,46 @@ public class LexBuffer {
     private java.io.Reader reader;
     
     /** The local character buffer */
-    private char[] tokenBuf;
+    @DolmenInternal 
+    protected char[] tokenBuf;
+    
+    /**
+     * The last character buffer allocated by this lexer buffer,
+     * if any, which is reused when the lexer is 
+     * {@linkplain #reset(String, java.io.Reader) reset}
+     */
+    private char @Nullable[] ownBuf;
+    
+    /** Empty buffer, shared by all lexers before they first read their input */
+    private static final char[] NO_CHARS = new char[0];
+    
+    /** The default value for {@link #getBufferSize()} */
+    public static final int DEFAULT_BUFFER_SIZE = 1024;
+    
+    /** The minimal value for {@link #getBufferSize()} */
+    public static final int MIN_BUFFER_SIZE = 64;
+    
+    /** 
+     * The size of buffers allocated for character streams, 
+     * and to which they are shrunk back after long tokens
+     */
+    private int bufferSize = DEFAULT_BUFFER_SIZE;
+    
+    /** The maximal number of characters in a single token */
+    private int maxTokenLength = Integer.MAX_VALUE;
+    
+    /** 
+     * The table of interned lexemes, allocated upon the first call
+     * to {@link #getInternedLexeme()}
+     */
+    private @Nullable LexemeTable lexemes = null;
 
     /** 
      * The extent of valid chars in {@link #tokenBuf},
      * i.e. the index of the first non-valid character 
      */
-    private int bufLimit;
+    @DolmenInternal 
+    protected int bufLimit;
     
     /** Absolute position of the start of the buffer */
     @DolmenInternal 
@@ -264,6 +1060,24 @@ public class LexBuffer {
     /** Whether end-of-file was reached in {@link #reader} */
     private boolean eofReached;
     
+    /** 
+     * Whether the input is {@linkplain #feed(java.nio.CharBuffer) fed}
+     * by the caller rather than read from {@link #reader}
+     */
+    private boolean fed;
+    
+    /** The state saved by {@link #poll(Supplier)}, allocated upon first use */
+    private @Nullable Checkpoint checkpoint = null;
+    
+    /** The number of entry calls since the last {@link #poll(Supplier)} */
+    private int entered;
+    
+    /** The initial cell of the automaton matching the current token */
+    private int matchInitial;
+    
+    /** Whether the current token is matched by the polled entry call itself */
+    private boolean matchTop;
+    
     /** Buffer input position of the token start */
     @DolmenInternal 
     protected int startPos;
@@ -278,21 +1092,74 @@ public class LexBuffer {
     /** Position of last action remembered */
     private int lastPos;
     
+    /**
+     * The number of tokens started so far, which lets subclasses
+     * tell when the current lexeme has changed
+     */
+    int tokens;
+    
     /** Memory cells */
     @DolmenInternal 
     protected int memory[];
     
+    /** Empty memory cells, shared by all lexers before they enter an entry */
+    private static final int[] NO_MEMORY = new int[0];
+    
     /**
      * Whether position tracking in {@link #startLoc} and {@link #curLoc}
      * is enabled. It is enabled by default.
      */
     private boolean hasPositions = true;
     
-    /** Position of the last token start */
-    protected Position startLoc;
+    /**
+     * The index of line starts in the current input, when lines
+     * are {@linkplain #enableLineIndex() indexed}, or {@code null}
+     */
+    @Nullable LineIndex lineIndex = null;
     
-    /** Current token position */
-    protected Position curLoc;
+    /**
+     * Position of the last token start, if it has been set
+     * explicitly or already been built by {@link #getLexemeStart()}.
+     * Otherwise, the position is described by {@link #startFilename},
+     * {@link #startOffset}, {@link #startLine} and {@link #startBol},
+     * so that no {@link Position} need be allocated for tokens whose
+     * position is never asked for.
+     * <p>
+     * Semantic actions can set this field to adjust the start position
+     * of the current token, but should use {@link #getLexemeStart()}
+     * to read it.
+     */
+    protected @Nullable Position startLoc;
+    
+    /**
+     * Current token position, if it has been set explicitly or
+     * already been built by {@link #getLexemeEnd()}. Otherwise,
+     * the position is described by {@link #curFilename}, 
+     * {@link #curOffset}, {@link #curLine} and {@link #curBol}.
+     * <p>
+     * Semantic actions can set this field to adjust the end position
+     * of the current token, but should use {@link #getLexemeEnd()}
+     * to read it.
+     */
+    protected @Nullable Position curLoc;
+    
+    /** Filename of the last token start, when {@link #startLoc} is {@code null} */
+    String startFilename;
+    /** Offset of the last token start, when {@link #startLoc} is {@code null} */
+    int startOffset;
+    /** Line of the last token start, when {@link #startLoc} is {@code null} */
+    int startLine;
+    /** Beginning of line of the last token start, when {@link #startLoc} is {@code null} */
+    int startBol;
+
+    /** Filename of the current position, when {@link #curLoc} is {@code null} */
+    String curFilename;
+    /** Offset of the current position, when {@link #curLoc} is {@code null} */
+    int curOffset;
+    /** Line of the current position, when {@link #curLoc} is {@code null} */
+    int curLine;
+    /** Beginning of line of the current position, when {@link #curLoc} is {@code null} */
+    int curBol;
 
     /**
      * A dummy position used for {@link #startLoc} and {@link #curLoc}
@@ -320,6 +1187,110 @@ public class LexBuffer {
     	if (!hasPositions()) return;
     	this.hasPositions = false;
     	this.startLoc = this.curLoc = DUMMY_POS;
+    	this.lineIndex = null;
+    }
+    
+    /**
+     * Enables line indexing in this lexer. In this mode, the offsets
+     * of line starts are recorded as input is read, and the lines and
+     * columns of positions are resolved from this index only when
+     * positions are actually {@linkplain #getLexemeStart() asked for}.
+     * Lines are thus always correct, whether semantic actions
+     * call {@link #newline()} or not, and {@link #newline()} is
+     * ignored altogether.
+     * <p>
+     * Should be called first before the lexer is used, and has no
+     * effect if positions are {@linkplain #disablePositions() disabled}.
+     */
+    public void enableLineIndex() {
+    	if (!hasPositions || lineIndex != null) return;
+    	final LineIndex index = new LineIndex();
+    	// In-memory inputs are already available in the buffer
+    	index.scan(tokenBuf, Math.max(0, -absPos), bufLimit, absPos);
+    	this.lineIndex = index;
+    }
+    
+    /**
+     * @return whether lines are indexed in this lexer
+     * @see #enableLineIndex()
+     */
+    public boolean hasLineIndex() {
+    	return lineIndex != null;
+    }
+    
+    /**
+     * Configures the sizes of the buffers used by this lexer when
+     * reading from character streams.
+     * <p>
+     * Buffers are initially allocated with {@code bufferSize} characters,
+     * and grow when a token does not fit in the current buffer. They
+     * are shrunk back to {@code bufferSize} once such long tokens 
+     * have been consumed. The growth is bounded by {@code maxTokenLength}:
+     * a {@link LexicalError} is raised when trying to match a 
+     * token longer than {@code maxTokenLength} characters, so that
+     * the memory used by the lexer remains bounded whatever the input.
+     * As finding where a token ends can require looking at the
+     * characters which follow it, the error is also raised when the
+     * lexer needs to look further than one character past the maximal
+     * length and these characters are not buffered, or not
+     * {@linkplain #feed(java.nio.CharBuffer) fed}, yet.
+     * The maximal token length is also checked for in-memory inputs.
+     * <p>
+     * These limits apply to the current input and to subsequent ones,
+     * and can also be set with the {@code buffer_size} and 
+     * {@code max_token_length} lexer options.
+     * 
+     * @param bufferSize		the initial size of buffers, which 
+     * 	must be at least {@link #MIN_BUFFER_SIZE}
+     * @param maxTokenLength	the maximal length of tokens, which
+     * 	must be positive
+     * @throws IllegalArgumentException if either limit is out of range
+     */
+    public void setBufferLimits(int bufferSize, int maxTokenLength) {
+    	if (bufferSize < MIN_BUFFER_SIZE)
+    		throw new IllegalArgumentException(
+    			"Buffer size must be at least " + MIN_BUFFER_SIZE + ": " + bufferSize);
+    	if (maxTokenLength <= 0)
+    		throw new IllegalArgumentException(
+    			"Maximal token length must be positive: " + maxTokenLength);
+    	this.bufferSize = bufferSize;
+    	this.maxTokenLength = maxTokenLength;
+    }
+    
+    /**
+     * @return the initial size of buffers allocated by this lexer
+     * @see #setBufferLimits(int, int)
+     */
+    public int getBufferSize() {
+    	return bufferSize;
+    }
+    
+    /**
+     * @return the maximal length of tokens matched by this lexer,
+     * 	{@link Integer#MAX_VALUE} if unbounded
+     * @see #setBufferLimits(int, int)
+     */
+    public int getMaxTokenLength() {
+    	return maxTokenLength;
+    }
+    
+    /**
+     * This is raised while the current token is still being matched,
+     * i.e. before {@link #endToken()}, and is thus located at the start
+     * of the current token, which is the current position, and not
+     * at the {@linkplain #getLexemeStart() last lexeme start}.
+     * 
+     * @return a lexical error reporting that the current token
+     * 	exceeds the {@linkplain #getMaxTokenLength() maximal token length}
+     */
+    private LexicalError tokenTooLong() {
+    	final String msg =
+    		"Token exceeds the maximal length of " + maxTokenLength + " characters";
+    	if (!hasPositions) return error(msg);
+    	final @Nullable Position cur = curLoc;
+    	final Position start = cur != null ? cur :
+    		position(curFilename, absPos + startPos, curLine, curBol);
+    	return new LexicalError(start, msg);
     }
     
     /**
@@ -333,6 +1304,10 @@ public class LexBuffer {
      * @throws IOException 
      */
     private void refill() throws IOException {
+    	// Shrink back a buffer which was grown for some long token,
+    	// as soon as that token has been consumed
+    	if (tokenBuf.length > bufferSize && bufLimit - startPos <= (bufferSize >> 1))
+    		flush(new char[bufferSize]);
     	// How much space at the end
     	int space = tokenBuf.length - bufLimit;
     	if (space >= 32) { 
@@ -343,6 +1318,9 @@ public class LexBuffer {
     			eofReached = true;
     			read = 0;
     		}
+    		final @Nullable LineIndex index = lineIndex;
+    		if (index != null)
+    			index.scan(tokenBuf, bufLimit, bufLimit + read, absPos);
     		bufLimit += read;
     		return;
     	}
@@ -354,15 +1332,33 @@ public class LexBuffer {
     	// We try to only grow the buffer it it looks like
     	// we are reaching a token whose length is not too far
     	// from the buffer's capacity.
-    	if (startPos >= 128) {	// 1/8th of the buffer
-    		System.arraycopy(tokenBuf, startPos,
-    			tokenBuf, 0, bufLimit - startPos);
+    	if (startPos >= (bufferSize >> 3)) {	// 1/8th of the buffer
+    		flush(tokenBuf);
     	}
     	else {
-    		char[] grownBuf = new char[2 * tokenBuf.length];
-    		System.arraycopy(tokenBuf, startPos,
-    			grownBuf, 0, bufLimit - startPos);
-    		tokenBuf = grownBuf;
+    		// Growing the buffer only makes sense if the current
+    		// token can still fit within the maximal length
+    		if (bufLimit - startPos > maxTokenLength)
+    			throw tokenTooLong();
+    		final long capped = Math.max((long) maxTokenLength + 32, tokenBuf.length + 32L);
+    		final int length = (int) Math.min(Math.min(2L * tokenBuf.length, capped), 
+    			Integer.MAX_VALUE - 8);
+    		flush(new char[Math.max(length, bufferSize)]);
+    	}
+    }
+    
+    /**
+     * Moves the valid part of the token buffer to the start of
+     * {@code buf}, which becomes the new token buffer, and shifts
+     * positions accordingly
+     * 
+     * @param buf	either the current token buffer or a fresh buffer
+     */
+    private void flush(char[] buf) {
+    	System.arraycopy(tokenBuf, startPos, buf, 0, bufLimit - startPos);
+    	if (buf != tokenBuf) {
+    		ownBuf = buf;
+    		tokenBuf = buf;
     	}
     	// Shifting positions
     	int shift = startPos;
@@ -395,6 +1391,28 @@ public class LexBuffer {
     	return tokenBuf[curPos++];
     }
     
+    /**
+     * Same as {@link #getNextChar()}, but if more input must be
+     * {@linkplain #feed(java.nio.CharBuffer) fed}, the current match
+     * is recorded so that it can be resumed from the transitions
+     * of {@code cell}
+     * 
+     * @param cell	the current cell of the automaton
+     * @return the next character in buffer,
+     * 	with the special value 0xFFFF used to denote end-of-input
+     * @see #startMatch(int, boolean)
+     */
+    @DolmenInternal 
+    protected final char getNextChar(int cell) {
+    	if (curPos >= bufLimit) {
+    		final @Nullable Checkpoint ckpt = checkpoint;
+    		if (fed && !eofReached && ckpt != null)
+    			ckpt.suspend(this, cell);
+    		return getMoreChars();
+    	}
+    	return tokenBuf[curPos++];
+    }
+    
     /**
      * Load more characters from the current input into the buffer,
      * if possible.
@@ -406,12 +1424,20 @@ public class LexBuffer {
 		// either we've reached end-of-file or we
 		// need to refill
 		if (eofReached) return 0xFFFF;
+		if (fed) {
+			// Wait for more input to be fed, unless the current
+			// token is already too long
+			if (curPos - startPos > maxTokenLength)
+				throw tokenTooLong();
+			throw NeedInput.INSTANCE;
+		}
 		try {
 			refill();
 		} catch (IOException e) {
 			// re-throw as unchecked lexical error exception
-			Position errPos = new Position(startLoc.filename,
-		    		absPos + curPos, startLoc.line, startLoc.bol);
+			Position start = getLexemeStart();
+			Position errPos = new Position(start.filename,
+		    		absPos + curPos, start.line, start.bol);
 			throw new LexicalError(errPos, "IOException: " + e.getLocalizedMessage());
 		}
 		// NB: refill() can only make bufLen grow,
@@ -424,11 +1450,56 @@ public class LexBuffer {
      */
     @DolmenInternal 
     protected final void startToken() {
+    	++tokens;
     	startPos = curPos;
     	lastPos = curPos;
     	lastAction = -1;
     }
     
+    /**
+     * Called upon entering an entry of lexers generated in the
+     * {@linkplain Config.LexerStyle#LOOP loop} or
+     * {@linkplain Config.LexerStyle#TABLES table-driven} styles
+     * 
+     * @return whether this is the entry call made by
+     * 	{@link #poll(Supplier)} itself
+     */
+    @DolmenInternal
+    protected final boolean enterEntry() {
+    	return fed && entered++ == 0;
+    }
+    
+    /**
+     * Starts the matching of the current token by the automaton 
+     * whose initial cell is {@code initial}, in lexers generated in the
+     * {@linkplain Config.LexerStyle#LOOP loop} or
+     * {@linkplain Config.LexerStyle#TABLES table-driven} styles. If the
+     * same match was interrupted for lack of input before, the state of
+     * the match is restored so that it can be resumed.
+     * 
+     * @param initial	the initial cell of the automaton
+     * @param top		whether the current entry call is the one
+     * 					made by {@link #poll(Supplier)} itself
+     * @return {@code initial}, or the bitwise complement of the cell 
+     * 	from whose transitions the interrupted match must be resumed
+     */
+    @DolmenInternal
+    protected final int startMatch(int initial, boolean top) {
+    	matchInitial = initial;
+    	matchTop = top;
+    	final @Nullable Checkpoint ckpt = checkpoint;
+    	if (ckpt == null || ckpt.matchCell < 0) return initial;
+    	return ckpt.resume(this, initial);
+    }
+    
+    /**
+     * Forgets the match interrupted for lack of input, if any
+     */
+    private void forgetMatch() {
+    	final @Nullable Checkpoint ckpt = checkpoint;
+    	if (ckpt != null) ckpt.matchCell = -1;
+    }
+    
     /**
      * Marks the current position as the last terminal
      * state encountered
@@ -456,12 +1527,65 @@ public class LexBuffer {
      */
     @DolmenInternal 
     protected final void endToken() {
+    	if (curPos - startPos > maxTokenLength)
+    		throw tokenTooLong();
     	if (!hasPositions) return;
-    	startLoc = curLoc;
-    	curLoc = new Position(startLoc.filename,
-    		absPos + curPos, startLoc.line, startLoc.bol);
+    	final @Nullable Position cur = curLoc;
+    	if (cur != null) syncCurrent(cur);
+    	startLoc = cur;
+    	startFilename = curFilename;
+    	startOffset = curOffset;
+    	startLine = curLine;
+    	startBol = curBol;
+    	curLoc = null;
+    	curOffset = absPos + curPos;
     }
     
+    /**
+     * Sets the fields describing the current position 
+     * to the given position {@code pos}
+     * 
+     * @param pos
+     */
+    private void syncCurrent(Position pos) {
+    	curFilename = pos.filename;
+    	curOffset = pos.offset;
+    	curLine = pos.line;
+    	curBol = pos.bol;
+    }
+
+    /**
+     * Decodes an array of integers which was packed into strings
+     * by the lexer generator, for lexers generated in the
+     * {@linkplain Config.LexerStyle#TABLES table-driven style}.
+     *
+     * @param length	the length of the packed array
+     * @param chunks	the successive packed chunks
+     * @return the decoded array
+     * @see AutomataTables#pack(int[])
+     */
+    @DolmenInternal
+    protected static int[] unpack(int length, String... chunks) {
+    	final int[] res = new int[length];
+    	int k = 0;
+    	for (String chunk : chunks) {
+    		int i = 0;
+    		while (i < chunk.length()) {
+    			int count = chunk.charAt(i++);
+    			if (count >= 0x8000)
+    				count = ((count & 0x7FFF) << 16) | chunk.charAt(i++);
+    			int value = chunk.charAt(i++);
+    			if (value >= 0x8000)
+    				value = ((value & 0x7FFF) << 16) | chunk.charAt(i++);
+    			Arrays.fill(res, k, k + count, value - 1);
+    			k += count;
+    		}
+    	}
+    	if (k != length)
+    		throw new IllegalStateException("Ill-formed packed array");
+    	return res;
+    }
+
     /**
      * This function is useful in cases when a lexer's semantic
      * action must act depending on what kind of input follows the
@@ -596,31 +1720,84 @@ public class LexBuffer {
 		this.curPos = input.curPos;
 		this.lastAction = -1;
 		this.lastPos = 0;
-		this.memory = new int[0];
+		this.memory = NO_MEMORY;
 		this.startLoc = input.curLoc;
 		this.curLoc = input.curLoc;
+		this.lineIndex = input.lineIndex;
+		this.fed = input.fed;
+		forgetMatch();
 	}
     
     /**
      * @return the substring between the last started token
      * 	and the current position (exclusive)
      */
-    protected final String getLexeme() {
+    protected String getLexeme() {
     	return new String(tokenBuf, startPos, curPos - startPos);
     }
     
+    /**
+     * Returns the same string as {@link #getLexeme()}, but looks
+     * it up first in a bounded table of lexemes maintained by this
+     * lexer buffer. Frequent lexemes, such as identifiers or keywords,
+     * are thus only allocated once and subsequent calls return the
+     * same string instance, saving allocations and memory.
+     * <p>
+     * The table holds at most {@link LexemeTable#CAPACITY} lexemes
+     * of up to {@link LexemeTable#MAX_LENGTH} characters, and evicts
+     * older entries when full, so it is safe to use for long-running
+     * lexers. Longer lexemes are never stored. The table is kept when
+     * the lexer is {@linkplain #reset(String, java.io.Reader) reset}.
+     * 
+     * @return the last matched lexeme, as a shared string
+     */
+    protected String getInternedLexeme() {
+    	@Nullable LexemeTable table = lexemes;
+    	if (table == null) {
+    		table = new LexemeTable();
+    		lexemes = table;
+    	}
+    	return table.intern(tokenBuf, startPos, curPos);
+    }
+    
     /**
      * @return the position of the last lexeme start
      */
     public final Position getLexemeStart() {
-    	return startLoc;
+    	@Nullable Position res = startLoc;
+    	if (res == null) {
+    		res = position(startFilename, startOffset, startLine, startBol);
+    		startLoc = res;
+    	}
+    	return res;
     }
     
     /**
      * @return the position of the last lexeme end
      */
     public final Position getLexemeEnd() {
-    	return curLoc;
+    	@Nullable Position res = curLoc;
+    	if (res == null) {
+    		res = position(curFilename, curOffset, curLine, curBol);
+    		curLoc = res;
+    	}
+    	return res;
+    }
+    
+    /**
+     * @param filename
+     * @param offset
+     * @param line
+     * @param bol
+     * @return the position described by the given parameters, where
+     * 	{@code line} and {@code bol} are ignored and resolved from 
+     * 	{@code offset} instead if lines are {@linkplain #enableLineIndex() indexed}
+     */
+    private Position position(String filename, int offset, int line, int bol) {
+    	final @Nullable LineIndex index = lineIndex;
+    	if (index == null)
+    		return new Position(filename, offset, line, bol);
+    	return index.resolve(filename, offset);
     }
     
     /**
@@ -645,7 +1822,7 @@ public class LexBuffer {
      * @throws LexicalError when {@code idx} is negative or not less
      * 	than the {@link #getLexemeLength() length} of the lexeme
      */
-    protected final char getLexemeChar(int idx) {
+    protected char getLexemeChar(int idx) {
     	if (idx < 0 || idx >= getLexemeLength())
 			throw error("Invalid index  " + idx 
 						+ " in lexeme of length " + getLexemeLength());
@@ -670,7 +1847,7 @@ public class LexBuffer {
      * 
      * @return the sequence of characters forming the last matched lexeme
      */
-    protected final CharSequence getLexemeChars() {
+    protected CharSequence getLexemeChars() {
     	return new LexemeCharSequence(startPos, curPos);
     }
     
@@ -759,6 +1936,269 @@ public class LexBuffer {
     	buf.append(tokenBuf, startPos, curPos - startPos);
     }
     
+    /**
+     * Equivalent to {@code Integer.parseInt(getLexeme(), radix)},
+     * but parses the lexeme directly in the token buffer without
+     * allocating any string.
+     * 
+     * @param radix
+     * @return the integer described by the last matched lexeme
+     * 	in the given {@code radix}
+     * @throws LexicalError if the lexeme is not a valid integer
+     * 	or is out of the range of {@code int}
+     * @throws IllegalArgumentException if {@code radix} is not between
+     * 	{@link Character#MIN_RADIX} and {@link Character#MAX_RADIX}
+     * @see #getLexemeAsInt(int, int, int)
+     */
+    protected final int getLexemeAsInt(int radix) {
+    	return (int) parseLong(startPos, curPos, radix, Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+    
+    /**
+     * Same as {@link #getLexemeAsInt(int)} for the part of the last
+     * matched lexeme between indices {@code from} (inclusive) and
+     * {@code to} (exclusive), e.g. to skip some prefix or suffix.
+     * 
+     * @param from
+     * @param to
+     * @param radix
+     * @return the integer described by the given part of the 
+     * 	last matched lexeme in the given {@code radix}
+     * @throws LexicalError if the indices are not valid in the lexeme,
+     * 	or the sub-lexeme is not a valid integer
+     * @throws IllegalArgumentException if {@code radix} is not between
+     * 	{@link Character#MIN_RADIX} and {@link Character#MAX_RADIX}
+     */
+    protected final int getLexemeAsInt(int from, int to, int radix) {
+    	checkRange(from, to);
+    	return (int) parseLong(startPos + from, startPos + to, radix, 
+    		Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+    
+    /**
+     * Equivalent to {@code Long.parseLong(getLexeme(), radix)},
+     * but parses the lexeme directly in the token buffer without
+     * allocating any string.
+     * 
+     * @param radix
+     * @return the integer described by the last matched lexeme
+     * 	in the given {@code radix}
+     * @throws LexicalError if the lexeme is not a valid integer
+     * 	or is out of the range of {@code long}
+     * @throws IllegalArgumentException if {@code radix} is not between
+     * 	{@link Character#MIN_RADIX} and {@link Character#MAX_RADIX}
+     * @see #getLexemeAsLong(int, int, int)
+     */
+    protected final long getLexemeAsLong(int radix) {
+    	return parseLong(startPos, curPos, radix, Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+    
+    /**
+     * Same as {@link #getLexemeAsLong(int)} for the part of the last
+     * matched lexeme between indices {@code from} (inclusive) and
+     * {@code to} (exclusive).
+     * 
+     * @param from
+     * @param to
+     * @param radix
+     * @return the integer described by the given part of the 
+     * 	last matched lexeme in the given {@code radix}
+     * @throws LexicalError if the indices are not valid in the lexeme,
+     * 	or the sub-lexeme is not a valid integer
+     * @throws IllegalArgumentException if {@code radix} is not between
+     * 	{@link Character#MIN_RADIX} and {@link Character#MAX_RADIX}
+     */
+    protected final long getLexemeAsLong(int from, int to, int radix) {
+    	checkRange(from, to);
+    	return parseLong(startPos + from, startPos + to, radix, 
+    		Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+    
+    /**
+     * Equivalent to {@code Double.parseDouble(getLexeme())}. Decimal
+     * literals with at most 15 significant digits and small exponents,
+     * which covers most numbers found in practice, are parsed directly
+     * in the token buffer without allocating any string. Other
+     * literals are handed to {@link Double#parseDouble(String)}. 
+     * In both cases, the result is correctly rounded.
+     * 
+     * @return the floating-point number described by the 
+     * 	last matched lexeme
+     * @throws LexicalError if the lexeme is not a valid number
+     * @see #getLexemeAsDouble(int, int)
+     */
+    protected final double getLexemeAsDouble() {
+    	return parseDouble(startPos, curPos);
+    }
+    
+    /**
+     * Same as {@link #getLexemeAsDouble()} for the part of the last
+     * matched lexeme between indices {@code from} (inclusive) and
+     * {@code to} (exclusive).
+     * 
+     * @param from
+     * @param to
+     * @return the floating-point number described by the given 
+     * 	part of the last matched lexeme
+     * @throws LexicalError if the indices are not valid in the lexeme,
+     * 	or the sub-lexeme is not a valid number
+     */
+    protected final double getLexemeAsDouble(int from, int to) {
+    	checkRange(from, to);
+    	return parseDouble(startPos + from, startPos + to);
+    }
+    
+    private void checkRange(int from, int to) {
+    	if (from < 0 || to > getLexemeLength() || from > to)
+    		throw error("Invalid range [" + from + ", " + to 
+    			+ "[ in lexeme of length " + getLexemeLength());
+    }
+    
+    /**
+     * Parses the integer literal between positions {@code start}
+     * and {@code end} (exclusive) in the token buffer, in the
+     * same way as {@link Long#parseLong(String, int)}
+     * 
+     * @param start
+     * @param end
+     * @param radix
+     * @param min	the smallest acceptable value
+     * @param max	the largest acceptable value, which must be {@code -(min + 1)}
+     * @return the parsed integer
+     */
+    private long parseLong(int start, int end, int radix, long min, long max) {
+    	if (radix < Character.MIN_RADIX || radix > Character.MAX_RADIX)
+    		throw new IllegalArgumentException("Invalid radix: " + radix);
+    	final char[] buf = tokenBuf;
+    	int i = start;
+    	boolean negative = false;
+    	// Accumulating negatively avoids overflowing on min
+    	long limit = -max;
+    	if (i < end) {
+    		final char first = buf[i];
+    		if (first == '-') {
+    			negative = true;
+    			limit = min;
+    			++i;
+    		}
+    		else if (first == '+')
+    			++i;
+    	}
+    	if (i == end)
+    		throw numberError(start, end);
+    	final long multmin = limit / radix;
+    	long result = 0;
+    	while (i < end) {
+    		final int digit = Character.digit(buf[i++], radix);
+    		if (digit < 0 || result < multmin)
+    			throw numberError(start, end);
+    		result *= radix;
+    		if (result < limit + digit)
+    			throw numberError(start, end);
+    		result -= digit;
+    	}
+    	return negative ? result : -result;
+    }
+    
+    /** The powers of 10 which are exactly representable as doubles */
+    private static final double[] POWERS_OF_TEN = {
+    	1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+    	1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+    
+    /**
+     * Parses the floating-point literal between positions {@code start}
+     * and {@code end} (exclusive) in the token buffer, in the
+     * same way as {@link Double#parseDouble(String)}
+     * 
+     * @param start
+     * @param end
+     * @return the parsed number
+     */
+    private double parseDouble(int start, int end) {
+    	final char[] buf = tokenBuf;
+    	int i = start;
+    	boolean negative = false;
+    	if (i < end && (buf[i] == '-' || buf[i] == '+')) {
+    		negative = buf[i] == '-';
+    		++i;
+    	}
+    	// Read the significant digits in a long, and the
+    	// decimal exponent which applies to them
+    	long mantissa = 0;
+    	int ndigits = 0;
+    	int exponent = 0;
+    	boolean exact = true;
+    	boolean someDigits = false;
+    	boolean dot = false;
+    	for (; i < end; ++i) {
+    		final char c = buf[i];
+    		if (c >= '0' && c <= '9') {
+    			someDigits = true;
+    			if (mantissa == 0 && c == '0') {
+    				if (dot) --exponent;
+    				continue;
+    			}
+    			if (ndigits == 15) {
+    				exact = false;
+    				break;
+    			}
+    			mantissa = 10 * mantissa + (c - '0');
+    			++ndigits;
+    			if (dot) --exponent;
+    		}
+    		else if (c == '.' && !dot)
+    			dot = true;
+    		else
+    			break;
+    	}
+    	if (exact && someDigits && i < end && (buf[i] == 'e' || buf[i] == 'E')) {
+    		++i;
+    		boolean negExp = false;
+    		if (i < end && (buf[i] == '-' || buf[i] == '+')) {
+    			negExp = buf[i] == '-';
+    			++i;
+    		}
+    		int exp = 0;
+    		final int expStart = i;
+    		for (; i < end && exp < 1000; ++i) {
+    			final char c = buf[i];
+    			if (c < '0' || c > '9') break;
+    			exp = 10 * exp + (c - '0');
+    		}
+    		if (i == expStart) exact = false;
+    		exponent += negExp ? -exp : exp;
+    	}
+    	// With at most 15 digits, the mantissa is exact as a double,
+    	// and so are powers of 10 up to 10^22, so that a single
+    	// multiplication or division is correctly rounded.
+    	if (exact && someDigits && i == end 
+    		&& exponent >= -22 && exponent <= 22) {
+    		double res = mantissa;
+    		if (exponent < 0) res /= POWERS_OF_TEN[-exponent];
+    		else res *= POWERS_OF_TEN[exponent];
+    		return negative ? -res : res;
+    	}
+    	// Otherwise fall back to the standard library, which 
+    	// handles all corner cases
+    	try {
+    		return Double.parseDouble(new String(buf, start, end - start));
+    	} catch (NumberFormatException e) {
+    		throw numberError(start, end);
+    	}
+    }
+    
+    /**
+     * @param start
+     * @param end
+     * @return a lexical error reporting that the characters
+     * 	between {@code start} and {@code end} (exclusive) in 
+     * 	the token buffer do not form a valid number
+     */
+    private LexicalError numberError(int start, int end) {
+    	return error("Invalid number: " + new String(tokenBuf, start, end - start));
+    }
+    
     /**
      * @param start
      * @param end
@@ -766,7 +2206,7 @@ public class LexBuffer {
      *  and {@code end} (exclusive) in the token buffer
      */
     @DolmenInternal 
-    protected final String getSubLexeme(int start, int end) {
+    protected String getSubLexeme(int start, int end) {
     	return new String(tokenBuf, start, end - start);
     }
 
@@ -777,7 +2217,7 @@ public class LexBuffer {
      *  and {@code end} (exclusive) in the token buffer
      */
     @DolmenInternal 
-	protected final Optional<String> getSubLexemeOpt(int start, int end) {
+	protected Optional<String> getSubLexemeOpt(int start, int end) {
     	if (start < 0)
     		return Optional.empty();
     	return Optional.of(new String(tokenBuf, start, end - start));
@@ -789,7 +2229,7 @@ public class LexBuffer {
      * 	in the token buffer
      */
     @DolmenInternal 
-    protected final char getSubLexemeChar(int pos) {
+    protected char getSubLexemeChar(int pos) {
     	return tokenBuf[pos];
     }
     
@@ -799,12 +2239,63 @@ public class LexBuffer {
      * 	in the token buffer
      */
     @DolmenInternal 
-    protected final Optional<Character> getSubLexemeOptChar(int pos) {
+    protected Optional<Character> getSubLexemeOptChar(int pos) {
     	if (pos < 0)
     		return Optional.empty();
     	return Optional.of(tokenBuf[pos]);
     }
     
+    /**
+     * @param seed
+     * @param buf
+     * @param start
+     * @param end
+     * @return a hash of the characters in {@code buf} between {@code start}
+     * 	and {@code end} (exclusive), which depends on {@code seed}
+     * @see #keyword(String[], int[], int[], int)
+     */
+    static int keywordHash(int seed, char[] buf, int start, int end) {
+    	int h = seed;
+    	for (int i = start; i < end; ++i)
+    		h = (h ^ buf[i]) * 0x01000193;
+    	h ^= h >>> 16;
+    	h *= 0x85EBCA6B;
+    	return h ^ (h >>> 13);
+    }
+    
+    /**
+     * Looks the last matched lexeme up in a table of keywords generated
+     * with the {@code keyword_hashing} option. The table is a perfect
+     * hash table with two levels: the lexeme's hash with seed {@code 0}
+     * selects a seed in {@code seeds}, and the lexeme's hash with that
+     * seed selects the only slot where the lexeme can be found.
+     * Both {@code seeds} and {@code keywords} have a power-of-2 length.
+     * 
+     * @param keywords	the keywords, and empty strings for free slots
+     * @param actions	the semantic actions of the keywords, and {@code -1}
+     * 					for free slots
+     * @param seeds		the seeds for the second level of hashing
+     * @param otherwise	the semantic action to return if the lexeme 
+     * 					is not a keyword
+     * @return the semantic action associated to the last matched lexeme
+     * 	in the table if it is a keyword, and {@code otherwise} if not
+     */
+    @DolmenInternal
+    protected final int keyword(String[] keywords, int[] actions, int[] seeds, int otherwise) {
+    	final char[] buf = tokenBuf;
+    	final int start = startPos;
+    	final int end = curPos;
+    	final int seed = seeds[keywordHash(0, buf, start, end) & (seeds.length - 1)];
+    	final int slot = keywordHash(seed, buf, start, end) & (keywords.length - 1);
+    	final String kw = keywords[slot];
+    	final int length = end - start;
+    	if (kw.length() != length) return otherwise;
+    	for (int i = 0; i < length; ++i)
+    		if (kw.charAt(i) != buf[start + i]) return otherwise;
+    	final int action = actions[slot];
+    	return action < 0 ? otherwise : action;
+    }
+    
     /**
      * Convenience helper which returns a {@link LexicalError}
      * located at the current lexeme start.
@@ -828,9 +2319,14 @@ public class LexBuffer {
      * in semantic actions when matching a newline character.
      */
     protected final void newline() {
-    	if (!hasPositions) return;
-    	Position pos = curLoc;
-    	curLoc = new Position(pos.filename, pos.offset, pos.line + 1, pos.offset);
+    	if (!hasPositions || lineIndex != null) return;
+    	final @Nullable Position cur = curLoc;
+    	if (cur != null) {
+    		syncCurrent(cur);
+    		curLoc = null;
+    	}
+    	curLine += 1;
+    	curBol = curOffset;
     }
     
     /**
@@ -0,0 +1,226 @@
+package org.stekikun.dolmen.codegen;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A character stream which decodes a UTF-8 encoded file by
+ * mapping it in memory, and which is well-suited for feeding
+ * {@linkplain LexBuffer lexers} with very large input files.
+ * <p>
+ * Unlike a {@link java.io.BufferedReader} wrapped around a
+ * {@link java.io.FileReader}, characters are decoded straight
+ * into the buffer passed to {@link #read(char[], int, int)}, which
+ * for lexers is their own token buffer, without any intermediate
+ * byte or character buffers and without locking. Runs of ASCII
+ * characters are decoded by a dedicated fast path.
+ * <p>
+ * The file is mapped by windows of at most {@link #WINDOW_SIZE} bytes
+ * by default,
+ * so that files of arbitrary sizes can be read with a flat memory
+ * footprint. Characters outside the Basic Multilingual Plane are
+ * decoded as surrogate pairs, so that offsets of characters read
+ * from this stream are the same as with any other {@link Reader}.
+ * Malformed input is replaced by the {@code U+FFFD} replacement
+ * character, once for every maximal subpart of an ill-formed
+ * sequence as delimited by the {@linkplain
+ * java.nio.charset.StandardCharsets#UTF_8 JDK decoder}, which
+ * keeps offsets the same as well.
+ *
+ * @author Stéphane Lescuyer
+ */
+public final class MappedUTF8Reader extends Reader {
+
+	/** The default maximal number of bytes mapped at any given time */
+	public static final int WINDOW_SIZE = 1 << 28;
+
+	/** The maximal length of a UTF-8 encoded code point */
+	private static final int MAX_SEQUENCE = 4;
+
+	/** The replacement character for malformed input */
+	private static final char REPLACEMENT = '\uFFFD';
+
+	/** The channel to the underlying file */
+	private final FileChannel channel;
+
+	/** The maximal number of bytes mapped at any given time */
+	private final int windowSize;
+
+	/** The size of the underlying file in bytes */
+	private final long size;
+
+	/** The offset in the file of the currently mapped window */
+	private long windowStart;
+
+	/** The currently mapped window */
+	private MappedByteBuffer window;
+
+	/**
+	 * The low surrogate of a supplementary character which
+	 * could not be returned yet, or {@code -1} if none
+	 */
+	private int pendingLow;
+
+	private MappedUTF8Reader(FileChannel channel, int windowSize) throws IOException {
+		this.channel = channel;
+		this.windowSize = windowSize;
+		this.size = channel.size();
+		this.windowStart = 0;
+		this.window = map(0);
+		this.pendingLow = -1;
+	}
+
+	private MappedByteBuffer map(long start) throws IOException {
+		long length = Math.min(windowSize, size - start);
+		return channel.map(MapMode.READ_ONLY, start, length);
+	}
+
+	/**
+	 * @param path
+	 * @return a character stream decoding the UTF-8
+	 * 	contents of the file at {@code path}
+	 * @throws IOException if the file cannot be opened or mapped
+	 */
+	public static MappedUTF8Reader open(Path path) throws IOException {
+		return open(path, WINDOW_SIZE);
+	}
+
+	/**
+	 * @param path
+	 * @param windowSize	the maximal number of bytes mapped at any given time
+	 * @return a character stream decoding the UTF-8
+	 * 	contents of the file at {@code path}
+	 * @throws IOException if the file cannot be opened or mapped
+	 * @throws IllegalArgumentException if {@code windowSize} is smaller
+	 * 	than the maximal length of a UTF-8 encoded code point
+	 */
+	public static MappedUTF8Reader open(Path path, int windowSize) throws IOException {
+		if (windowSize < MAX_SEQUENCE)
+			throw new IllegalArgumentException("Window size must be at least " + MAX_SEQUENCE);
+		FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+		try {
+			return new MappedUTF8Reader(channel, windowSize);
+		} catch (IOException e) {
+			channel.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Makes sure that at least {@link #MAX_SEQUENCE} bytes are
+	 * available in the current window, unless the end of the file
+	 * is closer than that, by mapping the next window if necessary
+	 *
+	 * @return the number of bytes remaining in the window
+	 * @throws IOException
+	 */
+	private int ensureAvailable() throws IOException {
+		int remaining = window.remaining();
+		if (remaining >= MAX_SEQUENCE) return remaining;
+		long next = windowStart + window.position();
+		if (next + remaining >= size) return remaining;
+		windowStart = next;
+		window = map(next);
+		return window.remaining();
+	}
+
+	@Override
+	public int read(char[] cbuf, int off, int len) throws IOException {
+		if (off < 0 || len < 0 || off > cbuf.length - len)
+			throw new IndexOutOfBoundsException();
+		if (len == 0) return 0;
+		int n = off;
+		final int end = off + len;
+		if (pendingLow >= 0) {
+			cbuf[n++] = (char) pendingLow;
+			pendingLow = -1;
+		}
+		while (n < end) {
+			final int avail = ensureAvailable();
+			if (avail == 0) break;
+			final MappedByteBuffer w = window;
+			int pos = w.position();
+			final int limit = w.limit();
+			// Fast path for runs of ASCII characters
+			while (n < end && pos < limit) {
+				final byte b = w.get(pos);
+				if (b < 0) break;
+				cbuf[n++] = (char) b;
+				++pos;
+			}
+			w.position(pos);
+			if (n == end || pos == limit) continue;
+
+			// Decode a multi-byte sequence, we have enough bytes
+			// in the window unless the file is truncated
+			if (limit - pos < MAX_SEQUENCE) ensureAvailable();
+			final MappedByteBuffer v = window;
+			pos = v.position();
+			final int rem = v.limit() - pos;
+			final int b0 = v.get(pos) & 0xFF;
+			// The number of continuation bytes expected after b0, and
+			// the range of the first one, following Table 3-7 of the
+			// Unicode Standard, so that overlong encodings and code
+			// points out of range are rejected as soon as their first
+			// bytes are read. Like the JDK decoder, encoded surrogates
+			// are read in full and then rejected as a whole.
+			int needed = 0;
+			int cp = 0;
+			int lo = 0x80, hi = 0xBF;
+			if (b0 >= 0xC2 && b0 <= 0xDF) {
+				needed = 1;
+				cp = b0 & 0x1F;
+			}
+			else if (b0 >= 0xE0 && b0 <= 0xEF) {
+				needed = 2;
+				cp = b0 & 0x0F;
+				if (b0 == 0xE0) lo = 0xA0;
+			}
+			else if (b0 >= 0xF0 && b0 <= 0xF4) {
+				needed = 3;
+				cp = b0 & 0x07;
+				if (b0 == 0xF0) lo = 0x90;
+				else if (b0 == 0xF4) hi = 0x8F;
+			}
+			int found = 0;
+			while (found < needed && 1 + found < rem) {
+				final int b = v.get(pos + 1 + found) & 0xFF;
+				if (b < lo || b > hi) break;
+				lo = 0x80; hi = 0xBF;
+				cp = (cp << 6) | (b & 0x3F);
+				++found;
+			}
+			v.position(pos + 1 + found);
+			if (needed == 0 || found < needed
+				|| (needed == 2 && Character.isSurrogate((char) cp))) {
+				// Malformed subsequence, replaced as a whole
+				cbuf[n++] = REPLACEMENT;
+			}
+			else if (needed < 3)
+				cbuf[n++] = (char) cp;
+			else {
+				cbuf[n++] = Character.highSurrogate(cp);
+				if (n < end)
+					cbuf[n++] = Character.lowSurrogate(cp);
+				else
+					pendingLow = Character.lowSurrogate(cp);
+			}
+		}
+		return n == off ? -1 : n - off;
+	}
+
+	@Override
+	public boolean ready() {
+		return pendingLow >= 0 || windowStart + window.position() < size;
+	}
+
+	@Override
+	public void close() throws IOException {
+		channel.close();
+	}
+}
@@ -0,0 +1,362 @@
+package org.stekikun.dolmen.codegen;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * A driver which lexes large in-memory inputs in parallel, by
+ * splitting them in chunks which are analyzed concurrently on a
+ * {@link ForkJoinPool}, and stitching the resulting tokens together.
+ * <p>
+ * Every chunk but the first starts right after the first newline
+ * character found at or after a multiple of the chunk size. This is
+ * only a <i>candidate</i> synchronisation point: the newline may well
+ * be inside some token, e.g. a multi-line comment or string literal.
+ * Chunks are therefore lexed speculatively, and stitched in order: the
+ * tokens of a chunk are only kept from the first token which starts
+ * exactly where the tokens of the previous chunks end. When there is
+ * no such token, the input is lexed sequentially from the end of the
+ * previous chunks until it synchronises with the speculative tokens.
+ * Lexical errors in a chunk are only reported if they are reached
+ * by the validated token stream.
+ * <p>
+ * The resulting tokens are always the same as the ones obtained by
+ * lexing the whole input sequentially, provided the lexer entry only
+ * depends on the position at which it is called, and not on some
+ * state left over by previous tokens. Semantic actions can call other
+ * entries, but their side effects must be local to a token. Offsets
+ * in positions are absolute offsets in the whole input. The line at
+ * the start of a chunk is computed by counting line terminators
+ * ({@code '\n'}, {@code '\r'} and {@code "\r\n"}), which is consistent
+ * with lexers which call {@link LexBuffer#newline()} for each of them.
+ * <p>
+ * Lexers are created by a factory such as the constructor of a
+ * generated lexer class, which is given a {@link java.nio.CharBuffer}
+ * wrapping the whole input and must use it in place, as all generated
+ * lexers but those based on {@link ByteLexBuffer} do.
+ *
+ * @author Stéphane Lescuyer
+ */
+public final class ParallelLexer {
+
+	/** The default number of characters in each chunk */
+	public static final int DEFAULT_CHUNK_SIZE = 1 << 20;
+
+	private ParallelLexer() {
+		// Static utility class only
+	}
+
+	/**
+	 * The tokens obtained by lexing a chunk of the input,
+	 * along with the offsets at which each entry call started
+	 *
+	 * @author Stéphane Lescuyer
+	 * @param <T>	the type of tokens
+	 */
+	private static final class Chunk<T> {
+		/** The tokens of the chunk */
+		final List<T> tokens = new ArrayList<>();
+		/** The offsets at which the calls returning {@link #tokens} started */
+		int[] starts = new int[16];
+		/**
+		 * The offset at which lexing stopped, either because it
+		 * reached the next chunk, or because of {@link #error},
+		 * or {@link Integer#MAX_VALUE} if the last token ends the input
+		 */
+		int stop = Integer.MAX_VALUE;
+		/** The exception thrown by the entry call starting at {@link #stop} */
+		@Nullable RuntimeException error = null;
+
+		void add(int start, T token) {
+			final int n = tokens.size();
+			if (n == starts.length)
+				starts = Arrays.copyOf(starts, 2 * n);
+			starts[n] = start;
+			tokens.add(token);
+		}
+
+		/**
+		 * @param offset
+		 * @return the index of the token whose call started at {@code offset},
+		 * 	the number of tokens if {@code offset} is {@link #stop},
+		 * 	or a negative number otherwise
+		 */
+		int indexOf(int offset) {
+			if (offset == stop) return tokens.size();
+			return Arrays.binarySearch(starts, 0, tokens.size(), offset);
+		}
+	}
+
+	/**
+	 * The parameters of an analysis, shared by all chunks
+	 *
+	 * @author Stéphane Lescuyer
+	 * @param <L>	the type of lexers
+	 * @param <T>	the type of tokens
+	 * @see #lex(String, char[], BiFunction, Function, Predicate, int, ForkJoinPool)
+	 */
+	private static final class Context<L extends LexBuffer, T> {
+		final String filename;
+		final char[] input;
+		final BiFunction<String, CharSequence, L> lexers;
+		final Function<? super L, ? extends T> entry;
+		final Predicate<? super T> isEnd;
+
+		Context(String filename, char[] input,
+				BiFunction<String, CharSequence, L> lexers,
+				Function<? super L, ? extends T> entry, Predicate<? super T> isEnd) {
+			this.filename = filename;
+			this.input = input;
+			this.lexers = lexers;
+			this.entry = entry;
+			this.isEnd = isEnd;
+		}
+
+		/**
+		 * @param offset
+		 * @param line
+		 * @param bol
+		 * @return a new lexer positioned at {@code offset}
+		 */
+		L lexerAt(int offset, int line, int bol) {
+			final L lexer = lexers.apply(filename, java.nio.CharBuffer.wrap(input));
+			lexer.restartAt(offset, line, bol);
+			return lexer;
+		}
+
+		/**
+		 * @param from
+		 * @param line	the line at {@code from}
+		 * @param bol	the beginning of that line
+		 * @param limit
+		 * @return the tokens obtained by lexing from {@code from},
+		 * 	until an entry call would start at or after {@code limit}
+		 */
+		Chunk<T> lexChunk(int from, int line, int bol, int limit) {
+			final Chunk<T> chunk = new Chunk<>();
+			final L lexer = lexerAt(from, line, bol);
+			while (true) {
+				final int start = lexer.getCurrentOffset();
+				if (start >= limit) {
+					chunk.stop = start;
+					return chunk;
+				}
+				final T token;
+				try {
+					token = entry.apply(lexer);
+				} catch (RuntimeException e) {
+					chunk.stop = start;
+					chunk.error = e;
+					return chunk;
+				}
+				chunk.add(start, token);
+				if (isEnd.test(token)) return chunk;
+			}
+		}
+	}
+
+	/**
+	 * @param input
+	 * @param from
+	 * @param to
+	 * @param lines	where the number of line terminators and the
+	 * 	offset of the last line start in {@code [from, to[} are stored
+	 */
+	private static void countLines(char[] input, int from, int to, int[] lines) {
+		int count = 0;
+		int bol = -1;
+		for (int i = from; i < to; ++i) {
+			final char c = input[i];
+			if (c > '\r') continue;
+			if (c == '\n' || (c == '\r' && (i + 1 >= input.length || input[i + 1] != '\n'))) {
+				++count;
+				bol = i + 1;
+			}
+		}
+		lines[0] = count;
+		lines[1] = bol;
+	}
+
+	/**
+	 * @param input
+	 * @param chunkSize
+	 * @return the offsets at which chunks start, in increasing order,
+	 * 	starting with {@code 0}
+	 */
+	private static int[] syncPoints(char[] input, int chunkSize) {
+		final List<Integer> points = new ArrayList<>();
+		points.add(0);
+		for (long target = chunkSize; target < input.length; target += chunkSize) {
+			int i = Math.max((int) target, points.get(points.size() - 1) + 1);
+			while (i < input.length && input[i - 1] != '\n') ++i;
+			if (i >= input.length) break;
+			if (i > points.get(points.size() - 1)) points.add(i);
+		}
+		final int[] res = new int[points.size()];
+		for (int k = 0; k < res.length; ++k) res[k] = points.get(k);
+		return res;
+	}
+
+	/**
+	 * Lexes the whole {@code input} by calling {@code entry} repeatedly,
+	 * in parallel chunks, until it returns a token satisfying
+	 * {@code isEnd}. For instance, to lex some input with a generated
+	 * lexer {@code JSonLexer}, whose {@code main} entry returns
+	 * {@code EOF} at the end of the input:
+	 * <pre>
+	 * List&lt;Token&gt; tokens = ParallelLexer.lex("file.json", chars,
+	 *     JSonLexer::new, JSonLexer::main, t -&gt; t == Token.EOF,
+	 *     ParallelLexer.DEFAULT_CHUNK_SIZE, ForkJoinPool.commonPool());
+	 * </pre>
+	 * Lexical errors are thrown as they would be by a sequential analysis.
+	 *
+	 * @param filename	the name of the input, for positions
+	 * @param input		the characters to analyze, which must not be
+	 * 					modified during the analysis
+	 * @param lexers	a factory building lexers from a name
+	 * 					and the whole input
+	 * @param entry		the lexer entry returning the tokens
+	 * @param isEnd		whether a token ends the input
+	 * @param chunkSize	the approximate number of characters in each chunk
+	 * @param pool		the pool where chunks are analyzed
+	 * @return the tokens in {@code input}, in order, including
+	 * 	the one which ends the input
+	 * @throws IllegalArgumentException if {@code chunkSize} is not positive
+	 */
+	public static <L extends LexBuffer, T> List<T> lex(
+			String filename, char[] input,
+			BiFunction<String, CharSequence, L> lexers,
+			Function<? super L, ? extends T> entry, Predicate<? super T> isEnd,
+			int chunkSize, ForkJoinPool pool) {
+		if (chunkSize <= 0)
+			throw new IllegalArgumentException("Invalid chunk size: " + chunkSize);
+		final Context<L, T> ctx = new Context<>(filename, input, lexers, entry, isEnd);
+		final int[] points = syncPoints(input, chunkSize);
+		final int n = points.length;
+
+		// Find the line at the start of every chunk
+		final List<ForkJoinTask<int[]>> counts = new ArrayList<>(n);
+		for (int k = 0; k < n; ++k) {
+			final int from = points[k];
+			final int to = k + 1 < n ? points[k + 1] : input.length;
+			counts.add(pool.submit(() -> {
+				final int[] lines = new int[2];
+				countLines(input, from, to, lines);
+				return lines;
+			}));
+		}
+		final int[] lines = new int[n];
+		final int[] bols = new int[n];
+		lines[0] = 1;
+		for (int k = 1; k < n; ++k) {
+			final int[] count = counts.get(k - 1).join();
+			lines[k] = lines[k - 1] + count[0];
+			bols[k] = count[1] >= 0 ? count[1] : bols[k - 1];
+		}
+
+		// Lex all chunks speculatively
+		final List<ForkJoinTask<Chunk<T>>> tasks = new ArrayList<>(n);
+		for (int k = 0; k < n; ++k) {
+			final int from = points[k];
+			final int line = lines[k];
+			final int bol = bols[k];
+			final int limit = k + 1 < n ? points[k + 1] : Integer.MAX_VALUE;
+			tasks.add(pool.submit(() -> ctx.lexChunk(from, line, bol, limit)));
+		}
+
+		// Stitch the chunks in order, starting from offset 0
+		final List<T> res = new ArrayList<>();
+		int cur = 0;
+		for (int k = 0; k < n; ++k) {
+			final Chunk<T> chunk = tasks.get(k).join();
+			int j = chunk.indexOf(cur);
+			if (j < 0) {
+				// The previous chunks ended in the middle of a speculative
+				// token, lex sequentially until synchronising with this chunk
+				final L lexer = ctx.lexerAt(cur, lineAt(input, points[k - 1],
+						lines[k - 1], bols[k - 1], cur), bolAt(input, bols[k - 1], cur));
+				while (true) {
+					final int start = lexer.getCurrentOffset();
+					j = chunk.indexOf(start);
+					if (j >= 0 || start > chunk.stop) {
+						cur = start;
+						break;
+					}
+					final T token = entry.apply(lexer);
+					res.add(token);
+					if (isEnd.test(token)) return res;
+				}
+				if (j < 0) continue;
+			}
+			res.addAll(chunk.tokens.subList(j, chunk.tokens.size()));
+			final @Nullable RuntimeException error = chunk.error;
+			if (error != null) throw error;
+			if (chunk.stop == Integer.MAX_VALUE) return res;
+			cur = chunk.stop;
+		}
+		// The last chunk failed at an offset which is not reached
+		// sequentially, finish the analysis sequentially
+		final L lexer = ctx.lexerAt(cur, lineAt(input, points[n - 1],
+				lines[n - 1], bols[n - 1], cur), bolAt(input, bols[n - 1], cur));
+		while (true) {
+			final T token = entry.apply(lexer);
+			res.add(token);
+			if (isEnd.test(token)) return res;
+		}
+	}
+
+	/**
+	 * Same as {@link #lex(String, char[], BiFunction, Function, Predicate, int, ForkJoinPool)}
+	 * with chunks of {@link #DEFAULT_CHUNK_SIZE} characters, analyzed in
+	 * the {@linkplain ForkJoinPool#commonPool() common pool}.
+	 *
+	 * @param filename
+	 * @param input
+	 * @param lexers
+	 * @param entry
+	 * @param isEnd
+	 * @return the tokens in {@code input}, in order, including
+	 * 	the one which ends the input
+	 */
+	public static <L extends LexBuffer, T> List<T> lex(
+			String filename, char[] input,
+			BiFunction<String, CharSequence, L> lexers,
+			Function<? super L, ? extends T> entry, Predicate<? super T> isEnd) {
+		return lex(filename, input, lexers, entry, isEnd,
+			DEFAULT_CHUNK_SIZE, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * @param input
+	 * @param from		an offset whose line is known
+	 * @param line		the line at {@code from}
+	 * @param bol		the beginning of that line
+	 * @param offset	an offset greater than {@code from}
+	 * @return the line at {@code offset}
+	 */
+	private static int lineAt(char[] input, int from, int line, int bol, int offset) {
+		final int[] count = new int[2];
+		countLines(input, from, offset, count);
+		return line + count[0];
+	}
+
+	/**
+	 * @param input
+	 * @param bol		the beginning of some line before {@code offset}
+	 * @param offset
+	 * @return the beginning of the line at {@code offset}
+	 */
+	private static int bolAt(char[] input, int bol, int offset) {
+		final int[] count = new int[2];
+		countLines(input, bol, offset, count);
+		return count[1] >= 0 ? count[1] : bol;
+	}
+}
@@ -0,0 +1,272 @@
+package org.stekikun.dolmen.codegen;
+
+import java.util.Arrays;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * A compact buffer of tokens, for clients which need all the tokens
+ * of some input at once, such as indexers or formatters. Rather than
+ * one object per token, the buffer stores every token as its
+ * <i>kind</i>, a user-defined integer such as the ordinal of the token
+ * kind in classes generated by {@link TokensOutput}, and the absolute
+ * offsets of its start and end, in parallel arrays of integers. Only
+ * tokens which carry some value have an entry in a side array of values.
+ * This takes 12 bytes per token, plus the values themselves.
+ * <p>
+ * The arrays are allocated in chunks of {@link #CHUNK_SIZE} tokens, so
+ * that growing the buffer never copies the tokens already stored.
+ * The buffer is typically filled in bulk from some lexer entry, with
+ * {@link #fill(LexBuffer, Function, ToIntFunction, Function, Predicate, int)}:
+ * <pre>
+ *   buffer.fill(lexer, MyLexer::main, tok -&gt; tok.getKind().ordinal(),
+ *       tok -&gt; tok instanceof Token.IDENT ? ((Token.IDENT) tok).value : null,
+ *       tok -&gt; tok == Token.EOF, Integer.MAX_VALUE);
+ * </pre>
+ * Since tokens without values are singletons in generated token classes,
+ * this performs no allocation besides the ones of the lexer and the
+ * tokens' values.
+ *
+ * @author Stéphane Lescuyer
+ */
+public final class TokenBuffer {
+
+	/** The number of bits used to index a token inside its chunk */
+	private static final int CHUNK_BITS = 12;
+
+	/** The number of tokens in each chunk of the buffer */
+	public static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+
+	private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+	/** The kinds of the tokens, by chunks */
+	private int[][] kinds;
+	/** The start offsets of the tokens, by chunks */
+	private int[][] starts;
+	/** The end offsets of the tokens, by chunks */
+	private int[][] ends;
+	/** The number of tokens in the buffer */
+	private int size;
+
+	/** The indices of the tokens with values, in increasing order */
+	private int[] valued;
+	/** The values of the tokens in {@link #valued} */
+	private @Nullable Object[] values;
+	/** The number of tokens with values */
+	private int nvalues;
+
+	/**
+	 * Builds an empty token buffer
+	 */
+	public TokenBuffer() {
+		this.kinds = new int[0][];
+		this.starts = new int[0][];
+		this.ends = new int[0][];
+		this.size = 0;
+		this.valued = new int[16];
+		this.values = new Object[16];
+		this.nvalues = 0;
+	}
+
+	/**
+	 * @return the number of tokens in the buffer
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * @return the number of tokens with values in the buffer
+	 */
+	public int valuesCount() {
+		return nvalues;
+	}
+
+	/**
+	 * Removes all tokens from the buffer, but keeps
+	 * the memory allocated for them
+	 */
+	public void clear() {
+		Arrays.fill(values, 0, nvalues, null);
+		size = 0;
+		nvalues = 0;
+	}
+
+	/**
+	 * Adds a token at the end of the buffer
+	 *
+	 * @param kind	the kind of the token
+	 * @param start	the absolute offset of the token's start
+	 * @param end	the absolute offset of the token's end
+	 * @param value	the value of the token, or {@code null}
+	 * 	if the token has no value
+	 */
+	public void add(int kind, int start, int end, @Nullable Object value) {
+		final int chunk = size >>> CHUNK_BITS;
+		if (chunk == kinds.length) grow();
+		final int idx = size & CHUNK_MASK;
+		kinds[chunk][idx] = kind;
+		starts[chunk][idx] = start;
+		ends[chunk][idx] = end;
+		if (value != null) {
+			if (nvalues == valued.length) {
+				valued = Arrays.copyOf(valued, 2 * nvalues);
+				values = Arrays.copyOf(values, 2 * nvalues);
+			}
+			valued[nvalues] = size;
+			values[nvalues] = value;
+			++nvalues;
+		}
+		++size;
+	}
+
+	private void grow() {
+		final int n = kinds.length;
+		kinds = Arrays.copyOf(kinds, n + 1);
+		starts = Arrays.copyOf(starts, n + 1);
+		ends = Arrays.copyOf(ends, n + 1);
+		kinds[n] = new int[CHUNK_SIZE];
+		starts[n] = new int[CHUNK_SIZE];
+		ends[n] = new int[CHUNK_SIZE];
+	}
+
+	/**
+	 * Calls {@code entry} on {@code lexbuf} repeatedly and adds the
+	 * returned tokens to the buffer, until a token satisfying {@code isEnd}
+	 * has been added or {@code max} tokens have been added. The offsets of
+	 * the tokens are the ones of the lexemes {@linkplain LexBuffer#getLexemeStart()
+	 * start} and {@linkplain LexBuffer#getLexemeEnd() end} after each call.
+	 * When positions are {@linkplain LexBuffer#disablePositions() disabled},
+	 * they are the offsets of the last lexeme matched, which differ for
+	 * tokens whose semantic actions call other entries.
+	 * <p>
+	 * Lexical errors are propagated, in which case the tokens
+	 * added before the error remain in the buffer.
+	 *
+	 * @param lexbuf	the lexer to use
+	 * @param entry		the entry to call on {@code lexbuf}
+	 * @param kind		returns the kind of a token
+	 * @param value		returns the value of a token, or {@code null}
+	 * 	for tokens without values
+	 * @param isEnd		whether a token is the last one to add
+	 * @param max		the maximal number of tokens to add
+	 * @return the number of tokens added to the buffer
+	 */
+	public <L extends LexBuffer, T> int fill(L lexbuf,
+			Function<? super L, ? extends T> entry,
+			ToIntFunction<? super T> kind,
+			Function<? super T, ? extends @Nullable Object> value,
+			Predicate<? super T> isEnd, int max) {
+		int count = 0;
+		while (count < max) {
+			final T tok = entry.apply(lexbuf);
+			add(kind.applyAsInt(tok),
+				lexbuf.getLexemeStartOffset(), lexbuf.getLexemeEndOffset(),
+				value.apply(tok));
+			++count;
+			if (isEnd.test(tok)) break;
+		}
+		return count;
+	}
+
+	private void checkIndex(int i) {
+		if (i < 0 || i >= size)
+			throw new IndexOutOfBoundsException("Invalid token index " + i);
+	}
+
+	/**
+	 * @param i
+	 * @return the kind of the {@code i}-th token
+	 */
+	public int getKind(int i) {
+		checkIndex(i);
+		return kinds[i >>> CHUNK_BITS][i & CHUNK_MASK];
+	}
+
+	/**
+	 * @param i
+	 * @return the absolute offset of the start of the {@code i}-th token
+	 */
+	public int getStart(int i) {
+		checkIndex(i);
+		return starts[i >>> CHUNK_BITS][i & CHUNK_MASK];
+	}
+
+	/**
+	 * @param i
+	 * @return the absolute offset of the end of the {@code i}-th token
+	 */
+	public int getEnd(int i) {
+		checkIndex(i);
+		return ends[i >>> CHUNK_BITS][i & CHUNK_MASK];
+	}
+
+	/**
+	 * This takes logarithmic time in the number of tokens with values.
+	 *
+	 * @param i
+	 * @return the value of the {@code i}-th token, or {@code null}
+	 * 	if it has no value
+	 */
+	public @Nullable Object getValue(int i) {
+		checkIndex(i);
+		final int k = Arrays.binarySearch(valued, 0, nvalues, i);
+		return k < 0 ? null : values[k];
+	}
+
+	/**
+	 * Copies the kinds of the tokens in {@code [from, to[}
+	 * to {@code dst}, starting at index {@code dstOff}
+	 *
+	 * @param from
+	 * @param to
+	 * @param dst
+	 * @param dstOff
+	 */
+	public void getKinds(int from, int to, int[] dst, int dstOff) {
+		copy(kinds, from, to, dst, dstOff);
+	}
+
+	/**
+	 * Copies the start offsets of the tokens in {@code [from, to[}
+	 * to {@code dst}, starting at index {@code dstOff}
+	 *
+	 * @param from
+	 * @param to
+	 * @param dst
+	 * @param dstOff
+	 */
+	public void getStarts(int from, int to, int[] dst, int dstOff) {
+		copy(starts, from, to, dst, dstOff);
+	}
+
+	/**
+	 * Copies the end offsets of the tokens in {@code [from, to[}
+	 * to {@code dst}, starting at index {@code dstOff}
+	 *
+	 * @param from
+	 * @param to
+	 * @param dst
+	 * @param dstOff
+	 */
+	public void getEnds(int from, int to, int[] dst, int dstOff) {
+		copy(ends, from, to, dst, dstOff);
+	}
+
+	private void copy(int[][] chunks, int from, int to, int[] dst, int dstOff) {
+		if (from < 0 || to > size || from > to)
+			throw new IndexOutOfBoundsException(
+				"Invalid token range [" + from + ", " + to + "[");
+		int i = from, off = dstOff;
+		while (i < to) {
+			final int idx = i & CHUNK_MASK;
+			final int len = Math.min(to - i, CHUNK_SIZE - idx);
+			System.arraycopy(chunks[i >>> CHUNK_BITS], idx, dst, off, len);
+			i += len;
+			off += len;
+		}
+	}
+}
@@ -1,6 +1,12 @@
 package org.stekikun.dolmen.common;
 
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
 import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
@@ -11,14 +17,17 @@ import org.eclipse.jdt.annotation.Nullable;
  * A class to represent character sets.
  * <p>
  * Characters are Java characters, i.e. 16-bit unsigned integers.
- * Character sets are mostly encoded as an ordered list of
- * character intervals, with some special values for degenerate
- * cases, and are thus optimized for space rather than for lookup speed.
+ * Character sets are mostly encoded as a packed array of the bounds
+ * of their ordered character intervals, with some special values for
+ * degenerate cases. Sets of Latin-1 characters also come with a bitmap
+ * of their characters, which speeds up lookups and set operations.
  * <p>
  * The special value 0xFFFF is reserved to denote end of file.
  * It is not a valid Unicode character anyway.
  * <p>
- * Instances of this class are immutable.
+ * Instances of this class are immutable, and are hash-consed:
+ * equivalent character sets are always represented by the same
+ * instance, so that equality tests and comparisons are cheap.
  * <p>
  * They implement the {@link Comparable} interface via a total 
  * ordering based on the lexicographic comparison of the character set,
@@ -54,6 +63,8 @@ public abstract class CSet implements Comparable<CSet> {
 
 	@Override
 	public final boolean equals(@Nullable Object o) {
+		if (this == o)
+			return true;
 		if (!(o instanceof CSet))
 			return false;
 		CSet cs = (CSet) o;
@@ -188,21 +199,32 @@ public abstract class CSet implements Comparable<CSet> {
 	
 	/**
 	 * Character sets reduced to a single character
-	 * 
+	 *
 	 * @author Stéphane Lescuyer
 	 */
 	private static final class Singleton extends CSet {
 		final char c;
+		/**
+		 * The bitmap of {@link #c} if it is in the
+		 * Latin-1 range, {@code null} otherwise
+		 */
+		final long @Nullable [] latin1;
 		
 		Singleton(char c) {
 			this.c = c;
+			if (c <= LATIN1_MAX) {
+				this.latin1 = new long[LATIN1_WORDS];
+				this.latin1[c >>> 6] = 1L << c;
+			}
+			else
+				this.latin1 = null;
 		}
-
+		
 		@Override
 		public boolean isEmpty() {
 			return false;
 		}
-
+		
 		@Override
 		public boolean contains(char ch) {
 			return ch == c;
@@ -212,12 +234,12 @@ public abstract class CSet implements Comparable<CSet> {
 		public int cardinal() {
 			return 1;
 		}
-
+		
 		@Override
 		public @NonNull String toString() {
 			return charToString(c, true);
 		}
-
+		
 		@Override
 		public int hashCode() {
 			return c;
@@ -228,102 +250,95 @@ public abstract class CSet implements Comparable<CSet> {
 	 * @return the singleton character set containing {@code c}
 	 */
 	public static CSet singleton(char c) {
-		return new Singleton(c);
+		if (c <= LATIN1_MAX) return LATIN1_SINGLETONS[c];
+		return intern(new Singleton(c));
 	}
 	
 	/**
-	 * Describes a single contiguous interval of characters,
-	 * from {@link #first} to {@link #last}, inclusive.
-	 * 
-	 * Each interval can potentially be linked to another
-	 * interval, forming a linked list of strictly ordered
-	 * intervals.
-	 * 
-	 * Intervals are immutable, including the link pointers.
-	 * Therefore common suffixes can be shared without restrain.
-	 * 
-	 * @author Stéphane Lescuyer
+	 * The largest character in the Latin-1 range
 	 */
-	private static final class Interval {
-		final char first;
-		final char last;
-		@Nullable final Interval next;
-		
-		Interval(char first, char last, @Nullable Interval next) {
-			assert (first <= last);
-			this.first = first;
-			this.last = last;
-			this.next = next;
-			// Check ordering with tail
-			if (next != null)
-				assert (last < next.first);
-		}
-		
-		private StringBuilder append(StringBuilder buf) {
-			if (first == last) 
-				buf.append(charToString(first, true));
-			else
-				buf.append(charToString(first, true))
-				   .append("-")
-				   .append(charToString(last, true));
-			if (next != null) {
-				next.append(buf.append(' '));
-			}
-			return buf;
-		}
-		
-		@Override
-		public String toString() {
-			return append(new StringBuilder()).toString();
-		}
-		
-		@Override
-		public int hashCode() {
-			int n = 0;
-			if (next != null)
-				n = next.hashCode();
-			return ((first << 16) | last) ^ n;
-		}
+	private static final char LATIN1_MAX = 0xFF;
+	
+	/**
+	 * The number of 64-bit words in a bitmap of Latin-1 characters
+	 */
+	private static final int LATIN1_WORDS = (LATIN1_MAX + 1) / 64;
+	
+	/**
+	 * The singleton character sets in the Latin-1 range, which
+	 * are allocated once and for all instead of being interned
+	 */
+	private static final CSet[] LATIN1_SINGLETONS;
+	static {
+		LATIN1_SINGLETONS = new CSet[LATIN1_MAX + 1];
+		for (char c = 0; c <= LATIN1_MAX; ++c)
+			LATIN1_SINGLETONS[c] = new Singleton(c);
 	}
 	
 	/**
 	 * Character sets described by the reunion of
-	 * several character ranges, stored as an
-	 * ordered linked list of {@link Interval}s
-	 * 
+	 * several character ranges, stored as a packed
+	 * array of bounds: the {@code i}-th range goes from
+	 * {@code bounds[2i]} to {@code bounds[2i+1]}, inclusive.
+	 * The ranges are non-empty, strictly ordered and separated
+	 * by at least one character.
+	 * <p>
+	 * When all the characters in the set are in the Latin-1
+	 * range, the set also comes with a bitmap of its characters,
+	 * which is used for membership tests and for operations
+	 * with other Latin-1 character sets.
+	 *
 	 * @author Stéphane Lescuyer
 	 */
-	private static final class Intervals extends CSet {
-		@Nullable final Interval head;
-
-		private Intervals(@Nullable Interval head) {
-			this.head = head;
+	private static final class Ranges extends CSet {
+		final char[] bounds;
+		final long @Nullable [] latin1;
+		private final int hash;
+		
+		Ranges(char[] bounds) {
+			this.bounds = bounds;
+			int h = 0;
+			for (int i = 0; i < bounds.length; i += 2)
+				h ^= (bounds[i] << 16) | bounds[i + 1];
+			this.hash = h;
+			if (bounds[bounds.length - 1] <= LATIN1_MAX) {
+				long[] bits = new long[LATIN1_WORDS];
+				for (int i = 0; i < bounds.length; i += 2) {
+					for (int c = bounds[i]; c <= bounds[i + 1]; ++c)
+						bits[c >>> 6] |= 1L << c;
+				}
+				this.latin1 = bits;
+			}
+			else
+				this.latin1 = null;
 		}
 		
 		@Override
 		public boolean isEmpty() {
-			return head == null;
+			return false;
 		}
-
+		
 		@Override
 		public boolean contains(char ch) {
-			Interval cur = head;
-			while (cur != null) {
-				if (ch < cur.first) return false; // by ordering
-				if (ch <= cur.last) return true;
-				cur = cur.next;
+			final long @Nullable [] bits = latin1;
+			if (bits != null)
+				return ch <= LATIN1_MAX && (bits[ch >>> 6] & (1L << ch)) != 0;
+			// Binary search on the ranges
+			int lo = 0, hi = bounds.length / 2 - 1;
+			while (lo <= hi) {
+				int mid = (lo + hi) >>> 1;
+				if (ch < bounds[2 * mid]) hi = mid - 1;
+				else if (ch > bounds[2 * mid + 1]) lo = mid + 1;
+				else return true;
 			}
 			return false;
 		}
-
+		
 		@Override
 		public int cardinal() {
 			int res = 0;
-			Interval cur = head;
-			while (cur != null) {
-				res += cur.last - cur.first + 1;
-				cur = cur.next;
-			}
+			for (int i = 0; i < bounds.length; i += 2)
+				res += bounds[i + 1] - bounds[i] + 1;
 			return res;
 		}
 		
@@ -331,20 +346,108 @@ public abstract class CSet implements Comparable<CSet> {
 		public String toString() {
 			StringBuilder buf = new StringBuilder();
 			buf.append("[");
-			if (head != null)
-				head.append(buf);
+			for (int i = 0; i < bounds.length; i += 2) {
+				if (i > 0) buf.append(' ');
+				buf.append(charToString(bounds[i], true));
+				if (bounds[i] != bounds[i + 1])
+					buf.append("-")
+					   .append(charToString(bounds[i + 1], true));
+			}
 			buf.append("]");
 			return buf.toString();
 		}
-
+		
 		@Override
 		public int hashCode() {
-			if (head != null)
-				return head.hashCode();
-			return 0;
+			return hash;
+		}
+	}
+	
+	/**
+	 * A weak reference to an interned character set, which
+	 * is equal to the references to equivalent character sets.
+	 * A reference which has been cleared is only equal to itself.
+	 *
+	 * @author Stéphane Lescuyer
+	 */
+	private static final class Ref extends WeakReference<CSet> {
+		private final int hash;
+		
+		Ref(CSet cs) {
+			super(cs, QUEUE);
+			this.hash = cs.hashCode();
+		}
+		
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+		
+		@Override
+		public boolean equals(@Nullable Object o) {
+			if (this == o) return true;
+			if (!(o instanceof Ref)) return false;
+			final Ref ref = (Ref) o;
+			if (hash != ref.hash) return false;
+			final @Nullable CSet cs = get();
+			return cs != null && cs.equals(ref.get());
+		}
+	}
+	
+	/**
+	 * The queue where the references in {@link #TABLE} are
+	 * enqueued when their character sets are garbage-collected
+	 */
+	private static final ReferenceQueue<CSet> QUEUE = new ReferenceQueue<>();
+	
+	/**
+	 * The table of all character sets built so far, used to
+	 * hash-cons character sets. Only weak references to the
+	 * character sets are kept, so that the table does not
+	 * prevent them from being garbage-collected, and the
+	 * references are removed once they have been cleared.
+	 * <p>
+	 * Character sets are built concurrently when entries are
+	 * determinized in parallel, so the table is a concurrent
+	 * map and interning does not take any lock.
+	 */
+	private static final ConcurrentMap<Ref, Ref> TABLE =
+		new ConcurrentHashMap<>();
+	
+	/**
+	 * @param cs
+	 * @return the unique character set equivalent to {@code cs}
+	 */
+	private static CSet intern(CSet cs) {
+		for (@Nullable Reference<? extends CSet> ref; (ref = QUEUE.poll()) != null; )
+			TABLE.remove(ref);
+		final Ref ref = new Ref(cs);
+		while (true) {
+			final @Nullable Ref prev = TABLE.putIfAbsent(ref, ref);
+			if (prev == null) return cs;
+			final @Nullable CSet res = prev.get();
+			if (res != null) return res;
+			// prev has been cleared in the meantime and
+			// will not be found by the next attempt
 		}
 	}
 	
+	/**
+	 * @param bounds
+	 * @param n
+	 * @return the canonical character set whose ranges are
+	 * 	described by the first {@code n} bounds in {@code bounds}
+	 */
+	private static CSet ranges(char[] bounds, int n) {
+		if (n == 0) return EMPTY;
+		if (n == 2) {
+			if (bounds[0] == bounds[1]) return singleton(bounds[0]);
+			if (bounds[0] == 0 && bounds[1] == 0xFFFF) return ALL;
+		}
+		return intern(new Ranges(
+			n == bounds.length ? bounds : Arrays.copyOf(bounds, n)));
+	}
+	
 	/**
 	 * @param first
 	 * @param last
@@ -354,15 +457,14 @@ public abstract class CSet implements Comparable<CSet> {
 	 */
 	public static CSet interval(char first, char last) {
 		if (first > last) throw new IllegalArgumentException();
-		if (first == last) return new Singleton(first);
-		return new Intervals(new Interval(first, last, null));
+		return ranges(new char[] { first, last }, 2);
 	}
-
+	
 	/**
 	 * Special character set used to denote end-of-file
 	 */
 	public static final CSet EOF = singleton((char)0xFFFF);
-
+	
 	/**
 	 * Like {@link #ALL} but does not contain the special
 	 * end-of-input marker
@@ -370,29 +472,17 @@ public abstract class CSet implements Comparable<CSet> {
 	public static final CSet ALL_BUT_EOF =
 		interval((char)0, (char)0xFFFE);
 	
-	private static CSet intervals(@Nullable Interval i) {
-		if (i == null) return EMPTY;
-		if (i.next != null) return new Intervals(i);
-		if (i.first == i.last) return new Singleton(i.first);
-		if (i.first == 0) {
-			if (i.last == 0xFFFE) return ALL_BUT_EOF;
-			if (i.last == 0xFFFF) return ALL;
-		}
-		return new Intervals(i);
-	}
-	
 	/**
 	 * Applies the function {@code f} to all characters
 	 * in the character set
-	 * 
+	 *
 	 * @param f
 	 */
 	public void forEach(Consumer<? super Character> f) {
-		@Nullable Interval cur = intervalsOf(this);
-		while (cur != null) {
-			for (int c = cur.first; c <= cur.last; ++c)
+		final char[] bounds = boundsOf(this);
+		for (int i = 0; i < bounds.length; i += 2) {
+			for (int c = bounds[i]; c <= bounds[i + 1]; ++c)
 				f.accept((char) c);
-			cur = cur.next;
 		}
 		return;
 	}
@@ -407,74 +497,180 @@ public abstract class CSet implements Comparable<CSet> {
 	 * <li> in particular, two successive intervals are necessarily
 	 *      separated by at least one character or they would have been merged
 	 * </ul>
-	 * 
+	 *
 	 * @param f
 	 */
 	public void forEachInterval(BiConsumer<? super Character, ? super Character> f) {
-		@Nullable Interval cur = intervalsOf(this);
-		while (cur != null) {
-			f.accept(cur.first, cur.last);
-			cur = cur.next;
-		}
+		final char[] bounds = boundsOf(this);
+		for (int i = 0; i < bounds.length; i += 2)
+			f.accept(bounds[i], bounds[i + 1]);
 		return;
 	}
 	
 	/*
 	 * Character set operations
-	 * 
+	 *
 	 * All character sets operations are implemented
 	 * with the following principles in mind:
-	 * 
+	 *
 	 * - canonicity: character sets are supposed to be
-	 * 	canonical in terms of representation (i.e. no 
-	 * 	degenerate interval but ALL, EMPTY or Singleton
-	 *  instead), and of course well-formed in that lists
-	 *  of intervals are strictly-ordered. All operations
-	 *  return character sets with the same property, and
-	 *  so that this property can be relied upon when
-	 *  comparing character sets, for instance.
-	 * - suffix of interval lists are shared as most as
-	 *  possible during operations, in order to take profit
-	 *  of the fact that intervals are immutable.
-	 */
-	
-	private static final Interval ALL_INTERVAL =
-		new Interval((char)0, (char)0xFFFF, null);
-	
-	private static @Nullable Interval intervalsOf(CSet cs) {
-		if (cs instanceof Intervals)
-			return ((Intervals) cs).head;
+	 * 	canonical in terms of representation (i.e. no
+	 * 	degenerate ranges but ALL, EMPTY or Singleton
+	 *  instead), and of course well-formed in that ranges
+	 *  are strictly-ordered. All operations return character
+	 *  sets with the same property, and so that this property
+	 *  can be relied upon when comparing character sets, for instance.
+	 * - hash-consing: all character sets are built through
+	 *  the table of character sets, so that equivalent character
+	 *  sets are physically equal. Equality tests and comparisons
+	 *  of equivalent sets are thus immediate.
+	 * - operations on Latin-1 character sets are performed
+	 *  on their bitmaps, other operations go through a single
+	 *  linear traversal of the sets' bounds.
+	 */
+	
+	private static final char[] NO_BOUNDS = new char[0];
+	private static final char[] ALL_BOUNDS = { 0, 0xFFFF };
+	private static final long[] NO_BITS = new long[LATIN1_WORDS];
+	
+	private static char[] boundsOf(CSet cs) {
+		if (cs instanceof Ranges)
+			return ((Ranges) cs).bounds;
 		if (cs instanceof Singleton) {
 			char c = ((Singleton) cs).c;
-			return new Interval(c, c, null);
+			return new char[] { c, c };
 		}
-		if (cs == ALL) return ALL_INTERVAL;
-		if (cs == EMPTY) return null;
+		if (cs == ALL) return ALL_BOUNDS;
+		if (cs == EMPTY) return NO_BOUNDS;
 		throw new IllegalStateException();
 	}
 	
 	/**
-	 * @param i1
-	 * @param i2
-	 * @return the union of two ordered lists of intervals
-	 * 		as an ordered list of intervals
-	 */
-	private static 
-	@Nullable Interval iunion(
-		@Nullable Interval i1, @Nullable Interval i2) {
-		if (i1 == null) return i2;
-		if (i2 == null) return i1;
-		if (i1.first > i2.first) return iunion(i2, i1);
-		if (i1.last + 1 < i2.first) {
-			return new Interval(i1.first, i1.last,
-								iunion(i1.next, i2));
-		} else if (i1.last < i2.last) {
-			return iunion(
-					new Interval(i1.first, i2.last, i2.next),
-					i1.next);
-		} else {
-			return iunion(i1, i2.next);
+	 * @param cs
+	 * @return the bitmap of the characters in {@code cs}
+	 * 	if they all are in the Latin-1 range, {@code null} otherwise
+	 */
+	private static long @Nullable [] latin1Of(CSet cs) {
+		if (cs instanceof Ranges)
+			return ((Ranges) cs).latin1;
+		if (cs instanceof Singleton)
+			return ((Singleton) cs).latin1;
+		if (cs == EMPTY) return NO_BITS;
+		return null;
+	}
+	
+	/** The kinds of binary operations on character sets */
+	private enum Op {
+		UNION, INTER, DIFF;
+		
+		boolean apply(boolean in1, boolean in2) {
+			switch (this) {
+			case UNION: return in1 || in2;
+			case INTER: return in1 && in2;
+			case DIFF: return in1 && !in2;
+			}
+			throw new IllegalStateException();
+		}
+		
+		long apply(long w1, long w2) {
+			switch (this) {
+			case UNION: return w1 | w2;
+			case INTER: return w1 & w2;
+			case DIFF: return w1 & ~w2;
+			}
+			throw new IllegalStateException();
+		}
+	}
+	
+	/**
+	 * @param bits
+	 * @param from
+	 * @param set
+	 * @return the first character from {@code from}
+	 * 	onwards whose bit in {@code bits} is {@code set}, or
+	 * 	the first character outside the Latin-1 range if none
+	 */
+	private static int nextBit(long[] bits, int from, boolean set) {
+		for (int w = from >>> 6; w < LATIN1_WORDS; ++w) {
+			long word = set ? bits[w] : ~bits[w];
+			if (w == from >>> 6)
+				word &= -1L << from;
+			if (word != 0)
+				return (w << 6) + Long.numberOfTrailingZeros(word);
+		}
+		return LATIN1_MAX + 1;
+	}
+	
+	/**
+	 * @param bits
+	 * @return the character set described by the
+	 * 	given bitmap of Latin-1 characters
+	 */
+	private static CSet latin1(long[] bits) {
+		final char[] bounds = new char[LATIN1_MAX + 1];
+		int n = 0;
+		int c = nextBit(bits, 0, true);
+		while (c <= LATIN1_MAX) {
+			final int end = nextBit(bits, c, false);
+			bounds[n++] = (char) c;
+			bounds[n++] = (char) (end - 1);
+			if (end > LATIN1_MAX) break;
+			c = nextBit(bits, end, true);
+		}
+		return ranges(bounds, n);
+	}
+	
+	/**
+	 * @param b
+	 * @param i
+	 * @return the {@code i}-th boundary described by
+	 * 	the bounds {@code b}, i.e. the first character
+	 *  of a range if {@code i} is even, or the first
+	 *  character after a range if {@code i} is odd
+	 */
+	private static int boundary(char[] b, int i) {
+		return (i & 1) == 0 ? b[i] : b[i] + 1;
+	}
+	
+	/**
+	 * @param op
+	 * @param cs1
+	 * @param cs2
+	 * @return the result of applying the operation {@code op}
+	 * 	to the character sets {@code cs1} and {@code cs2}
+	 */
+	private static CSet apply(Op op, CSet cs1, CSet cs2) {
+		final long @Nullable [] bits1 = latin1Of(cs1);
+		final long @Nullable [] bits2 = latin1Of(cs2);
+		if (bits1 != null && bits2 != null) {
+			final long[] bits = new long[LATIN1_WORDS];
+			for (int w = 0; w < LATIN1_WORDS; ++w)
+				bits[w] = op.apply(bits1[w], bits2[w]);
+			return latin1(bits);
 		}
+		
+		// Sweep the boundaries of both sets in increasing order,
+		// keeping track of whether we are inside each set, and
+		// record the boundaries where the result changes
+		final char[] b1 = boundsOf(cs1);
+		final char[] b2 = boundsOf(cs2);
+		final char[] res = new char[b1.length + b2.length];
+		int n = 0;
+		int i1 = 0, i2 = 0;
+		boolean in1 = false, in2 = false, in = false;
+		while (i1 < b1.length || i2 < b2.length) {
+			final int p1 = i1 < b1.length ? boundary(b1, i1) : Integer.MAX_VALUE;
+			final int p2 = i2 < b2.length ? boundary(b2, i2) : Integer.MAX_VALUE;
+			final int p = Math.min(p1, p2);
+			if (p1 == p) { in1 = !in1; ++i1; }
+			if (p2 == p) { in2 = !in2; ++i2; }
+			final boolean now = op.apply(in1, in2);
+			if (now != in) {
+				res[n++] = (char) (now ? p : p - 1);
+				in = now;
+			}
+		}
+		return ranges(res, n);
 	}
 	
 	/**
@@ -483,9 +679,9 @@ public abstract class CSet implements Comparable<CSet> {
 	public static CSet union(CSet cs1, CSet cs2) {
 		if (cs1 == EMPTY || cs2 == ALL) return cs2;
 		if (cs2 == EMPTY || cs1 == ALL) return cs1;
+		if (cs1 == cs2) return cs1;
 		// No EMPTY, no ALL
-		return intervals(
-				iunion(intervalsOf(cs1), intervalsOf(cs2)));		
+		return apply(Op.UNION, cs1, cs2);
 	}
 	
 	/**
@@ -510,42 +706,12 @@ public abstract class CSet implements Comparable<CSet> {
 		return res;
 	}
 	
-	private static char maxChar(char c1, char c2) {
-		if (c1 > c2) return c1;
-		return c2;
-	}
-	
-	/**
-	 * @param i1
-	 * @param i2
-	 * @return the intersection of two ordered list
-	 * 		of intervals, as an ordered list of intervals
-	 */
-	private static 
-	@Nullable Interval iinter(
-		@Nullable Interval i1, @Nullable Interval i2) {
-		if (i1 == null || i2 == null) return null;
-		if (i1.last < i2.first) {
-			return iinter(i1.next, i2);
-		} else if (i2.last < i1.first){
-			return iinter(i1, i2.next);
-		} else if (i1.last < i2.last) {
-			return new Interval(maxChar(i1.first, i2.first), 
-						i1.last,
-						iinter(i1.next, i2));
-		} else {
-			return new Interval(maxChar(i1.first, i2.first),
-						i2.last,
-						iinter(i1, i2.next));
-		}
-	}
-	
 	/**
 	 * Returns the intersection of the two given character sets
 	 */
 	public static CSet inter(CSet cs1, CSet cs2) {
 		if (cs1 == EMPTY || cs2 == EMPTY) return EMPTY;
-		if (cs1 == ALL) return cs2;
+		if (cs1 == ALL || cs1 == cs2) return cs2;
 		if (cs2 == ALL) return cs1;
 		if (cs1 instanceof Singleton) {
 			char c1 = ((Singleton) cs1).c;
@@ -557,41 +723,7 @@ public abstract class CSet implements Comparable<CSet> {
 			if (cs1.contains(c2)) return cs2;
 			else return EMPTY;
 		}
-		return intervals(
-				iinter(intervalsOf(cs1), intervalsOf(cs2)));
-	}
-	
-	/**
-	 * @param i1
-	 * @param i2
-	 * @return the difference between the ordered intervals
-	 * 		{@code i1} and {@code i2}, in this order
-	 */
-	private static
-	@Nullable Interval idiff(
-		@Nullable Interval i1, @Nullable Interval i2) {
-		if (i2 == null) return i1;
-		if (i1 == null) return null;
-		if (i1.last < i2.first) {
-			return new Interval(i1.first, i1.last,
-					idiff(i1.next, i2));
-		} else if (i2.last < i1.first){
-			return idiff(i1, i2.next);
-		} else {
-			Interval r = i1.next;
-			Interval r2 = i2;
-			if (i2.last < i1.last) {
-				r = new Interval((char) (i2.last + 1), 
-							i1.last, r);
-				r2 = i2.next;
-			}
-			if (i1.first < i2.first) {
-				return new Interval(i1.first, (char) (i2.first - 1),
-							idiff(r, r2));
-			} else {
-				return idiff(r, r2);
-			}
-		}
+		return apply(Op.INTER, cs1, cs2);
 	}
 	
 	/**
@@ -601,7 +733,7 @@ public abstract class CSet implements Comparable<CSet> {
 	 * 		in {@code cs1} except those that are in {@code cs2}
 	 */
 	public static CSet diff(CSet cs1, CSet cs2) {
-		if (cs1 == EMPTY || cs2 == ALL) return EMPTY;
+		if (cs1 == EMPTY || cs2 == ALL || cs1 == cs2) return EMPTY;
 		if (cs2 == EMPTY) return cs1;
 		if (cs1 instanceof Singleton) {
 			char c1 = ((Singleton) cs1).c;
@@ -612,8 +744,7 @@ public abstract class CSet implements Comparable<CSet> {
 			char c2 = ((Singleton) cs2).c;
 			if (!cs1.contains(c2)) return cs1;
 		}
-		return intervals(
-				idiff(intervalsOf(cs1), intervalsOf(cs2)));
+		return apply(Op.DIFF, cs1, cs2);
 	}
 	
 	/**
@@ -625,47 +756,34 @@ public abstract class CSet implements Comparable<CSet> {
 		return diff(ALL_BUT_EOF, cs);
 	}
 	
-	private static int icompare(
-			@Nullable Interval i1, @Nullable Interval i2) {
-		if (i1 == i2) return 0;
-		if (i1 == null) return -1;
-		if (i2 == null) return 1;
-		
-		int r = i1.first - i2.first;
-		if (r != 0) return r;
-		r = i1.last - i2.last;
-		if (r != 0) return r;
-		return icompare(i1.next, i2.next);
-	}
-	
 	/**
 	 * Implements the total order between character sets based on
 	 * a lexicographic comparison of their intervals. In particular,
 	 * the smallest character set wrt this order is {@link #EMPTY},
 	 * and the largest is {@link #EOF}.
-	 * 
+	 *
 	 * @param cs1
 	 * @param cs2
 	 * @return -1, 0, or 1 depending on whether {@code cs1} is smaller,
 	 * 	equivalent or larger than {@code cs2}
 	 */
 	private static int compare(CSet cs1, CSet cs2) {
-		// By canonicity, equivalent character sets are 
-		// represented in the same manner interval-wise so
+		// By canonicity, equivalent character sets are
+		// represented in the same manner range-wise so
 		// the order will be a morphism for equivalence
 		if (cs1 == cs2) return 0;
 		if (cs1 == EMPTY) return -1;
 		if (cs2 == EMPTY) return 1;
-		return Integer.signum(icompare(intervalsOf(cs1), intervalsOf(cs2)));
-	}
-	
-	private static boolean iequivalent(
-			@Nullable Interval i1, @Nullable Interval i2) {
-		if (i1 == i2) return true;
-		if (i1 == null || i2 == null) return false;
-		if (i1.first != i2.first) return false;
-		if (i1.last != i2.last) return false;
-		return iequivalent(i1.next, i2.next);
+		if (cs1 instanceof Singleton && cs2 instanceof Singleton)
+			return Integer.signum(((Singleton) cs1).c - ((Singleton) cs2).c);
+		final char[] b1 = boundsOf(cs1);
+		final char[] b2 = boundsOf(cs2);
+		final int n = Math.min(b1.length, b2.length);
+		for (int i = 0; i < n; ++i) {
+			if (b1[i] != b2[i])
+				return b1[i] < b2[i] ? -1 : 1;
+		}
+		return Integer.compare(b1.length, b2.length);
 	}
 	
 	/**
@@ -675,17 +793,19 @@ public abstract class CSet implements Comparable<CSet> {
 	 * 	character sets are equivalent
 	 */
 	public static boolean equivalent(CSet cs1, CSet cs2) {
-		// By canonicity, equivalent character sets are 
-		// represented in the same manner
+		// By hash-consing, equivalent character sets are
+		// physically equal, but this is also used to look
+		// character sets up in the hash-consing table
 		if (cs1 == cs2) return true;
 		// Can't have cs1 and cs2 both equal to EMPTY or ALL
 		if (cs1.getClass() != cs2.getClass()) return false;
+		if (cs1.hashCode() != cs2.hashCode()) return false;
 		if (cs1 instanceof Singleton) {
 			char c1 = ((Singleton) cs1).c;
 			char c2 = ((Singleton) cs2).c;
 			return c1 == c2;
 		}
-		return iequivalent(intervalsOf(cs1), intervalsOf(cs2));
+		return Arrays.equals(boundsOf(cs1), boundsOf(cs2));
 	}
 	
 	/**
@@ -697,7 +817,7 @@ public abstract class CSet implements Comparable<CSet> {
 	public static boolean included(CSet cs1, CSet cs2) {
 		return diff(cs2, cs1) == CSet.EMPTY;
 	}
-	
+
 	/*
 	 * Generating random character sets
 	 */
@@ -774,15 +894,15 @@ public abstract class CSet implements Comparable<CSet> {
 			// Generate n random intervals in [minChar, maxChar]
 			// and take the reunion of these
 			int n = 1 + random.nextInt(config.maxIntervals);
-			@Nullable Interval interval = null;
+			CSet res = EMPTY;
 			for (int i = 0; i < n; ++i) {
 				char first = nextChar();
 				char last = (char) (first + random.nextInt(config.maxSize));
 				if (last > config.maxChar)
 					last = config.maxChar;
-				interval = iunion(new Interval(first, last, null), interval);
+				res = union(interval(first, last), res);
 			}
-			return intervals(interval);
+			return res;
 		}
 		
 		@Override
@@ -811,8 +931,6 @@ public abstract class CSet implements Comparable<CSet> {
 			char c = ((Singleton) cset).c;
 			return Iterables.singleton(c);
 		}
-		Interval i = ((Intervals) cset).head;
-		if (i == null) return Iterables.empty();
-		return Iterables.singleton(i.first);
+		return Iterables.singleton(((Ranges) cset).bounds[0]);
 	}
 }
\ No newline at end of file
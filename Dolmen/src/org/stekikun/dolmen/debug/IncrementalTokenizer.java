@@ -0,0 +1,312 @@
+package org.stekikun.dolmen.debug;
+
+import java.io.StringReader;
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.Nullable;
+import org.stekikun.dolmen.codegen.LexBuffer;
+import org.stekikun.dolmen.codegen.LexBuffer.LexicalError;
+import org.stekikun.dolmen.codegen.LexBuffer.NeedInput;
+import org.stekikun.dolmen.codegen.LexBuffer.Position;
+import org.stekikun.dolmen.debug.Tokenizer.LexerInterface;
+
+/**
+ * An incremental tokenizer maintains the tokens of some text, as
+ * returned by a Dolmen-generated lexical analyzer, while the text
+ * is being {@linkplain #edit(int, int, CharSequence) edited}. It is
+ * meant for editor integrations, where re-tokenizing whole files
+ * after every keystroke is too slow.
+ * <p>
+ * Every recorded token is a <i>checkpoint</i>: it records the offset
+ * at which the entry call which returned it ended, along with the line
+ * at that point, so that lexing can be restarted there. It also records
+ * how far in the input the lexer had read until then. The latter is
+ * tracked by {@linkplain LexBuffer#feed(java.nio.CharBuffer) feeding}
+ * the lexer with input on demand, and is over-approximated: the lexer
+ * is fed at least {@link #MIN_FEED} characters at a time, and the size
+ * of the chunks doubles while a token is pending, so it may not have
+ * read all the characters it was fed. After an edit, tokens which
+ * were entirely decided by characters before the edit are kept, and
+ * lexing restarts from the last of them. It stops as soon as an entry
+ * call starts, after the edited text, at the same place as some former
+ * token: the remaining tokens are then kept as well, with their
+ * positions shifted. The lexing work for an edit is thus proportional
+ * to the size of the change and the lookahead of the lexer, rather
+ * than to the size of the text. When the former tokenization had
+ * stopped on a lexical error, the entry call which raised it is made
+ * again, so that the error is reported at its new position.
+ * <p>
+ * As with {@link org.stekikun.dolmen.codegen.ParallelLexer}, this
+ * requires that the lexer's entry only depends on the position at
+ * which it is called, and not on some state left over by previous
+ * tokens. Tokens which are kept after an edit are not recomputed, so
+ * positions should be retrieved with {@link Token#getStart()} and
+ * {@link Token#getEnd()} rather than stored in token values.
+ * Position tracking must be enabled in the lexer, and lines must
+ * not be {@linkplain LexBuffer#enableLineIndex() indexed}.
+ *
+ * @author Stéphane Lescuyer
+ *
+ * @param <L>	the type of {@link LexBuffer} used to tokenize the text
+ * @param <T>	the type of tokens returned by the lexer's entry
+ */
+public final class IncrementalTokenizer<L extends LexBuffer, T> {
+
+	/** The minimal number of characters fed to the lexer at once */
+	private static final int MIN_FEED = 16;
+
+	/**
+	 * A token recorded by an {@link IncrementalTokenizer}, along
+	 * with the information needed to restart lexing after it
+	 *
+	 * @author Stéphane Lescuyer
+	 *
+	 * @param <T>	the type of token values
+	 */
+	public static final class Token<T> {
+		private final T value;
+		/** The offset of the start of the lexeme */
+		private int start;
+		/** The offset of the end of the lexeme */
+		private int end;
+		/** The offset at which the entry call returning this token ended */
+		private int callEnd;
+		/** The line at {@link #callEnd} */
+		private int line;
+		/** The beginning of the line at {@link #callEnd} */
+		private int bol;
+		/**
+		 * An offset such that the lexer had only read characters
+		 * strictly before it until this token was returned,
+		 * or the length of the text plus one if end-of-input was read
+		 */
+		private int reach;
+
+		Token(T value, int start, int end, int callEnd, int line, int bol, int reach) {
+			this.value = value;
+			this.start = start;
+			this.end = end;
+			this.callEnd = callEnd;
+			this.line = line;
+			this.bol = bol;
+			this.reach = reach;
+		}
+
+		/**
+		 * @return the value returned by the lexer's entry
+		 */
+		public T getValue() {
+			return value;
+		}
+
+		/**
+		 * @return the offset of the start of the token in the text
+		 */
+		public int getStart() {
+			return start;
+		}
+
+		/**
+		 * @return the offset of the end of the token in the text
+		 */
+		public int getEnd() {
+			return end;
+		}
+
+		@Override
+		public String toString() {
+			return value + "@[" + start + ", " + end + "[";
+		}
+	}
+
+	private final LexerInterface<L, T> lexer;
+	private final String inputName;
+	private final StringBuilder text;
+	private final L lexbuf;
+
+	/** The current tokens */
+	private List<Token<T>> tokens;
+	/** The lexical error which stopped the tokenization, if any */
+	private @Nullable LexicalError error;
+
+	/**
+	 * Builds an incremental tokenizer for {@code text}, and
+	 * tokenizes it until the halting condition of {@code lexer}
+	 * is met or a lexical error occurs
+	 *
+	 * @param lexer		an interface to the lexical analyzer to use
+	 * @param inputName	a user-friendly name describing the input
+	 * @param text		the initial text
+	 */
+	public IncrementalTokenizer(LexerInterface<L, T> lexer,
+			String inputName, CharSequence text) {
+		this.lexer = lexer;
+		this.inputName = inputName;
+		this.text = new StringBuilder(text);
+		this.lexbuf = lexer.makeLexer(inputName, new StringReader(""));
+		this.tokens = new ArrayList<>();
+		this.error = null;
+		relex(0, 0, 0, 0);
+	}
+
+	/**
+	 * @return the current text, which must not be modified
+	 * 	other than through {@link #edit(int, int, CharSequence)}
+	 */
+	public CharSequence getText() {
+		return text;
+	}
+
+	/**
+	 * @return an unmodifiable view of the current tokens, including
+	 * 	the one which met the halting condition, if any
+	 */
+	public List<Token<T>> getTokens() {
+		return Collections.unmodifiableList(tokens);
+	}
+
+	/**
+	 * @return the lexical error which stopped the tokenization of
+	 * 	the current text before the halting condition was met, if any
+	 */
+	public @Nullable LexicalError getError() {
+		return error;
+	}
+
+	/**
+	 * Replaces the {@code removed} characters at {@code offset} in
+	 * the text by {@code inserted}, and updates the tokens accordingly
+	 *
+	 * @param offset
+	 * @param removed
+	 * @param inserted
+	 * @return the number of tokens which had to be lexed again
+	 * @throws IndexOutOfBoundsException if {@code offset} and
+	 * 	{@code removed} do not describe a range of the current text
+	 */
+	public int edit(int offset, int removed, CharSequence inserted) {
+		if (offset < 0 || removed < 0 || offset > text.length() - removed)
+			throw new IndexOutOfBoundsException(
+				"Invalid range [" + offset + ", " + offset + " + " + removed + "[");
+		text.replace(offset, offset + removed, inserted.toString());
+		// Keep the tokens which only depend on characters before the
+		// edit; reaches are non-decreasing so we can use binary search
+		int lo = 0, hi = tokens.size();
+		while (lo < hi) {
+			final int mid = (lo + hi) >>> 1;
+			if (tokens.get(mid).reach <= offset) lo = mid + 1;
+			else hi = mid;
+		}
+		return relex(lo, offset + inserted.length(),
+				offset + removed, inserted.length() - removed);
+	}
+
+	/**
+	 * @param old
+	 * @param k
+	 * @return the offset at which the call returning the
+	 * 	{@code k}-th token in {@code old} started
+	 */
+	private static <T> int callStart(List<Token<T>> old, int k) {
+		return k == 0 ? 0 : old.get(k - 1).callEnd;
+	}
+
+	/**
+	 * Lexes the text again from the end of the {@code j}-th token,
+	 * until the tokens synchronise with the former ones, after the
+	 * edited text, or the tokenization ends
+	 *
+	 * @param j			the number of tokens which are kept
+	 * @param editEnd	the end of the edited text
+	 * @param oldEditEnd	the end of the edited text, before the edit
+	 * @param delta		the difference between the text's new and old lengths
+	 * @return the number of tokens which have been lexed
+	 */
+	private int relex(int j, int editEnd, int oldEditEnd, int delta) {
+		final List<Token<T>> old = tokens;
+		final boolean oldError = error != null;
+		final List<Token<T>> res = new ArrayList<>(old.subList(0, j));
+		tokens = res;
+		error = null;
+
+		int line = j == 0 ? 1 : old.get(j - 1).line;
+		int bol = j == 0 ? 0 : old.get(j - 1).bol;
+		int reach = j == 0 ? 0 : old.get(j - 1).reach;
+		final int from = callStart(old, j);
+		lexbuf.reset(inputName);
+		lexbuf.restartAt(from, line, bol);
+
+		final int length = text.length();
+		int fedTo = from;
+		boolean eof = false;
+		int m = j;
+		int count = 0;
+		while (true) {
+			final int p = lexbuf.getCurrentOffset();
+			if (p >= editEnd) {
+				// Look for a former token starting at the same place
+				while (m < old.size() && callStart(old, m) + delta < p) ++m;
+				if (m < old.size() && callStart(old, m) >= oldEditEnd
+						&& callStart(old, m) + delta == p) {
+					final int oldLine = m == 0 ? 1 : old.get(m - 1).line;
+					final int oldBol = m == 0 ? 0 : old.get(m - 1).bol;
+					for (int k = m; k < old.size(); ++k) {
+						final Token<T> tok = old.get(k);
+						tok.start += delta;
+						tok.end += delta;
+						tok.callEnd += delta;
+						tok.bol = tok.bol == oldBol ? bol : tok.bol + delta;
+						tok.line += line - oldLine;
+						tok.reach = Math.max(reach, tok.reach + delta);
+						res.add(tok);
+					}
+					if (!oldError) return count;
+					// The former error was computed before the edit, so the
+					// call which raised it must be made again to locate it
+					m = old.size();
+					final int last = res.size() - 1;
+					line = last < 0 ? 1 : res.get(last).line;
+					bol = last < 0 ? 0 : res.get(last).bol;
+					reach = last < 0 ? 0 : res.get(last).reach;
+					fedTo = last < 0 ? 0 : res.get(last).callEnd;
+					eof = false;
+					lexbuf.reset(inputName);
+					lexbuf.restartAt(fedTo, line, bol);
+					continue;
+				}
+			}
+
+			final T tok;
+			try {
+				tok = lexbuf.poll(() -> lexer.entry(lexbuf));
+			} catch (NeedInput e) {
+				if (fedTo >= length) {
+					lexbuf.endOfInput();
+					eof = true;
+				}
+				else {
+					final int to = (int) Math.min(length,
+						(long) fedTo + Math.max(MIN_FEED, fedTo - p));
+					lexbuf.feed(CharBuffer.wrap(text, fedTo, to));
+					fedTo = to;
+				}
+				continue;
+			} catch (LexicalError e) {
+				error = e;
+				return count;
+			}
+			++count;
+			reach = Math.max(reach, eof ? length + 1 : fedTo);
+			final Position start = lexbuf.getLexemeStart();
+			final Position end = lexbuf.getLexemeEnd();
+			line = end.line;
+			bol = end.bol;
+			res.add(new Token<>(tok, start.offset, end.offset,
+					lexbuf.getCurrentOffset(), line, bol, reach));
+			if (lexer.halt(tok)) return count;
+		}
+	}
+}
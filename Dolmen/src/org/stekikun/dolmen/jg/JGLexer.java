@@ -47,6 +47,27 @@ public final class JGLexer extends org.stekikun.dolmen.codegen.LexBuffer {
         super("1.0.0", inputname, reader);
     }
     
+    /**
+     * Returns a fresh lexer based on the given range of characters,
+     * which is used in place and must not be modified while lexing
+     * @param inputname
+     * @param chars
+     * @param offset
+     * @param length
+     */
+    public JGLexer(String inputname, char[] chars, int offset, int length) {
+        super("1.0.0", inputname, chars, offset, length);
+    }
+    
+    /**
+     * Returns a fresh lexer based on the given in-memory characters
+     * @param inputname
+     * @param input
+     */
+    public JGLexer(String inputname, CharSequence input) {
+        super("1.0.0", inputname, input);
+    }
+    
     /**
      * Entry point for rule main
      */
@@ -166,7 +187,7 @@ public final class JGLexer extends org.stekikun.dolmen.codegen.LexBuffer {
         while (true) {
             // Initialize lexer for this automaton
             startToken();
-            int result = _jl_cell24();
+            int result = _jl_cell23();
             endToken();
             switch (result) {
             case 0:  {
@@ -210,7 +231,7 @@ public final class JGLexer extends org.stekikun.dolmen.codegen.LexBuffer {
         while (true) {
             // Initialize lexer for this automaton
             startToken();
-            int result = _jl_cell32();
+            int result = _jl_cell26();
             endToken();
             switch (result) {
             case 0:  {
@@ -265,7 +286,7 @@ public final class JGLexer extends org.stekikun.dolmen.codegen.LexBuffer {
         while (true) {
             // Initialize lexer for this automaton
             startToken();
-            int result = _jl_cell44();
+            int result = _jl_cell32();
             endToken();
             switch (result) {
             case 0:  {
@@ -320,7 +341,7 @@ public final class JGLexer extends org.stekikun.dolmen.codegen.LexBuffer {
         while (true) {
             // Initialize lexer for this automaton
             startToken();
-            int result = _jl_cell56();
+            int result = _jl_cell34();
             endToken();
             switch (result) {
             case 0:  {
@@ -341,105 +362,69 @@ public final class JGLexer extends org.stekikun.dolmen.codegen.LexBuffer {
     
     private int _jl_cell0() {
         final char _jl_char = getNextChar();
-        if (_jl_char <= 47) {
-            switch (_jl_char) {
+        if (_jl_char <= 124) {
+            switch (_jl_table0[_jl_char]) {
             // [0x0008-0x0009 0x0020]
-            case 8:
-            case 9:
-            case 32: {
+            case 1: {
                 return _jl_cell14();
             }
             // 0x000a
-            case 10: {
+            case 2: {
                 return 1;
             }
             // 0x000d
-            case 13: {
+            case 3: {
                 return _jl_cell13();
             }
             // (
-            case 40: {
+            case 4: {
                 return 5;
             }
             // *
-            case 42: {
+            case 5: {
                 return 9;
             }
             // .
-            case 46: {
+            case 6: {
                 return 8;
             }
             // /
-            case 47: {
+            case 7: {
                 return _jl_cell11();
             }
+            // ;
+            case 8: {
+                return 7;
+            }
+            // 0x003d
+            case 9: {
+                return 10;
+            }
+            // [A-Z \_ a-z]
+            case 10: {
+                return _jl_cell8();
+            }
+            // {
+            case 11: {
+                return 4;
+            }
+            // |
+            case 12: {
+                return 11;
+            }
             default:  {
                 return 13;
             }
             }
         } else  {
-            if (_jl_char <= 94) {
-                if (_jl_char <= 60) {
-                    switch (_jl_char) {
-                    // ;
-                    case 59: {
-                        return 7;
-                    }
-                    default:  {
-                        return 13;
-                    }
-                    }
-                } else  {
-                    switch (_jl_char) {
-                    // 0x003d
-                    case 61: {
-                        return 10;
-                    }
-                    // [>-@ \[-\^]
-                    case 62:
-                    case 63:
-                    case 64:
-                    case 91:
-                    case 92:
-                    case 93:
-                    case 94: {
-                        return 13;
-                    }
-                    default:  {
-                        return _jl_cell8();
-                    }
-                    }
-                }
-            } else  {
-                if (_jl_char <= 122) {
-                    switch (_jl_char) {
-                    // 0x0060
-                    case 96: {
-                        return 13;
-                    }
-                    default:  {
-                        return _jl_cell8();
-                    }
-                    }
-                } else  {
-                    switch (_jl_char) {
-                    // {
-                    case 123: {
-                        return 4;
-                    }
-                    // |
-                    case 124: {
-                        return 11;
-                    }
-                    // EOF
-                    case 65535: {
-                        return 12;
-                    }
-                    default:  {
-                        return 13;
-                    }
-                    }
-                }
+            switch (_jl_char) {
+            // EOF
+            case 65535: {
+                return 12;
+            }
+            default:  {
+                return 13;
+            }
             }
         }
     }
@@ -603,7 +588,7 @@ public final class JGLexer extends org.stekikun.dolmen.codegen.LexBuffer {
         }
         // *
         case 42: {
-            return _jl_cell22();
+            return _jl_cell21();
         }
         // EOF
         case 65535: {
@@ -648,7 +633,7 @@ public final class JGLexer extends org.stekikun.dolmen.codegen.LexBuffer {
         }
     }
     
-    private int _jl_cell22() {
+    private int _jl_cell21() {
         mark(1);
         final char _jl_char = getNextChar();
         switch (_jl_char) {
@@ -662,7 +647,7 @@ public final class JGLexer extends org.stekikun.dolmen.codegen.LexBuffer {
         }
     }
     
-    private int _jl_cell24() {
+    private int _jl_cell23() {
         final char _jl_char = getNextChar();
         switch (_jl_char) {
         // "
@@ -671,19 +656,19 @@ public final class JGLexer extends org.stekikun.dolmen.codegen.LexBuffer {
         }
         // \\
         case 92: {
-            return _jl_cell27();
+            return _jl_cell25();
         }
         // EOF
         case 65535: {
             return 4;
         }
         default:  {
-            return _jl_cell25();
+            return _jl_cell24();
         }
         }
     }
     
-    private int _jl_cell25() {
+    private int _jl_cell24() {
         while (true) {
             mark(5);
             final char _jl_char = getNextChar();
@@ -701,7 +686,7 @@ public final class JGLexer extends org.stekikun.dolmen.codegen.LexBuffer {
         }
     }
     
-    private int _jl_cell27() {
+    private int _jl_cell25() {
         final char _jl_char = getNextChar();
         switch (_jl_char) {
         // [0x0020 " ' \\ b n r t]
@@ -725,7 +710,7 @@ public final class JGLexer extends org.stekikun.dolmen.codegen.LexBuffer {
         }
     }
     
-    private int _jl_cell32() {
+    private int _jl_cell26() {
         final char _jl_char = getNextChar();
         switch (_jl_char) {
         // 0x000a
@@ -734,7 +719,7 @@ public final class JGLexer extends org.stekikun.dolmen.codegen.LexBuffer {
         }
         // 0x000d
         case 13: {
-            return _jl_cell39();
+            return _jl_cell28();
         }
         // "
         case 34: {
@@ -746,7 +731,7 @@ public final class JGLexer extends org.stekikun.dolmen.codegen.LexBuffer {
         }
         // /
         case 47: {
-            return _jl_cell41();
+            return _jl_cell30();
         }
         // {
         case 123: {
@@ -761,12 +746,12 @@ public final class JGLexer extends org.stekikun.dolmen.codegen.LexBuffer {
             return 6;
         }
         default:  {
-            return _jl_cell37();
+            return _jl_cell27();
         }
         }
     }
     
-    private int _jl_cell37() {
+    private int _jl_cell27() {
         while (true) {
             mark(8);
             final char _jl_char = getNextChar();
@@ -789,7 +774,7 @@ public final class JGLexer extends org.stekikun.dolmen.codegen.LexBuffer {
         }
     }
     
-    private int _jl_cell39() {
+    private int _jl_cell28() {
         mark(7);
         final char _jl_char = getNextChar();
         switch (_jl_char) {
@@ -803,7 +788,7 @@ public final class JGLexer extends org.stekikun.dolmen.codegen.LexBuffer {
         }
     }
     
-    private int _jl_cell41() {
+    private int _jl_cell30() {
         mark(9);
         final char _jl_char = getNextChar();
         switch (_jl_char) {
@@ -813,7 +798,7 @@ public final class JGLexer extends org.stekikun.dolmen.codegen.LexBuffer {
         }
         // /
         case 47: {
-            return _jl_cell43();
+            return _jl_cell31();
         }
         default:  {
             return rewind();
@@ -821,7 +806,7 @@ public final class JGLexer extends org.stekikun.dolmen.codegen.LexBuffer {
         }
     }
     
-    private int _jl_cell43() {
+    private int _jl_cell31() {
         while (true) {
             mark(5);
             final char _jl_char = getNextChar();
@@ -839,7 +824,7 @@ public final class JGLexer extends org.stekikun.dolmen.codegen.LexBuffer {
         }
     }
     
-    private int _jl_cell44() {
+    private int _jl_cell32() {
         final char _jl_char = getNextChar();
         switch (_jl_char) {
         // 0x000a
@@ -848,7 +833,7 @@ public final class JGLexer extends org.stekikun.dolmen.codegen.LexBuffer {
         }
         // 0x000d
         case 13: {
-            return _jl_cell51();
+            return _jl_cell28();
         }
         // "
         case 34: {
@@ -868,19 +853,19 @@ public final class JGLexer extends org.stekikun.dolmen.codegen.LexBuffer {
         }
         // /
         case 47: {
-            return _jl_cell53();
+            return _jl_cell30();
         }
         // EOF
         case 65535: {
             return 6;
         }
         default:  {
-            return _jl_cell49();
+            return _jl_cell33();
         }
         }
     }
     
-    private int _jl_cell49() {
+    private int _jl_cell33() {
         while (true) {
             mark(8);
             final char _jl_char = getNextChar();
@@ -903,57 +888,7 @@ public final class JGLexer extends org.stekikun.dolmen.codegen.LexBuffer {
         }
     }
     
-    private int _jl_cell51() {
-        mark(7);
-        final char _jl_char = getNextChar();
-        switch (_jl_char) {
-        // 0x000a
-        case 10: {
-            return 7;
-        }
-        default:  {
-            return rewind();
-        }
-        }
-    }
-    
-    private int _jl_cell53() {
-        mark(9);
-        final char _jl_char = getNextChar();
-        switch (_jl_char) {
-        // *
-        case 42: {
-            return 4;
-        }
-        // /
-        case 47: {
-            return _jl_cell54();
-        }
-        default:  {
-            return rewind();
-        }
-        }
-    }
-    
-    private int _jl_cell54() {
-        while (true) {
-            mark(5);
-            final char _jl_char = getNextChar();
-            switch (_jl_char) {
-            // [0x000a 0x000d EOF]
-            case 10:
-            case 13:
-            case 65535: {
-                return rewind();
-            }
-            default:  {
-                continue;
-            }
-            }
-        }
-    }
-    
-    private int _jl_cell56() {
+    private int _jl_cell34() {
         mark(2);
         final char _jl_char = getNextChar();
         switch (_jl_char) {
@@ -964,15 +899,15 @@ public final class JGLexer extends org.stekikun.dolmen.codegen.LexBuffer {
         }
         // \\
         case 92: {
-            return _jl_cell57();
+            return _jl_cell35();
         }
         default:  {
-            return _jl_cell58();
+            return _jl_cell36();
         }
         }
     }
     
-    private int _jl_cell57() {
+    private int _jl_cell35() {
         final char _jl_char = getNextChar();
         switch (_jl_char) {
         // EOF
@@ -980,12 +915,12 @@ public final class JGLexer extends org.stekikun.dolmen.codegen.LexBuffer {
             return rewind();
         }
         default:  {
-            return _jl_cell60();
+            return _jl_cell37();
         }
         }
     }
     
-    private int _jl_cell58() {
+    private int _jl_cell36() {
         final char _jl_char = getNextChar();
         switch (_jl_char) {
         // '
@@ -998,7 +933,7 @@ public final class JGLexer extends org.stekikun.dolmen.codegen.LexBuffer {
         }
     }
     
-    private int _jl_cell60() {
+    private int _jl_cell37() {
         final char _jl_char = getNextChar();
         switch (_jl_char) {
         // '
@@ -1011,6 +946,17 @@ public final class JGLexer extends org.stekikun.dolmen.codegen.LexBuffer {
         }
     }
     
+    private static final byte[] _jl_table0 = {
+        0, 0, 0, 0, 0, 0, 0, 0, 1, 1, 2, 0, 0, 3, 0, 0,
+        0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0,
+        1, 0, 0, 0, 0, 0, 0, 0, 4, 0, 5, 0, 0, 0, 6, 7,
+        0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 8, 0, 9, 0, 0,
+        0, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10,
+        10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 0, 0, 0, 0, 10,
+        0, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10,
+        10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 11, 12
+    };
+    
      
     
 }
@@ -167,7 +167,7 @@ public abstract class JGParser {
 	    "     * 	consumed token\n" +
 	    "     */\n" +
 	    "    private <@NonNull T> Located<T> withLoc(T t) {\n" +
-	    "	     return Located.of(t, _jl_lastTokenStart, _jl_lastTokenEnd);\n" +
+	    "	     return Located.of(t, getLastTokenStart(), getLastTokenEnd());\n" +
 	    "    }\n";
 	
 	private static final String footer =
@@ -248,9 +248,9 @@ public abstract class JGParser {
 				production("@return imp == null ? Lists.empty() : imp;"),
 				production("@List<Located<String>> acc = "
 						+ "imp == null ? new ArrayList<>() : imp;",
-					"IMPORT", "@org.stekikun.dolmen.codegen.LexBuffer.Position start = _jl_lastTokenStart;", 
+					"IMPORT", "@org.stekikun.dolmen.codegen.LexBuffer.Position start = getLastTokenStart();", 
 					"elt = import_", "SEMICOL",
-					"@acc.add(Located.of(\"import \" + elt + \";\", start, _jl_lastTokenEnd));",
+					"@acc.add(Located.of(\"import \" + elt + \";\", start, getLastTokenEnd()));",
 					"imports(acc)",
 					"@return acc;")))
 			.addRule(rule("import_", "String",
@@ -69,6 +69,27 @@ public final class JGELexer extends org.stekikun.dolmen.codegen.LexBuffer {
         super("1.0.0", inputname, reader);
     }
     
+    /**
+     * Returns a fresh lexer based on the given range of characters,
+     * which is used in place and must not be modified while lexing
+     * @param inputname
+     * @param chars
+     * @param offset
+     * @param length
+     */
+    public JGELexer(String inputname, char[] chars, int offset, int length) {
+        super("1.0.0", inputname, chars, offset, length);
+    }
+    
+    /**
+     * Returns a fresh lexer based on the given in-memory characters
+     * @param inputname
+     * @param input
+     */
+    public JGELexer(String inputname, CharSequence input) {
+        super("1.0.0", inputname, input);
+    }
+    
     /**
      * Entry point for rule main
      */
@@ -211,7 +232,7 @@ public final class JGELexer extends org.stekikun.dolmen.codegen.LexBuffer {
         while (true) {
             // Initialize lexer for this automaton
             startToken();
-            int result = _jl_cell30();
+            int result = _jl_cell29();
             endToken();
             switch (result) {
             case 0:  {
@@ -255,7 +276,7 @@ public final class JGELexer extends org.stekikun.dolmen.codegen.LexBuffer {
         while (true) {
             // Initialize lexer for this automaton
             startToken();
-            int result = _jl_cell37();
+            int result = _jl_cell32();
             endToken();
             switch (result) {
             case 0:  {
@@ -296,7 +317,7 @@ public final class JGELexer extends org.stekikun.dolmen.codegen.LexBuffer {
         while (true) {
             // Initialize lexer for this automaton
             startToken();
-            int result = _jl_cell50();
+            int result = _jl_cell39();
             endToken();
             switch (result) {
             case 0:  {
@@ -365,7 +386,7 @@ public final class JGELexer extends org.stekikun.dolmen.codegen.LexBuffer {
         while (true) {
             // Initialize lexer for this automaton
             startToken();
-            int result = _jl_cell64();
+            int result = _jl_cell47();
             endToken();
             switch (result) {
             case 0:  {
@@ -434,7 +455,7 @@ public final class JGELexer extends org.stekikun.dolmen.codegen.LexBuffer {
         while (true) {
             // Initialize lexer for this automaton
             startToken();
-            int result = _jl_cell78();
+            int result = _jl_cell49();
             endToken();
             switch (result) {
             case 0:  {
@@ -470,7 +491,7 @@ public final class JGELexer extends org.stekikun.dolmen.codegen.LexBuffer {
         while (true) {
             // Initialize lexer for this automaton
             startToken();
-            int result = _jl_cell84();
+            int result = _jl_cell50();
             endToken();
             switch (result) {
             case 0:  {
@@ -488,132 +509,93 @@ public final class JGELexer extends org.stekikun.dolmen.codegen.LexBuffer {
     
     private int _jl_cell0() {
         final char _jl_char = getNextChar();
-        if (_jl_char <= 46) {
-            switch (_jl_char) {
+        if (_jl_char <= 124) {
+            switch (_jl_table0[_jl_char]) {
             // [0x0009 0x000c 0x0020]
-            case 9:
-            case 12:
-            case 32: {
+            case 1: {
                 return _jl_cell20();
             }
             // 0x000a
-            case 10: {
+            case 2: {
                 return 1;
             }
             // 0x000d
-            case 13: {
+            case 3: {
                 return _jl_cell19();
             }
             // "
-            case 34: {
+            case 4: {
                 return 6;
             }
             // (
-            case 40: {
+            case 5: {
                 return 5;
             }
             // *
-            case 42: {
+            case 6: {
                 return 15;
             }
             // ,
-            case 44: {
+            case 7: {
                 return 12;
             }
             // .
-            case 46: {
+            case 8: {
                 return 14;
             }
+            // /
+            case 9: {
+                return _jl_cell17();
+            }
+            // ;
+            case 10: {
+                return 13;
+            }
+            // <
+            case 11: {
+                return 10;
+            }
+            // 0x003d
+            case 12: {
+                return 16;
+            }
+            // >
+            case 13: {
+                return 11;
+            }
+            // [A-Z \_ a-z]
+            case 14: {
+                return _jl_cell13();
+            }
+            // \[
+            case 15: {
+                return 8;
+            }
+            // \]
+            case 16: {
+                return 9;
+            }
+            // {
+            case 17: {
+                return 4;
+            }
+            // |
+            case 18: {
+                return 17;
+            }
             default:  {
                 return 19;
             }
             }
         } else  {
-            if (_jl_char <= 91) {
-                if (_jl_char <= 60) {
-                    switch (_jl_char) {
-                    // /
-                    case 47: {
-                        return _jl_cell17();
-                    }
-                    // ;
-                    case 59: {
-                        return 13;
-                    }
-                    // <
-                    case 60: {
-                        return 10;
-                    }
-                    default:  {
-                        return 19;
-                    }
-                    }
-                } else  {
-                    switch (_jl_char) {
-                    // 0x003d
-                    case 61: {
-                        return 16;
-                    }
-                    // >
-                    case 62: {
-                        return 11;
-                    }
-                    // [?-@]
-                    case 63:
-                    case 64: {
-                        return 19;
-                    }
-                    // \[
-                    case 91: {
-                        return 8;
-                    }
-                    default:  {
-                        return _jl_cell13();
-                    }
-                    }
-                }
-            } else  {
-                if (_jl_char <= 96) {
-                    switch (_jl_char) {
-                    // \]
-                    case 93: {
-                        return 9;
-                    }
-                    // \_
-                    case 95: {
-                        return _jl_cell13();
-                    }
-                    default:  {
-                        return 19;
-                    }
-                    }
-                } else  {
-                    if (_jl_char <= 123) {
-                        switch (_jl_char) {
-                        // {
-                        case 123: {
-                            return 4;
-                        }
-                        default:  {
-                            return _jl_cell13();
-                        }
-                        }
-                    } else  {
-                        switch (_jl_char) {
-                        // |
-                        case 124: {
-                            return 17;
-                        }
-                        // EOF
-                        case 65535: {
-                            return 18;
-                        }
-                        default:  {
-                            return 19;
-                        }
-                        }
-                    }
-                }
+            switch (_jl_char) {
+            // EOF
+            case 65535: {
+                return 18;
+            }
+            default:  {
+                return 19;
+            }
             }
         }
     }
@@ -773,23 +755,23 @@ public final class JGELexer extends org.stekikun.dolmen.codegen.LexBuffer {
         }
         // 0x000d
         case 13: {
-            return _jl_cell28();
+            return _jl_cell27();
         }
         // *
         case 42: {
-            return _jl_cell25();
+            return _jl_cell24();
         }
         // EOF
         case 65535: {
             return 2;
         }
         default:  {
-            return _jl_cell26();
+            return _jl_cell25();
         }
         }
     }
     
-    private int _jl_cell25() {
+    private int _jl_cell24() {
         mark(1);
         final char _jl_char = getNextChar();
         switch (_jl_char) {
@@ -803,7 +785,7 @@ public final class JGELexer extends org.stekikun.dolmen.codegen.LexBuffer {
         }
     }
     
-    private int _jl_cell26() {
+    private int _jl_cell25() {
         while (true) {
             mark(4);
             final char _jl_char = getNextChar();
@@ -822,7 +804,7 @@ public final class JGELexer extends org.stekikun.dolmen.codegen.LexBuffer {
         }
     }
     
-    private int _jl_cell28() {
+    private int _jl_cell27() {
         mark(3);
         final char _jl_char = getNextChar();
         switch (_jl_char) {
@@ -836,7 +818,7 @@ public final class JGELexer extends org.stekikun.dolmen.codegen.LexBuffer {
         }
     }
     
-    private int _jl_cell30() {
+    private int _jl_cell29() {
         final char _jl_char = getNextChar();
         switch (_jl_char) {
         // 0x000a
@@ -845,7 +827,7 @@ public final class JGELexer extends org.stekikun.dolmen.codegen.LexBuffer {
         }
         // 0x000d
         case 13: {
-            return _jl_cell34();
+            return _jl_cell31();
         }
         // "
         case 34: {
@@ -860,12 +842,12 @@ public final class JGELexer extends org.stekikun.dolmen.codegen.LexBuffer {
             return 3;
         }
         default:  {
-            return _jl_cell31();
+            return _jl_cell30();
         }
         }
     }
     
-    private int _jl_cell31() {
+    private int _jl_cell30() {
         while (true) {
             mark(4);
             final char _jl_char = getNextChar();
@@ -885,7 +867,7 @@ public final class JGELexer extends org.stekikun.dolmen.codegen.LexBuffer {
         }
     }
     
-    private int _jl_cell34() {
+    private int _jl_cell31() {
         mark(2);
         final char _jl_char = getNextChar();
         switch (_jl_char) {
@@ -899,7 +881,7 @@ public final class JGELexer extends org.stekikun.dolmen.codegen.LexBuffer {
         }
     }
     
-    private int _jl_cell37() {
+    private int _jl_cell32() {
         final char _jl_char = getNextChar();
         switch (_jl_char) {
         // [" ' \\ b f n r t]
@@ -918,18 +900,18 @@ public final class JGELexer extends org.stekikun.dolmen.codegen.LexBuffer {
         case 49:
         case 50:
         case 51: {
-            return _jl_cell43();
+            return _jl_cell35();
         }
         // [4-7]
         case 52:
         case 53:
         case 54:
         case 55: {
-            return _jl_cell42();
+            return _jl_cell34();
         }
         // u
         case 117: {
-            return _jl_cell41();
+            return _jl_cell33();
         }
         // EOF
         case 65535: {
@@ -941,7 +923,7 @@ public final class JGELexer extends org.stekikun.dolmen.codegen.LexBuffer {
         }
     }
     
-    private int _jl_cell41() {
+    private int _jl_cell33() {
         while (true) {
             mark(3);
             final char _jl_char = getNextChar();
@@ -969,7 +951,7 @@ public final class JGELexer extends org.stekikun.dolmen.codegen.LexBuffer {
             case 100:
             case 101:
             case 102: {
-                return _jl_cell46();
+                return _jl_cell36();
             }
             // u
             case 117: {
@@ -982,7 +964,7 @@ public final class JGELexer extends org.stekikun.dolmen.codegen.LexBuffer {
         }
     }
     
-    private int _jl_cell42() {
+    private int _jl_cell34() {
         mark(1);
         final char _jl_char = getNextChar();
         switch (_jl_char) {
@@ -1003,28 +985,7 @@ public final class JGELexer extends org.stekikun.dolmen.codegen.LexBuffer {
         }
     }
     
-    private int _jl_cell43() {
-        mark(1);
-        final char _jl_char = getNextChar();
-        switch (_jl_char) {
-        // [0-7]
-        case 48:
-        case 49:
-        case 50:
-        case 51:
-        case 52:
-        case 53:
-        case 54:
-        case 55: {
-            return _jl_cell44();
-        }
-        default:  {
-            return rewind();
-        }
-        }
-    }
-    
-    private int _jl_cell44() {
+    private int _jl_cell35() {
         mark(1);
         final char _jl_char = getNextChar();
         switch (_jl_char) {
@@ -1037,7 +998,7 @@ public final class JGELexer extends org.stekikun.dolmen.codegen.LexBuffer {
         case 53:
         case 54:
         case 55: {
-            return 1;
+            return _jl_cell34();
         }
         default:  {
             return rewind();
@@ -1045,7 +1006,7 @@ public final class JGELexer extends org.stekikun.dolmen.codegen.LexBuffer {
         }
     }
     
-    private int _jl_cell46() {
+    private int _jl_cell36() {
         final char _jl_char = getNextChar();
         switch (_jl_char) {
         // [0-9 A-F a-f]
@@ -1071,7 +1032,7 @@ public final class JGELexer extends org.stekikun.dolmen.codegen.LexBuffer {
         case 100:
         case 101:
         case 102: {
-            return _jl_cell47();
+            return _jl_cell37();
         }
         default:  {
             return rewind();
@@ -1079,7 +1040,7 @@ public final class JGELexer extends org.stekikun.dolmen.codegen.LexBuffer {
         }
     }
     
-    private int _jl_cell47() {
+    private int _jl_cell37() {
         final char _jl_char = getNextChar();
         switch (_jl_char) {
         // [0-9 A-F a-f]
@@ -1105,7 +1066,7 @@ public final class JGELexer extends org.stekikun.dolmen.codegen.LexBuffer {
         case 100:
         case 101:
         case 102: {
-            return _jl_cell48();
+            return _jl_cell38();
         }
         default:  {
             return rewind();
@@ -1113,7 +1074,7 @@ public final class JGELexer extends org.stekikun.dolmen.codegen.LexBuffer {
         }
     }
     
-    private int _jl_cell48() {
+    private int _jl_cell38() {
         final char _jl_char = getNextChar();
         switch (_jl_char) {
         // [0-9 A-F a-f]
@@ -1147,7 +1108,7 @@ public final class JGELexer extends org.stekikun.dolmen.codegen.LexBuffer {
         }
     }
     
-    private int _jl_cell50() {
+    private int _jl_cell39() {
         final char _jl_char = getNextChar();
         switch (_jl_char) {
         // 0x000a
@@ -1156,7 +1117,7 @@ public final class JGELexer extends org.stekikun.dolmen.codegen.LexBuffer {
         }
         // 0x000d
         case 13: {
-            return _jl_cell53();
+            return _jl_cell41();
         }
         // "
         case 34: {
@@ -1164,7 +1125,7 @@ public final class JGELexer extends org.stekikun.dolmen.codegen.LexBuffer {
         }
         // #
         case 35: {
-            return _jl_cell58();
+            return _jl_cell44();
         }
         // '
         case 39: {
@@ -1172,7 +1133,7 @@ public final class JGELexer extends org.stekikun.dolmen.codegen.LexBuffer {
         }
         // /
         case 47: {
-            return _jl_cell55();
+            return _jl_cell43();
         }
         // {
         case 123: {
@@ -1187,12 +1148,12 @@ public final class JGELexer extends org.stekikun.dolmen.codegen.LexBuffer {
             return 7;
         }
         default:  {
-            return _jl_cell51();
+            return _jl_cell40();
         }
         }
     }
     
-    private int _jl_cell51() {
+    private int _jl_cell40() {
         while (true) {
             mark(9);
             final char _jl_char = getNextChar();
@@ -1216,7 +1177,7 @@ public final class JGELexer extends org.stekikun.dolmen.codegen.LexBuffer {
         }
     }
     
-    private int _jl_cell53() {
+    private int _jl_cell41() {
         mark(8);
         final char _jl_char = getNextChar();
         switch (_jl_char) {
@@ -1230,7 +1191,7 @@ public final class JGELexer extends org.stekikun.dolmen.codegen.LexBuffer {
         }
     }
     
-    private int _jl_cell55() {
+    private int _jl_cell43() {
         mark(10);
         final char _jl_char = getNextChar();
         switch (_jl_char) {
@@ -1240,7 +1201,7 @@ public final class JGELexer extends org.stekikun.dolmen.codegen.LexBuffer {
         }
         // /
         case 47: {
-            return _jl_cell62();
+            return _jl_cell46();
         }
         default:  {
             return rewind();
@@ -1248,7 +1209,7 @@ public final class JGELexer extends org.stekikun.dolmen.codegen.LexBuffer {
         }
     }
     
-    private int _jl_cell58() {
+    private int _jl_cell44() {
         mark(10);
         final char _jl_char = getNextChar();
         switch (_jl_char) {
@@ -1279,7 +1240,7 @@ public final class JGELexer extends org.stekikun.dolmen.codegen.LexBuffer {
         case 120:
         case 121:
         case 122: {
-            return _jl_cell61();
+            return _jl_cell45();
         }
         default:  {
             return rewind();
@@ -1287,7 +1248,7 @@ public final class JGELexer extends org.stekikun.dolmen.codegen.LexBuffer {
         }
     }
     
-    private int _jl_cell61() {
+    private int _jl_cell45() {
         while (true) {
             mark(2);
             final char _jl_char = getNextChar();
@@ -1365,7 +1326,7 @@ public final class JGELexer extends org.stekikun.dolmen.codegen.LexBuffer {
         }
     }
     
-    private int _jl_cell62() {
+    private int _jl_cell46() {
         while (true) {
             mark(6);
             final char _jl_char = getNextChar();
@@ -1383,7 +1344,7 @@ public final class JGELexer extends org.stekikun.dolmen.codegen.LexBuffer {
         }
     }
     
-    private int _jl_cell64() {
+    private int _jl_cell47() {
         final char _jl_char = getNextChar();
         switch (_jl_char) {
         // 0x000a
@@ -1392,7 +1353,7 @@ public final class JGELexer extends org.stekikun.dolmen.codegen.LexBuffer {
         }
         // 0x000d
         case 13: {
-            return _jl_cell73();
+            return _jl_cell41();
         }
         // "
         case 34: {
@@ -1400,7 +1361,7 @@ public final class JGELexer extends org.stekikun.dolmen.codegen.LexBuffer {
         }
         // #
         case 35: {
-            return _jl_cell68();
+            return _jl_cell44();
         }
         // '
         case 39: {
@@ -1416,76 +1377,19 @@ public final class JGELexer extends org.stekikun.dolmen.codegen.LexBuffer {
         }
         // /
         case 47: {
-            return _jl_cell65();
+            return _jl_cell43();
         }
         // EOF
         case 65535: {
             return 7;
         }
         default:  {
-            return _jl_cell71();
-        }
-        }
-    }
-    
-    private int _jl_cell65() {
-        mark(10);
-        final char _jl_char = getNextChar();
-        switch (_jl_char) {
-        // *
-        case 42: {
-            return 5;
-        }
-        // /
-        case 47: {
-            return _jl_cell76();
-        }
-        default:  {
-            return rewind();
-        }
-        }
-    }
-    
-    private int _jl_cell68() {
-        mark(10);
-        final char _jl_char = getNextChar();
-        switch (_jl_char) {
-        // [a-z]
-        case 97:
-        case 98:
-        case 99:
-        case 100:
-        case 101:
-        case 102:
-        case 103:
-        case 104:
-        case 105:
-        case 106:
-        case 107:
-        case 108:
-        case 109:
-        case 110:
-        case 111:
-        case 112:
-        case 113:
-        case 114:
-        case 115:
-        case 116:
-        case 117:
-        case 118:
-        case 119:
-        case 120:
-        case 121:
-        case 122: {
-            return _jl_cell75();
-        }
-        default:  {
-            return rewind();
+            return _jl_cell48();
         }
         }
     }
     
-    private int _jl_cell71() {
+    private int _jl_cell48() {
         while (true) {
             mark(9);
             final char _jl_char = getNextChar();
@@ -1509,117 +1413,7 @@ public final class JGELexer extends org.stekikun.dolmen.codegen.LexBuffer {
         }
     }
     
-    private int _jl_cell73() {
-        mark(8);
-        final char _jl_char = getNextChar();
-        switch (_jl_char) {
-        // 0x000a
-        case 10: {
-            return 8;
-        }
-        default:  {
-            return rewind();
-        }
-        }
-    }
-    
-    private int _jl_cell75() {
-        while (true) {
-            mark(2);
-            final char _jl_char = getNextChar();
-            switch (_jl_char) {
-            // [0-9 A-Z \_ a-z]
-            case 48:
-            case 49:
-            case 50:
-            case 51:
-            case 52:
-            case 53:
-            case 54:
-            case 55:
-            case 56:
-            case 57:
-            case 65:
-            case 66:
-            case 67:
-            case 68:
-            case 69:
-            case 70:
-            case 71:
-            case 72:
-            case 73:
-            case 74:
-            case 75:
-            case 76:
-            case 77:
-            case 78:
-            case 79:
-            case 80:
-            case 81:
-            case 82:
-            case 83:
-            case 84:
-            case 85:
-            case 86:
-            case 87:
-            case 88:
-            case 89:
-            case 90:
-            case 95:
-            case 97:
-            case 98:
-            case 99:
-            case 100:
-            case 101:
-            case 102:
-            case 103:
-            case 104:
-            case 105:
-            case 106:
-            case 107:
-            case 108:
-            case 109:
-            case 110:
-            case 111:
-            case 112:
-            case 113:
-            case 114:
-            case 115:
-            case 116:
-            case 117:
-            case 118:
-            case 119:
-            case 120:
-            case 121:
-            case 122: {
-                continue;
-            }
-            default:  {
-                return rewind();
-            }
-            }
-        }
-    }
-    
-    private int _jl_cell76() {
-        while (true) {
-            mark(6);
-            final char _jl_char = getNextChar();
-            switch (_jl_char) {
-            // [0x000a 0x000d EOF]
-            case 10:
-            case 13:
-            case 65535: {
-                return rewind();
-            }
-            default:  {
-                continue;
-            }
-            }
-        }
-    }
-    
-    private int _jl_cell78() {
+    private int _jl_cell49() {
         final char _jl_char = getNextChar();
         switch (_jl_char) {
         // 0x000a
@@ -1628,7 +1422,7 @@ public final class JGELexer extends org.stekikun.dolmen.codegen.LexBuffer {
         }
         // 0x000d
         case 13: {
-            return _jl_cell80();
+            return _jl_cell27();
         }
         // '
         case 39: {
@@ -1648,21 +1442,7 @@ public final class JGELexer extends org.stekikun.dolmen.codegen.LexBuffer {
         }
     }
     
-    private int _jl_cell80() {
-        mark(3);
-        final char _jl_char = getNextChar();
-        switch (_jl_char) {
-        // 0x000a
-        case 10: {
-            return 3;
-        }
-        default:  {
-            return rewind();
-        }
-        }
-    }
-    
-    private int _jl_cell84() {
+    private int _jl_cell50() {
         final char _jl_char = getNextChar();
         switch (_jl_char) {
         // '
@@ -1679,6 +1459,17 @@ public final class JGELexer extends org.stekikun.dolmen.codegen.LexBuffer {
         }
     }
     
+    private static final byte[] _jl_table0 = {
+        0, 0, 0, 0, 0, 0, 0, 0, 0, 1, 2, 0, 1, 3, 0, 0,
+        0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0,
+        1, 0, 4, 0, 0, 0, 0, 0, 5, 0, 6, 0, 7, 0, 8, 9,
+        0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 10, 11, 12, 13, 0,
+        0, 14, 14, 14, 14, 14, 14, 14, 14, 14, 14, 14, 14, 14, 14, 14,
+        14, 14, 14, 14, 14, 14, 14, 14, 14, 14, 14, 15, 0, 16, 0, 14,
+        0, 14, 14, 14, 14, 14, 14, 14, 14, 14, 14, 14, 14, 14, 14, 14,
+        14, 14, 14, 14, 14, 14, 14, 14, 14, 14, 14, 17, 18
+    };
+    
      
     
 }
@@ -180,7 +180,7 @@ public final class JGEParser extends org.stekikun.dolmen.codegen.BaseParser<JGEP
      * 	consumed token
      */
     private <@NonNull T> Located<T> withLoc(T t) {
-	     return Located.of(t, _jl_lastTokenStart, _jl_lastTokenEnd);
+	     return Located.of(t, getLastTokenStart(), getLastTokenEnd());
     }
     
     private String validJavaIdent(String id) {
@@ -285,12 +285,12 @@ public final class JGEParser extends org.stekikun.dolmen.codegen.BaseParser<JGEP
                 List<Located<String>> acc = imp == null ? new ArrayList<>() : imp;
                 // IMPORT
                 eat(Token.Kind.IMPORT);
-                org.stekikun.dolmen.codegen.LexBuffer.Position start = _jl_lastTokenStart;
+                org.stekikun.dolmen.codegen.LexBuffer.Position start = getLastTokenStart();
                 // elt = import_
                 String elt = import_();
                 // SEMICOL
                 eat(Token.Kind.SEMICOL);
-                acc.add(Located.of("import " + elt + ";", start, _jl_lastTokenEnd));
+                acc.add(Located.of("import " + elt + ";", start, getLastTokenEnd()));
                 // imports(acc)
                 imports(acc);
                 return acc;
@@ -14,6 +14,7 @@ import java.util.Arrays;
 
 import org.stekikun.dolmen.automaton.Automata;
 import org.stekikun.dolmen.automaton.Determinize;
+import org.stekikun.dolmen.automaton.Minimize;
 import org.stekikun.dolmen.codegen.AutomataOutput;
 import org.stekikun.dolmen.common.CSet;
 import org.stekikun.dolmen.common.Lists;
@@ -417,7 +418,7 @@ public abstract class JLLexer {
 		TLexer tlexer = Encoder.encodeLexer(lexer, opt);
 		System.out.println(tlexer);		
 		System.out.println("--------AUTOMATA------");
-		Automata aut = Determinize.lexer(lexer, opt);
+		Automata aut = Minimize.automata(Determinize.lexer(lexer, opt));
 		System.out.println(aut);
 		File file = new File("src/org/stekikun/dolmen/jl/" + className + ".java");
 		try (FileWriter writer = new FileWriter(file, false)) {
@@ -54,6 +54,27 @@ public final class JLLexerGenerated extends org.stekikun.dolmen.codegen.LexBuffe
         super("1.0.0", inputname, reader);
     }
     
+    /**
+     * Returns a fresh lexer based on the given range of characters,
+     * which is used in place and must not be modified while lexing
+     * @param inputname
+     * @param chars
+     * @param offset
+     * @param length
+     */
+    public JLLexerGenerated(String inputname, char[] chars, int offset, int length) {
+        super("1.0.0", inputname, chars, offset, length);
+    }
+    
+    /**
+     * Returns a fresh lexer based on the given in-memory characters
+     * @param inputname
+     * @param input
+     */
+    public JLLexerGenerated(String inputname, CharSequence input) {
+        super("1.0.0", inputname, input);
+    }
+    
     /**
      * Entry point for rule main
      */
@@ -195,7 +216,7 @@ return ACTION(ext);
         while (true) {
             // Initialize lexer for this automaton
             startToken();
-            int result = _jl_cell49();
+            int result = _jl_cell48();
             endToken();
             switch (result) {
             case 0:  {
@@ -237,7 +258,7 @@ stringBuffer.setLength(0);comment(); return;
         while (true) {
             // Initialize lexer for this automaton
             startToken();
-            int result = _jl_cell58();
+            int result = _jl_cell54();
             endToken();
             switch (result) {
             case 0:  {
@@ -286,7 +307,7 @@ stringBuffer.setLength(0);comment(); return;
         while (true) {
             // Initialize lexer for this automaton
             startToken();
-            int result = _jl_cell74();
+            int result = _jl_cell64();
             endToken();
             switch (result) {
             case 0:  {
@@ -338,7 +359,7 @@ return action();
         while (true) {
             // Initialize lexer for this automaton
             startToken();
-            int result = _jl_cell86();
+            int result = _jl_cell70();
             endToken();
             switch (result) {
             case 0:  {
@@ -362,171 +383,133 @@ return action();
     
     private int _jl_cell0() {
         final char _jl_char = getNextChar();
-        if (_jl_char <= 47) {
-            switch (_jl_char) {
+        if (_jl_char <= 124) {
+            switch (_jl_table0[_jl_char]) {
+            // [0x0000-0x0008 0x000b 0x000e-0x001f ! $-0x0026 : @ \\ 0x0060]
+            case 0: {
+                return 32;
+            }
             // [0x0009 0x000c 0x0020]
-            case 9:
-            case 12:
-            case 32: {
+            case 1: {
                 return _jl_cell30();
             }
             // 0x000a
-            case 10: {
+            case 2: {
                 return 1;
             }
             // 0x000d
-            case 13: {
+            case 3: {
                 return _jl_cell28();
             }
             // "
-            case 34: {
+            case 4: {
                 return 4;
             }
             // #
-            case 35: {
+            case 5: {
                 return 25;
             }
             // '
-            case 39: {
+            case 6: {
                 return _jl_cell19();
             }
             // (
-            case 40: {
+            case 7: {
                 return 21;
             }
             // )
-            case 41: {
+            case 8: {
                 return 22;
             }
             // *
-            case 42: {
+            case 9: {
                 return 18;
             }
             // +
-            case 43: {
+            case 10: {
                 return 20;
             }
             // ,
-            case 44: {
+            case 11: {
                 return 29;
             }
             // \-
-            case 45: {
+            case 12: {
                 return 24;
             }
             // .
-            case 46: {
+            case 13: {
                 return 26;
             }
             // /
-            case 47: {
+            case 14: {
                 return _jl_cell26();
             }
+            // 0
+            case 15: {
+                return 8;
+            }
+            // [1-9]
+            case 16: {
+                return _jl_cell20();
+            }
+            // ;
+            case 17: {
+                return 30;
+            }
+            // <
+            case 18: {
+                return 27;
+            }
+            // 0x003d
+            case 19: {
+                return 14;
+            }
+            // >
+            case 20: {
+                return 28;
+            }
+            // ?
+            case 21: {
+                return 19;
+            }
+            // \[
+            case 23: {
+                return 16;
+            }
+            // \]
+            case 24: {
+                return 17;
+            }
+            // \^
+            case 25: {
+                return 23;
+            }
+            // \_
+            case 26: {
+                return _jl_cell23();
+            }
+            // {
+            case 27: {
+                return 5;
+            }
+            // |
+            case 28: {
+                return 15;
+            }
             default:  {
-                return 32;
+                return _jl_cell22();
             }
             }
         } else  {
-            if (_jl_char <= 90) {
-                if (_jl_char <= 60) {
-                    switch (_jl_char) {
-                    // 0
-                    case 48: {
-                        return 8;
-                    }
-                    // :
-                    case 58: {
-                        return 32;
-                    }
-                    // ;
-                    case 59: {
-                        return 30;
-                    }
-                    // <
-                    case 60: {
-                        return 27;
-                    }
-                    default:  {
-                        return _jl_cell20();
-                    }
-                    }
-                } else  {
-                    switch (_jl_char) {
-                    // 0x003d
-                    case 61: {
-                        return 14;
-                    }
-                    // >
-                    case 62: {
-                        return 28;
-                    }
-                    // ?
-                    case 63: {
-                        return 19;
-                    }
-                    // @
-                    case 64: {
-                        return 32;
-                    }
-                    default:  {
-                        return _jl_cell22();
-                    }
-                    }
-                }
-            } else  {
-                if (_jl_char <= 95) {
-                    switch (_jl_char) {
-                    // \\
-                    case 92: {
-                        return 32;
-                    }
-                    // \]
-                    case 93: {
-                        return 17;
-                    }
-                    // \^
-                    case 94: {
-                        return 23;
-                    }
-                    // \_
-                    case 95: {
-                        return _jl_cell23();
-                    }
-                    default:  {
-                        return 16;
-                    }
-                    }
-                } else  {
-                    if (_jl_char <= 123) {
-                        switch (_jl_char) {
-                        // 0x0060
-                        case 96: {
-                            return 32;
-                        }
-                        // {
-                        case 123: {
-                            return 5;
-                        }
-                        default:  {
-                            return _jl_cell22();
-                        }
-                        }
-                    } else  {
-                        switch (_jl_char) {
-                        // |
-                        case 124: {
-                            return 15;
-                        }
-                        // EOF
-                        case 65535: {
-                            return 31;
-                        }
-                        default:  {
-                            return 32;
-                        }
-                        }
-                    }
-                }
+            switch (_jl_char) {
+            // EOF
+            case 65535: {
+                return 31;
+            }
+            default:  {
+                return 32;
+            }
             }
         }
     }
@@ -864,7 +847,7 @@ return action();
         case 53:
         case 54:
         case 55: {
-            return _jl_cell48();
+            return _jl_cell47();
         }
         default:  {
             return rewind();
@@ -888,7 +871,7 @@ return action();
         case 53:
         case 54:
         case 55: {
-            return _jl_cell46();
+            return _jl_cell36();
         }
         default:  {
             return rewind();
@@ -1065,24 +1048,13 @@ return action();
         }
     }
     
-    private int _jl_cell46() {
+    private int _jl_cell47() {
         final char _jl_char = getNextChar();
         switch (_jl_char) {
         // '
         case 39: {
             return 11;
         }
-        // [0-7]
-        case 48:
-        case 49:
-        case 50:
-        case 51:
-        case 52:
-        case 53:
-        case 54:
-        case 55: {
-            return _jl_cell48();
-        }
         default:  {
             return rewind();
         }
@@ -1090,19 +1062,6 @@ return action();
     }
     
     private int _jl_cell48() {
-        final char _jl_char = getNextChar();
-        switch (_jl_char) {
-        // '
-        case 39: {
-            return 11;
-        }
-        default:  {
-            return rewind();
-        }
-        }
-    }
-    
-    private int _jl_cell49() {
         final char _jl_char = getNextChar();
         switch (_jl_char) {
         // 0x000a
@@ -1111,7 +1070,7 @@ return action();
         }
         // 0x000d
         case 13: {
-            return _jl_cell52();
+            return _jl_cell50();
         }
         // "
         case 34: {
@@ -1123,19 +1082,19 @@ return action();
         }
         // *
         case 42: {
-            return _jl_cell56();
+            return _jl_cell52();
         }
         // EOF
         case 65535: {
             return 4;
         }
         default:  {
-            return _jl_cell50();
+            return _jl_cell49();
         }
         }
     }
     
-    private int _jl_cell50() {
+    private int _jl_cell49() {
         while (true) {
             mark(6);
             final char _jl_char = getNextChar();
@@ -1156,7 +1115,7 @@ return action();
         }
     }
     
-    private int _jl_cell52() {
+    private int _jl_cell50() {
         mark(5);
         final char _jl_char = getNextChar();
         switch (_jl_char) {
@@ -1170,7 +1129,7 @@ return action();
         }
     }
     
-    private int _jl_cell56() {
+    private int _jl_cell52() {
         mark(1);
         final char _jl_char = getNextChar();
         switch (_jl_char) {
@@ -1184,7 +1143,7 @@ return action();
         }
     }
     
-    private int _jl_cell58() {
+    private int _jl_cell54() {
         final char _jl_char = getNextChar();
         switch (_jl_char) {
         // "
@@ -1193,19 +1152,19 @@ return action();
         }
         // \\
         case 92: {
-            return _jl_cell62();
+            return _jl_cell57();
         }
         // EOF
         case 65535: {
             return 7;
         }
         default:  {
-            return _jl_cell60();
+            return _jl_cell55();
         }
         }
     }
     
-    private int _jl_cell60() {
+    private int _jl_cell55() {
         while (true) {
             mark(8);
             final char _jl_char = getNextChar();
@@ -1223,7 +1182,7 @@ return action();
         }
     }
     
-    private int _jl_cell62() {
+    private int _jl_cell57() {
         mark(6);
         final char _jl_char = getNextChar();
         switch (_jl_char) {
@@ -1244,18 +1203,18 @@ return action();
         case 49:
         case 50:
         case 51: {
-            return _jl_cell67();
+            return _jl_cell60();
         }
         // [4-7]
         case 52:
         case 53:
         case 54:
         case 55: {
-            return _jl_cell66();
+            return _jl_cell59();
         }
         // u
         case 117: {
-            return _jl_cell65();
+            return _jl_cell58();
         }
         // EOF
         case 65535: {
@@ -1267,7 +1226,7 @@ return action();
         }
     }
     
-    private int _jl_cell65() {
+    private int _jl_cell58() {
         while (true) {
             mark(4);
             final char _jl_char = getNextChar();
@@ -1295,7 +1254,7 @@ return action();
             case 100:
             case 101:
             case 102: {
-                return _jl_cell70();
+                return _jl_cell61();
             }
             // u
             case 117: {
@@ -1308,7 +1267,7 @@ return action();
         }
     }
     
-    private int _jl_cell66() {
+    private int _jl_cell59() {
         mark(2);
         final char _jl_char = getNextChar();
         switch (_jl_char) {
@@ -1329,28 +1288,7 @@ return action();
         }
     }
     
-    private int _jl_cell67() {
-        mark(2);
-        final char _jl_char = getNextChar();
-        switch (_jl_char) {
-        // [0-7]
-        case 48:
-        case 49:
-        case 50:
-        case 51:
-        case 52:
-        case 53:
-        case 54:
-        case 55: {
-            return _jl_cell68();
-        }
-        default:  {
-            return rewind();
-        }
-        }
-    }
-    
-    private int _jl_cell68() {
+    private int _jl_cell60() {
         mark(2);
         final char _jl_char = getNextChar();
         switch (_jl_char) {
@@ -1363,7 +1301,7 @@ return action();
         case 53:
         case 54:
         case 55: {
-            return 2;
+            return _jl_cell59();
         }
         default:  {
             return rewind();
@@ -1371,7 +1309,7 @@ return action();
         }
     }
     
-    private int _jl_cell70() {
+    private int _jl_cell61() {
         final char _jl_char = getNextChar();
         switch (_jl_char) {
         // [0-9 A-F a-f]
@@ -1397,7 +1335,7 @@ return action();
         case 100:
         case 101:
         case 102: {
-            return _jl_cell71();
+            return _jl_cell62();
         }
         default:  {
             return rewind();
@@ -1405,7 +1343,7 @@ return action();
         }
     }
     
-    private int _jl_cell71() {
+    private int _jl_cell62() {
         final char _jl_char = getNextChar();
         switch (_jl_char) {
         // [0-9 A-F a-f]
@@ -1431,7 +1369,7 @@ return action();
         case 100:
         case 101:
         case 102: {
-            return _jl_cell72();
+            return _jl_cell63();
         }
         default:  {
             return rewind();
@@ -1439,7 +1377,7 @@ return action();
         }
     }
     
-    private int _jl_cell72() {
+    private int _jl_cell63() {
         final char _jl_char = getNextChar();
         switch (_jl_char) {
         // [0-9 A-F a-f]
@@ -1473,7 +1411,7 @@ return action();
         }
     }
     
-    private int _jl_cell74() {
+    private int _jl_cell64() {
         final char _jl_char = getNextChar();
         switch (_jl_char) {
         // 0x000a
@@ -1482,7 +1420,7 @@ return action();
         }
         // 0x000d
         case 13: {
-            return _jl_cell82();
+            return _jl_cell67();
         }
         // "
         case 34: {
@@ -1494,7 +1432,7 @@ return action();
         }
         // /
         case 47: {
-            return _jl_cell80();
+            return _jl_cell66();
         }
         // {
         case 123: {
@@ -1509,12 +1447,12 @@ return action();
             return 6;
         }
         default:  {
-            return _jl_cell79();
+            return _jl_cell65();
         }
         }
     }
     
-    private int _jl_cell79() {
+    private int _jl_cell65() {
         while (true) {
             mark(9);
             final char _jl_char = getNextChar();
@@ -1537,7 +1475,7 @@ return action();
         }
     }
     
-    private int _jl_cell80() {
+    private int _jl_cell66() {
         mark(8);
         final char _jl_char = getNextChar();
         switch (_jl_char) {
@@ -1547,7 +1485,7 @@ return action();
         }
         // /
         case 47: {
-            return _jl_cell84();
+            return _jl_cell69();
         }
         default:  {
             return rewind();
@@ -1555,7 +1493,7 @@ return action();
         }
     }
     
-    private int _jl_cell82() {
+    private int _jl_cell67() {
         mark(7);
         final char _jl_char = getNextChar();
         switch (_jl_char) {
@@ -1569,7 +1507,7 @@ return action();
         }
     }
     
-    private int _jl_cell84() {
+    private int _jl_cell69() {
         while (true) {
             mark(5);
             final char _jl_char = getNextChar();
@@ -1587,7 +1525,7 @@ return action();
         }
     }
     
-    private int _jl_cell86() {
+    private int _jl_cell70() {
         mark(3);
         final char _jl_char = getNextChar();
         switch (_jl_char) {
@@ -1598,15 +1536,15 @@ return action();
         }
         // \\
         case 92: {
-            return _jl_cell88();
+            return _jl_cell72();
         }
         default:  {
-            return _jl_cell87();
+            return _jl_cell71();
         }
         }
     }
     
-    private int _jl_cell87() {
+    private int _jl_cell71() {
         final char _jl_char = getNextChar();
         switch (_jl_char) {
         // '
@@ -1619,7 +1557,7 @@ return action();
         }
     }
     
-    private int _jl_cell88() {
+    private int _jl_cell72() {
         final char _jl_char = getNextChar();
         switch (_jl_char) {
         // [0-3]
@@ -1627,26 +1565,26 @@ return action();
         case 49:
         case 50:
         case 51: {
-            return _jl_cell91();
+            return _jl_cell75();
         }
         // [4-7]
         case 52:
         case 53:
         case 54:
         case 55: {
-            return _jl_cell90();
+            return _jl_cell74();
         }
         // EOF
         case 65535: {
             return rewind();
         }
         default:  {
-            return _jl_cell89();
+            return _jl_cell73();
         }
         }
     }
     
-    private int _jl_cell89() {
+    private int _jl_cell73() {
         final char _jl_char = getNextChar();
         switch (_jl_char) {
         // '
@@ -1659,7 +1597,7 @@ return action();
         }
     }
     
-    private int _jl_cell90() {
+    private int _jl_cell74() {
         final char _jl_char = getNextChar();
         switch (_jl_char) {
         // '
@@ -1675,7 +1613,7 @@ return action();
         case 53:
         case 54:
         case 55: {
-            return _jl_cell94();
+            return _jl_cell76();
         }
         default:  {
             return rewind();
@@ -1683,7 +1621,7 @@ return action();
         }
     }
     
-    private int _jl_cell91() {
+    private int _jl_cell75() {
         final char _jl_char = getNextChar();
         switch (_jl_char) {
         // '
@@ -1699,7 +1637,7 @@ return action();
         case 53:
         case 54:
         case 55: {
-            return _jl_cell92();
+            return _jl_cell74();
         }
         default:  {
             return rewind();
@@ -1707,41 +1645,28 @@ return action();
         }
     }
     
-    private int _jl_cell92() {
+    private int _jl_cell76() {
         final char _jl_char = getNextChar();
         switch (_jl_char) {
         // '
         case 39: {
             return 1;
         }
-        // [0-7]
-        case 48:
-        case 49:
-        case 50:
-        case 51:
-        case 52:
-        case 53:
-        case 54:
-        case 55: {
-            return _jl_cell94();
-        }
         default:  {
             return rewind();
         }
         }
     }
     
-    private int _jl_cell94() {
-        final char _jl_char = getNextChar();
-        switch (_jl_char) {
-        // '
-        case 39: {
-            return 1;
-        }
-        default:  {
-            return rewind();
-        }
-        }
-    }
+    private static final byte[] _jl_table0 = {
+        0, 0, 0, 0, 0, 0, 0, 0, 0, 1, 2, 0, 1, 3, 0, 0,
+        0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0,
+        1, 0, 4, 5, 0, 0, 0, 6, 7, 8, 9, 10, 11, 12, 13, 14,
+        15, 16, 16, 16, 16, 16, 16, 16, 16, 16, 0, 17, 18, 19, 20, 21,
+        0, 22, 22, 22, 22, 22, 22, 22, 22, 22, 22, 22, 22, 22, 22, 22,
+        22, 22, 22, 22, 22, 22, 22, 22, 22, 22, 22, 23, 0, 24, 25, 26,
+        0, 22, 22, 22, 22, 22, 22, 22, 22, 22, 22, 22, 22, 22, 22, 22,
+        22, 22, 22, 22, 22, 22, 22, 22, 22, 22, 22, 27, 28
+    };
     
 }
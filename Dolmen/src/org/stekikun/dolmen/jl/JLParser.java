@@ -78,7 +78,7 @@ public final class JLParser extends BaseParser<JLToken> {
 	}
 	
 	private <@NonNull T> Located<T> withLoc(T value) {
-		return Located.of(value, _jl_lastTokenStart, _jl_lastTokenEnd);
+		return Located.of(value, getLastTokenStart(), getLastTokenEnd());
 	}
 	
 	/**
@@ -129,14 +129,14 @@ public final class JLParser extends BaseParser<JLToken> {
 	
 	private Located<String> parseImport() {
 		eat(Kind.IMPORT);
-		Position posStart = _jl_lastTokenStart;
+		Position posStart = getLastTokenStart();
 		StringBuilder buf = new StringBuilder();
 		buf.append("import ");
 		if (peek() == STATIC) {
 			eat(); buf.append("static ");
 		}
 		parseImportString(buf);
-		return Located.of(buf.toString(), posStart, _jl_lastTokenEnd);
+		return Located.of(buf.toString(), posStart, getLastTokenEnd());
 	}
 	
 	private void parseImportString(StringBuilder buf) {
@@ -278,9 +278,9 @@ public final class JLParser extends BaseParser<JLToken> {
 			lreg = withLoc(reg);	// location of 'orelse'
 		}
 		else {
-			Position start = _jl_lastTokenEnd;
+			Position start = getLastTokenEnd();
 			Regular reg = parseRegular();
-			lreg = Located.of(reg, start, _jl_lastTokenEnd);
+			lreg = Located.of(reg, start, getLastTokenEnd());
 		}
 		Action action = (Action) eat(Kind.ACTION);
 		acc.add(new Clause(lreg, action.value));
@@ -69,6 +69,27 @@ public final class JLELexer extends org.stekikun.dolmen.codegen.LexBuffer {
         super("1.0.0", inputname, reader);
     }
     
+    /**
+     * Returns a fresh lexer based on the given range of characters,
+     * which is used in place and must not be modified while lexing
+     * @param inputname
+     * @param chars
+     * @param offset
+     * @param length
+     */
+    public JLELexer(String inputname, char[] chars, int offset, int length) {
+        super("1.0.0", inputname, chars, offset, length);
+    }
+    
+    /**
+     * Returns a fresh lexer based on the given in-memory characters
+     * @param inputname
+     * @param input
+     */
+    public JLELexer(String inputname, CharSequence input) {
+        super("1.0.0", inputname, input);
+    }
+    
     /**
      * Entry point for rule main
      */
@@ -125,7 +146,7 @@ public final class JLELexer extends org.stekikun.dolmen.codegen.LexBuffer {
                  return identOrKeyword(getLexeme()); 
             }
             case 8:  {
-                 return INTEGER(Integer.parseInt(getLexeme())); 
+                 return INTEGER(getLexemeAsInt(10)); 
             }
             case 9:  {
                  Position start = getLexemeStart();
@@ -243,7 +264,7 @@ public final class JLELexer extends org.stekikun.dolmen.codegen.LexBuffer {
         while (true) {
             // Initialize lexer for this automaton
             startToken();
-            int result = _jl_cell40();
+            int result = _jl_cell39();
             endToken();
             switch (result) {
             case 0:  {
@@ -287,7 +308,7 @@ public final class JLELexer extends org.stekikun.dolmen.codegen.LexBuffer {
         while (true) {
             // Initialize lexer for this automaton
             startToken();
-            int result = _jl_cell47();
+            int result = _jl_cell42();
             endToken();
             switch (result) {
             case 0:  {
@@ -322,7 +343,7 @@ public final class JLELexer extends org.stekikun.dolmen.codegen.LexBuffer {
         while (true) {
             // Initialize lexer for this automaton
             startToken();
-            int result = _jl_cell53();
+            int result = _jl_cell43();
             endToken();
             switch (result) {
             case 0:  {
@@ -346,7 +367,7 @@ public final class JLELexer extends org.stekikun.dolmen.codegen.LexBuffer {
         while (true) {
             // Initialize lexer for this automaton
             startToken();
-            int result = _jl_cell56();
+            int result = _jl_cell44();
             endToken();
             switch (result) {
             case 0:  {
@@ -387,7 +408,7 @@ public final class JLELexer extends org.stekikun.dolmen.codegen.LexBuffer {
         while (true) {
             // Initialize lexer for this automaton
             startToken();
-            int result = _jl_cell69();
+            int result = _jl_cell51();
             endToken();
             switch (result) {
             case 0:  {
@@ -443,171 +464,133 @@ public final class JLELexer extends org.stekikun.dolmen.codegen.LexBuffer {
     
     private int _jl_cell0() {
         final char _jl_char = getNextChar();
-        if (_jl_char <= 47) {
-            switch (_jl_char) {
+        if (_jl_char <= 124) {
+            switch (_jl_table0[_jl_char]) {
+            // [0x0000-0x0008 0x000b 0x000e-0x001f ! $-0x0026 : @ \\ 0x0060]
+            case 0: {
+                return 28;
+            }
             // [0x0009 0x000c 0x0020]
-            case 9:
-            case 12:
-            case 32: {
+            case 1: {
                 return _jl_cell30();
             }
             // 0x000a
-            case 10: {
+            case 2: {
                 return 1;
             }
             // 0x000d
-            case 13: {
+            case 3: {
                 return _jl_cell29();
             }
             // "
-            case 34: {
+            case 4: {
                 return 4;
             }
             // #
-            case 35: {
+            case 5: {
                 return 21;
             }
             // '
-            case 39: {
+            case 6: {
                 return 9;
             }
             // (
-            case 40: {
+            case 7: {
                 return 17;
             }
             // )
-            case 41: {
+            case 8: {
                 return 18;
             }
             // *
-            case 42: {
+            case 9: {
                 return 14;
             }
             // +
-            case 43: {
+            case 10: {
                 return 16;
             }
             // ,
-            case 44: {
+            case 11: {
                 return 25;
             }
             // \-
-            case 45: {
+            case 12: {
                 return 20;
             }
             // .
-            case 46: {
+            case 13: {
                 return 22;
             }
             // /
-            case 47: {
+            case 14: {
                 return _jl_cell27();
             }
+            // 0
+            case 15: {
+                return 8;
+            }
+            // [1-9]
+            case 16: {
+                return _jl_cell21();
+            }
+            // ;
+            case 17: {
+                return 26;
+            }
+            // <
+            case 18: {
+                return 23;
+            }
+            // 0x003d
+            case 19: {
+                return 10;
+            }
+            // >
+            case 20: {
+                return 24;
+            }
+            // ?
+            case 21: {
+                return 15;
+            }
+            // \[
+            case 23: {
+                return 12;
+            }
+            // \]
+            case 24: {
+                return 13;
+            }
+            // \^
+            case 25: {
+                return 19;
+            }
+            // \_
+            case 26: {
+                return _jl_cell24();
+            }
+            // {
+            case 27: {
+                return 5;
+            }
+            // |
+            case 28: {
+                return 11;
+            }
             default:  {
-                return 28;
+                return _jl_cell23();
             }
             }
         } else  {
-            if (_jl_char <= 90) {
-                if (_jl_char <= 60) {
-                    switch (_jl_char) {
-                    // 0
-                    case 48: {
-                        return 8;
-                    }
-                    // :
-                    case 58: {
-                        return 28;
-                    }
-                    // ;
-                    case 59: {
-                        return 26;
-                    }
-                    // <
-                    case 60: {
-                        return 23;
-                    }
-                    default:  {
-                        return _jl_cell21();
-                    }
-                    }
-                } else  {
-                    switch (_jl_char) {
-                    // 0x003d
-                    case 61: {
-                        return 10;
-                    }
-                    // >
-                    case 62: {
-                        return 24;
-                    }
-                    // ?
-                    case 63: {
-                        return 15;
-                    }
-                    // @
-                    case 64: {
-                        return 28;
-                    }
-                    default:  {
-                        return _jl_cell23();
-                    }
-                    }
-                }
-            } else  {
-                if (_jl_char <= 95) {
-                    switch (_jl_char) {
-                    // \\
-                    case 92: {
-                        return 28;
-                    }
-                    // \]
-                    case 93: {
-                        return 13;
-                    }
-                    // \^
-                    case 94: {
-                        return 19;
-                    }
-                    // \_
-                    case 95: {
-                        return _jl_cell24();
-                    }
-                    default:  {
-                        return 12;
-                    }
-                    }
-                } else  {
-                    if (_jl_char <= 123) {
-                        switch (_jl_char) {
-                        // 0x0060
-                        case 96: {
-                            return 28;
-                        }
-                        // {
-                        case 123: {
-                            return 5;
-                        }
-                        default:  {
-                            return _jl_cell23();
-                        }
-                        }
-                    } else  {
-                        switch (_jl_char) {
-                        // |
-                        case 124: {
-                            return 11;
-                        }
-                        // EOF
-                        case 65535: {
-                            return 27;
-                        }
-                        default:  {
-                            return 28;
-                        }
-                        }
-                    }
-                }
+            switch (_jl_char) {
+            // EOF
+            case 65535: {
+                return 27;
+            }
+            default:  {
+                return 28;
+            }
             }
         }
     }
@@ -872,7 +855,7 @@ public final class JLELexer extends org.stekikun.dolmen.codegen.LexBuffer {
         }
         // *
         case 42: {
-            return _jl_cell38();
+            return _jl_cell37();
         }
         // EOF
         case 65535: {
@@ -917,7 +900,7 @@ public final class JLELexer extends org.stekikun.dolmen.codegen.LexBuffer {
         }
     }
     
-    private int _jl_cell38() {
+    private int _jl_cell37() {
         mark(1);
         final char _jl_char = getNextChar();
         switch (_jl_char) {
@@ -931,7 +914,7 @@ public final class JLELexer extends org.stekikun.dolmen.codegen.LexBuffer {
         }
     }
     
-    private int _jl_cell40() {
+    private int _jl_cell39() {
         final char _jl_char = getNextChar();
         switch (_jl_char) {
         // 0x000a
@@ -940,7 +923,7 @@ public final class JLELexer extends org.stekikun.dolmen.codegen.LexBuffer {
         }
         // 0x000d
         case 13: {
-            return _jl_cell44();
+            return _jl_cell41();
         }
         // "
         case 34: {
@@ -955,12 +938,12 @@ public final class JLELexer extends org.stekikun.dolmen.codegen.LexBuffer {
             return 3;
         }
         default:  {
-            return _jl_cell41();
+            return _jl_cell40();
         }
         }
     }
     
-    private int _jl_cell41() {
+    private int _jl_cell40() {
         while (true) {
             mark(4);
             final char _jl_char = getNextChar();
@@ -980,7 +963,7 @@ public final class JLELexer extends org.stekikun.dolmen.codegen.LexBuffer {
         }
     }
     
-    private int _jl_cell44() {
+    private int _jl_cell41() {
         mark(2);
         final char _jl_char = getNextChar();
         switch (_jl_char) {
@@ -994,7 +977,7 @@ public final class JLELexer extends org.stekikun.dolmen.codegen.LexBuffer {
         }
     }
     
-    private int _jl_cell47() {
+    private int _jl_cell42() {
         final char _jl_char = getNextChar();
         switch (_jl_char) {
         // 0x000a
@@ -1003,7 +986,7 @@ public final class JLELexer extends org.stekikun.dolmen.codegen.LexBuffer {
         }
         // 0x000d
         case 13: {
-            return _jl_cell49();
+            return _jl_cell36();
         }
         // '
         case 39: {
@@ -1023,21 +1006,7 @@ public final class JLELexer extends org.stekikun.dolmen.codegen.LexBuffer {
         }
     }
     
-    private int _jl_cell49() {
-        mark(3);
-        final char _jl_char = getNextChar();
-        switch (_jl_char) {
-        // 0x000a
-        case 10: {
-            return 3;
-        }
-        default:  {
-            return rewind();
-        }
-        }
-    }
-    
-    private int _jl_cell53() {
+    private int _jl_cell43() {
         final char _jl_char = getNextChar();
         switch (_jl_char) {
         // '
@@ -1054,7 +1023,7 @@ public final class JLELexer extends org.stekikun.dolmen.codegen.LexBuffer {
         }
     }
     
-    private int _jl_cell56() {
+    private int _jl_cell44() {
         final char _jl_char = getNextChar();
         switch (_jl_char) {
         // [" ' \\ b f n r t]
@@ -1073,18 +1042,18 @@ public final class JLELexer extends org.stekikun.dolmen.codegen.LexBuffer {
         case 49:
         case 50:
         case 51: {
-            return _jl_cell60();
+            return _jl_cell46();
         }
         // [4-7]
         case 52:
         case 53:
         case 54:
         case 55: {
-            return _jl_cell59();
+            return _jl_cell45();
         }
         // u
         case 117: {
-            return _jl_cell62();
+            return _jl_cell47();
         }
         // EOF
         case 65535: {
@@ -1096,7 +1065,7 @@ public final class JLELexer extends org.stekikun.dolmen.codegen.LexBuffer {
         }
     }
     
-    private int _jl_cell59() {
+    private int _jl_cell45() {
         mark(1);
         final char _jl_char = getNextChar();
         switch (_jl_char) {
@@ -1117,7 +1086,7 @@ public final class JLELexer extends org.stekikun.dolmen.codegen.LexBuffer {
         }
     }
     
-    private int _jl_cell60() {
+    private int _jl_cell46() {
         mark(1);
         final char _jl_char = getNextChar();
         switch (_jl_char) {
@@ -1130,7 +1099,7 @@ public final class JLELexer extends org.stekikun.dolmen.codegen.LexBuffer {
         case 53:
         case 54:
         case 55: {
-            return _jl_cell67();
+            return _jl_cell45();
         }
         default:  {
             return rewind();
@@ -1138,7 +1107,7 @@ public final class JLELexer extends org.stekikun.dolmen.codegen.LexBuffer {
         }
     }
     
-    private int _jl_cell62() {
+    private int _jl_cell47() {
         while (true) {
             mark(3);
             final char _jl_char = getNextChar();
@@ -1166,7 +1135,7 @@ public final class JLELexer extends org.stekikun.dolmen.codegen.LexBuffer {
             case 100:
             case 101:
             case 102: {
-                return _jl_cell63();
+                return _jl_cell48();
             }
             // u
             case 117: {
@@ -1179,7 +1148,7 @@ public final class JLELexer extends org.stekikun.dolmen.codegen.LexBuffer {
         }
     }
     
-    private int _jl_cell63() {
+    private int _jl_cell48() {
         final char _jl_char = getNextChar();
         switch (_jl_char) {
         // [0-9 A-F a-f]
@@ -1205,7 +1174,7 @@ public final class JLELexer extends org.stekikun.dolmen.codegen.LexBuffer {
         case 100:
         case 101:
         case 102: {
-            return _jl_cell64();
+            return _jl_cell49();
         }
         default:  {
             return rewind();
@@ -1213,7 +1182,7 @@ public final class JLELexer extends org.stekikun.dolmen.codegen.LexBuffer {
         }
     }
     
-    private int _jl_cell64() {
+    private int _jl_cell49() {
         final char _jl_char = getNextChar();
         switch (_jl_char) {
         // [0-9 A-F a-f]
@@ -1239,7 +1208,7 @@ public final class JLELexer extends org.stekikun.dolmen.codegen.LexBuffer {
         case 100:
         case 101:
         case 102: {
-            return _jl_cell65();
+            return _jl_cell50();
         }
         default:  {
             return rewind();
@@ -1247,7 +1216,7 @@ public final class JLELexer extends org.stekikun.dolmen.codegen.LexBuffer {
         }
     }
     
-    private int _jl_cell65() {
+    private int _jl_cell50() {
         final char _jl_char = getNextChar();
         switch (_jl_char) {
         // [0-9 A-F a-f]
@@ -1281,28 +1250,7 @@ public final class JLELexer extends org.stekikun.dolmen.codegen.LexBuffer {
         }
     }
     
-    private int _jl_cell67() {
-        mark(1);
-        final char _jl_char = getNextChar();
-        switch (_jl_char) {
-        // [0-7]
-        case 48:
-        case 49:
-        case 50:
-        case 51:
-        case 52:
-        case 53:
-        case 54:
-        case 55: {
-            return 1;
-        }
-        default:  {
-            return rewind();
-        }
-        }
-    }
-    
-    private int _jl_cell69() {
+    private int _jl_cell51() {
         final char _jl_char = getNextChar();
         switch (_jl_char) {
         // 0x000a
@@ -1311,7 +1259,7 @@ public final class JLELexer extends org.stekikun.dolmen.codegen.LexBuffer {
         }
         // 0x000d
         case 13: {
-            return _jl_cell78();
+            return _jl_cell56();
         }
         // "
         case 34: {
@@ -1323,7 +1271,7 @@ public final class JLELexer extends org.stekikun.dolmen.codegen.LexBuffer {
         }
         // /
         case 47: {
-            return _jl_cell76();
+            return _jl_cell54();
         }
         // {
         case 123: {
@@ -1338,12 +1286,12 @@ public final class JLELexer extends org.stekikun.dolmen.codegen.LexBuffer {
             return 6;
         }
         default:  {
-            return _jl_cell75();
+            return _jl_cell53();
         }
         }
     }
     
-    private int _jl_cell75() {
+    private int _jl_cell53() {
         while (true) {
             mark(9);
             final char _jl_char = getNextChar();
@@ -1366,7 +1314,7 @@ public final class JLELexer extends org.stekikun.dolmen.codegen.LexBuffer {
         }
     }
     
-    private int _jl_cell76() {
+    private int _jl_cell54() {
         mark(8);
         final char _jl_char = getNextChar();
         switch (_jl_char) {
@@ -1376,7 +1324,7 @@ public final class JLELexer extends org.stekikun.dolmen.codegen.LexBuffer {
         }
         // /
         case 47: {
-            return _jl_cell79();
+            return _jl_cell57();
         }
         default:  {
             return rewind();
@@ -1384,7 +1332,7 @@ public final class JLELexer extends org.stekikun.dolmen.codegen.LexBuffer {
         }
     }
     
-    private int _jl_cell78() {
+    private int _jl_cell56() {
         mark(7);
         final char _jl_char = getNextChar();
         switch (_jl_char) {
@@ -1398,7 +1346,7 @@ public final class JLELexer extends org.stekikun.dolmen.codegen.LexBuffer {
         }
     }
     
-    private int _jl_cell79() {
+    private int _jl_cell57() {
         while (true) {
             mark(5);
             final char _jl_char = getNextChar();
@@ -1416,6 +1364,17 @@ public final class JLELexer extends org.stekikun.dolmen.codegen.LexBuffer {
         }
     }
     
+    private static final byte[] _jl_table0 = {
+        0, 0, 0, 0, 0, 0, 0, 0, 0, 1, 2, 0, 1, 3, 0, 0,
+        0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0,
+        1, 0, 4, 5, 0, 0, 0, 6, 7, 8, 9, 10, 11, 12, 13, 14,
+        15, 16, 16, 16, 16, 16, 16, 16, 16, 16, 0, 17, 18, 19, 20, 21,
+        0, 22, 22, 22, 22, 22, 22, 22, 22, 22, 22, 22, 22, 22, 22, 22,
+        22, 22, 22, 22, 22, 22, 22, 22, 22, 22, 22, 23, 0, 24, 25, 26,
+        0, 22, 22, 22, 22, 22, 22, 22, 22, 22, 22, 22, 22, 22, 22, 22,
+        22, 22, 22, 22, 22, 22, 22, 22, 22, 22, 22, 27, 28
+    };
+    
      
     
 }
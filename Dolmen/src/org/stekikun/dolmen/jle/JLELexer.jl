@@ -122,7 +122,7 @@ public { Token } rule main =
 				}
 | '_'			{ return UNDERSCORE; }
 | ident			{ return identOrKeyword(getLexeme()); }
-| decimal		{ return INTEGER(Integer.parseInt(getLexeme())); }
+| decimal		{ return INTEGER(getLexemeAsInt(10)); }
 | "'"			{ Position start = getLexemeStart();
 				  errLocs.push(start);
 				  char c = character();
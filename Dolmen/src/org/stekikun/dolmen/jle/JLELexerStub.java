@@ -7,6 +7,7 @@ import java.io.IOException;
 
 import org.stekikun.dolmen.automaton.Automata;
 import org.stekikun.dolmen.automaton.Determinize;
+import org.stekikun.dolmen.automaton.Minimize;
 import org.stekikun.dolmen.codegen.AutomataOutput;
 import org.stekikun.dolmen.common.Bookkeeper;
 import org.stekikun.dolmen.jl.JLLexerGenerated;
@@ -38,6 +39,10 @@ public abstract class JLELexerStub {
 		tasks.done("Successfully parsed lexer description");
 		Automata aut = Determinize.lexer(lexerDef, true);
 		tasks.done("Computed automata");
+		final int before = aut.automataCells.length;
+		aut = Minimize.automata(aut);
+		tasks.done("Minimized automata");
+		tasks.infos("(" + before + " states reduced to " + aut.automataCells.length + " states)");
 		File file = new File("src/org/stekikun/dolmen/jle/" + className + ".java");
 		try (FileWriter writer = new FileWriter(file, false)) {
 			writer.append("package org.stekikun.dolmen.jle;\n");
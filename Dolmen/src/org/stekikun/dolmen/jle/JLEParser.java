@@ -237,7 +237,7 @@ public final class JLEParser extends org.stekikun.dolmen.codegen.BaseParser<JLEP
      * 	consumed token
      */
     private <@NonNull T> Located<T> withLoc(T t) {
-	     return Located.of(t, _jl_lastTokenStart, _jl_lastTokenEnd);
+	     return Located.of(t, getLastTokenStart(), getLastTokenEnd());
     }
     
     private String validJavaIdent(String id) {
@@ -367,14 +367,14 @@ public final class JLEParser extends org.stekikun.dolmen.codegen.BaseParser<JLEP
                 eat(Token.Kind.IMPORT);
                 
 		List<Located<String>> acc = imports == null ? new ArrayList<>() : imports; 
-		Position posStart = _jl_lastTokenStart;
+		Position posStart = getLastTokenStart();
 	  	StringBuilder buf = new StringBuilder();
 	  	buf.append("import ");
 	
                 // import_(buf)
                 import_(buf);
                 
-		Located<String> imp = Located.of(buf.toString(), posStart, _jl_lastTokenEnd);
+		Located<String> imp = Located.of(buf.toString(), posStart, getLastTokenEnd());
 		acc.add(imp);
 	
                 // imports(acc)
@@ -654,10 +654,10 @@ public final class JLEParser extends org.stekikun.dolmen.codegen.BaseParser<JLEP
             case LSTRING:
             case MLSTRING:
             case UNDERSCORE: {
-                 Position start = _jl_lastTokenEnd; 
+                 Position start = getLastTokenEnd(); 
                 // reg = regular()
                  Regular  reg = regular();
-                 return Located.of(reg, start, _jl_lastTokenEnd); 
+                 return Located.of(reg, start, getLastTokenEnd()); 
             }
             case ORELSE: {
                 // ORELSE
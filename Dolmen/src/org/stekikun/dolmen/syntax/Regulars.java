@@ -1,9 +1,13 @@
 package org.stekikun.dolmen.syntax;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
@@ -587,6 +591,114 @@ public abstract class Regulars {
 		return matches(regular, input, true);
 	}
 
+	/**
+	 * @param regular
+	 * @param input
+	 * @param from		the positions from which to match {@code regular}
+	 * @return the set of positions in {@code input} which can be
+	 * 	reached by matching {@code regular} from any of the positions
+	 * 	in {@code from}. End-of-input is never matched.
+	 */
+	private static BitSet ends(Regular regular, String input, BitSet from) {
+		switch (regular.getKind()) {
+		case EPSILON:
+			return from;
+		case EOF:
+			return new BitSet();
+		case CHARACTERS: {
+			final Characters characters = (Characters) regular;
+			final BitSet res = new BitSet();
+			for (int p = from.nextSetBit(0); p >= 0 && p < input.length(); 
+					p = from.nextSetBit(p + 1)) {
+				if (characters.chars.contains(input.charAt(p)))
+					res.set(p + 1);
+			}
+			return res;
+		}
+		case ALTERNATE: {
+			final Alternate alternate = (Alternate) regular;
+			final BitSet res = (BitSet) ends(alternate.lhs, input, from).clone();
+			res.or(ends(alternate.rhs, input, from));
+			return res;
+		}
+		case SEQUENCE: {
+			final Sequence sequence = (Sequence) regular;
+			return ends(sequence.second, input, 
+						ends(sequence.first, input, from));
+		}
+		case REPETITION: {
+			final Repetition repetition = (Repetition) regular;
+			// Iterate until no new positions can be reached
+			final BitSet res = (BitSet) from.clone();
+			BitSet frontier = from;
+			while (!frontier.isEmpty()) {
+				final BitSet next = (BitSet) ends(repetition.reg, input, frontier).clone();
+				next.andNot(res);
+				res.or(next);
+				frontier = next;
+			}
+			return res;
+		}
+		case BINDING: {
+			final Binding binding = (Binding) regular;
+			return ends(binding.reg, input, from);
+		}
+		}
+		throw new IllegalStateException();
+	}
+	
+	/**
+	 * Unlike {@link #matches(Regular, String)}, which only explores 
+	 * a bounded number of repetitions, this is an exact decision 
+	 * procedure. Regular expressions can only match end-of-input 
+	 * after the input string, so this method returns {@code false} 
+	 * for strings which can only be matched by using {@link Regular#EOF}.
+	 * 
+	 * @param regular
+	 * @param input
+	 * @return whether {@code regular} matches the whole {@code input} 
+	 * 	string, without matching end-of-input
+	 */
+	public static boolean accepts(Regular regular, String input) {
+		final BitSet start = new BitSet();
+		start.set(0);
+		return ends(regular, input, start).get(input.length());
+	}
+	
+	/**
+	 * @param regular
+	 * @return the only string matched by {@code regular}, if it
+	 * 	is a string literal without any bindings, {@code null} otherwise
+	 */
+	public static @Nullable String asLiteral(Regular regular) {
+		final StringBuilder buf = new StringBuilder();
+		return appendLiteral(buf, regular) ? buf.toString() : null;
+	}
+	
+	private static boolean appendLiteral(StringBuilder buf, Regular regular) {
+		switch (regular.getKind()) {
+		case EPSILON:
+			return true;
+		case CHARACTERS: {
+			final Characters characters = (Characters) regular;
+			if (characters.chars.cardinal() != 1) return false;
+			characters.chars.forEach(buf::append);
+			return true;
+		}
+		case SEQUENCE: {
+			final Sequence sequence = (Sequence) regular;
+			return appendLiteral(buf, sequence.first) 
+				&& appendLiteral(buf, sequence.second);
+		}
+		case EOF:
+		case ALTERNATE:
+		case REPETITION:
+		case BINDING:
+			return false;
+		}
+		throw new IllegalStateException();
+	}
+	
 	/**
 	 * A witness string, i.e. a potential matcher
 	 * along with the info of whether this string
@@ -884,4 +996,173 @@ public abstract class Regulars {
 		}
 		throw new IllegalStateException();
 	}
+	
+	/** The largest code points encoded on 1, 2 and 3 bytes respectively */
+	private static final int[] UTF8_MAX = { 0x7F, 0x7FF, 0xFFFF };
+	
+	/**
+	 * Adds to {@code res} regular expressions matching the UTF-8 encodings
+	 * of the code points in {@code [start, end]}, each of these expressions
+	 * being a sequence of byte ranges.
+	 * 
+	 * @param start
+	 * @param end
+	 * @param res
+	 */
+	private static void utf8Ranges(int start, int end, List<@NonNull Regular> res) {
+		// Split ranges whose code points are not all encoded with the same length
+		for (int max : UTF8_MAX) {
+			if (start <= max && max < end) {
+				utf8Ranges(start, max, res);
+				utf8Ranges(max + 1, end, res);
+				return;
+			}
+		}
+		if (end <= 0x7F) {
+			res.add(Regular.chars(CSet.interval((char) start, (char) end)));
+			return;
+		}
+		// Split ranges until every continuation byte but the leading 
+		// ones spans its whole range, so that the range can be described 
+		// as a sequence of byte ranges
+		for (int i = 1; i < 4; ++i) {
+			final int m = (1 << (6 * i)) - 1;
+			if ((start & ~m) == (end & ~m)) continue;
+			if ((start & m) != 0) {
+				utf8Ranges(start, start | m, res);
+				utf8Ranges((start | m) + 1, end, res);
+				return;
+			}
+			if ((end & m) != m) {
+				utf8Ranges(start, (end & ~m) - 1, res);
+				utf8Ranges(end & ~m, end, res);
+				return;
+			}
+		}
+		final byte[] bstart = new String(Character.toChars(start))
+			.getBytes(StandardCharsets.UTF_8);
+		final byte[] bend = new String(Character.toChars(end))
+			.getBytes(StandardCharsets.UTF_8);
+		Regular r = Regular.EPSILON;
+		for (int i = 0; i < bstart.length; ++i) {
+			CSet bytes = CSet.interval((char) (bstart[i] & 0xFF), (char) (bend[i] & 0xFF));
+			r = Regular.seq(r, Regular.chars(bytes));
+		}
+		res.add(r);
+	}
+	
+	/**
+	 * Bytes are represented by the characters in the range 
+	 * {@code [0x00-0xFF]}, so that the resulting expression can
+	 * be used to recognize UTF-8 encoded input one byte at a time.
+	 * <p>
+	 * Surrogate characters cannot be encoded on their own, so that
+	 * they are not matched as such by the returned expression. Instead,
+	 * a supplementary code point is matched if and only if both
+	 * its high and low surrogates belong to {@code cset}.
+	 * <p>
+	 * When {@code cset} contains the replacement character {@code U+FFFD},
+	 * the returned expression also matches the byte sequences {@code [0xFF]},
+	 * {@code [0xFE 0x80]} and {@code [0xFD 0x80 0x80]}, which never appear
+	 * in well-formed UTF-8 and which
+	 * {@link org.stekikun.dolmen.codegen.ByteLexBuffer} uses in place of
+	 * malformed input.
+	 * 
+	 * @param cset	must not contain {@link CSet#EOF}
+	 * @return a regular expression matching exactly the 
+	 * 	UTF-8 encodings of the characters in {@code cset}
+	 */
+	public static Regular utf8(CSet cset) {
+		final List<@NonNull Regular> res = new ArrayList<>();
+		final CSet surrogates = CSet.interval(Character.MIN_SURROGATE, Character.MAX_SURROGATE);
+		CSet.diff(cset, surrogates).forEachInterval((first, last) ->
+			utf8Ranges(first, last, res));
+		
+		final CSet highs = CSet.inter(cset, 
+			CSet.interval(Character.MIN_HIGH_SURROGATE, Character.MAX_HIGH_SURROGATE));
+		final CSet lows = CSet.inter(cset,
+			CSet.interval(Character.MIN_LOW_SURROGATE, Character.MAX_LOW_SURROGATE));
+		if (!highs.isEmpty() && !lows.isEmpty()) {
+			final boolean allLows = lows.cardinal() == 
+				Character.MAX_LOW_SURROGATE - Character.MIN_LOW_SURROGATE + 1;
+			highs.forEachInterval((hfirst, hlast) -> {
+				if (allLows) {
+					// Contiguous range of supplementary code points
+					utf8Ranges(
+						Character.toCodePoint(hfirst, Character.MIN_LOW_SURROGATE),
+						Character.toCodePoint(hlast, Character.MAX_LOW_SURROGATE), res);
+					return;
+				}
+				for (int h = hfirst; h <= hlast; ++h) {
+					final char high = (char) h;
+					lows.forEachInterval((lfirst, llast) ->
+						utf8Ranges(Character.toCodePoint(high, lfirst),
+							Character.toCodePoint(high, llast), res));
+				}
+			});
+		}
+		if (cset.contains('\uFFFD')) {
+			final Regular cont = Regular.chars(CSet.singleton((char) 0x80));
+			res.add(Regular.chars(CSet.singleton((char) 0xFF)));
+			res.add(Regular.seq(Regular.chars(CSet.singleton((char) 0xFE)), cont));
+			res.add(Regular.seq(Regular.chars(CSet.singleton((char) 0xFD)),
+				Regular.seq(cont, cont)));
+		}
+		
+		// Group all single bytes in a single character set
+		CSet single = CSet.EMPTY;
+		Regular multi = Regular.chars(CSet.EMPTY);
+		boolean hasMulti = false;
+		for (Regular r : res) {
+			if (r.getKind() == Regular.Kind.CHARACTERS)
+				single = CSet.union(single, ((Characters) r).chars);
+			else {
+				multi = hasMulti ? Regular.or(multi, r) : r;
+				hasMulti = true;
+			}
+		}
+		if (!hasMulti) return Regular.chars(single);
+		if (single.isEmpty()) return multi;
+		return Regular.or(Regular.chars(single), multi);
+	}
+	
+	/**
+	 * The structure of the regular expression, and in particular its
+	 * bindings, are preserved: only {@linkplain Characters character sets}
+	 * are replaced with the corresponding {@linkplain #utf8(CSet) byte sequences}.
+	 * 
+	 * @param regular
+	 * @return a regular expression matching exactly the UTF-8 encodings
+	 * 	of the strings matched by {@code regular}, with bytes represented
+	 * 	by characters in the range {@code [0x00-0xFF]}
+	 * @see #utf8(CSet)
+	 */
+	public static Regular toUTF8(Regular regular) {
+		switch (regular.getKind()) {
+		case EPSILON:
+		case EOF:
+			return regular;
+		case CHARACTERS: {
+			final Characters characters = (Characters) regular;
+			return utf8(characters.chars);
+		}
+		case ALTERNATE: {
+			final Alternate alt = (Alternate) regular;
+			return Regular.or(toUTF8(alt.lhs), toUTF8(alt.rhs));
+		}
+		case SEQUENCE: {
+			final Sequence seq = (Sequence) regular;
+			return Regular.seq(toUTF8(seq.first), toUTF8(seq.second));
+		}
+		case REPETITION: {
+			final Repetition rep = (Repetition) regular;
+			return Regular.star(toUTF8(rep.reg));
+		}
+		case BINDING: {
+			final Binding binding = (Binding) regular;
+			return Regular.binding(toUTF8(binding.reg), binding.name);
+		}
+		}
+		throw new IllegalStateException("Unknown kind: " + regular.getKind());
+	}
 }
\ No newline at end of file
@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.TreeMap;
 
 import org.stekikun.dolmen.common.CSet;
 import org.stekikun.dolmen.syntax.Extent;
@@ -40,6 +41,22 @@ public final class Encoder {
 	 */
 	private boolean optimisation;
 	
+	/**
+	 * Whether character sets should be encoded as
+	 * sequences of UTF-8 bytes
+	 * 
+	 * @see Regulars#toUTF8(Regular)
+	 */
+	private final boolean utf8;
+	
+	/**
+	 * Whether keyword clauses should be recognized by
+	 * looking lexemes up rather than in the automata
+	 * 
+	 * @see Keywords
+	 */
+	private final boolean keywords;
+	
 	private int nextIndex;
 	private final List<CSet> charSets;
 
@@ -48,7 +65,28 @@ public final class Encoder {
 	 * Returns a freshly initialized encoder 
 	 */
 	public Encoder(boolean optimisation) {
+		this(optimisation, false);
+	}
+	
+	/**
+	 * @param optimisation	whether optimisation should be applied
+	 * @param utf8			whether clauses should be encoded on UTF-8 bytes
+	 * Returns a freshly initialized encoder 
+	 */
+	public Encoder(boolean optimisation, boolean utf8) {
+		this(optimisation, utf8, false);
+	}
+	
+	/**
+	 * @param optimisation	whether optimisation should be applied
+	 * @param utf8			whether clauses should be encoded on UTF-8 bytes
+	 * @param keywords		whether keyword clauses should be left out of the automata
+	 * Returns a freshly initialized encoder 
+	 */
+	public Encoder(boolean optimisation, boolean utf8, boolean keywords) {
 		this.optimisation = optimisation;
+		this.utf8 = utf8;
+		this.keywords = keywords;
 		this.nextIndex = 0;
 		this.charSets = new ArrayList<CSet>();
 	}
@@ -150,21 +188,31 @@ public final class Encoder {
 		List<Finisher> actions = new ArrayList<>(entry.clauses.size());
 		int count = 0;
 		int ntags = 0;
+		final Keywords kws = keywords ? Keywords.analyse(entry) : Keywords.NONE;
 		// Go through all clauses and encode them, building a giant
 		// disjunction in tr
 		for (Clause clause : entry.clauses) {
-			final Regular expr = Regulars.removeNestedBindings2(clause.regular.val);
 			final Extent act = clause.action;
+			// Keywords are not part of the automaton, and bind nothing
+			if (kws.isKeyword(count)) {
+				actions.add(new Finisher(count, new TreeMap<>(), act));
+				++count;
+				continue;
+			}
+			final Regular expr = Regulars.removeNestedBindings2(clause.regular.val);
 			final VarsInfo varsInfo = Regulars.analyseVars(expr);
 			final Set<String> charVars = varsInfo.getCharVars();
 			
-			final TRegular texpr = encode_(expr, charVars, count);
+			// Variables are analysed before encoding to bytes, so that
+			// bindings to single characters are still recognized as such
+			final TRegular texpr = 
+				encode_(utf8 ? Regulars.toUTF8(expr) : expr, charVars, count);
 			final Allocated allocated =
 				Optimiser.optimise(varsInfo, optimisation, texpr);
 			
 			TRegular rclause =
 				TRegular.seq(allocated.regular, TRegular.action(count));
-			if (count == 0)
+			if (tr == TRegular.EPSILON)
 				tr = rclause;
 			else
 				tr = TRegular.or(tr, rclause);
@@ -177,7 +225,7 @@ public final class Encoder {
 		
 		return new TLexerEntry(entry.visibility, entry.name.val, 
 				entry.returnType, entry.shortest, entry.args,
-				tr, ntags, actions);
+				tr, ntags, actions, kws);
 	}
 	
 	/**
@@ -187,7 +235,38 @@ public final class Encoder {
 	 * @see TLexer
 	 */
 	public static TLexer encodeLexer(Lexer lexer, boolean optimisation) {
-		Encoder encoder = new Encoder(optimisation);
+		return encodeLexer(lexer, optimisation, false);
+	}
+	
+	/**
+	 * @param optimisation	whether optimisation should be applied
+	 * @param utf8			whether the lexer should be encoded on UTF-8 bytes
+	 * @param lexer
+	 * @return a tagged lexer definition from {@code lexer}, where
+	 * 	character sets are encoded as UTF-8 byte sequences if {@code utf8}
+	 * 	holds
+	 * @see TLexer
+	 * @see Regulars#toUTF8(Regular)
+	 */
+	public static TLexer encodeLexer(Lexer lexer, boolean optimisation, boolean utf8) {
+		return encodeLexer(lexer, optimisation, utf8, false);
+	}
+	
+	/**
+	 * @param optimisation	whether optimisation should be applied
+	 * @param utf8			whether the lexer should be encoded on UTF-8 bytes
+	 * @param keywords		whether keyword clauses should be left out of the automata
+	 * @param lexer
+	 * @return a tagged lexer definition from {@code lexer}, where
+	 * 	character sets are encoded as UTF-8 byte sequences if {@code utf8}
+	 * 	holds, and where keyword clauses are recognized by looking
+	 * 	lexemes up if {@code keywords} holds
+	 * @see TLexer
+	 * @see Keywords
+	 */
+	public static TLexer encodeLexer(Lexer lexer, boolean optimisation, 
+			boolean utf8, boolean keywords) {
+		Encoder encoder = new Encoder(optimisation, utf8, keywords);
 		List<TLexerEntry> entries = new ArrayList<>(lexer.entryPoints.size());
 		for (Lexer.Entry entry : lexer.entryPoints)
 			entries.add(encoder.encodeEntry(entry));
@@ -0,0 +1,149 @@
+package org.stekikun.dolmen.tagged;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.stekikun.dolmen.syntax.Lexer;
+import org.stekikun.dolmen.syntax.Regular;
+import org.stekikun.dolmen.syntax.Regulars;
+
+/**
+ * Describes the clauses of a lexer entry which are <i>keywords</i>,
+ * i.e. string literals which are also matched by some more general
+ * <i>identifier</i> clause, such as in:
+ * <pre>
+ * | "if"   { return IF; }
+ * | "else" { return ELSE; }
+ * | ident  { return IDENT(getLexeme()); }
+ * </pre>
+ * Such keyword clauses need not be compiled in the entry's automaton:
+ * the identifier clause can match the keywords instead, and the
+ * generated lexer can then look the matched lexeme up in a table
+ * of keywords to find the semantic action which must be executed.
+ * This results in much smaller automata when there are many keywords.
+ * <p>
+ * A string literal clause {@code k} is only considered a keyword
+ * of some identifier clause {@code i} when this transformation does
+ * not change the behaviour of the lexer entry, namely when:
+ * <ul>
+ * <li> the entry does not use the shortest-match rule;
+ * <li> {@code k} has at least two characters and is matched by {@code i};
+ * <li> {@code k} is part of the contiguous run of string literal
+ * 	clauses which appear just before {@code i}, and this run does not
+ * 	contain the same string twice;
+ * <li> {@code k} is not matched by any clause before that run.
+ * </ul>
+ * Under these conditions, whenever the longest match is a keyword
+ * of {@code i}, the original entry would have chosen the keyword's
+ * clause, and the transformed entry chooses {@code i}. Single-character
+ * literals are never considered as keywords, as they cost no more than
+ * one transition in the automata anyway.
+ *
+ * @author Stéphane Lescuyer
+ * @see #analyse(Lexer.Entry)
+ */
+public final class Keywords {
+
+	/**
+	 * For every identifier clause with keywords, given
+	 * by its semantic action's number, the map from keywords
+	 * to their own semantic action's number
+	 */
+	public final Map<@NonNull Integer, @NonNull Map<@NonNull String, @NonNull Integer>> tables;
+
+	private Keywords(Map<Integer, Map<String, Integer>> tables) {
+		this.tables = Collections.unmodifiableMap(tables);
+	}
+
+	/**
+	 * Keywords descriptions for entries without keywords
+	 */
+	public static final Keywords NONE = new Keywords(new TreeMap<>());
+
+	/**
+	 * @return {@code true} if there are no keywords in this description
+	 */
+	public boolean isEmpty() {
+		return tables.isEmpty();
+	}
+
+	/**
+	 * @param action
+	 * @return whether the semantic action {@code action} belongs
+	 * 	to a keyword clause
+	 */
+	public boolean isKeyword(int action) {
+		for (Map<String, Integer> table : tables.values())
+			if (table.containsValue(action)) return true;
+		return false;
+	}
+
+	/**
+	 * @param entry
+	 * @return a description of the clauses of {@code entry} which can
+	 * 	be recognized as keywords of some other clause without changing
+	 * 	the behaviour of {@code entry}
+	 */
+	public static Keywords analyse(Lexer.Entry entry) {
+		if (entry.shortest) return NONE;
+		final int n = entry.clauses.size();
+		final List<@Nullable String> literals = new ArrayList<>(n);
+		for (Lexer.Clause clause : entry.clauses)
+			literals.add(Regulars.asLiteral(clause.regular.val));
+
+		final Map<Integer, Map<String, Integer>> tables = new TreeMap<>();
+		int runStart = 0;
+		for (int i = 0; i < n; ++i) {
+			if (literals.get(i) != null) continue;
+			// Clause i is not a literal, consider the run of literals
+			// just before it, unless it contains duplicates
+			final Regular ident = entry.clauses.get(i).regular.val;
+			final Map<String, Integer> keywords = new LinkedHashMap<>();
+			final Set<String> seen = new HashSet<>();
+			boolean duplicates = false;
+			for (int j = runStart; j < i; ++j)
+				duplicates |= !seen.add(literals.get(j));
+			if (!duplicates) {
+				for (int j = runStart; j < i; ++j) {
+					@SuppressWarnings("null")
+					final @NonNull String kw = literals.get(j);
+					if (kw.length() < 2 || !Regulars.accepts(ident, kw)) continue;
+					if (shadowed(entry, runStart, kw)) continue;
+					keywords.put(kw, j);
+				}
+			}
+			if (!keywords.isEmpty())
+				tables.put(i, keywords);
+			runStart = i + 1;
+		}
+		if (tables.isEmpty()) return NONE;
+		return new Keywords(tables);
+	}
+
+	/**
+	 * @param entry
+	 * @param limit
+	 * @param kw
+	 * @return whether one of the first {@code limit} clauses
+	 * 	in {@code entry} matches {@code kw}
+	 */
+	private static boolean shadowed(Lexer.Entry entry, int limit, String kw) {
+		for (int k = 0; k < limit; ++k)
+			if (Regulars.accepts(entry.clauses.get(k).regular.val, kw))
+				return true;
+		return false;
+	}
+
+	@Override
+	public String toString() {
+		return tables.toString();
+	}
+}
@@ -86,6 +86,11 @@ public final class TLexerEntry {
 	public final int memTags;
 	/** The list of semantic actions */
 	public final List<@NonNull Finisher> actions;
+	/** 
+	 * The keyword clauses which are not part of {@link #regexp}
+	 * and must be recognized by looking lexemes up instead
+	 */
+	public final Keywords keywords;
 
 	/**
 	 * Builds an encoded lexer entry based on all the arguments
@@ -98,10 +103,12 @@ public final class TLexerEntry {
 	 * @param regexp
 	 * @param memTags
 	 * @param actions
+	 * @param keywords
 	 */
 	public TLexerEntry(boolean visibility, String name, Extent returnType,
 			boolean shortest, @Nullable Extent args,
-			TRegular regexp, int memTags, List<Finisher> actions) {
+			TRegular regexp, int memTags, List<Finisher> actions,
+			Keywords keywords) {
 		this.visibility = visibility;
 		this.name = name;
 		this.shortest = shortest;
@@ -110,6 +117,7 @@ public final class TLexerEntry {
 		this.regexp = regexp;
 		this.memTags = memTags;
 		this.actions = actions;
+		this.keywords = keywords;
 	}
 
 	@Override
@@ -128,6 +136,8 @@ public final class TLexerEntry {
 			buf.append("\n - ");
 			fi.append(buf);
 		});
+		if (!keywords.isEmpty())
+			buf.append("\n keywords: ").append(keywords);
 		return buf.toString();
 	}
 }
\ No newline at end of file
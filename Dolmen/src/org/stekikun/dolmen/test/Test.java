@@ -5,12 +5,28 @@ import org.stekikun.dolmen.common.Generator;
 import org.stekikun.dolmen.syntax.Regular;
 import org.stekikun.dolmen.syntax.Regulars;
 import org.stekikun.dolmen.test.TestUnit.Mode;
+import org.stekikun.dolmen.test.automaton.TestConcurrentDeterminize;
+import org.stekikun.dolmen.test.automaton.TestMinimize;
+import org.stekikun.dolmen.test.cli.TestBatchMode;
+import org.stekikun.dolmen.test.cli.TestBuildCache;
+import org.stekikun.dolmen.test.codegen.TestBufferLimits;
+import org.stekikun.dolmen.test.codegen.TestByteLexer;
+import org.stekikun.dolmen.test.codegen.TestFedLexers;
+import org.stekikun.dolmen.test.codegen.TestHashedKeywords;
+import org.stekikun.dolmen.test.codegen.TestIncrementalTokenizer;
+import org.stekikun.dolmen.test.codegen.TestInternedLexemes;
+import org.stekikun.dolmen.test.codegen.TestLineIndex;
+import org.stekikun.dolmen.test.codegen.TestMappedReader;
+import org.stekikun.dolmen.test.codegen.TestParallelLexer;
+import org.stekikun.dolmen.test.codegen.TestReset;
+import org.stekikun.dolmen.test.codegen.TestTokenBuffer;
 import org.stekikun.dolmen.test.cset.TestCSetCompare;
 import org.stekikun.dolmen.test.cset.TestCSetOperations;
 import org.stekikun.dolmen.test.regular.TestAnalyseVars;
 import org.stekikun.dolmen.test.regular.TestEncoder;
 import org.stekikun.dolmen.test.regular.TestGenerateMatchers;
 import org.stekikun.dolmen.test.regular.TestGenerateTMatchers;
+import org.stekikun.dolmen.test.regular.TestKeywords;
 import org.stekikun.dolmen.test.regular.TestOptimiser;
 import org.stekikun.dolmen.test.regular.TestRegularProjection;
 import org.stekikun.dolmen.test.regular.TestRemoveNestedBinding;
@@ -63,6 +79,37 @@ public abstract class Test {
 					.addIf(new TestEncoder(20), 20000, true)
 					.addIf(new TestOptimiser(20), 20000, true)
 					.addIf(new TestRegularProjection(30), 20000, true)
+					.addIf(new TestKeywords(10), 20000, true)
+					.done();
+	}
+	
+	private static TestRegistry testAutomataOperations() {
+		return TestRegistry.create()
+					.addIf(new TestMinimize(5), 2000, true)
+					.addIf(new TestConcurrentDeterminize(6), 2000, true)
+					.done();
+	}
+	
+	private static TestRegistry testGeneratedLexers() {
+		return TestRegistry.create()
+					.addIf(new TestParallelLexer(60), 5000, true)
+					.addIf(new TestFedLexers(60), 5000, true)
+					.addIf(new TestByteLexer(40), 5000, true)
+					.addIf(new TestHashedKeywords(40), 5000, true)
+					.addIf(new TestMappedReader(40), 5000, true)
+					.addIf(new TestIncrementalTokenizer(40, 10), 2000, true)
+					.addIf(new TestLineIndex(80), 5000, true)
+					.addIf(new TestReset(30, 3), 2000, true)
+					.addIf(new TestBufferLimits(40), 5000, true)
+					.addIf(new TestInternedLexemes(3000), 1000, true)
+					.addIf(new TestTokenBuffer(3), 200, true)
+					.done();
+	}
+	
+	private static TestRegistry testCommandLine() {
+		return TestRegistry.create()
+					.addIf(new TestBuildCache(8), 200, true)
+					.addIf(new TestBatchMode(8), 200, true)
 					.done();
 	}
 	
@@ -82,5 +129,11 @@ public abstract class Test {
 		testRegularWitnessGeneration();
 		// 5. Regular expression operations tests
 		testRegularOperations().run(Mode.BATCH);
+		// 6. Automata operations tests
+		testAutomataOperations().run(Mode.BATCH);
+		// 7. Generated lexers tests
+		testGeneratedLexers().run(Mode.BATCH);
+		// 8. Command-line interface tests
+		testCommandLine().run(Mode.BATCH);
 	}
 }
\ No newline at end of file
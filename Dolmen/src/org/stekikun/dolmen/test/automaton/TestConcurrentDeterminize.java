@@ -0,0 +1,121 @@
+package org.stekikun.dolmen.test.automaton;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.eclipse.jdt.annotation.Nullable;
+import org.stekikun.dolmen.automaton.Determinize;
+import org.stekikun.dolmen.common.Generator;
+import org.stekikun.dolmen.common.Lists;
+import org.stekikun.dolmen.common.Maps;
+import org.stekikun.dolmen.syntax.Extent;
+import org.stekikun.dolmen.syntax.Lexer;
+import org.stekikun.dolmen.syntax.Located;
+import org.stekikun.dolmen.syntax.Regular;
+import org.stekikun.dolmen.test.TestUnit;
+
+/**
+ * Testing unit which generates random lexer descriptions with
+ * several entries, computes their automata with {@link Determinize}
+ * on pools with one thread, on the common pool and on pools with
+ * several threads, and checks that all the computed automata are
+ * identical. Entries are determinized concurrently on the given
+ * pool, and generated lexers must not depend on the way these
+ * computations were scheduled.
+ *
+ * @author Stéphane Lescuyer
+ */
+public final class TestConcurrentDeterminize
+	implements TestUnit<Lexer, Map<String, String>> {
+
+	private final int maxEntries;
+	private final Random random = new Random();
+	private final Regular.Gen regGen;
+
+	private final ForkJoinPool single = new ForkJoinPool(1);
+	private final ForkJoinPool several = new ForkJoinPool(4);
+
+	/**
+	 * Returns a new instance of this test unit, which
+	 * tests lexers with at most {@code maxEntries} entries
+	 *
+	 * @param maxEntries
+	 */
+	public TestConcurrentDeterminize(int maxEntries) {
+		this.maxEntries = maxEntries;
+		Regular.Gen.Config config = new Regular.Gen.Config();
+		// Keep automata small enough and add some bindings
+		config.maxDepth = 5;
+		config.eof = 0.07f;
+		config.repetition = 0.90f;
+		this.regGen = new Regular.Gen(random, config);
+	}
+
+	@Override
+	public String name() {
+		return "Testing that determinizing entries concurrently"
+				+ " does not change the computed automata.";
+	}
+
+	private Lexer.Entry entry(String name) {
+		Lexer.Entry.Builder builder = new Lexer.Entry.Builder(
+			true, Located.dummy(name), Extent.inlined("int"), null);
+		final int n = 1 + random.nextInt(4);
+		for (int i = 0; i < n; ++i)
+			builder.add(regGen.generate(), " return " + i + "; ");
+		return builder.build();
+	}
+
+	@Override
+	public Generator<Lexer> generator() {
+		return new Generator<Lexer>() {
+			@Override
+			public String name() {
+				return "Lexer generation with several entries";
+			}
+
+			@Override
+			public Lexer generate() {
+				final List<Lexer.Entry> entries = new ArrayList<>();
+				final int n = 2 + random.nextInt(maxEntries - 1);
+				for (int i = 0; i < n; ++i)
+					entries.add(entry("entry" + i));
+				return Lexer.of(Lists.empty(), Lists.empty(), Extent.DUMMY,
+					Maps.empty(), entries, Extent.DUMMY);
+			}
+		};
+	}
+
+	@Override
+	public Map<String, String> apply(Lexer input) {
+		final Map<String, String> res = new LinkedHashMap<>();
+		res.put("single",
+			Determinize.lexer(input, true, false, false, single).toString());
+		res.put("common",
+			Determinize.lexer(input, true, false, false, ForkJoinPool.commonPool()).toString());
+		res.put("several",
+			Determinize.lexer(input, true, false, false, several).toString());
+		return res;
+	}
+
+	@Override
+	public @Nullable String check(Lexer input, Map<String, String> output) {
+		final String expected = output.get("single");
+		for (Map.Entry<String, String> e : output.entrySet()) {
+			if (!e.getValue().equals(expected))
+				return "Automata computed on the " + e.getKey()
+					+ " pool differ from the ones computed with a single thread";
+		}
+		return null;
+	}
+
+	@Override
+	public void postHook() {
+		single.shutdown();
+		several.shutdown();
+	}
+}
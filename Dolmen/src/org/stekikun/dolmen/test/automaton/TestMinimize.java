@@ -0,0 +1,415 @@
+package org.stekikun.dolmen.test.automaton;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.Nullable;
+import org.stekikun.dolmen.automaton.Automata;
+import org.stekikun.dolmen.automaton.DFA;
+import org.stekikun.dolmen.automaton.DFA.GotoAction;
+import org.stekikun.dolmen.automaton.DFA.MemAction;
+import org.stekikun.dolmen.automaton.DFA.Perform;
+import org.stekikun.dolmen.automaton.DFA.Remember;
+import org.stekikun.dolmen.automaton.DFA.Shift;
+import org.stekikun.dolmen.automaton.DFA.TagAction;
+import org.stekikun.dolmen.automaton.DFA.TransActions;
+import org.stekikun.dolmen.automaton.Determinize;
+import org.stekikun.dolmen.automaton.Minimize;
+import org.stekikun.dolmen.common.CSet;
+import org.stekikun.dolmen.common.Generator;
+import org.stekikun.dolmen.common.Lists;
+import org.stekikun.dolmen.common.Maps;
+import org.stekikun.dolmen.syntax.Extent;
+import org.stekikun.dolmen.syntax.Lexer;
+import org.stekikun.dolmen.syntax.Located;
+import org.stekikun.dolmen.syntax.Regular;
+import org.stekikun.dolmen.syntax.Regulars;
+import org.stekikun.dolmen.test.TestUnit;
+
+/**
+ * Testing unit which generates random lexer descriptions with
+ * two entries, computes their automata with {@link Determinize},
+ * minimises them with {@link Minimize}, and checks that both
+ * automata split inputs into the same tokens, with the same
+ * semantic actions and the same contents in memory cells, hence
+ * the same bindings. Inputs are built from matchers of the
+ * lexers' clauses.
+ * <p>
+ * The second entry of a generated lexer sometimes has the same
+ * clauses as the first, in which case the minimised automata
+ * must also share the initial cell of both entries, and sometimes
+ * shares some of its clauses with the first, so that cells of
+ * different entries can be merged.
+ *
+ * @author Stéphane Lescuyer
+ */
+public final class TestMinimize
+	implements TestUnit<Lexer, TestMinimize.Result> {
+
+	/**
+	 * The result of each of these tests, regrouping
+	 * the automata computed for the lexer before and
+	 * after minimisation
+	 *
+	 * @author Stéphane Lescuyer
+	 */
+	public static final class Result {
+		final Automata automata;
+		final Automata minimised;
+
+		Result(Automata automata, Automata minimised) {
+			this.automata = automata;
+			this.minimised = minimised;
+		}
+
+		@Override
+		public String toString() {
+			return "{automata=" + automata + ", minimised=" + minimised + "}";
+		}
+	}
+
+	private final int maxSamples;
+	private final Random random = new Random();
+	private final Regular.Gen regGen;
+
+	private int cells = 0;
+	private int mergedCells = 0;
+	private int sharedEntries = 0;
+
+	/**
+	 * Returns a new instance of this test unit,
+	 * which tests at most {@code maxSamples}
+	 * matchers per clause
+	 *
+	 * @param maxSamples
+	 */
+	public TestMinimize(int maxSamples) {
+		this.maxSamples = maxSamples;
+		Regular.Gen.Config config = new Regular.Gen.Config();
+		// Keep automata small enough and add some bindings
+		config.maxDepth = 5;
+		config.eof = 0.07f;
+		config.repetition = 0.90f;
+		this.regGen = new Regular.Gen(random, config);
+	}
+
+	@Override
+	public String name() {
+		return "Testing that minimising automata does not change"
+				+ " the tokens they recognize.";
+	}
+
+	private Lexer.Entry entry(String name, List<Regular> clauses) {
+		Lexer.Entry.Builder builder = new Lexer.Entry.Builder(
+			true, Located.dummy(name), Extent.inlined("int"), null);
+		for (int i = 0; i < clauses.size(); ++i)
+			builder.add(clauses.get(i), " return " + i + "; ");
+		return builder.build();
+	}
+
+	@Override
+	public Generator<Lexer> generator() {
+		return new Generator<Lexer>() {
+			@Override
+			public String name() {
+				return "Lexer generation with two entries";
+			}
+
+			@Override
+			public Lexer generate() {
+				final List<Regular> main = new ArrayList<>();
+				final int n = 1 + random.nextInt(4);
+				for (int i = 0; i < n; ++i)
+					main.add(regGen.generate());
+				final List<Regular> other = new ArrayList<>();
+				switch (random.nextInt(3)) {
+				case 0:
+					// Same clauses in both entries
+					other.addAll(main);
+					break;
+				case 1:
+					// Some different clauses before the common ones
+					other.add(regGen.generate());
+					other.addAll(main.subList(random.nextInt(n), n));
+					break;
+				default:
+					final int m = 1 + random.nextInt(4);
+					for (int i = 0; i < m; ++i)
+						other.add(regGen.generate());
+				}
+				return Lexer.of(Lists.empty(), Lists.empty(), Extent.DUMMY,
+					Maps.empty(),
+					Arrays.asList(entry("main", main), entry("other", other)),
+					Extent.DUMMY);
+			}
+		};
+	}
+
+	@Override
+	public Result apply(Lexer input) {
+		Automata aut = Determinize.lexer(input, true);
+		return new Result(aut, Minimize.automata(aut));
+	}
+
+	/**
+	 * The memory cells and position of the last action
+	 * remembered while running an automaton
+	 */
+	private static final class Run {
+		final String input;
+		final int[] memory;
+		int pos;
+		int lastAction = -1;
+		int lastPos;
+
+		Run(String input, int start, int memSize) {
+			this.input = input;
+			this.memory = new int[memSize];
+			Arrays.fill(memory, -1);
+			this.pos = start;
+			this.lastPos = start;
+		}
+
+		char next() {
+			// End-of-input is read as many times as necessary
+			if (pos == input.length()) return 0xFFFF;
+			return input.charAt(pos++);
+		}
+
+		void tagActions(List<TagAction> actions) {
+			for (TagAction action : actions)
+				memory[action.tag] = action.from < 0 ? -1 : memory[action.from];
+		}
+
+		void memActions(List<MemAction> actions) {
+			for (MemAction action : actions) {
+				final int src = action.getSrc();
+				memory[action.getDest()] = src < 0 ? pos : memory[src];
+			}
+		}
+	}
+
+	/**
+	 * Returned by {@link #match} when the automaton keeps
+	 * reading the end of input without ever stopping
+	 */
+	private static final int DIVERGES = -2;
+
+	/**
+	 * Interprets the cells of {@code aut} just like the
+	 * generated code would
+	 *
+	 * @param aut
+	 * @param entry
+	 * @param run
+	 * @return the semantic action to perform, {@code -1}
+	 * 	if no token could be matched, or {@link #DIVERGES}
+	 */
+	private static int match(Automata aut, Automata.Entry entry, Run run) {
+		run.memActions(entry.initializer);
+		int cell = entry.initialState;
+		// Cells visited since the end of input was reached
+		final BitSet atEOF = new BitSet();
+		while (true) {
+			if (run.pos == run.input.length()) {
+				if (atEOF.get(cell)) return DIVERGES;
+				atEOF.set(cell);
+			}
+			final DFA.Cell c = aut.automataCells[cell];
+			if (c.getKind() == DFA.Cell.Kind.PERFORM) {
+				final Perform perform = (Perform) c;
+				run.tagActions(perform.tagActions);
+				return perform.action;
+			}
+			final Shift shift = (Shift) c;
+			if (shift.remember != Remember.NOTHING) {
+				run.lastAction = shift.remember.action;
+				run.lastPos = run.pos;
+				run.tagActions(shift.remember.tagActions);
+			}
+			final char ch = run.next();
+			@Nullable TransActions trans = null;
+			for (Map.Entry<CSet, TransActions> e : shift.transTable.entrySet()) {
+				if (e.getKey().contains(ch)) {
+					trans = e.getValue();
+					break;
+				}
+			}
+			if (trans == null || trans.gotoAction == GotoAction.BACKTRACK) {
+				run.pos = run.lastPos;
+				return run.lastAction;
+			}
+			run.memActions(trans.memActions);
+			cell = trans.gotoAction.target;
+		}
+	}
+
+	/**
+	 * @param aut
+	 * @param entry
+	 * @param input
+	 * @return a description of the tokens found by repeatedly
+	 * 	running the given entry on {@code input}, until an error,
+	 * 	the end of input or an empty token
+	 */
+	private static List<String> tokens(Automata aut, Automata.Entry entry, String input) {
+		final List<String> res = new ArrayList<>();
+		int start = 0;
+		while (true) {
+			final Run run = new Run(input, start, entry.memSize);
+			final int action = match(aut, entry, run);
+			// Memory cells are meaningless when the automaton diverges,
+			// as they depend on the cell where divergence is detected
+			res.add(action + "@[" + start + ", " + run.pos + "] "
+					+ (action == DIVERGES ? "" : Arrays.toString(run.memory)));
+			if (action < 0 || run.pos == start) break;
+			start = run.pos;
+		}
+		return res;
+	}
+
+	private static boolean sameClauses(Lexer.Entry entry1, Lexer.Entry entry2) {
+		if (entry1.clauses.size() != entry2.clauses.size()) return false;
+		for (int i = 0; i < entry1.clauses.size(); ++i) {
+			Lexer.Clause clause1 = entry1.clauses.get(i);
+			Lexer.Clause clause2 = entry2.clauses.get(i);
+			// Regular expressions are shared by the generator
+			if (clause1.regular.val != clause2.regular.val
+				|| !clause1.action.equals(clause2.action))
+				return false;
+		}
+		return true;
+	}
+
+	/**
+	 * @param aut
+	 * @param entry1
+	 * @param entry2
+	 * @return whether the cells reachable from both entries in
+	 * 	{@code aut} are the same up to the numbering of cells, in
+	 * 	which case minimisation must give both entries the same
+	 * 	initial cell
+	 */
+	private static boolean isomorphic(Automata aut,
+			Automata.Entry entry1, Automata.Entry entry2) {
+		if (!entry1.initializer.toString().equals(entry2.initializer.toString()))
+			return false;
+		final int[] map = new int[aut.automataCells.length];
+		Arrays.fill(map, -1);
+		final List<int[]> todo = new ArrayList<>();
+		todo.add(new int[] { entry1.initialState, entry2.initialState });
+		while (!todo.isEmpty()) {
+			final int[] pair = todo.remove(todo.size() - 1);
+			if (map[pair[0]] >= 0) {
+				if (map[pair[0]] != pair[1]) return false;
+				continue;
+			}
+			map[pair[0]] = pair[1];
+			final DFA.Cell c1 = aut.automataCells[pair[0]];
+			final DFA.Cell c2 = aut.automataCells[pair[1]];
+			if (c1.getKind() != c2.getKind()) return false;
+			if (c1.getKind() == DFA.Cell.Kind.PERFORM) {
+				if (!c1.toString().equals(c2.toString())) return false;
+				continue;
+			}
+			final Shift s1 = (Shift) c1;
+			final Shift s2 = (Shift) c2;
+			if (!s1.remember.toString().equals(s2.remember.toString())
+				|| !s1.transTable.keySet().equals(s2.transTable.keySet()))
+				return false;
+			for (Map.Entry<CSet, TransActions> e : s1.transTable.entrySet()) {
+				final TransActions t1 = e.getValue();
+				final @Nullable TransActions t2 = s2.transTable.get(e.getKey());
+				if (t2 == null
+					|| !t1.memActions.toString().equals(t2.memActions.toString()))
+					return false;
+				final boolean back1 = t1.gotoAction == GotoAction.BACKTRACK;
+				final boolean back2 = t2.gotoAction == GotoAction.BACKTRACK;
+				if (back1 != back2) return false;
+				if (!back1)
+					todo.add(new int[] {
+						t1.gotoAction.target, t2.gotoAction.target });
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public @Nullable String check(Lexer input, Result output) {
+		final Automata aut = output.automata;
+		final Automata min = output.minimised;
+		final int n = aut.automataCells.length;
+		cells += n;
+		mergedCells += n - min.automataCells.length;
+
+		// Structural checks on the minimised automata
+		if (min.automataCells.length > n)
+			return "Minimised automata have more cells than the original ones";
+		if (min.automataEntries.size() != aut.automataEntries.size())
+			return "Minimised automata do not have the same entries";
+		for (int i = 0; i < aut.automataEntries.size(); ++i) {
+			Automata.Entry e = aut.automataEntries.get(i);
+			Automata.Entry me = min.automataEntries.get(i);
+			if (e.memSize != me.memSize || !e.finishers.equals(me.finishers))
+				return "Minimised entry " + e.name + " does not have the same "
+						+ "memory size or finishers";
+		}
+		// When both entries have the same clauses, their automata
+		// must be merged, unless memory cells were allocated differently
+		final Lexer.Entry main = input.entryPoints.get(0);
+		final Lexer.Entry other = input.entryPoints.get(1);
+		if (sameClauses(main, other)
+			&& isomorphic(aut, aut.automataEntries.get(0), aut.automataEntries.get(1))) {
+			if (min.automataEntries.get(0).initialState
+					!= min.automataEntries.get(1).initialState)
+				return "Entries with the same clauses were not merged";
+			++sharedEntries;
+		}
+
+		// Build inputs from matchers of all clauses, alone or
+		// followed by the matchers of another clause, and
+		// with the last character removed
+		final Set<String> inputs = new LinkedHashSet<>();
+		final List<String> matchers = new ArrayList<>();
+		for (Lexer.Entry entry : input.entryPoints) {
+			for (Lexer.Clause clause : entry.clauses) {
+				int found = 0;
+				for (String matcher : Regulars.witnesses(clause.regular.val)) {
+					if (++found > maxSamples) break;
+					matchers.add(matcher);
+				}
+			}
+		}
+		for (String matcher : matchers) {
+			inputs.add(matcher);
+			if (!matcher.isEmpty())
+				inputs.add(matcher.substring(0, matcher.length() - 1));
+			inputs.add(matcher + matchers.get(random.nextInt(matchers.size())));
+		}
+
+		for (int i = 0; i < aut.automataEntries.size(); ++i) {
+			final Automata.Entry entry = aut.automataEntries.get(i);
+			final Automata.Entry mentry = min.automataEntries.get(i);
+			for (String s : inputs) {
+				List<String> expected = tokens(aut, entry, s);
+				List<String> found = tokens(min, mentry, s);
+				if (!expected.equals(found))
+					return "Entry " + entry.name + " on input \"" + s
+							+ "\" found tokens " + found + " instead of " + expected;
+			}
+		}
+		return null;
+	}
+
+	@Override
+	public void postHook() {
+		System.out.printf("Merged %d cells out of %d, and %d entries with the same clauses\n",
+			mergedCells, cells, sharedEntries);
+	}
+}
@@ -0,0 +1,336 @@
+package org.stekikun.dolmen.test.cli;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.eclipse.jdt.annotation.Nullable;
+import org.stekikun.dolmen.cli.Dolmen;
+import org.stekikun.dolmen.common.Generator;
+import org.stekikun.dolmen.test.TestUnit;
+
+/**
+ * Testing unit which writes random lexer descriptions in a tree of
+ * directories, runs the {@linkplain Dolmen command-line interface}
+ * on the whole tree with a random number of {@code --jobs}, and
+ * checks that the generated lexers, the problem reports and the
+ * messages are the same as when running the command-line interface
+ * on each source file in turn, in the order of their paths.
+ * <p>
+ * Some descriptions have errors, so that messages are displayed even
+ * in quiet mode, and the tree contains files which are not lexer
+ * descriptions and must be ignored. The command-line interface must
+ * also refuse to handle several sources, and thus generate nothing,
+ * when two of them would generate the same class or when a
+ * {@code --class} is given.
+ *
+ * @author Stéphane Lescuyer
+ */
+public final class TestBatchMode
+	implements TestUnit<TestBatchMode.Input, TestBatchMode.Result> {
+
+	/**
+	 * The different ways the command-line interface is run
+	 *
+	 * @author Stéphane Lescuyer
+	 */
+	enum Mode {
+		/** Sources generate different classes */
+		DISTINCT,
+		/** Two sources in different directories have the same name */
+		DUPLICATE,
+		/** The name of the generated class is given with {@code --class} */
+		CLASS,
+	}
+
+	/**
+	 * Inputs for this test unit are lexer descriptions along with
+	 * their paths in the tree, and the way the command-line
+	 * interface is run on them
+	 *
+	 * @author Stéphane Lescuyer
+	 */
+	public static final class Input {
+		/** The lexer descriptions, by their paths in the tree */
+		final Map<String, String> sources;
+		/** The number of concurrent jobs, or {@code 0} for the default */
+		final int jobs;
+		final Mode mode;
+
+		Input(Map<String, String> sources, int jobs, Mode mode) {
+			this.sources = sources;
+			this.jobs = jobs;
+			this.mode = mode;
+		}
+
+		@Override
+		public String toString() {
+			return "[mode=" + mode + ", jobs=" + jobs + ", sources=" + sources.keySet() + "]";
+		}
+	}
+
+	/**
+	 * The observations made while running the command-line
+	 * interface on some input
+	 *
+	 * @author Stéphane Lescuyer
+	 */
+	public static final class Result {
+		/** The messages displayed when handling all sources at once */
+		String messages = "";
+		/** The generated files and reports when handling all sources at once */
+		Map<String, String> files = new TreeMap<>();
+		/** The messages displayed when handling each source in turn */
+		String expectedMessages = "";
+		/** The generated files and reports when handling each source in turn */
+		Map<String, String> expectedFiles = new TreeMap<>();
+
+		@Override
+		public String toString() {
+			return "[messages=" + messages + ", files=" + files.keySet()
+				+ ", expectedMessages=" + expectedMessages
+				+ ", expectedFiles=" + expectedFiles.keySet() + "]";
+		}
+	}
+
+	/** The directories in which sources are written */
+	private static final String[] DIRECTORIES = { "", "a/", "b/", "b/c/" };
+
+	/** The literals used in lexer descriptions */
+	private static final String[] LITERALS = {
+		"a", "ab", "if", "else", "+", "+=", "é", "\\n",
+	};
+
+	/** A file in the tree which is not a lexer description */
+	private static final String NOTES = "a/Notes.txt";
+
+	private final Random random = new Random();
+	private final int maxSources;
+
+	private int generated = 0;
+	private int displayed = 0;
+
+	/**
+	 * Returns a new instance of this test unit, which tests
+	 * trees of at most {@code maxSources} lexer descriptions
+	 *
+	 * @param maxSources
+	 */
+	public TestBatchMode(int maxSources) {
+		this.maxSources = maxSources;
+	}
+
+	@Override
+	public String name() {
+		return "Testing the command-line interface on several source files.";
+	}
+
+	/**
+	 * @return a random lexer description, which has
+	 * 	some problems or errors from time to time
+	 */
+	private String description() {
+		final StringBuilder buf = new StringBuilder();
+		buf.append("{ }\n\n");
+		buf.append("public { int } rule main =\n");
+		final int n = 1 + random.nextInt(4);
+		// Literals can appear several times, in which
+		// case problems are reported about unused clauses
+		for (int i = 0; i < n; ++i) {
+			buf.append("| \"").append(LITERALS[random.nextInt(LITERALS.length)])
+				.append("\"\t{ return ").append(i).append("; }\n");
+		}
+		if (random.nextInt(3) == 0)
+			buf.append("| \"unterminated\n");
+		buf.append("| ['a'-'z']+\t{ return ").append(n).append("; }\n");
+		buf.append("| eof\t{ return -1; }\n\n");
+		buf.append("{ }\n");
+		return buf.toString();
+	}
+
+	@Override
+	public Generator<Input> generator() {
+		return new Generator<Input>() {
+			@Override
+			public String name() {
+				return "Random trees of lexer descriptions";
+			}
+
+			@Override
+			public Input generate() {
+				final Map<String, String> sources = new TreeMap<>();
+				final int n = 2 + random.nextInt(maxSources - 1);
+				for (int i = 0; i < n; ++i) {
+					final String dir = DIRECTORIES[random.nextInt(DIRECTORIES.length)];
+					sources.put(dir + "Lexer" + i + ".jl", description());
+				}
+				final Mode mode = random.nextBoolean() ? Mode.DISTINCT :
+					random.nextBoolean() ? Mode.DUPLICATE : Mode.CLASS;
+				if (mode == Mode.DUPLICATE) {
+					// Same file name as the first source, in another directory
+					final String first = sources.keySet().iterator().next();
+					final String dir = first.startsWith("a/") ? "b/" : "a/";
+					sources.put(dir + first.substring(first.lastIndexOf('/') + 1), description());
+				}
+				return new Input(sources, random.nextInt(5), mode);
+			}
+		};
+	}
+
+	/**
+	 * Runs the command-line interface with the given arguments,
+	 * writing generated lexers to {@code output}
+	 *
+	 * @param output
+	 * @param extras
+	 * @return the messages displayed by the command-line interface
+	 */
+	private static String dolmen(Path output, String... extras) {
+		final List<String> args = new ArrayList<>();
+		args.addAll(Arrays.asList("-q", "--no-colors", "-o", output.toString(), "-p", "test"));
+		args.addAll(Arrays.asList(extras));
+		final ByteArrayOutputStream buf = new ByteArrayOutputStream();
+		final PrintStream out = System.out;
+		try (PrintStream captured = new PrintStream(buf, true)) {
+			System.setOut(captured);
+			Dolmen.main(args.toArray(new String[args.size()]));
+		} finally {
+			System.setOut(out);
+		}
+		return new String(buf.toByteArray(), StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * @param dir
+	 * @param suffix
+	 * @return the contents of the files in {@code dir} whose names end
+	 * 	with {@code suffix}, by their paths relative to {@code dir}
+	 * @throws IOException
+	 */
+	private static Map<String, String> files(Path dir, String suffix) throws IOException {
+		final Map<String, String> res = new TreeMap<>();
+		try (Stream<Path> files = Files.walk(dir)) {
+			for (Path file : files.filter(Files::isRegularFile)
+							.collect(Collectors.toList())) {
+				if (!file.toString().endsWith(suffix)) continue;
+				res.put(dir.relativize(file).toString(),
+					new String(Files.readAllBytes(file), StandardCharsets.UTF_8));
+			}
+		}
+		return res;
+	}
+
+	private static void delete(Path dir) throws IOException {
+		try (Stream<Path> files = Files.walk(dir)) {
+			for (Path file : files.sorted(Comparator.reverseOrder())
+							.collect(Collectors.toList()))
+				Files.delete(file);
+		}
+	}
+
+	@Override
+	public Result apply(Input input) {
+		final Result res = new Result();
+		Path dir = null;
+		try {
+			dir = Files.createTempDirectory("dolmen");
+			final Path src = dir.resolve("src");
+			final Path output = Files.createDirectory(dir.resolve("out"));
+			final Path expected = Files.createDirectory(dir.resolve("expected"));
+			for (Map.Entry<String, String> source : input.sources.entrySet()) {
+				final Path file = src.resolve(source.getKey());
+				Files.createDirectories(file.getParent());
+				Files.write(file, source.getValue().getBytes(StandardCharsets.UTF_8));
+			}
+			Files.createDirectories(src.resolve(NOTES).getParent());
+			Files.write(src.resolve(NOTES), "Not a lexer".getBytes(StandardCharsets.UTF_8));
+
+			// Handle all sources at once
+			final List<String> extras = new ArrayList<>();
+			if (input.jobs > 0) extras.addAll(Arrays.asList("-j", "" + input.jobs));
+			if (input.mode == Mode.CLASS) extras.addAll(Arrays.asList("-c", "Other"));
+			extras.add(src.toString());
+			res.messages = dolmen(output, extras.toArray(new String[extras.size()]))
+				.replace(dir.toString(), "");
+			res.files.putAll(files(output, ".java"));
+			for (Map.Entry<String, String> reports : files(src, ".reports").entrySet())
+				res.files.put("reports/" + reports.getKey(), reports.getValue());
+			if (input.mode != Mode.DISTINCT) return res;
+
+			// Handle each source in turn, in the order of their paths
+			for (String reports : files(src, ".reports").keySet())
+				Files.delete(src.resolve(reports));
+			final StringBuilder messages = new StringBuilder();
+			for (String source : input.sources.keySet())
+				messages.append(dolmen(expected, src.resolve(source).toString()));
+			res.expectedMessages = messages.toString().replace(dir.toString(), "");
+			res.expectedFiles.putAll(files(expected, ".java"));
+			for (Map.Entry<String, String> reports : files(src, ".reports").entrySet())
+				res.expectedFiles.put("reports/" + reports.getKey(), reports.getValue());
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		} finally {
+			if (dir != null) {
+				try {
+					delete(dir);
+				} catch (IOException e) {
+					// Nothing to do
+				}
+			}
+		}
+		return res;
+	}
+
+	@Override
+	public @Nullable String check(Input input, Result output) {
+		switch (input.mode) {
+		case DUPLICATE:
+			if (!output.messages.contains("would generate the same class"))
+				return "Duplicate classes were not reported: " + output.messages;
+			break;
+		case CLASS:
+			if (!output.messages.startsWith(
+					"Options --class and --reports require exactly one source file"))
+				return "The class option was not rejected: " + output.messages;
+			break;
+		case DISTINCT:
+			if (output.files.keySet().stream().filter(f -> f.endsWith(".java")).count()
+					!= input.sources.size())
+				return "Found generated files " + output.files.keySet()
+					+ " for sources " + input.sources.keySet();
+			if (!output.files.equals(output.expectedFiles))
+				return "Found generated files " + output.files
+					+ " instead of " + output.expectedFiles;
+			if (!output.messages.equals(output.expectedMessages))
+				return "Found messages\n" + output.messages
+					+ "instead of\n" + output.expectedMessages;
+			generated += input.sources.size();
+			if (!output.messages.isEmpty()) ++displayed;
+			return null;
+		}
+		// Nothing must be generated when sources are rejected
+		if (!output.files.isEmpty())
+			return "Found generated files " + output.files.keySet()
+				+ " although the sources were rejected";
+		return null;
+	}
+
+	@Override
+	public void postHook() {
+		System.out.printf("%d sources were handled in batches, and %d batches"
+			+ " displayed messages\n", generated, displayed);
+	}
+}
@@ -0,0 +1,308 @@
+package org.stekikun.dolmen.test.cli;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.eclipse.jdt.annotation.Nullable;
+import org.stekikun.dolmen.cli.Dolmen;
+import org.stekikun.dolmen.common.Generator;
+import org.stekikun.dolmen.test.TestUnit;
+
+/**
+ * Testing unit which generates random lexer descriptions, runs the
+ * {@linkplain Dolmen command-line interface} on them several times
+ * with a {@code --cache} directory, and checks that:
+ * <ul>
+ * <li> cache keys are stable, i.e. generating the same description
+ * 	with the same options in an empty cache yields the same entry,
+ * 	and they change with the description, the package and the class
+ * 	name of the generated lexer;
+ * <li> cached entries are used instead of generating the lexer again;
+ * <li> a generated lexer or problem report which has been corrupted
+ * 	or deleted is restored from the cache;
+ * <li> an up-to-date generated lexer is not written again when
+ * 	found in the cache, i.e. its modification time does not change.
+ * </ul>
+ *
+ * @author Stéphane Lescuyer
+ */
+public final class TestBuildCache
+	implements TestUnit<TestBuildCache.Input, TestBuildCache.Result> {
+
+	/**
+	 * Inputs for this test unit are lexer descriptions along
+	 * with the package of the generated lexer
+	 *
+	 * @author Stéphane Lescuyer
+	 */
+	public static final class Input {
+		final String description;
+		final String packageName;
+
+		Input(String description, String packageName) {
+			this.description = description;
+			this.packageName = packageName;
+		}
+
+		@Override
+		public String toString() {
+			return "[package=" + packageName + ", description=\n" + description + "]";
+		}
+	}
+
+	/**
+	 * The observations made while running the command-line
+	 * interface on some input
+	 *
+	 * @author Stéphane Lescuyer
+	 */
+	public static final class Result {
+		/** The generated lexer */
+		String generated = "";
+		/** The problem reports */
+		String reports = "";
+		/** The cache entries after the first generation */
+		Set<String> entries = new TreeSet<>();
+		/** The cache entries after generating again in an empty cache */
+		Set<String> regenerated = new TreeSet<>();
+		/** The generated lexer after generating again in an empty cache */
+		String regeneratedLexer = "";
+		/** The modification times of the generated lexer before and after a cache hit */
+		long mtimeBefore = 0, mtimeAfter = 0;
+		/** The generated lexer after it was corrupted and restored from the cache */
+		String restored = "";
+		/** The problem reports after they were deleted and restored from the cache */
+		String restoredReports = "";
+		/** The generated lexer after its cache entry was changed */
+		String hit = "";
+		/** The keys of the cache entries after generating variants of the input */
+		Set<String> variants = new TreeSet<>();
+
+		@Override
+		public String toString() {
+			return "[entries=" + entries + ", regenerated=" + regenerated
+				+ ", mtimes=" + mtimeBefore + "/" + mtimeAfter
+				+ ", variants=" + variants + "]";
+		}
+	}
+
+	/** Contents appended to a cache entry in order to recognize it */
+	private static final String MARKER = "// Restored from the cache\n";
+
+	/** Contents read from files which do not exist */
+	private static final String MISSING = "<missing>";
+
+	/** The modification time given to up-to-date generated lexers */
+	private static final FileTime PAST = FileTime.fromMillis(1_000_000_000_000L);
+
+	/** The literals used in lexer descriptions */
+	private static final String[] LITERALS = {
+		"a", "ab", "if", "else", "+", "+=", "é", "\\n",
+	};
+
+	private final Random random = new Random();
+	private final int maxClauses;
+
+	/**
+	 * Returns a new instance of this test unit, which tests
+	 * lexer descriptions with at most {@code maxClauses} clauses
+	 *
+	 * @param maxClauses
+	 */
+	public TestBuildCache(int maxClauses) {
+		this.maxClauses = maxClauses;
+	}
+
+	@Override
+	public String name() {
+		return "Testing the cache of lexers generated by the command-line interface.";
+	}
+
+	@Override
+	public Generator<Input> generator() {
+		return new Generator<Input>() {
+			@Override
+			public String name() {
+				return "Random lexer descriptions";
+			}
+
+			@Override
+			public Input generate() {
+				final StringBuilder buf = new StringBuilder();
+				buf.append("{ }\n\n");
+				buf.append("public { int } rule main =\n");
+				final int n = 1 + random.nextInt(maxClauses);
+				// Literals can appear several times, in which
+				// case problems are reported about unused clauses
+				for (int i = 0; i < n; ++i) {
+					buf.append("| \"").append(LITERALS[random.nextInt(LITERALS.length)])
+						.append("\"\t{ return ").append(i).append("; }\n");
+				}
+				buf.append("| ['a'-'z']+\t{ return ").append(n).append("; }\n");
+				buf.append("| eof\t{ return -1; }\n\n");
+				buf.append("{ }\n");
+				final String packageName =
+					random.nextBoolean() ? "test" : "test.p" + random.nextInt(10);
+				return new Input(buf.toString(), packageName);
+			}
+		};
+	}
+
+	/**
+	 * Runs the command-line interface on the source {@code source}, with
+	 * the given {@code cache} directory and extra command-line arguments
+	 *
+	 * @param source
+	 * @param cache
+	 * @param packageName
+	 * @param extras
+	 */
+	private static void dolmen(Path source, Path cache, String packageName, String... extras) {
+		final List<String> args = new ArrayList<>();
+		args.addAll(Arrays.asList("-q", "-o", source.getParent().toString(),
+			"-p", packageName, "--cache", cache.toString()));
+		args.addAll(Arrays.asList(extras));
+		args.add(source.toString());
+		Dolmen.main(args.toArray(new String[args.size()]));
+	}
+
+	private static Set<String> entries(Path cache) throws IOException {
+		try (Stream<Path> files = Files.list(cache)) {
+			return files.map(f -> f.getFileName().toString())
+				.collect(Collectors.toCollection(TreeSet::new));
+		}
+	}
+
+	/**
+	 * @param file
+	 * @return the contents of {@code file}, or {@link #MISSING}
+	 * 	if it does not exist
+	 * @throws IOException
+	 */
+	private static String read(Path file) throws IOException {
+		if (!Files.exists(file)) return MISSING;
+		return new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+	}
+
+	private static void write(Path file, String contents) throws IOException {
+		Files.write(file, contents.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static void delete(Path dir) throws IOException {
+		try (Stream<Path> files = Files.walk(dir)) {
+			for (Path file : files.sorted(Comparator.reverseOrder())
+							.collect(Collectors.toList()))
+				Files.delete(file);
+		}
+	}
+
+	@Override
+	public Result apply(Input input) {
+		final Result res = new Result();
+		Path dir = null;
+		try {
+			dir = Files.createTempDirectory("dolmen");
+			final Path source = dir.resolve("Lexer.jl");
+			final Path output = dir.resolve("Lexer.java");
+			final Path reports = dir.resolve("Lexer.jl.reports");
+			final Path cache = dir.resolve("cache");
+			write(source, input.description);
+
+			// Generate the lexer and store it in the cache
+			dolmen(source, cache, input.packageName);
+			res.generated = read(output);
+			res.reports = read(reports);
+			res.entries = entries(cache);
+
+			// Find the up-to-date lexer in the cache
+			Files.setLastModifiedTime(output, PAST);
+			res.mtimeBefore = Files.getLastModifiedTime(output).toMillis();
+			dolmen(source, cache, input.packageName);
+			res.mtimeAfter = Files.getLastModifiedTime(output).toMillis();
+
+			// Restore the corrupted lexer and the deleted reports
+			write(output, "corrupted");
+			Files.delete(reports);
+			dolmen(source, cache, input.packageName);
+			res.restored = read(output);
+			res.restoredReports = read(reports);
+
+			// Use the entry in the cache instead of generating the lexer
+			for (String entry : res.entries) {
+				if (!entry.endsWith(".java")) continue;
+				final Path cached = cache.resolve(entry);
+				write(cached, read(cached) + MARKER);
+			}
+			dolmen(source, cache, input.packageName);
+			res.hit = read(output);
+
+			// Generate the lexer again in an empty cache
+			delete(cache);
+			dolmen(source, cache, input.packageName);
+			res.regenerated = entries(cache);
+			res.regeneratedLexer = read(output);
+
+			// Generate variants of the lexer in the same cache
+			dolmen(source, cache, input.packageName + ".other");
+			dolmen(source, cache, input.packageName, "-c", "Other");
+			write(source, "// Modified\n" + input.description);
+			dolmen(source, cache, input.packageName);
+			for (String entry : entries(cache))
+				res.variants.add(entry.substring(0, entry.lastIndexOf('.')));
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		} finally {
+			if (dir != null) {
+				try {
+					delete(dir);
+				} catch (IOException e) {
+					// Nothing to do
+				}
+			}
+		}
+		return res;
+	}
+
+	@Override
+	public @Nullable String check(Input input, Result output) {
+		if (!output.generated.startsWith("package " + input.packageName + ";"))
+			return "The lexer was not generated";
+		if (output.entries.size() != 2)
+			return "Found cache entries " + output.entries + " instead of one";
+		final String key = output.entries.iterator().next();
+		final String base = key.substring(0, key.lastIndexOf('.'));
+		if (!output.entries.contains(base + ".java")
+			|| !output.entries.contains(base + ".reports"))
+			return "Found incomplete cache entry " + output.entries;
+		if (output.mtimeAfter != output.mtimeBefore)
+			return "The up-to-date lexer was written again";
+		if (!output.restored.equals(output.generated))
+			return "The corrupted lexer was not restored";
+		if (!output.restoredReports.equals(output.reports))
+			return "The deleted reports were not restored";
+		if (!output.hit.equals(output.generated + MARKER))
+			return "The lexer was not restored from the cache";
+		if (!output.regenerated.equals(output.entries))
+			return "Found cache entries " + output.regenerated
+				+ " instead of " + output.entries + " in an empty cache";
+		if (!output.regeneratedLexer.equals(output.generated))
+			return "Found a different lexer when generated in an empty cache";
+		if (output.variants.size() != 4)
+			return "Found " + output.variants.size()
+				+ " cache keys for four different generations";
+		return null;
+	}
+}
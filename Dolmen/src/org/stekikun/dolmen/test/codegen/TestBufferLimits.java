@@ -0,0 +1,476 @@
+package org.stekikun.dolmen.test.codegen;
+
+import java.io.StringReader;
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+
+import org.eclipse.jdt.annotation.Nullable;
+import org.stekikun.dolmen.codegen.LexBuffer;
+import org.stekikun.dolmen.codegen.LexBuffer.Position;
+import org.stekikun.dolmen.common.Generator;
+import org.stekikun.dolmen.test.TestUnit;
+import org.stekikun.dolmen.test.examples.TokensLexer;
+import org.stekikun.dolmen.test.examples.TokensLoopLexer;
+
+/**
+ * Testing unit which lexes random inputs made of tokens of all
+ * sizes with the lexers generated from {@code tests/jl/Tokens.jl},
+ * using the smallest {@linkplain LexBuffer#setBufferLimits(int, int)
+ * buffers} and random maximal token lengths, and checks that they
+ * stop on the first token which is longer than the maximal length,
+ * with an error located at the start of that token. Comments and
+ * strings are matched by several lexemes, which are all short in the
+ * inputs generated here, so that long comments and strings are
+ * accepted nonetheless.
+ * <p>
+ * Inputs are read from memory, from streams returning few characters
+ * at a time, and fed in chunks of random sizes or one character at
+ * a time. Tokens longer than the buffers make them grow, and stream
+ * lexers must have shrunk them back when reading the end of input
+ * after short tokens. Lexers reading streams or fed incrementally
+ * may only see one character past the maximal length, so they are
+ * allowed to stop earlier on a token which cannot be decided within
+ * that many characters, but not on a token which can, in particular
+ * not on identifiers which are exactly as long as allowed.
+ *
+ * @author Stéphane Lescuyer
+ */
+public final class TestBufferLimits
+	implements TestUnit<TestBufferLimits.Input, Map<String, List<String>>> {
+
+	/**
+	 * Inputs for this test unit are strings to lex, along with
+	 * the maximal length of tokens and the way inputs are read
+	 *
+	 * @author Stéphane Lescuyer
+	 */
+	public static final class Input {
+		final String text;
+		/** The maximal length of tokens, or {@code 0} if unbounded */
+		final int maxTokenLength;
+		/** The maximal number of characters returned by a read on the stream */
+		final int readSize;
+		/** The ends of the chunks in which {@link #text} is fed */
+		final int[] cuts;
+
+		Input(String text, int maxTokenLength, int readSize, int[] cuts) {
+			this.text = text;
+			this.maxTokenLength = maxTokenLength;
+			this.readSize = readSize;
+			this.cuts = cuts;
+		}
+
+		@Override
+		public String toString() {
+			return "[maxTokenLength=" + maxTokenLength + ", readSize=" + readSize
+				+ ", cuts=" + Arrays.toString(cuts) + ", text=\""
+				+ text.replace("\r", "\\r").replace("\n", "\\n") + "\"]";
+		}
+	}
+
+	/**
+	 * Separators between tokens, which are never longer
+	 * than the smallest maximal length used in tests
+	 */
+	private static final String[] SEPARATORS = { " ", "\t", "\n", "\r\n", "\r" };
+
+	/** The smallest maximal length of tokens used in tests */
+	private static final int MIN_LENGTH = 2;
+
+	private final Random random = new Random();
+	private final int maxTokens;
+
+	private int tooLong = 0;
+	private int early = 0;
+
+	/**
+	 * Returns a new instance of this test unit, which tests
+	 * inputs made of at most {@code maxTokens} tokens
+	 *
+	 * @param maxTokens
+	 */
+	public TestBufferLimits(int maxTokens) {
+		this.maxTokens = maxTokens;
+	}
+
+	@Override
+	public String name() {
+		return "Testing that lexers with bounded buffers stop on the first"
+				+ " token which is too long.";
+	}
+
+	/**
+	 * @param from
+	 * @param to
+	 * @return a random size between {@code from} and {@code to},
+	 * 	which is mostly small
+	 */
+	private int size(int from, int to) {
+		return random.nextInt(4) == 0 ?
+			from + random.nextInt(to - from + 1) :
+			from + random.nextInt(Math.min(8, to - from + 1));
+	}
+
+	private void letters(StringBuilder buf, int n) {
+		for (int i = 0; i < n; ++i)
+			buf.append((char) ('a' + random.nextInt(26)));
+	}
+
+	/**
+	 * Appends a random identifier to {@code buf}
+	 *
+	 * @param buf
+	 * @param lengths	where the length of the identifier is recorded
+	 * @param max		the maximal length of the identifier
+	 */
+	private void identifier(StringBuilder buf, List<Integer> lengths, int max) {
+		final int length = 1 + random.nextInt(max);
+		buf.append('x');
+		letters(buf, length - 1);
+		lengths.add(length);
+	}
+
+	/**
+	 * Appends a random token to {@code buf}
+	 *
+	 * @param buf
+	 * @param lengths	where the lengths of identifiers are recorded
+	 */
+	private void token(StringBuilder buf, List<Integer> lengths) {
+		switch (random.nextInt(6)) {
+		case 0:
+			identifier(buf, lengths, 151);
+			break;
+		case 1:
+			for (int i = 1 + random.nextInt(16); i > 0; --i)
+				buf.append((char) ('0' + random.nextInt(10)));
+			// A trailing dot is only known not to start a fraction
+			// when looking two characters past the integer part
+			switch (random.nextInt(3)) {
+			case 0: buf.append('.').append(random.nextInt(100)); break;
+			case 1: buf.append('.'); break;
+			default: break;
+			}
+			break;
+		case 2:
+			// Contents of comments and strings are matched by short lexemes
+			buf.append("/*");
+			for (int i = size(0, 50); i > 0; --i)
+				buf.append(random.nextBoolean() ? "a\r\n" : "a\n");
+			buf.append("*/");
+			break;
+		case 3:
+			buf.append('"');
+			for (int i = size(0, 50); i > 0; --i)
+				buf.append("a\\q");
+			buf.append('"');
+			break;
+		case 4:
+			buf.append("//");
+			letters(buf, size(0, 100));
+			buf.append('\n');
+			break;
+		default:
+			buf.append(random.nextBoolean() ? ";" : "'a'");
+			break;
+		}
+	}
+
+	/**
+	 * @param length
+	 * @return the increasing ends of random chunks which
+	 * 	cover {@code length} characters, ending with {@code length}
+	 */
+	private int[] cuts(int length) {
+		final List<Integer> cuts = new ArrayList<>();
+		int pos = 0;
+		while (pos < length) {
+			pos = Math.min(length, pos + size(1, 80));
+			cuts.add(pos);
+		}
+		final int[] res = new int[cuts.size()];
+		for (int i = 0; i < res.length; ++i) res[i] = cuts.get(i);
+		return res;
+	}
+
+	@Override
+	public Generator<Input> generator() {
+		return new Generator<Input>() {
+			@Override
+			public String name() {
+				return "Random inputs with long tokens";
+			}
+
+			@Override
+			public Input generate() {
+				final StringBuilder buf = new StringBuilder();
+				final List<Integer> lengths = new ArrayList<>();
+				// Identifiers which are exactly as long as allowed must be
+				// accepted after looking one character further, in particular
+				// when they fill the first buffers of stream lexers
+				final boolean leading = random.nextInt(4) == 0;
+				if (leading) identifier(buf, lengths, 2 * LexBuffer.MIN_BUFFER_SIZE);
+				final int n = random.nextInt(maxTokens + 1);
+				for (int i = 0; i < n; ++i) {
+					if (i > 0 || leading)
+						buf.append(SEPARATORS[random.nextInt(SEPARATORS.length)]);
+					token(buf, lengths);
+				}
+				final String text = buf.toString();
+				final int maxTokenLength;
+				if (leading)
+					maxTokenLength = Math.max(MIN_LENGTH, lengths.get(0));
+				else if (random.nextInt(3) == 0)
+					maxTokenLength = 0;
+				else if (random.nextBoolean() && !lengths.isEmpty())
+					maxTokenLength =
+						Math.max(MIN_LENGTH, lengths.get(random.nextInt(lengths.size())));
+				else
+					maxTokenLength =
+						MIN_LENGTH + random.nextInt(random.nextBoolean() ? 16 : 160);
+				// Reading one character at a time leaves no lookahead in buffers
+				final int readSize = random.nextInt(4) == 0 ? 1 : size(1, 80);
+				return new Input(text, maxTokenLength, readSize, cuts(text.length()));
+			}
+		};
+	}
+
+	/**
+	 * A reader on the text of some input, which returns at most
+	 * {@link Input#readSize} characters at a time, and records how
+	 * many characters were requested by its last read
+	 *
+	 * @author Stéphane Lescuyer
+	 */
+	private static final class SmallReader extends StringReader {
+		private final int readSize;
+		int lastRequest = 0;
+
+		SmallReader(Input input) {
+			super(input.text);
+			this.readSize = input.readSize;
+		}
+
+		@Override
+		public int read(char[] cbuf, int off, int len) throws java.io.IOException {
+			lastRequest = len;
+			return super.read(cbuf, off, Math.min(len, readSize));
+		}
+	}
+
+	/**
+	 * Suffix of the output entries which hold the number of characters
+	 * requested by the last read of the stream lexers
+	 */
+	private static final String LAST_READ = " last read";
+
+	private static <L extends LexBuffer> L limited(L lexer, Input input) {
+		lexer.setBufferLimits(LexBuffer.MIN_BUFFER_SIZE,
+			input.maxTokenLength == 0 ? Integer.MAX_VALUE : input.maxTokenLength);
+		return lexer;
+	}
+
+	/**
+	 * @param e
+	 * @return a description of {@code e} including its location
+	 */
+	private static String error(LexBuffer.LexicalError e) {
+		final @Nullable Position pos = e.pos;
+		if (pos == null) return TokensInputs.error(e);
+		return TokensInputs.error(e) + "@" + pos.offset + ":" + pos.line + "," + pos.bol;
+	}
+
+	private static <L extends LexBuffer> List<String> tokens(L lexer, Function<L, String> entry) {
+		final List<String> res = new ArrayList<>();
+		try {
+			while (true) {
+				final String token = entry.apply(lexer);
+				res.add(token);
+				if (TokensInputs.isEnd(token)) break;
+			}
+		} catch (LexBuffer.LexicalError e) {
+			res.add(error(e));
+		}
+		return res;
+	}
+
+	/**
+	 * Polls {@code lexer} until the end of input, feeding it the chunks
+	 * of {@code text} between {@code from} and the given {@code cuts}
+	 *
+	 * @param lexer		a lexer which was reset to be fed incrementally
+	 * @param text
+	 * @param from
+	 * @param cuts
+	 * @param eoi		whether the end of input must be signalled
+	 * 	after the last chunk
+	 * @return the tokens found, followed by {@code "NEED INPUT"} if
+	 * 	the lexer needed more input than the given chunks
+	 */
+	private static List<String> fed(TokensLexer lexer, String text,
+			int from, int[] cuts, boolean eoi) {
+		final List<String> res = new ArrayList<>();
+		int next = 0;
+		int fed = from;
+		try {
+			while (true) {
+				final String token;
+				try {
+					token = lexer.poll(lexer::main);
+				} catch (LexBuffer.NeedInput e) {
+					if (next < cuts.length) {
+						lexer.feed(CharBuffer.wrap(text, fed, cuts[next]));
+						fed = cuts[next++];
+					}
+					else if (next == cuts.length && eoi) {
+						lexer.endOfInput();
+						++next;
+					}
+					else {
+						res.add("NEED INPUT");
+						break;
+					}
+					continue;
+				}
+				res.add(token);
+				if (TokensInputs.isEnd(token)) break;
+			}
+		} catch (LexBuffer.LexicalError e) {
+			res.add(error(e));
+		}
+		return res;
+	}
+
+	@Override
+	public Map<String, List<String>> apply(Input input) {
+		final Map<String, List<String>> res = new LinkedHashMap<>();
+		res.put("memory", tokens(
+			limited(new TokensLexer("input", input.text), input), TokensLexer::main));
+		final SmallReader reader = new SmallReader(input);
+		res.put("stream", tokens(
+			limited(new TokensLexer("input", reader), input), TokensLexer::main));
+		res.put("stream" + LAST_READ, Collections.singletonList("" + reader.lastRequest));
+		final SmallReader loopReader = new SmallReader(input);
+		res.put("loop stream", tokens(
+			limited(new TokensLoopLexer("input", loopReader), input), TokensLoopLexer::main));
+		res.put("loop stream" + LAST_READ, Collections.singletonList("" + loopReader.lastRequest));
+		final TokensLexer fed = limited(new TokensLexer("input", ""), input);
+		fed.reset("input");
+		res.put("fed", fed(fed, input.text, 0, input.cuts, true));
+		// Feeding one character at a time needs the most lookahead
+		final int[] chars = new int[input.text.length()];
+		for (int i = 0; i < chars.length; ++i) chars[i] = i + 1;
+		fed.reset("input");
+		res.put("fed by characters", fed(fed, input.text, 0, chars, true));
+		return res;
+	}
+
+	/**
+	 * @param token
+	 * @return the start offset, line and beginning of line, and
+	 * 	the end offset of {@code token}
+	 */
+	private static int[] locate(String token) {
+		final String[] fields =
+			token.substring(token.lastIndexOf(")@") + 2).split("[-:,]");
+		return new int[] {
+			Integer.parseInt(fields[0]), Integer.parseInt(fields[2]),
+			Integer.parseInt(fields[3]), Integer.parseInt(fields[1])
+		};
+	}
+
+	/**
+	 * @param input
+	 * @param start		the location of the start of some token
+	 * @return the error expected for a token which is too
+	 * 	long at {@code start}
+	 */
+	private static String tooLong(Input input, int[] start) {
+		final Position pos = new Position("input", start[0], start[1], start[2]);
+		return error(new LexBuffer.LexicalError(pos, "Token exceeds the maximal length of "
+			+ input.maxTokenLength + " characters"));
+	}
+
+	/**
+	 * @param input
+	 * @param start		the location of the start of some token
+	 * @return whether the token at {@code start} cannot be decided
+	 * 	by looking at most one character past the maximal length
+	 */
+	private static boolean undecided(Input input, int[] start) {
+		final TokensLexer lexer = new TokensLexer("input", "");
+		lexer.reset("input");
+		lexer.restartAt(start[0], start[1], start[2]);
+		// The end of input only counts if it is inside the window
+		final int limit = start[0] + input.maxTokenLength + 1;
+		final int end = Math.min(input.text.length(), limit);
+		final List<String> res =
+			fed(lexer, input.text, start[0], new int[] { end }, end < limit);
+		return res.size() == 1 && res.get(0).equals("NEED INPUT");
+	}
+
+	@Override
+	public @Nullable String check(Input input, Map<String, List<String>> output) {
+		// Tokens up to the first one which is too long
+		final List<String> expected = new ArrayList<>();
+		for (String token : tokens(new TokensLexer("input", input.text), TokensLexer::main)) {
+			// Comments and strings are matched by several short lexemes
+			if (input.maxTokenLength > 0 && !token.startsWith("ERROR: ")
+					&& !token.startsWith("COMMENT(") && !token.startsWith("STRING(")) {
+				final int[] loc = locate(token);
+				if (loc[3] - loc[0] > input.maxTokenLength) {
+					expected.add(tooLong(input, loc));
+					++tooLong;
+					break;
+				}
+			}
+			expected.add(token);
+		}
+		for (Map.Entry<String, List<String>> entry : output.entrySet()) {
+			final List<String> found = entry.getValue();
+			if (entry.getKey().endsWith(LAST_READ)) continue;
+			if (found.equals(expected)) continue;
+			// Lexers which do not have the whole input at hand may
+			// stop earlier on a token which they cannot decide
+			final int n = found.size() - 1;
+			if (!entry.getKey().equals("memory") && input.maxTokenLength > 0
+					&& n < expected.size() && !expected.get(n).startsWith("ERROR: ")
+					&& found.subList(0, n).equals(expected.subList(0, n))) {
+				final int[] start = locate(expected.get(n));
+				if (found.get(n).equals(tooLong(input, start)) && undecided(input, start)) {
+					++early;
+					continue;
+				}
+			}
+			return "Found tokens " + found + " when reading from " + entry.getKey()
+				+ " instead of " + expected;
+		}
+		// Buffers which have grown for long tokens must have been
+		// shrunk back when reading the end of the input, unless the
+		// last token is long itself
+		final int n = expected.size();
+		if (n > 0 && TokensInputs.isEnd(expected.get(n - 1))
+				&& (n == 1 || locate(expected.get(n - 2))[0] >= input.text.length() - 32)) {
+			for (String variant : new String[] { "stream", "loop stream" }) {
+				final @Nullable List<String> request = output.get(variant + LAST_READ);
+				if (request != null && Integer.parseInt(request.get(0)) > LexBuffer.MIN_BUFFER_SIZE)
+					return "The " + variant + " lexer read " + request.get(0)
+						+ " characters at once at the end of input";
+			}
+		}
+		return null;
+	}
+
+	@Override
+	public void postHook() {
+		System.out.printf("%d analyses stopped on a token which was too long,"
+			+ " and %d lexers stopped on an undecided token\n", tooLong, early);
+	}
+}
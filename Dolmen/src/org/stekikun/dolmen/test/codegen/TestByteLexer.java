@@ -0,0 +1,384 @@
+package org.stekikun.dolmen.test.codegen;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+
+import org.eclipse.jdt.annotation.Nullable;
+import org.stekikun.dolmen.codegen.LexBuffer;
+import org.stekikun.dolmen.codegen.LexBuffer.Position;
+import org.stekikun.dolmen.common.Generator;
+import org.stekikun.dolmen.test.TestUnit;
+import org.stekikun.dolmen.test.examples.TokensAsciiLexer;
+import org.stekikun.dolmen.test.examples.TokensByteLexer;
+import org.stekikun.dolmen.test.examples.TokensClassesLexer;
+import org.stekikun.dolmen.test.examples.TokensLexer;
+
+/**
+ * Testing unit which lexes random UTF-8 inputs with {@link TokensByteLexer},
+ * generated from {@code tests/jl/Tokens.jl} with the {@code byte_input}
+ * option, and checks that it finds the same tokens, bound characters,
+ * lexical errors and positions as {@link TokensLexer} on the same input
+ * decoded with {@link StandardCharsets#UTF_8}, once offsets are
+ * converted to byte offsets.
+ * <p>
+ * Inputs contain characters encoded on 1 to 4 bytes, and malformed
+ * UTF-8 of all kinds, which must be matched and decoded as the
+ * {@code U+FFFD} replacement characters produced by the JDK decoder.
+ * Byte lexers match characters outside the Basic Multilingual Plane
+ * as a whole whereas character lexers match their two surrogates, so
+ * such characters only appear in strings and comments, where both
+ * lexers match them in the same token.
+ * <p>
+ * The byte lexer reads each input from an array, from a stream
+ * returning few bytes at a time, and from chunks of random sizes
+ * which are {@linkplain LexBuffer#reset(String) fed} to it. The decoded
+ * input is also lexed with {@link TokensClassesLexer} and
+ * {@link TokensAsciiLexer}, which dispatch characters on
+ * {@code char_classes} and with an {@code ascii_fast_path}
+ * respectively, and must find the same tokens as {@link TokensLexer}.
+ *
+ * @author Stéphane Lescuyer
+ */
+public final class TestByteLexer
+	implements TestUnit<TestByteLexer.Input, Map<String, List<String>>> {
+
+	/**
+	 * Inputs for this test unit are bytes to lex, along with
+	 * the way they are read by the lexer
+	 *
+	 * @author Stéphane Lescuyer
+	 */
+	public static final class Input {
+		final byte[] bytes;
+		/** The maximal number of bytes returned by a read on the stream */
+		final int readSize;
+		/** The ends of the chunks in which {@link #bytes} are fed */
+		final int[] cuts;
+
+		Input(byte[] bytes, int readSize, int[] cuts) {
+			this.bytes = bytes;
+			this.readSize = readSize;
+			this.cuts = cuts;
+		}
+
+		@Override
+		public String toString() {
+			final StringBuilder buf = new StringBuilder();
+			for (byte b : bytes) {
+				final int c = b & 0xFF;
+				if (c == '\n') buf.append("\\n");
+				else if (c == '\r') buf.append("\\r");
+				else if (c >= 0x20 && c < 0x7F) buf.append((char) c);
+				else buf.append(String.format("\\x%02X", c));
+			}
+			return "[bytes=\"" + buf + "\", readSize=" + readSize
+				+ ", cuts=" + Arrays.toString(cuts) + "]";
+		}
+	}
+
+	/** Well-formed fragments used to build inputs */
+	private static final String[] FRAGMENTS = {
+		"abc", "x1", "if", "int", "do", "od", " ", "\t", "\n", "\r\n", "\r",
+		"42", "3.14", "+", ";", "'a'", "'é'", "'中'", "'€'", "'�'",
+		"é", "ß", "中文", "€", "�", "\"été\"", "\"a\\\"b\"",
+		"\"😀\"", "\"a𝄞b€\"", "/* 😀\n𝄞 */",
+		"// 😀 é\n",
+	};
+
+	/**
+	 * Ill-formed UTF-8 byte sequences: bytes which are never used in UTF-8,
+	 * overlong encodings, encoded surrogates, truncated sequences,
+	 * and a code point larger than {@code U+10FFFF}
+	 */
+	private static final int[][] MALFORMED = {
+		{ 0xFF }, { 0xF5 }, { 0xC0, 0xAF }, { 0xE0, 0x80, 0x80 },
+		{ 0xED, 0xA0, 0x80 }, { 0xED, 0xBF }, { 0xE2, 0x82 }, { 0xF0, 0x9F, 0x98 },
+		{ 0xF4, 0x8F }, { 0xF4, 0x90, 0x80, 0x80 },
+	};
+
+	/**
+	 * Ill-formed UTF-8 byte sequences made of continuation bytes,
+	 * which are only used after some delimiter, lest they complete
+	 * a preceding truncated sequence into a supplementary character
+	 */
+	private static final int[][] CONTINUATIONS = {
+		{ 0x80 }, { 0xBF, 0xBF },
+	};
+
+	/** Fragments which end inputs with a lexical error */
+	private static final String[] ERRORS = {
+		"@", "\"abc", "/* 😀", "\"\n\"",
+	};
+
+	private final Random random = new Random();
+	private final int maxFragments;
+
+	/**
+	 * Returns a new instance of this test unit, which tests
+	 * inputs made of at most {@code maxFragments} fragments
+	 *
+	 * @param maxFragments
+	 */
+	public TestByteLexer(int maxFragments) {
+		this.maxFragments = maxFragments;
+	}
+
+	@Override
+	public String name() {
+		return "Testing that lexers running on UTF-8 bytes find the same"
+				+ " tokens as lexers running on decoded characters.";
+	}
+
+	private static void write(ByteArrayOutputStream out, String s) {
+		final byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+		out.write(bytes, 0, bytes.length);
+	}
+
+	private static void write(ByteArrayOutputStream out, int[] bytes) {
+		for (int b : bytes) out.write(b);
+	}
+
+	private int[] pick(int[][] sequences) {
+		return sequences[random.nextInt(sequences.length)];
+	}
+
+	/**
+	 * @return random bytes made of well-formed and ill-formed fragments
+	 */
+	private byte[] bytes() {
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		final int n = random.nextInt(maxFragments + 1);
+		for (int i = 0; i < n; ++i) {
+			switch (random.nextInt(10)) {
+			case 0:
+				write(out, pick(MALFORMED));
+				break;
+			case 1: {
+				// Malformed input in a character literal, a string or a comment
+				final String[] delims = { "'", "'", "\"", "\"", "/*", "*/" };
+				final int d = 2 * random.nextInt(3);
+				write(out, delims[d]);
+				write(out, random.nextBoolean() ? pick(MALFORMED) : pick(CONTINUATIONS));
+				write(out, delims[d + 1]);
+				break;
+			}
+			default:
+				write(out, FRAGMENTS[random.nextInt(FRAGMENTS.length)]);
+			}
+		}
+		if (random.nextInt(10) == 0)
+			write(out, ERRORS[random.nextInt(ERRORS.length)]);
+		return out.toByteArray();
+	}
+
+	/**
+	 * @param length
+	 * @return the increasing ends of random chunks which
+	 * 	cover {@code length} bytes, ending with {@code length}
+	 */
+	private int[] cuts(int length) {
+		final int maxChunk = random.nextBoolean() ? 1 : 1 + random.nextInt(8);
+		final List<Integer> cuts = new ArrayList<>();
+		int pos = 0;
+		while (pos < length) {
+			pos = Math.min(length, pos + random.nextInt(maxChunk + 1));
+			cuts.add(pos);
+		}
+		final int[] res = new int[cuts.size()];
+		for (int i = 0; i < res.length; ++i) res[i] = cuts.get(i);
+		return res;
+	}
+
+	@Override
+	public Generator<Input> generator() {
+		return new Generator<Input>() {
+			@Override
+			public String name() {
+				return "Random UTF-8 inputs and chunks";
+			}
+
+			@Override
+			public Input generate() {
+				final byte[] bytes = bytes();
+				return new Input(bytes, 1 + random.nextInt(5), cuts(bytes.length));
+			}
+		};
+	}
+
+	/**
+	 * @param e
+	 * @return the description of a lexical error in a list of tokens,
+	 * 	which has the same format as the tokens so that its position
+	 * 	can be converted
+	 */
+	private static String error(LexBuffer.LexicalError e) {
+		final @Nullable Position pos = e.pos;
+		final String msg = String.valueOf(e.getMessage());
+		if (pos == null) return "ERROR(" + msg + ")";
+		// The message ends with the column, which depends on the kind of offsets
+		return "ERROR(" + msg.substring(0, msg.lastIndexOf(" (")) + ")@"
+			+ pos.offset + "-" + pos.offset + ":"
+			+ pos.line + "," + pos.bol + "-" + pos.line + "," + pos.bol;
+	}
+
+	/**
+	 * @param lexer
+	 * @param entry
+	 * @return the tokens found by calling {@code entry} on {@code lexer}
+	 * 	until the end of input, followed by the lexical error which
+	 * 	stopped the analysis if any
+	 */
+	private static <L extends LexBuffer> List<String> tokens(L lexer, Function<L, String> entry) {
+		final List<String> res = new ArrayList<>();
+		try {
+			while (true) {
+				final String token = entry.apply(lexer);
+				res.add(token);
+				if (TokensInputs.isEnd(token)) break;
+			}
+		} catch (LexBuffer.LexicalError e) {
+			res.add(error(e));
+		}
+		return res;
+	}
+
+	/**
+	 * @param input
+	 * @return the tokens found by polling a byte lexer which is fed
+	 * 	the chunks of {@code input}
+	 */
+	private static List<String> fed(Input input) {
+		final TokensByteLexer lexer = new TokensByteLexer("input", new byte[0], 0, 0);
+		lexer.reset("input");
+		final List<String> res = new ArrayList<>();
+		int from = 0;
+		int next = 0;
+		try {
+			while (true) {
+				try {
+					final String token = lexer.poll(lexer::main);
+					res.add(token);
+					if (TokensInputs.isEnd(token)) break;
+				} catch (LexBuffer.NeedInput e) {
+					if (next == input.cuts.length) {
+						lexer.endOfInput();
+						continue;
+					}
+					final int to = input.cuts[next++];
+					lexer.feed(ByteBuffer.wrap(input.bytes, from, to - from));
+					from = to;
+				}
+			}
+		} catch (LexBuffer.LexicalError e) {
+			res.add(error(e));
+		}
+		return res;
+	}
+
+	@Override
+	public Map<String, List<String>> apply(Input input) {
+		final Map<String, List<String>> res = new LinkedHashMap<>();
+		res.put("array", tokens(
+			new TokensByteLexer("input", input.bytes, 0, input.bytes.length),
+			TokensByteLexer::main));
+		final int readSize = input.readSize;
+		res.put("stream", tokens(
+			new TokensByteLexer("input", new ByteArrayInputStream(input.bytes) {
+				@Override
+				public synchronized int read(byte[] b, int off, int len) {
+					return super.read(b, off, Math.min(len, readSize));
+				}
+			}),
+			TokensByteLexer::main));
+		res.put("fed", fed(input));
+		return res;
+	}
+
+	/**
+	 * Decodes {@code bytes} with the JDK decoder, replacing
+	 * malformed input, and records the offset in {@code bytes} of
+	 * every offset of the result which is a character boundary.
+	 * An offset in {@code bytes} is a boundary if decoding the bytes
+	 * before and after it separately yields the same characters as
+	 * decoding all of them.
+	 *
+	 * @param bytes
+	 * @param byteOffsets	must be at least one longer than {@code bytes},
+	 * 	and is filled with {@code -1} where offsets do not correspond
+	 * @return the decoded characters
+	 */
+	private static String decode(byte[] bytes, int[] byteOffsets) {
+		final String text = new String(bytes, StandardCharsets.UTF_8);
+		Arrays.fill(byteOffsets, -1);
+		for (int i = 0; i <= bytes.length; ++i) {
+			final String before = new String(bytes, 0, i, StandardCharsets.UTF_8);
+			final String after =
+				new String(bytes, i, bytes.length - i, StandardCharsets.UTF_8);
+			if (text.equals(before + after))
+				byteOffsets[before.length()] = i;
+		}
+		return text;
+	}
+
+	/**
+	 * @param token		a token or error found by a character lexer
+	 * @param byteOffsets
+	 * @return {@code token} where offsets in characters have been
+	 * 	replaced by offsets in bytes, or {@code null} if some offset
+	 * 	is not at a character boundary
+	 */
+	private static @Nullable String toBytes(String token, int[] byteOffsets) {
+		final int at = token.lastIndexOf('@');
+		if (at < 0) return token;
+		final String[] fields = token.substring(at + 1).split("[-:,]");
+		// Fields are start, end, start line, start bol, end line, end bol
+		final int[] offsets = { 0, 1, 3, 5 };
+		for (int i : offsets) {
+			final int offset = byteOffsets[Integer.parseInt(fields[i])];
+			if (offset < 0) return null;
+			fields[i] = Integer.toString(offset);
+		}
+		return token.substring(0, at + 1) + fields[0] + "-" + fields[1] + ":"
+			+ fields[2] + "," + fields[3] + "-" + fields[4] + "," + fields[5];
+	}
+
+	@Override
+	public @Nullable String check(Input input, Map<String, List<String>> output) {
+		final int[] byteOffsets = new int[input.bytes.length + 1];
+		final String text = decode(input.bytes, byteOffsets);
+		final List<String> reference = tokens(new TokensLexer("input", text), TokensLexer::main);
+		final Map<String, List<String>> variants = new LinkedHashMap<>();
+		variants.put("character classes",
+			tokens(new TokensClassesLexer("input", text), TokensClassesLexer::main));
+		variants.put("an ASCII fast path",
+			tokens(new TokensAsciiLexer("input", text), TokensAsciiLexer::main));
+		for (Map.Entry<String, List<String>> entry : variants.entrySet()) {
+			if (!entry.getValue().equals(reference))
+				return "Found tokens " + entry.getValue() + " with " + entry.getKey()
+					+ " instead of " + reference + " in \"" + text + "\"";
+		}
+		final List<String> expected = new ArrayList<>();
+		for (String token : reference) {
+			final @Nullable String converted = toBytes(token, byteOffsets);
+			if (converted == null)
+				return "Token " + token + " does not start or end at"
+					+ " a character boundary in \"" + text + "\"";
+			expected.add(converted);
+		}
+		for (Map.Entry<String, List<String>> entry : output.entrySet()) {
+			if (!expected.equals(entry.getValue()))
+				return "Found tokens " + entry.getValue() + " when reading from "
+					+ entry.getKey() + " instead of " + expected;
+		}
+		return null;
+	}
+}
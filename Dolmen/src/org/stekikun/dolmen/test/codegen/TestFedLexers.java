@@ -0,0 +1,382 @@
+package org.stekikun.dolmen.test.codegen;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.eclipse.jdt.annotation.Nullable;
+import org.stekikun.dolmen.codegen.ByteLexBuffer;
+import org.stekikun.dolmen.codegen.LexBuffer;
+import org.stekikun.dolmen.codegen.LexBuffer.Position;
+import org.stekikun.dolmen.common.Generator;
+import org.stekikun.dolmen.test.TestUnit;
+import org.stekikun.dolmen.test.examples.TokensAsciiLexer;
+import org.stekikun.dolmen.test.examples.TokensByteLexer;
+import org.stekikun.dolmen.test.examples.TokensClassesLexer;
+import org.stekikun.dolmen.test.examples.TokensLexer;
+import org.stekikun.dolmen.test.examples.TokensLoopLexer;
+import org.stekikun.dolmen.test.examples.TokensTablesLexer;
+
+/**
+ * Testing unit which feeds random inputs incrementally to the lexers
+ * generated from {@code tests/jl/Tokens.jl}, in all lexer styles, with
+ * {@code char_classes}, {@code ascii_fast_path} and {@code byte_input},
+ * and checks that polling their entries finds the same tokens, positions
+ * and lexical errors as when reading the same inputs from a stream.
+ * <p>
+ * Inputs are fed character by character, or in chunks of random
+ * sizes which can split {@code "\r\n"} line terminators or the UTF-8
+ * encoding of a character. Some tests bound the length of tokens,
+ * and some tests {@linkplain LexBuffer#enableLineIndex() index lines}
+ * in the fed lexers, whose positions must then be the same as those
+ * of stream lexers which track lines with {@link LexBuffer#newline()}.
+ *
+ * @author Stéphane Lescuyer
+ */
+public final class TestFedLexers
+	implements TestUnit<TestFedLexers.Input, Map<String, TestFedLexers.Result>> {
+
+	/**
+	 * Inputs for this test unit are strings to lex, along with
+	 * the way they are fed to the lexers and the lexers' settings
+	 *
+	 * @author Stéphane Lescuyer
+	 */
+	public static final class Input {
+		final String text;
+		final byte[] bytes;
+		/** The ends of the chunks in which {@link #text} is fed */
+		final int[] charCuts;
+		/** The ends of the chunks in which {@link #bytes} are fed */
+		final int[] byteCuts;
+		/** The maximal length of tokens, or {@code 0} if unbounded */
+		final int maxTokenLength;
+		final boolean lineIndex;
+
+		Input(String text, int[] charCuts, int[] byteCuts,
+				int maxTokenLength, boolean lineIndex) {
+			this.text = text;
+			this.bytes = text.getBytes(StandardCharsets.UTF_8);
+			this.charCuts = charCuts;
+			this.byteCuts = byteCuts;
+			this.maxTokenLength = maxTokenLength;
+			this.lineIndex = lineIndex;
+		}
+
+		@Override
+		public String toString() {
+			return "[text=\"" + text.replace("\r", "\\r").replace("\n", "\\n")
+				+ "\", charCuts=" + Arrays.toString(charCuts)
+				+ ", byteCuts=" + Arrays.toString(byteCuts)
+				+ ", maxTokenLength=" + maxTokenLength
+				+ ", lineIndex=" + lineIndex + "]";
+		}
+	}
+
+	private final Random random = new Random();
+	private final Generator<String> texts;
+
+	private int tooLong = 0;
+
+	/**
+	 * Returns a new instance of this test unit, which tests
+	 * inputs made of at most {@code maxFragments} fragments
+	 *
+	 * @param maxFragments
+	 */
+	public TestFedLexers(int maxFragments) {
+		this.texts = TokensInputs.generator(random, maxFragments);
+	}
+
+	@Override
+	public String name() {
+		return "Testing that lexers fed incrementally find the same"
+				+ " tokens as when reading a stream.";
+	}
+
+	/**
+	 * @param length
+	 * @return the increasing ends of random chunks which
+	 * 	cover {@code length} units, ending with {@code length}
+	 */
+	private int[] cuts(int length) {
+		final int maxChunk;
+		switch (random.nextInt(3)) {
+		case 0: maxChunk = 1; break;
+		case 1: maxChunk = 8; break;
+		default: maxChunk = 1 + length;
+		}
+		final List<Integer> cuts = new ArrayList<>();
+		int pos = 0;
+		while (pos < length) {
+			// Empty chunks are fed now and then
+			pos = Math.min(length, pos + random.nextInt(maxChunk + 1));
+			cuts.add(pos);
+		}
+		final int[] res = new int[cuts.size()];
+		for (int i = 0; i < res.length; ++i) res[i] = cuts.get(i);
+		return res;
+	}
+
+	@Override
+	public Generator<Input> generator() {
+		return new Generator<Input>() {
+			@Override
+			public String name() {
+				return "Random inputs and chunks";
+			}
+
+			@Override
+			public Input generate() {
+				final String text = texts.generate();
+				final int byteLength = text.getBytes(StandardCharsets.UTF_8).length;
+				final int maxTokenLength =
+					random.nextBoolean() ? 1 + random.nextInt(8) : 0;
+				return new Input(text, cuts(text.length()), cuts(byteLength),
+					maxTokenLength, random.nextBoolean());
+			}
+		};
+	}
+
+	/**
+	 * Describes one of the lexers generated from {@code tests/jl/Tokens.jl}
+	 *
+	 * @author Stéphane Lescuyer
+	 * @param <L>	the class of the generated lexer
+	 */
+	private static final class Variant<L extends LexBuffer> {
+		final String name;
+		/** Whether the lexer is fed bytes instead of characters */
+		final boolean bytes;
+		/** Builds a lexer which is then fed incrementally */
+		final Supplier<L> fresh;
+		/** Builds a lexer reading the input from a stream */
+		final Function<Input, L> reader;
+		final Function<L, String> entry;
+
+		Variant(String name, boolean bytes, Supplier<L> fresh,
+				Function<Input, L> reader, Function<L, String> entry) {
+			this.name = name;
+			this.bytes = bytes;
+			this.fresh = fresh;
+			this.reader = reader;
+			this.entry = entry;
+		}
+
+		/**
+		 * Feeds the units in {@code [from, to[} of {@code input}
+		 * to {@code lexer}, either characters or bytes
+		 *
+		 * @param lexer
+		 * @param input
+		 * @param from
+		 * @param to
+		 */
+		void feed(L lexer, Input input, int from, int to) {
+			if (bytes)
+				((ByteLexBuffer) lexer).feed(ByteBuffer.wrap(input.bytes, from, to - from));
+			else
+				lexer.feed(CharBuffer.wrap(input.text, from, to));
+		}
+
+		int length(Input input) {
+			return bytes ? input.bytes.length : input.text.length();
+		}
+	}
+
+	private static final List<Variant<?>> VARIANTS = Arrays.asList(
+		new Variant<>("methods", false,
+			() -> new TokensLexer("input", ""),
+			input -> new TokensLexer("input", new StringReader(input.text)),
+			TokensLexer::main),
+		new Variant<>("loop", false,
+			() -> new TokensLoopLexer("input", ""),
+			input -> new TokensLoopLexer("input", new StringReader(input.text)),
+			TokensLoopLexer::main),
+		new Variant<>("tables", false,
+			() -> new TokensTablesLexer("input", ""),
+			input -> new TokensTablesLexer("input", new StringReader(input.text)),
+			TokensTablesLexer::main),
+		new Variant<>("classes", false,
+			() -> new TokensClassesLexer("input", ""),
+			input -> new TokensClassesLexer("input", new StringReader(input.text)),
+			TokensClassesLexer::main),
+		new Variant<>("ascii", false,
+			() -> new TokensAsciiLexer("input", ""),
+			input -> new TokensAsciiLexer("input", new StringReader(input.text)),
+			TokensAsciiLexer::main),
+		new Variant<>("bytes", true,
+			() -> new TokensByteLexer("input", new byte[0], 0, 0),
+			input -> new TokensByteLexer("input", new ByteArrayInputStream(input.bytes)),
+			TokensByteLexer::main));
+
+	/**
+	 * The tokens found by some lexer, and the position
+	 * of the lexical error which stopped it if any
+	 *
+	 * @author Stéphane Lescuyer
+	 */
+	public static final class Result {
+		final List<String> tokens = new ArrayList<>();
+		@Nullable Position error = null;
+
+		@Override
+		public String toString() {
+			return tokens.toString();
+		}
+	}
+
+	private static void configure(LexBuffer lexer, Input input) {
+		if (input.maxTokenLength > 0)
+			lexer.setBufferLimits(LexBuffer.MIN_BUFFER_SIZE, input.maxTokenLength);
+	}
+
+	/**
+	 * Polls the entry of {@code variant} on {@code lexer} until the
+	 * end of input, feeding the next chunk of {@code input} whenever
+	 * more input is needed
+	 *
+	 * @param variant
+	 * @param lexer		a lexer which was reset to be fed incrementally
+	 * @param input
+	 * @param from		the offset of the first unit to feed
+	 * @param cuts		the ends of the chunks to feed
+	 * @param eoi		whether the end of input must be signalled
+	 * 	after the last chunk
+	 * @return the tokens found and the error which stopped the analysis
+	 */
+	private static <L extends LexBuffer> Result fed(Variant<L> variant,
+			L lexer, Input input, int from, int[] cuts, boolean eoi) {
+		final Result res = new Result();
+		int next = 0;
+		int fed = from;
+		try {
+			while (true) {
+				final String token;
+				try {
+					token = lexer.poll(() -> variant.entry.apply(lexer));
+				} catch (LexBuffer.NeedInput e) {
+					if (next < cuts.length) {
+						variant.feed(lexer, input, fed, cuts[next]);
+						fed = cuts[next++];
+					}
+					else if (next == cuts.length && eoi) {
+						lexer.endOfInput();
+						++next;
+					}
+					else {
+						res.tokens.add("NEED INPUT");
+						break;
+					}
+					continue;
+				}
+				res.tokens.add(token);
+				if (TokensInputs.isEnd(token)) break;
+			}
+		} catch (LexBuffer.LexicalError e) {
+			res.tokens.add(TokensInputs.error(e));
+			res.error = e.pos;
+		}
+		return res;
+	}
+
+	private static <L extends LexBuffer> Result fed(Variant<L> variant, Input input) {
+		final L lexer = variant.fresh.get();
+		configure(lexer, input);
+		if (input.lineIndex) lexer.enableLineIndex();
+		lexer.reset("input");
+		return fed(variant, lexer, input, 0,
+			variant.bytes ? input.byteCuts : input.charCuts, true);
+	}
+
+	private static <L extends LexBuffer> Result read(Variant<L> variant, Input input) {
+		final L lexer = variant.reader.apply(input);
+		configure(lexer, input);
+		final Result res = new Result();
+		res.tokens.addAll(TokensInputs.tokens(lexer, variant.entry));
+		return res;
+	}
+
+	/**
+	 * A lexer which is fed incrementally must sometimes decide
+	 * that the current token is too long before it has seen where
+	 * the token ends, namely when it needs to look further than one
+	 * character past the {@linkplain LexBuffer#getMaxTokenLength()
+	 * maximal length} from the start of the token. This checks
+	 * that it is the case at {@code pos}, by feeding a new lexer
+	 * without limits with these characters only.
+	 *
+	 * @param variant
+	 * @param input
+	 * @param pos
+	 * @return whether the token at {@code pos} cannot be decided
+	 * 	without looking too far
+	 */
+	private static <L extends LexBuffer> boolean undecided(
+			Variant<L> variant, Input input, Position pos) {
+		final L lexer = variant.fresh.get();
+		lexer.reset("input");
+		lexer.restartAt(pos.offset, pos.line, pos.bol);
+		// The end of input only counts if it is inside the window
+		final int limit = pos.offset + input.maxTokenLength + 1;
+		final int end = Math.min(variant.length(input), limit);
+		final Result res = fed(variant, lexer, input, pos.offset, new int[] { end },
+			end < limit);
+		return res.tokens.size() == 1 && res.tokens.get(0).equals("NEED INPUT");
+	}
+
+	@Override
+	public Map<String, Result> apply(Input input) {
+		final Map<String, Result> res = new LinkedHashMap<>();
+		for (Variant<?> variant : VARIANTS)
+			res.put(variant.name, fed(variant, input));
+		return res;
+	}
+
+	private static <L extends LexBuffer> @Nullable String check(
+			Variant<L> variant, Input input, Result found) {
+		final Result expected = read(variant, input);
+		if (expected.tokens.equals(found.tokens)) return null;
+		// The fed lexer may have stopped earlier on a token which
+		// it could not decide within the maximal token length
+		final int n = found.tokens.size() - 1;
+		final @Nullable Position error = found.error;
+		if (input.maxTokenLength > 0 && error != null
+			&& expected.tokens.size() > n
+			&& expected.tokens.subList(0, n).equals(found.tokens.subList(0, n))
+			&& undecided(variant, input, error))
+			return null;
+		return "Fed " + variant.name + " lexer found tokens " + found
+			+ " instead of " + expected;
+	}
+
+	@Override
+	public @Nullable String check(Input input, Map<String, Result> output) {
+		for (Variant<?> variant : VARIANTS) {
+			final @Nullable Result found = output.get(variant.name);
+			if (found == null) return "No result for " + variant.name;
+			final @Nullable String msg = check(variant, input, found);
+			if (msg != null) return msg;
+		}
+		final @Nullable Result methods = output.get("methods");
+		if (methods != null && methods.error != null
+			&& methods.tokens.get(methods.tokens.size() - 1).contains("maximal length"))
+			++tooLong;
+		return null;
+	}
+
+	@Override
+	public void postHook() {
+		System.out.printf("%d analyses stopped on a token which was too long\n", tooLong);
+	}
+}
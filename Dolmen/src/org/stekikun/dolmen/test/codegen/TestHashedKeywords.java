@@ -0,0 +1,149 @@
+package org.stekikun.dolmen.test.codegen;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.eclipse.jdt.annotation.Nullable;
+import org.stekikun.dolmen.common.Generator;
+import org.stekikun.dolmen.test.TestUnit;
+import org.stekikun.dolmen.test.examples.KeywordsHashedByteLexer;
+import org.stekikun.dolmen.test.examples.KeywordsHashedLexer;
+import org.stekikun.dolmen.test.examples.KeywordsLexer;
+
+/**
+ * Testing unit which lexes random inputs with the lexers generated
+ * from {@code tests/jl/Keywords.jl} with the {@code keyword_hashing}
+ * option, on characters and on UTF-8 bytes, and checks that they
+ * find the same tokens as {@link KeywordsLexer}, which is generated
+ * without the option and thus matches keywords with its automata.
+ * <p>
+ * Inputs are made of keywords, including case variants of one
+ * another, keywords shadowed by a former clause, keywords which
+ * are not in the hash tables because of duplicate literals, and
+ * non-ASCII keywords, as well as words obtained by changing the
+ * case of a character of these keywords, or by adding or removing
+ * a character at their end.
+ *
+ * @author Stéphane Lescuyer
+ */
+public final class TestHashedKeywords
+	implements TestUnit<String, Map<String, List<String>>> {
+
+	/** The words used to build inputs */
+	private static final String[] WORDS = {
+		"if", "iF", "If", "IF", "for", "fOr", "FOR", "FoR",
+		"else", "Else", "ELSE", "eLsE", "elSe",
+		"while", "return", "class", "public", "private", "static", "final",
+		"void", "int", "long", "char", "byte", "short", "double", "float",
+		"boolean", "true", "false", "null", "new", "this", "super", "try",
+		"catch", "throw", "throws", "switch", "case", "default", "break",
+		"continue", "do", "import", "package", "extends", "implements",
+		"interface", "abstract", "native", "volatile", "synchronized",
+		"transient", "assert", "enum", "instanceof", "finally",
+		"go", "goto", "été", "ÉTÉ", "Été", "a", "ab", "x", "_",
+		"#if", "#else", "#elif", "0x", "00", "0x1", "9",
+	};
+
+	/** The separators used between words */
+	private static final String[] SEPARATORS = {
+		" ", " ", "\n", "\r\n", "", "+", "+=", "=",
+	};
+
+	private final Random random = new Random();
+	private final int maxWords;
+
+	private int keywords = 0;
+
+	/**
+	 * Returns a new instance of this test unit, which tests
+	 * inputs made of at most {@code maxWords} words
+	 *
+	 * @param maxWords
+	 */
+	public TestHashedKeywords(int maxWords) {
+		this.maxWords = maxWords;
+	}
+
+	@Override
+	public String name() {
+		return "Testing that lexers looking keywords up in hash tables"
+				+ " find the same tokens as lexers matching them with automata.";
+	}
+
+	private String word() {
+		final StringBuilder buf =
+			new StringBuilder(WORDS[random.nextInt(WORDS.length)]);
+		if (random.nextInt(3) == 0) {
+			final int i = random.nextInt(buf.length());
+			final char c = buf.charAt(i);
+			buf.setCharAt(i, Character.isUpperCase(c) ?
+				Character.toLowerCase(c) : Character.toUpperCase(c));
+		}
+		switch (random.nextInt(6)) {
+		case 0:
+			buf.append("abzÿ0".charAt(random.nextInt(5)));
+			break;
+		case 1:
+			buf.setLength(buf.length() - 1);
+			break;
+		default:
+			break;
+		}
+		return buf.toString();
+	}
+
+	@Override
+	public Generator<String> generator() {
+		return new Generator<String>() {
+			@Override
+			public String name() {
+				return "Random sequences of keywords and similar words";
+			}
+
+			@Override
+			public String generate() {
+				final StringBuilder buf = new StringBuilder();
+				final int n = random.nextInt(maxWords + 1);
+				for (int i = 0; i < n; ++i) {
+					buf.append(word());
+					buf.append(SEPARATORS[random.nextInt(SEPARATORS.length)]);
+				}
+				return buf.toString();
+			}
+		};
+	}
+
+	@Override
+	public Map<String, List<String>> apply(String input) {
+		final Map<String, List<String>> res = new LinkedHashMap<>();
+		res.put("chars", TokensInputs.tokens(
+			new KeywordsHashedLexer("input", input), KeywordsHashedLexer::main));
+		final byte[] bytes = input.getBytes(StandardCharsets.UTF_8);
+		res.put("bytes", TokensInputs.tokens(
+			new KeywordsHashedByteLexer("input", bytes, 0, bytes.length),
+			KeywordsHashedByteLexer::main));
+		return res;
+	}
+
+	@Override
+	public @Nullable String check(String input, Map<String, List<String>> output) {
+		final List<String> expected =
+			TokensInputs.tokens(new KeywordsLexer("input", input), KeywordsLexer::main);
+		for (Map.Entry<String, List<String>> entry : output.entrySet()) {
+			if (!expected.equals(entry.getValue()))
+				return "Found tokens " + entry.getValue() + " when lexing "
+					+ entry.getKey() + " instead of " + expected;
+		}
+		for (String token : expected)
+			if (token.startsWith("K")) ++keywords;
+		return null;
+	}
+
+	@Override
+	public void postHook() {
+		System.out.printf("%d keywords found\n", keywords);
+	}
+}
@@ -0,0 +1,259 @@
+package org.stekikun.dolmen.test.codegen;
+
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.Nullable;
+import org.stekikun.dolmen.codegen.LexBuffer.LexicalError;
+import org.stekikun.dolmen.common.Generator;
+import org.stekikun.dolmen.debug.IncrementalTokenizer;
+import org.stekikun.dolmen.debug.IncrementalTokenizer.Token;
+import org.stekikun.dolmen.debug.Tokenizer.LexerInterface;
+import org.stekikun.dolmen.test.TestUnit;
+import org.stekikun.dolmen.test.examples.TokensLexer;
+
+/**
+ * Testing unit which maintains the tokens of random inputs with an
+ * {@link IncrementalTokenizer} based on {@link TokensLexer}, applies
+ * random edits to the inputs, and checks that after every edit the
+ * tokens, their offsets and the lexical error if any are the same as
+ * those found by a fresh analysis of the edited text.
+ * <p>
+ * Token values of {@link TokensLexer} describe the positions at
+ * which they were found. Tokens kept after an edit are not lexed
+ * again, so only their kind and lexeme are compared with the fresh
+ * analysis, along with their shifted offsets. Tokens which are lexed
+ * again are compared entirely, which checks the lines and beginnings
+ * of lines at which lexing was restarted. Inputs and edits contain
+ * a few lexical errors, whose location must be updated as well.
+ *
+ * @author Stéphane Lescuyer
+ */
+public final class TestIncrementalTokenizer
+	implements TestUnit<TestIncrementalTokenizer.Input, List<TestIncrementalTokenizer.Step>> {
+
+	/**
+	 * Describes an edit of the text: {@link #removed} characters
+	 * at {@link #offset} are replaced by {@link #inserted}
+	 *
+	 * @author Stéphane Lescuyer
+	 */
+	public static final class Edit {
+		final int offset;
+		final int removed;
+		final String inserted;
+
+		Edit(int offset, int removed, String inserted) {
+			this.offset = offset;
+			this.removed = removed;
+			this.inserted = inserted;
+		}
+
+		@Override
+		public String toString() {
+			return "[" + offset + ", -" + removed + ", +\"" + escape(inserted) + "\"]";
+		}
+	}
+
+	/**
+	 * Inputs for this test unit are the initial text along
+	 * with the edits which are successively applied to it
+	 *
+	 * @author Stéphane Lescuyer
+	 */
+	public static final class Input {
+		final String text;
+		final List<Edit> edits;
+
+		Input(String text, List<Edit> edits) {
+			this.text = text;
+			this.edits = edits;
+		}
+
+		@Override
+		public String toString() {
+			return "[text=\"" + escape(text) + "\", edits=" + edits + "]";
+		}
+	}
+
+	/**
+	 * The state of the incremental tokenizer after some edit
+	 *
+	 * @author Stéphane Lescuyer
+	 */
+	public static final class Step {
+		/** The text after the edit */
+		final String text;
+		/**
+		 * The tokens after the edit: tokens which have been lexed
+		 * again are described entirely, and tokens which have been
+		 * kept only by their kind, lexeme and current offsets
+		 */
+		final List<String> tokens;
+		/** The lexical error which stopped the tokenization, if any */
+		final @Nullable String error;
+
+		Step(String text, List<String> tokens, @Nullable String error) {
+			this.text = text;
+			this.tokens = tokens;
+			this.error = error;
+		}
+
+		@Override
+		public String toString() {
+			return "[text=\"" + escape(text) + "\", tokens=" + tokens
+				+ ", error=" + error + "]";
+		}
+	}
+
+	private static final LexerInterface<TokensLexer, String> LEXER =
+		new LexerInterface<TokensLexer, String>() {
+			@Override
+			public TokensLexer makeLexer(String inputName, Reader reader) {
+				return new TokensLexer(inputName, reader);
+			}
+
+			@Override
+			public String entry(TokensLexer lexbuf) throws LexicalError {
+				return lexbuf.main();
+			}
+
+			@Override
+			public boolean halt(String token) {
+				return TokensInputs.isEnd(token);
+			}
+		};
+
+	private final Random random = new Random();
+	private final Generator<String> texts;
+	private final Generator<String> insertions;
+	private final int maxEdits;
+
+	private int errors = 0;
+
+	/**
+	 * Returns a new instance of this test unit, which tests
+	 * inputs made of at most {@code maxFragments} fragments
+	 * and at most {@code maxEdits} edits
+	 *
+	 * @param maxFragments
+	 * @param maxEdits
+	 */
+	public TestIncrementalTokenizer(int maxFragments, int maxEdits) {
+		this.texts = TokensInputs.generator(random, maxFragments);
+		this.insertions = TokensInputs.generator(random, 3);
+		this.maxEdits = maxEdits;
+	}
+
+	@Override
+	public String name() {
+		return "Testing that incremental tokenization after edits finds"
+				+ " the same tokens as a fresh analysis.";
+	}
+
+	@Override
+	public Generator<Input> generator() {
+		return new Generator<Input>() {
+			@Override
+			public String name() {
+				return "Random inputs and edits";
+			}
+
+			@Override
+			public Input generate() {
+				final String text = texts.generate();
+				final List<Edit> edits = new ArrayList<>();
+				final int n = 1 + random.nextInt(maxEdits);
+				int length = text.length();
+				for (int i = 0; i < n; ++i) {
+					final int offset = random.nextInt(length + 1);
+					final int removed = random.nextInt(Math.min(length - offset, 8) + 1);
+					final String inserted = insertions.generate();
+					edits.add(new Edit(offset, removed, inserted));
+					length += inserted.length() - removed;
+				}
+				return new Input(text, edits);
+			}
+		};
+	}
+
+	/**
+	 * @param tokenizer
+	 * @param former	the tokens before the last edit
+	 * @return the state of {@code tokenizer}
+	 */
+	private static Step step(IncrementalTokenizer<TokensLexer, String> tokenizer,
+			Set<Token<String>> former) {
+		final List<String> tokens = new ArrayList<>();
+		for (Token<String> tok : tokenizer.getTokens()) {
+			final String value = tok.getValue();
+			if (former.contains(tok))
+				tokens.add(value.substring(0, value.lastIndexOf(")@") + 1)
+					+ "@" + tok.getStart() + "-" + tok.getEnd());
+			else
+				tokens.add(value);
+		}
+		final LexicalError error = tokenizer.getError();
+		return new Step(tokenizer.getText().toString(), tokens,
+			error == null ? null : TokensInputs.error(error));
+	}
+
+	@Override
+	public List<Step> apply(Input input) {
+		final List<Step> res = new ArrayList<>();
+		final IncrementalTokenizer<TokensLexer, String> tokenizer =
+			new IncrementalTokenizer<>(LEXER, "input", input.text);
+		res.add(step(tokenizer, Collections.emptySet()));
+		for (Edit edit : input.edits) {
+			final Set<Token<String>> former =
+				Collections.newSetFromMap(new IdentityHashMap<>());
+			former.addAll(tokenizer.getTokens());
+			tokenizer.edit(edit.offset, edit.removed, edit.inserted);
+			res.add(step(tokenizer, former));
+		}
+		return res;
+	}
+
+	@Override
+	public @Nullable String check(Input input, List<Step> output) {
+		for (int i = 0; i < output.size(); ++i) {
+			final Step step = output.get(i);
+			final List<String> expected = TokensInputs.tokens(
+				new TokensLexer("input", step.text), TokensLexer::main);
+			final List<String> found = new ArrayList<>(step.tokens);
+			if (step.error != null) {
+				found.add(step.error);
+				++errors;
+			}
+			final String when = i == 0 ? "initially" : "after edit " + input.edits.get(i - 1);
+			if (found.size() != expected.size())
+				return "Found " + found.size() + " tokens instead of "
+					+ expected.size() + " " + when + ": " + found + " vs " + expected;
+			for (int k = 0; k < found.size(); ++k) {
+				final String tok = found.get(k);
+				String exp = expected.get(k);
+				// Kept tokens do not describe their lines
+				if (!tok.startsWith("ERROR: ") && tok.indexOf(':', tok.lastIndexOf(")@")) < 0
+						&& !exp.startsWith("ERROR: "))
+					exp = exp.substring(0, exp.lastIndexOf(':'));
+				if (!tok.equals(exp))
+					return "Found token " + tok + " instead of " + exp + " " + when;
+			}
+		}
+		return null;
+	}
+
+	@Override
+	public void postHook() {
+		System.out.printf("%d tokenizations stopped on a lexical error\n", errors);
+	}
+
+	private static String escape(String s) {
+		return s.replace("\r", "\\r").replace("\n", "\\n");
+	}
+}
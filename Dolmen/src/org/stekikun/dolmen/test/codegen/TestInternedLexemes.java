@@ -0,0 +1,233 @@
+package org.stekikun.dolmen.test.codegen;
+
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.eclipse.jdt.annotation.Nullable;
+import org.stekikun.dolmen.codegen.LexBuffer;
+import org.stekikun.dolmen.common.Generator;
+import org.stekikun.dolmen.test.TestUnit;
+import org.stekikun.dolmen.test.examples.LexemesByteLexer;
+import org.stekikun.dolmen.test.examples.LexemesLexer;
+
+/**
+ * Testing unit which lexes random lists of words with the lexers
+ * generated from {@code tests/jl/Lexemes.jl}, which return the
+ * lexemes interned by {@code LexBuffer.getInternedLexeme()}, and
+ * checks that they return the right words, that a word repeated
+ * right away is returned as the same instance, that words longer
+ * than the maximal length of interned lexemes are never shared, and
+ * that the table of interned lexemes holds no more than its capacity.
+ * <p>
+ * Inputs are made of a first list of words, taken among many more
+ * distinct words than the table can hold, followed by all these
+ * distinct words once. The number of words in the second part which
+ * are returned as instances found in the first part is bounded by
+ * the capacity of the table. Words are read from memory, from a
+ * stream into the smallest buffers, and as UTF-8 bytes, in which
+ * case words with non-ASCII characters are never shared either.
+ *
+ * @author Stéphane Lescuyer
+ */
+public final class TestInternedLexemes
+	implements TestUnit<TestInternedLexemes.Input, Map<String, List<String>>> {
+
+	/**
+	 * Inputs for this test unit are a list of words, followed by
+	 * distinct words, which are lexed one after the other
+	 *
+	 * @author Stéphane Lescuyer
+	 */
+	public static final class Input {
+		final List<String> words;
+		/** Distinct words made of ASCII characters, short enough to be interned */
+		final List<String> vocabulary;
+
+		Input(List<String> words, List<String> vocabulary) {
+			this.words = words;
+			this.vocabulary = vocabulary;
+		}
+
+		/**
+		 * @return the text made of {@link #words} followed by {@link #vocabulary}
+		 */
+		String text() {
+			final StringBuilder buf = new StringBuilder();
+			for (String word : words) buf.append(word).append(' ');
+			for (String word : vocabulary) buf.append(word).append('\n');
+			return buf.toString();
+		}
+
+		@Override
+		public String toString() {
+			return "[words=" + words + ", vocabulary=" + vocabulary + "]";
+		}
+	}
+
+	/** The number of lexemes held by the tables of lexer buffers */
+	private static final int CAPACITY = 1024;
+	/** The maximal length of lexemes held by the tables of lexer buffers */
+	private static final int MAX_LENGTH = 64;
+
+	/** Non-ASCII characters, encoded on two to four bytes in UTF-8 */
+	private static final String[] NON_ASCII = { "é", "€", "😀" };
+
+	private final Random random = new Random();
+	private final int maxWords;
+
+	private int shared = 0;
+	private int kept = 0;
+
+	/**
+	 * Returns a new instance of this test unit, which tests inputs
+	 * made of at most {@code maxWords} distinct words
+	 *
+	 * @param maxWords
+	 */
+	public TestInternedLexemes(int maxWords) {
+		this.maxWords = maxWords;
+	}
+
+	@Override
+	public String name() {
+		return "Testing that lexers share interned lexemes in a bounded table.";
+	}
+
+	private String letters(int n) {
+		final StringBuilder buf = new StringBuilder();
+		for (int i = 0; i < n; ++i)
+			buf.append((char) ('a' + random.nextInt(26)));
+		return buf.toString();
+	}
+
+	private String word(List<String> vocabulary) {
+		switch (random.nextInt(8)) {
+		case 0:
+			// Lexemes of maximal length are interned, longer ones are not
+			return letters(random.nextBoolean() ? MAX_LENGTH : MAX_LENGTH + 1 + random.nextInt(32));
+		case 1:
+			return letters(1 + random.nextInt(4))
+				+ NON_ASCII[random.nextInt(NON_ASCII.length)] + letters(random.nextInt(4));
+		default:
+			if (vocabulary.isEmpty()) return letters(1 + random.nextInt(8));
+			return vocabulary.get(random.nextInt(vocabulary.size()));
+		}
+	}
+
+	@Override
+	public Generator<Input> generator() {
+		return new Generator<Input>() {
+			@Override
+			public String name() {
+				return "Random words with repetitions";
+			}
+
+			@Override
+			public Input generate() {
+				final List<String> vocabulary = new ArrayList<>();
+				final int n = random.nextInt(maxWords + 1);
+				// Suffixes make words distinct
+				for (int i = 0; i < n; ++i)
+					vocabulary.add(letters(1 + random.nextInt(6)) + i);
+				final List<String> words = new ArrayList<>();
+				final int m = random.nextInt(2 * n + 16);
+				while (words.size() < m) {
+					final String word = word(vocabulary);
+					words.add(word);
+					while (random.nextInt(4) == 0) words.add(word);
+				}
+				return new Input(words, vocabulary);
+			}
+		};
+	}
+
+	private static List<String> lexemes(Supplier<String> entry) {
+		final List<String> res = new ArrayList<>();
+		while (true) {
+			final String lexeme = entry.get();
+			if (lexeme.isEmpty()) break;
+			res.add(lexeme);
+		}
+		return res;
+	}
+
+	@Override
+	public Map<String, List<String>> apply(Input input) {
+		final Map<String, List<String>> res = new LinkedHashMap<>();
+		final String text = input.text();
+		final LexemesLexer memory = new LexemesLexer("input", text);
+		res.put("memory", lexemes(memory::main));
+		final LexemesLexer stream = new LexemesLexer("input", new StringReader(text));
+		stream.setBufferLimits(LexBuffer.MIN_BUFFER_SIZE, Integer.MAX_VALUE);
+		res.put("stream", lexemes(stream::main));
+		final byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+		final LexemesByteLexer byteLexer =
+			new LexemesByteLexer("input", bytes, 0, bytes.length);
+		res.put("bytes", lexemes(byteLexer::main));
+		return res;
+	}
+
+	private static boolean isAscii(String s) {
+		for (int i = 0; i < s.length(); ++i)
+			if (s.charAt(i) >= 0x80) return false;
+		return true;
+	}
+
+	@Override
+	public @Nullable String check(Input input, Map<String, List<String>> output) {
+		final List<String> expected = new ArrayList<>(input.words);
+		expected.addAll(input.vocabulary);
+		final int n = input.words.size();
+		for (Map.Entry<String, List<String>> entry : output.entrySet()) {
+			final String variant = entry.getKey();
+			final List<String> found = entry.getValue();
+			if (!found.equals(expected))
+				return "Found words " + found + " when reading from " + variant;
+			final boolean bytes = variant.equals("bytes");
+			final Set<String> returned = Collections.newSetFromMap(new IdentityHashMap<>());
+			for (int i = 0; i < n; ++i) {
+				final String word = found.get(i);
+				final boolean interned =
+					word.length() <= MAX_LENGTH && (!bytes || isAscii(word));
+				if (interned) {
+					if (i > 0 && word.equals(found.get(i - 1))) {
+						if (word != found.get(i - 1))
+							return "Word " + word + " at index " + i + " is not shared"
+								+ " with the same word right before, when reading from " + variant;
+						++shared;
+					}
+				}
+				else if (returned.contains(word))
+					return "Word " + word + " at index " + i + " should not be interned"
+						+ " but is shared, when reading from " + variant;
+				returned.add(word);
+			}
+			// Words found in the table were interned in the first part,
+			// as words in the second part are distinct
+			int hits = 0;
+			for (int i = n; i < found.size(); ++i) {
+				if (returned.contains(found.get(i))) ++hits;
+			}
+			if (hits > CAPACITY)
+				return hits + " distinct words were still interned after the first part,"
+					+ " when reading from " + variant;
+			kept += hits;
+		}
+		return null;
+	}
+
+	@Override
+	public void postHook() {
+		System.out.printf("%d repeated words were shared, and %d words were"
+			+ " found in the table after the first part\n", shared, kept);
+	}
+}
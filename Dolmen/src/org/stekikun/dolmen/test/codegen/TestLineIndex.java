@@ -0,0 +1,140 @@
+package org.stekikun.dolmen.test.codegen;
+
+import java.io.StringReader;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.eclipse.jdt.annotation.Nullable;
+import org.stekikun.dolmen.codegen.LexBuffer;
+import org.stekikun.dolmen.common.Generator;
+import org.stekikun.dolmen.test.TestUnit;
+import org.stekikun.dolmen.test.examples.TokensLexer;
+import org.stekikun.dolmen.test.examples.TokensLoopLexer;
+
+/**
+ * Testing unit which lexes random inputs with the lexers generated
+ * from {@code tests/jl/Tokens.jl} with {@linkplain LexBuffer#enableLineIndex()
+ * indexed lines}, and checks that they find the same tokens, positions
+ * and lexical errors as a lexer which tracks lines with
+ * {@link LexBuffer#newline()}.
+ * <p>
+ * Indexed lexers read their input from memory, and from streams
+ * returning few characters at a time into the smallest buffers, so
+ * that {@code '\r'}, {@code '\n'} and {@code "\r\n"} line terminators
+ * are often split between refills. The semantic actions of these
+ * lexers still call {@link LexBuffer#newline()}, which must be
+ * ignored while lines are indexed.
+ *
+ * @author Stéphane Lescuyer
+ */
+public final class TestLineIndex
+	implements TestUnit<TestLineIndex.Input, Map<String, List<String>>> {
+
+	/**
+	 * Inputs for this test unit are strings to lex, along
+	 * with the way they are read by the lexers
+	 *
+	 * @author Stéphane Lescuyer
+	 */
+	public static final class Input {
+		final String text;
+		/** The maximal number of characters returned by a read on the stream */
+		final int readSize;
+
+		Input(String text, int readSize) {
+			this.text = text;
+			this.readSize = readSize;
+		}
+
+		@Override
+		public String toString() {
+			return "[readSize=" + readSize + ", text=\""
+				+ text.replace("\r", "\\r").replace("\n", "\\n") + "\"]";
+		}
+	}
+
+	private final Random random = new Random();
+	private final Generator<String> texts;
+
+	/**
+	 * Returns a new instance of this test unit, which tests
+	 * inputs made of at most {@code maxFragments} fragments
+	 *
+	 * @param maxFragments
+	 */
+	public TestLineIndex(int maxFragments) {
+		this.texts = TokensInputs.generator(random, maxFragments);
+	}
+
+	@Override
+	public String name() {
+		return "Testing that lexers indexing lines find the same positions"
+				+ " as lexers tracking lines themselves.";
+	}
+
+	@Override
+	public Generator<Input> generator() {
+		return new Generator<Input>() {
+			@Override
+			public String name() {
+				return "Random inputs and read sizes";
+			}
+
+			@Override
+			public Input generate() {
+				return new Input(texts.generate(), 1 + random.nextInt(8));
+			}
+		};
+	}
+
+	/**
+	 * @param input
+	 * @return a reader on the text of {@code input}, which returns
+	 * 	at most {@link Input#readSize} characters at a time
+	 */
+	private static StringReader reader(Input input) {
+		final int readSize = input.readSize;
+		return new StringReader(input.text) {
+			@Override
+			public int read(char[] cbuf, int off, int len) throws java.io.IOException {
+				return super.read(cbuf, off, Math.min(len, readSize));
+			}
+		};
+	}
+
+	private static <L extends LexBuffer> L indexed(L lexer, boolean small) {
+		if (small)
+			lexer.setBufferLimits(LexBuffer.MIN_BUFFER_SIZE, Integer.MAX_VALUE);
+		lexer.enableLineIndex();
+		return lexer;
+	}
+
+	@Override
+	public Map<String, List<String>> apply(Input input) {
+		final Map<String, List<String>> res = new LinkedHashMap<>();
+		res.put("memory", TokensInputs.tokens(
+			indexed(new TokensLexer("input", input.text), false),
+			TokensLexer::main));
+		res.put("stream", TokensInputs.tokens(
+			indexed(new TokensLexer("input", reader(input)), true),
+			TokensLexer::main));
+		res.put("loop stream", TokensInputs.tokens(
+			indexed(new TokensLoopLexer("input", reader(input)), true),
+			TokensLoopLexer::main));
+		return res;
+	}
+
+	@Override
+	public @Nullable String check(Input input, Map<String, List<String>> output) {
+		final TokensLexer reference = new TokensLexer("input", new StringReader(input.text));
+		final List<String> expected = TokensInputs.tokens(reference, TokensLexer::main);
+		for (Map.Entry<String, List<String>> entry : output.entrySet()) {
+			if (!expected.equals(entry.getValue()))
+				return "Found tokens " + entry.getValue() + " when indexing lines of the "
+					+ entry.getKey() + " instead of " + expected;
+		}
+		return null;
+	}
+}
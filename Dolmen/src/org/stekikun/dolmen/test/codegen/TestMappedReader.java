@@ -0,0 +1,181 @@
+package org.stekikun.dolmen.test.codegen;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import org.eclipse.jdt.annotation.Nullable;
+import org.stekikun.dolmen.codegen.MappedUTF8Reader;
+import org.stekikun.dolmen.common.Generator;
+import org.stekikun.dolmen.test.TestUnit;
+
+/**
+ * Testing unit which writes random byte sequences to a file, reads
+ * them back with a {@link MappedUTF8Reader} mapping small windows of
+ * the file, and checks that the characters read are the same as those
+ * decoded by an {@link InputStreamReader} for UTF-8.
+ * <p>
+ * Byte sequences mix ASCII characters, well-formed UTF-8 encodings
+ * of characters in and out of the Basic Multilingual Plane, and
+ * ill-formed sequences, in particular overlong encodings, encoded
+ * surrogates, code points out of range and truncated sequences.
+ * Characters are read in chunks of random sizes, which can split
+ * surrogate pairs.
+ *
+ * @author Stéphane Lescuyer
+ */
+public final class TestMappedReader
+	implements TestUnit<TestMappedReader.Input, String> {
+
+	/**
+	 * Inputs for this test unit are the contents of the file
+	 * along with the way the file is mapped and read
+	 *
+	 * @author Stéphane Lescuyer
+	 */
+	public static final class Input {
+		final byte[] bytes;
+		final int windowSize;
+		/** The maximal number of characters requested by each read */
+		final int readSize;
+
+		Input(byte[] bytes, int windowSize, int readSize) {
+			this.bytes = bytes;
+			this.windowSize = windowSize;
+			this.readSize = readSize;
+		}
+
+		@Override
+		public String toString() {
+			final StringBuilder buf = new StringBuilder("[bytes=");
+			for (byte b : bytes)
+				buf.append(String.format("%02X ", b & 0xFF));
+			return buf.append(", windowSize=").append(windowSize)
+				.append(", readSize=").append(readSize).append("]").toString();
+		}
+	}
+
+	/** Well-formed characters, encoded on one to four bytes */
+	private static final String[] CHARS = {
+		"a", "Z", "\n", "0", "é", "߿", "ࠀ", "€",
+		"퟿", "", "￿", "😀", "􏿿",
+	};
+
+	/** Ill-formed UTF-8 byte sequences */
+	private static final int[][] MALFORMED = {
+		{ 0xFF }, { 0xF5 }, { 0xC0, 0x80 }, { 0xC1, 0xBF }, { 0xE0, 0x80, 0x80 },
+		{ 0xE0, 0x9F }, { 0xED, 0xA0, 0x80 }, { 0xED, 0xBF }, { 0xE2, 0x82 },
+		{ 0xF0, 0x80, 0x80, 0x80 }, { 0xF0, 0x9F, 0x98 }, { 0xF4, 0x8F },
+		{ 0xF4, 0x90, 0x80, 0x80 }, { 0xF8, 0x88, 0x80, 0x80, 0x80 },
+		{ 0x80 }, { 0xBF, 0xBF },
+	};
+
+	private final Random random = new Random();
+	private final int maxFragments;
+
+	/**
+	 * Returns a new instance of this test unit, which tests
+	 * files made of at most {@code maxFragments} fragments
+	 *
+	 * @param maxFragments
+	 */
+	public TestMappedReader(int maxFragments) {
+		this.maxFragments = maxFragments;
+	}
+
+	@Override
+	public String name() {
+		return "Testing that memory-mapped UTF-8 readers decode files"
+				+ " like the JDK decoder.";
+	}
+
+	@Override
+	public Generator<Input> generator() {
+		return new Generator<Input>() {
+			@Override
+			public String name() {
+				return "Random UTF-8 with malformed input";
+			}
+
+			@Override
+			public Input generate() {
+				final ByteArrayOutputStream out = new ByteArrayOutputStream();
+				final int n = random.nextInt(maxFragments + 1);
+				for (int i = 0; i < n; ++i) {
+					if (random.nextInt(4) == 0) {
+						for (int b : MALFORMED[random.nextInt(MALFORMED.length)])
+							out.write(b);
+					}
+					else {
+						final byte[] bytes = CHARS[random.nextInt(CHARS.length)]
+							.getBytes(StandardCharsets.UTF_8);
+						out.write(bytes, 0, bytes.length);
+					}
+				}
+				return new Input(out.toByteArray(),
+					4 + random.nextInt(13), 1 + random.nextInt(8));
+			}
+		};
+	}
+
+	@Override
+	public String apply(Input input) {
+		Path file = null;
+		try {
+			file = Files.createTempFile("dolmen", ".txt");
+			Files.write(file, input.bytes);
+			final StringBuilder buf = new StringBuilder();
+			try (Reader reader = MappedUTF8Reader.open(file, input.windowSize)) {
+				final char[] chars = new char[input.readSize];
+				int read;
+				while ((read = reader.read(chars, 0, chars.length)) >= 0)
+					buf.append(chars, 0, read);
+			}
+			return buf.toString();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		} finally {
+			if (file != null) {
+				try {
+					Files.delete(file);
+				} catch (IOException e) {
+					// Nothing to do
+				}
+			}
+		}
+	}
+
+	@Override
+	public @Nullable String check(Input input, String output) {
+		final StringBuilder buf = new StringBuilder();
+		try (Reader reader = new InputStreamReader(
+				new ByteArrayInputStream(input.bytes), StandardCharsets.UTF_8)) {
+			int c;
+			while ((c = reader.read()) >= 0)
+				buf.append((char) c);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		final String expected = buf.toString();
+		if (!expected.equals(output))
+			return "Read " + escape(output) + " instead of " + escape(expected);
+		return null;
+	}
+
+	private static String escape(String s) {
+		final StringBuilder buf = new StringBuilder("\"");
+		for (int i = 0; i < s.length(); ++i) {
+			final char c = s.charAt(i);
+			if (c >= 0x20 && c < 0x7F) buf.append(c);
+			else buf.append(String.format("\\u%04x", (int) c));
+		}
+		return buf.append('"').toString();
+	}
+}
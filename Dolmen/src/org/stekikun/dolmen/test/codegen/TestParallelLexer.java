@@ -0,0 +1,150 @@
+package org.stekikun.dolmen.test.codegen;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.eclipse.jdt.annotation.Nullable;
+import org.stekikun.dolmen.codegen.LexBuffer;
+import org.stekikun.dolmen.codegen.ParallelLexer;
+import org.stekikun.dolmen.common.Generator;
+import org.stekikun.dolmen.test.TestUnit;
+import org.stekikun.dolmen.test.examples.TokensLexer;
+
+/**
+ * Testing unit which lexes random inputs with {@link ParallelLexer},
+ * using {@link TokensLexer} and mostly tiny chunks, and checks that
+ * the tokens, their positions and the lexical errors are the same as
+ * when lexing the inputs sequentially.
+ * <p>
+ * Inputs contain multi-line comments and strings, so that chunks
+ * often start inside some token, as well as {@code "\r\n"} line
+ * terminators which can straddle chunk boundaries. Multi-line comments
+ * contain string delimiters, so that speculatively lexing a chunk
+ * which starts inside such a comment fails, although the analysis
+ * of the whole input succeeds.
+ *
+ * @author Stéphane Lescuyer
+ */
+public final class TestParallelLexer
+	implements TestUnit<TestParallelLexer.Input, List<String>> {
+
+	/**
+	 * Inputs for this test unit are strings to lex,
+	 * along with the chunk size to use
+	 *
+	 * @author Stéphane Lescuyer
+	 */
+	public static final class Input {
+		final String text;
+		final int chunkSize;
+
+		Input(String text, int chunkSize) {
+			this.text = text;
+			this.chunkSize = chunkSize;
+		}
+
+		@Override
+		public String toString() {
+			return "[chunkSize=" + chunkSize + ", text=\""
+				+ text.replace("\r", "\\r").replace("\n", "\\n") + "\"]";
+		}
+	}
+
+	private final Random random = new Random();
+	private final Generator<String> texts;
+
+	private int errors = 0;
+	private int speculativeErrors = 0;
+
+	/**
+	 * Returns a new instance of this test unit, which tests
+	 * inputs made of at most {@code maxFragments} fragments
+	 *
+	 * @param maxFragments
+	 */
+	public TestParallelLexer(int maxFragments) {
+		this.texts = TokensInputs.generator(random, maxFragments);
+	}
+
+	@Override
+	public String name() {
+		return "Testing that lexing in parallel chunks finds the same"
+				+ " tokens as a sequential analysis.";
+	}
+
+	@Override
+	public Generator<Input> generator() {
+		return new Generator<Input>() {
+			@Override
+			public String name() {
+				return "Random inputs and chunk sizes";
+			}
+
+			@Override
+			public Input generate() {
+				final String text = texts.generate();
+				final int chunkSize = random.nextInt(4) == 0 ?
+					1 + random.nextInt(Math.max(1, text.length())) :
+					1 + random.nextInt(8);
+				return new Input(text, chunkSize);
+			}
+		};
+	}
+
+	@Override
+	public List<String> apply(Input input) {
+		try {
+			return ParallelLexer.lex("input", input.text.toCharArray(),
+				TokensLexer::new, TokensLexer::main, TokensInputs::isEnd,
+				input.chunkSize, ForkJoinPool.commonPool());
+		} catch (LexBuffer.LexicalError e) {
+			return Collections.singletonList(TokensInputs.error(e));
+		}
+	}
+
+	@Override
+	public @Nullable String check(Input input, List<String> output) {
+		final List<String> expected =
+			TokensInputs.tokens(new TokensLexer("input", input.text), TokensLexer::main);
+		final boolean failed = !expected.isEmpty()
+			&& expected.get(expected.size() - 1).startsWith("ERROR");
+		if (failed) {
+			// The tokens found before the error are lost
+			final String error = expected.get(expected.size() - 1);
+			if (output.size() != 1 || !output.get(0).equals(error))
+				return "Expected error " + error + " but found " + output;
+			++errors;
+			return null;
+		}
+		if (!expected.equals(output))
+			return "Found tokens " + output + " instead of " + expected;
+		if (speculativeFailure(input)) ++speculativeErrors;
+		return null;
+	}
+
+	/**
+	 * @param input
+	 * @return whether lexing one of the chunks of {@code input} on its
+	 * 	own fails, following the way {@link ParallelLexer} splits inputs
+	 */
+	private static boolean speculativeFailure(Input input) {
+		final String text = input.text;
+		for (int target = input.chunkSize; target < text.length(); target += input.chunkSize) {
+			final int start = text.indexOf('\n', target - 1) + 1;
+			if (start <= 0 || start >= text.length()) break;
+			final TokensLexer lexer = new TokensLexer("input", text);
+			lexer.restartAt(start, 1, start);
+			final List<String> tokens = TokensInputs.tokens(lexer, TokensLexer::main);
+			if (tokens.get(tokens.size() - 1).startsWith("ERROR")) return true;
+		}
+		return false;
+	}
+
+	@Override
+	public void postHook() {
+		System.out.printf("%d analyses failed, and %d successful analyses had"
+			+ " lexical errors in speculative chunks\n", errors, speculativeErrors);
+	}
+}
@@ -0,0 +1,311 @@
+package org.stekikun.dolmen.test.codegen;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+
+import org.eclipse.jdt.annotation.Nullable;
+import org.stekikun.dolmen.codegen.BaseParser;
+import org.stekikun.dolmen.codegen.LexBuffer;
+import org.stekikun.dolmen.common.Generator;
+import org.stekikun.dolmen.test.TestUnit;
+import org.stekikun.dolmen.test.examples.JSonPosLexer;
+import org.stekikun.dolmen.test.examples.JSonPosParser;
+import org.stekikun.dolmen.test.examples.TokensByteLexer;
+import org.stekikun.dolmen.test.examples.TokensLexer;
+import org.stekikun.dolmen.test.examples.TokensLoopLexer;
+
+/**
+ * Testing unit which analyzes a first random input with lexers
+ * generated from {@code tests/jl/Tokens.jl} and with the parser
+ * generated from {@code tests/jg/JSonPos.jg}, stops at some random
+ * point, {@linkplain LexBuffer#reset(String, java.io.Reader) resets}
+ * them onto a second input, and checks that they find the same
+ * tokens, values, positions and errors on the second input as fresh
+ * instances would.
+ * <p>
+ * Lexers are stopped between tokens, possibly after tokens which
+ * used memory cells, and the parser is stopped by syntax errors in
+ * the first input, with a lookahead token and locations of enclosing
+ * rules pending. Both inputs can contain long tokens which grow the
+ * smallest buffers, so that the buffer of the first input is either
+ * reused for the second one or dropped. The second input is read
+ * either from a stream or from memory.
+ *
+ * @author Stéphane Lescuyer
+ */
+public final class TestReset
+	implements TestUnit<TestReset.Input, Map<String, List<String>>> {
+
+	/**
+	 * Inputs for this test unit are the two inputs to analyze
+	 * along with the way they are analyzed
+	 *
+	 * @author Stéphane Lescuyer
+	 */
+	public static final class Input {
+		final String tokensA;
+		final String tokensB;
+		/** The number of tokens to lex in {@link #tokensA} before resetting */
+		final int stopAfter;
+		final String jsonA;
+		final String jsonB;
+		/** Whether the second inputs are read from streams or from memory */
+		final boolean stream;
+
+		Input(String tokensA, String tokensB, int stopAfter,
+				String jsonA, String jsonB, boolean stream) {
+			this.tokensA = tokensA;
+			this.tokensB = tokensB;
+			this.stopAfter = stopAfter;
+			this.jsonA = jsonA;
+			this.jsonB = jsonB;
+			this.stream = stream;
+		}
+
+		@Override
+		public String toString() {
+			return "[tokensA=\"" + escape(tokensA) + "\", tokensB=\"" + escape(tokensB)
+				+ "\", stopAfter=" + stopAfter + ", jsonA=\"" + escape(jsonA)
+				+ "\", jsonB=\"" + escape(jsonB) + "\", stream=" + stream + "]";
+		}
+	}
+
+	/** The largest tokens allowed, so that long tokens grow buffers */
+	private static final int MAX_TOKEN_LENGTH = 1 << 16;
+
+	/** Separators used in JSON inputs */
+	private static final String[] SPACES = { "", " ", "\n", "\r\n", "\t" };
+
+	private final Random random = new Random();
+	private final Generator<String> texts;
+	private final int maxDepth;
+
+	/**
+	 * Returns a new instance of this test unit, which tests inputs
+	 * made of at most {@code maxFragments} fragments and JSON values
+	 * nested at most {@code maxDepth} deep
+	 *
+	 * @param maxFragments
+	 * @param maxDepth
+	 */
+	public TestReset(int maxFragments, int maxDepth) {
+		this.texts = TokensInputs.generator(random, maxFragments);
+		this.maxDepth = maxDepth;
+	}
+
+	@Override
+	public String name() {
+		return "Testing that lexers and parsers which are reset behave"
+				+ " like fresh ones.";
+	}
+
+	/**
+	 * @return a string made of one or two random texts, or a long comment
+	 */
+	private String tokens() {
+		switch (random.nextInt(4)) {
+		case 0:
+			return texts.generate() + "/*" + longString() + "*/" + texts.generate();
+		default:
+			return texts.generate();
+		}
+	}
+
+	private String longString() {
+		final StringBuilder buf = new StringBuilder();
+		final int n = 64 + random.nextInt(256);
+		for (int i = 0; i < n; ++i)
+			buf.append((char) ('a' + random.nextInt(26)));
+		return buf.toString();
+	}
+
+	private void space(StringBuilder buf) {
+		buf.append(SPACES[random.nextInt(SPACES.length)]);
+	}
+
+	private void json(StringBuilder buf, int depth) {
+		space(buf);
+		switch (random.nextInt(depth >= maxDepth ? 4 : 6)) {
+		case 0:
+			buf.append('"').append(random.nextInt(8) == 0 ? longString() : "s" + depth).append('"');
+			break;
+		case 1:
+			buf.append(random.nextInt(1000)).append(random.nextBoolean() ? ".5" : "");
+			break;
+		case 2:
+			buf.append(random.nextBoolean() ? "true" : "false");
+			break;
+		case 3:
+			buf.append("null");
+			break;
+		case 4: {
+			if (random.nextBoolean()) buf.append("array ");
+			buf.append('[');
+			final int n = random.nextInt(4);
+			for (int i = 0; i < n; ++i) {
+				if (i > 0) buf.append(',');
+				json(buf, depth + 1);
+			}
+			space(buf);
+			buf.append(']');
+			break;
+		}
+		default: {
+			if (random.nextBoolean()) buf.append("object ");
+			buf.append('{');
+			final int n = random.nextInt(4);
+			for (int i = 0; i < n; ++i) {
+				if (i > 0) buf.append(',');
+				space(buf);
+				buf.append("\"k").append(i).append("\":");
+				json(buf, depth + 1);
+			}
+			space(buf);
+			buf.append('}');
+			break;
+		}
+		}
+		space(buf);
+	}
+
+	private String json() {
+		final StringBuilder buf = new StringBuilder();
+		json(buf, 0);
+		return buf.toString();
+	}
+
+	@Override
+	public Generator<Input> generator() {
+		return new Generator<Input>() {
+			@Override
+			public String name() {
+				return "Random pairs of inputs";
+			}
+
+			@Override
+			public Input generate() {
+				String jsonA = json();
+				// Syntax errors stop the parser with pending state
+				if (random.nextBoolean())
+					jsonA = jsonA.substring(0, random.nextInt(jsonA.length() + 1)) + "]";
+				return new Input(tokens(), tokens(), random.nextInt(20),
+					jsonA, json(), random.nextBoolean());
+			}
+		};
+	}
+
+	private static <L extends LexBuffer> L limited(L lexer) {
+		lexer.setBufferLimits(LexBuffer.MIN_BUFFER_SIZE, MAX_TOKEN_LENGTH);
+		return lexer;
+	}
+
+	/**
+	 * Lexes at most {@code n} tokens with {@code lexer}, ignoring errors
+	 *
+	 * @param lexer
+	 * @param entry
+	 * @param n
+	 */
+	private static <L extends LexBuffer> void skip(L lexer, Function<L, String> entry, int n) {
+		try {
+			for (int i = 0; i < n; ++i) {
+				if (TokensInputs.isEnd(entry.apply(lexer))) return;
+			}
+		} catch (LexBuffer.LexicalError e) {
+			// Stop there
+		}
+	}
+
+	/**
+	 * @param parser
+	 * @return the value parsed by {@code parser}, or the error
+	 * 	which stopped it, along with its position
+	 */
+	private static List<String> parse(JSonPosParser parser) {
+		final List<String> res = new ArrayList<>();
+		try {
+			res.add(String.valueOf(parser.json()));
+		} catch (BaseParser.ParsingException e) {
+			res.add("PARSING ERROR: " + e.getMessage() + " at " + e.pos);
+		} catch (LexBuffer.LexicalError e) {
+			res.add(TokensInputs.error(e));
+		}
+		return res;
+	}
+
+	private static byte[] bytes(String s) {
+		return s.getBytes(StandardCharsets.UTF_8);
+	}
+
+	@Override
+	public Map<String, List<String>> apply(Input input) {
+		final Map<String, List<String>> res = new LinkedHashMap<>();
+
+		final TokensLexer lexer = limited(new TokensLexer("a.txt", input.tokensA));
+		skip(lexer, TokensLexer::main, input.stopAfter);
+		if (input.stream) lexer.reset("b.txt", new StringReader(input.tokensB));
+		else lexer.reset("b.txt", input.tokensB);
+		res.put("methods", TokensInputs.tokens(lexer, TokensLexer::main));
+
+		final TokensLoopLexer loop =
+			limited(new TokensLoopLexer("a.txt", new StringReader(input.tokensA)));
+		skip(loop, TokensLoopLexer::main, input.stopAfter);
+		if (input.stream) loop.reset("b.txt", new StringReader(input.tokensB));
+		else loop.reset("b.txt", input.tokensB);
+		res.put("loop", TokensInputs.tokens(loop, TokensLoopLexer::main));
+
+		final byte[] bytesA = bytes(input.tokensA);
+		final TokensByteLexer bytes =
+			limited(new TokensByteLexer("a.txt", bytesA, 0, bytesA.length));
+		skip(bytes, TokensByteLexer::main, input.stopAfter);
+		final byte[] bytesB = bytes(input.tokensB);
+		if (input.stream) bytes.reset("b.txt", new ByteArrayInputStream(bytesB));
+		else bytes.reset("b.txt", bytesB, 0, bytesB.length);
+		res.put("bytes", TokensInputs.tokens(bytes, TokensByteLexer::main));
+
+		final JSonPosParser parser = new JSonPosParser(
+			limited(new JSonPosLexer("a.json", new StringReader(input.jsonA))),
+			JSonPosLexer::main);
+		parse(parser);
+		if (input.stream) parser.reset("b.json", new StringReader(input.jsonB));
+		else parser.reset("b.json", input.jsonB);
+		res.put("parser", parse(parser));
+		return res;
+	}
+
+	@Override
+	public @Nullable String check(Input input, Map<String, List<String>> output) {
+		final Map<String, List<String>> expected = new LinkedHashMap<>();
+		expected.put("methods", TokensInputs.tokens(
+			limited(new TokensLexer("b.txt", new StringReader(input.tokensB))),
+			TokensLexer::main));
+		expected.put("loop", TokensInputs.tokens(
+			limited(new TokensLoopLexer("b.txt", new StringReader(input.tokensB))),
+			TokensLoopLexer::main));
+		final byte[] bytesB = bytes(input.tokensB);
+		expected.put("bytes", TokensInputs.tokens(
+			limited(new TokensByteLexer("b.txt", new ByteArrayInputStream(bytesB))),
+			TokensByteLexer::main));
+		expected.put("parser", parse(new JSonPosParser(
+			limited(new JSonPosLexer("b.json", new StringReader(input.jsonB))),
+			JSonPosLexer::main)));
+		for (Map.Entry<String, List<String>> entry : expected.entrySet()) {
+			final @Nullable List<String> found = output.get(entry.getKey());
+			if (!entry.getValue().equals(found))
+				return "Found " + found + " with the " + entry.getKey()
+					+ " instance which was reset, instead of " + entry.getValue();
+		}
+		return null;
+	}
+
+	private static String escape(String s) {
+		return s.replace("\r", "\\r").replace("\n", "\\n");
+	}
+}
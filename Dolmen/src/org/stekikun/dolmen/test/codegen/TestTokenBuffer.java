@@ -0,0 +1,301 @@
+package org.stekikun.dolmen.test.codegen;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.eclipse.jdt.annotation.Nullable;
+import org.stekikun.dolmen.codegen.TokenBuffer;
+import org.stekikun.dolmen.common.Generator;
+import org.stekikun.dolmen.test.TestUnit;
+import org.stekikun.dolmen.test.examples.TokensLexer;
+
+/**
+ * Testing unit which fills a {@link TokenBuffer} with the tokens
+ * found by {@link TokensLexer} in a random input, {@linkplain
+ * TokenBuffer#clear() clears} it and fills it again with the tokens
+ * of a second input, and checks that the kinds, offsets and values
+ * of the tokens in the buffer, and the ranges of kinds and offsets
+ * copied out of the buffer, are those of the tokens found by the
+ * lexer in each input.
+ * <p>
+ * Inputs often have several times {@link TokenBuffer#CHUNK_SIZE}
+ * tokens, so that the buffer spans several chunks, and copied ranges
+ * are chosen around the boundaries of chunks. Only identifiers and
+ * numbers carry values, so that values are looked up among a subset
+ * of the tokens. The buffer is filled with a random maximal number
+ * of tokens at a time.
+ *
+ * @author Stéphane Lescuyer
+ */
+public final class TestTokenBuffer
+	implements TestUnit<TestTokenBuffer.Input, Map<String, List<String>>> {
+
+	/**
+	 * Inputs for this test unit are the two texts whose tokens
+	 * successively fill the buffer, along with the way the
+	 * buffer is filled and the ranges copied out of it
+	 *
+	 * @author Stéphane Lescuyer
+	 */
+	public static final class Input {
+		final String first;
+		final String second;
+		/** The maximal number of tokens added by each fill */
+		final int batch;
+		/**
+		 * Ranges of tokens to copy, and offsets in the destination,
+		 * which are clamped to the size of the buffer
+		 */
+		final List<int[]> ranges;
+
+		Input(String first, String second, int batch, List<int[]> ranges) {
+			this.first = first;
+			this.second = second;
+			this.batch = batch;
+			this.ranges = ranges;
+		}
+
+		@Override
+		public String toString() {
+			final StringBuilder buf = new StringBuilder("[first=\"");
+			buf.append(escape(first)).append("\", second=\"").append(escape(second))
+				.append("\", batch=").append(batch).append(", ranges=");
+			for (int[] range : ranges)
+				buf.append("[").append(range[0]).append(", ").append(range[1])
+					.append("[+").append(range[2]).append(" ");
+			return buf.append("]").toString();
+		}
+	}
+
+	private final Random random = new Random();
+	private final Generator<String> pieces;
+	private final int maxChunks;
+
+	/** The kinds of tokens, in the order of their integer codes */
+	private final List<String> kinds = new ArrayList<>();
+	/** The integer codes of the kinds of tokens */
+	private final Map<String, Integer> codes = new HashMap<>();
+
+	private int values = 0;
+	private int copied = 0;
+
+	/**
+	 * Returns a new instance of this test unit, which tests inputs
+	 * made of at most {@code maxChunks} chunks of tokens
+	 *
+	 * @param maxChunks
+	 */
+	public TestTokenBuffer(int maxChunks) {
+		this.pieces = TokensInputs.generator(random, 30);
+		this.maxChunks = maxChunks;
+	}
+
+	@Override
+	public String name() {
+		return "Testing that token buffers hold the tokens found by lexers.";
+	}
+
+	/**
+	 * @return a text made of random pieces which are lexed
+	 * 	without errors, with a random number of tokens
+	 */
+	private String text() {
+		final int target = random.nextInt(4) == 0 ?
+			random.nextInt(64) : random.nextInt(maxChunks * TokenBuffer.CHUNK_SIZE + 1);
+		final StringBuilder buf = new StringBuilder();
+		int tokens = 0;
+		while (tokens < target) {
+			final String piece = pieces.generate();
+			final List<String> found =
+				TokensInputs.tokens(new TokensLexer("piece", piece), TokensLexer::main);
+			if (!TokensInputs.isEnd(found.get(found.size() - 1))) continue;
+			buf.append(piece).append('\n');
+			tokens += found.size() - 1;
+		}
+		return buf.toString();
+	}
+
+	@Override
+	public Generator<Input> generator() {
+		return new Generator<Input>() {
+			@Override
+			public String name() {
+				return "Random inputs and ranges of tokens";
+			}
+
+			@Override
+			public Input generate() {
+				final String first = text();
+				final String second = text();
+				final List<int[]> ranges = new ArrayList<>();
+				for (int i = random.nextInt(8); i >= 0; --i) {
+					// Ranges around the boundaries of chunks
+					final int boundary =
+						random.nextInt(maxChunks + 1) * TokenBuffer.CHUNK_SIZE;
+					final int from = Math.max(0, boundary - random.nextInt(8));
+					final int to = from + random.nextInt(random.nextBoolean() ?
+						16 : 2 * TokenBuffer.CHUNK_SIZE + 1);
+					ranges.add(new int[] { from, to, random.nextInt(4) });
+				}
+				return new Input(first, second,
+					1 + random.nextInt(2 * TokenBuffer.CHUNK_SIZE), ranges);
+			}
+		};
+	}
+
+	private static String kind(String token) {
+		return token.substring(0, token.indexOf('('));
+	}
+
+	private int code(String token) {
+		final String kind = kind(token);
+		final @Nullable Integer code = codes.get(kind);
+		if (code != null) return code;
+		codes.put(kind, kinds.size());
+		kinds.add(kind);
+		return kinds.size() - 1;
+	}
+
+	private static @Nullable String value(String token) {
+		return token.startsWith("IDENT(") || token.startsWith("NUMBER(") ? token : null;
+	}
+
+	private String describe(int kind, int start, int end) {
+		return kinds.get(kind) + "@" + start + "-" + end;
+	}
+
+	/**
+	 * Fills {@code buffer} with the tokens of {@code text}, and describes
+	 * the tokens in the buffer and the given ranges copied out of it
+	 *
+	 * @param buffer
+	 * @param text
+	 * @param input
+	 * @param name
+	 * @param res
+	 */
+	private void fill(TokenBuffer buffer, String text, Input input,
+			String name, Map<String, List<String>> res) {
+		final TokensLexer lexer = new TokensLexer("input", text);
+		final List<String> counts = new ArrayList<>();
+		while (true) {
+			final int count = buffer.fill(lexer, TokensLexer::main, this::code,
+				TestTokenBuffer::value, TokensInputs::isEnd, input.batch);
+			counts.add("" + count);
+			if (count < input.batch
+				|| kinds.get(buffer.getKind(buffer.size() - 1)).equals("EOF")) break;
+		}
+		res.put(name + " fills", counts);
+
+		final List<String> tokens = new ArrayList<>();
+		for (int i = 0; i < buffer.size(); ++i) {
+			final @Nullable Object value = buffer.getValue(i);
+			tokens.add(describe(buffer.getKind(i), buffer.getStart(i), buffer.getEnd(i))
+				+ (value == null ? "" : "=" + value));
+		}
+		tokens.add(buffer.valuesCount() + " values");
+		res.put(name, tokens);
+
+		for (int[] range : input.ranges) {
+			final int from = Math.min(range[0], buffer.size());
+			final int to = Math.min(range[1], buffer.size());
+			final int off = range[2];
+			final int[] kindsCopy = new int[off + to - from];
+			final int[] starts = new int[off + to - from];
+			final int[] ends = new int[off + to - from];
+			buffer.getKinds(from, to, kindsCopy, off);
+			buffer.getStarts(from, to, starts, off);
+			buffer.getEnds(from, to, ends, off);
+			final List<String> copy = new ArrayList<>();
+			for (int i = off; i < kindsCopy.length; ++i)
+				copy.add(describe(kindsCopy[i], starts[i], ends[i]));
+			res.put(name + " [" + from + ", " + to + "[", copy);
+		}
+	}
+
+	@Override
+	public Map<String, List<String>> apply(Input input) {
+		final Map<String, List<String>> res = new LinkedHashMap<>();
+		final TokenBuffer buffer = new TokenBuffer();
+		fill(buffer, input.first, input, "first", res);
+		buffer.clear();
+		fill(buffer, input.second, input, "second", res);
+		return res;
+	}
+
+	/**
+	 * @param token
+	 * @return the description of {@code token} in a buffer
+	 */
+	private static String expected(String token) {
+		final String[] offsets =
+			token.substring(token.lastIndexOf(")@") + 2, token.indexOf(':', token.lastIndexOf(")@")))
+				.split("-");
+		return kind(token) + "@" + offsets[0] + "-" + offsets[1];
+	}
+
+	@Override
+	public @Nullable String check(Input input, Map<String, List<String>> output) {
+		final String[] texts = { input.first, input.second };
+		final String[] names = { "first", "second" };
+		for (int k = 0; k < texts.length; ++k) {
+			final List<String> tokens =
+				TokensInputs.tokens(new TokensLexer("input", texts[k]), TokensLexer::main);
+			final List<String> expected = new ArrayList<>();
+			final List<String> bare = new ArrayList<>();
+			int nvalues = 0;
+			for (String token : tokens) {
+				final @Nullable String value = value(token);
+				expected.add(expected(token) + (value == null ? "" : "=" + value));
+				bare.add(expected(token));
+				if (value != null) ++nvalues;
+			}
+			values += nvalues;
+			expected.add(nvalues + " values");
+			final @Nullable List<String> found = output.get(names[k]);
+			if (!expected.equals(found))
+				return "Found tokens " + found + " in the buffer filled with the "
+					+ names[k] + " input instead of " + expected;
+
+			// All fills but the last one add as many tokens as allowed
+			final @Nullable List<String> counts = output.get(names[k] + " fills");
+			if (counts == null) return "Missing fills for the " + names[k] + " input";
+			int total = 0;
+			for (int i = 0; i < counts.size(); ++i) {
+				final int count = Integer.parseInt(counts.get(i));
+				if (count > input.batch || (i < counts.size() - 1 && count != input.batch))
+					return "Fill " + i + " added " + count + " tokens out of "
+						+ input.batch + " with the " + names[k] + " input";
+				total += count;
+			}
+			if (total != tokens.size())
+				return "Fills added " + total + " tokens instead of " + tokens.size()
+					+ " with the " + names[k] + " input";
+
+			for (int[] range : input.ranges) {
+				final int from = Math.min(range[0], tokens.size());
+				final int to = Math.min(range[1], tokens.size());
+				final String key = names[k] + " [" + from + ", " + to + "[";
+				if (!bare.subList(from, to).equals(output.get(key)))
+					return "Found tokens " + output.get(key) + " when copying the range "
+						+ key + " instead of " + bare.subList(from, to);
+				copied += to - from;
+			}
+		}
+		return null;
+	}
+
+	@Override
+	public void postHook() {
+		System.out.printf("%d tokens with values were looked up, and %d tokens"
+			+ " were copied\n", values, copied);
+	}
+
+	private static String escape(String s) {
+		return s.replace("\r", "\\r").replace("\n", "\\n");
+	}
+}
@@ -0,0 +1,110 @@
+package org.stekikun.dolmen.test.codegen;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+
+import org.stekikun.dolmen.codegen.LexBuffer;
+import org.stekikun.dolmen.common.Generator;
+
+/**
+ * Utilities for the tests which run the lexers generated from
+ * {@code tests/jl/Tokens.jl}, such as
+ * {@link org.stekikun.dolmen.test.examples.TokensLexer}, in
+ * different ways and compare the tokens they find.
+ * <p>
+ * Inputs are random sequences of fragments which exercise all
+ * clauses of the lexer, including multi-line comments, the various
+ * line terminators, non-ASCII characters and a few lexical errors.
+ *
+ * @author Stéphane Lescuyer
+ */
+final class TokensInputs {
+
+	private TokensInputs() {
+		// Static utilities only
+	}
+
+	/** The fragments used to build inputs */
+	private static final String[] FRAGMENTS = {
+		"abc", "x", "x1", "_y", "if", "If", "IF", "iF", "in", "int", "into",
+		"do", "od", "else", "while", "whilst",
+		" ", "  ", "\t", "\n", "\r\n", "\r", "\n\n",
+		"0", "42", "3.14", "7.", "'a'", "'\"'", "''",
+		"+", "-", "(", ")", "{", "}", ";", "/", "*",
+		"\"str\"", "\"a\\\"b\"", "\"été\"",
+		"// line \" comment", "/* short */", "/* x\n\" y\r\n*/", "/*\r\n\r*/",
+		"é", "中文", " ",
+	};
+
+	/** Fragments which are likely to cause lexical errors */
+	private static final String[] ERRORS = {
+		"@", "\"", "/*", "\"\\\n\"",
+	};
+
+	/**
+	 * @param random
+	 * @param maxFragments
+	 * @return a generator of inputs made of at most
+	 * 	{@code maxFragments} fragments
+	 */
+	static Generator<String> generator(Random random, int maxFragments) {
+		return new Generator<String>() {
+			@Override
+			public String name() {
+				return "Random inputs for the Tokens lexers";
+			}
+
+			@Override
+			public String generate() {
+				final StringBuilder buf = new StringBuilder();
+				final int n = random.nextInt(maxFragments + 1);
+				for (int i = 0; i < n; ++i) {
+					if (random.nextInt(100) == 0)
+						buf.append(ERRORS[random.nextInt(ERRORS.length)]);
+					else
+						buf.append(FRAGMENTS[random.nextInt(FRAGMENTS.length)]);
+				}
+				return buf.toString();
+			}
+		};
+	}
+
+	/**
+	 * @param token
+	 * @return whether {@code token} is the last token of the input
+	 */
+	static boolean isEnd(String token) {
+		return token.startsWith("EOF(");
+	}
+
+	/**
+	 * @param lexer
+	 * @param entry
+	 * @return the tokens found by calling {@code entry} on {@code lexer}
+	 * 	until the end of input, followed by the message of the lexical
+	 * 	error which stopped the analysis if any
+	 */
+	static <L extends LexBuffer> List<String> tokens(L lexer, Function<L, String> entry) {
+		final List<String> res = new ArrayList<>();
+		try {
+			while (true) {
+				final String token = entry.apply(lexer);
+				res.add(token);
+				if (isEnd(token)) break;
+			}
+		} catch (LexBuffer.LexicalError e) {
+			res.add(error(e));
+		}
+		return res;
+	}
+
+	/**
+	 * @param e
+	 * @return the description of a lexical error in a list of tokens
+	 */
+	static String error(LexBuffer.LexicalError e) {
+		return "ERROR: " + e.getMessage();
+	}
+}
@@ -0,0 +1 @@
+@org.eclipse.jdt.annotation.NonNullByDefault package org.stekikun.dolmen.test.codegen;
\ No newline at end of file
@@ -19,6 +19,27 @@ public final class Alphabet extends org.stekikun.dolmen.codegen.LexBuffer {
         super("1.0.0", inputname, reader);
     }
     
+    /**
+     * Returns a fresh lexer based on the given range of characters,
+     * which is used in place and must not be modified while lexing
+     * @param inputname
+     * @param chars
+     * @param offset
+     * @param length
+     */
+    public Alphabet(String inputname, char[] chars, int offset, int length) {
+        super("1.0.0", inputname, chars, offset, length);
+    }
+    
+    /**
+     * Returns a fresh lexer based on the given in-memory characters
+     * @param inputname
+     * @param input
+     */
+    public Alphabet(String inputname, CharSequence input) {
+        super("1.0.0", inputname, input);
+    }
+    
     /**
      * Entry point for rule main
      */
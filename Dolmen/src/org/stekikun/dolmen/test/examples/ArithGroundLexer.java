@@ -18,6 +18,27 @@ public final class ArithGroundLexer extends org.stekikun.dolmen.codegen.LexBuffe
         super("1.0.0", inputname, reader);
     }
     
+    /**
+     * Returns a fresh lexer based on the given range of characters,
+     * which is used in place and must not be modified while lexing
+     * @param inputname
+     * @param chars
+     * @param offset
+     * @param length
+     */
+    public ArithGroundLexer(String inputname, char[] chars, int offset, int length) {
+        super("1.0.0", inputname, chars, offset, length);
+    }
+    
+    /**
+     * Returns a fresh lexer based on the given in-memory characters
+     * @param inputname
+     * @param input
+     */
+    public ArithGroundLexer(String inputname, CharSequence input) {
+        super("1.0.0", inputname, input);
+    }
+    
     /**
      * Entry point for rule main
      */
@@ -33,7 +54,7 @@ public final class ArithGroundLexer extends org.stekikun.dolmen.codegen.LexBuffe
                  continue main; 
             }
             case 1:  {
-                 return INT(Integer.parseInt(getLexeme())); 
+                 return INT(getLexemeAsInt(10)); 
             }
             case 2:  {
                  return PLUS; 
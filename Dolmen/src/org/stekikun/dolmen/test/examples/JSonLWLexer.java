@@ -34,6 +34,27 @@ public final class JSonLWLexer extends org.stekikun.dolmen.codegen.LexBuffer {
         super("1.0.0", inputname, reader);
     }
     
+    /**
+     * Returns a fresh lexer based on the given range of characters,
+     * which is used in place and must not be modified while lexing
+     * @param inputname
+     * @param chars
+     * @param offset
+     * @param length
+     */
+    public JSonLWLexer(String inputname, char[] chars, int offset, int length) {
+        super("1.0.0", inputname, chars, offset, length);
+    }
+    
+    /**
+     * Returns a fresh lexer based on the given in-memory characters
+     * @param inputname
+     * @param input
+     */
+    public JSonLWLexer(String inputname, CharSequence input) {
+        super("1.0.0", inputname, input);
+    }
+    
     /**
      * Entry point for rule main
      */
@@ -158,7 +179,7 @@ public final class JSonLWLexer extends org.stekikun.dolmen.codegen.LexBuffer {
             endToken();
             switch (result) {
             case 0:  {
-                 return (char)(Integer.parseInt(getLexeme(), 16)); 
+                 return (char) getLexemeAsInt(16); 
             }
             case 1:  {
                  throw error("Illegal \\u Unicode sequence"); 
@@ -0,0 +1,3579 @@
+package org.stekikun.dolmen.test.examples;
+
+/**
+ * Lexer generated by Dolmen 1.0.0
+ */
+public final class KeywordsHashedByteLexer extends org.stekikun.dolmen.codegen.ByteLexBuffer {
+    
+    
+	private String token(String kind) {
+		return kind + "(" + getLexeme() + ")";
+	}
+
+    
+    /**
+     * Returns a fresh lexer based on the given UTF-8 byte stream
+     * @param inputname
+     * @param input
+     */
+    public KeywordsHashedByteLexer(String inputname, java.io.InputStream input) {
+        super("1.0.0", inputname, input);
+    }
+    
+    /**
+     * Returns a fresh lexer based on the given range of UTF-8 bytes
+     * @param inputname
+     * @param bytes
+     * @param offset
+     * @param length
+     */
+    public KeywordsHashedByteLexer(String inputname, byte[] bytes, int offset, int length) {
+        super("1.0.0", inputname, bytes, offset, length);
+    }
+    
+    /**
+     * Returns a fresh lexer based on the remaining UTF-8 bytes in {@code input}
+     * @param inputname
+     * @param input
+     */
+    public KeywordsHashedByteLexer(String inputname, java.nio.ByteBuffer input) {
+        super("1.0.0", inputname, input);
+    }
+    
+    /**
+     * Entry point for rule main
+     */
+    public  String  main() {
+        final boolean _jl_top = enterEntry();
+        main:
+        while (true) {
+            // Initialize lexer for this automaton
+            startToken();
+            int result = _jl_loop_main(startMatch(0, _jl_top));
+            endToken();
+            if (result == 70) result = keyword(_jl_kw_main_70, _jl_kw_main_70_actions, _jl_kw_main_70_seeds, 70);
+            if (result == 77) result = keyword(_jl_kw_main_77, _jl_kw_main_77_actions, _jl_kw_main_77_seeds, 77);
+            switch (result) {
+            case 0:  {
+                 continue main; 
+            }
+            case 1:  {
+                 return token("GO"); 
+            }
+            case 2:  {
+                 return token("K0"); 
+            }
+            case 3:  {
+                 return token("K1"); 
+            }
+            case 4:  {
+                 return token("K2"); 
+            }
+            case 5:  {
+                 return token("K3"); 
+            }
+            case 6:  {
+                 return token("K4"); 
+            }
+            case 7:  {
+                 return token("K5"); 
+            }
+            case 8:  {
+                 return token("K6"); 
+            }
+            case 9:  {
+                 return token("K7"); 
+            }
+            case 10:  {
+                 return token("K8"); 
+            }
+            case 11:  {
+                 return token("K9"); 
+            }
+            case 12:  {
+                 return token("K10"); 
+            }
+            case 13:  {
+                 return token("K11"); 
+            }
+            case 14:  {
+                 return token("K12"); 
+            }
+            case 15:  {
+                 return token("K13"); 
+            }
+            case 16:  {
+                 return token("K14"); 
+            }
+            case 17:  {
+                 return token("K15"); 
+            }
+            case 18:  {
+                 return token("K16"); 
+            }
+            case 19:  {
+                 return token("K17"); 
+            }
+            case 20:  {
+                 return token("K18"); 
+            }
+            case 21:  {
+                 return token("K19"); 
+            }
+            case 22:  {
+                 return token("K20"); 
+            }
+            case 23:  {
+                 return token("K21"); 
+            }
+            case 24:  {
+                 return token("K22"); 
+            }
+            case 25:  {
+                 return token("K23"); 
+            }
+            case 26:  {
+                 return token("K24"); 
+            }
+            case 27:  {
+                 return token("K25"); 
+            }
+            case 28:  {
+                 return token("K26"); 
+            }
+            case 29:  {
+                 return token("K27"); 
+            }
+            case 30:  {
+                 return token("K28"); 
+            }
+            case 31:  {
+                 return token("K29"); 
+            }
+            case 32:  {
+                 return token("K30"); 
+            }
+            case 33:  {
+                 return token("K31"); 
+            }
+            case 34:  {
+                 return token("K32"); 
+            }
+            case 35:  {
+                 return token("K33"); 
+            }
+            case 36:  {
+                 return token("K34"); 
+            }
+            case 37:  {
+                 return token("K35"); 
+            }
+            case 38:  {
+                 return token("K36"); 
+            }
+            case 39:  {
+                 return token("K37"); 
+            }
+            case 40:  {
+                 return token("K38"); 
+            }
+            case 41:  {
+                 return token("K39"); 
+            }
+            case 42:  {
+                 return token("K40"); 
+            }
+            case 43:  {
+                 return token("K41"); 
+            }
+            case 44:  {
+                 return token("K42"); 
+            }
+            case 45:  {
+                 return token("K43"); 
+            }
+            case 46:  {
+                 return token("K44"); 
+            }
+            case 47:  {
+                 return token("K45"); 
+            }
+            case 48:  {
+                 return token("K46"); 
+            }
+            case 49:  {
+                 return token("K47"); 
+            }
+            case 50:  {
+                 return token("K48"); 
+            }
+            case 51:  {
+                 return token("K49"); 
+            }
+            case 52:  {
+                 return token("K50"); 
+            }
+            case 53:  {
+                 return token("K51"); 
+            }
+            case 54:  {
+                 return token("K52"); 
+            }
+            case 55:  {
+                 return token("K53"); 
+            }
+            case 56:  {
+                 return token("K54"); 
+            }
+            case 57:  {
+                 return token("K55"); 
+            }
+            case 58:  {
+                 return token("K56"); 
+            }
+            case 59:  {
+                 return token("K57"); 
+            }
+            case 60:  {
+                 return token("K58"); 
+            }
+            case 61:  {
+                 return token("K59"); 
+            }
+            case 62:  {
+                 return token("K60"); 
+            }
+            case 63:  {
+                 return token("K61"); 
+            }
+            case 64:  {
+                 return token("K62"); 
+            }
+            case 65:  {
+                 return token("K63"); 
+            }
+            case 66:  {
+                 return token("K64"); 
+            }
+            case 67:  {
+                 return token("K65"); 
+            }
+            case 68:  {
+                 return token("K66"); 
+            }
+            case 69:  {
+                 return token("K67"); 
+            }
+            case 70:  {
+                 return token("IDENT"); 
+            }
+            case 71:  {
+                 return token("D0"); 
+            }
+            case 72:  {
+                 return token("D1"); 
+            }
+            case 73:  {
+                 return token("D2"); 
+            }
+            case 74:  {
+                 return token("DIRECTIVE"); 
+            }
+            case 75:  {
+                 return token("N0"); 
+            }
+            case 76:  {
+                 return token("N1"); 
+            }
+            case 77:  {
+                 return token("NUMBER"); 
+            }
+            case 78:  {
+                 return token("EOF"); 
+            }
+            case 79:  {
+                 return token("OTHER"); 
+            }
+            default:
+                break main;
+            }
+        }
+        throw error("Empty token");
+    }
+    private static final String[] _jl_kw_main_70 = {
+        "", "", "", "", "", "", "", "catch", "", "eLsE", "ELSE", "", "", 
+        "private", "extends", "do", "import", "transient", "switch", "", 
+        "public", "byte", "implements", "", "IF", "", "\303\211T\303\211", 
+        "super", "true", "", "", "continue", "break", "", "", "", "", "for", "", 
+        "", "FOR", "", "", "", "", "int", "enum", "", "", "char", "", "", "", 
+        "while", "short", "throws", "Else", "", "void", "finally", "", "", "", 
+        "interface", "", "final", "", "", "default", "", "", "", "package", 
+        "null", "assert", "", "", "", "foR", "", "static", "", "native", "", "", 
+        "throw", "", "try", "", "", "long", "synchronized", "", "this", "false", 
+        "abstract", "", "instanceof", "For", "iF", "else", "class", "", 
+        "double", "float", "", "case", "fOR", "volatile", "fOr", "return", "if", 
+        "", "", "boolean", "If", "", "FoR", "FOr", "", "\303\251t\303\251", "", 
+        "", "", "", "", "new", ""
+    };
+    private static final int[] _jl_kw_main_70_actions = {
+        -1, -1, -1, -1, -1, -1, -1, 41, -1, 17, 16, -1, -1, 22, 52, 49, 50, 59, 
+        44, -1, 21, 29, 53, -1, 5, -1, 67, 39, 34, -1, -1, 48, 47, -1, -1, -1, 
+        -1, 6, -1, -1, 13, -1, -1, -1, -1, 26, 61, -1, -1, 28, -1, -1, -1, 18, 
+        30, 43, 15, -1, 25, 63, -1, -1, -1, 54, -1, 24, -1, -1, 46, -1, -1, -1, 
+        51, 36, 60, -1, -1, -1, 7, -1, 23, -1, 56, -1, -1, 42, -1, 40, -1, -1, 
+        27, 58, -1, 38, 35, 55, -1, 62, 10, 3, 14, 20, -1, 31, 32, -1, 45, 9, 
+        57, 8, 19, 2, -1, -1, 33, 4, -1, 11, 12, -1, 66, -1, -1, -1, -1, -1, 37, 
+        -1
+    };
+    private static final int[] _jl_kw_main_70_seeds = {
+        1, 4, 1, 1, 1, 2, 1, 0, 0, 2, 1, 0, 2, 4, 1, 10, 3, 0, 4, 1, 1, 1, 5, 0, 
+        1, 4, 2, 1, 2, 1, 1, 7
+    };
+    private static final String[] _jl_kw_main_77 = {
+        "", "0x", "00", ""
+    };
+    private static final int[] _jl_kw_main_77_actions = {
+        -1, 75, 76, -1
+    };
+    private static final int[] _jl_kw_main_77_seeds = {
+        1
+    };
+    
+    @SuppressWarnings("fallthrough")
+    private int _jl_loop_main(int _jl_state) {
+        char[] _jl_buf = tokenBuf;
+        int _jl_pos = curPos;
+        int _jl_limit = bufLimit;
+        while (true) {
+            switch (_jl_state) {
+            case 0:
+            case -1: {
+                final char _jl_char;
+                if (_jl_pos < _jl_limit) _jl_char = _jl_buf[_jl_pos++];
+                else {
+                    curPos = _jl_pos;
+                    _jl_char = getNextChar(0);
+                    _jl_pos = curPos;
+                    _jl_buf = tokenBuf;
+                    _jl_limit = bufLimit;
+                }
+                if (_jl_char <= 255) {
+                    switch (_jl_table0[_jl_char]) {
+                    // [0x0000-0x0008 0x000b-0x000c 0x000e-0x001f !-" $-* ,-/ :-@ \[-\^ 0x0060 {-0x007f ÿ]
+                    case 0: {
+                        curPos = _jl_pos;
+                        return 79;
+                    }
+                    // [0x0009-0x000a 0x000d 0x0020]
+                    case 1: {
+                        _jl_state = 22;
+                        continue;
+                    }
+                    // #
+                    case 2: {
+                        _jl_state = 12;
+                        continue;
+                    }
+                    // +
+                    case 3: {
+                        _jl_state = 16;
+                        continue;
+                    }
+                    // [0-9]
+                    case 4: {
+                        _jl_state = 11;
+                        continue;
+                    }
+                    // [A-Z \_ b-f h-w y-z]
+                    case 5: {
+                        _jl_state = 14;
+                        continue;
+                    }
+                    // a
+                    case 6: {
+                        _jl_state = 17;
+                        continue;
+                    }
+                    // g
+                    case 7: {
+                        _jl_state = 21;
+                        continue;
+                    }
+                    // x
+                    case 8: {
+                        _jl_state = 15;
+                        continue;
+                    }
+                    // [Â Ä-ß]
+                    case 10: {
+                        _jl_state = 8;
+                        continue;
+                    }
+                    // Ã
+                    case 11: {
+                        _jl_state = 13;
+                        continue;
+                    }
+                    // à
+                    case 12: {
+                        _jl_state = 7;
+                        continue;
+                    }
+                    // [á-ì]
+                    case 13: {
+                        _jl_state = 6;
+                        continue;
+                    }
+                    // í
+                    case 14: {
+                        _jl_state = 5;
+                        continue;
+                    }
+                    // î
+                    case 15: {
+                        _jl_state = 4;
+                        continue;
+                    }
+                    // ï
+                    case 16: {
+                        _jl_state = 3;
+                        continue;
+                    }
+                    // ð
+                    case 17: {
+                        _jl_state = 2;
+                        continue;
+                    }
+                    // [ñ-ó]
+                    case 18: {
+                        _jl_state = 1;
+                        continue;
+                    }
+                    // ô
+                    case 19: {
+                        _jl_state = 20;
+                        continue;
+                    }
+                    // ý
+                    case 20: {
+                        _jl_state = 18;
+                        continue;
+                    }
+                    // þ
+                    case 21: {
+                        _jl_state = 19;
+                        continue;
+                    }
+                    default:  {
+                        return rewind();
+                    }
+                    }
+                } else  {
+                    switch (_jl_char) {
+                    // EOF
+                    case 65535: {
+                        curPos = _jl_pos;
+                        return 78;
+                    }
+                    default:  {
+                        return rewind();
+                    }
+                    }
+                }
+            }
+            case 1:
+            case -2: {
+                final char _jl_char;
+                if (_jl_pos < _jl_limit) _jl_char = _jl_buf[_jl_pos++];
+                else {
+                    curPos = _jl_pos;
+                    _jl_char = getNextChar(1);
+                    _jl_pos = curPos;
+                    _jl_buf = tokenBuf;
+                    _jl_limit = bufLimit;
+                }
+                switch (_jl_char) {
+                // [0x0080-0x00bf]
+                case 128:
+                case 129:
+                case 130:
+                case 131:
+                case 132:
+                case 133:
+                case 134:
+                case 135:
+                case 136:
+                case 137:
+                case 138:
+                case 139:
+                case 140:
+                case 141:
+                case 142:
+                case 143:
+                case 144:
+                case 145:
+                case 146:
+                case 147:
+                case 148:
+                case 149:
+                case 150:
+                case 151:
+                case 152:
+                case 153:
+                case 154:
+                case 155:
+                case 156:
+                case 157:
+                case 158:
+                case 159:
+                case 160:
+                case 161:
+                case 162:
+                case 163:
+                case 164:
+                case 165:
+                case 166:
+                case 167:
+                case 168:
+                case 169:
+                case 170:
+                case 171:
+                case 172:
+                case 173:
+                case 174:
+                case 175:
+                case 176:
+                case 177:
+                case 178:
+                case 179:
+                case 180:
+                case 181:
+                case 182:
+                case 183:
+                case 184:
+                case 185:
+                case 186:
+                case 187:
+                case 188:
+                case 189:
+                case 190:
+                case 191: {
+                    _jl_state = 46;
+                    continue;
+                }
+                default:  {
+                    return rewind();
+                }
+                }
+            }
+            case 2:
+            case -3: {
+                final char _jl_char;
+                if (_jl_pos < _jl_limit) _jl_char = _jl_buf[_jl_pos++];
+                else {
+                    curPos = _jl_pos;
+                    _jl_char = getNextChar(2);
+                    _jl_pos = curPos;
+                    _jl_buf = tokenBuf;
+                    _jl_limit = bufLimit;
+                }
+                switch (_jl_char) {
+                // [0x0090-0x00bf]
+                case 144:
+                case 145:
+                case 146:
+                case 147:
+                case 148:
+                case 149:
+                case 150:
+                case 151:
+                case 152:
+                case 153:
+                case 154:
+                case 155:
+                case 156:
+                case 157:
+                case 158:
+                case 159:
+                case 160:
+                case 161:
+                case 162:
+                case 163:
+                case 164:
+                case 165:
+                case 166:
+                case 167:
+                case 168:
+                case 169:
+                case 170:
+                case 171:
+                case 172:
+                case 173:
+                case 174:
+                case 175:
+                case 176:
+                case 177:
+                case 178:
+                case 179:
+                case 180:
+                case 181:
+                case 182:
+                case 183:
+                case 184:
+                case 185:
+                case 186:
+                case 187:
+                case 188:
+                case 189:
+                case 190:
+                case 191: {
+                    _jl_state = 44;
+                    continue;
+                }
+                default:  {
+                    return rewind();
+                }
+                }
+            }
+            case 3:
+            case -4: {
+                final char _jl_char;
+                if (_jl_pos < _jl_limit) _jl_char = _jl_buf[_jl_pos++];
+                else {
+                    curPos = _jl_pos;
+                    _jl_char = getNextChar(3);
+                    _jl_pos = curPos;
+                    _jl_buf = tokenBuf;
+                    _jl_limit = bufLimit;
+                }
+                switch (_jl_char) {
+                // [0x0080-0x00be]
+                case 128:
+                case 129:
+                case 130:
+                case 131:
+                case 132:
+                case 133:
+                case 134:
+                case 135:
+                case 136:
+                case 137:
+                case 138:
+                case 139:
+                case 140:
+                case 141:
+                case 142:
+                case 143:
+                case 144:
+                case 145:
+                case 146:
+                case 147:
+                case 148:
+                case 149:
+                case 150:
+                case 151:
+                case 152:
+                case 153:
+                case 154:
+                case 155:
+                case 156:
+                case 157:
+                case 158:
+                case 159:
+                case 160:
+                case 161:
+                case 162:
+                case 163:
+                case 164:
+                case 165:
+                case 166:
+                case 167:
+                case 168:
+                case 169:
+                case 170:
+                case 171:
+                case 172:
+                case 173:
+                case 174:
+                case 175:
+                case 176:
+                case 177:
+                case 178:
+                case 179:
+                case 180:
+                case 181:
+                case 182:
+                case 183:
+                case 184:
+                case 185:
+                case 186:
+                case 187:
+                case 188:
+                case 189:
+                case 190: {
+                    _jl_state = 43;
+                    continue;
+                }
+                // 0x00bf
+                case 191: {
+                    _jl_state = 42;
+                    continue;
+                }
+                default:  {
+                    return rewind();
+                }
+                }
+            }
+            case 4:
+            case -5: {
+                final char _jl_char;
+                if (_jl_pos < _jl_limit) _jl_char = _jl_buf[_jl_pos++];
+                else {
+                    curPos = _jl_pos;
+                    _jl_char = getNextChar(4);
+                    _jl_pos = curPos;
+                    _jl_buf = tokenBuf;
+                    _jl_limit = bufLimit;
+                }
+                switch (_jl_char) {
+                // [0x0080-0x00bf]
+                case 128:
+                case 129:
+                case 130:
+                case 131:
+                case 132:
+                case 133:
+                case 134:
+                case 135:
+                case 136:
+                case 137:
+                case 138:
+                case 139:
+                case 140:
+                case 141:
+                case 142:
+                case 143:
+                case 144:
+                case 145:
+                case 146:
+                case 147:
+                case 148:
+                case 149:
+                case 150:
+                case 151:
+                case 152:
+                case 153:
+                case 154:
+                case 155:
+                case 156:
+                case 157:
+                case 158:
+                case 159:
+                case 160:
+                case 161:
+                case 162:
+                case 163:
+                case 164:
+                case 165:
+                case 166:
+                case 167:
+                case 168:
+                case 169:
+                case 170:
+                case 171:
+                case 172:
+                case 173:
+                case 174:
+                case 175:
+                case 176:
+                case 177:
+                case 178:
+                case 179:
+                case 180:
+                case 181:
+                case 182:
+                case 183:
+                case 184:
+                case 185:
+                case 186:
+                case 187:
+                case 188:
+                case 189:
+                case 190:
+                case 191: {
+                    _jl_state = 41;
+                    continue;
+                }
+                default:  {
+                    return rewind();
+                }
+                }
+            }
+            case 5:
+            case -6: {
+                final char _jl_char;
+                if (_jl_pos < _jl_limit) _jl_char = _jl_buf[_jl_pos++];
+                else {
+                    curPos = _jl_pos;
+                    _jl_char = getNextChar(5);
+                    _jl_pos = curPos;
+                    _jl_buf = tokenBuf;
+                    _jl_limit = bufLimit;
+                }
+                switch (_jl_char) {
+                // [0x0080-0x009f]
+                case 128:
+                case 129:
+                case 130:
+                case 131:
+                case 132:
+                case 133:
+                case 134:
+                case 135:
+                case 136:
+                case 137:
+                case 138:
+                case 139:
+                case 140:
+                case 141:
+                case 142:
+                case 143:
+                case 144:
+                case 145:
+                case 146:
+                case 147:
+                case 148:
+                case 149:
+                case 150:
+                case 151:
+                case 152:
+                case 153:
+                case 154:
+                case 155:
+                case 156:
+                case 157:
+                case 158:
+                case 159: {
+                    _jl_state = 40;
+                    continue;
+                }
+                default:  {
+                    return rewind();
+                }
+                }
+            }
+            case 6:
+            case -7: {
+                final char _jl_char;
+                if (_jl_pos < _jl_limit) _jl_char = _jl_buf[_jl_pos++];
+                else {
+                    curPos = _jl_pos;
+                    _jl_char = getNextChar(6);
+                    _jl_pos = curPos;
+                    _jl_buf = tokenBuf;
+                    _jl_limit = bufLimit;
+                }
+                switch (_jl_char) {
+                // [0x0080-0x00bf]
+                case 128:
+                case 129:
+                case 130:
+                case 131:
+                case 132:
+                case 133:
+                case 134:
+                case 135:
+                case 136:
+                case 137:
+                case 138:
+                case 139:
+                case 140:
+                case 141:
+                case 142:
+                case 143:
+                case 144:
+                case 145:
+                case 146:
+                case 147:
+                case 148:
+                case 149:
+                case 150:
+                case 151:
+                case 152:
+                case 153:
+                case 154:
+                case 155:
+                case 156:
+                case 157:
+                case 158:
+                case 159:
+                case 160:
+                case 161:
+                case 162:
+                case 163:
+                case 164:
+                case 165:
+                case 166:
+                case 167:
+                case 168:
+                case 169:
+                case 170:
+                case 171:
+                case 172:
+                case 173:
+                case 174:
+                case 175:
+                case 176:
+                case 177:
+                case 178:
+                case 179:
+                case 180:
+                case 181:
+                case 182:
+                case 183:
+                case 184:
+                case 185:
+                case 186:
+                case 187:
+                case 188:
+                case 189:
+                case 190:
+                case 191: {
+                    _jl_state = 39;
+                    continue;
+                }
+                default:  {
+                    return rewind();
+                }
+                }
+            }
+            case 7:
+            case -8: {
+                final char _jl_char;
+                if (_jl_pos < _jl_limit) _jl_char = _jl_buf[_jl_pos++];
+                else {
+                    curPos = _jl_pos;
+                    _jl_char = getNextChar(7);
+                    _jl_pos = curPos;
+                    _jl_buf = tokenBuf;
+                    _jl_limit = bufLimit;
+                }
+                switch (_jl_char) {
+                // [0x00a0-0x00bf]
+                case 160:
+                case 161:
+                case 162:
+                case 163:
+                case 164:
+                case 165:
+                case 166:
+                case 167:
+                case 168:
+                case 169:
+                case 170:
+                case 171:
+                case 172:
+                case 173:
+                case 174:
+                case 175:
+                case 176:
+                case 177:
+                case 178:
+                case 179:
+                case 180:
+                case 181:
+                case 182:
+                case 183:
+                case 184:
+                case 185:
+                case 186:
+                case 187:
+                case 188:
+                case 189:
+                case 190:
+                case 191: {
+                    _jl_state = 38;
+                    continue;
+                }
+                default:  {
+                    return rewind();
+                }
+                }
+            }
+            case 8:
+            case -9: {
+                final char _jl_char;
+                if (_jl_pos < _jl_limit) _jl_char = _jl_buf[_jl_pos++];
+                else {
+                    curPos = _jl_pos;
+                    _jl_char = getNextChar(8);
+                    _jl_pos = curPos;
+                    _jl_buf = tokenBuf;
+                    _jl_limit = bufLimit;
+                }
+                switch (_jl_char) {
+                // [0x0080-0x00bf]
+                case 128:
+                case 129:
+                case 130:
+                case 131:
+                case 132:
+                case 133:
+                case 134:
+                case 135:
+                case 136:
+                case 137:
+                case 138:
+                case 139:
+                case 140:
+                case 141:
+                case 142:
+                case 143:
+                case 144:
+                case 145:
+                case 146:
+                case 147:
+                case 148:
+                case 149:
+                case 150:
+                case 151:
+                case 152:
+                case 153:
+                case 154:
+                case 155:
+                case 156:
+                case 157:
+                case 158:
+                case 159:
+                case 160:
+                case 161:
+                case 162:
+                case 163:
+                case 164:
+                case 165:
+                case 166:
+                case 167:
+                case 168:
+                case 169:
+                case 170:
+                case 171:
+                case 172:
+                case 173:
+                case 174:
+                case 175:
+                case 176:
+                case 177:
+                case 178:
+                case 179:
+                case 180:
+                case 181:
+                case 182:
+                case 183:
+                case 184:
+                case 185:
+                case 186:
+                case 187:
+                case 188:
+                case 189:
+                case 190:
+                case 191: {
+                    curPos = _jl_pos;
+                    return 79;
+                }
+                default:  {
+                    return rewind();
+                }
+                }
+            }
+            case 11:
+                curPos = _jl_pos;
+                mark(77);
+                //$FALL-THROUGH$
+            case -12: {
+                final char _jl_char;
+                if (_jl_pos < _jl_limit) _jl_char = _jl_buf[_jl_pos++];
+                else {
+                    curPos = _jl_pos;
+                    _jl_char = getNextChar(11);
+                    _jl_pos = curPos;
+                    _jl_buf = tokenBuf;
+                    _jl_limit = bufLimit;
+                }
+                switch (_jl_char) {
+                // [0-9 x]
+                case 48:
+                case 49:
+                case 50:
+                case 51:
+                case 52:
+                case 53:
+                case 54:
+                case 55:
+                case 56:
+                case 57:
+                case 120: {
+                    _jl_state = 11;
+                    continue;
+                }
+                default:  {
+                    return rewind();
+                }
+                }
+            }
+            case 12:
+                curPos = _jl_pos;
+                mark(79);
+                //$FALL-THROUGH$
+            case -13: {
+                final char _jl_char;
+                if (_jl_pos < _jl_limit) _jl_char = _jl_buf[_jl_pos++];
+                else {
+                    curPos = _jl_pos;
+                    _jl_char = getNextChar(12);
+                    _jl_pos = curPos;
+                    _jl_buf = tokenBuf;
+                    _jl_limit = bufLimit;
+                }
+                switch (_jl_char) {
+                // [a-d f-h j-z]
+                case 97:
+                case 98:
+                case 99:
+                case 100:
+                case 102:
+                case 103:
+                case 104:
+                case 106:
+                case 107:
+                case 108:
+                case 109:
+                case 110:
+                case 111:
+                case 112:
+                case 113:
+                case 114:
+                case 115:
+                case 116:
+                case 117:
+                case 118:
+                case 119:
+                case 120:
+                case 121:
+                case 122: {
+                    _jl_state = 31;
+                    continue;
+                }
+                // e
+                case 101: {
+                    _jl_state = 32;
+                    continue;
+                }
+                // i
+                case 105: {
+                    _jl_state = 33;
+                    continue;
+                }
+                default:  {
+                    return rewind();
+                }
+                }
+            }
+            case 13:
+            case -14: {
+                final char _jl_char;
+                if (_jl_pos < _jl_limit) _jl_char = _jl_buf[_jl_pos++];
+                else {
+                    curPos = _jl_pos;
+                    _jl_char = getNextChar(13);
+                    _jl_pos = curPos;
+                    _jl_buf = tokenBuf;
+                    _jl_limit = bufLimit;
+                }
+                switch (_jl_char) {
+                // [0x0080-0x00bf]
+                case 128:
+                case 129:
+                case 130:
+                case 131:
+                case 132:
+                case 133:
+                case 134:
+                case 135:
+                case 136:
+                case 137:
+                case 138:
+                case 139:
+                case 140:
+                case 141:
+                case 142:
+                case 143:
+                case 144:
+                case 145:
+                case 146:
+                case 147:
+                case 148:
+                case 149:
+                case 150:
+                case 151:
+                case 152:
+                case 153:
+                case 154:
+                case 155:
+                case 156:
+                case 157:
+                case 158:
+                case 159:
+                case 160:
+                case 161:
+                case 162:
+                case 163:
+                case 164:
+                case 165:
+                case 166:
+                case 167:
+                case 168:
+                case 169:
+                case 170:
+                case 171:
+                case 172:
+                case 173:
+                case 174:
+                case 175:
+                case 176:
+                case 177:
+                case 178:
+                case 179:
+                case 180:
+                case 181:
+                case 182:
+                case 183:
+                case 184:
+                case 185:
+                case 186:
+                case 187:
+                case 188:
+                case 189:
+                case 190:
+                case 191: {
+                    _jl_state = 14;
+                    continue;
+                }
+                default:  {
+                    return rewind();
+                }
+                }
+            }
+            case 14:
+                curPos = _jl_pos;
+                mark(70);
+                //$FALL-THROUGH$
+            case -15: {
+                final char _jl_char;
+                if (_jl_pos < _jl_limit) _jl_char = _jl_buf[_jl_pos++];
+                else {
+                    curPos = _jl_pos;
+                    _jl_char = getNextChar(14);
+                    _jl_pos = curPos;
+                    _jl_buf = tokenBuf;
+                    _jl_limit = bufLimit;
+                }
+                switch (_jl_char) {
+                // [0-9 A-Z \_ a-z]
+                case 48:
+                case 49:
+                case 50:
+                case 51:
+                case 52:
+                case 53:
+                case 54:
+                case 55:
+                case 56:
+                case 57:
+                case 65:
+                case 66:
+                case 67:
+                case 68:
+                case 69:
+                case 70:
+                case 71:
+                case 72:
+                case 73:
+                case 74:
+                case 75:
+                case 76:
+                case 77:
+                case 78:
+                case 79:
+                case 80:
+                case 81:
+                case 82:
+                case 83:
+                case 84:
+                case 85:
+                case 86:
+                case 87:
+                case 88:
+                case 89:
+                case 90:
+                case 95:
+                case 97:
+                case 98:
+                case 99:
+                case 100:
+                case 101:
+                case 102:
+                case 103:
+                case 104:
+                case 105:
+                case 106:
+                case 107:
+                case 108:
+                case 109:
+                case 110:
+                case 111:
+                case 112:
+                case 113:
+                case 114:
+                case 115:
+                case 116:
+                case 117:
+                case 118:
+                case 119:
+                case 120:
+                case 121:
+                case 122: {
+                    _jl_state = 14;
+                    continue;
+                }
+                // Ã
+                case 195: {
+                    _jl_state = 23;
+                    continue;
+                }
+                default:  {
+                    return rewind();
+                }
+                }
+            }
+            case 15:
+                curPos = _jl_pos;
+                mark(70);
+                //$FALL-THROUGH$
+            case -16: {
+                final char _jl_char;
+                if (_jl_pos < _jl_limit) _jl_char = _jl_buf[_jl_pos++];
+                else {
+                    curPos = _jl_pos;
+                    _jl_char = getNextChar(15);
+                    _jl_pos = curPos;
+                    _jl_buf = tokenBuf;
+                    _jl_limit = bufLimit;
+                }
+                switch (_jl_char) {
+                // [0-9 x]
+                case 48:
+                case 49:
+                case 50:
+                case 51:
+                case 52:
+                case 53:
+                case 54:
+                case 55:
+                case 56:
+                case 57:
+                case 120: {
+                    _jl_state = 15;
+                    continue;
+                }
+                // [A-Z \_ a-w y-z]
+                case 65:
+                case 66:
+                case 67:
+                case 68:
+                case 69:
+                case 70:
+                case 71:
+                case 72:
+                case 73:
+                case 74:
+                case 75:
+                case 76:
+                case 77:
+                case 78:
+                case 79:
+                case 80:
+                case 81:
+                case 82:
+                case 83:
+                case 84:
+                case 85:
+                case 86:
+                case 87:
+                case 88:
+                case 89:
+                case 90:
+                case 95:
+                case 97:
+                case 98:
+                case 99:
+                case 100:
+                case 101:
+                case 102:
+                case 103:
+                case 104:
+                case 105:
+                case 106:
+                case 107:
+                case 108:
+                case 109:
+                case 110:
+                case 111:
+                case 112:
+                case 113:
+                case 114:
+                case 115:
+                case 116:
+                case 117:
+                case 118:
+                case 119:
+                case 121:
+                case 122: {
+                    _jl_state = 14;
+                    continue;
+                }
+                // Ã
+                case 195: {
+                    _jl_state = 23;
+                    continue;
+                }
+                default:  {
+                    return rewind();
+                }
+                }
+            }
+            case 16:
+                curPos = _jl_pos;
+                mark(79);
+                //$FALL-THROUGH$
+            case -17: {
+                final char _jl_char;
+                if (_jl_pos < _jl_limit) _jl_char = _jl_buf[_jl_pos++];
+                else {
+                    curPos = _jl_pos;
+                    _jl_char = getNextChar(16);
+                    _jl_pos = curPos;
+                    _jl_buf = tokenBuf;
+                    _jl_limit = bufLimit;
+                }
+                switch (_jl_char) {
+                // 0x003d
+                case 61: {
+                    curPos = _jl_pos;
+                    return 69;
+                }
+                default:  {
+                    return rewind();
+                }
+                }
+            }
+            case 17:
+                curPos = _jl_pos;
+                mark(68);
+                //$FALL-THROUGH$
+            case -18: {
+                final char _jl_char;
+                if (_jl_pos < _jl_limit) _jl_char = _jl_buf[_jl_pos++];
+                else {
+                    curPos = _jl_pos;
+                    _jl_char = getNextChar(17);
+                    _jl_pos = curPos;
+                    _jl_buf = tokenBuf;
+                    _jl_limit = bufLimit;
+                }
+                switch (_jl_char) {
+                // [0-9 A-Z \_ a-z]
+                case 48:
+                case 49:
+                case 50:
+                case 51:
+                case 52:
+                case 53:
+                case 54:
+                case 55:
+                case 56:
+                case 57:
+                case 65:
+                case 66:
+                case 67:
+                case 68:
+                case 69:
+                case 70:
+                case 71:
+                case 72:
+                case 73:
+                case 74:
+                case 75:
+                case 76:
+                case 77:
+                case 78:
+                case 79:
+                case 80:
+                case 81:
+                case 82:
+                case 83:
+                case 84:
+                case 85:
+                case 86:
+                case 87:
+                case 88:
+                case 89:
+                case 90:
+                case 95:
+                case 97:
+                case 98:
+                case 99:
+                case 100:
+                case 101:
+                case 102:
+                case 103:
+                case 104:
+                case 105:
+                case 106:
+                case 107:
+                case 108:
+                case 109:
+                case 110:
+                case 111:
+                case 112:
+                case 113:
+                case 114:
+                case 115:
+                case 116:
+                case 117:
+                case 118:
+                case 119:
+                case 120:
+                case 121:
+                case 122: {
+                    _jl_state = 14;
+                    continue;
+                }
+                // Ã
+                case 195: {
+                    _jl_state = 23;
+                    continue;
+                }
+                default:  {
+                    return rewind();
+                }
+                }
+            }
+            case 18:
+            case -19: {
+                final char _jl_char;
+                if (_jl_pos < _jl_limit) _jl_char = _jl_buf[_jl_pos++];
+                else {
+                    curPos = _jl_pos;
+                    _jl_char = getNextChar(18);
+                    _jl_pos = curPos;
+                    _jl_buf = tokenBuf;
+                    _jl_limit = bufLimit;
+                }
+                switch (_jl_char) {
+                // 0x0080
+                case 128: {
+                    _jl_state = 29;
+                    continue;
+                }
+                default:  {
+                    return rewind();
+                }
+                }
+            }
+            case 19:
+            case -20: {
+                final char _jl_char;
+                if (_jl_pos < _jl_limit) _jl_char = _jl_buf[_jl_pos++];
+                else {
+                    curPos = _jl_pos;
+                    _jl_char = getNextChar(19);
+                    _jl_pos = curPos;
+                    _jl_buf = tokenBuf;
+                    _jl_limit = bufLimit;
+                }
+                switch (_jl_char) {
+                // 0x0080
+                case 128: {
+                    curPos = _jl_pos;
+                    return 79;
+                }
+                default:  {
+                    return rewind();
+                }
+                }
+            }
+            case 20:
+            case -21: {
+                final char _jl_char;
+                if (_jl_pos < _jl_limit) _jl_char = _jl_buf[_jl_pos++];
+                else {
+                    curPos = _jl_pos;
+                    _jl_char = getNextChar(20);
+                    _jl_pos = curPos;
+                    _jl_buf = tokenBuf;
+                    _jl_limit = bufLimit;
+                }
+                switch (_jl_char) {
+                // [0x0080-0x008f]
+                case 128:
+                case 129:
+                case 130:
+                case 131:
+                case 132:
+                case 133:
+                case 134:
+                case 135:
+                case 136:
+                case 137:
+                case 138:
+                case 139:
+                case 140:
+                case 141:
+                case 142:
+                case 143: {
+                    _jl_state = 27;
+                    continue;
+                }
+                default:  {
+                    return rewind();
+                }
+                }
+            }
+            case 21:
+                curPos = _jl_pos;
+                mark(70);
+                //$FALL-THROUGH$
+            case -22: {
+                final char _jl_char;
+                if (_jl_pos < _jl_limit) _jl_char = _jl_buf[_jl_pos++];
+                else {
+                    curPos = _jl_pos;
+                    _jl_char = getNextChar(21);
+                    _jl_pos = curPos;
+                    _jl_buf = tokenBuf;
+                    _jl_limit = bufLimit;
+                }
+                switch (_jl_char) {
+                // [0-9 A-Z \_ a-n p-z]
+                case 48:
+                case 49:
+                case 50:
+                case 51:
+                case 52:
+                case 53:
+                case 54:
+                case 55:
+                case 56:
+                case 57:
+                case 65:
+                case 66:
+                case 67:
+                case 68:
+                case 69:
+                case 70:
+                case 71:
+                case 72:
+                case 73:
+                case 74:
+                case 75:
+                case 76:
+                case 77:
+                case 78:
+                case 79:
+                case 80:
+                case 81:
+                case 82:
+                case 83:
+                case 84:
+                case 85:
+                case 86:
+                case 87:
+                case 88:
+                case 89:
+                case 90:
+                case 95:
+                case 97:
+                case 98:
+                case 99:
+                case 100:
+                case 101:
+                case 102:
+                case 103:
+                case 104:
+                case 105:
+                case 106:
+                case 107:
+                case 108:
+                case 109:
+                case 110:
+                case 112:
+                case 113:
+                case 114:
+                case 115:
+                case 116:
+                case 117:
+                case 118:
+                case 119:
+                case 120:
+                case 121:
+                case 122: {
+                    _jl_state = 14;
+                    continue;
+                }
+                // o
+                case 111: {
+                    _jl_state = 24;
+                    continue;
+                }
+                // Ã
+                case 195: {
+                    _jl_state = 23;
+                    continue;
+                }
+                default:  {
+                    return rewind();
+                }
+                }
+            }
+            case 22:
+                curPos = _jl_pos;
+                mark(0);
+                //$FALL-THROUGH$
+            case -23: {
+                final char _jl_char;
+                if (_jl_pos < _jl_limit) _jl_char = _jl_buf[_jl_pos++];
+                else {
+                    curPos = _jl_pos;
+                    _jl_char = getNextChar(22);
+                    _jl_pos = curPos;
+                    _jl_buf = tokenBuf;
+                    _jl_limit = bufLimit;
+                }
+                switch (_jl_char) {
+                // [0x0009-0x000a 0x000d 0x0020]
+                case 9:
+                case 10:
+                case 13:
+                case 32: {
+                    _jl_state = 22;
+                    continue;
+                }
+                default:  {
+                    return rewind();
+                }
+                }
+            }
+            case 23:
+            case -24: {
+                final char _jl_char;
+                if (_jl_pos < _jl_limit) _jl_char = _jl_buf[_jl_pos++];
+                else {
+                    curPos = _jl_pos;
+                    _jl_char = getNextChar(23);
+                    _jl_pos = curPos;
+                    _jl_buf = tokenBuf;
+                    _jl_limit = bufLimit;
+                }
+                switch (_jl_char) {
+                // [0x0080-0x00bf]
+                case 128:
+                case 129:
+                case 130:
+                case 131:
+                case 132:
+                case 133:
+                case 134:
+                case 135:
+                case 136:
+                case 137:
+                case 138:
+                case 139:
+                case 140:
+                case 141:
+                case 142:
+                case 143:
+                case 144:
+                case 145:
+                case 146:
+                case 147:
+                case 148:
+                case 149:
+                case 150:
+                case 151:
+                case 152:
+                case 153:
+                case 154:
+                case 155:
+                case 156:
+                case 157:
+                case 158:
+                case 159:
+                case 160:
+                case 161:
+                case 162:
+                case 163:
+                case 164:
+                case 165:
+                case 166:
+                case 167:
+                case 168:
+                case 169:
+                case 170:
+                case 171:
+                case 172:
+                case 173:
+                case 174:
+                case 175:
+                case 176:
+                case 177:
+                case 178:
+                case 179:
+                case 180:
+                case 181:
+                case 182:
+                case 183:
+                case 184:
+                case 185:
+                case 186:
+                case 187:
+                case 188:
+                case 189:
+                case 190:
+                case 191: {
+                    _jl_state = 14;
+                    continue;
+                }
+                default:  {
+                    return rewind();
+                }
+                }
+            }
+            case 24:
+                curPos = _jl_pos;
+                mark(1);
+                //$FALL-THROUGH$
+            case -25: {
+                final char _jl_char;
+                if (_jl_pos < _jl_limit) _jl_char = _jl_buf[_jl_pos++];
+                else {
+                    curPos = _jl_pos;
+                    _jl_char = getNextChar(24);
+                    _jl_pos = curPos;
+                    _jl_buf = tokenBuf;
+                    _jl_limit = bufLimit;
+                }
+                switch (_jl_char) {
+                // [0-9 A-Z \_ a-s u-z]
+                case 48:
+                case 49:
+                case 50:
+                case 51:
+                case 52:
+                case 53:
+                case 54:
+                case 55:
+                case 56:
+                case 57:
+                case 65:
+                case 66:
+                case 67:
+                case 68:
+                case 69:
+                case 70:
+                case 71:
+                case 72:
+                case 73:
+                case 74:
+                case 75:
+                case 76:
+                case 77:
+                case 78:
+                case 79:
+                case 80:
+                case 81:
+                case 82:
+                case 83:
+                case 84:
+                case 85:
+                case 86:
+                case 87:
+                case 88:
+                case 89:
+                case 90:
+                case 95:
+                case 97:
+                case 98:
+                case 99:
+                case 100:
+                case 101:
+                case 102:
+                case 103:
+                case 104:
+                case 105:
+                case 106:
+                case 107:
+                case 108:
+                case 109:
+                case 110:
+                case 111:
+                case 112:
+                case 113:
+                case 114:
+                case 115:
+                case 117:
+                case 118:
+                case 119:
+                case 120:
+                case 121:
+                case 122: {
+                    _jl_state = 14;
+                    continue;
+                }
+                // t
+                case 116: {
+                    _jl_state = 25;
+                    continue;
+                }
+                // Ã
+                case 195: {
+                    _jl_state = 23;
+                    continue;
+                }
+                default:  {
+                    return rewind();
+                }
+                }
+            }
+            case 25:
+                curPos = _jl_pos;
+                mark(70);
+                //$FALL-THROUGH$
+            case -26: {
+                final char _jl_char;
+                if (_jl_pos < _jl_limit) _jl_char = _jl_buf[_jl_pos++];
+                else {
+                    curPos = _jl_pos;
+                    _jl_char = getNextChar(25);
+                    _jl_pos = curPos;
+                    _jl_buf = tokenBuf;
+                    _jl_limit = bufLimit;
+                }
+                switch (_jl_char) {
+                // [0-9 A-Z \_ a-n p-z]
+                case 48:
+                case 49:
+                case 50:
+                case 51:
+                case 52:
+                case 53:
+                case 54:
+                case 55:
+                case 56:
+                case 57:
+                case 65:
+                case 66:
+                case 67:
+                case 68:
+                case 69:
+                case 70:
+                case 71:
+                case 72:
+                case 73:
+                case 74:
+                case 75:
+                case 76:
+                case 77:
+                case 78:
+                case 79:
+                case 80:
+                case 81:
+                case 82:
+                case 83:
+                case 84:
+                case 85:
+                case 86:
+                case 87:
+                case 88:
+                case 89:
+                case 90:
+                case 95:
+                case 97:
+                case 98:
+                case 99:
+                case 100:
+                case 101:
+                case 102:
+                case 103:
+                case 104:
+                case 105:
+                case 106:
+                case 107:
+                case 108:
+                case 109:
+                case 110:
+                case 112:
+                case 113:
+                case 114:
+                case 115:
+                case 116:
+                case 117:
+                case 118:
+                case 119:
+                case 120:
+                case 121:
+                case 122: {
+                    _jl_state = 14;
+                    continue;
+                }
+                // o
+                case 111: {
+                    _jl_state = 26;
+                    continue;
+                }
+                // Ã
+                case 195: {
+                    _jl_state = 23;
+                    continue;
+                }
+                default:  {
+                    return rewind();
+                }
+                }
+            }
+            case 26:
+                curPos = _jl_pos;
+                mark(1);
+                //$FALL-THROUGH$
+            case -27: {
+                final char _jl_char;
+                if (_jl_pos < _jl_limit) _jl_char = _jl_buf[_jl_pos++];
+                else {
+                    curPos = _jl_pos;
+                    _jl_char = getNextChar(26);
+                    _jl_pos = curPos;
+                    _jl_buf = tokenBuf;
+                    _jl_limit = bufLimit;
+                }
+                switch (_jl_char) {
+                // [0-9 A-Z \_ a-z]
+                case 48:
+                case 49:
+                case 50:
+                case 51:
+                case 52:
+                case 53:
+                case 54:
+                case 55:
+                case 56:
+                case 57:
+                case 65:
+                case 66:
+                case 67:
+                case 68:
+                case 69:
+                case 70:
+                case 71:
+                case 72:
+                case 73:
+                case 74:
+                case 75:
+                case 76:
+                case 77:
+                case 78:
+                case 79:
+                case 80:
+                case 81:
+                case 82:
+                case 83:
+                case 84:
+                case 85:
+                case 86:
+                case 87:
+                case 88:
+                case 89:
+                case 90:
+                case 95:
+                case 97:
+                case 98:
+                case 99:
+                case 100:
+                case 101:
+                case 102:
+                case 103:
+                case 104:
+                case 105:
+                case 106:
+                case 107:
+                case 108:
+                case 109:
+                case 110:
+                case 111:
+                case 112:
+                case 113:
+                case 114:
+                case 115:
+                case 116:
+                case 117:
+                case 118:
+                case 119:
+                case 120:
+                case 121:
+                case 122: {
+                    _jl_state = 14;
+                    continue;
+                }
+                // Ã
+                case 195: {
+                    _jl_state = 23;
+                    continue;
+                }
+                default:  {
+                    return rewind();
+                }
+                }
+            }
+            case 27:
+            case -28: {
+                final char _jl_char;
+                if (_jl_pos < _jl_limit) _jl_char = _jl_buf[_jl_pos++];
+                else {
+                    curPos = _jl_pos;
+                    _jl_char = getNextChar(27);
+                    _jl_pos = curPos;
+                    _jl_buf = tokenBuf;
+                    _jl_limit = bufLimit;
+                }
+                switch (_jl_char) {
+                // [0x0080-0x00bf]
+                case 128:
+                case 129:
+                case 130:
+                case 131:
+                case 132:
+                case 133:
+                case 134:
+                case 135:
+                case 136:
+                case 137:
+                case 138:
+                case 139:
+                case 140:
+                case 141:
+                case 142:
+                case 143:
+                case 144:
+                case 145:
+                case 146:
+                case 147:
+                case 148:
+                case 149:
+                case 150:
+                case 151:
+                case 152:
+                case 153:
+                case 154:
+                case 155:
+                case 156:
+                case 157:
+                case 158:
+                case 159:
+                case 160:
+                case 161:
+                case 162:
+                case 163:
+                case 164:
+                case 165:
+                case 166:
+                case 167:
+                case 168:
+                case 169:
+                case 170:
+                case 171:
+                case 172:
+                case 173:
+                case 174:
+                case 175:
+                case 176:
+                case 177:
+                case 178:
+                case 179:
+                case 180:
+                case 181:
+                case 182:
+                case 183:
+                case 184:
+                case 185:
+                case 186:
+                case 187:
+                case 188:
+                case 189:
+                case 190:
+                case 191: {
+                    _jl_state = 28;
+                    continue;
+                }
+                default:  {
+                    return rewind();
+                }
+                }
+            }
+            case 28:
+            case -29: {
+                final char _jl_char;
+                if (_jl_pos < _jl_limit) _jl_char = _jl_buf[_jl_pos++];
+                else {
+                    curPos = _jl_pos;
+                    _jl_char = getNextChar(28);
+                    _jl_pos = curPos;
+                    _jl_buf = tokenBuf;
+                    _jl_limit = bufLimit;
+                }
+                switch (_jl_char) {
+                // [0x0080-0x00bf]
+                case 128:
+                case 129:
+                case 130:
+                case 131:
+                case 132:
+                case 133:
+                case 134:
+                case 135:
+                case 136:
+                case 137:
+                case 138:
+                case 139:
+                case 140:
+                case 141:
+                case 142:
+                case 143:
+                case 144:
+                case 145:
+                case 146:
+                case 147:
+                case 148:
+                case 149:
+                case 150:
+                case 151:
+                case 152:
+                case 153:
+                case 154:
+                case 155:
+                case 156:
+                case 157:
+                case 158:
+                case 159:
+                case 160:
+                case 161:
+                case 162:
+                case 163:
+                case 164:
+                case 165:
+                case 166:
+                case 167:
+                case 168:
+                case 169:
+                case 170:
+                case 171:
+                case 172:
+                case 173:
+                case 174:
+                case 175:
+                case 176:
+                case 177:
+                case 178:
+                case 179:
+                case 180:
+                case 181:
+                case 182:
+                case 183:
+                case 184:
+                case 185:
+                case 186:
+                case 187:
+                case 188:
+                case 189:
+                case 190:
+                case 191: {
+                    curPos = _jl_pos;
+                    return 79;
+                }
+                default:  {
+                    return rewind();
+                }
+                }
+            }
+            case 29:
+            case -30: {
+                final char _jl_char;
+                if (_jl_pos < _jl_limit) _jl_char = _jl_buf[_jl_pos++];
+                else {
+                    curPos = _jl_pos;
+                    _jl_char = getNextChar(29);
+                    _jl_pos = curPos;
+                    _jl_buf = tokenBuf;
+                    _jl_limit = bufLimit;
+                }
+                switch (_jl_char) {
+                // 0x0080
+                case 128: {
+                    curPos = _jl_pos;
+                    return 79;
+                }
+                default:  {
+                    return rewind();
+                }
+                }
+            }
+            case 31:
+                curPos = _jl_pos;
+                mark(74);
+                //$FALL-THROUGH$
+            case -32: {
+                final char _jl_char;
+                if (_jl_pos < _jl_limit) _jl_char = _jl_buf[_jl_pos++];
+                else {
+                    curPos = _jl_pos;
+                    _jl_char = getNextChar(31);
+                    _jl_pos = curPos;
+                    _jl_buf = tokenBuf;
+                    _jl_limit = bufLimit;
+                }
+                switch (_jl_char) {
+                // [a-z]
+                case 97:
+                case 98:
+                case 99:
+                case 100:
+                case 101:
+                case 102:
+                case 103:
+                case 104:
+                case 105:
+                case 106:
+                case 107:
+                case 108:
+                case 109:
+                case 110:
+                case 111:
+                case 112:
+                case 113:
+                case 114:
+                case 115:
+                case 116:
+                case 117:
+                case 118:
+                case 119:
+                case 120:
+                case 121:
+                case 122: {
+                    _jl_state = 31;
+                    continue;
+                }
+                default:  {
+                    return rewind();
+                }
+                }
+            }
+            case 32:
+                curPos = _jl_pos;
+                mark(74);
+                //$FALL-THROUGH$
+            case -33: {
+                final char _jl_char;
+                if (_jl_pos < _jl_limit) _jl_char = _jl_buf[_jl_pos++];
+                else {
+                    curPos = _jl_pos;
+                    _jl_char = getNextChar(32);
+                    _jl_pos = curPos;
+                    _jl_buf = tokenBuf;
+                    _jl_limit = bufLimit;
+                }
+                switch (_jl_char) {
+                // [a-k m-z]
+                case 97:
+                case 98:
+                case 99:
+                case 100:
+                case 101:
+                case 102:
+                case 103:
+                case 104:
+                case 105:
+                case 106:
+                case 107:
+                case 109:
+                case 110:
+                case 111:
+                case 112:
+                case 113:
+                case 114:
+                case 115:
+                case 116:
+                case 117:
+                case 118:
+                case 119:
+                case 120:
+                case 121:
+                case 122: {
+                    _jl_state = 31;
+                    continue;
+                }
+                // l
+                case 108: {
+                    _jl_state = 35;
+                    continue;
+                }
+                default:  {
+                    return rewind();
+                }
+                }
+            }
+            case 33:
+                curPos = _jl_pos;
+                mark(74);
+                //$FALL-THROUGH$
+            case -34: {
+                final char _jl_char;
+                if (_jl_pos < _jl_limit) _jl_char = _jl_buf[_jl_pos++];
+                else {
+                    curPos = _jl_pos;
+                    _jl_char = getNextChar(33);
+                    _jl_pos = curPos;
+                    _jl_buf = tokenBuf;
+                    _jl_limit = bufLimit;
+                }
+                switch (_jl_char) {
+                // [a-e g-z]
+                case 97:
+                case 98:
+                case 99:
+                case 100:
+                case 101:
+                case 103:
+                case 104:
+                case 105:
+                case 106:
+                case 107:
+                case 108:
+                case 109:
+                case 110:
+                case 111:
+                case 112:
+                case 113:
+                case 114:
+                case 115:
+                case 116:
+                case 117:
+                case 118:
+                case 119:
+                case 120:
+                case 121:
+                case 122: {
+                    _jl_state = 31;
+                    continue;
+                }
+                // f
+                case 102: {
+                    _jl_state = 34;
+                    continue;
+                }
+                default:  {
+                    return rewind();
+                }
+                }
+            }
+            case 34:
+                curPos = _jl_pos;
+                mark(71);
+                //$FALL-THROUGH$
+            case -35: {
+                final char _jl_char;
+                if (_jl_pos < _jl_limit) _jl_char = _jl_buf[_jl_pos++];
+                else {
+                    curPos = _jl_pos;
+                    _jl_char = getNextChar(34);
+                    _jl_pos = curPos;
+                    _jl_buf = tokenBuf;
+                    _jl_limit = bufLimit;
+                }
+                switch (_jl_char) {
+                // [a-z]
+                case 97:
+                case 98:
+                case 99:
+                case 100:
+                case 101:
+                case 102:
+                case 103:
+                case 104:
+                case 105:
+                case 106:
+                case 107:
+                case 108:
+                case 109:
+                case 110:
+                case 111:
+                case 112:
+                case 113:
+                case 114:
+                case 115:
+                case 116:
+                case 117:
+                case 118:
+                case 119:
+                case 120:
+                case 121:
+                case 122: {
+                    _jl_state = 31;
+                    continue;
+                }
+                default:  {
+                    return rewind();
+                }
+                }
+            }
+            case 35:
+                curPos = _jl_pos;
+                mark(74);
+                //$FALL-THROUGH$
+            case -36: {
+                final char _jl_char;
+                if (_jl_pos < _jl_limit) _jl_char = _jl_buf[_jl_pos++];
+                else {
+                    curPos = _jl_pos;
+                    _jl_char = getNextChar(35);
+                    _jl_pos = curPos;
+                    _jl_buf = tokenBuf;
+                    _jl_limit = bufLimit;
+                }
+                switch (_jl_char) {
+                // [a-r t-z]
+                case 97:
+                case 98:
+                case 99:
+                case 100:
+                case 101:
+                case 102:
+                case 103:
+                case 104:
+                case 105:
+                case 106:
+                case 107:
+                case 108:
+                case 109:
+                case 110:
+                case 111:
+                case 112:
+                case 113:
+                case 114:
+                case 116:
+                case 117:
+                case 118:
+                case 119:
+                case 120:
+                case 121:
+                case 122: {
+                    _jl_state = 31;
+                    continue;
+                }
+                // s
+                case 115: {
+                    _jl_state = 36;
+                    continue;
+                }
+                default:  {
+                    return rewind();
+                }
+                }
+            }
+            case 36:
+                curPos = _jl_pos;
+                mark(74);
+                //$FALL-THROUGH$
+            case -37: {
+                final char _jl_char;
+                if (_jl_pos < _jl_limit) _jl_char = _jl_buf[_jl_pos++];
+                else {
+                    curPos = _jl_pos;
+                    _jl_char = getNextChar(36);
+                    _jl_pos = curPos;
+                    _jl_buf = tokenBuf;
+                    _jl_limit = bufLimit;
+                }
+                switch (_jl_char) {
+                // [a-d f-z]
+                case 97:
+                case 98:
+                case 99:
+                case 100:
+                case 102:
+                case 103:
+                case 104:
+                case 105:
+                case 106:
+                case 107:
+                case 108:
+                case 109:
+                case 110:
+                case 111:
+                case 112:
+                case 113:
+                case 114:
+                case 115:
+                case 116:
+                case 117:
+                case 118:
+                case 119:
+                case 120:
+                case 121:
+                case 122: {
+                    _jl_state = 31;
+                    continue;
+                }
+                // e
+                case 101: {
+                    _jl_state = 37;
+                    continue;
+                }
+                default:  {
+                    return rewind();
+                }
+                }
+            }
+            case 37:
+                curPos = _jl_pos;
+                mark(72);
+                //$FALL-THROUGH$
+            case -38: {
+                final char _jl_char;
+                if (_jl_pos < _jl_limit) _jl_char = _jl_buf[_jl_pos++];
+                else {
+                    curPos = _jl_pos;
+                    _jl_char = getNextChar(37);
+                    _jl_pos = curPos;
+                    _jl_buf = tokenBuf;
+                    _jl_limit = bufLimit;
+                }
+                switch (_jl_char) {
+                // [a-z]
+                case 97:
+                case 98:
+                case 99:
+                case 100:
+                case 101:
+                case 102:
+                case 103:
+                case 104:
+                case 105:
+                case 106:
+                case 107:
+                case 108:
+                case 109:
+                case 110:
+                case 111:
+                case 112:
+                case 113:
+                case 114:
+                case 115:
+                case 116:
+                case 117:
+                case 118:
+                case 119:
+                case 120:
+                case 121:
+                case 122: {
+                    _jl_state = 31;
+                    continue;
+                }
+                default:  {
+                    return rewind();
+                }
+                }
+            }
+            case 38:
+            case -39: {
+                final char _jl_char;
+                if (_jl_pos < _jl_limit) _jl_char = _jl_buf[_jl_pos++];
+                else {
+                    curPos = _jl_pos;
+                    _jl_char = getNextChar(38);
+                    _jl_pos = curPos;
+                    _jl_buf = tokenBuf;
+                    _jl_limit = bufLimit;
+                }
+                switch (_jl_char) {
+                // [0x0080-0x00bf]
+                case 128:
+                case 129:
+                case 130:
+                case 131:
+                case 132:
+                case 133:
+                case 134:
+                case 135:
+                case 136:
+                case 137:
+                case 138:
+                case 139:
+                case 140:
+                case 141:
+                case 142:
+                case 143:
+                case 144:
+                case 145:
+                case 146:
+                case 147:
+                case 148:
+                case 149:
+                case 150:
+                case 151:
+                case 152:
+                case 153:
+                case 154:
+                case 155:
+                case 156:
+                case 157:
+                case 158:
+                case 159:
+                case 160:
+                case 161:
+                case 162:
+                case 163:
+                case 164:
+                case 165:
+                case 166:
+                case 167:
+                case 168:
+                case 169:
+                case 170:
+                case 171:
+                case 172:
+                case 173:
+                case 174:
+                case 175:
+                case 176:
+                case 177:
+                case 178:
+                case 179:
+                case 180:
+                case 181:
+                case 182:
+                case 183:
+                case 184:
+                case 185:
+                case 186:
+                case 187:
+                case 188:
+                case 189:
+                case 190:
+                case 191: {
+                    curPos = _jl_pos;
+                    return 79;
+                }
+                default:  {
+                    return rewind();
+                }
+                }
+            }
+            case 39:
+            case -40: {
+                final char _jl_char;
+                if (_jl_pos < _jl_limit) _jl_char = _jl_buf[_jl_pos++];
+                else {
+                    curPos = _jl_pos;
+                    _jl_char = getNextChar(39);
+                    _jl_pos = curPos;
+                    _jl_buf = tokenBuf;
+                    _jl_limit = bufLimit;
+                }
+                switch (_jl_char) {
+                // [0x0080-0x00bf]
+                case 128:
+                case 129:
+                case 130:
+                case 131:
+                case 132:
+                case 133:
+                case 134:
+                case 135:
+                case 136:
+                case 137:
+                case 138:
+                case 139:
+                case 140:
+                case 141:
+                case 142:
+                case 143:
+                case 144:
+                case 145:
+                case 146:
+                case 147:
+                case 148:
+                case 149:
+                case 150:
+                case 151:
+                case 152:
+                case 153:
+                case 154:
+                case 155:
+                case 156:
+                case 157:
+                case 158:
+                case 159:
+                case 160:
+                case 161:
+                case 162:
+                case 163:
+                case 164:
+                case 165:
+                case 166:
+                case 167:
+                case 168:
+                case 169:
+                case 170:
+                case 171:
+                case 172:
+                case 173:
+                case 174:
+                case 175:
+                case 176:
+                case 177:
+                case 178:
+                case 179:
+                case 180:
+                case 181:
+                case 182:
+                case 183:
+                case 184:
+                case 185:
+                case 186:
+                case 187:
+                case 188:
+                case 189:
+                case 190:
+                case 191: {
+                    curPos = _jl_pos;
+                    return 79;
+                }
+                default:  {
+                    return rewind();
+                }
+                }
+            }
+            case 40:
+            case -41: {
+                final char _jl_char;
+                if (_jl_pos < _jl_limit) _jl_char = _jl_buf[_jl_pos++];
+                else {
+                    curPos = _jl_pos;
+                    _jl_char = getNextChar(40);
+                    _jl_pos = curPos;
+                    _jl_buf = tokenBuf;
+                    _jl_limit = bufLimit;
+                }
+                switch (_jl_char) {
+                // [0x0080-0x00bf]
+                case 128:
+                case 129:
+                case 130:
+                case 131:
+                case 132:
+                case 133:
+                case 134:
+                case 135:
+                case 136:
+                case 137:
+                case 138:
+                case 139:
+                case 140:
+                case 141:
+                case 142:
+                case 143:
+                case 144:
+                case 145:
+                case 146:
+                case 147:
+                case 148:
+                case 149:
+                case 150:
+                case 151:
+                case 152:
+                case 153:
+                case 154:
+                case 155:
+                case 156:
+                case 157:
+                case 158:
+                case 159:
+                case 160:
+                case 161:
+                case 162:
+                case 163:
+                case 164:
+                case 165:
+                case 166:
+                case 167:
+                case 168:
+                case 169:
+                case 170:
+                case 171:
+                case 172:
+                case 173:
+                case 174:
+                case 175:
+                case 176:
+                case 177:
+                case 178:
+                case 179:
+                case 180:
+                case 181:
+                case 182:
+                case 183:
+                case 184:
+                case 185:
+                case 186:
+                case 187:
+                case 188:
+                case 189:
+                case 190:
+                case 191: {
+                    curPos = _jl_pos;
+                    return 79;
+                }
+                default:  {
+                    return rewind();
+                }
+                }
+            }
+            case 41:
+            case -42: {
+                final char _jl_char;
+                if (_jl_pos < _jl_limit) _jl_char = _jl_buf[_jl_pos++];
+                else {
+                    curPos = _jl_pos;
+                    _jl_char = getNextChar(41);
+                    _jl_pos = curPos;
+                    _jl_buf = tokenBuf;
+                    _jl_limit = bufLimit;
+                }
+                switch (_jl_char) {
+                // [0x0080-0x00bf]
+                case 128:
+                case 129:
+                case 130:
+                case 131:
+                case 132:
+                case 133:
+                case 134:
+                case 135:
+                case 136:
+                case 137:
+                case 138:
+                case 139:
+                case 140:
+                case 141:
+                case 142:
+                case 143:
+                case 144:
+                case 145:
+                case 146:
+                case 147:
+                case 148:
+                case 149:
+                case 150:
+                case 151:
+                case 152:
+                case 153:
+                case 154:
+                case 155:
+                case 156:
+                case 157:
+                case 158:
+                case 159:
+                case 160:
+                case 161:
+                case 162:
+                case 163:
+                case 164:
+                case 165:
+                case 166:
+                case 167:
+                case 168:
+                case 169:
+                case 170:
+                case 171:
+                case 172:
+                case 173:
+                case 174:
+                case 175:
+                case 176:
+                case 177:
+                case 178:
+                case 179:
+                case 180:
+                case 181:
+                case 182:
+                case 183:
+                case 184:
+                case 185:
+                case 186:
+                case 187:
+                case 188:
+                case 189:
+                case 190:
+                case 191: {
+                    curPos = _jl_pos;
+                    return 79;
+                }
+                default:  {
+                    return rewind();
+                }
+                }
+            }
+            case 42:
+            case -43: {
+                final char _jl_char;
+                if (_jl_pos < _jl_limit) _jl_char = _jl_buf[_jl_pos++];
+                else {
+                    curPos = _jl_pos;
+                    _jl_char = getNextChar(42);
+                    _jl_pos = curPos;
+                    _jl_buf = tokenBuf;
+                    _jl_limit = bufLimit;
+                }
+                switch (_jl_char) {
+                // [0x0080-0x00be]
+                case 128:
+                case 129:
+                case 130:
+                case 131:
+                case 132:
+                case 133:
+                case 134:
+                case 135:
+                case 136:
+                case 137:
+                case 138:
+                case 139:
+                case 140:
+                case 141:
+                case 142:
+                case 143:
+                case 144:
+                case 145:
+                case 146:
+                case 147:
+                case 148:
+                case 149:
+                case 150:
+                case 151:
+                case 152:
+                case 153:
+                case 154:
+                case 155:
+                case 156:
+                case 157:
+                case 158:
+                case 159:
+                case 160:
+                case 161:
+                case 162:
+                case 163:
+                case 164:
+                case 165:
+                case 166:
+                case 167:
+                case 168:
+                case 169:
+                case 170:
+                case 171:
+                case 172:
+                case 173:
+                case 174:
+                case 175:
+                case 176:
+                case 177:
+                case 178:
+                case 179:
+                case 180:
+                case 181:
+                case 182:
+                case 183:
+                case 184:
+                case 185:
+                case 186:
+                case 187:
+                case 188:
+                case 189:
+                case 190: {
+                    curPos = _jl_pos;
+                    return 79;
+                }
+                default:  {
+                    return rewind();
+                }
+                }
+            }
+            case 43:
+            case -44: {
+                final char _jl_char;
+                if (_jl_pos < _jl_limit) _jl_char = _jl_buf[_jl_pos++];
+                else {
+                    curPos = _jl_pos;
+                    _jl_char = getNextChar(43);
+                    _jl_pos = curPos;
+                    _jl_buf = tokenBuf;
+                    _jl_limit = bufLimit;
+                }
+                switch (_jl_char) {
+                // [0x0080-0x00bf]
+                case 128:
+                case 129:
+                case 130:
+                case 131:
+                case 132:
+                case 133:
+                case 134:
+                case 135:
+                case 136:
+                case 137:
+                case 138:
+                case 139:
+                case 140:
+                case 141:
+                case 142:
+                case 143:
+                case 144:
+                case 145:
+                case 146:
+                case 147:
+                case 148:
+                case 149:
+                case 150:
+                case 151:
+                case 152:
+                case 153:
+                case 154:
+                case 155:
+                case 156:
+                case 157:
+                case 158:
+                case 159:
+                case 160:
+                case 161:
+                case 162:
+                case 163:
+                case 164:
+                case 165:
+                case 166:
+                case 167:
+                case 168:
+                case 169:
+                case 170:
+                case 171:
+                case 172:
+                case 173:
+                case 174:
+                case 175:
+                case 176:
+                case 177:
+                case 178:
+                case 179:
+                case 180:
+                case 181:
+                case 182:
+                case 183:
+                case 184:
+                case 185:
+                case 186:
+                case 187:
+                case 188:
+                case 189:
+                case 190:
+                case 191: {
+                    curPos = _jl_pos;
+                    return 79;
+                }
+                default:  {
+                    return rewind();
+                }
+                }
+            }
+            case 44:
+            case -45: {
+                final char _jl_char;
+                if (_jl_pos < _jl_limit) _jl_char = _jl_buf[_jl_pos++];
+                else {
+                    curPos = _jl_pos;
+                    _jl_char = getNextChar(44);
+                    _jl_pos = curPos;
+                    _jl_buf = tokenBuf;
+                    _jl_limit = bufLimit;
+                }
+                switch (_jl_char) {
+                // [0x0080-0x00bf]
+                case 128:
+                case 129:
+                case 130:
+                case 131:
+                case 132:
+                case 133:
+                case 134:
+                case 135:
+                case 136:
+                case 137:
+                case 138:
+                case 139:
+                case 140:
+                case 141:
+                case 142:
+                case 143:
+                case 144:
+                case 145:
+                case 146:
+                case 147:
+                case 148:
+                case 149:
+                case 150:
+                case 151:
+                case 152:
+                case 153:
+                case 154:
+                case 155:
+                case 156:
+                case 157:
+                case 158:
+                case 159:
+                case 160:
+                case 161:
+                case 162:
+                case 163:
+                case 164:
+                case 165:
+                case 166:
+                case 167:
+                case 168:
+                case 169:
+                case 170:
+                case 171:
+                case 172:
+                case 173:
+                case 174:
+                case 175:
+                case 176:
+                case 177:
+                case 178:
+                case 179:
+                case 180:
+                case 181:
+                case 182:
+                case 183:
+                case 184:
+                case 185:
+                case 186:
+                case 187:
+                case 188:
+                case 189:
+                case 190:
+                case 191: {
+                    _jl_state = 45;
+                    continue;
+                }
+                default:  {
+                    return rewind();
+                }
+                }
+            }
+            case 45:
+            case -46: {
+                final char _jl_char;
+                if (_jl_pos < _jl_limit) _jl_char = _jl_buf[_jl_pos++];
+                else {
+                    curPos = _jl_pos;
+                    _jl_char = getNextChar(45);
+                    _jl_pos = curPos;
+                    _jl_buf = tokenBuf;
+                    _jl_limit = bufLimit;
+                }
+                switch (_jl_char) {
+                // [0x0080-0x00bf]
+                case 128:
+                case 129:
+                case 130:
+                case 131:
+                case 132:
+                case 133:
+                case 134:
+                case 135:
+                case 136:
+                case 137:
+                case 138:
+                case 139:
+                case 140:
+                case 141:
+                case 142:
+                case 143:
+                case 144:
+                case 145:
+                case 146:
+                case 147:
+                case 148:
+                case 149:
+                case 150:
+                case 151:
+                case 152:
+                case 153:
+                case 154:
+                case 155:
+                case 156:
+                case 157:
+                case 158:
+                case 159:
+                case 160:
+                case 161:
+                case 162:
+                case 163:
+                case 164:
+                case 165:
+                case 166:
+                case 167:
+                case 168:
+                case 169:
+                case 170:
+                case 171:
+                case 172:
+                case 173:
+                case 174:
+                case 175:
+                case 176:
+                case 177:
+                case 178:
+                case 179:
+                case 180:
+                case 181:
+                case 182:
+                case 183:
+                case 184:
+                case 185:
+                case 186:
+                case 187:
+                case 188:
+                case 189:
+                case 190:
+                case 191: {
+                    curPos = _jl_pos;
+                    return 79;
+                }
+                default:  {
+                    return rewind();
+                }
+                }
+            }
+            case 46:
+            case -47: {
+                final char _jl_char;
+                if (_jl_pos < _jl_limit) _jl_char = _jl_buf[_jl_pos++];
+                else {
+                    curPos = _jl_pos;
+                    _jl_char = getNextChar(46);
+                    _jl_pos = curPos;
+                    _jl_buf = tokenBuf;
+                    _jl_limit = bufLimit;
+                }
+                switch (_jl_char) {
+                // [0x0080-0x00bf]
+                case 128:
+                case 129:
+                case 130:
+                case 131:
+                case 132:
+                case 133:
+                case 134:
+                case 135:
+                case 136:
+                case 137:
+                case 138:
+                case 139:
+                case 140:
+                case 141:
+                case 142:
+                case 143:
+                case 144:
+                case 145:
+                case 146:
+                case 147:
+                case 148:
+                case 149:
+                case 150:
+                case 151:
+                case 152:
+                case 153:
+                case 154:
+                case 155:
+                case 156:
+                case 157:
+                case 158:
+                case 159:
+                case 160:
+                case 161:
+                case 162:
+                case 163:
+                case 164:
+                case 165:
+                case 166:
+                case 167:
+                case 168:
+                case 169:
+                case 170:
+                case 171:
+                case 172:
+                case 173:
+                case 174:
+                case 175:
+                case 176:
+                case 177:
+                case 178:
+                case 179:
+                case 180:
+                case 181:
+                case 182:
+                case 183:
+                case 184:
+                case 185:
+                case 186:
+                case 187:
+                case 188:
+                case 189:
+                case 190:
+                case 191: {
+                    _jl_state = 47;
+                    continue;
+                }
+                default:  {
+                    return rewind();
+                }
+                }
+            }
+            case 47:
+            case -48: {
+                final char _jl_char;
+                if (_jl_pos < _jl_limit) _jl_char = _jl_buf[_jl_pos++];
+                else {
+                    curPos = _jl_pos;
+                    _jl_char = getNextChar(47);
+                    _jl_pos = curPos;
+                    _jl_buf = tokenBuf;
+                    _jl_limit = bufLimit;
+                }
+                switch (_jl_char) {
+                // [0x0080-0x00bf]
+                case 128:
+                case 129:
+                case 130:
+                case 131:
+                case 132:
+                case 133:
+                case 134:
+                case 135:
+                case 136:
+                case 137:
+                case 138:
+                case 139:
+                case 140:
+                case 141:
+                case 142:
+                case 143:
+                case 144:
+                case 145:
+                case 146:
+                case 147:
+                case 148:
+                case 149:
+                case 150:
+                case 151:
+                case 152:
+                case 153:
+                case 154:
+                case 155:
+                case 156:
+                case 157:
+                case 158:
+                case 159:
+                case 160:
+                case 161:
+                case 162:
+                case 163:
+                case 164:
+                case 165:
+                case 166:
+                case 167:
+                case 168:
+                case 169:
+                case 170:
+                case 171:
+                case 172:
+                case 173:
+                case 174:
+                case 175:
+                case 176:
+                case 177:
+                case 178:
+                case 179:
+                case 180:
+                case 181:
+                case 182:
+                case 183:
+                case 184:
+                case 185:
+                case 186:
+                case 187:
+                case 188:
+                case 189:
+                case 190:
+                case 191: {
+                    curPos = _jl_pos;
+                    return 79;
+                }
+                default:  {
+                    return rewind();
+                }
+                }
+            }
+            default:
+                throw new IllegalStateException("Should not happen");
+            }
+        }
+    }
+    
+    private static final byte[] _jl_table0 = {
+        0, 0, 0, 0, 0, 0, 0, 0, 0, 1, 1, 0, 0, 1, 0, 0,
+        0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0,
+        1, 0, 0, 2, 0, 0, 0, 0, 0, 0, 0, 3, 0, 0, 0, 0,
+        4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 0, 0, 0, 0, 0, 0,
+        0, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+        5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 0, 0, 0, 0, 5,
+        0, 6, 5, 5, 5, 5, 5, 7, 5, 5, 5, 5, 5, 5, 5, 5,
+        5, 5, 5, 5, 5, 5, 5, 5, 8, 5, 5, 0, 0, 0, 0, 0,
+        9, 9, 9, 9, 9, 9, 9, 9, 9, 9, 9, 9, 9, 9, 9, 9,
+        9, 9, 9, 9, 9, 9, 9, 9, 9, 9, 9, 9, 9, 9, 9, 9,
+        9, 9, 9, 9, 9, 9, 9, 9, 9, 9, 9, 9, 9, 9, 9, 9,
+        9, 9, 9, 9, 9, 9, 9, 9, 9, 9, 9, 9, 9, 9, 9, 9,
+        9, 9, 10, 11, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10,
+        10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10,
+        12, 13, 13, 13, 13, 13, 13, 13, 13, 13, 13, 13, 13, 14, 15, 16,
+        17, 18, 18, 18, 19, 9, 9, 9, 9, 9, 9, 9, 9, 20, 21, 0
+    };
+    
+     
+    
+}
@@ -0,0 +1,1312 @@
+package org.stekikun.dolmen.test.examples;
+
+/**
+ * Lexer generated by Dolmen 1.0.0
+ */
+public final class KeywordsHashedLexer extends org.stekikun.dolmen.codegen.LexBuffer {
+    
+    
+	private String token(String kind) {
+		return kind + "(" + getLexeme() + ")";
+	}
+
+    
+    /**
+     * Returns a fresh lexer based on the given character stream
+     * @param inputname
+     * @param reader
+     */
+    public KeywordsHashedLexer(String inputname, java.io.Reader reader) {
+        super("1.0.0", inputname, reader);
+    }
+    
+    /**
+     * Returns a fresh lexer based on the given range of characters,
+     * which is used in place and must not be modified while lexing
+     * @param inputname
+     * @param chars
+     * @param offset
+     * @param length
+     */
+    public KeywordsHashedLexer(String inputname, char[] chars, int offset, int length) {
+        super("1.0.0", inputname, chars, offset, length);
+    }
+    
+    /**
+     * Returns a fresh lexer based on the given in-memory characters
+     * @param inputname
+     * @param input
+     */
+    public KeywordsHashedLexer(String inputname, CharSequence input) {
+        super("1.0.0", inputname, input);
+    }
+    
+    /**
+     * Entry point for rule main
+     */
+    public  String  main() {
+        main:
+        while (true) {
+            // Initialize lexer for this automaton
+            startToken();
+            int result = _jl_cell0();
+            endToken();
+            if (result == 70) result = keyword(_jl_kw_main_70, _jl_kw_main_70_actions, _jl_kw_main_70_seeds, 70);
+            if (result == 77) result = keyword(_jl_kw_main_77, _jl_kw_main_77_actions, _jl_kw_main_77_seeds, 77);
+            switch (result) {
+            case 0:  {
+                 continue main; 
+            }
+            case 1:  {
+                 return token("GO"); 
+            }
+            case 2:  {
+                 return token("K0"); 
+            }
+            case 3:  {
+                 return token("K1"); 
+            }
+            case 4:  {
+                 return token("K2"); 
+            }
+            case 5:  {
+                 return token("K3"); 
+            }
+            case 6:  {
+                 return token("K4"); 
+            }
+            case 7:  {
+                 return token("K5"); 
+            }
+            case 8:  {
+                 return token("K6"); 
+            }
+            case 9:  {
+                 return token("K7"); 
+            }
+            case 10:  {
+                 return token("K8"); 
+            }
+            case 11:  {
+                 return token("K9"); 
+            }
+            case 12:  {
+                 return token("K10"); 
+            }
+            case 13:  {
+                 return token("K11"); 
+            }
+            case 14:  {
+                 return token("K12"); 
+            }
+            case 15:  {
+                 return token("K13"); 
+            }
+            case 16:  {
+                 return token("K14"); 
+            }
+            case 17:  {
+                 return token("K15"); 
+            }
+            case 18:  {
+                 return token("K16"); 
+            }
+            case 19:  {
+                 return token("K17"); 
+            }
+            case 20:  {
+                 return token("K18"); 
+            }
+            case 21:  {
+                 return token("K19"); 
+            }
+            case 22:  {
+                 return token("K20"); 
+            }
+            case 23:  {
+                 return token("K21"); 
+            }
+            case 24:  {
+                 return token("K22"); 
+            }
+            case 25:  {
+                 return token("K23"); 
+            }
+            case 26:  {
+                 return token("K24"); 
+            }
+            case 27:  {
+                 return token("K25"); 
+            }
+            case 28:  {
+                 return token("K26"); 
+            }
+            case 29:  {
+                 return token("K27"); 
+            }
+            case 30:  {
+                 return token("K28"); 
+            }
+            case 31:  {
+                 return token("K29"); 
+            }
+            case 32:  {
+                 return token("K30"); 
+            }
+            case 33:  {
+                 return token("K31"); 
+            }
+            case 34:  {
+                 return token("K32"); 
+            }
+            case 35:  {
+                 return token("K33"); 
+            }
+            case 36:  {
+                 return token("K34"); 
+            }
+            case 37:  {
+                 return token("K35"); 
+            }
+            case 38:  {
+                 return token("K36"); 
+            }
+            case 39:  {
+                 return token("K37"); 
+            }
+            case 40:  {
+                 return token("K38"); 
+            }
+            case 41:  {
+                 return token("K39"); 
+            }
+            case 42:  {
+                 return token("K40"); 
+            }
+            case 43:  {
+                 return token("K41"); 
+            }
+            case 44:  {
+                 return token("K42"); 
+            }
+            case 45:  {
+                 return token("K43"); 
+            }
+            case 46:  {
+                 return token("K44"); 
+            }
+            case 47:  {
+                 return token("K45"); 
+            }
+            case 48:  {
+                 return token("K46"); 
+            }
+            case 49:  {
+                 return token("K47"); 
+            }
+            case 50:  {
+                 return token("K48"); 
+            }
+            case 51:  {
+                 return token("K49"); 
+            }
+            case 52:  {
+                 return token("K50"); 
+            }
+            case 53:  {
+                 return token("K51"); 
+            }
+            case 54:  {
+                 return token("K52"); 
+            }
+            case 55:  {
+                 return token("K53"); 
+            }
+            case 56:  {
+                 return token("K54"); 
+            }
+            case 57:  {
+                 return token("K55"); 
+            }
+            case 58:  {
+                 return token("K56"); 
+            }
+            case 59:  {
+                 return token("K57"); 
+            }
+            case 60:  {
+                 return token("K58"); 
+            }
+            case 61:  {
+                 return token("K59"); 
+            }
+            case 62:  {
+                 return token("K60"); 
+            }
+            case 63:  {
+                 return token("K61"); 
+            }
+            case 64:  {
+                 return token("K62"); 
+            }
+            case 65:  {
+                 return token("K63"); 
+            }
+            case 66:  {
+                 return token("K64"); 
+            }
+            case 67:  {
+                 return token("K65"); 
+            }
+            case 68:  {
+                 return token("K66"); 
+            }
+            case 69:  {
+                 return token("K67"); 
+            }
+            case 70:  {
+                 return token("IDENT"); 
+            }
+            case 71:  {
+                 return token("D0"); 
+            }
+            case 72:  {
+                 return token("D1"); 
+            }
+            case 73:  {
+                 return token("D2"); 
+            }
+            case 74:  {
+                 return token("DIRECTIVE"); 
+            }
+            case 75:  {
+                 return token("N0"); 
+            }
+            case 76:  {
+                 return token("N1"); 
+            }
+            case 77:  {
+                 return token("NUMBER"); 
+            }
+            case 78:  {
+                 return token("EOF"); 
+            }
+            case 79:  {
+                 return token("OTHER"); 
+            }
+            default:
+                break main;
+            }
+        }
+        throw error("Empty token");
+    }
+    private static final String[] _jl_kw_main_70 = {
+        "", "", "", "", "", "", "", "catch", "", "", "", "", "", "private", 
+        "extends", "do", "import", "transient", "switch", "", "public", "byte", 
+        "implements", "", "IF", "", "", "super", "true", "", "", "continue", 
+        "break", "", "", "", "\311T\311", "for", "", "", "FOR", "", "", "", "", 
+        "int", "enum", "", "", "char", "", "", "", "eLsE", "short", "", "Else", 
+        "", "void", "finally", "", "", "", "interface", "", "final", "", "", 
+        "throws", "", "", "", "package", "null", "assert", "", "", "", "foR", 
+        "", "static", "", "native", "", "", "throw", "", "try", "", "", "long", 
+        "synchronized", "", "this", "false", "abstract", "default", 
+        "instanceof", "For", "iF", "else", "class", "", "double", "float", "", 
+        "case", "fOR", "volatile", "fOr", "return", "if", "", "", "boolean", 
+        "If", "\351t\351", "FoR", "FOr", "", "while", "", "", "", "", "ELSE", 
+        "new", ""
+    };
+    private static final int[] _jl_kw_main_70_actions = {
+        -1, -1, -1, -1, -1, -1, -1, 41, -1, -1, -1, -1, -1, 22, 52, 49, 50, 59, 
+        44, -1, 21, 29, 53, -1, 5, -1, -1, 39, 34, -1, -1, 48, 47, -1, -1, -1, 
+        67, 6, -1, -1, 13, -1, -1, -1, -1, 26, 61, -1, -1, 28, -1, -1, -1, 17, 
+        30, -1, 15, -1, 25, 63, -1, -1, -1, 54, -1, 24, -1, -1, 43, -1, -1, -1, 
+        51, 36, 60, -1, -1, -1, 7, -1, 23, -1, 56, -1, -1, 42, -1, 40, -1, -1, 
+        27, 58, -1, 38, 35, 55, 46, 62, 10, 3, 14, 20, -1, 31, 32, -1, 45, 9, 
+        57, 8, 19, 2, -1, -1, 33, 4, 66, 11, 12, -1, 18, -1, -1, -1, -1, 16, 37, 
+        -1
+    };
+    private static final int[] _jl_kw_main_70_seeds = {
+        1, 3, 1, 1, 1, 2, 1, 0, 0, 2, 1, 0, 2, 2, 1, 10, 3, 0, 4, 1, 1, 1, 5, 3, 
+        1, 4, 2, 1, 2, 1, 2, 7
+    };
+    private static final String[] _jl_kw_main_77 = {
+        "", "0x", "00", ""
+    };
+    private static final int[] _jl_kw_main_77_actions = {
+        -1, 75, 76, -1
+    };
+    private static final int[] _jl_kw_main_77_seeds = {
+        1
+    };
+    
+    private int _jl_cell0() {
+        final char _jl_char = getNextChar();
+        if (_jl_char <= 255) {
+            switch (_jl_table0[_jl_char]) {
+            // [0x0009-0x000a 0x000d 0x0020]
+            case 1: {
+                return _jl_cell10();
+            }
+            // #
+            case 2: {
+                return _jl_cell3();
+            }
+            // +
+            case 3: {
+                return _jl_cell6();
+            }
+            // [0-9]
+            case 4: {
+                return _jl_cell2();
+            }
+            // [A-Z \_ b-f h-w y-z À-ÿ]
+            case 5: {
+                return _jl_cell4();
+            }
+            // a
+            case 6: {
+                return _jl_cell7();
+            }
+            // g
+            case 7: {
+                return _jl_cell8();
+            }
+            // x
+            case 8: {
+                return _jl_cell5();
+            }
+            default:  {
+                return 79;
+            }
+            }
+        } else  {
+            switch (_jl_char) {
+            // EOF
+            case 65535: {
+                return 78;
+            }
+            default:  {
+                return 79;
+            }
+            }
+        }
+    }
+    
+    private int _jl_cell2() {
+        while (true) {
+            mark(77);
+            final char _jl_char = getNextChar();
+            switch (_jl_char) {
+            // [0-9 x]
+            case 48:
+            case 49:
+            case 50:
+            case 51:
+            case 52:
+            case 53:
+            case 54:
+            case 55:
+            case 56:
+            case 57:
+            case 120: {
+                continue;
+            }
+            default:  {
+                return rewind();
+            }
+            }
+        }
+    }
+    
+    private int _jl_cell3() {
+        mark(79);
+        final char _jl_char = getNextChar();
+        switch (_jl_char) {
+        // [a-d f-h j-z]
+        case 97:
+        case 98:
+        case 99:
+        case 100:
+        case 102:
+        case 103:
+        case 104:
+        case 106:
+        case 107:
+        case 108:
+        case 109:
+        case 110:
+        case 111:
+        case 112:
+        case 113:
+        case 114:
+        case 115:
+        case 116:
+        case 117:
+        case 118:
+        case 119:
+        case 120:
+        case 121:
+        case 122: {
+            return _jl_cell15();
+        }
+        // e
+        case 101: {
+            return _jl_cell16();
+        }
+        // i
+        case 105: {
+            return _jl_cell17();
+        }
+        default:  {
+            return rewind();
+        }
+        }
+    }
+    
+    private int _jl_cell4() {
+        while (true) {
+            mark(70);
+            final char _jl_char = getNextChar();
+            if (_jl_char <= 94) {
+                if (_jl_char <= 57) {
+                    switch (_jl_char) {
+                    // [0-9]
+                    case 48:
+                    case 49:
+                    case 50:
+                    case 51:
+                    case 52:
+                    case 53:
+                    case 54:
+                    case 55:
+                    case 56:
+                    case 57: {
+                        continue;
+                    }
+                    default:  {
+                        return rewind();
+                    }
+                    }
+                } else  {
+                    switch (_jl_char) {
+                    // [:-@ \[-\^]
+                    case 58:
+                    case 59:
+                    case 60:
+                    case 61:
+                    case 62:
+                    case 63:
+                    case 64:
+                    case 91:
+                    case 92:
+                    case 93:
+                    case 94: {
+                        return rewind();
+                    }
+                    default:  {
+                        continue;
+                    }
+                    }
+                }
+            } else  {
+                if (_jl_char <= 122) {
+                    switch (_jl_char) {
+                    // 0x0060
+                    case 96: {
+                        return rewind();
+                    }
+                    default:  {
+                        continue;
+                    }
+                    }
+                } else  {
+                    if (_jl_char <= 191) {
+                        return rewind();
+                    } else  {
+                        if (_jl_char <= 255) {
+                            continue;
+                        } else  {
+                            return rewind();
+                        }
+                    }
+                }
+            }
+        }
+    }
+    
+    private int _jl_cell5() {
+        while (true) {
+            mark(70);
+            final char _jl_char = getNextChar();
+            if (_jl_char <= 95) {
+                if (_jl_char <= 64) {
+                    switch (_jl_char) {
+                    // [0-9]
+                    case 48:
+                    case 49:
+                    case 50:
+                    case 51:
+                    case 52:
+                    case 53:
+                    case 54:
+                    case 55:
+                    case 56:
+                    case 57: {
+                        continue;
+                    }
+                    default:  {
+                        return rewind();
+                    }
+                    }
+                } else  {
+                    switch (_jl_char) {
+                    // [\[-\^]
+                    case 91:
+                    case 92:
+                    case 93:
+                    case 94: {
+                        return rewind();
+                    }
+                    default:  {
+                        return _jl_cell4();
+                    }
+                    }
+                }
+            } else  {
+                if (_jl_char <= 120) {
+                    switch (_jl_char) {
+                    // 0x0060
+                    case 96: {
+                        return rewind();
+                    }
+                    // x
+                    case 120: {
+                        continue;
+                    }
+                    default:  {
+                        return _jl_cell4();
+                    }
+                    }
+                } else  {
+                    if (_jl_char <= 191) {
+                        switch (_jl_char) {
+                        // [y-z]
+                        case 121:
+                        case 122: {
+                            return _jl_cell4();
+                        }
+                        default:  {
+                            return rewind();
+                        }
+                        }
+                    } else  {
+                        if (_jl_char <= 255) {
+                            return _jl_cell4();
+                        } else  {
+                            return rewind();
+                        }
+                    }
+                }
+            }
+        }
+    }
+    
+    private int _jl_cell6() {
+        mark(79);
+        final char _jl_char = getNextChar();
+        switch (_jl_char) {
+        // 0x003d
+        case 61: {
+            return 69;
+        }
+        default:  {
+            return rewind();
+        }
+        }
+    }
+    
+    private int _jl_cell7() {
+        mark(68);
+        final char _jl_char = getNextChar();
+        if (_jl_char <= 94) {
+            if (_jl_char <= 57) {
+                switch (_jl_char) {
+                // [0-9]
+                case 48:
+                case 49:
+                case 50:
+                case 51:
+                case 52:
+                case 53:
+                case 54:
+                case 55:
+                case 56:
+                case 57: {
+                    return _jl_cell4();
+                }
+                default:  {
+                    return rewind();
+                }
+                }
+            } else  {
+                switch (_jl_char) {
+                // [:-@ \[-\^]
+                case 58:
+                case 59:
+                case 60:
+                case 61:
+                case 62:
+                case 63:
+                case 64:
+                case 91:
+                case 92:
+                case 93:
+                case 94: {
+                    return rewind();
+                }
+                default:  {
+                    return _jl_cell4();
+                }
+                }
+            }
+        } else  {
+            if (_jl_char <= 122) {
+                switch (_jl_char) {
+                // 0x0060
+                case 96: {
+                    return rewind();
+                }
+                default:  {
+                    return _jl_cell4();
+                }
+                }
+            } else  {
+                if (_jl_char <= 191) {
+                    return rewind();
+                } else  {
+                    if (_jl_char <= 255) {
+                        return _jl_cell4();
+                    } else  {
+                        return rewind();
+                    }
+                }
+            }
+        }
+    }
+    
+    private int _jl_cell8() {
+        mark(70);
+        final char _jl_char = getNextChar();
+        if (_jl_char <= 95) {
+            if (_jl_char <= 64) {
+                switch (_jl_char) {
+                // [0-9]
+                case 48:
+                case 49:
+                case 50:
+                case 51:
+                case 52:
+                case 53:
+                case 54:
+                case 55:
+                case 56:
+                case 57: {
+                    return _jl_cell4();
+                }
+                default:  {
+                    return rewind();
+                }
+                }
+            } else  {
+                switch (_jl_char) {
+                // [\[-\^]
+                case 91:
+                case 92:
+                case 93:
+                case 94: {
+                    return rewind();
+                }
+                default:  {
+                    return _jl_cell4();
+                }
+                }
+            }
+        } else  {
+            if (_jl_char <= 111) {
+                switch (_jl_char) {
+                // 0x0060
+                case 96: {
+                    return rewind();
+                }
+                // o
+                case 111: {
+                    return _jl_cell11();
+                }
+                default:  {
+                    return _jl_cell4();
+                }
+                }
+            } else  {
+                if (_jl_char <= 191) {
+                    if (_jl_char <= 122) {
+                        return _jl_cell4();
+                    } else  {
+                        return rewind();
+                    }
+                } else  {
+                    if (_jl_char <= 255) {
+                        return _jl_cell4();
+                    } else  {
+                        return rewind();
+                    }
+                }
+            }
+        }
+    }
+    
+    private int _jl_cell10() {
+        while (true) {
+            mark(0);
+            final char _jl_char = getNextChar();
+            switch (_jl_char) {
+            // [0x0009-0x000a 0x000d 0x0020]
+            case 9:
+            case 10:
+            case 13:
+            case 32: {
+                continue;
+            }
+            default:  {
+                return rewind();
+            }
+            }
+        }
+    }
+    
+    private int _jl_cell11() {
+        mark(1);
+        final char _jl_char = getNextChar();
+        if (_jl_char <= 95) {
+            if (_jl_char <= 64) {
+                switch (_jl_char) {
+                // [0-9]
+                case 48:
+                case 49:
+                case 50:
+                case 51:
+                case 52:
+                case 53:
+                case 54:
+                case 55:
+                case 56:
+                case 57: {
+                    return _jl_cell4();
+                }
+                default:  {
+                    return rewind();
+                }
+                }
+            } else  {
+                switch (_jl_char) {
+                // [\[-\^]
+                case 91:
+                case 92:
+                case 93:
+                case 94: {
+                    return rewind();
+                }
+                default:  {
+                    return _jl_cell4();
+                }
+                }
+            }
+        } else  {
+            if (_jl_char <= 116) {
+                switch (_jl_char) {
+                // 0x0060
+                case 96: {
+                    return rewind();
+                }
+                // t
+                case 116: {
+                    return _jl_cell12();
+                }
+                default:  {
+                    return _jl_cell4();
+                }
+                }
+            } else  {
+                if (_jl_char <= 191) {
+                    switch (_jl_char) {
+                    // [u-z]
+                    case 117:
+                    case 118:
+                    case 119:
+                    case 120:
+                    case 121:
+                    case 122: {
+                        return _jl_cell4();
+                    }
+                    default:  {
+                        return rewind();
+                    }
+                    }
+                } else  {
+                    if (_jl_char <= 255) {
+                        return _jl_cell4();
+                    } else  {
+                        return rewind();
+                    }
+                }
+            }
+        }
+    }
+    
+    private int _jl_cell12() {
+        mark(70);
+        final char _jl_char = getNextChar();
+        if (_jl_char <= 95) {
+            if (_jl_char <= 64) {
+                switch (_jl_char) {
+                // [0-9]
+                case 48:
+                case 49:
+                case 50:
+                case 51:
+                case 52:
+                case 53:
+                case 54:
+                case 55:
+                case 56:
+                case 57: {
+                    return _jl_cell4();
+                }
+                default:  {
+                    return rewind();
+                }
+                }
+            } else  {
+                switch (_jl_char) {
+                // [\[-\^]
+                case 91:
+                case 92:
+                case 93:
+                case 94: {
+                    return rewind();
+                }
+                default:  {
+                    return _jl_cell4();
+                }
+                }
+            }
+        } else  {
+            if (_jl_char <= 111) {
+                switch (_jl_char) {
+                // 0x0060
+                case 96: {
+                    return rewind();
+                }
+                // o
+                case 111: {
+                    return _jl_cell13();
+                }
+                default:  {
+                    return _jl_cell4();
+                }
+                }
+            } else  {
+                if (_jl_char <= 191) {
+                    if (_jl_char <= 122) {
+                        return _jl_cell4();
+                    } else  {
+                        return rewind();
+                    }
+                } else  {
+                    if (_jl_char <= 255) {
+                        return _jl_cell4();
+                    } else  {
+                        return rewind();
+                    }
+                }
+            }
+        }
+    }
+    
+    private int _jl_cell13() {
+        mark(1);
+        final char _jl_char = getNextChar();
+        if (_jl_char <= 94) {
+            if (_jl_char <= 57) {
+                switch (_jl_char) {
+                // [0-9]
+                case 48:
+                case 49:
+                case 50:
+                case 51:
+                case 52:
+                case 53:
+                case 54:
+                case 55:
+                case 56:
+                case 57: {
+                    return _jl_cell4();
+                }
+                default:  {
+                    return rewind();
+                }
+                }
+            } else  {
+                switch (_jl_char) {
+                // [:-@ \[-\^]
+                case 58:
+                case 59:
+                case 60:
+                case 61:
+                case 62:
+                case 63:
+                case 64:
+                case 91:
+                case 92:
+                case 93:
+                case 94: {
+                    return rewind();
+                }
+                default:  {
+                    return _jl_cell4();
+                }
+                }
+            }
+        } else  {
+            if (_jl_char <= 122) {
+                switch (_jl_char) {
+                // 0x0060
+                case 96: {
+                    return rewind();
+                }
+                default:  {
+                    return _jl_cell4();
+                }
+                }
+            } else  {
+                if (_jl_char <= 191) {
+                    return rewind();
+                } else  {
+                    if (_jl_char <= 255) {
+                        return _jl_cell4();
+                    } else  {
+                        return rewind();
+                    }
+                }
+            }
+        }
+    }
+    
+    private int _jl_cell15() {
+        while (true) {
+            mark(74);
+            final char _jl_char = getNextChar();
+            switch (_jl_char) {
+            // [a-z]
+            case 97:
+            case 98:
+            case 99:
+            case 100:
+            case 101:
+            case 102:
+            case 103:
+            case 104:
+            case 105:
+            case 106:
+            case 107:
+            case 108:
+            case 109:
+            case 110:
+            case 111:
+            case 112:
+            case 113:
+            case 114:
+            case 115:
+            case 116:
+            case 117:
+            case 118:
+            case 119:
+            case 120:
+            case 121:
+            case 122: {
+                continue;
+            }
+            default:  {
+                return rewind();
+            }
+            }
+        }
+    }
+    
+    private int _jl_cell16() {
+        mark(74);
+        final char _jl_char = getNextChar();
+        switch (_jl_char) {
+        // [a-k m-z]
+        case 97:
+        case 98:
+        case 99:
+        case 100:
+        case 101:
+        case 102:
+        case 103:
+        case 104:
+        case 105:
+        case 106:
+        case 107:
+        case 109:
+        case 110:
+        case 111:
+        case 112:
+        case 113:
+        case 114:
+        case 115:
+        case 116:
+        case 117:
+        case 118:
+        case 119:
+        case 120:
+        case 121:
+        case 122: {
+            return _jl_cell15();
+        }
+        // l
+        case 108: {
+            return _jl_cell19();
+        }
+        default:  {
+            return rewind();
+        }
+        }
+    }
+    
+    private int _jl_cell17() {
+        mark(74);
+        final char _jl_char = getNextChar();
+        switch (_jl_char) {
+        // [a-e g-z]
+        case 97:
+        case 98:
+        case 99:
+        case 100:
+        case 101:
+        case 103:
+        case 104:
+        case 105:
+        case 106:
+        case 107:
+        case 108:
+        case 109:
+        case 110:
+        case 111:
+        case 112:
+        case 113:
+        case 114:
+        case 115:
+        case 116:
+        case 117:
+        case 118:
+        case 119:
+        case 120:
+        case 121:
+        case 122: {
+            return _jl_cell15();
+        }
+        // f
+        case 102: {
+            return _jl_cell18();
+        }
+        default:  {
+            return rewind();
+        }
+        }
+    }
+    
+    private int _jl_cell18() {
+        mark(71);
+        final char _jl_char = getNextChar();
+        switch (_jl_char) {
+        // [a-z]
+        case 97:
+        case 98:
+        case 99:
+        case 100:
+        case 101:
+        case 102:
+        case 103:
+        case 104:
+        case 105:
+        case 106:
+        case 107:
+        case 108:
+        case 109:
+        case 110:
+        case 111:
+        case 112:
+        case 113:
+        case 114:
+        case 115:
+        case 116:
+        case 117:
+        case 118:
+        case 119:
+        case 120:
+        case 121:
+        case 122: {
+            return _jl_cell15();
+        }
+        default:  {
+            return rewind();
+        }
+        }
+    }
+    
+    private int _jl_cell19() {
+        mark(74);
+        final char _jl_char = getNextChar();
+        switch (_jl_char) {
+        // [a-r t-z]
+        case 97:
+        case 98:
+        case 99:
+        case 100:
+        case 101:
+        case 102:
+        case 103:
+        case 104:
+        case 105:
+        case 106:
+        case 107:
+        case 108:
+        case 109:
+        case 110:
+        case 111:
+        case 112:
+        case 113:
+        case 114:
+        case 116:
+        case 117:
+        case 118:
+        case 119:
+        case 120:
+        case 121:
+        case 122: {
+            return _jl_cell15();
+        }
+        // s
+        case 115: {
+            return _jl_cell20();
+        }
+        default:  {
+            return rewind();
+        }
+        }
+    }
+    
+    private int _jl_cell20() {
+        mark(74);
+        final char _jl_char = getNextChar();
+        switch (_jl_char) {
+        // [a-d f-z]
+        case 97:
+        case 98:
+        case 99:
+        case 100:
+        case 102:
+        case 103:
+        case 104:
+        case 105:
+        case 106:
+        case 107:
+        case 108:
+        case 109:
+        case 110:
+        case 111:
+        case 112:
+        case 113:
+        case 114:
+        case 115:
+        case 116:
+        case 117:
+        case 118:
+        case 119:
+        case 120:
+        case 121:
+        case 122: {
+            return _jl_cell15();
+        }
+        // e
+        case 101: {
+            return _jl_cell21();
+        }
+        default:  {
+            return rewind();
+        }
+        }
+    }
+    
+    private int _jl_cell21() {
+        mark(72);
+        final char _jl_char = getNextChar();
+        switch (_jl_char) {
+        // [a-z]
+        case 97:
+        case 98:
+        case 99:
+        case 100:
+        case 101:
+        case 102:
+        case 103:
+        case 104:
+        case 105:
+        case 106:
+        case 107:
+        case 108:
+        case 109:
+        case 110:
+        case 111:
+        case 112:
+        case 113:
+        case 114:
+        case 115:
+        case 116:
+        case 117:
+        case 118:
+        case 119:
+        case 120:
+        case 121:
+        case 122: {
+            return _jl_cell15();
+        }
+        default:  {
+            return rewind();
+        }
+        }
+    }
+    
+    private static final byte[] _jl_table0 = {
+        0, 0, 0, 0, 0, 0, 0, 0, 0, 1, 1, 0, 0, 1, 0, 0,
+        0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0,
+        1, 0, 0, 2, 0, 0, 0, 0, 0, 0, 0, 3, 0, 0, 0, 0,
+        4, 4, 4, 4, 4, 4, 4, 4, 4, 4, 0, 0, 0, 0, 0, 0,
+        0, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+        5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 0, 0, 0, 0, 5,
+        0, 6, 5, 5, 5, 5, 5, 7, 5, 5, 5, 5, 5, 5, 5, 5,
+        5, 5, 5, 5, 5, 5, 5, 5, 8, 5, 5, 0, 0, 0, 0, 0,
+        0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0,
+        0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0,
+        0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0,
+        0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0,
+        5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+        5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+        5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5,
+        5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5
+    };
+    
+     
+    
+}
@@ -0,0 +1,745 @@
+package org.stekikun.dolmen.test.examples;
+
+/**
+ * Lexer generated by Dolmen 1.0.0
+ */
+public final class KeywordsLexer extends org.stekikun.dolmen.codegen.LexBuffer {
+    
+    
+	private String token(String kind) {
+		return kind + "(" + getLexeme() + ")";
+	}
+
+    
+    /**
+     * Returns a fresh lexer based on the given character stream
+     * @param inputname
+     * @param reader
+     */
+    public KeywordsLexer(String inputname, java.io.Reader reader) {
+        super("1.0.0", inputname, reader);
+    }
+    
+    /**
+     * Returns a fresh lexer based on the given range of characters,
+     * which is used in place and must not be modified while lexing
+     * @param inputname
+     * @param chars
+     * @param offset
+     * @param length
+     */
+    public KeywordsLexer(String inputname, char[] chars, int offset, int length) {
+        super("1.0.0", inputname, chars, offset, length);
+    }
+    
+    /**
+     * Returns a fresh lexer based on the given in-memory characters
+     * @param inputname
+     * @param input
+     */
+    public KeywordsLexer(String inputname, CharSequence input) {
+        super("1.0.0", inputname, input);
+    }
+    
+    /**
+     * Entry point for rule main
+     */
+    public  String  main() {
+        final boolean _jl_top = enterEntry();
+        main:
+        while (true) {
+            // Initialize lexer for this automaton
+            startToken();
+            int result = _jl_interpret(startMatch(0, _jl_top));
+            endToken();
+            switch (result) {
+            case 0:  {
+                 continue main; 
+            }
+            case 1:  {
+                 return token("GO"); 
+            }
+            case 2:  {
+                 return token("K0"); 
+            }
+            case 3:  {
+                 return token("K1"); 
+            }
+            case 4:  {
+                 return token("K2"); 
+            }
+            case 5:  {
+                 return token("K3"); 
+            }
+            case 6:  {
+                 return token("K4"); 
+            }
+            case 7:  {
+                 return token("K5"); 
+            }
+            case 8:  {
+                 return token("K6"); 
+            }
+            case 9:  {
+                 return token("K7"); 
+            }
+            case 10:  {
+                 return token("K8"); 
+            }
+            case 11:  {
+                 return token("K9"); 
+            }
+            case 12:  {
+                 return token("K10"); 
+            }
+            case 13:  {
+                 return token("K11"); 
+            }
+            case 14:  {
+                 return token("K12"); 
+            }
+            case 15:  {
+                 return token("K13"); 
+            }
+            case 16:  {
+                 return token("K14"); 
+            }
+            case 17:  {
+                 return token("K15"); 
+            }
+            case 18:  {
+                 return token("K16"); 
+            }
+            case 19:  {
+                 return token("K17"); 
+            }
+            case 20:  {
+                 return token("K18"); 
+            }
+            case 21:  {
+                 return token("K19"); 
+            }
+            case 22:  {
+                 return token("K20"); 
+            }
+            case 23:  {
+                 return token("K21"); 
+            }
+            case 24:  {
+                 return token("K22"); 
+            }
+            case 25:  {
+                 return token("K23"); 
+            }
+            case 26:  {
+                 return token("K24"); 
+            }
+            case 27:  {
+                 return token("K25"); 
+            }
+            case 28:  {
+                 return token("K26"); 
+            }
+            case 29:  {
+                 return token("K27"); 
+            }
+            case 30:  {
+                 return token("K28"); 
+            }
+            case 31:  {
+                 return token("K29"); 
+            }
+            case 32:  {
+                 return token("K30"); 
+            }
+            case 33:  {
+                 return token("K31"); 
+            }
+            case 34:  {
+                 return token("K32"); 
+            }
+            case 35:  {
+                 return token("K33"); 
+            }
+            case 36:  {
+                 return token("K34"); 
+            }
+            case 37:  {
+                 return token("K35"); 
+            }
+            case 38:  {
+                 return token("K36"); 
+            }
+            case 39:  {
+                 return token("K37"); 
+            }
+            case 40:  {
+                 return token("K38"); 
+            }
+            case 41:  {
+                 return token("K39"); 
+            }
+            case 42:  {
+                 return token("K40"); 
+            }
+            case 43:  {
+                 return token("K41"); 
+            }
+            case 44:  {
+                 return token("K42"); 
+            }
+            case 45:  {
+                 return token("K43"); 
+            }
+            case 46:  {
+                 return token("K44"); 
+            }
+            case 47:  {
+                 return token("K45"); 
+            }
+            case 48:  {
+                 return token("K46"); 
+            }
+            case 49:  {
+                 return token("K47"); 
+            }
+            case 50:  {
+                 return token("K48"); 
+            }
+            case 51:  {
+                 return token("K49"); 
+            }
+            case 52:  {
+                 return token("K50"); 
+            }
+            case 53:  {
+                 return token("K51"); 
+            }
+            case 54:  {
+                 return token("K52"); 
+            }
+            case 55:  {
+                 return token("K53"); 
+            }
+            case 56:  {
+                 return token("K54"); 
+            }
+            case 57:  {
+                 return token("K55"); 
+            }
+            case 58:  {
+                 return token("K56"); 
+            }
+            case 59:  {
+                 return token("K57"); 
+            }
+            case 60:  {
+                 return token("K58"); 
+            }
+            case 61:  {
+                 return token("K59"); 
+            }
+            case 62:  {
+                 return token("K60"); 
+            }
+            case 63:  {
+                 return token("K61"); 
+            }
+            case 64:  {
+                 return token("K62"); 
+            }
+            case 65:  {
+                 return token("K63"); 
+            }
+            case 66:  {
+                 return token("K64"); 
+            }
+            case 67:  {
+                 return token("K65"); 
+            }
+            case 68:  {
+                 return token("K66"); 
+            }
+            case 69:  {
+                 return token("K67"); 
+            }
+            case 70:  {
+                 return token("IDENT"); 
+            }
+            case 71:  {
+                 return token("D0"); 
+            }
+            case 72:  {
+                 return token("D1"); 
+            }
+            case 73:  {
+                 return token("D2"); 
+            }
+            case 74:  {
+                 return token("DIRECTIVE"); 
+            }
+            case 75:  {
+                 return token("N0"); 
+            }
+            case 76:  {
+                 return token("N1"); 
+            }
+            case 77:  {
+                 return token("NUMBER"); 
+            }
+            case 78:  {
+                 return token("EOF"); 
+            }
+            case 79:  {
+                 return token("OTHER"); 
+            }
+            default:
+                break main;
+            }
+        }
+        throw error("Empty token");
+    }
+    
+    private int _jl_interpret(int _jl_cell) {
+        if (_jl_cell >= 0) {
+            final int _jl_action = _jl_actions[_jl_cell];
+            if (_jl_action >= 0) {
+                return _jl_action;
+            }
+            final int _jl_mark = _jl_marks[_jl_cell];
+            if (_jl_mark >= 0) {
+                mark(_jl_mark);
+            }
+        } else _jl_cell = ~_jl_cell;
+        while (true) {
+            final char _jl_char = getNextChar(_jl_cell);
+            final int _jl_slot = _jl_base[_jl_cell] + _jl_cmap[_jl_char < 256 ? _jl_char : _jl_cmapHi[_jl_char >> 8] + (_jl_char & 0xFF)];
+            final int _jl_trans = _jl_check[_jl_slot] == _jl_cell ? _jl_next[_jl_slot] : _jl_deflt[_jl_cell];
+            _jl_cell = _jl_transTargets[_jl_trans];
+            if (_jl_cell < 0) return rewind();
+            final int _jl_action = _jl_actions[_jl_cell];
+            if (_jl_action >= 0) {
+                return _jl_action;
+            }
+            final int _jl_mark = _jl_marks[_jl_cell];
+            if (_jl_mark >= 0) {
+                mark(_jl_mark);
+            }
+        }
+    }
+    
+    // Character classes (44)
+    private static final int[] _jl_cmapHi = unpack(256,
+        "\001\001\376\u0101\001\u0201");
+    private static final int[] _jl_cmap = unpack(768,
+        "\011\001\002\002\002\001\001\002\022\001\001\002\002\001\001\003\007\001" +
+        "\001\004\004\001\001\005\011\006\003\001\001\007\003\001\004\010\001\011" +
+        "\001\012\002\010\001\013\002\010\001\014\002\010\001\015\002\010\001\016" +
+        "\001\017\001\020\006\010\004\001\001\010\001\001\001\021\001\022\001\023" +
+        "\001\024\001\025\001\026\001\027\001\030\001\031\001\032\001\033\001\034" +
+        "\001\035\001\036\001\037\001 \001\032\001!\001\042\001#\001$\001%\001&\001" +
+        "'\001(\001)E\001\011\010\001*\037\010\001+\026\010\u01ff\001\001,");
+    // Cells (278)
+    private static final int[] _jl_actions = unpack(278,
+        "\001\000\001P\001O\u0106\000\001F\014\000");
+    private static final int[] _jl_marks = unpack(278,
+        "\003\000\002N\001P\003G\001P\007G\001E\014G\001\001\007G\001\042\002G\001" +
+        "0\001G\001\036\001\002\001G\001\002\004G\001%\003G\0019\001&\001\004\001" +
+        "\003\002G\001\033\007G\001?\005G\0017\004G\0013\005G\0016\004G\001)\001" +
+        "#\005G\001<\003G\001+\001,\001'\003G\001\032\004G\001:\001\006\001\005\005" +
+        "G\001\010\001\007\001\012\001\011\002G\001\031\001G\001@\002G\001$\002G" +
+        "\001!\016G\001;\002G\001\037\003G\001\030\003G\001-\002G\001(\002G\001\016" +
+        "\001\015\001\014\001\013\006G\001\025\003G\001*\001.\001G\001\035\005G\001" +
+        "1\010G\0015\001G\001\022\001G\001\017\001G\001>\005G\001=\005G\0018\003" +
+        "G\001\020\001G\001\021\003G\001\023\004G\001\024\001G\0012\003G\001 \004" +
+        "G\001/\006G\001\026\004G\0014\004G\001\027\001G\001C\001G\001D\001\000\002" +
+        "G\001\034\003K\001H\002K\001I\001M\001L");
+    // Compressed transition rows
+    private static final int[] _jl_base = unpack(278,
+        "\003\001\001^\001~\001-\001\u0970\001\u0233\001\u0164\001\002\001\u0256" +
+        "\001\u0246\001\u0175\001\u0186\001\u0261\001\u026c\001\u01a5\001\u01b3\001" +
+        "\u0138\001\u0144\001\u01c9\001\u010c\001\u0124\001\u01d6\001\u0276\001\u0115" +
+        "\001\u0157\001\u017e\001\u0284\001=\001\013\001\u028f\001\u0298\001\u02a3" +
+        "\001\u02b2\001\u02bc\001\u02c4\001\u02d5\001\u0980\001\u02de\001\u02ea\001" +
+        "\u0987\001\u02f3\001\u0991\001\u02fb\001\u030a\001\u099c\001\u0311\001\u0319" +
+        "\001\u032a\001\u0331\001\u09a3\001\u0340\001\u0348\001\u0350\001\u09ad\001" +
+        "\u09b4\001\u09bd\001\u09c9\001\u035d\001\u01e2\001\u036e\001\u0367\001\u0377" +
+        "\001\u037e\001\u038a\001\u0394\001\u039d\001\u03a4\001\u09d0\001\u03ab\001" +
+        "\u03c0\001\u03d1\001\u03d8\001\u03e2\001\u09da\001\u01ec\001\u03ec\001\u03f8" +
+        "\001\u0404\001\u09e1\001\u040e\001\u0419\001\u0430\001\u043a\001\u0445\001" +
+        "\u09e9\001\u01bb\001\u019c\001\u044e\001\u045d\001\u09f0\001\u09f7\001\u046c" +
+        "\001\u0474\001\u047b\001\u0483\001\u0490\001\u09fe\001\u0498\001\u04a1\001" +
+        "\u04a9\001\u04b4\001\u0a07\001\u0a0f\001\u01f6\001\u04c7\001\u04d0\001\u0a16" +
+        "\001\u04d8\001\u04e4\001\u04eb\001\u04f3\001\u0a1d\001\u0a24\001\u0a2b\001" +
+        "\u04fe\001\u0508\001\u0511\001\u0212\001\u021a\001\u0a33\001\u0a3c\001\u0a43" +
+        "\001\u0a4a\001\u051f\001\u052a\001\u0534\001\u053d\001\u0a51\001\u0546\001" +
+        "\u0551\001\u0a59\001\u055a\001\u056c\001\u0a60\001\u0573\001\u057d\001\u0586" +
+        "\001\u0599\001\u05a0\001\u05a9\001\u05b2\001\u05bf\001\u05cd\001\u05d5\001" +
+        "\u05e1\001\u05ed\001\u05f4\001\u05fb\001\u0a69\001\u0603\001\u0610\001\u0a70" +
+        "\001\u061a\001\u0627\001\u0634\001\u0a77\001\u0641\001\u0648\001\u0653\001" +
+        "\u0a7f\001\u065b\001\u0665\001\u0a86\001\u0222\001\u022a\001\u0a8d\001\u0a96" +
+        "\001\u0a9d\001\u0aa5\001\u0674\001\u0687\001\u023e\001\u0692\001\u069a\001" +
+        "\u06a3\001\u0aac\001\u06aa\001\u06b4\001\u06c7\001\u0ab3\001\u0aba\001\u06d0" +
+        "\001\u0ac3\001\u06d7\001\u06e0\001\u06e7\001\u06f4\001\u06fd\001\u0acb\001" +
+        "\u0706\001\u070d\001\u0718\001\u0720\001\u072a\001\u0734\001\u0744\001\u074c" +
+        "\001\u0ad2\001\u0758\001\u0ad9\001\u0761\001\u0ae0\001\u0768\001\u0ae7\001" +
+        "\u0770\001\u0778\001\u0788\001\u077f\001\u0794\001\u0aef\001\u07a5\001\u07ac" +
+        "\001\u07b8\001\u07c0\001\u07d3\001\u0af8\001\u07da\001\u07ec\001\u07e4\001" +
+        "\u0aff\001\u07f9\001\u0b06\001\u0806\001\u0810\001\u0819\001\u0b0d\001\u0820" +
+        "\001\u0832\001\u0846\001\u083d\001\u0b15\001\u084d\001\u0856\001\u085e\001" +
+        "\u086a\001\u0874\001\u0b1c\001\u087c\001\u088d\001\u0896\001\u08a0\001\u0b25" +
+        "\001\u08a8\001\u08b3\001\u08c6\001\u08ce\001\u08da\001\u08e1\001\u0b2c\001" +
+        "\u08ea\001\u08fa\001\u090d\001\u0916\001\u0b33\001\u091e\001\u0926\001\u092d" +
+        "\001\u0939\001\u0b3b\001\u0944\001\u0b42\001\u0953\001\u0b49\001\001\001" +
+        "\u095a\001\u0965\001\u0b52\001\311\001F\001r\001\340\001\210\001\264\001" +
+        "\365\001\201\001\236");
+    private static final int[] _jl_deflt = unpack(278,
+        "\001\007\002\001\002\037\001\042\003\007\001\037\024\007\001\037\352\007" +
+        "\001\001\003\007\007\042\002\037");
+    private static final int[] _jl_check = unpack(2985,
+        "\007\001\001\012\003\001\001\037\004\000\007\001\001\000\001\001\002\000" +
+        "\001\001\001\000\001\001\001\000\004\001\001\000\003\001\002\000\003\001" +
+        "\020\006\004\036\001\006\001\000\001\036\001\000\001\006\020\u010f\003\006" +
+        "\002\000\001\036\001\000\001\036\003\000\001\u010f\002\004\001\036\003\000" +
+        "\001\036\006\000\003\u010f\020\u0110\002\005\001\004\002\u0115\001\u0110" +
+        "\020\u0112\003\000\003\u0110\004\000\002\u0116\001\005\002\000\001\u0115" +
+        "\001\000\001\u0112\007\000\003\u0112\020\u0113\001\u0116\003\000\001\u0113" +
+        "\020\u010e\004\000\003\u0113\020\u0111\002\000\003\u010e\020\u0114\004\000" +
+        "\003\u0111\004\026\002\000\001\026\002\000\004\032\002\000\001\032\002\000" +
+        "\003\u0114\002\000\001\026\004\027\002\000\001\027\001\000\001\032\001\000" +
+        "\002\026\001\027\001\026\001\000\001\026\001\027\001\032\001\000\001\026" +
+        "\004\023\001\027\001\000\001\023\001\027\001\032\001\000\001\027\001\023" +
+        "\004\024\002\000\001\024\004\000\001\027\003\000\001\023\001\024\001\023" +
+        "\001\000\004\033\001\024\001\000\001\033\001\023\001\024\001\033\001\000" +
+        "\001\024\001\023\007\011\001\000\001\033\002\000\001\024\003\000\002\033" +
+        "\004\015\002\000\001\015\002\000\004\034\001\033\001\000\001\034\001\015" +
+        "\004\016\001\011\001\000\001\016\001\000\001\034\001\011\002\000\001\034" +
+        "\002\000\001\015\002\000\001\015\001\000\001\016\001\000\004Y\001\015\001" +
+        "\034\001Y\001\000\001\016\004\021\001\034\001\000\001\021\001Y\003\000\001" +
+        "\021\001\016\001\000\004\022\002\000\001\022\001\000\004X\001Y\001\021\001" +
+        "X\001\000\001Y\001\022\002\000\001Y\001\000\004\025\002\000\001\025\001" +
+        "\021\002\000\001X\001\022\001\025\004\030\001\000\001X\001\030\001\000\001" +
+        "\022\001\030\002\000\004=\001X\001\025\001=\002\000\001\030\004M\002\000" +
+        "\001M\001\000\001\025\001\000\004j\002\000\001j\004\000\001\030\001\000" +
+        "\002=\002\000\001M\002\000\001M\002\000\001=\001j\002\000\001j\004x\001" +
+        "\000\001M\001x\001\000\004y\001\000\001x\001y\001j\004\246\001\000\001y" +
+        "\001\246\001\000\004\247\001\000\001\246\001\247\001\000\001x\004\010\001" +
+        "\247\001\000\001\010\001y\002\000\001x\004\256\001\246\001\000\001\256\001" +
+        "y\004\014\001\247\001\000\001\014\001\246\003\000\001\010\003\000\001\247" +
+        "\004\013\002\000\001\013\001\000\001\010\002\256\004\017\001\013\001\000" +
+        "\001\017\001\014\001\256\002\000\004\020\001\000\001\014\001\020\002\000" +
+        "\001\017\004\031\002\000\001\031\004\000\001\013\001\000\001\020\004\035" +
+        "\002\000\001\035\001\000\001\017\002\000\004 \001\000\001\031\001 \001\000" +
+        "\001\020\004!\002\000\001!\002\000\001\031\001\035\004\042\002\000\001\042" +
+        "\002\000\001!\002\000\001\035\001\000\001 \004#\002\000\001#\001\000\001" +
+        " \001\000\004$\001\000\001\042\001$\001!\004%\002\000\001%\002\000\001#" +
+        "\001\042\001\000\001$\003\000\001%\004&\002\000\001&\001\000\001#\004(\002" +
+        "\000\001(\002\000\001$\002\000\004)\001(\001%\001)\001\000\001&\004+\002" +
+        "\000\001+\001\000\004-\001\000\001&\001-\002\000\001)\002\000\001+\001\000" +
+        "\001(\004.\002\000\001.\0040\001)\001\000\0010\001\000\0041\001-\001+\001" +
+        "1\006\000\001-\001\000\001.\001\000\0042\002\000\0012\0043\001.\0010\001" +
+        "3\003\000\0011\0010\003\000\0045\0011\0012\0015\001\000\0046\0013\001\000" +
+        "\0016\001\000\0047\001\000\0012\0017\001\000\0015\003\000\0013\004<\002" +
+        "\000\001<\0017\002\000\004?\0015\0016\001?\004>\001\000\0016\001>\002\000" +
+        "\004@\0017\001<\001@\004A\001>\001\000\001A\002\000\001@\001<\001?\004B" +
+        "\002\000\001B\001\000\001?\001\000\004C\001\000\001>\001C\001A\001B\004" +
+        "D\001\000\001@\001D\004E\001C\001A\001E\004G\002\000\001G\003\000\001B\003" +
+        "\000\001E\001\000\001D\003\000\001C\004H\002\000\001H\001\000\001D\002\000" +
+        "\001G\003\000\001E\001\000\004I\001H\001G\001I\004J\002\000\001J\002\000" +
+        "\001I\004K\002\000\001K\001\000\001J\001H\004N\002\000\001N\003\000\001" +
+        "K\001\000\004O\001I\001\000\001O\001\000\001N\002\000\001J\004P\002\000" +
+        "\001P\002\000\001K\004R\002\000\001R\002\000\001N\001O\004S\002\000\001" +
+        "S\003\000\001O\002\000\001P\003\000\001R\002\000\001S\001\000\001P\004T" +
+        "\002\000\001T\002\000\001R\004U\002\000\001U\003\000\001S\004V\002\000\001" +
+        "V\001\000\001T\004Z\002\000\001Z\006\000\001T\001U\004[\002\000\001[\001" +
+        "\000\001U\001V\004\000\001Z\004^\001V\001[\001^\001\000\004_\001\000\001" +
+        "Z\001_\004`\002\000\001`\001\000\004a\001\000\001[\001a\002\000\001_\001" +
+        "^\001\000\001`\004b\002\000\001b\001^\004d\002\000\001d\001_\001a\004e\001" +
+        "\000\001`\001e\001\000\004f\001\000\001a\001f\002\000\001b\001\000\004g" +
+        "\001\000\001d\001g\001b\003\000\001e\003\000\001d\003\000\004k\001\000\001" +
+        "e\001k\001f\001\000\004l\001f\001g\001l\001k\004n\002\000\001n\001g\003" +
+        "\000\001l\004o\002\000\001o\004p\002\000\001p\001k\004q\002\000\001q\001" +
+        "n\001l\001o\001\000\004u\001\000\001n\001u\001\000\001p\001q\004v\002\000" +
+        "\001v\001o\001\000\004w\001\000\001p\001w\004\000\001u\001\000\001q\004" +
+        "~\001v\001\000\001~\003\000\001u\004\177\001w\001~\001\177\002\000\001v" +
+        "\004\200\002\000\001\200\001\000\001w\004\201\002\000\001\201\001\000\001" +
+        "\177\004\203\001~\001\000\001\203\002\000\001\200\001\000\004\204\001\177" +
+        "\001\000\001\204\002\000\004\206\001\000\001\200\001\206\003\000\001\201" +
+        "\001\204\001\000\001\203\001\201\001\000\001\206\001\000\004\207\001\000" +
+        "\001\203\001\207\004\211\002\000\001\211\002\000\001\204\004\212\002\000" +
+        "\001\212\001\000\001\206\004\213\002\000\001\213\001\000\001\207\003\000" +
+        "\001\211\002\000\001\212\001\213\001\207\001\000\004\214\001\000\001\211" +
+        "\001\214\004\215\002\000\001\215\001\000\001\212\004\216\002\000\001\216" +
+        "\001\000\001\213\004\217\001\000\001\214\001\217\002\000\001\216\001\000" +
+        "\001\215\001\000\004\220\001\000\001\214\001\220\003\000\001\217\001\000" +
+        "\001\215\001\000\004\221\002\000\001\221\001\216\004\222\002\000\001\222" +
+        "\001\000\001\217\001\000\001\220\001\000\004\223\002\000\001\223\002\000" +
+        "\001\220\001\221\001\000\004\224\001\000\001\222\001\224\004\225\001\221" +
+        "\001\223\001\225\004\226\001\000\001\222\001\226\001\000\004\230\001\000" +
+        "\001\225\001\230\002\000\001\223\001\000\001\226\001\000\004\231\001\000" +
+        "\001\224\001\231\001\000\001\224\001\000\004\233\001\000\001\225\001\233" +
+        "\002\000\001\230\002\000\001\226\004\234\002\000\001\234\001\230\003\000" +
+        "\001\231\001\000\004\235\002\000\001\235\001\231\001\233\002\000\001\234" +
+        "\001\000\004\237\001\233\001\235\001\237\004\240\002\000\001\240\003\000" +
+        "\001\234\004\241\002\000\001\241\001\240\004\243\001\235\001\000\001\243" +
+        "\001\000\001\237\001\000\004\244\001\000\001\241\001\244\001\237\002\000" +
+        "\001\243\003\000\001\240\004\254\002\000\001\254\003\000\001\241\006\000" +
+        "\001\244\001\243\004\255\002\000\001\255\002\000\001\244\001\254\004\257" +
+        "\001\000\001\255\001\257\001\000\004\260\001\000\001\254\001\260\001\000" +
+        "\001\257\004\261\002\000\001\261\004\263\002\000\001\263\001\000\001\255" +
+        "\001\000\004\264\002\000\001\264\001\260\001\000\001\257\001\263\005\000" +
+        "\001\261\001\260\001\264\004\265\002\000\001\265\001\261\001\000\004\270" +
+        "\001\000\001\263\001\270\004\272\002\000\001\272\001\265\001\264\004\273" +
+        "\002\000\001\273\004\274\002\000\001\274\002\000\001\270\001\000\001\265" +
+        "\001\000\004\275\001\273\001\272\001\275\001\270\001\000\004\276\001\000" +
+        "\001\272\001\276\001\274\001\000\004\300\001\000\001\273\001\300\004\301" +
+        "\001\276\001\274\001\301\003\000\001\275\004\302\002\000\001\302\001\275" +
+        "\004\303\002\000\001\303\001\000\001\276\001\300\004\304\001\301\001\000" +
+        "\001\304\001\300\002\000\004\305\001\301\001\302\001\305\003\000\001\304" +
+        "\003\000\001\303\001\302\004\306\002\000\001\306\001\303\004\307\001\000" +
+        "\001\305\001\307\002\000\001\304\001\000\001\306\004\311\002\000\001\311" +
+        "\001\305\001\311\004\313\002\000\001\313\004\315\001\000\001\307\001\315" +
+        "\001\306\004\317\001\000\001\313\001\317\001\307\004\320\002\000\001\320" +
+        "\004\322\001\311\001\315\001\322\002\000\004\321\001\313\001\000\001\321" +
+        "\002\000\001\317\001\000\001\315\004\323\001\000\001\320\001\323\001\317" +
+        "\001\321\002\000\001\322\003\000\001\320\001\000\004\325\001\000\001\322" +
+        "\001\325\004\326\002\000\001\326\001\321\002\000\001\323\001\000\004\327" +
+        "\002\000\001\327\001\323\004\330\002\000\001\330\001\325\001\327\003\000" +
+        "\001\326\003\000\001\325\001\000\001\330\004\331\001\326\001\000\001\331" +
+        "\004\333\002\000\001\333\002\000\001\327\004\335\001\333\001\000\001\335" +
+        "\001\330\004\334\002\000\001\334\002\000\001\331\002\000\001\335\004\337" +
+        "\001\000\001\331\001\337\001\000\001\337\003\000\001\333\004\341\002\000" +
+        "\001\341\001\334\001\000\001\335\004\342\002\000\001\342\001\334\001\000" +
+        "\004\343\001\000\001\341\001\343\004\345\001\337\001\000\001\345\004\000" +
+        "\001\342\001\000\001\343\003\000\001\341\004\346\002\000\001\346\002\000" +
+        "\001\342\001\000\004\350\001\000\001\345\001\350\001\343\001\000\004\347" +
+        "\001\000\001\345\001\347\004\352\002\000\001\352\001\000\001\346\004\353" +
+        "\001\350\001\000\001\353\001\346\004\354\001\352\001\000\001\354\001\000" +
+        "\001\347\001\000\001\350\001\000\004\355\001\000\001\354\001\355\001\347" +
+        "\002\000\004\356\001\352\001\353\001\356\001\000\004\360\001\000\001\353" +
+        "\001\360\002\000\001\355\002\000\001\356\001\354\002\000\001\360\004\361" +
+        "\002\000\001\361\001\000\001\355\004\362\002\000\001\362\002\000\001\356" +
+        "\004\363\002\000\001\363\001\360\004\365\002\000\001\365\001\000\001\361" +
+        "\001\362\001\000\004\366\001\000\001\361\001\366\006\000\001\365\001\362" +
+        "\001\363\002\000\001\366\004\367\001\000\001\363\001\367\001\000\004\370" +
+        "\001\000\001\365\001\370\002\000\001\367\002\000\004\371\001\366\001\000" +
+        "\001\371\004\372\002\000\001\372\001\000\001\370\004\374\002\000\001\374" +
+        "\001\367\001\371\001\372\005\000\001\370\004\375\002\000\001\375\003\000" +
+        "\001\374\001\371\004\000\001\375\001\000\001\372\004\376\002\000\001\376" +
+        "\001\000\001\374\004\377\002\000\001\377\001\000\004\u0101\001\000\001\376" +
+        "\001\u0101\001\375\004\u0102\001\377\001\000\001\u0102\004\u0103\002\000" +
+        "\001\u0103\002\000\001\u0102\001\000\001\376\004\u0104\002\000\001\u0104" +
+        "\001\000\001\377\001\u0101\001\000\004\u0106\001\000\001\u0101\001\u0106" +
+        "\002\000\001\u0104\001\000\001\u0103\001\000\001\u0102\001\000\004\u0108" +
+        "\001\000\001\u0103\001\u0108\004\u010b\002\000\001\u010b\003\000\001\u0104" +
+        "\004\u010c\002\000\001\u010c\002\000\002\u0106\004\007\002\000\001\007\001" +
+        "\u010b\003\000\001\u010c\001\u0108\001\000\001\u0108\001\000\004'\001\000" +
+        "\001\u010b\001'\004*\002\000\001*\002\000\001\u010c\004,\002\000\001,\003" +
+        "\000\001\007\004/\002\000\001/\0044\002\000\0014\001\000\001'\001\000\004" +
+        "8\001\000\001*\0018\0049\002\000\0019\001\000\001,\004:\002\000\001:\003" +
+        "\000\001/\001\000\004;\001\000\0014\001;\004F\002\000\001F\001\000\0018" +
+        "\001\000\004L\001\000\0019\001L\004Q\002\000\001Q\001:\004W\002\000\001" +
+        "W\004\134\001;\001\000\001\134\004]\001F\001\000\001]\004c\002\000\001c" +
+        "\001L\001\000\004h\001\000\001Q\001h\001\000\004i\001\000\001W\001i\004" +
+        "m\001\000\001\134\001m\004r\001\000\001]\001r\004s\001\000\001c\001s\004" +
+        "t\002\000\001t\001h\004z\002\000\001z\001i\001\000\004{\001\000\001m\001" +
+        "{\004|\001\000\001r\001|\004}\001\000\001s\001}\004\202\001\000\001t\001" +
+        "\202\001\000\004\205\001\000\001z\001\205\004\210\002\000\001\210\001{\001" +
+        "\000\004\227\001\000\001|\001\227\004\232\001\000\001}\001\232\004\236\001" +
+        "\000\001\202\001\236\001\000\004\242\001\000\001\205\001\242\004\245\001" +
+        "\000\001\210\001\245\004\250\002\000\001\250\001\227\001\000\004\251\001" +
+        "\000\001\232\001\251\004\252\001\000\001\236\001\252\001\000\004\253\001" +
+        "\000\001\242\001\253\004\262\001\000\001\245\001\262\004\266\001\000\001" +
+        "\250\001\266\004\267\002\000\001\267\001\251\001\000\004\271\001\000\001" +
+        "\252\001\271\001\000\004\277\001\000\001\253\001\277\004\310\001\000\001" +
+        "\262\001\310\004\312\001\000\001\266\001\312\004\314\001\000\001\267\001" +
+        "\314\004\316\002\000\001\316\001\271\004\324\002\000\001\324\001\277\001" +
+        "\000\004\332\001\000\001\310\001\332\004\336\001\000\001\312\001\336\004" +
+        "\340\001\000\001\314\001\340\004\344\001\000\001\316\001\344\001\000\004" +
+        "\351\001\000\001\324\001\351\004\357\002\000\001\357\001\332\001\000\004" +
+        "\364\001\000\001\336\001\364\004\373\001\000\001\340\001\373\004\u0100\001" +
+        "\000\001\344\001\u0100\001\000\004\u0105\001\000\001\351\001\u0105\004\u0107" +
+        "\001\000\001\357\001\u0107\004\u0109\002\000\001\u0109\001\364\001\000\004" +
+        "\u010d\001\000\001\373\001\u010d\005\000\001\u0100\007\000\001\u0105\006" +
+        "\000\001\u0107\006\000\001\u0109\010\000\001\u010d,\000");
+    private static final int[] _jl_next = unpack(2985,
+        "\001\001\001\002\001\003\001\004\001\005\001\006\001\001\001&\001\010\001" +
+        "\011\001\012\001\002\004\001\001\013\001\014\001\015\001\016\001\017\001" +
+        "\020\001\021\001\001\001\022\002\001\001\023\001\001\001\024\001\001\001" +
+        "\025\001\026\001\027\001\030\001\001\001\031\001\032\001\033\002\001\001" +
+        "\034\001\035\001\036\024\037\001#\001\001\001\037\001\001\001$\023\037\002" +
+        "\001\001U\001\001\001V\003\001\001\u0113\002\006\001W\003\001\001\037\006" +
+        "\001\023\037\001 \004\006\001\u0114\020\037\003\001\003\037\004\001\002" +
+        "\006\001!\002\001\001\006\001\001\001\u0115\007\001\023\037\001\006\003" +
+        "\001\001\u0116\020\037\004\001\023\037\002\001\023\037\004\001\007\037\002" +
+        "\001\001\037\002\001\004\037\002\001\001\037\002\001\003\037\002\001\001" +
+        ">\004\037\002\001\001\037\001\001\001K\001\001\001?\001@\001C\001A\001\001" +
+        "\001B\001D\001L\001\001\005\037\001E\001\001\001\037\001F\001\037\001\001" +
+        "\001G\0014\004\037\002\001\001\037\004\001\001\037\003\001\0015\0018\001" +
+        "6\001\001\004\037\0019\001\001\001\037\0017\001:\001M\001\001\001;\005\037" +
+        "\002\033\001\037\001\001\001N\002\001\001\037\003\001\001O\001P\004\037" +
+        "\002\001\001\037\002\001\005\037\001\001\001\037\001)\004\037\001\033\001" +
+        "\001\001\037\001\001\001Q\001\037\002\001\001R\002\001\001*\002\001\001" +
+        "+\001\001\001,\001\001\005\037\001S\001\037\001\001\001-\005\037\001\001" +
+        "\001\037\001\207\003\001\0010\001\037\001\001\004\037\002\001\001\037\001" +
+        "\001\004\037\001\210\0011\001\037\001\001\001\211\0012\002\001\001\037\001" +
+        "\001\004\037\002\001\002\037\002\001\001\205\0013\001<\004\037\001\001\001" +
+        "\206\001\037\001\001\001\037\001H\002\001\005\037\001=\001\037\002\001\001" +
+        "I\004\037\002\001\001\037\001\001\001\037\001\001\004\037\002\001\001\037" +
+        "\004\001\001\037\001\001\001l\001m\002\001\001{\002\001\001|\002\001\001" +
+        "\037\001\225\002\001\001\226\004\037\001\001\002\037\001\001\004\037\001" +
+        "\001\001\240\006\037\001\001\001\242\001\037\001\001\004\037\001\001\001" +
+        "\304\001\037\001\001\001\241\004\037\001\306\001\001\001\037\001\243\002" +
+        "\001\005\037\001\305\001\001\006\037\001\307\001\001\002\037\003\001\001" +
+        "%\003\001\005\037\002\001\001\037\001\001\001\037\001\312\001\313\004\037" +
+        "\001'\001\001\001\037\001(\001\037\002\001\004\037\001\001\002\037\002\001" +
+        "\001.\004\037\002\001\001\037\004\001\001\037\001\001\001/\004\037\002\001" +
+        "\001\037\001\001\001\037\002\001\004\037\001\001\001J\001\037\001\001\005" +
+        "\037\002\001\001\037\002\001\001\037\001T\004\037\002\001\001\037\002\001" +
+        "\001Y\002\001\001\037\001\001\001X\004\037\002\001\001\037\001\001\001\037" +
+        "\001\001\004\037\001\001\001Z\006\037\002\001\001\037\002\001\001[\001\037" +
+        "\001\001\001\134\003\001\001]\004\037\002\001\001\037\001\001\005\037\002" +
+        "\001\001\037\002\001\001\037\002\001\004\037\001_\002\037\001\001\001^\004" +
+        "\037\002\001\001\037\001\001\004\037\001\001\002\037\002\001\001`\002\001" +
+        "\001a\001\001\005\037\002\001\006\037\001\001\001\037\001\001\004\037\001" +
+        "b\002\037\006\001\001\037\001\001\001c\001\001\004\037\002\001\006\037\001" +
+        "d\001\037\003\001\001e\001\037\003\001\005\037\001f\001\037\001\001\004" +
+        "\037\001g\001\001\001\037\001\001\004\037\001\001\002\037\001\001\001h\003" +
+        "\001\005\037\002\001\001\037\001j\002\001\005\037\001i\005\037\001\001\002" +
+        "\037\002\001\005\037\001k\005\037\001n\001\001\001\037\002\001\001p\001" +
+        "\037\001o\004\037\002\001\001\037\001\001\001\037\001\001\004\037\001\001" +
+        "\002\037\001q\001r\004\037\001\001\006\037\001s\006\037\002\001\001\037" +
+        "\003\001\001\037\003\001\001u\001\001\001t\003\001\005\037\002\001\001\037" +
+        "\001\001\001\037\002\001\001v\003\001\001\037\001\001\004\037\001w\006\037" +
+        "\002\001\001\037\002\001\001x\004\037\002\001\001\037\001\001\001y\005\037" +
+        "\002\001\001\037\003\001\001z\001\001\005\037\001\001\001\037\001\001\001" +
+        "}\002\001\005\037\002\001\001\037\002\001\005\037\002\001\001\037\002\001" +
+        "\001\037\001~\004\037\002\001\001\037\003\001\001\037\002\001\001\177\003" +
+        "\001\001\200\002\001\001\201\001\001\005\037\002\001\001\037\002\001\005" +
+        "\037\002\001\001\037\003\001\005\037\002\001\001\037\001\001\001\202\004" +
+        "\037\002\001\001\037\006\001\001\037\001\203\004\037\002\001\001\037\001" +
+        "\001\001\037\001\204\004\001\001\212\005\037\001\213\001\037\001\001\004" +
+        "\037\001\001\006\037\002\001\001\037\001\001\004\037\001\001\002\037\002" +
+        "\001\001\215\001\214\001\001\001\216\004\037\002\001\006\037\002\001\002" +
+        "\037\001\217\004\037\001\001\002\037\001\001\004\037\001\001\002\037\002" +
+        "\001\001\220\001\001\004\037\001\001\001\221\002\037\003\001\001\222\003" +
+        "\001\001\037\003\001\004\037\001\001\002\037\001\223\001\001\005\037\001" +
+        "\224\001\037\001\227\004\037\002\001\002\037\003\001\001\230\004\037\002" +
+        "\001\005\037\002\001\006\037\002\001\001\037\001\231\001\037\001\232\001" +
+        "\001\004\037\001\001\002\037\001\001\001\233\001\234\004\037\002\001\002" +
+        "\037\001\001\004\037\001\001\002\037\004\001\001\235\001\001\005\037\001" +
+        "\236\001\001\001\037\003\001\005\037\001\237\001\244\001\037\002\001\005" +
+        "\037\002\001\001\037\001\001\005\037\002\001\001\037\001\001\001\245\005" +
+        "\037\001\001\001\037\002\001\001\246\001\001\005\037\001\001\001\037\002" +
+        "\001\004\037\001\001\002\037\003\001\001\247\001\251\001\001\001\250\001" +
+        "\037\001\001\001\252\001\001\004\037\001\001\006\037\002\001\001\037\002" +
+        "\001\005\037\002\001\001\037\001\001\005\037\002\001\001\037\001\001\001" +
+        "\253\003\001\001\254\002\001\001\255\001\256\001\037\001\001\004\037\001" +
+        "\001\006\037\002\001\001\037\001\001\005\037\002\001\001\037\001\001\005" +
+        "\037\001\001\001\257\001\037\002\001\001\261\001\001\001\260\001\001\004" +
+        "\037\001\001\002\037\003\001\001\262\001\001\001\037\001\001\004\037\002" +
+        "\001\006\037\002\001\001\037\001\001\001\037\001\001\001\263\001\001\004" +
+        "\037\002\001\001\037\002\001\001\037\001\264\001\001\004\037\001\001\001" +
+        "\265\006\037\001\266\005\037\001\001\002\037\001\001\004\037\001\001\001" +
+        "\270\001\037\002\001\001\037\001\001\001\271\001\001\004\037\001\001\001" +
+        "\267\001\037\001\001\001\037\001\001\004\037\001\001\002\037\002\001\001" +
+        "\272\002\001\005\037\002\001\002\037\003\001\001\273\001\001\004\037\002" +
+        "\001\002\037\001\274\002\001\001\275\001\001\005\037\001\276\005\037\002" +
+        "\001\001\037\003\001\005\037\002\001\001\037\001\300\005\037\001\001\001" +
+        "\037\001\001\001\277\001\001\004\037\001\001\001\301\002\037\002\001\001" +
+        "\302\003\001\005\037\002\001\001\037\003\001\001\037\006\001\001\303\005" +
+        "\037\002\001\001\037\002\001\001\037\001\310\004\037\001\001\001\311\001" +
+        "\037\001\001\004\037\001\001\002\037\001\001\001\314\004\037\002\001\005" +
+        "\037\002\001\001\037\001\001\001\037\001\001\004\037\002\001\001\037\001" +
+        "\315\001\001\001\037\001\317\005\001\001\316\001\037\001\320\004\037\002" +
+        "\001\002\037\001\001\004\037\001\001\006\037\002\001\001\037\001\321\005" +
+        "\037\002\001\005\037\002\001\001\037\002\001\001\322\001\001\001\037\001" +
+        "\001\004\037\001\324\001\323\002\037\001\001\004\037\001\001\002\037\001" +
+        "\325\001\001\004\037\001\001\006\037\001\327\002\037\003\001\001\326\004" +
+        "\037\002\001\006\037\002\001\001\037\001\001\001\037\001\330\004\037\001" +
+        "\331\001\001\002\037\002\001\005\037\001\332\001\037\003\001\001\334\003" +
+        "\001\001\333\005\037\002\001\006\037\001\001\001\335\001\037\002\001\001" +
+        "\037\001\001\001\336\004\037\002\001\002\037\001\340\004\037\002\001\005" +
+        "\037\001\001\001\337\006\037\001\001\001\341\006\037\002\001\006\037\001" +
+        "\342\001\037\002\001\005\037\001\001\001\037\002\001\001\343\001\001\005" +
+        "\037\001\001\001\344\002\037\001\345\002\001\001\346\003\001\001\037\001" +
+        "\001\004\037\001\001\006\037\002\001\002\037\002\001\001\347\001\001\004" +
+        "\037\002\001\006\037\002\001\001\037\001\350\001\352\003\001\001\351\003" +
+        "\001\001\037\001\001\001\353\005\037\001\001\005\037\002\001\001\037\002" +
+        "\001\005\037\001\355\001\001\006\037\002\001\001\037\002\001\001\354\002" +
+        "\001\001\357\004\037\001\001\002\037\001\001\001\360\003\001\005\037\002" +
+        "\001\001\037\001\356\001\001\005\037\002\001\002\037\001\001\004\037\001" +
+        "\001\001\361\006\037\001\001\001\037\004\001\001\362\001\001\001\363\003" +
+        "\001\005\037\002\001\001\037\002\001\001\037\001\001\004\037\001\001\001" +
+        "\364\002\037\001\001\004\037\001\001\006\037\002\001\001\037\001\001\001" +
+        "\365\004\037\001\367\001\001\006\037\001\370\001\001\001\037\001\001\001" +
+        "\366\001\001\001\037\001\001\004\037\001\001\001\372\002\037\002\001\005" +
+        "\037\001\371\001\037\001\001\004\037\001\001\002\037\002\001\001\373\002" +
+        "\001\001\374\001\037\002\001\001\375\004\037\002\001\001\037\001\001\005" +
+        "\037\002\001\001\037\002\001\005\037\002\001\006\037\002\001\001\037\001" +
+        "\001\001\376\001\377\001\001\004\037\001\001\002\037\006\001\001\u0101\001" +
+        "\037\001\u0100\002\001\001\u0102\004\037\001\001\002\037\001\001\004\037" +
+        "\001\001\002\037\002\001\001\u0103\002\001\005\037\001\001\005\037\002\001" +
+        "\001\037\001\001\001\u0104\004\037\002\001\002\037\001\u0105\001\u0106\005" +
+        "\001\005\037\002\001\001\037\003\001\001\u0107\001\037\004\001\001\u0108" +
+        "\001\001\005\037\002\001\001\037\001\001\005\037\002\001\001\037\001\001" +
+        "\004\037\001\001\001\u0109\006\037\001\u010a\001\001\005\037\002\001\001" +
+        "\037\002\001\001\u010c\001\001\005\037\002\001\001\037\001\001\001\037\001" +
+        "\u010b\001\001\004\037\001\001\002\037\002\001\001\u010e\001\001\001\u010d" +
+        "\001\001\001\037\001\001\004\037\001\001\006\037\002\001\001\037\003\001" +
+        "\005\037\002\001\001\037\002\001\001\u010f\005\037\002\001\001\037\001\u0111" +
+        "\003\001\001\u0112\001\u0110\001\001\001\037\001\001\004\037\001\001\006" +
+        "\037\002\001\001\037\002\001\005\037\002\001\001\037\003\001\005\037\002" +
+        "\001\005\037\002\001\001\037\001\001\001\037\001\001\004\037\001\001\006" +
+        "\037\002\001\001\037\001\001\005\037\002\001\001\037\003\001\001\037\001" +
+        "\001\004\037\001\001\006\037\002\001\001\037\001\001\001\037\001\001\004" +
+        "\037\001\001\006\037\002\001\006\037\002\001\006\037\001\001\006\037\001" +
+        "\001\005\037\002\001\002\037\001\001\004\037\001\001\002\037\001\001\004" +
+        "\037\001\001\006\037\001\001\006\037\001\001\006\037\001\001\006\037\002" +
+        "\001\006\037\002\001\002\037\001\001\004\037\001\001\006\037\001\001\006" +
+        "\037\001\001\006\037\001\001\002\037\001\001\004\037\001\001\006\037\002" +
+        "\001\002\037\001\001\004\037\001\001\006\037\001\001\006\037\001\001\002" +
+        "\037\001\001\004\037\001\001\006\037\001\001\006\037\002\001\002\037\001" +
+        "\001\004\037\001\001\006\037\001\001\002\037\001\001\004\037\001\001\006" +
+        "\037\001\001\006\037\001\001\006\037\002\001\002\037\001\001\004\037\001" +
+        "\001\002\037\001\001\004\037\001\001\006\037\001\001\006\037\001\001\006" +
+        "\037\001\001\006\037\002\001\006\037\002\001\002\037\001\001\004\037\001" +
+        "\001\006\037\001\001\006\037\001\001\006\037\001\001\002\037\001\001\004" +
+        "\037\001\001\006\037\002\001\002\037\001\001\004\037\001\001\006\037\001" +
+        "\001\006\037\001\001\002\037\001\001\004\037\001\001\006\037\001\001\006" +
+        "\037\002\001\002\037\001\001\004\037\001\001\002\037\005\001\001\037\007" +
+        "\001\001\037\006\001\001\037\006\001\001\037\010\001\001\037,\001");
+    // Transitions (278)
+    private static final int[] _jl_transTargets = unpack(278,
+        "\001\002\001\037\001\006\001\012\001\005\001\004\001\007\001\021\001\025" +
+        "\001\030\001\022\001\036\001\024\001\016\001\023\001\027\001\035\001\033" +
+        "\001\010\001\034\001\015\001\017\001\026\001\032\001\031\001\020\001\011" +
+        "\001\013\001\014\001\003\001\000\001\u0115\001\u0116\001\u010e\001\u010f" +
+        "\001\u0110\001\u010b\001\u010a\001\u0108\001\u0106\001\366\001\365\001\367" +
+        "\001\352\001\353\001\345\001\341\001\333\001\334\001\317\001\320\001\302" +
+        "\001\301\001\300\001\303\001\256\001\255\001\257\001\254\001\247\001\246" +
+        "\001\214\001\213\001\211\001\212\001\215\001x\001v\001w\001u\001y\001s\001" +
+        "t\001j\001X\001Y\001:\001;\001<\001=\0011\0010\0012\001-\001\042\001!\001" +
+        " \001+\001(\001#\001$\001%\001&\001'\001)\001*\001,\001.\001/\0019\0015" +
+        "\0013\0014\0016\0017\0018\001M\001?\001>\001G\001@\001A\001B\001C\001D\001" +
+        "E\001F\001H\001I\001J\001K\001L\001N\001O\001R\001P\001Q\001S\001T\001U" +
+        "\001V\001W\001d\001e\001Z\001[\001\134\001^\001]\001_\001`\001a\001b\001" +
+        "c\001i\001f\001g\001h\001l\001k\001n\001m\001o\001p\001q\001r\001\206\001" +
+        "\203\001~\001|\001}\001z\001{\001\177\001\200\001\201\001\202\001\204\001" +
+        "\205\001\207\001\210\001\243\001\237\001\233\001\230\001\216\001\217\001" +
+        "\220\001\221\001\222\001\223\001\224\001\225\001\226\001\227\001\231\001" +
+        "\232\001\234\001\235\001\236\001\240\001\241\001\242\001\244\001\245\001" +
+        "\252\001\253\001\250\001\251\001\272\001\270\001\263\001\264\001\260\001" +
+        "\261\001\262\001\267\001\265\001\266\001\271\001\273\001\274\001\275\001" +
+        "\276\001\277\001\315\001\313\001\311\001\304\001\305\001\306\001\307\001" +
+        "\310\001\312\001\314\001\316\001\325\001\321\001\322\001\323\001\324\001" +
+        "\326\001\327\001\330\001\331\001\332\001\337\001\335\001\336\001\340\001" +
+        "\342\001\343\001\344\001\346\001\347\001\350\001\351\001\360\001\354\001" +
+        "\355\001\356\001\357\001\361\001\362\001\363\001\364\001\u0101\001\374\001" +
+        "\370\001\371\001\372\001\373\001\375\001\376\001\377\001\u0100\001\u0102" +
+        "\001\u0103\001\u0104\001\u0105\001\u0107\001\u0109\001\u010c\001\u010d\001" +
+        "\u0112\001\u0111\001\u0113\001\u0114");
+    
+     
+    
+}
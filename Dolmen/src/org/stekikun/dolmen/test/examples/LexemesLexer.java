@@ -0,0 +1,128 @@
+package org.stekikun.dolmen.test.examples;
+
+/**
+ * Lexer generated by Dolmen 1.0.0
+ */
+public final class LexemesLexer extends org.stekikun.dolmen.codegen.LexBuffer {
+    
+     
+    
+    /**
+     * Returns a fresh lexer based on the given character stream
+     * @param inputname
+     * @param reader
+     */
+    public LexemesLexer(String inputname, java.io.Reader reader) {
+        super("1.0.0", inputname, reader);
+    }
+    
+    /**
+     * Returns a fresh lexer based on the given range of characters,
+     * which is used in place and must not be modified while lexing
+     * @param inputname
+     * @param chars
+     * @param offset
+     * @param length
+     */
+    public LexemesLexer(String inputname, char[] chars, int offset, int length) {
+        super("1.0.0", inputname, chars, offset, length);
+    }
+    
+    /**
+     * Returns a fresh lexer based on the given in-memory characters
+     * @param inputname
+     * @param input
+     */
+    public LexemesLexer(String inputname, CharSequence input) {
+        super("1.0.0", inputname, input);
+    }
+    
+    /**
+     * Entry point for rule main
+     */
+    public  String  main() {
+        main:
+        while (true) {
+            // Initialize lexer for this automaton
+            startToken();
+            int result = _jl_cell0();
+            endToken();
+            switch (result) {
+            case 0:  {
+                 continue main; 
+            }
+            case 1:  {
+                 return getInternedLexeme(); 
+            }
+            case 2:  {
+                 return ""; 
+            }
+            default:
+                break main;
+            }
+        }
+        throw error("Empty token");
+    }
+    
+    private int _jl_cell0() {
+        final char _jl_char = getNextChar();
+        switch (_jl_char) {
+        // [0x0009-0x000a 0x000d 0x0020]
+        case 9:
+        case 10:
+        case 13:
+        case 32: {
+            return _jl_cell3();
+        }
+        // EOF
+        case 65535: {
+            return 2;
+        }
+        default:  {
+            return _jl_cell2();
+        }
+        }
+    }
+    
+    private int _jl_cell2() {
+        while (true) {
+            mark(1);
+            final char _jl_char = getNextChar();
+            switch (_jl_char) {
+            // [0x0009-0x000a 0x000d 0x0020 EOF]
+            case 9:
+            case 10:
+            case 13:
+            case 32:
+            case 65535: {
+                return rewind();
+            }
+            default:  {
+                continue;
+            }
+            }
+        }
+    }
+    
+    private int _jl_cell3() {
+        while (true) {
+            mark(0);
+            final char _jl_char = getNextChar();
+            switch (_jl_char) {
+            // [0x0009-0x000a 0x000d 0x0020]
+            case 9:
+            case 10:
+            case 13:
+            case 32: {
+                continue;
+            }
+            default:  {
+                return rewind();
+            }
+            }
+        }
+    }
+    
+     
+    
+}
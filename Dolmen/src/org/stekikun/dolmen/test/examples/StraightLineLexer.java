@@ -18,6 +18,27 @@ public final class StraightLineLexer extends org.stekikun.dolmen.codegen.LexBuff
         super("1.0.0", inputname, reader);
     }
     
+    /**
+     * Returns a fresh lexer based on the given range of characters,
+     * which is used in place and must not be modified while lexing
+     * @param inputname
+     * @param chars
+     * @param offset
+     * @param length
+     */
+    public StraightLineLexer(String inputname, char[] chars, int offset, int length) {
+        super("1.0.0", inputname, chars, offset, length);
+    }
+    
+    /**
+     * Returns a fresh lexer based on the given in-memory characters
+     * @param inputname
+     * @param input
+     */
+    public StraightLineLexer(String inputname, CharSequence input) {
+        super("1.0.0", inputname, input);
+    }
+    
     /**
      * Entry point for rule main
      */
@@ -33,7 +54,7 @@ public final class StraightLineLexer extends org.stekikun.dolmen.codegen.LexBuff
                  return main(); 
             }
             case 1:  {
-                 return INT(Integer.parseInt(getLexeme())); 
+                 return INT(getLexemeAsInt(10)); 
             }
             case 2:  {
                  return PRINT; 
@@ -80,120 +101,73 @@ public final class StraightLineLexer extends org.stekikun.dolmen.codegen.LexBuff
     
     private int _jl_cell0() {
         final char _jl_char = getNextChar();
-        if (_jl_char <= 46) {
-            switch (_jl_char) {
+        if (_jl_char <= 122) {
+            switch (_jl_table0[_jl_char]) {
+            // [0x0000-0x0007 0x000b-0x000c 0x000e-0x001f !-' . <-@ \[-\^ 0x0060]
+            case 0: {
+                return rewind();
+            }
             // [0x0008-0x000a 0x000d 0x0020]
-            case 8:
-            case 9:
-            case 10:
-            case 13:
-            case 32: {
+            case 1: {
                 return _jl_cell14();
             }
             // (
-            case 40: {
+            case 2: {
                 return 9;
             }
             // )
-            case 41: {
+            case 3: {
                 return 10;
             }
             // *
-            case 42: {
+            case 4: {
                 return 5;
             }
             // +
-            case 43: {
+            case 5: {
                 return 4;
             }
             // ,
-            case 44: {
+            case 6: {
                 return 8;
             }
             // \-
-            case 45: {
+            case 7: {
                 return 6;
             }
+            // /
+            case 8: {
+                return 7;
+            }
+            // [0-9]
+            case 9: {
+                return _jl_cell13();
+            }
+            // :
+            case 10: {
+                return _jl_cell3();
+            }
+            // ;
+            case 11: {
+                return 12;
+            }
+            // p
+            case 13: {
+                return _jl_cell12();
+            }
             default:  {
-                return rewind();
+                return _jl_cell11();
             }
             }
         } else  {
-            if (_jl_char <= 94) {
-                if (_jl_char <= 58) {
-                    switch (_jl_char) {
-                    // /
-                    case 47: {
-                        return 7;
-                    }
-                    // :
-                    case 58: {
-                        return _jl_cell3();
-                    }
-                    default:  {
-                        return _jl_cell13();
-                    }
-                    }
-                } else  {
-                    if (_jl_char <= 64) {
-                        switch (_jl_char) {
-                        // ;
-                        case 59: {
-                            return 12;
-                        }
-                        default:  {
-                            return rewind();
-                        }
-                        }
-                    } else  {
-                        switch (_jl_char) {
-                        // [\[-\^]
-                        case 91:
-                        case 92:
-                        case 93:
-                        case 94: {
-                            return rewind();
-                        }
-                        default:  {
-                            return _jl_cell11();
-                        }
-                        }
-                    }
-                }
-            } else  {
-                if (_jl_char <= 111) {
-                    switch (_jl_char) {
-                    // 0x0060
-                    case 96: {
-                        return rewind();
-                    }
-                    default:  {
-                        return _jl_cell11();
-                    }
-                    }
-                } else  {
-                    if (_jl_char <= 122) {
-                        switch (_jl_char) {
-                        // p
-                        case 112: {
-                            return _jl_cell12();
-                        }
-                        default:  {
-                            return _jl_cell11();
-                        }
-                        }
-                    } else  {
-                        switch (_jl_char) {
-                        // EOF
-                        case 65535: {
-                            return 13;
-                        }
-                        default:  {
-                            return rewind();
-                        }
-                        }
-                    }
-                }
+            switch (_jl_char) {
+            // EOF
+            case 65535: {
+                return 13;
+            }
+            default:  {
+                return rewind();
+            }
             }
         }
     }
@@ -726,6 +700,17 @@ public final class StraightLineLexer extends org.stekikun.dolmen.codegen.LexBuff
         }
     }
     
+    private static final byte[] _jl_table0 = {
+        0, 0, 0, 0, 0, 0, 0, 0, 1, 1, 1, 0, 0, 1, 0, 0,
+        0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0,
+        1, 0, 0, 0, 0, 0, 0, 0, 2, 3, 4, 5, 6, 7, 0, 8,
+        9, 9, 9, 9, 9, 9, 9, 9, 9, 9, 10, 11, 0, 0, 0, 0,
+        0, 12, 12, 12, 12, 12, 12, 12, 12, 12, 12, 12, 12, 12, 12, 12,
+        12, 12, 12, 12, 12, 12, 12, 12, 12, 12, 12, 0, 0, 0, 0, 12,
+        0, 12, 12, 12, 12, 12, 12, 12, 12, 12, 12, 12, 12, 12, 12, 12,
+        13, 12, 12, 12, 12, 12, 12, 12, 12, 12, 12
+    };
+    
      
     
 }
@@ -0,0 +1,2284 @@
+package org.stekikun.dolmen.test.examples;
+import java.util.Optional;
+
+/**
+ * Lexer generated by Dolmen 1.0.0
+ */
+public final class TokensLexer extends org.stekikun.dolmen.codegen.LexBuffer {
+    
+    
+	private String token(String kind) {
+		return token(kind, getLexeme());
+	}
+
+	private String token(String kind, Object value) {
+		Position start = getLexemeStart();
+		Position end = getLexemeEnd();
+		return kind + "(" + value + ")@" + start.offset + "-" + end.offset
+			+ ":" + start.line + "," + start.bol + "-" + end.line + "," + end.bol;
+	}
+
+	// Rebuilds the lexeme one character at a time
+	private String lexemeByChars() {
+		final int length = getLexeme().length();
+		final StringBuilder buf = new StringBuilder(length);
+		for (int i = 0; i < length; ++i)
+			buf.append(getLexemeChar(i));
+		return buf.toString();
+	}
+
+    
+    /**
+     * Returns a fresh lexer based on the given character stream
+     * @param inputname
+     * @param reader
+     */
+    public TokensLexer(String inputname, java.io.Reader reader) {
+        super("1.0.0", inputname, reader);
+    }
+    
+    /**
+     * Returns a fresh lexer based on the given range of characters,
+     * which is used in place and must not be modified while lexing
+     * @param inputname
+     * @param chars
+     * @param offset
+     * @param length
+     */
+    public TokensLexer(String inputname, char[] chars, int offset, int length) {
+        super("1.0.0", inputname, chars, offset, length);
+    }
+    
+    /**
+     * Returns a fresh lexer based on the given in-memory characters
+     * @param inputname
+     * @param input
+     */
+    public TokensLexer(String inputname, CharSequence input) {
+        super("1.0.0", inputname, input);
+    }
+    
+    private static final int[] NO_MEM_CELLS = new int[0];
+    
+    /**
+     * Entry point for rule main
+     */
+    public  String  main() {
+        main:
+        while (true) {
+            // Initialize lexer for this automaton
+            memory = _jl_mem_main;
+            java.util.Arrays.fill(memory, -1);
+            startToken();
+            int result = _jl_cell0();
+            endToken();
+            switch (result) {
+            case 0:  {
+                 continue main; 
+            }
+            case 1:  {
+                 newline(); continue main; 
+            }
+            case 2:  {
+                 return token("LINE_COMMENT", lexemeByChars()); 
+            }
+            case 3:  {
+                 saveStart(this::comment); return token("COMMENT"); 
+            }
+            case 4:  {
+                 saveStart(this::string); return token("STRING"); 
+            }
+            case 5:  {
+                 return token("DOOD"); 
+            }
+            case 6:  {
+                 return token("DO"); 
+            }
+            case 7:  {
+                 return token("IF"); 
+            }
+            case 8:  {
+                 return token("IF_"); 
+            }
+            case 9:  {
+                 return token("IF__"); 
+            }
+            case 10:  {
+                 return token("IN"); 
+            }
+            case 11:  {
+                 return token("INT"); 
+            }
+            case 12:  {
+                 return token("ELSE"); 
+            }
+            case 13:  {
+                 return token("WHILE"); 
+            }
+            case 14:  {
+                 return token("X"); 
+            }
+            case 15:  {
+                 return token("IDENT"); 
+            }
+            case 16:  {
+                final Optional<String> f = getSubLexemeOpt(memory[1], memory[2]);
+                final String i = getSubLexeme(startPos, memory[0]);
+                 return token("NUMBER", i + "." + f.orElse("-")); 
+            }
+            case 17:  {
+                final char c = getSubLexemeChar(startPos + 1);
+                 return token("CHAR", (int) c); 
+            }
+            case 18:  {
+                 throw error("Illegal character"); 
+            }
+            case 19:  {
+                 return token("EOF"); 
+            }
+            case 20:  {
+                 return token("OTHER"); 
+            }
+            default:
+                break main;
+            }
+        }
+        throw error("Empty token");
+    }
+    private final int [] _jl_mem_main = new int[6];
+    
+    /**
+     * Entry point for rule comment
+     */
+    private  void  comment() {
+        comment:
+        while (true) {
+            // Initialize lexer for this automaton
+            memory = NO_MEM_CELLS;
+            startToken();
+            int result = _jl_cell38();
+            endToken();
+            switch (result) {
+            case 0:  {
+                 return; 
+            }
+            case 1:  {
+                 newline(); continue comment; 
+            }
+            case 2:  {
+                 throw error("Unterminated comment"); 
+            }
+            case 3:  {
+                 continue comment; 
+            }
+            default:
+                break comment;
+            }
+        }
+        throw error("Empty token");
+    }
+    
+    /**
+     * Entry point for rule string
+     */
+    private  void  string() {
+        string:
+        while (true) {
+            // Initialize lexer for this automaton
+            memory = NO_MEM_CELLS;
+            startToken();
+            int result = _jl_cell45();
+            endToken();
+            switch (result) {
+            case 0:  {
+                 return; 
+            }
+            case 1:  {
+                 continue string; 
+            }
+            case 2:  {
+                 throw error("Newline in string literal"); 
+            }
+            case 3:  {
+                 throw error("Unterminated string literal"); 
+            }
+            case 4:  {
+                 continue string; 
+            }
+            default:
+                break string;
+            }
+        }
+        throw error("Empty token");
+    }
+    
+    private int _jl_cell0() {
+        final char _jl_char = getNextChar();
+        if (_jl_char <= 122) {
+            switch (_jl_table0[_jl_char]) {
+            // [0x0009 0x0020]
+            case 1: {
+                return _jl_cell18();
+            }
+            // 0x000a
+            case 2: {
+                return 1;
+            }
+            // 0x000d
+            case 3: {
+                return _jl_cell15();
+            }
+            // "
+            case 4: {
+                return 4;
+            }
+            // '
+            case 5: {
+                return _jl_cell4();
+            }
+            // /
+            case 6: {
+                return _jl_cell14();
+            }
+            // [0-9]
+            case 7: {
+                memory[3] = curPos;
+                return _jl_cell6();
+            }
+            // @
+            case 8: {
+                return 18;
+            }
+            // [A-H J-Z \_ a-c f-h j-n p-v y-z]
+            case 9: {
+                return _jl_cell7();
+            }
+            // I
+            case 10: {
+                return _jl_cell9();
+            }
+            // d
+            case 11: {
+                return _jl_cell12();
+            }
+            // e
+            case 12: {
+                return _jl_cell8();
+            }
+            // i
+            case 13: {
+                return _jl_cell10();
+            }
+            // o
+            case 14: {
+                return _jl_cell11();
+            }
+            // w
+            case 15: {
+                return _jl_cell17();
+            }
+            // x
+            case 16: {
+                return _jl_cell13();
+            }
+            default:  {
+                return 20;
+            }
+            }
+        } else  {
+            switch (_jl_char) {
+            // EOF
+            case 65535: {
+                return 19;
+            }
+            default:  {
+                return 20;
+            }
+            }
+        }
+    }
+    
+    private int _jl_cell4() {
+        mark(20);
+        final char _jl_char = getNextChar();
+        switch (_jl_char) {
+        // [0x000a 0x000d EOF]
+        case 10:
+        case 13:
+        case 65535: {
+            return rewind();
+        }
+        default:  {
+            return _jl_cell36();
+        }
+        }
+    }
+    
+    private int _jl_cell6() {
+        while (true) {
+            mark(16);
+            memory[0] = memory[3];
+            memory[1] = -1;
+            final char _jl_char = getNextChar();
+            switch (_jl_char) {
+            // .
+            case 46: {
+                memory[4] = curPos;
+                return _jl_cell34();
+            }
+            // [0-9]
+            case 48:
+            case 49:
+            case 50:
+            case 51:
+            case 52:
+            case 53:
+            case 54:
+            case 55:
+            case 56:
+            case 57: {
+                memory[3] = curPos;
+                continue;
+            }
+            default:  {
+                return rewind();
+            }
+            }
+        }
+    }
+    
+    private int _jl_cell7() {
+        while (true) {
+            mark(15);
+            final char _jl_char = getNextChar();
+            switch (_jl_char) {
+            // [0-9 A-Z \_ a-z]
+            case 48:
+            case 49:
+            case 50:
+            case 51:
+            case 52:
+            case 53:
+            case 54:
+            case 55:
+            case 56:
+            case 57:
+            case 65:
+            case 66:
+            case 67:
+            case 68:
+            case 69:
+            case 70:
+            case 71:
+            case 72:
+            case 73:
+            case 74:
+            case 75:
+            case 76:
+            case 77:
+            case 78:
+            case 79:
+            case 80:
+            case 81:
+            case 82:
+            case 83:
+            case 84:
+            case 85:
+            case 86:
+            case 87:
+            case 88:
+            case 89:
+            case 90:
+            case 95:
+            case 97:
+            case 98:
+            case 99:
+            case 100:
+            case 101:
+            case 102:
+            case 103:
+            case 104:
+            case 105:
+            case 106:
+            case 107:
+            case 108:
+            case 109:
+            case 110:
+            case 111:
+            case 112:
+            case 113:
+            case 114:
+            case 115:
+            case 116:
+            case 117:
+            case 118:
+            case 119:
+            case 120:
+            case 121:
+            case 122: {
+                continue;
+            }
+            default:  {
+                return rewind();
+            }
+            }
+        }
+    }
+    
+    private int _jl_cell8() {
+        mark(15);
+        final char _jl_char = getNextChar();
+        switch (_jl_char) {
+        // [0-9 A-Z \_ a-k m-z]
+        case 48:
+        case 49:
+        case 50:
+        case 51:
+        case 52:
+        case 53:
+        case 54:
+        case 55:
+        case 56:
+        case 57:
+        case 65:
+        case 66:
+        case 67:
+        case 68:
+        case 69:
+        case 70:
+        case 71:
+        case 72:
+        case 73:
+        case 74:
+        case 75:
+        case 76:
+        case 77:
+        case 78:
+        case 79:
+        case 80:
+        case 81:
+        case 82:
+        case 83:
+        case 84:
+        case 85:
+        case 86:
+        case 87:
+        case 88:
+        case 89:
+        case 90:
+        case 95:
+        case 97:
+        case 98:
+        case 99:
+        case 100:
+        case 101:
+        case 102:
+        case 103:
+        case 104:
+        case 105:
+        case 106:
+        case 107:
+        case 109:
+        case 110:
+        case 111:
+        case 112:
+        case 113:
+        case 114:
+        case 115:
+        case 116:
+        case 117:
+        case 118:
+        case 119:
+        case 120:
+        case 121:
+        case 122: {
+            return _jl_cell7();
+        }
+        // l
+        case 108: {
+            return _jl_cell31();
+        }
+        default:  {
+            return rewind();
+        }
+        }
+    }
+    
+    private int _jl_cell9() {
+        mark(15);
+        final char _jl_char = getNextChar();
+        switch (_jl_char) {
+        // [0-9 A-E G-Z \_ a-e g-z]
+        case 48:
+        case 49:
+        case 50:
+        case 51:
+        case 52:
+        case 53:
+        case 54:
+        case 55:
+        case 56:
+        case 57:
+        case 65:
+        case 66:
+        case 67:
+        case 68:
+        case 69:
+        case 71:
+        case 72:
+        case 73:
+        case 74:
+        case 75:
+        case 76:
+        case 77:
+        case 78:
+        case 79:
+        case 80:
+        case 81:
+        case 82:
+        case 83:
+        case 84:
+        case 85:
+        case 86:
+        case 87:
+        case 88:
+        case 89:
+        case 90:
+        case 95:
+        case 97:
+        case 98:
+        case 99:
+        case 100:
+        case 101:
+        case 103:
+        case 104:
+        case 105:
+        case 106:
+        case 107:
+        case 108:
+        case 109:
+        case 110:
+        case 111:
+        case 112:
+        case 113:
+        case 114:
+        case 115:
+        case 116:
+        case 117:
+        case 118:
+        case 119:
+        case 120:
+        case 121:
+        case 122: {
+            return _jl_cell7();
+        }
+        // F
+        case 70: {
+            return _jl_cell29();
+        }
+        // f
+        case 102: {
+            return _jl_cell30();
+        }
+        default:  {
+            return rewind();
+        }
+        }
+    }
+    
+    private int _jl_cell10() {
+        mark(15);
+        final char _jl_char = getNextChar();
+        switch (_jl_char) {
+        // [0-9 A-Z \_ a-e g-m o-z]
+        case 48:
+        case 49:
+        case 50:
+        case 51:
+        case 52:
+        case 53:
+        case 54:
+        case 55:
+        case 56:
+        case 57:
+        case 65:
+        case 66:
+        case 67:
+        case 68:
+        case 69:
+        case 70:
+        case 71:
+        case 72:
+        case 73:
+        case 74:
+        case 75:
+        case 76:
+        case 77:
+        case 78:
+        case 79:
+        case 80:
+        case 81:
+        case 82:
+        case 83:
+        case 84:
+        case 85:
+        case 86:
+        case 87:
+        case 88:
+        case 89:
+        case 90:
+        case 95:
+        case 97:
+        case 98:
+        case 99:
+        case 100:
+        case 101:
+        case 103:
+        case 104:
+        case 105:
+        case 106:
+        case 107:
+        case 108:
+        case 109:
+        case 111:
+        case 112:
+        case 113:
+        case 114:
+        case 115:
+        case 116:
+        case 117:
+        case 118:
+        case 119:
+        case 120:
+        case 121:
+        case 122: {
+            return _jl_cell7();
+        }
+        // f
+        case 102: {
+            return _jl_cell27();
+        }
+        // n
+        case 110: {
+            return _jl_cell26();
+        }
+        default:  {
+            return rewind();
+        }
+        }
+    }
+    
+    private int _jl_cell11() {
+        mark(15);
+        final char _jl_char = getNextChar();
+        switch (_jl_char) {
+        // [0-9 A-Z \_ a-c e-z]
+        case 48:
+        case 49:
+        case 50:
+        case 51:
+        case 52:
+        case 53:
+        case 54:
+        case 55:
+        case 56:
+        case 57:
+        case 65:
+        case 66:
+        case 67:
+        case 68:
+        case 69:
+        case 70:
+        case 71:
+        case 72:
+        case 73:
+        case 74:
+        case 75:
+        case 76:
+        case 77:
+        case 78:
+        case 79:
+        case 80:
+        case 81:
+        case 82:
+        case 83:
+        case 84:
+        case 85:
+        case 86:
+        case 87:
+        case 88:
+        case 89:
+        case 90:
+        case 95:
+        case 97:
+        case 98:
+        case 99:
+        case 101:
+        case 102:
+        case 103:
+        case 104:
+        case 105:
+        case 106:
+        case 107:
+        case 108:
+        case 109:
+        case 110:
+        case 111:
+        case 112:
+        case 113:
+        case 114:
+        case 115:
+        case 116:
+        case 117:
+        case 118:
+        case 119:
+        case 120:
+        case 121:
+        case 122: {
+            return _jl_cell7();
+        }
+        // d
+        case 100: {
+            return _jl_cell25();
+        }
+        default:  {
+            return rewind();
+        }
+        }
+    }
+    
+    private int _jl_cell12() {
+        mark(15);
+        final char _jl_char = getNextChar();
+        switch (_jl_char) {
+        // [0-9 A-Z \_ a-n p-z]
+        case 48:
+        case 49:
+        case 50:
+        case 51:
+        case 52:
+        case 53:
+        case 54:
+        case 55:
+        case 56:
+        case 57:
+        case 65:
+        case 66:
+        case 67:
+        case 68:
+        case 69:
+        case 70:
+        case 71:
+        case 72:
+        case 73:
+        case 74:
+        case 75:
+        case 76:
+        case 77:
+        case 78:
+        case 79:
+        case 80:
+        case 81:
+        case 82:
+        case 83:
+        case 84:
+        case 85:
+        case 86:
+        case 87:
+        case 88:
+        case 89:
+        case 90:
+        case 95:
+        case 97:
+        case 98:
+        case 99:
+        case 100:
+        case 101:
+        case 102:
+        case 103:
+        case 104:
+        case 105:
+        case 106:
+        case 107:
+        case 108:
+        case 109:
+        case 110:
+        case 112:
+        case 113:
+        case 114:
+        case 115:
+        case 116:
+        case 117:
+        case 118:
+        case 119:
+        case 120:
+        case 121:
+        case 122: {
+            return _jl_cell7();
+        }
+        // o
+        case 111: {
+            return _jl_cell25();
+        }
+        default:  {
+            return rewind();
+        }
+        }
+    }
+    
+    private int _jl_cell13() {
+        mark(14);
+        final char _jl_char = getNextChar();
+        switch (_jl_char) {
+        // [0-9 A-Z \_ a-z]
+        case 48:
+        case 49:
+        case 50:
+        case 51:
+        case 52:
+        case 53:
+        case 54:
+        case 55:
+        case 56:
+        case 57:
+        case 65:
+        case 66:
+        case 67:
+        case 68:
+        case 69:
+        case 70:
+        case 71:
+        case 72:
+        case 73:
+        case 74:
+        case 75:
+        case 76:
+        case 77:
+        case 78:
+        case 79:
+        case 80:
+        case 81:
+        case 82:
+        case 83:
+        case 84:
+        case 85:
+        case 86:
+        case 87:
+        case 88:
+        case 89:
+        case 90:
+        case 95:
+        case 97:
+        case 98:
+        case 99:
+        case 100:
+        case 101:
+        case 102:
+        case 103:
+        case 104:
+        case 105:
+        case 106:
+        case 107:
+        case 108:
+        case 109:
+        case 110:
+        case 111:
+        case 112:
+        case 113:
+        case 114:
+        case 115:
+        case 116:
+        case 117:
+        case 118:
+        case 119:
+        case 120:
+        case 121:
+        case 122: {
+            return _jl_cell7();
+        }
+        default:  {
+            return rewind();
+        }
+        }
+    }
+    
+    private int _jl_cell14() {
+        mark(20);
+        final char _jl_char = getNextChar();
+        switch (_jl_char) {
+        // *
+        case 42: {
+            return 3;
+        }
+        // /
+        case 47: {
+            return _jl_cell24();
+        }
+        default:  {
+            return rewind();
+        }
+        }
+    }
+    
+    private int _jl_cell15() {
+        mark(1);
+        final char _jl_char = getNextChar();
+        switch (_jl_char) {
+        // 0x000a
+        case 10: {
+            return 1;
+        }
+        default:  {
+            return rewind();
+        }
+        }
+    }
+    
+    private int _jl_cell17() {
+        mark(15);
+        final char _jl_char = getNextChar();
+        switch (_jl_char) {
+        // [0-9 A-Z \_ a-g i-z]
+        case 48:
+        case 49:
+        case 50:
+        case 51:
+        case 52:
+        case 53:
+        case 54:
+        case 55:
+        case 56:
+        case 57:
+        case 65:
+        case 66:
+        case 67:
+        case 68:
+        case 69:
+        case 70:
+        case 71:
+        case 72:
+        case 73:
+        case 74:
+        case 75:
+        case 76:
+        case 77:
+        case 78:
+        case 79:
+        case 80:
+        case 81:
+        case 82:
+        case 83:
+        case 84:
+        case 85:
+        case 86:
+        case 87:
+        case 88:
+        case 89:
+        case 90:
+        case 95:
+        case 97:
+        case 98:
+        case 99:
+        case 100:
+        case 101:
+        case 102:
+        case 103:
+        case 105:
+        case 106:
+        case 107:
+        case 108:
+        case 109:
+        case 110:
+        case 111:
+        case 112:
+        case 113:
+        case 114:
+        case 115:
+        case 116:
+        case 117:
+        case 118:
+        case 119:
+        case 120:
+        case 121:
+        case 122: {
+            return _jl_cell7();
+        }
+        // h
+        case 104: {
+            return _jl_cell19();
+        }
+        default:  {
+            return rewind();
+        }
+        }
+    }
+    
+    private int _jl_cell18() {
+        while (true) {
+            mark(0);
+            final char _jl_char = getNextChar();
+            switch (_jl_char) {
+            // [0x0009 0x0020]
+            case 9:
+            case 32: {
+                continue;
+            }
+            default:  {
+                return rewind();
+            }
+            }
+        }
+    }
+    
+    private int _jl_cell19() {
+        mark(15);
+        final char _jl_char = getNextChar();
+        switch (_jl_char) {
+        // [0-9 A-Z \_ a-h j-z]
+        case 48:
+        case 49:
+        case 50:
+        case 51:
+        case 52:
+        case 53:
+        case 54:
+        case 55:
+        case 56:
+        case 57:
+        case 65:
+        case 66:
+        case 67:
+        case 68:
+        case 69:
+        case 70:
+        case 71:
+        case 72:
+        case 73:
+        case 74:
+        case 75:
+        case 76:
+        case 77:
+        case 78:
+        case 79:
+        case 80:
+        case 81:
+        case 82:
+        case 83:
+        case 84:
+        case 85:
+        case 86:
+        case 87:
+        case 88:
+        case 89:
+        case 90:
+        case 95:
+        case 97:
+        case 98:
+        case 99:
+        case 100:
+        case 101:
+        case 102:
+        case 103:
+        case 104:
+        case 106:
+        case 107:
+        case 108:
+        case 109:
+        case 110:
+        case 111:
+        case 112:
+        case 113:
+        case 114:
+        case 115:
+        case 116:
+        case 117:
+        case 118:
+        case 119:
+        case 120:
+        case 121:
+        case 122: {
+            return _jl_cell7();
+        }
+        // i
+        case 105: {
+            return _jl_cell20();
+        }
+        default:  {
+            return rewind();
+        }
+        }
+    }
+    
+    private int _jl_cell20() {
+        mark(15);
+        final char _jl_char = getNextChar();
+        switch (_jl_char) {
+        // [0-9 A-Z \_ a-k m-z]
+        case 48:
+        case 49:
+        case 50:
+        case 51:
+        case 52:
+        case 53:
+        case 54:
+        case 55:
+        case 56:
+        case 57:
+        case 65:
+        case 66:
+        case 67:
+        case 68:
+        case 69:
+        case 70:
+        case 71:
+        case 72:
+        case 73:
+        case 74:
+        case 75:
+        case 76:
+        case 77:
+        case 78:
+        case 79:
+        case 80:
+        case 81:
+        case 82:
+        case 83:
+        case 84:
+        case 85:
+        case 86:
+        case 87:
+        case 88:
+        case 89:
+        case 90:
+        case 95:
+        case 97:
+        case 98:
+        case 99:
+        case 100:
+        case 101:
+        case 102:
+        case 103:
+        case 104:
+        case 105:
+        case 106:
+        case 107:
+        case 109:
+        case 110:
+        case 111:
+        case 112:
+        case 113:
+        case 114:
+        case 115:
+        case 116:
+        case 117:
+        case 118:
+        case 119:
+        case 120:
+        case 121:
+        case 122: {
+            return _jl_cell7();
+        }
+        // l
+        case 108: {
+            return _jl_cell21();
+        }
+        default:  {
+            return rewind();
+        }
+        }
+    }
+    
+    private int _jl_cell21() {
+        mark(15);
+        final char _jl_char = getNextChar();
+        switch (_jl_char) {
+        // [0-9 A-Z \_ a-d f-z]
+        case 48:
+        case 49:
+        case 50:
+        case 51:
+        case 52:
+        case 53:
+        case 54:
+        case 55:
+        case 56:
+        case 57:
+        case 65:
+        case 66:
+        case 67:
+        case 68:
+        case 69:
+        case 70:
+        case 71:
+        case 72:
+        case 73:
+        case 74:
+        case 75:
+        case 76:
+        case 77:
+        case 78:
+        case 79:
+        case 80:
+        case 81:
+        case 82:
+        case 83:
+        case 84:
+        case 85:
+        case 86:
+        case 87:
+        case 88:
+        case 89:
+        case 90:
+        case 95:
+        case 97:
+        case 98:
+        case 99:
+        case 100:
+        case 102:
+        case 103:
+        case 104:
+        case 105:
+        case 106:
+        case 107:
+        case 108:
+        case 109:
+        case 110:
+        case 111:
+        case 112:
+        case 113:
+        case 114:
+        case 115:
+        case 116:
+        case 117:
+        case 118:
+        case 119:
+        case 120:
+        case 121:
+        case 122: {
+            return _jl_cell7();
+        }
+        // e
+        case 101: {
+            return _jl_cell22();
+        }
+        default:  {
+            return rewind();
+        }
+        }
+    }
+    
+    private int _jl_cell22() {
+        mark(13);
+        final char _jl_char = getNextChar();
+        switch (_jl_char) {
+        // [0-9 A-Z \_ a-z]
+        case 48:
+        case 49:
+        case 50:
+        case 51:
+        case 52:
+        case 53:
+        case 54:
+        case 55:
+        case 56:
+        case 57:
+        case 65:
+        case 66:
+        case 67:
+        case 68:
+        case 69:
+        case 70:
+        case 71:
+        case 72:
+        case 73:
+        case 74:
+        case 75:
+        case 76:
+        case 77:
+        case 78:
+        case 79:
+        case 80:
+        case 81:
+        case 82:
+        case 83:
+        case 84:
+        case 85:
+        case 86:
+        case 87:
+        case 88:
+        case 89:
+        case 90:
+        case 95:
+        case 97:
+        case 98:
+        case 99:
+        case 100:
+        case 101:
+        case 102:
+        case 103:
+        case 104:
+        case 105:
+        case 106:
+        case 107:
+        case 108:
+        case 109:
+        case 110:
+        case 111:
+        case 112:
+        case 113:
+        case 114:
+        case 115:
+        case 116:
+        case 117:
+        case 118:
+        case 119:
+        case 120:
+        case 121:
+        case 122: {
+            return _jl_cell7();
+        }
+        default:  {
+            return rewind();
+        }
+        }
+    }
+    
+    private int _jl_cell24() {
+        while (true) {
+            mark(2);
+            final char _jl_char = getNextChar();
+            switch (_jl_char) {
+            // [0x000a 0x000d EOF]
+            case 10:
+            case 13:
+            case 65535: {
+                return rewind();
+            }
+            default:  {
+                continue;
+            }
+            }
+        }
+    }
+    
+    private int _jl_cell25() {
+        mark(5);
+        final char _jl_char = getNextChar();
+        switch (_jl_char) {
+        // [0-9 A-Z \_ a-z]
+        case 48:
+        case 49:
+        case 50:
+        case 51:
+        case 52:
+        case 53:
+        case 54:
+        case 55:
+        case 56:
+        case 57:
+        case 65:
+        case 66:
+        case 67:
+        case 68:
+        case 69:
+        case 70:
+        case 71:
+        case 72:
+        case 73:
+        case 74:
+        case 75:
+        case 76:
+        case 77:
+        case 78:
+        case 79:
+        case 80:
+        case 81:
+        case 82:
+        case 83:
+        case 84:
+        case 85:
+        case 86:
+        case 87:
+        case 88:
+        case 89:
+        case 90:
+        case 95:
+        case 97:
+        case 98:
+        case 99:
+        case 100:
+        case 101:
+        case 102:
+        case 103:
+        case 104:
+        case 105:
+        case 106:
+        case 107:
+        case 108:
+        case 109:
+        case 110:
+        case 111:
+        case 112:
+        case 113:
+        case 114:
+        case 115:
+        case 116:
+        case 117:
+        case 118:
+        case 119:
+        case 120:
+        case 121:
+        case 122: {
+            return _jl_cell7();
+        }
+        default:  {
+            return rewind();
+        }
+        }
+    }
+    
+    private int _jl_cell26() {
+        mark(10);
+        final char _jl_char = getNextChar();
+        switch (_jl_char) {
+        // [0-9 A-Z \_ a-s u-z]
+        case 48:
+        case 49:
+        case 50:
+        case 51:
+        case 52:
+        case 53:
+        case 54:
+        case 55:
+        case 56:
+        case 57:
+        case 65:
+        case 66:
+        case 67:
+        case 68:
+        case 69:
+        case 70:
+        case 71:
+        case 72:
+        case 73:
+        case 74:
+        case 75:
+        case 76:
+        case 77:
+        case 78:
+        case 79:
+        case 80:
+        case 81:
+        case 82:
+        case 83:
+        case 84:
+        case 85:
+        case 86:
+        case 87:
+        case 88:
+        case 89:
+        case 90:
+        case 95:
+        case 97:
+        case 98:
+        case 99:
+        case 100:
+        case 101:
+        case 102:
+        case 103:
+        case 104:
+        case 105:
+        case 106:
+        case 107:
+        case 108:
+        case 109:
+        case 110:
+        case 111:
+        case 112:
+        case 113:
+        case 114:
+        case 115:
+        case 117:
+        case 118:
+        case 119:
+        case 120:
+        case 121:
+        case 122: {
+            return _jl_cell7();
+        }
+        // t
+        case 116: {
+            return _jl_cell28();
+        }
+        default:  {
+            return rewind();
+        }
+        }
+    }
+    
+    private int _jl_cell27() {
+        mark(7);
+        final char _jl_char = getNextChar();
+        switch (_jl_char) {
+        // [0-9 A-Z \_ a-z]
+        case 48:
+        case 49:
+        case 50:
+        case 51:
+        case 52:
+        case 53:
+        case 54:
+        case 55:
+        case 56:
+        case 57:
+        case 65:
+        case 66:
+        case 67:
+        case 68:
+        case 69:
+        case 70:
+        case 71:
+        case 72:
+        case 73:
+        case 74:
+        case 75:
+        case 76:
+        case 77:
+        case 78:
+        case 79:
+        case 80:
+        case 81:
+        case 82:
+        case 83:
+        case 84:
+        case 85:
+        case 86:
+        case 87:
+        case 88:
+        case 89:
+        case 90:
+        case 95:
+        case 97:
+        case 98:
+        case 99:
+        case 100:
+        case 101:
+        case 102:
+        case 103:
+        case 104:
+        case 105:
+        case 106:
+        case 107:
+        case 108:
+        case 109:
+        case 110:
+        case 111:
+        case 112:
+        case 113:
+        case 114:
+        case 115:
+        case 116:
+        case 117:
+        case 118:
+        case 119:
+        case 120:
+        case 121:
+        case 122: {
+            return _jl_cell7();
+        }
+        default:  {
+            return rewind();
+        }
+        }
+    }
+    
+    private int _jl_cell28() {
+        mark(11);
+        final char _jl_char = getNextChar();
+        switch (_jl_char) {
+        // [0-9 A-Z \_ a-z]
+        case 48:
+        case 49:
+        case 50:
+        case 51:
+        case 52:
+        case 53:
+        case 54:
+        case 55:
+        case 56:
+        case 57:
+        case 65:
+        case 66:
+        case 67:
+        case 68:
+        case 69:
+        case 70:
+        case 71:
+        case 72:
+        case 73:
+        case 74:
+        case 75:
+        case 76:
+        case 77:
+        case 78:
+        case 79:
+        case 80:
+        case 81:
+        case 82:
+        case 83:
+        case 84:
+        case 85:
+        case 86:
+        case 87:
+        case 88:
+        case 89:
+        case 90:
+        case 95:
+        case 97:
+        case 98:
+        case 99:
+        case 100:
+        case 101:
+        case 102:
+        case 103:
+        case 104:
+        case 105:
+        case 106:
+        case 107:
+        case 108:
+        case 109:
+        case 110:
+        case 111:
+        case 112:
+        case 113:
+        case 114:
+        case 115:
+        case 116:
+        case 117:
+        case 118:
+        case 119:
+        case 120:
+        case 121:
+        case 122: {
+            return _jl_cell7();
+        }
+        default:  {
+            return rewind();
+        }
+        }
+    }
+    
+    private int _jl_cell29() {
+        mark(9);
+        final char _jl_char = getNextChar();
+        switch (_jl_char) {
+        // [0-9 A-Z \_ a-z]
+        case 48:
+        case 49:
+        case 50:
+        case 51:
+        case 52:
+        case 53:
+        case 54:
+        case 55:
+        case 56:
+        case 57:
+        case 65:
+        case 66:
+        case 67:
+        case 68:
+        case 69:
+        case 70:
+        case 71:
+        case 72:
+        case 73:
+        case 74:
+        case 75:
+        case 76:
+        case 77:
+        case 78:
+        case 79:
+        case 80:
+        case 81:
+        case 82:
+        case 83:
+        case 84:
+        case 85:
+        case 86:
+        case 87:
+        case 88:
+        case 89:
+        case 90:
+        case 95:
+        case 97:
+        case 98:
+        case 99:
+        case 100:
+        case 101:
+        case 102:
+        case 103:
+        case 104:
+        case 105:
+        case 106:
+        case 107:
+        case 108:
+        case 109:
+        case 110:
+        case 111:
+        case 112:
+        case 113:
+        case 114:
+        case 115:
+        case 116:
+        case 117:
+        case 118:
+        case 119:
+        case 120:
+        case 121:
+        case 122: {
+            return _jl_cell7();
+        }
+        default:  {
+            return rewind();
+        }
+        }
+    }
+    
+    private int _jl_cell30() {
+        mark(8);
+        final char _jl_char = getNextChar();
+        switch (_jl_char) {
+        // [0-9 A-Z \_ a-z]
+        case 48:
+        case 49:
+        case 50:
+        case 51:
+        case 52:
+        case 53:
+        case 54:
+        case 55:
+        case 56:
+        case 57:
+        case 65:
+        case 66:
+        case 67:
+        case 68:
+        case 69:
+        case 70:
+        case 71:
+        case 72:
+        case 73:
+        case 74:
+        case 75:
+        case 76:
+        case 77:
+        case 78:
+        case 79:
+        case 80:
+        case 81:
+        case 82:
+        case 83:
+        case 84:
+        case 85:
+        case 86:
+        case 87:
+        case 88:
+        case 89:
+        case 90:
+        case 95:
+        case 97:
+        case 98:
+        case 99:
+        case 100:
+        case 101:
+        case 102:
+        case 103:
+        case 104:
+        case 105:
+        case 106:
+        case 107:
+        case 108:
+        case 109:
+        case 110:
+        case 111:
+        case 112:
+        case 113:
+        case 114:
+        case 115:
+        case 116:
+        case 117:
+        case 118:
+        case 119:
+        case 120:
+        case 121:
+        case 122: {
+            return _jl_cell7();
+        }
+        default:  {
+            return rewind();
+        }
+        }
+    }
+    
+    private int _jl_cell31() {
+        mark(15);
+        final char _jl_char = getNextChar();
+        switch (_jl_char) {
+        // [0-9 A-Z \_ a-r t-z]
+        case 48:
+        case 49:
+        case 50:
+        case 51:
+        case 52:
+        case 53:
+        case 54:
+        case 55:
+        case 56:
+        case 57:
+        case 65:
+        case 66:
+        case 67:
+        case 68:
+        case 69:
+        case 70:
+        case 71:
+        case 72:
+        case 73:
+        case 74:
+        case 75:
+        case 76:
+        case 77:
+        case 78:
+        case 79:
+        case 80:
+        case 81:
+        case 82:
+        case 83:
+        case 84:
+        case 85:
+        case 86:
+        case 87:
+        case 88:
+        case 89:
+        case 90:
+        case 95:
+        case 97:
+        case 98:
+        case 99:
+        case 100:
+        case 101:
+        case 102:
+        case 103:
+        case 104:
+        case 105:
+        case 106:
+        case 107:
+        case 108:
+        case 109:
+        case 110:
+        case 111:
+        case 112:
+        case 113:
+        case 114:
+        case 116:
+        case 117:
+        case 118:
+        case 119:
+        case 120:
+        case 121:
+        case 122: {
+            return _jl_cell7();
+        }
+        // s
+        case 115: {
+            return _jl_cell32();
+        }
+        default:  {
+            return rewind();
+        }
+        }
+    }
+    
+    private int _jl_cell32() {
+        mark(15);
+        final char _jl_char = getNextChar();
+        switch (_jl_char) {
+        // [0-9 A-Z \_ a-d f-z]
+        case 48:
+        case 49:
+        case 50:
+        case 51:
+        case 52:
+        case 53:
+        case 54:
+        case 55:
+        case 56:
+        case 57:
+        case 65:
+        case 66:
+        case 67:
+        case 68:
+        case 69:
+        case 70:
+        case 71:
+        case 72:
+        case 73:
+        case 74:
+        case 75:
+        case 76:
+        case 77:
+        case 78:
+        case 79:
+        case 80:
+        case 81:
+        case 82:
+        case 83:
+        case 84:
+        case 85:
+        case 86:
+        case 87:
+        case 88:
+        case 89:
+        case 90:
+        case 95:
+        case 97:
+        case 98:
+        case 99:
+        case 100:
+        case 102:
+        case 103:
+        case 104:
+        case 105:
+        case 106:
+        case 107:
+        case 108:
+        case 109:
+        case 110:
+        case 111:
+        case 112:
+        case 113:
+        case 114:
+        case 115:
+        case 116:
+        case 117:
+        case 118:
+        case 119:
+        case 120:
+        case 121:
+        case 122: {
+            return _jl_cell7();
+        }
+        // e
+        case 101: {
+            return _jl_cell33();
+        }
+        default:  {
+            return rewind();
+        }
+        }
+    }
+    
+    private int _jl_cell33() {
+        mark(12);
+        final char _jl_char = getNextChar();
+        switch (_jl_char) {
+        // [0-9 A-Z \_ a-z]
+        case 48:
+        case 49:
+        case 50:
+        case 51:
+        case 52:
+        case 53:
+        case 54:
+        case 55:
+        case 56:
+        case 57:
+        case 65:
+        case 66:
+        case 67:
+        case 68:
+        case 69:
+        case 70:
+        case 71:
+        case 72:
+        case 73:
+        case 74:
+        case 75:
+        case 76:
+        case 77:
+        case 78:
+        case 79:
+        case 80:
+        case 81:
+        case 82:
+        case 83:
+        case 84:
+        case 85:
+        case 86:
+        case 87:
+        case 88:
+        case 89:
+        case 90:
+        case 95:
+        case 97:
+        case 98:
+        case 99:
+        case 100:
+        case 101:
+        case 102:
+        case 103:
+        case 104:
+        case 105:
+        case 106:
+        case 107:
+        case 108:
+        case 109:
+        case 110:
+        case 111:
+        case 112:
+        case 113:
+        case 114:
+        case 115:
+        case 116:
+        case 117:
+        case 118:
+        case 119:
+        case 120:
+        case 121:
+        case 122: {
+            return _jl_cell7();
+        }
+        default:  {
+            return rewind();
+        }
+        }
+    }
+    
+    private int _jl_cell34() {
+        final char _jl_char = getNextChar();
+        switch (_jl_char) {
+        // [0-9]
+        case 48:
+        case 49:
+        case 50:
+        case 51:
+        case 52:
+        case 53:
+        case 54:
+        case 55:
+        case 56:
+        case 57: {
+            memory[5] = curPos;
+            return _jl_cell35();
+        }
+        default:  {
+            return rewind();
+        }
+        }
+    }
+    
+    private int _jl_cell35() {
+        while (true) {
+            mark(16);
+            memory[0] = memory[3];
+            memory[1] = memory[4];
+            memory[2] = memory[5];
+            final char _jl_char = getNextChar();
+            switch (_jl_char) {
+            // [0-9]
+            case 48:
+            case 49:
+            case 50:
+            case 51:
+            case 52:
+            case 53:
+            case 54:
+            case 55:
+            case 56:
+            case 57: {
+                memory[5] = curPos;
+                continue;
+            }
+            default:  {
+                return rewind();
+            }
+            }
+        }
+    }
+    
+    private int _jl_cell36() {
+        final char _jl_char = getNextChar();
+        switch (_jl_char) {
+        // '
+        case 39: {
+            return 17;
+        }
+        default:  {
+            return rewind();
+        }
+        }
+    }
+    
+    private int _jl_cell38() {
+        final char _jl_char = getNextChar();
+        switch (_jl_char) {
+        // 0x000a
+        case 10: {
+            return 1;
+        }
+        // 0x000d
+        case 13: {
+            return _jl_cell41();
+        }
+        // *
+        case 42: {
+            return _jl_cell43();
+        }
+        // EOF
+        case 65535: {
+            return 2;
+        }
+        default:  {
+            return _jl_cell39();
+        }
+        }
+    }
+    
+    private int _jl_cell39() {
+        while (true) {
+            mark(3);
+            final char _jl_char = getNextChar();
+            switch (_jl_char) {
+            // [0x000a 0x000d * EOF]
+            case 10:
+            case 13:
+            case 42:
+            case 65535: {
+                return rewind();
+            }
+            default:  {
+                continue;
+            }
+            }
+        }
+    }
+    
+    private int _jl_cell41() {
+        mark(1);
+        final char _jl_char = getNextChar();
+        switch (_jl_char) {
+        // 0x000a
+        case 10: {
+            return 1;
+        }
+        default:  {
+            return rewind();
+        }
+        }
+    }
+    
+    private int _jl_cell43() {
+        final char _jl_char = getNextChar();
+        switch (_jl_char) {
+        // /
+        case 47: {
+            return 0;
+        }
+        default:  {
+            return rewind();
+        }
+        }
+    }
+    
+    private int _jl_cell45() {
+        final char _jl_char = getNextChar();
+        switch (_jl_char) {
+        // 0x000a
+        case 10: {
+            return 2;
+        }
+        // 0x000d
+        case 13: {
+            return _jl_cell50();
+        }
+        // "
+        case 34: {
+            return 0;
+        }
+        // \\
+        case 92: {
+            return _jl_cell46();
+        }
+        // EOF
+        case 65535: {
+            return 3;
+        }
+        default:  {
+            return _jl_cell48();
+        }
+        }
+    }
+    
+    private int _jl_cell46() {
+        final char _jl_char = getNextChar();
+        switch (_jl_char) {
+        // [0x000a 0x000d EOF]
+        case 10:
+        case 13:
+        case 65535: {
+            return rewind();
+        }
+        default:  {
+            return 1;
+        }
+        }
+    }
+    
+    private int _jl_cell48() {
+        while (true) {
+            mark(4);
+            final char _jl_char = getNextChar();
+            switch (_jl_char) {
+            // [0x000a 0x000d " \\ EOF]
+            case 10:
+            case 13:
+            case 34:
+            case 92:
+            case 65535: {
+                return rewind();
+            }
+            default:  {
+                continue;
+            }
+            }
+        }
+    }
+    
+    private int _jl_cell50() {
+        mark(2);
+        final char _jl_char = getNextChar();
+        switch (_jl_char) {
+        // 0x000a
+        case 10: {
+            return 2;
+        }
+        default:  {
+            return rewind();
+        }
+        }
+    }
+    
+    private static final byte[] _jl_table0 = {
+        0, 0, 0, 0, 0, 0, 0, 0, 0, 1, 2, 0, 0, 3, 0, 0,
+        0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0,
+        1, 0, 4, 0, 0, 0, 0, 5, 0, 0, 0, 0, 0, 0, 0, 6,
+        7, 7, 7, 7, 7, 7, 7, 7, 7, 7, 0, 0, 0, 0, 0, 0,
+        8, 9, 9, 9, 9, 9, 9, 9, 9, 10, 9, 9, 9, 9, 9, 9,
+        9, 9, 9, 9, 9, 9, 9, 9, 9, 9, 9, 0, 0, 0, 0, 9,
+        0, 9, 9, 9, 11, 12, 9, 9, 9, 13, 9, 9, 9, 9, 9, 14,
+        9, 9, 9, 9, 9, 9, 9, 15, 16, 9, 9
+    };
+    
+     
+    
+}
@@ -0,0 +1,2770 @@
+package org.stekikun.dolmen.test.examples;
+import java.util.Optional;
+
+/**
+ * Lexer generated by Dolmen 1.0.0
+ */
+public final class TokensLoopLexer extends org.stekikun.dolmen.codegen.LexBuffer {
+    
+    
+	private String token(String kind) {
+		return token(kind, getLexeme());
+	}
+
+	private String token(String kind, Object value) {
+		Position start = getLexemeStart();
+		Position end = getLexemeEnd();
+		return kind + "(" + value + ")@" + start.offset + "-" + end.offset
+			+ ":" + start.line + "," + start.bol + "-" + end.line + "," + end.bol;
+	}
+
+	// Rebuilds the lexeme one character at a time
+	private String lexemeByChars() {
+		final int length = getLexeme().length();
+		final StringBuilder buf = new StringBuilder(length);
+		for (int i = 0; i < length; ++i)
+			buf.append(getLexemeChar(i));
+		return buf.toString();
+	}
+
+    
+    /**
+     * Returns a fresh lexer based on the given character stream
+     * @param inputname
+     * @param reader
+     */
+    public TokensLoopLexer(String inputname, java.io.Reader reader) {
+        super("1.0.0", inputname, reader);
+    }
+    
+    /**
+     * Returns a fresh lexer based on the given range of characters,
+     * which is used in place and must not be modified while lexing
+     * @param inputname
+     * @param chars
+     * @param offset
+     * @param length
+     */
+    public TokensLoopLexer(String inputname, char[] chars, int offset, int length) {
+        super("1.0.0", inputname, chars, offset, length);
+    }
+    
+    /**
+     * Returns a fresh lexer based on the given in-memory characters
+     * @param inputname
+     * @param input
+     */
+    public TokensLoopLexer(String inputname, CharSequence input) {
+        super("1.0.0", inputname, input);
+    }
+    
+    private static final int[] NO_MEM_CELLS = new int[0];
+    
+    /**
+     * Entry point for rule main
+     */
+    public  String  main() {
+        final boolean _jl_top = enterEntry();
+        main:
+        while (true) {
+            // Initialize lexer for this automaton
+            memory = _jl_mem_main;
+            java.util.Arrays.fill(memory, -1);
+            startToken();
+            int result = _jl_loop_main(startMatch(0, _jl_top));
+            endToken();
+            switch (result) {
+            case 0:  {
+                 continue main; 
+            }
+            case 1:  {
+                 newline(); continue main; 
+            }
+            case 2:  {
+                 return token("LINE_COMMENT", lexemeByChars()); 
+            }
+            case 3:  {
+                 saveStart(this::comment); return token("COMMENT"); 
+            }
+            case 4:  {
+                 saveStart(this::string); return token("STRING"); 
+            }
+            case 5:  {
+                 return token("DOOD"); 
+            }
+            case 6:  {
+                 return token("DO"); 
+            }
+            case 7:  {
+                 return token("IF"); 
+            }
+            case 8:  {
+                 return token("IF_"); 
+            }
+            case 9:  {
+                 return token("IF__"); 
+            }
+            case 10:  {
+                 return token("IN"); 
+            }
+            case 11:  {
+                 return token("INT"); 
+            }
+            case 12:  {
+                 return token("ELSE"); 
+            }
+            case 13:  {
+                 return token("WHILE"); 
+            }
+            case 14:  {
+                 return token("X"); 
+            }
+            case 15:  {
+                 return token("IDENT"); 
+            }
+            case 16:  {
+                final Optional<String> f = getSubLexemeOpt(memory[1], memory[2]);
+                final String i = getSubLexeme(startPos, memory[0]);
+                 return token("NUMBER", i + "." + f.orElse("-")); 
+            }
+            case 17:  {
+                final char c = getSubLexemeChar(startPos + 1);
+                 return token("CHAR", (int) c); 
+            }
+            case 18:  {
+                 throw error("Illegal character"); 
+            }
+            case 19:  {
+                 return token("EOF"); 
+            }
+            case 20:  {
+                 return token("OTHER"); 
+            }
+            default:
+                break main;
+            }
+        }
+        throw error("Empty token");
+    }
+    private final int [] _jl_mem_main = new int[6];
+    
+    /**
+     * Entry point for rule comment
+     */
+    private  void  comment() {
+        final boolean _jl_top = enterEntry();
+        comment:
+        while (true) {
+            // Initialize lexer for this automaton
+            memory = NO_MEM_CELLS;
+            startToken();
+            int result = _jl_loop_comment(startMatch(38, _jl_top));
+            endToken();
+            switch (result) {
+            case 0:  {
+                 return; 
+            }
+            case 1:  {
+                 newline(); continue comment; 
+            }
+            case 2:  {
+                 throw error("Unterminated comment"); 
+            }
+            case 3:  {
+                 continue comment; 
+            }
+            default:
+                break comment;
+            }
+        }
+        throw error("Empty token");
+    }
+    
+    /**
+     * Entry point for rule string
+     */
+    private  void  string() {
+        final boolean _jl_top = enterEntry();
+        string:
+        while (true) {
+            // Initialize lexer for this automaton
+            memory = NO_MEM_CELLS;
+            startToken();
+            int result = _jl_loop_string(startMatch(45, _jl_top));
+            endToken();
+            switch (result) {
+            case 0:  {
+                 return; 
+            }
+            case 1:  {
+                 continue string; 
+            }
+            case 2:  {
+                 throw error("Newline in string literal"); 
+            }
+            case 3:  {
+                 throw error("Unterminated string literal"); 
+            }
+            case 4:  {
+                 continue string; 
+            }
+            default:
+                break string;
+            }
+        }
+        throw error("Empty token");
+    }
+    
+    @SuppressWarnings("fallthrough")
+    private int _jl_loop_main(int _jl_state) {
+        char[] _jl_buf = tokenBuf;
+        int _jl_pos = curPos;
+        int _jl_limit = bufLimit;
+        while (true) {
+            switch (_jl_state) {
+            case 0:
+            case -1: {
+                final char _jl_char;
+                if (_jl_pos < _jl_limit) _jl_char = _jl_buf[_jl_pos++];
+                else {
+                    curPos = _jl_pos;
+                    _jl_char = getNextChar(0);
+                    _jl_pos = curPos;
+                    _jl_buf = tokenBuf;
+                    _jl_limit = bufLimit;
+                }
+                if (_jl_char <= 122) {
+                    switch (_jl_table0[_jl_char]) {
+                    // [0x0009 0x0020]
+                    case 1: {
+                        _jl_state = 18;
+                        continue;
+                    }
+                    // 0x000a
+                    case 2: {
+                        curPos = _jl_pos;
+                        return 1;
+                    }
+                    // 0x000d
+                    case 3: {
+                        _jl_state = 15;
+                        continue;
+                    }
+                    // "
+                    case 4: {
+                        curPos = _jl_pos;
+                        return 4;
+                    }
+                    // '
+                    case 5: {
+                        _jl_state = 4;
+                        continue;
+                    }
+                    // /
+                    case 6: {
+                        _jl_state = 14;
+                        continue;
+                    }
+                    // [0-9]
+                    case 7: {
+                        memory[3] = _jl_pos;
+                        _jl_state = 6;
+                        continue;
+                    }
+                    // @
+                    case 8: {
+                        curPos = _jl_pos;
+                        return 18;
+                    }
+                    // [A-H J-Z \_ a-c f-h j-n p-v y-z]
+                    case 9: {
+                        _jl_state = 7;
+                        continue;
+                    }
+                    // I
+                    case 10: {
+                        _jl_state = 9;
+                        continue;
+                    }
+                    // d
+                    case 11: {
+                        _jl_state = 12;
+                        continue;
+                    }
+                    // e
+                    case 12: {
+                        _jl_state = 8;
+                        continue;
+                    }
+                    // i
+                    case 13: {
+                        _jl_state = 10;
+                        continue;
+                    }
+                    // o
+                    case 14: {
+                        _jl_state = 11;
+                        continue;
+                    }
+                    // w
+                    case 15: {
+                        _jl_state = 17;
+                        continue;
+                    }
+                    // x
+                    case 16: {
+                        _jl_state = 13;
+                        continue;
+                    }
+                    default:  {
+                        curPos = _jl_pos;
+                        return 20;
+                    }
+                    }
+                } else  {
+                    switch (_jl_char) {
+                    // EOF
+                    case 65535: {
+                        curPos = _jl_pos;
+                        return 19;
+                    }
+                    default:  {
+                        curPos = _jl_pos;
+                        return 20;
+                    }
+                    }
+                }
+            }
+            case 4:
+                curPos = _jl_pos;
+                mark(20);
+                //$FALL-THROUGH$
+            case -5: {
+                final char _jl_char;
+                if (_jl_pos < _jl_limit) _jl_char = _jl_buf[_jl_pos++];
+                else {
+                    curPos = _jl_pos;
+                    _jl_char = getNextChar(4);
+                    _jl_pos = curPos;
+                    _jl_buf = tokenBuf;
+                    _jl_limit = bufLimit;
+                }
+                switch (_jl_char) {
+                // [0x000a 0x000d EOF]
+                case 10:
+                case 13:
+                case 65535: {
+                    return rewind();
+                }
+                default:  {
+                    _jl_state = 36;
+                    continue;
+                }
+                }
+            }
+            case 6:
+                curPos = _jl_pos;
+                mark(16);
+                memory[0] = memory[3];
+                memory[1] = -1;
+                //$FALL-THROUGH$
+            case -7: {
+                final char _jl_char;
+                if (_jl_pos < _jl_limit) _jl_char = _jl_buf[_jl_pos++];
+                else {
+                    curPos = _jl_pos;
+                    _jl_char = getNextChar(6);
+                    _jl_pos = curPos;
+                    _jl_buf = tokenBuf;
+                    _jl_limit = bufLimit;
+                }
+                switch (_jl_char) {
+                // .
+                case 46: {
+                    memory[4] = _jl_pos;
+                    _jl_state = 34;
+                    continue;
+                }
+                // [0-9]
+                case 48:
+                case 49:
+                case 50:
+                case 51:
+                case 52:
+                case 53:
+                case 54:
+                case 55:
+                case 56:
+                case 57: {
+                    memory[3] = _jl_pos;
+                    _jl_state = 6;
+                    continue;
+                }
+                default:  {
+                    return rewind();
+                }
+                }
+            }
+            case 7:
+                curPos = _jl_pos;
+                mark(15);
+                //$FALL-THROUGH$
+            case -8: {
+                final char _jl_char;
+                if (_jl_pos < _jl_limit) _jl_char = _jl_buf[_jl_pos++];
+                else {
+                    curPos = _jl_pos;
+                    _jl_char = getNextChar(7);
+                    _jl_pos = curPos;
+                    _jl_buf = tokenBuf;
+                    _jl_limit = bufLimit;
+                }
+                switch (_jl_char) {
+                // [0-9 A-Z \_ a-z]
+                case 48:
+                case 49:
+                case 50:
+                case 51:
+                case 52:
+                case 53:
+                case 54:
+                case 55:
+                case 56:
+                case 57:
+                case 65:
+                case 66:
+                case 67:
+                case 68:
+                case 69:
+                case 70:
+                case 71:
+                case 72:
+                case 73:
+                case 74:
+                case 75:
+                case 76:
+                case 77:
+                case 78:
+                case 79:
+                case 80:
+                case 81:
+                case 82:
+                case 83:
+                case 84:
+                case 85:
+                case 86:
+                case 87:
+                case 88:
+                case 89:
+                case 90:
+                case 95:
+                case 97:
+                case 98:
+                case 99:
+                case 100:
+                case 101:
+                case 102:
+                case 103:
+                case 104:
+                case 105:
+                case 106:
+                case 107:
+                case 108:
+                case 109:
+                case 110:
+                case 111:
+                case 112:
+                case 113:
+                case 114:
+                case 115:
+                case 116:
+                case 117:
+                case 118:
+                case 119:
+                case 120:
+                case 121:
+                case 122: {
+                    _jl_state = 7;
+                    continue;
+                }
+                default:  {
+                    return rewind();
+                }
+                }
+            }
+            case 8:
+                curPos = _jl_pos;
+                mark(15);
+                //$FALL-THROUGH$
+            case -9: {
+                final char _jl_char;
+                if (_jl_pos < _jl_limit) _jl_char = _jl_buf[_jl_pos++];
+                else {
+                    curPos = _jl_pos;
+                    _jl_char = getNextChar(8);
+                    _jl_pos = curPos;
+                    _jl_buf = tokenBuf;
+                    _jl_limit = bufLimit;
+                }
+                switch (_jl_char) {
+                // [0-9 A-Z \_ a-k m-z]
+                case 48:
+                case 49:
+                case 50:
+                case 51:
+                case 52:
+                case 53:
+                case 54:
+                case 55:
+                case 56:
+                case 57:
+                case 65:
+                case 66:
+                case 67:
+                case 68:
+                case 69:
+                case 70:
+                case 71:
+                case 72:
+                case 73:
+                case 74:
+                case 75:
+                case 76:
+                case 77:
+                case 78:
+                case 79:
+                case 80:
+                case 81:
+                case 82:
+                case 83:
+                case 84:
+                case 85:
+                case 86:
+                case 87:
+                case 88:
+                case 89:
+                case 90:
+                case 95:
+                case 97:
+                case 98:
+                case 99:
+                case 100:
+                case 101:
+                case 102:
+                case 103:
+                case 104:
+                case 105:
+                case 106:
+                case 107:
+                case 109:
+                case 110:
+                case 111:
+                case 112:
+                case 113:
+                case 114:
+                case 115:
+                case 116:
+                case 117:
+                case 118:
+                case 119:
+                case 120:
+                case 121:
+                case 122: {
+                    _jl_state = 7;
+                    continue;
+                }
+                // l
+                case 108: {
+                    _jl_state = 31;
+                    continue;
+                }
+                default:  {
+                    return rewind();
+                }
+                }
+            }
+            case 9:
+                curPos = _jl_pos;
+                mark(15);
+                //$FALL-THROUGH$
+            case -10: {
+                final char _jl_char;
+                if (_jl_pos < _jl_limit) _jl_char = _jl_buf[_jl_pos++];
+                else {
+                    curPos = _jl_pos;
+                    _jl_char = getNextChar(9);
+                    _jl_pos = curPos;
+                    _jl_buf = tokenBuf;
+                    _jl_limit = bufLimit;
+                }
+                switch (_jl_char) {
+                // [0-9 A-E G-Z \_ a-e g-z]
+                case 48:
+                case 49:
+                case 50:
+                case 51:
+                case 52:
+                case 53:
+                case 54:
+                case 55:
+                case 56:
+                case 57:
+                case 65:
+                case 66:
+                case 67:
+                case 68:
+                case 69:
+                case 71:
+                case 72:
+                case 73:
+                case 74:
+                case 75:
+                case 76:
+                case 77:
+                case 78:
+                case 79:
+                case 80:
+                case 81:
+                case 82:
+                case 83:
+                case 84:
+                case 85:
+                case 86:
+                case 87:
+                case 88:
+                case 89:
+                case 90:
+                case 95:
+                case 97:
+                case 98:
+                case 99:
+                case 100:
+                case 101:
+                case 103:
+                case 104:
+                case 105:
+                case 106:
+                case 107:
+                case 108:
+                case 109:
+                case 110:
+                case 111:
+                case 112:
+                case 113:
+                case 114:
+                case 115:
+                case 116:
+                case 117:
+                case 118:
+                case 119:
+                case 120:
+                case 121:
+                case 122: {
+                    _jl_state = 7;
+                    continue;
+                }
+                // F
+                case 70: {
+                    _jl_state = 29;
+                    continue;
+                }
+                // f
+                case 102: {
+                    _jl_state = 30;
+                    continue;
+                }
+                default:  {
+                    return rewind();
+                }
+                }
+            }
+            case 10:
+                curPos = _jl_pos;
+                mark(15);
+                //$FALL-THROUGH$
+            case -11: {
+                final char _jl_char;
+                if (_jl_pos < _jl_limit) _jl_char = _jl_buf[_jl_pos++];
+                else {
+                    curPos = _jl_pos;
+                    _jl_char = getNextChar(10);
+                    _jl_pos = curPos;
+                    _jl_buf = tokenBuf;
+                    _jl_limit = bufLimit;
+                }
+                switch (_jl_char) {
+                // [0-9 A-Z \_ a-e g-m o-z]
+                case 48:
+                case 49:
+                case 50:
+                case 51:
+                case 52:
+                case 53:
+                case 54:
+                case 55:
+                case 56:
+                case 57:
+                case 65:
+                case 66:
+                case 67:
+                case 68:
+                case 69:
+                case 70:
+                case 71:
+                case 72:
+                case 73:
+                case 74:
+                case 75:
+                case 76:
+                case 77:
+                case 78:
+                case 79:
+                case 80:
+                case 81:
+                case 82:
+                case 83:
+                case 84:
+                case 85:
+                case 86:
+                case 87:
+                case 88:
+                case 89:
+                case 90:
+                case 95:
+                case 97:
+                case 98:
+                case 99:
+                case 100:
+                case 101:
+                case 103:
+                case 104:
+                case 105:
+                case 106:
+                case 107:
+                case 108:
+                case 109:
+                case 111:
+                case 112:
+                case 113:
+                case 114:
+                case 115:
+                case 116:
+                case 117:
+                case 118:
+                case 119:
+                case 120:
+                case 121:
+                case 122: {
+                    _jl_state = 7;
+                    continue;
+                }
+                // f
+                case 102: {
+                    _jl_state = 27;
+                    continue;
+                }
+                // n
+                case 110: {
+                    _jl_state = 26;
+                    continue;
+                }
+                default:  {
+                    return rewind();
+                }
+                }
+            }
+            case 11:
+                curPos = _jl_pos;
+                mark(15);
+                //$FALL-THROUGH$
+            case -12: {
+                final char _jl_char;
+                if (_jl_pos < _jl_limit) _jl_char = _jl_buf[_jl_pos++];
+                else {
+                    curPos = _jl_pos;
+                    _jl_char = getNextChar(11);
+                    _jl_pos = curPos;
+                    _jl_buf = tokenBuf;
+                    _jl_limit = bufLimit;
+                }
+                switch (_jl_char) {
+                // [0-9 A-Z \_ a-c e-z]
+                case 48:
+                case 49:
+                case 50:
+                case 51:
+                case 52:
+                case 53:
+                case 54:
+                case 55:
+                case 56:
+                case 57:
+                case 65:
+                case 66:
+                case 67:
+                case 68:
+                case 69:
+                case 70:
+                case 71:
+                case 72:
+                case 73:
+                case 74:
+                case 75:
+                case 76:
+                case 77:
+                case 78:
+                case 79:
+                case 80:
+                case 81:
+                case 82:
+                case 83:
+                case 84:
+                case 85:
+                case 86:
+                case 87:
+                case 88:
+                case 89:
+                case 90:
+                case 95:
+                case 97:
+                case 98:
+                case 99:
+                case 101:
+                case 102:
+                case 103:
+                case 104:
+                case 105:
+                case 106:
+                case 107:
+                case 108:
+                case 109:
+                case 110:
+                case 111:
+                case 112:
+                case 113:
+                case 114:
+                case 115:
+                case 116:
+                case 117:
+                case 118:
+                case 119:
+                case 120:
+                case 121:
+                case 122: {
+                    _jl_state = 7;
+                    continue;
+                }
+                // d
+                case 100: {
+                    _jl_state = 25;
+                    continue;
+                }
+                default:  {
+                    return rewind();
+                }
+                }
+            }
+            case 12:
+                curPos = _jl_pos;
+                mark(15);
+                //$FALL-THROUGH$
+            case -13: {
+                final char _jl_char;
+                if (_jl_pos < _jl_limit) _jl_char = _jl_buf[_jl_pos++];
+                else {
+                    curPos = _jl_pos;
+                    _jl_char = getNextChar(12);
+                    _jl_pos = curPos;
+                    _jl_buf = tokenBuf;
+                    _jl_limit = bufLimit;
+                }
+                switch (_jl_char) {
+                // [0-9 A-Z \_ a-n p-z]
+                case 48:
+                case 49:
+                case 50:
+                case 51:
+                case 52:
+                case 53:
+                case 54:
+                case 55:
+                case 56:
+                case 57:
+                case 65:
+                case 66:
+                case 67:
+                case 68:
+                case 69:
+                case 70:
+                case 71:
+                case 72:
+                case 73:
+                case 74:
+                case 75:
+                case 76:
+                case 77:
+                case 78:
+                case 79:
+                case 80:
+                case 81:
+                case 82:
+                case 83:
+                case 84:
+                case 85:
+                case 86:
+                case 87:
+                case 88:
+                case 89:
+                case 90:
+                case 95:
+                case 97:
+                case 98:
+                case 99:
+                case 100:
+                case 101:
+                case 102:
+                case 103:
+                case 104:
+                case 105:
+                case 106:
+                case 107:
+                case 108:
+                case 109:
+                case 110:
+                case 112:
+                case 113:
+                case 114:
+                case 115:
+                case 116:
+                case 117:
+                case 118:
+                case 119:
+                case 120:
+                case 121:
+                case 122: {
+                    _jl_state = 7;
+                    continue;
+                }
+                // o
+                case 111: {
+                    _jl_state = 25;
+                    continue;
+                }
+                default:  {
+                    return rewind();
+                }
+                }
+            }
+            case 13:
+                curPos = _jl_pos;
+                mark(14);
+                //$FALL-THROUGH$
+            case -14: {
+                final char _jl_char;
+                if (_jl_pos < _jl_limit) _jl_char = _jl_buf[_jl_pos++];
+                else {
+                    curPos = _jl_pos;
+                    _jl_char = getNextChar(13);
+                    _jl_pos = curPos;
+                    _jl_buf = tokenBuf;
+                    _jl_limit = bufLimit;
+                }
+                switch (_jl_char) {
+                // [0-9 A-Z \_ a-z]
+                case 48:
+                case 49:
+                case 50:
+                case 51:
+                case 52:
+                case 53:
+                case 54:
+                case 55:
+                case 56:
+                case 57:
+                case 65:
+                case 66:
+                case 67:
+                case 68:
+                case 69:
+                case 70:
+                case 71:
+                case 72:
+                case 73:
+                case 74:
+                case 75:
+                case 76:
+                case 77:
+                case 78:
+                case 79:
+                case 80:
+                case 81:
+                case 82:
+                case 83:
+                case 84:
+                case 85:
+                case 86:
+                case 87:
+                case 88:
+                case 89:
+                case 90:
+                case 95:
+                case 97:
+                case 98:
+                case 99:
+                case 100:
+                case 101:
+                case 102:
+                case 103:
+                case 104:
+                case 105:
+                case 106:
+                case 107:
+                case 108:
+                case 109:
+                case 110:
+                case 111:
+                case 112:
+                case 113:
+                case 114:
+                case 115:
+                case 116:
+                case 117:
+                case 118:
+                case 119:
+                case 120:
+                case 121:
+                case 122: {
+                    _jl_state = 7;
+                    continue;
+                }
+                default:  {
+                    return rewind();
+                }
+                }
+            }
+            case 14:
+                curPos = _jl_pos;
+                mark(20);
+                //$FALL-THROUGH$
+            case -15: {
+                final char _jl_char;
+                if (_jl_pos < _jl_limit) _jl_char = _jl_buf[_jl_pos++];
+                else {
+                    curPos = _jl_pos;
+                    _jl_char = getNextChar(14);
+                    _jl_pos = curPos;
+                    _jl_buf = tokenBuf;
+                    _jl_limit = bufLimit;
+                }
+                switch (_jl_char) {
+                // *
+                case 42: {
+                    curPos = _jl_pos;
+                    return 3;
+                }
+                // /
+                case 47: {
+                    _jl_state = 24;
+                    continue;
+                }
+                default:  {
+                    return rewind();
+                }
+                }
+            }
+            case 15:
+                curPos = _jl_pos;
+                mark(1);
+                //$FALL-THROUGH$
+            case -16: {
+                final char _jl_char;
+                if (_jl_pos < _jl_limit) _jl_char = _jl_buf[_jl_pos++];
+                else {
+                    curPos = _jl_pos;
+                    _jl_char = getNextChar(15);
+                    _jl_pos = curPos;
+                    _jl_buf = tokenBuf;
+                    _jl_limit = bufLimit;
+                }
+                switch (_jl_char) {
+                // 0x000a
+                case 10: {
+                    curPos = _jl_pos;
+                    return 1;
+                }
+                default:  {
+                    return rewind();
+                }
+                }
+            }
+            case 17:
+                curPos = _jl_pos;
+                mark(15);
+                //$FALL-THROUGH$
+            case -18: {
+                final char _jl_char;
+                if (_jl_pos < _jl_limit) _jl_char = _jl_buf[_jl_pos++];
+                else {
+                    curPos = _jl_pos;
+                    _jl_char = getNextChar(17);
+                    _jl_pos = curPos;
+                    _jl_buf = tokenBuf;
+                    _jl_limit = bufLimit;
+                }
+                switch (_jl_char) {
+                // [0-9 A-Z \_ a-g i-z]
+                case 48:
+                case 49:
+                case 50:
+                case 51:
+                case 52:
+                case 53:
+                case 54:
+                case 55:
+                case 56:
+                case 57:
+                case 65:
+                case 66:
+                case 67:
+                case 68:
+                case 69:
+                case 70:
+                case 71:
+                case 72:
+                case 73:
+                case 74:
+                case 75:
+                case 76:
+                case 77:
+                case 78:
+                case 79:
+                case 80:
+                case 81:
+                case 82:
+                case 83:
+                case 84:
+                case 85:
+                case 86:
+                case 87:
+                case 88:
+                case 89:
+                case 90:
+                case 95:
+                case 97:
+                case 98:
+                case 99:
+                case 100:
+                case 101:
+                case 102:
+                case 103:
+                case 105:
+                case 106:
+                case 107:
+                case 108:
+                case 109:
+                case 110:
+                case 111:
+                case 112:
+                case 113:
+                case 114:
+                case 115:
+                case 116:
+                case 117:
+                case 118:
+                case 119:
+                case 120:
+                case 121:
+                case 122: {
+                    _jl_state = 7;
+                    continue;
+                }
+                // h
+                case 104: {
+                    _jl_state = 19;
+                    continue;
+                }
+                default:  {
+                    return rewind();
+                }
+                }
+            }
+            case 18:
+                curPos = _jl_pos;
+                mark(0);
+                //$FALL-THROUGH$
+            case -19: {
+                final char _jl_char;
+                if (_jl_pos < _jl_limit) _jl_char = _jl_buf[_jl_pos++];
+                else {
+                    curPos = _jl_pos;
+                    _jl_char = getNextChar(18);
+                    _jl_pos = curPos;
+                    _jl_buf = tokenBuf;
+                    _jl_limit = bufLimit;
+                }
+                switch (_jl_char) {
+                // [0x0009 0x0020]
+                case 9:
+                case 32: {
+                    _jl_state = 18;
+                    continue;
+                }
+                default:  {
+                    return rewind();
+                }
+                }
+            }
+            case 19:
+                curPos = _jl_pos;
+                mark(15);
+                //$FALL-THROUGH$
+            case -20: {
+                final char _jl_char;
+                if (_jl_pos < _jl_limit) _jl_char = _jl_buf[_jl_pos++];
+                else {
+                    curPos = _jl_pos;
+                    _jl_char = getNextChar(19);
+                    _jl_pos = curPos;
+                    _jl_buf = tokenBuf;
+                    _jl_limit = bufLimit;
+                }
+                switch (_jl_char) {
+                // [0-9 A-Z \_ a-h j-z]
+                case 48:
+                case 49:
+                case 50:
+                case 51:
+                case 52:
+                case 53:
+                case 54:
+                case 55:
+                case 56:
+                case 57:
+                case 65:
+                case 66:
+                case 67:
+                case 68:
+                case 69:
+                case 70:
+                case 71:
+                case 72:
+                case 73:
+                case 74:
+                case 75:
+                case 76:
+                case 77:
+                case 78:
+                case 79:
+                case 80:
+                case 81:
+                case 82:
+                case 83:
+                case 84:
+                case 85:
+                case 86:
+                case 87:
+                case 88:
+                case 89:
+                case 90:
+                case 95:
+                case 97:
+                case 98:
+                case 99:
+                case 100:
+                case 101:
+                case 102:
+                case 103:
+                case 104:
+                case 106:
+                case 107:
+                case 108:
+                case 109:
+                case 110:
+                case 111:
+                case 112:
+                case 113:
+                case 114:
+                case 115:
+                case 116:
+                case 117:
+                case 118:
+                case 119:
+                case 120:
+                case 121:
+                case 122: {
+                    _jl_state = 7;
+                    continue;
+                }
+                // i
+                case 105: {
+                    _jl_state = 20;
+                    continue;
+                }
+                default:  {
+                    return rewind();
+                }
+                }
+            }
+            case 20:
+                curPos = _jl_pos;
+                mark(15);
+                //$FALL-THROUGH$
+            case -21: {
+                final char _jl_char;
+                if (_jl_pos < _jl_limit) _jl_char = _jl_buf[_jl_pos++];
+                else {
+                    curPos = _jl_pos;
+                    _jl_char = getNextChar(20);
+                    _jl_pos = curPos;
+                    _jl_buf = tokenBuf;
+                    _jl_limit = bufLimit;
+                }
+                switch (_jl_char) {
+                // [0-9 A-Z \_ a-k m-z]
+                case 48:
+                case 49:
+                case 50:
+                case 51:
+                case 52:
+                case 53:
+                case 54:
+                case 55:
+                case 56:
+                case 57:
+                case 65:
+                case 66:
+                case 67:
+                case 68:
+                case 69:
+                case 70:
+                case 71:
+                case 72:
+                case 73:
+                case 74:
+                case 75:
+                case 76:
+                case 77:
+                case 78:
+                case 79:
+                case 80:
+                case 81:
+                case 82:
+                case 83:
+                case 84:
+                case 85:
+                case 86:
+                case 87:
+                case 88:
+                case 89:
+                case 90:
+                case 95:
+                case 97:
+                case 98:
+                case 99:
+                case 100:
+                case 101:
+                case 102:
+                case 103:
+                case 104:
+                case 105:
+                case 106:
+                case 107:
+                case 109:
+                case 110:
+                case 111:
+                case 112:
+                case 113:
+                case 114:
+                case 115:
+                case 116:
+                case 117:
+                case 118:
+                case 119:
+                case 120:
+                case 121:
+                case 122: {
+                    _jl_state = 7;
+                    continue;
+                }
+                // l
+                case 108: {
+                    _jl_state = 21;
+                    continue;
+                }
+                default:  {
+                    return rewind();
+                }
+                }
+            }
+            case 21:
+                curPos = _jl_pos;
+                mark(15);
+                //$FALL-THROUGH$
+            case -22: {
+                final char _jl_char;
+                if (_jl_pos < _jl_limit) _jl_char = _jl_buf[_jl_pos++];
+                else {
+                    curPos = _jl_pos;
+                    _jl_char = getNextChar(21);
+                    _jl_pos = curPos;
+                    _jl_buf = tokenBuf;
+                    _jl_limit = bufLimit;
+                }
+                switch (_jl_char) {
+                // [0-9 A-Z \_ a-d f-z]
+                case 48:
+                case 49:
+                case 50:
+                case 51:
+                case 52:
+                case 53:
+                case 54:
+                case 55:
+                case 56:
+                case 57:
+                case 65:
+                case 66:
+                case 67:
+                case 68:
+                case 69:
+                case 70:
+                case 71:
+                case 72:
+                case 73:
+                case 74:
+                case 75:
+                case 76:
+                case 77:
+                case 78:
+                case 79:
+                case 80:
+                case 81:
+                case 82:
+                case 83:
+                case 84:
+                case 85:
+                case 86:
+                case 87:
+                case 88:
+                case 89:
+                case 90:
+                case 95:
+                case 97:
+                case 98:
+                case 99:
+                case 100:
+                case 102:
+                case 103:
+                case 104:
+                case 105:
+                case 106:
+                case 107:
+                case 108:
+                case 109:
+                case 110:
+                case 111:
+                case 112:
+                case 113:
+                case 114:
+                case 115:
+                case 116:
+                case 117:
+                case 118:
+                case 119:
+                case 120:
+                case 121:
+                case 122: {
+                    _jl_state = 7;
+                    continue;
+                }
+                // e
+                case 101: {
+                    _jl_state = 22;
+                    continue;
+                }
+                default:  {
+                    return rewind();
+                }
+                }
+            }
+            case 22:
+                curPos = _jl_pos;
+                mark(13);
+                //$FALL-THROUGH$
+            case -23: {
+                final char _jl_char;
+                if (_jl_pos < _jl_limit) _jl_char = _jl_buf[_jl_pos++];
+                else {
+                    curPos = _jl_pos;
+                    _jl_char = getNextChar(22);
+                    _jl_pos = curPos;
+                    _jl_buf = tokenBuf;
+                    _jl_limit = bufLimit;
+                }
+                switch (_jl_char) {
+                // [0-9 A-Z \_ a-z]
+                case 48:
+                case 49:
+                case 50:
+                case 51:
+                case 52:
+                case 53:
+                case 54:
+                case 55:
+                case 56:
+                case 57:
+                case 65:
+                case 66:
+                case 67:
+                case 68:
+                case 69:
+                case 70:
+                case 71:
+                case 72:
+                case 73:
+                case 74:
+                case 75:
+                case 76:
+                case 77:
+                case 78:
+                case 79:
+                case 80:
+                case 81:
+                case 82:
+                case 83:
+                case 84:
+                case 85:
+                case 86:
+                case 87:
+                case 88:
+                case 89:
+                case 90:
+                case 95:
+                case 97:
+                case 98:
+                case 99:
+                case 100:
+                case 101:
+                case 102:
+                case 103:
+                case 104:
+                case 105:
+                case 106:
+                case 107:
+                case 108:
+                case 109:
+                case 110:
+                case 111:
+                case 112:
+                case 113:
+                case 114:
+                case 115:
+                case 116:
+                case 117:
+                case 118:
+                case 119:
+                case 120:
+                case 121:
+                case 122: {
+                    _jl_state = 7;
+                    continue;
+                }
+                default:  {
+                    return rewind();
+                }
+                }
+            }
+            case 24:
+                curPos = _jl_pos;
+                mark(2);
+                //$FALL-THROUGH$
+            case -25: {
+                final char _jl_char;
+                if (_jl_pos < _jl_limit) _jl_char = _jl_buf[_jl_pos++];
+                else {
+                    curPos = _jl_pos;
+                    _jl_char = getNextChar(24);
+                    _jl_pos = curPos;
+                    _jl_buf = tokenBuf;
+                    _jl_limit = bufLimit;
+                }
+                switch (_jl_char) {
+                // [0x000a 0x000d EOF]
+                case 10:
+                case 13:
+                case 65535: {
+                    return rewind();
+                }
+                default:  {
+                    _jl_state = 24;
+                    continue;
+                }
+                }
+            }
+            case 25:
+                curPos = _jl_pos;
+                mark(5);
+                //$FALL-THROUGH$
+            case -26: {
+                final char _jl_char;
+                if (_jl_pos < _jl_limit) _jl_char = _jl_buf[_jl_pos++];
+                else {
+                    curPos = _jl_pos;
+                    _jl_char = getNextChar(25);
+                    _jl_pos = curPos;
+                    _jl_buf = tokenBuf;
+                    _jl_limit = bufLimit;
+                }
+                switch (_jl_char) {
+                // [0-9 A-Z \_ a-z]
+                case 48:
+                case 49:
+                case 50:
+                case 51:
+                case 52:
+                case 53:
+                case 54:
+                case 55:
+                case 56:
+                case 57:
+                case 65:
+                case 66:
+                case 67:
+                case 68:
+                case 69:
+                case 70:
+                case 71:
+                case 72:
+                case 73:
+                case 74:
+                case 75:
+                case 76:
+                case 77:
+                case 78:
+                case 79:
+                case 80:
+                case 81:
+                case 82:
+                case 83:
+                case 84:
+                case 85:
+                case 86:
+                case 87:
+                case 88:
+                case 89:
+                case 90:
+                case 95:
+                case 97:
+                case 98:
+                case 99:
+                case 100:
+                case 101:
+                case 102:
+                case 103:
+                case 104:
+                case 105:
+                case 106:
+                case 107:
+                case 108:
+                case 109:
+                case 110:
+                case 111:
+                case 112:
+                case 113:
+                case 114:
+                case 115:
+                case 116:
+                case 117:
+                case 118:
+                case 119:
+                case 120:
+                case 121:
+                case 122: {
+                    _jl_state = 7;
+                    continue;
+                }
+                default:  {
+                    return rewind();
+                }
+                }
+            }
+            case 26:
+                curPos = _jl_pos;
+                mark(10);
+                //$FALL-THROUGH$
+            case -27: {
+                final char _jl_char;
+                if (_jl_pos < _jl_limit) _jl_char = _jl_buf[_jl_pos++];
+                else {
+                    curPos = _jl_pos;
+                    _jl_char = getNextChar(26);
+                    _jl_pos = curPos;
+                    _jl_buf = tokenBuf;
+                    _jl_limit = bufLimit;
+                }
+                switch (_jl_char) {
+                // [0-9 A-Z \_ a-s u-z]
+                case 48:
+                case 49:
+                case 50:
+                case 51:
+                case 52:
+                case 53:
+                case 54:
+                case 55:
+                case 56:
+                case 57:
+                case 65:
+                case 66:
+                case 67:
+                case 68:
+                case 69:
+                case 70:
+                case 71:
+                case 72:
+                case 73:
+                case 74:
+                case 75:
+                case 76:
+                case 77:
+                case 78:
+                case 79:
+                case 80:
+                case 81:
+                case 82:
+                case 83:
+                case 84:
+                case 85:
+                case 86:
+                case 87:
+                case 88:
+                case 89:
+                case 90:
+                case 95:
+                case 97:
+                case 98:
+                case 99:
+                case 100:
+                case 101:
+                case 102:
+                case 103:
+                case 104:
+                case 105:
+                case 106:
+                case 107:
+                case 108:
+                case 109:
+                case 110:
+                case 111:
+                case 112:
+                case 113:
+                case 114:
+                case 115:
+                case 117:
+                case 118:
+                case 119:
+                case 120:
+                case 121:
+                case 122: {
+                    _jl_state = 7;
+                    continue;
+                }
+                // t
+                case 116: {
+                    _jl_state = 28;
+                    continue;
+                }
+                default:  {
+                    return rewind();
+                }
+                }
+            }
+            case 27:
+                curPos = _jl_pos;
+                mark(7);
+                //$FALL-THROUGH$
+            case -28: {
+                final char _jl_char;
+                if (_jl_pos < _jl_limit) _jl_char = _jl_buf[_jl_pos++];
+                else {
+                    curPos = _jl_pos;
+                    _jl_char = getNextChar(27);
+                    _jl_pos = curPos;
+                    _jl_buf = tokenBuf;
+                    _jl_limit = bufLimit;
+                }
+                switch (_jl_char) {
+                // [0-9 A-Z \_ a-z]
+                case 48:
+                case 49:
+                case 50:
+                case 51:
+                case 52:
+                case 53:
+                case 54:
+                case 55:
+                case 56:
+                case 57:
+                case 65:
+                case 66:
+                case 67:
+                case 68:
+                case 69:
+                case 70:
+                case 71:
+                case 72:
+                case 73:
+                case 74:
+                case 75:
+                case 76:
+                case 77:
+                case 78:
+                case 79:
+                case 80:
+                case 81:
+                case 82:
+                case 83:
+                case 84:
+                case 85:
+                case 86:
+                case 87:
+                case 88:
+                case 89:
+                case 90:
+                case 95:
+                case 97:
+                case 98:
+                case 99:
+                case 100:
+                case 101:
+                case 102:
+                case 103:
+                case 104:
+                case 105:
+                case 106:
+                case 107:
+                case 108:
+                case 109:
+                case 110:
+                case 111:
+                case 112:
+                case 113:
+                case 114:
+                case 115:
+                case 116:
+                case 117:
+                case 118:
+                case 119:
+                case 120:
+                case 121:
+                case 122: {
+                    _jl_state = 7;
+                    continue;
+                }
+                default:  {
+                    return rewind();
+                }
+                }
+            }
+            case 28:
+                curPos = _jl_pos;
+                mark(11);
+                //$FALL-THROUGH$
+            case -29: {
+                final char _jl_char;
+                if (_jl_pos < _jl_limit) _jl_char = _jl_buf[_jl_pos++];
+                else {
+                    curPos = _jl_pos;
+                    _jl_char = getNextChar(28);
+                    _jl_pos = curPos;
+                    _jl_buf = tokenBuf;
+                    _jl_limit = bufLimit;
+                }
+                switch (_jl_char) {
+                // [0-9 A-Z \_ a-z]
+                case 48:
+                case 49:
+                case 50:
+                case 51:
+                case 52:
+                case 53:
+                case 54:
+                case 55:
+                case 56:
+                case 57:
+                case 65:
+                case 66:
+                case 67:
+                case 68:
+                case 69:
+                case 70:
+                case 71:
+                case 72:
+                case 73:
+                case 74:
+                case 75:
+                case 76:
+                case 77:
+                case 78:
+                case 79:
+                case 80:
+                case 81:
+                case 82:
+                case 83:
+                case 84:
+                case 85:
+                case 86:
+                case 87:
+                case 88:
+                case 89:
+                case 90:
+                case 95:
+                case 97:
+                case 98:
+                case 99:
+                case 100:
+                case 101:
+                case 102:
+                case 103:
+                case 104:
+                case 105:
+                case 106:
+                case 107:
+                case 108:
+                case 109:
+                case 110:
+                case 111:
+                case 112:
+                case 113:
+                case 114:
+                case 115:
+                case 116:
+                case 117:
+                case 118:
+                case 119:
+                case 120:
+                case 121:
+                case 122: {
+                    _jl_state = 7;
+                    continue;
+                }
+                default:  {
+                    return rewind();
+                }
+                }
+            }
+            case 29:
+                curPos = _jl_pos;
+                mark(9);
+                //$FALL-THROUGH$
+            case -30: {
+                final char _jl_char;
+                if (_jl_pos < _jl_limit) _jl_char = _jl_buf[_jl_pos++];
+                else {
+                    curPos = _jl_pos;
+                    _jl_char = getNextChar(29);
+                    _jl_pos = curPos;
+                    _jl_buf = tokenBuf;
+                    _jl_limit = bufLimit;
+                }
+                switch (_jl_char) {
+                // [0-9 A-Z \_ a-z]
+                case 48:
+                case 49:
+                case 50:
+                case 51:
+                case 52:
+                case 53:
+                case 54:
+                case 55:
+                case 56:
+                case 57:
+                case 65:
+                case 66:
+                case 67:
+                case 68:
+                case 69:
+                case 70:
+                case 71:
+                case 72:
+                case 73:
+                case 74:
+                case 75:
+                case 76:
+                case 77:
+                case 78:
+                case 79:
+                case 80:
+                case 81:
+                case 82:
+                case 83:
+                case 84:
+                case 85:
+                case 86:
+                case 87:
+                case 88:
+                case 89:
+                case 90:
+                case 95:
+                case 97:
+                case 98:
+                case 99:
+                case 100:
+                case 101:
+                case 102:
+                case 103:
+                case 104:
+                case 105:
+                case 106:
+                case 107:
+                case 108:
+                case 109:
+                case 110:
+                case 111:
+                case 112:
+                case 113:
+                case 114:
+                case 115:
+                case 116:
+                case 117:
+                case 118:
+                case 119:
+                case 120:
+                case 121:
+                case 122: {
+                    _jl_state = 7;
+                    continue;
+                }
+                default:  {
+                    return rewind();
+                }
+                }
+            }
+            case 30:
+                curPos = _jl_pos;
+                mark(8);
+                //$FALL-THROUGH$
+            case -31: {
+                final char _jl_char;
+                if (_jl_pos < _jl_limit) _jl_char = _jl_buf[_jl_pos++];
+                else {
+                    curPos = _jl_pos;
+                    _jl_char = getNextChar(30);
+                    _jl_pos = curPos;
+                    _jl_buf = tokenBuf;
+                    _jl_limit = bufLimit;
+                }
+                switch (_jl_char) {
+                // [0-9 A-Z \_ a-z]
+                case 48:
+                case 49:
+                case 50:
+                case 51:
+                case 52:
+                case 53:
+                case 54:
+                case 55:
+                case 56:
+                case 57:
+                case 65:
+                case 66:
+                case 67:
+                case 68:
+                case 69:
+                case 70:
+                case 71:
+                case 72:
+                case 73:
+                case 74:
+                case 75:
+                case 76:
+                case 77:
+                case 78:
+                case 79:
+                case 80:
+                case 81:
+                case 82:
+                case 83:
+                case 84:
+                case 85:
+                case 86:
+                case 87:
+                case 88:
+                case 89:
+                case 90:
+                case 95:
+                case 97:
+                case 98:
+                case 99:
+                case 100:
+                case 101:
+                case 102:
+                case 103:
+                case 104:
+                case 105:
+                case 106:
+                case 107:
+                case 108:
+                case 109:
+                case 110:
+                case 111:
+                case 112:
+                case 113:
+                case 114:
+                case 115:
+                case 116:
+                case 117:
+                case 118:
+                case 119:
+                case 120:
+                case 121:
+                case 122: {
+                    _jl_state = 7;
+                    continue;
+                }
+                default:  {
+                    return rewind();
+                }
+                }
+            }
+            case 31:
+                curPos = _jl_pos;
+                mark(15);
+                //$FALL-THROUGH$
+            case -32: {
+                final char _jl_char;
+                if (_jl_pos < _jl_limit) _jl_char = _jl_buf[_jl_pos++];
+                else {
+                    curPos = _jl_pos;
+                    _jl_char = getNextChar(31);
+                    _jl_pos = curPos;
+                    _jl_buf = tokenBuf;
+                    _jl_limit = bufLimit;
+                }
+                switch (_jl_char) {
+                // [0-9 A-Z \_ a-r t-z]
+                case 48:
+                case 49:
+                case 50:
+                case 51:
+                case 52:
+                case 53:
+                case 54:
+                case 55:
+                case 56:
+                case 57:
+                case 65:
+                case 66:
+                case 67:
+                case 68:
+                case 69:
+                case 70:
+                case 71:
+                case 72:
+                case 73:
+                case 74:
+                case 75:
+                case 76:
+                case 77:
+                case 78:
+                case 79:
+                case 80:
+                case 81:
+                case 82:
+                case 83:
+                case 84:
+                case 85:
+                case 86:
+                case 87:
+                case 88:
+                case 89:
+                case 90:
+                case 95:
+                case 97:
+                case 98:
+                case 99:
+                case 100:
+                case 101:
+                case 102:
+                case 103:
+                case 104:
+                case 105:
+                case 106:
+                case 107:
+                case 108:
+                case 109:
+                case 110:
+                case 111:
+                case 112:
+                case 113:
+                case 114:
+                case 116:
+                case 117:
+                case 118:
+                case 119:
+                case 120:
+                case 121:
+                case 122: {
+                    _jl_state = 7;
+                    continue;
+                }
+                // s
+                case 115: {
+                    _jl_state = 32;
+                    continue;
+                }
+                default:  {
+                    return rewind();
+                }
+                }
+            }
+            case 32:
+                curPos = _jl_pos;
+                mark(15);
+                //$FALL-THROUGH$
+            case -33: {
+                final char _jl_char;
+                if (_jl_pos < _jl_limit) _jl_char = _jl_buf[_jl_pos++];
+                else {
+                    curPos = _jl_pos;
+                    _jl_char = getNextChar(32);
+                    _jl_pos = curPos;
+                    _jl_buf = tokenBuf;
+                    _jl_limit = bufLimit;
+                }
+                switch (_jl_char) {
+                // [0-9 A-Z \_ a-d f-z]
+                case 48:
+                case 49:
+                case 50:
+                case 51:
+                case 52:
+                case 53:
+                case 54:
+                case 55:
+                case 56:
+                case 57:
+                case 65:
+                case 66:
+                case 67:
+                case 68:
+                case 69:
+                case 70:
+                case 71:
+                case 72:
+                case 73:
+                case 74:
+                case 75:
+                case 76:
+                case 77:
+                case 78:
+                case 79:
+                case 80:
+                case 81:
+                case 82:
+                case 83:
+                case 84:
+                case 85:
+                case 86:
+                case 87:
+                case 88:
+                case 89:
+                case 90:
+                case 95:
+                case 97:
+                case 98:
+                case 99:
+                case 100:
+                case 102:
+                case 103:
+                case 104:
+                case 105:
+                case 106:
+                case 107:
+                case 108:
+                case 109:
+                case 110:
+                case 111:
+                case 112:
+                case 113:
+                case 114:
+                case 115:
+                case 116:
+                case 117:
+                case 118:
+                case 119:
+                case 120:
+                case 121:
+                case 122: {
+                    _jl_state = 7;
+                    continue;
+                }
+                // e
+                case 101: {
+                    _jl_state = 33;
+                    continue;
+                }
+                default:  {
+                    return rewind();
+                }
+                }
+            }
+            case 33:
+                curPos = _jl_pos;
+                mark(12);
+                //$FALL-THROUGH$
+            case -34: {
+                final char _jl_char;
+                if (_jl_pos < _jl_limit) _jl_char = _jl_buf[_jl_pos++];
+                else {
+                    curPos = _jl_pos;
+                    _jl_char = getNextChar(33);
+                    _jl_pos = curPos;
+                    _jl_buf = tokenBuf;
+                    _jl_limit = bufLimit;
+                }
+                switch (_jl_char) {
+                // [0-9 A-Z \_ a-z]
+                case 48:
+                case 49:
+                case 50:
+                case 51:
+                case 52:
+                case 53:
+                case 54:
+                case 55:
+                case 56:
+                case 57:
+                case 65:
+                case 66:
+                case 67:
+                case 68:
+                case 69:
+                case 70:
+                case 71:
+                case 72:
+                case 73:
+                case 74:
+                case 75:
+                case 76:
+                case 77:
+                case 78:
+                case 79:
+                case 80:
+                case 81:
+                case 82:
+                case 83:
+                case 84:
+                case 85:
+                case 86:
+                case 87:
+                case 88:
+                case 89:
+                case 90:
+                case 95:
+                case 97:
+                case 98:
+                case 99:
+                case 100:
+                case 101:
+                case 102:
+                case 103:
+                case 104:
+                case 105:
+                case 106:
+                case 107:
+                case 108:
+                case 109:
+                case 110:
+                case 111:
+                case 112:
+                case 113:
+                case 114:
+                case 115:
+                case 116:
+                case 117:
+                case 118:
+                case 119:
+                case 120:
+                case 121:
+                case 122: {
+                    _jl_state = 7;
+                    continue;
+                }
+                default:  {
+                    return rewind();
+                }
+                }
+            }
+            case 34:
+            case -35: {
+                final char _jl_char;
+                if (_jl_pos < _jl_limit) _jl_char = _jl_buf[_jl_pos++];
+                else {
+                    curPos = _jl_pos;
+                    _jl_char = getNextChar(34);
+                    _jl_pos = curPos;
+                    _jl_buf = tokenBuf;
+                    _jl_limit = bufLimit;
+                }
+                switch (_jl_char) {
+                // [0-9]
+                case 48:
+                case 49:
+                case 50:
+                case 51:
+                case 52:
+                case 53:
+                case 54:
+                case 55:
+                case 56:
+                case 57: {
+                    memory[5] = _jl_pos;
+                    _jl_state = 35;
+                    continue;
+                }
+                default:  {
+                    return rewind();
+                }
+                }
+            }
+            case 35:
+                curPos = _jl_pos;
+                mark(16);
+                memory[0] = memory[3];
+                memory[1] = memory[4];
+                memory[2] = memory[5];
+                //$FALL-THROUGH$
+            case -36: {
+                final char _jl_char;
+                if (_jl_pos < _jl_limit) _jl_char = _jl_buf[_jl_pos++];
+                else {
+                    curPos = _jl_pos;
+                    _jl_char = getNextChar(35);
+                    _jl_pos = curPos;
+                    _jl_buf = tokenBuf;
+                    _jl_limit = bufLimit;
+                }
+                switch (_jl_char) {
+                // [0-9]
+                case 48:
+                case 49:
+                case 50:
+                case 51:
+                case 52:
+                case 53:
+                case 54:
+                case 55:
+                case 56:
+                case 57: {
+                    memory[5] = _jl_pos;
+                    _jl_state = 35;
+                    continue;
+                }
+                default:  {
+                    return rewind();
+                }
+                }
+            }
+            case 36:
+            case -37: {
+                final char _jl_char;
+                if (_jl_pos < _jl_limit) _jl_char = _jl_buf[_jl_pos++];
+                else {
+                    curPos = _jl_pos;
+                    _jl_char = getNextChar(36);
+                    _jl_pos = curPos;
+                    _jl_buf = tokenBuf;
+                    _jl_limit = bufLimit;
+                }
+                switch (_jl_char) {
+                // '
+                case 39: {
+                    curPos = _jl_pos;
+                    return 17;
+                }
+                default:  {
+                    return rewind();
+                }
+                }
+            }
+            default:
+                throw new IllegalStateException("Should not happen");
+            }
+        }
+    }
+    
+    @SuppressWarnings("fallthrough")
+    private int _jl_loop_comment(int _jl_state) {
+        char[] _jl_buf = tokenBuf;
+        int _jl_pos = curPos;
+        int _jl_limit = bufLimit;
+        while (true) {
+            switch (_jl_state) {
+            case 38:
+            case -39: {
+                final char _jl_char;
+                if (_jl_pos < _jl_limit) _jl_char = _jl_buf[_jl_pos++];
+                else {
+                    curPos = _jl_pos;
+                    _jl_char = getNextChar(38);
+                    _jl_pos = curPos;
+                    _jl_buf = tokenBuf;
+                    _jl_limit = bufLimit;
+                }
+                switch (_jl_char) {
+                // 0x000a
+                case 10: {
+                    curPos = _jl_pos;
+                    return 1;
+                }
+                // 0x000d
+                case 13: {
+                    _jl_state = 41;
+                    continue;
+                }
+                // *
+                case 42: {
+                    _jl_state = 43;
+                    continue;
+                }
+                // EOF
+                case 65535: {
+                    curPos = _jl_pos;
+                    return 2;
+                }
+                default:  {
+                    _jl_state = 39;
+                    continue;
+                }
+                }
+            }
+            case 39:
+                curPos = _jl_pos;
+                mark(3);
+                //$FALL-THROUGH$
+            case -40: {
+                final char _jl_char;
+                if (_jl_pos < _jl_limit) _jl_char = _jl_buf[_jl_pos++];
+                else {
+                    curPos = _jl_pos;
+                    _jl_char = getNextChar(39);
+                    _jl_pos = curPos;
+                    _jl_buf = tokenBuf;
+                    _jl_limit = bufLimit;
+                }
+                switch (_jl_char) {
+                // [0x000a 0x000d * EOF]
+                case 10:
+                case 13:
+                case 42:
+                case 65535: {
+                    return rewind();
+                }
+                default:  {
+                    _jl_state = 39;
+                    continue;
+                }
+                }
+            }
+            case 41:
+                curPos = _jl_pos;
+                mark(1);
+                //$FALL-THROUGH$
+            case -42: {
+                final char _jl_char;
+                if (_jl_pos < _jl_limit) _jl_char = _jl_buf[_jl_pos++];
+                else {
+                    curPos = _jl_pos;
+                    _jl_char = getNextChar(41);
+                    _jl_pos = curPos;
+                    _jl_buf = tokenBuf;
+                    _jl_limit = bufLimit;
+                }
+                switch (_jl_char) {
+                // 0x000a
+                case 10: {
+                    curPos = _jl_pos;
+                    return 1;
+                }
+                default:  {
+                    return rewind();
+                }
+                }
+            }
+            case 43:
+            case -44: {
+                final char _jl_char;
+                if (_jl_pos < _jl_limit) _jl_char = _jl_buf[_jl_pos++];
+                else {
+                    curPos = _jl_pos;
+                    _jl_char = getNextChar(43);
+                    _jl_pos = curPos;
+                    _jl_buf = tokenBuf;
+                    _jl_limit = bufLimit;
+                }
+                switch (_jl_char) {
+                // /
+                case 47: {
+                    curPos = _jl_pos;
+                    return 0;
+                }
+                default:  {
+                    return rewind();
+                }
+                }
+            }
+            default:
+                throw new IllegalStateException("Should not happen");
+            }
+        }
+    }
+    
+    @SuppressWarnings("fallthrough")
+    private int _jl_loop_string(int _jl_state) {
+        char[] _jl_buf = tokenBuf;
+        int _jl_pos = curPos;
+        int _jl_limit = bufLimit;
+        while (true) {
+            switch (_jl_state) {
+            case 45:
+            case -46: {
+                final char _jl_char;
+                if (_jl_pos < _jl_limit) _jl_char = _jl_buf[_jl_pos++];
+                else {
+                    curPos = _jl_pos;
+                    _jl_char = getNextChar(45);
+                    _jl_pos = curPos;
+                    _jl_buf = tokenBuf;
+                    _jl_limit = bufLimit;
+                }
+                switch (_jl_char) {
+                // 0x000a
+                case 10: {
+                    curPos = _jl_pos;
+                    return 2;
+                }
+                // 0x000d
+                case 13: {
+                    _jl_state = 50;
+                    continue;
+                }
+                // "
+                case 34: {
+                    curPos = _jl_pos;
+                    return 0;
+                }
+                // \\
+                case 92: {
+                    _jl_state = 46;
+                    continue;
+                }
+                // EOF
+                case 65535: {
+                    curPos = _jl_pos;
+                    return 3;
+                }
+                default:  {
+                    _jl_state = 48;
+                    continue;
+                }
+                }
+            }
+            case 46:
+            case -47: {
+                final char _jl_char;
+                if (_jl_pos < _jl_limit) _jl_char = _jl_buf[_jl_pos++];
+                else {
+                    curPos = _jl_pos;
+                    _jl_char = getNextChar(46);
+                    _jl_pos = curPos;
+                    _jl_buf = tokenBuf;
+                    _jl_limit = bufLimit;
+                }
+                switch (_jl_char) {
+                // [0x000a 0x000d EOF]
+                case 10:
+                case 13:
+                case 65535: {
+                    return rewind();
+                }
+                default:  {
+                    curPos = _jl_pos;
+                    return 1;
+                }
+                }
+            }
+            case 48:
+                curPos = _jl_pos;
+                mark(4);
+                //$FALL-THROUGH$
+            case -49: {
+                final char _jl_char;
+                if (_jl_pos < _jl_limit) _jl_char = _jl_buf[_jl_pos++];
+                else {
+                    curPos = _jl_pos;
+                    _jl_char = getNextChar(48);
+                    _jl_pos = curPos;
+                    _jl_buf = tokenBuf;
+                    _jl_limit = bufLimit;
+                }
+                switch (_jl_char) {
+                // [0x000a 0x000d " \\ EOF]
+                case 10:
+                case 13:
+                case 34:
+                case 92:
+                case 65535: {
+                    return rewind();
+                }
+                default:  {
+                    _jl_state = 48;
+                    continue;
+                }
+                }
+            }
+            case 50:
+                curPos = _jl_pos;
+                mark(2);
+                //$FALL-THROUGH$
+            case -51: {
+                final char _jl_char;
+                if (_jl_pos < _jl_limit) _jl_char = _jl_buf[_jl_pos++];
+                else {
+                    curPos = _jl_pos;
+                    _jl_char = getNextChar(50);
+                    _jl_pos = curPos;
+                    _jl_buf = tokenBuf;
+                    _jl_limit = bufLimit;
+                }
+                switch (_jl_char) {
+                // 0x000a
+                case 10: {
+                    curPos = _jl_pos;
+                    return 2;
+                }
+                default:  {
+                    return rewind();
+                }
+                }
+            }
+            default:
+                throw new IllegalStateException("Should not happen");
+            }
+        }
+    }
+    
+    private static final byte[] _jl_table0 = {
+        0, 0, 0, 0, 0, 0, 0, 0, 0, 1, 2, 0, 0, 3, 0, 0,
+        0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0,
+        1, 0, 4, 0, 0, 0, 0, 5, 0, 0, 0, 0, 0, 0, 0, 6,
+        7, 7, 7, 7, 7, 7, 7, 7, 7, 7, 0, 0, 0, 0, 0, 0,
+        8, 9, 9, 9, 9, 9, 9, 9, 9, 10, 9, 9, 9, 9, 9, 9,
+        9, 9, 9, 9, 9, 9, 9, 9, 9, 9, 9, 0, 0, 0, 0, 9,
+        0, 9, 9, 9, 11, 12, 9, 9, 9, 13, 9, 9, 9, 9, 9, 14,
+        9, 9, 9, 9, 9, 9, 9, 15, 16, 9, 9
+    };
+    
+     
+    
+}
@@ -0,0 +1,366 @@
+package org.stekikun.dolmen.test.examples;
+import java.util.Optional;
+
+/**
+ * Lexer generated by Dolmen 1.0.0
+ */
+public final class TokensTablesLexer extends org.stekikun.dolmen.codegen.LexBuffer {
+    
+    
+	private String token(String kind) {
+		return token(kind, getLexeme());
+	}
+
+	private String token(String kind, Object value) {
+		Position start = getLexemeStart();
+		Position end = getLexemeEnd();
+		return kind + "(" + value + ")@" + start.offset + "-" + end.offset
+			+ ":" + start.line + "," + start.bol + "-" + end.line + "," + end.bol;
+	}
+
+	// Rebuilds the lexeme one character at a time
+	private String lexemeByChars() {
+		final int length = getLexeme().length();
+		final StringBuilder buf = new StringBuilder(length);
+		for (int i = 0; i < length; ++i)
+			buf.append(getLexemeChar(i));
+		return buf.toString();
+	}
+
+    
+    /**
+     * Returns a fresh lexer based on the given character stream
+     * @param inputname
+     * @param reader
+     */
+    public TokensTablesLexer(String inputname, java.io.Reader reader) {
+        super("1.0.0", inputname, reader);
+    }
+    
+    /**
+     * Returns a fresh lexer based on the given range of characters,
+     * which is used in place and must not be modified while lexing
+     * @param inputname
+     * @param chars
+     * @param offset
+     * @param length
+     */
+    public TokensTablesLexer(String inputname, char[] chars, int offset, int length) {
+        super("1.0.0", inputname, chars, offset, length);
+    }
+    
+    /**
+     * Returns a fresh lexer based on the given in-memory characters
+     * @param inputname
+     * @param input
+     */
+    public TokensTablesLexer(String inputname, CharSequence input) {
+        super("1.0.0", inputname, input);
+    }
+    
+    private static final int[] NO_MEM_CELLS = new int[0];
+    
+    /**
+     * Entry point for rule main
+     */
+    public  String  main() {
+        final boolean _jl_top = enterEntry();
+        main:
+        while (true) {
+            // Initialize lexer for this automaton
+            memory = _jl_mem_main;
+            java.util.Arrays.fill(memory, -1);
+            startToken();
+            int result = _jl_interpret(startMatch(0, _jl_top));
+            endToken();
+            switch (result) {
+            case 0:  {
+                 continue main; 
+            }
+            case 1:  {
+                 newline(); continue main; 
+            }
+            case 2:  {
+                 return token("LINE_COMMENT", lexemeByChars()); 
+            }
+            case 3:  {
+                 saveStart(this::comment); return token("COMMENT"); 
+            }
+            case 4:  {
+                 saveStart(this::string); return token("STRING"); 
+            }
+            case 5:  {
+                 return token("DOOD"); 
+            }
+            case 6:  {
+                 return token("DO"); 
+            }
+            case 7:  {
+                 return token("IF"); 
+            }
+            case 8:  {
+                 return token("IF_"); 
+            }
+            case 9:  {
+                 return token("IF__"); 
+            }
+            case 10:  {
+                 return token("IN"); 
+            }
+            case 11:  {
+                 return token("INT"); 
+            }
+            case 12:  {
+                 return token("ELSE"); 
+            }
+            case 13:  {
+                 return token("WHILE"); 
+            }
+            case 14:  {
+                 return token("X"); 
+            }
+            case 15:  {
+                 return token("IDENT"); 
+            }
+            case 16:  {
+                final Optional<String> f = getSubLexemeOpt(memory[1], memory[2]);
+                final String i = getSubLexeme(startPos, memory[0]);
+                 return token("NUMBER", i + "." + f.orElse("-")); 
+            }
+            case 17:  {
+                final char c = getSubLexemeChar(startPos + 1);
+                 return token("CHAR", (int) c); 
+            }
+            case 18:  {
+                 throw error("Illegal character"); 
+            }
+            case 19:  {
+                 return token("EOF"); 
+            }
+            case 20:  {
+                 return token("OTHER"); 
+            }
+            default:
+                break main;
+            }
+        }
+        throw error("Empty token");
+    }
+    private final int [] _jl_mem_main = new int[6];
+    
+    /**
+     * Entry point for rule comment
+     */
+    private  void  comment() {
+        final boolean _jl_top = enterEntry();
+        comment:
+        while (true) {
+            // Initialize lexer for this automaton
+            memory = NO_MEM_CELLS;
+            startToken();
+            int result = _jl_interpret(startMatch(38, _jl_top));
+            endToken();
+            switch (result) {
+            case 0:  {
+                 return; 
+            }
+            case 1:  {
+                 newline(); continue comment; 
+            }
+            case 2:  {
+                 throw error("Unterminated comment"); 
+            }
+            case 3:  {
+                 continue comment; 
+            }
+            default:
+                break comment;
+            }
+        }
+        throw error("Empty token");
+    }
+    
+    /**
+     * Entry point for rule string
+     */
+    private  void  string() {
+        final boolean _jl_top = enterEntry();
+        string:
+        while (true) {
+            // Initialize lexer for this automaton
+            memory = NO_MEM_CELLS;
+            startToken();
+            int result = _jl_interpret(startMatch(45, _jl_top));
+            endToken();
+            switch (result) {
+            case 0:  {
+                 return; 
+            }
+            case 1:  {
+                 continue string; 
+            }
+            case 2:  {
+                 throw error("Newline in string literal"); 
+            }
+            case 3:  {
+                 throw error("Unterminated string literal"); 
+            }
+            case 4:  {
+                 continue string; 
+            }
+            default:
+                break string;
+            }
+        }
+        throw error("Empty token");
+    }
+    
+    private int _jl_interpret(int _jl_cell) {
+        if (_jl_cell >= 0) {
+            final int _jl_action = _jl_actions[_jl_cell];
+            if (_jl_action >= 0) {
+                _jl_exec(_jl_cellOps[_jl_cell]);
+                return _jl_action;
+            }
+            final int _jl_mark = _jl_marks[_jl_cell];
+            if (_jl_mark >= 0) {
+                mark(_jl_mark);
+                _jl_exec(_jl_cellOps[_jl_cell]);
+            }
+        } else _jl_cell = ~_jl_cell;
+        while (true) {
+            final char _jl_char = getNextChar(_jl_cell);
+            final int _jl_slot = _jl_base[_jl_cell] + _jl_cmap[_jl_char < 256 ? _jl_char : _jl_cmapHi[_jl_char >> 8] + (_jl_char & 0xFF)];
+            final int _jl_trans = _jl_check[_jl_slot] == _jl_cell ? _jl_next[_jl_slot] : _jl_deflt[_jl_cell];
+            _jl_exec(_jl_transOps[_jl_trans]);
+            _jl_cell = _jl_transTargets[_jl_trans];
+            if (_jl_cell < 0) return rewind();
+            final int _jl_action = _jl_actions[_jl_cell];
+            if (_jl_action >= 0) {
+                _jl_exec(_jl_cellOps[_jl_cell]);
+                return _jl_action;
+            }
+            final int _jl_mark = _jl_marks[_jl_cell];
+            if (_jl_mark >= 0) {
+                mark(_jl_mark);
+                _jl_exec(_jl_cellOps[_jl_cell]);
+            }
+        }
+    }
+    
+    private void _jl_exec(int _jl_pc) {
+        while (true) {
+            switch (_jl_ops[_jl_pc]) {
+            case 0:
+            return;
+            case 1:
+            memory[_jl_ops[_jl_pc + 1]] = curPos;
+                _jl_pc += 2; break;
+            case 2:
+            memory[_jl_ops[_jl_pc + 1]] = memory[_jl_ops[_jl_pc + 2]];
+                _jl_pc += 3; break;
+            default:
+            memory[_jl_ops[_jl_pc + 1]] = -1;
+                _jl_pc += 2; break;
+            }
+        }
+    }
+    
+    // Character classes (28)
+    private static final int[] _jl_cmapHi = unpack(256,
+        "\001\001\376\u0101\001\u0201");
+    private static final int[] _jl_cmap = unpack(768,
+        "\011\001\001\002\001\003\002\001\001\004\022\001\001\002\001\001\001\005" +
+        "\004\001\001\006\002\001\001\007\003\001\001\010\001\011\012\012\006\001" +
+        "\001\013\005\014\001\015\002\014\001\016\021\014\001\001\001\017\002\001" +
+        "\001\014\001\001\003\014\001\020\001\021\001\022\001\014\001\023\001\024" +
+        "\002\014\001\025\001\014\001\026\001\027\003\014\001\030\001\031\002\014" +
+        "\001\032\001\033\002\014\u0284\001\001\034");
+    // Cells (53)
+    private static final int[] _jl_actions = unpack(53,
+        "\001\000\001\025\001\024\001\023\001\000\001\005\012\000\001\002\006\000" +
+        "\001\004\015\000\001\022\002\000\001\003\001\000\001\002\001\000\001\001" +
+        "\002\000\001\001\001\000\001\004\001\000\001\003\001\002");
+    private static final int[] _jl_marks = unpack(53,
+        "\004\000\001\025\001\000\001\021\006\020\001\017\001\025\001\002\001\000" +
+        "\001\020\001\001\003\020\001\016\001\000\001\003\001\006\001\013\001\010" +
+        "\001\014\001\012\001\011\002\020\001\015\001\000\001\021\003\000\001\004" +
+        "\001\000\001\002\006\000\001\005\001\000\001\003\002\000");
+    private static final int[] _jl_cellOps = unpack(53,
+        "\006\001\001\005\034\001\001\021\021\001");
+    // Compressed transition rows
+    private static final int[] _jl_base = unpack(53,
+        "\004\001\001E\001\001\001\014\001\u0136\001K\001\035\001/\001g\001w\001" +
+        "\u0145\001\020\001\012\001\001\001\223\001\014\001\257\001\313\001\347\001" +
+        "\u0154\001\001\001U\001\u0163\001\371\001\u0172\001\u0181\001\u0190\001" +
+        "\u019f\001\u0108\001\u0124\001\u01ae\001\011\001\020\001!\001\001\0019\001" +
+        "?\001\001\001&\001\001\001\042\001\001\001\u01bc\001Y\001\001\001\u01bf" +
+        "\001\001\001*\002\001");
+    private static final int[] _jl_deflt = unpack(53,
+        "\001\012\003\001\001\023\001\001\001\024\007\012\002\024\001\001\001\012" +
+        "\001\024\004\012\001\001\001\035\011\012\003\024\001\001\002'\001\001\001" +
+        "\024\001\001\001\024\001\001\001-\0013\001\001\001-\001\001\001\024\002" +
+        "\001");
+    private static final int[] _jl_check = unpack(502,
+        "\013\001\001\020\001\023\004\001\001#\001\007\001\001\001\007\001\017\001" +
+        "\001\001\017\001$\003\001\011\012\001%\001\012\001*\001\012\001,\001\012" +
+        "\0013\001\000\001\012\011\013\001\012\001\013\001\000\002'\001\013\001\000" +
+        "\001'\001\013\002(\001\000\001\013\001(\001\000\002\005\001\000\001\013" +
+        "\011\011\001'\001\011\001\000\002\031\001\011\001(\002/\002\000\001\011" +
+        "\001\005\005\000\001\011\011\014\001\031\001\014\002\000\001/\002\014\011" +
+        "\015\001\000\001\015\001\014\002\000\001\015\007\000\001\015\004\000\001" +
+        "\015\011\022\001\000\001\022\003\000\001\022\003\000\001\022\010\000\001" +
+        "\022\011\024\001\000\001\024\003\000\001\024\004\000\001\024\007\000\001" +
+        "\024\011\025\001\000\001\025\003\000\001\025\005\000\001\025\006\000\001" +
+        "\025\011\026\001\000\001\026\003\000\001\026\001\000\001\026\001\000\011" +
+        "\033\001\026\001\033\003\000\001\033\011 \001\033\001 \001\000\001\033\001" +
+        "\000\001 \010\000\001 \003\000\001 \011!\001\000\001!\003\000\001!\001\000" +
+        "\001!\001\000\011\010\001!\001\010\003\000\001\010\011\016\001\000\001\016" +
+        "\001\000\001\010\001\000\001\016\011\027\001\000\001\027\001\000\001\016" +
+        "\001\000\001\027\011\032\001\000\001\032\001\000\001\027\001\000\001\032" +
+        "\011\034\001\000\001\034\001\000\001\032\001\000\001\034\011\035\001\000" +
+        "\001\035\001\000\001\034\001\000\001\035\011\036\001\000\001\036\001\000" +
+        "\001\035\001\000\001\036\011\037\001\000\001\037\001\000\001\036\001\000" +
+        "\001\037\011\042\001\000\001\042\001\000\001\037\001\000\001\042\001\000" +
+        "\003.\0031\005\000\001\042\001.\002\000\0011\011\000\001.\002\000\0011\034" +
+        "\000");
+    private static final int[] _jl_next = unpack(502,
+        "\001\001\001\002\001\003\001\004\001\005\001\006\002\001\001\007\001\010" +
+        "\001\011\001\003\001\002\001\013\001\001\001\014\001\015\001%\001\025\001" +
+        "\016\001\010\001\034\001\017\001\035\001%\001\020\001\021\001\022\011\024" +
+        "\001&\001\024\001(\001\027\001,\001\024\001.\001\001\001\030\013\024\001" +
+        "\001\001(\001)\001\024\001\001\001*\001\031\002\024\001\001\001\032\001" +
+        "\024\001\001\002\024\001\001\012\024\001+\001\024\001\001\006\024\002\001" +
+        "\001\026\001\024\005\001\014\024\002\001\002\024\001\033\011\024\001\001" +
+        "\002\024\002\001\001\024\007\001\001\033\004\001\012\024\001\001\001\024" +
+        "\003\001\001\024\003\001\001\036\010\001\012\024\001\001\001\024\003\001" +
+        "\001\024\004\001\001\037\007\001\012\024\001\001\001\024\003\001\001\024" +
+        "\005\001\001 \006\001\012\024\001\001\001\024\003\001\001\024\001\001\001" +
+        "!\001\001\013\024\003\001\012\024\001\042\001\024\001\001\001\024\001\001" +
+        "\001\024\010\001\001#\003\001\012\024\001\001\001\024\003\001\001\024\001" +
+        "\001\001$\001\001\013\024\003\001\012\024\001\001\001\024\001\001\001\024" +
+        "\001\001\012\024\001\001\001\024\001\001\001\024\001\001\012\024\001\001" +
+        "\001\024\001\001\001\024\001\001\012\024\001\001\001\024\001\001\001\024" +
+        "\001\001\012\024\001\001\001\024\001\001\001\024\001\001\012\024\001\001" +
+        "\001\024\001\001\001\024\001\001\012\024\001\001\001\024\001\001\001\024" +
+        "\001\001\012\024\001\001\001\024\001\001\001\024\001\001\001\024\001\001" +
+        "\001.\001/\0010\003\024\005\001\001\024\0011\002\001\001\024\011\001\001" +
+        "2\002\001\001\024\034\001");
+    // Transitions (51)
+    private static final int[] _jl_transTargets = unpack(51,
+        "\001\002\001\023\001\021\001\020\001\006\001\005\001\017\001\007\001\004" +
+        "\001\010\001\012\001\015\001\011\001\013\001\014\001\022\001\016\001\003" +
+        "\001%\001\000\001#\001 \001\036\001\037\001\034\001\033\001\032\001\030" +
+        "\001\031\001\024\001\025\001\026\001\027\001\035\001!\001\042\001$\001&" +
+        "\001(\001+\001*\001,\001)\001-\0011\0014\0013\0010\001/\0012\0015");
+    private static final int[] _jl_transOps = unpack(51,
+        "\007\001\001\002\014\001\001\013\017\001\001\016\016\001");
+    // Memory and tag actions
+    private static final int[] _jl_ops = unpack(26,
+        "\001\001\001\002\001\004\001\001\001\003\001\001\002\004\001\002\001\001" +
+        "\001\002\001\005\001\001\001\002\001\006\001\001\001\003\001\001\001\004" +
+        "\001\003\001\002\001\005\002\003\001\006\001\001");
+    
+     
+    
+}
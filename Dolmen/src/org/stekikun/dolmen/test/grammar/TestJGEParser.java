@@ -5,6 +5,7 @@ import java.io.FileReader;
 import java.io.FileWriter;
 import java.io.IOException;
 
+import org.eclipse.jdt.annotation.Nullable;
 import org.stekikun.dolmen.automaton.Automata;
 import org.stekikun.dolmen.automaton.Determinize;
 import org.stekikun.dolmen.codegen.AutomataOutput;
@@ -51,18 +52,36 @@ public abstract class TestJGEParser {
 	}
 	
 	static void generateLexer(String filename, String className) throws IOException {
+		generateLexer(filename, null, className);
+	}
+	
+	/**
+	 * Same as {@link #generateLexer(String, String)}, but uses the
+	 * given configuration instead of the options of the lexer
+	 * description when it is not {@code null}, so that several
+	 * variants of the same lexer can be generated
+	 * 
+	 * @param filename
+	 * @param config
+	 * @param className
+	 * @throws IOException
+	 */
+	static void generateLexer(String filename, @Nullable Config config, String className)
+			throws IOException {
 		System.out.println("Parsing lexer description " + filename + "...");
 		FileReader reader = new FileReader(filename);
 		JLELexer lexer = new JLELexer(filename, reader);
 		JLEParser parser = new JLEParser(lexer, JLELexer::main);
 		Lexer lexerDef = parser.lexer();
 		reader.close();
+		Config conf = config == null ? Config.ofLexer(lexerDef, null) : config;
 		System.out.println("Computing automata...");
-		Automata aut = Determinize.lexer(lexerDef, true);
+		Automata aut = Determinize.lexer(lexerDef, true, 
+				conf.byteInput, conf.keywordHashing);
 		File file = new File("src/org/stekikun/dolmen/test/examples/" + className + ".java");
 		try (FileWriter writer = new FileWriter(file, false)) {
 			writer.append("package org.stekikun.dolmen.test.examples;\n");
-			AutomataOutput.output(writer, className, Config.ofLexer(lexerDef, null), aut);
+			AutomataOutput.output(writer, className, conf, aut);
 		}
 		System.out.println("Generated in " + file.getAbsolutePath());
 	}
@@ -133,5 +152,28 @@ public abstract class TestJGEParser {
 		generateParser("tests/jg/NoRule.jg", "NoRule");
 		
 		generateLexer("tests/jl/Alphabet.jl", "Alphabet");
+
+		generateLexer("tests/jl/Tokens.jl", "TokensLexer");
+		generateLexer("tests/jl/Tokens.jl", 
+			Config.start().lexerStyle(Config.LexerStyle.LOOP).done(), "TokensLoopLexer");
+		generateLexer("tests/jl/Tokens.jl", 
+			Config.start().lexerStyle(Config.LexerStyle.TABLES).done(), "TokensTablesLexer");
+		generateLexer("tests/jl/Tokens.jl", 
+			Config.start().byteInput(true).done(), "TokensByteLexer");
+		generateLexer("tests/jl/Tokens.jl", 
+			Config.start().charClasses(true)
+				.lexerStyle(Config.LexerStyle.LOOP).done(), "TokensClassesLexer");
+		generateLexer("tests/jl/Tokens.jl", 
+			Config.start().asciiFastPath(true).done(), "TokensAsciiLexer");
+		generateLexer("tests/jl/Keywords.jl", 
+			Config.start().lexerStyle(Config.LexerStyle.TABLES).done(), "KeywordsLexer");
+		generateLexer("tests/jl/Keywords.jl", 
+			Config.start().keywordHashing(true).done(), "KeywordsHashedLexer");
+		generateLexer("tests/jl/Keywords.jl", 
+			Config.start().keywordHashing(true).byteInput(true)
+				.lexerStyle(Config.LexerStyle.LOOP).done(), "KeywordsHashedByteLexer");
+		generateLexer("tests/jl/Lexemes.jl", "LexemesLexer");
+		generateLexer("tests/jl/Lexemes.jl", 
+			Config.start().byteInput(true).done(), "LexemesByteLexer");
 	}
 }
\ No newline at end of file
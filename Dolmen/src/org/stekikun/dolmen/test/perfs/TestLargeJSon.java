@@ -1,12 +1,12 @@
 package org.stekikun.dolmen.test.perfs;
 
-import java.io.BufferedReader;
-import java.io.FileReader;
 import java.io.IOException;
 import java.io.Reader;
+import java.nio.file.Paths;
 import java.util.Scanner;
 
 import org.stekikun.dolmen.codegen.BaseParser.ParsingException;
+import org.stekikun.dolmen.codegen.MappedUTF8Reader;
 import org.stekikun.dolmen.test.examples.JSonLWLexer;
 import org.stekikun.dolmen.test.examples.JSonLWParser;
 import org.stekikun.dolmen.test.examples.JSonLexer;
@@ -34,7 +34,7 @@ public final class TestLargeJSon {
 		Scanner scanner = new Scanner(System.in);
 		scanner.nextLine();
 
-		try (Reader file = new BufferedReader(new FileReader(filename))) {
+		try (Reader file = MappedUTF8Reader.open(Paths.get(filename))) {
 //			JSonLWLexer lexer = new JSonLWLexer(filename, file);
 //			JSonLWParser parser = new JSonLWParser(lexer, JSonLWLexer::main);
 			JSonLexer lexer = new JSonLexer(filename, file);
@@ -0,0 +1,201 @@
+package org.stekikun.dolmen.test.regular;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.Nullable;
+import org.stekikun.dolmen.common.CSet;
+import org.stekikun.dolmen.common.Generator;
+import org.stekikun.dolmen.syntax.Extent;
+import org.stekikun.dolmen.syntax.Lexer;
+import org.stekikun.dolmen.syntax.Located;
+import org.stekikun.dolmen.syntax.Regular;
+import org.stekikun.dolmen.syntax.Regulars;
+import org.stekikun.dolmen.tagged.Keywords;
+import org.stekikun.dolmen.test.TestUnit;
+
+/**
+ * Testing unit which generates random lexer entries made of
+ * string literals and more general clauses, computes their
+ * keywords with {@link Keywords#analyse(Lexer.Entry)}, and checks
+ * that:
+ * <ul>
+ * <li> recognizing the keywords with their identifier clause
+ * 	does not change the clause chosen for any of them, i.e. the first
+ * 	clause which accepts a keyword is the keyword's own clause, and the
+ * 	first clause which is not a keyword and accepts it is the identifier
+ * 	clause;
+ * <li> all the literals which are keywords according to the
+ * 	documented conditions are found, in particular literals which
+ * 	are not shadowed by some former clause.
+ * </ul>
+ * Literals are short words over a few letters in both cases, so that
+ * entries often contain case variants of the same keyword, duplicate
+ * literals, and literals shadowed by former clauses.
+ *
+ * @author Stéphane Lescuyer
+ */
+public final class TestKeywords implements TestUnit<Lexer.Entry, Keywords> {
+
+	/** The letters used in literals */
+	private static final String LETTERS = "abAB";
+
+	/** The general clauses, which can be identifier clauses */
+	private static final Regular[] IDENTS = {
+		// Lower-case identifiers, which do not accept all case variants
+		Regular.plus(Regular.chars(CSet.interval('a', 'b'))),
+		// Identifiers in any case
+		Regular.plus(Regular.chars(CSet.union(
+			CSet.interval('a', 'b'), CSet.interval('A', 'B')))),
+		// Identifiers starting with an upper-case letter
+		Regular.seq(Regular.chars(CSet.interval('A', 'B')),
+			Regular.star(Regular.chars(CSet.interval('a', 'b')))),
+		// Some literals but not as a single string literal,
+		// which shadow the same literals in later clauses
+		Regular.or(Regular.string("ab"), Regular.string("aba")),
+		Regular.seq(Regular.chars(CSet.singleton('a')),
+			Regular.chars(CSet.union(CSet.singleton('a'), CSet.singleton('A')))),
+	};
+
+	private final int maxClauses;
+	private final Random random = new Random();
+
+	private int keywords = 0;
+	private int caseVariants = 0;
+
+	/**
+	 * Returns a new instance of this test unit, which
+	 * tests entries with at most {@code maxClauses} clauses
+	 *
+	 * @param maxClauses
+	 */
+	public TestKeywords(int maxClauses) {
+		this.maxClauses = maxClauses;
+	}
+
+	@Override
+	public String name() {
+		return "Testing the keywords found in lexer entries.";
+	}
+
+	private String literal() {
+		final StringBuilder buf = new StringBuilder();
+		// Single characters are never keywords
+		final int n = random.nextInt(4) == 0 ? 1 : 2 + random.nextInt(2);
+		for (int i = 0; i < n; ++i)
+			buf.append(LETTERS.charAt(random.nextInt(LETTERS.length())));
+		return buf.toString();
+	}
+
+	@Override
+	public Generator<Lexer.Entry> generator() {
+		return new Generator<Lexer.Entry>() {
+			@Override
+			public String name() {
+				return "Random lexer entries with literals";
+			}
+
+			@Override
+			public Lexer.Entry generate() {
+				final Lexer.Entry.Builder builder = new Lexer.Entry.Builder(
+					true, Located.dummy("main"), Extent.inlined("int"), null);
+				if (random.nextInt(10) == 0) builder.setShortest();
+				final int n = 1 + random.nextInt(maxClauses);
+				for (int i = 0; i < n; ++i) {
+					final Regular clause = random.nextInt(10) < 7 ?
+						Regular.string(literal()) :
+						IDENTS[random.nextInt(IDENTS.length)];
+					builder.add(clause, " return " + i + "; ");
+				}
+				return builder.build();
+			}
+		};
+	}
+
+	@Override
+	public Keywords apply(Lexer.Entry entry) {
+		return Keywords.analyse(entry);
+	}
+
+	/**
+	 * @param clauses
+	 * @param kw
+	 * @param skipped
+	 * @return the index of the first clause in {@code clauses} which
+	 * 	accepts {@code kw} and is not in {@code skipped}, or {@code -1}
+	 */
+	private static int first(List<Lexer.Clause> clauses, String kw, Set<Integer> skipped) {
+		for (int k = 0; k < clauses.size(); ++k) {
+			if (skipped.contains(k)) continue;
+			if (Regulars.accepts(clauses.get(k).regular.val, kw)) return k;
+		}
+		return -1;
+	}
+
+	@Override
+	public @Nullable String check(Lexer.Entry entry, Keywords output) {
+		final List<Lexer.Clause> clauses = entry.clauses;
+		final Set<Integer> kwClauses = new HashSet<>();
+		for (Map<String, Integer> table : output.tables.values())
+			kwClauses.addAll(table.values());
+		if (entry.shortest && !output.isEmpty())
+			return "Keywords were found in a shortest-match entry";
+
+		// The keywords are sound
+		for (Map.Entry<Integer, Map<String, Integer>> e : output.tables.entrySet()) {
+			final int ident = e.getKey();
+			if (Regulars.asLiteral(clauses.get(ident).regular.val) != null)
+				return "Clause " + ident + " is a literal and has keywords";
+			final Set<String> lower = new HashSet<>();
+			for (Map.Entry<String, Integer> kw : e.getValue().entrySet()) {
+				final String k = kw.getKey();
+				final int j = kw.getValue();
+				if (!k.equals(Regulars.asLiteral(clauses.get(j).regular.val)))
+					return "Keyword " + k + " is not the literal of clause " + j;
+				if (k.length() < 2)
+					return "Keyword " + k + " has a single character";
+				if (j >= ident)
+					return "Keyword " + k + " does not appear before clause " + ident;
+				if (first(clauses, k, new HashSet<>()) != j)
+					return "Keyword " + k + " is not chosen by its clause " + j;
+				if (first(clauses, k, kwClauses) != ident)
+					return "Keyword " + k + " is not chosen by clause " + ident
+						+ " once keyword clauses are removed";
+				if (!lower.add(k.toLowerCase())) ++caseVariants;
+				++keywords;
+			}
+		}
+
+		// The keywords are complete
+		if (entry.shortest) return null;
+		int runStart = 0;
+		for (int i = 0; i < clauses.size(); ++i) {
+			if (Regulars.asLiteral(clauses.get(i).regular.val) != null) continue;
+			final Set<String> run = new HashSet<>();
+			boolean duplicates = false;
+			for (int j = runStart; j < i; ++j)
+				duplicates |= !run.add(Regulars.asLiteral(clauses.get(j).regular.val));
+			for (int j = runStart; j < i && !duplicates; ++j) {
+				final @Nullable String k = Regulars.asLiteral(clauses.get(j).regular.val);
+				if (k == null || k.length() < 2) continue;
+				if (!Regulars.accepts(clauses.get(i).regular.val, k)) continue;
+				if (first(clauses, k, new HashSet<>()) != j) continue;
+				final @Nullable Map<String, Integer> table = output.tables.get(i);
+				if (table == null || !Integer.valueOf(j).equals(table.get(k)))
+					return "Literal " + k + " in clause " + j
+						+ " was not found as a keyword of clause " + i;
+			}
+			runStart = i + 1;
+		}
+		return null;
+	}
+
+	@Override
+	public void postHook() {
+		System.out.printf("%d keywords found, of which %d case variants"
+			+ " of other keywords\n", keywords, caseVariants);
+	}
+}
@@ -8,7 +8,7 @@ ws = [' ' '\t' '\b' '\n' '\r'];
 
 public {Token} rule main =
 | ws+	{ continue main; }
-| integer { return INT(Integer.parseInt(getLexeme())); }
+| integer { return INT(getLexemeAsInt(10)); }
 | '+'   { return PLUS; }
 | '*'   { return TIMES; }
 | '-'   { return MINUS; }
@@ -51,7 +51,7 @@ public { Token } rule main =
               saveStart(this::string);
 			  return STRING(buf.toString());
 			}
-| number	{ return NUMBER(Double.parseDouble(getLexeme())); }
+| number	{ return NUMBER(getLexemeAsDouble()); }
 | eof		{ return EOF; }
 
 private { void } rule string =
@@ -77,7 +77,7 @@ private { void } rule string =
 
 private { char} rule hexUnicode =
 | hex hex hex hex
-			{ return (char)(Integer.parseInt(getLexeme(), 16)); }
+			{ return (char) getLexemeAsInt(16); }
 | ""		{ throw error("Illegal \\u Unicode sequence"); }
 
 { }
\ No newline at end of file
@@ -77,7 +77,7 @@ private { void } rule string =
 
 private { char} rule hexUnicode =
 | hex hex hex hex
-			{ return (char)(Integer.parseInt(getLexeme(), 16)); }
+			{ return (char) getLexemeAsInt(16); }
 | ""		{ throw error("Illegal \\u Unicode sequence"); }
 
 { }
\ No newline at end of file
@@ -58,7 +58,7 @@ public { Token } rule main =
               saveStart(this::string);
 			  return STRING(buf.toString());
 			}
-| number	{ return NUMBER(Double.parseDouble(getLexeme())); }
+| number	{ return NUMBER(getLexemeAsDouble()); }
 | eof		{ return EOF; }
 
 private { void } rule string =
@@ -84,7 +84,7 @@ private { void } rule string =
 
 private { char} rule hexUnicode =
 | hex<4>
-			{ return (char)(Integer.parseInt(getLexeme(), 16)); }
+			{ return (char) getLexemeAsInt(16); }
 | ""		{ throw error("Illegal \\u Unicode sequence"); }
 
 { }
\ No newline at end of file
@@ -0,0 +1,106 @@
+// Lexical analyzer with many keywords, some of which are case
+// variants of one another, used to compare the lexers generated
+// with and without the keyword_hashing option
+//
+// Tokens are strings which describe the clause which matched and
+// the lexeme, so that they do not depend on the encoding of the input.
+
+{
+	private String token(String kind) {
+		return kind + "(" + getLexeme() + ")";
+	}
+}
+
+ws = [' ' '\t' '\n' '\r']+;
+letter = ['a'-'z' 'A'-'Z' '_' '\u00c0'-'\u00ff'];
+
+public { String } rule main =
+| ws		{ continue main; }
+// Shadows the literals "go" and "goto" below, which are not keywords
+| "go" "to"?
+			{ return token("GO"); }
+| "if"		{ return token("K0"); }
+| "iF"		{ return token("K1"); }
+| "If"		{ return token("K2"); }
+| "IF"		{ return token("K3"); }
+| "for"		{ return token("K4"); }
+| "foR"		{ return token("K5"); }
+| "fOr"		{ return token("K6"); }
+| "fOR"		{ return token("K7"); }
+| "For"		{ return token("K8"); }
+| "FoR"		{ return token("K9"); }
+| "FOr"		{ return token("K10"); }
+| "FOR"		{ return token("K11"); }
+| "else"	{ return token("K12"); }
+| "Else"	{ return token("K13"); }
+| "ELSE"	{ return token("K14"); }
+| "eLsE"	{ return token("K15"); }
+| "while"	{ return token("K16"); }
+| "return"	{ return token("K17"); }
+| "class"	{ return token("K18"); }
+| "public"	{ return token("K19"); }
+| "private"	{ return token("K20"); }
+| "static"	{ return token("K21"); }
+| "final"	{ return token("K22"); }
+| "void"	{ return token("K23"); }
+| "int"		{ return token("K24"); }
+| "long"	{ return token("K25"); }
+| "char"	{ return token("K26"); }
+| "byte"	{ return token("K27"); }
+| "short"	{ return token("K28"); }
+| "double"	{ return token("K29"); }
+| "float"	{ return token("K30"); }
+| "boolean"	{ return token("K31"); }
+| "true"	{ return token("K32"); }
+| "false"	{ return token("K33"); }
+| "null"	{ return token("K34"); }
+| "new"		{ return token("K35"); }
+| "this"	{ return token("K36"); }
+| "super"	{ return token("K37"); }
+| "try"		{ return token("K38"); }
+| "catch"	{ return token("K39"); }
+| "throw"	{ return token("K40"); }
+| "throws"	{ return token("K41"); }
+| "switch"	{ return token("K42"); }
+| "case"	{ return token("K43"); }
+| "default"	{ return token("K44"); }
+| "break"	{ return token("K45"); }
+| "continue"	{ return token("K46"); }
+| "do"		{ return token("K47"); }
+| "import"	{ return token("K48"); }
+| "package"	{ return token("K49"); }
+| "extends"	{ return token("K50"); }
+| "implements"	{ return token("K51"); }
+| "interface"	{ return token("K52"); }
+| "abstract"	{ return token("K53"); }
+| "native"	{ return token("K54"); }
+| "volatile"	{ return token("K55"); }
+| "synchronized"	{ return token("K56"); }
+| "transient"	{ return token("K57"); }
+| "assert"	{ return token("K58"); }
+| "enum"	{ return token("K59"); }
+| "instanceof"	{ return token("K60"); }
+| "finally"	{ return token("K61"); }
+| "go"		{ return token("K62"); }
+| "goto"	{ return token("K63"); }
+| "\u00e9t\u00e9"	{ return token("K64"); }
+| "\u00c9T\u00c9"	{ return token("K65"); }
+| "a"		{ return token("K66"); }
+| "+="		{ return token("K67"); }
+| letter (letter | ['0'-'9'])*
+			{ return token("IDENT"); }
+// The run of literals before the directive clause contains
+// the same literal twice, so none of them is a keyword
+| "#if"		{ return token("D0"); }
+| "#else"	{ return token("D1"); }
+| "#if"		{ return token("D2"); }
+| '#' ['a'-'z']+
+			{ return token("DIRECTIVE"); }
+| "0x"		{ return token("N0"); }
+| "00"		{ return token("N1"); }
+| ['0'-'9' 'x']+
+			{ return token("NUMBER"); }
+| eof		{ return token("EOF"); }
+| _			{ return token("OTHER"); }
+
+{ }
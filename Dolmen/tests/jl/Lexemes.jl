@@ -0,0 +1,18 @@
+// Lexical analyzer which returns words as interned lexemes, used
+// to test the table of lexemes maintained by lexer buffers
+//
+// Tokens are the string instances returned by getInternedLexeme(),
+// so that tests can tell which equal lexemes are shared, and the
+// end of input is the empty string.
+
+{ }
+
+ws = [' ' '\t' '\n' '\r']+;
+
+public { String } rule main =
+| ws		{ continue main; }
+| [^' ' '\t' '\n' '\r']+
+			{ return getInternedLexeme(); }
+| eof		{ return ""; }
+
+{ }
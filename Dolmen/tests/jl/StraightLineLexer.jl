@@ -12,7 +12,7 @@ ident = istart ibody*;
 
 public {Token} rule main =
 | ws+	{ return main(); }
-| integer { return INT(Integer.parseInt(getLexeme())); }
+| integer { return INT(getLexemeAsInt(10)); }
 | "print" { return PRINT; }
 | ident { return ID(getLexeme()); }
 | '+'   { return PLUS; }
@@ -0,0 +1,79 @@
+// Lexical analyzer used to compare the tokens found in some
+// input by the different ways of running generated lexers
+//
+// Tokens are strings which describe the token's kind, its
+// lexeme or bound values, and its positions. They only depend
+// on the position at which the main entry is called, so that
+// analyses can be restarted anywhere.
+
+import java.util.Optional;
+
+{
+	private String token(String kind) {
+		return token(kind, getLexeme());
+	}
+
+	private String token(String kind, Object value) {
+		Position start = getLexemeStart();
+		Position end = getLexemeEnd();
+		return kind + "(" + value + ")@" + start.offset + "-" + end.offset
+			+ ":" + start.line + "," + start.bol + "-" + end.line + "," + end.bol;
+	}
+
+	// Rebuilds the lexeme one character at a time
+	private String lexemeByChars() {
+		final int length = getLexeme().length();
+		final StringBuilder buf = new StringBuilder(length);
+		for (int i = 0; i < length; ++i)
+			buf.append(getLexemeChar(i));
+		return buf.toString();
+	}
+}
+
+ws = [' ' '\t']+;
+nl = '\n' | '\r' | "\r\n";
+ident = ['a'-'z' 'A'-'Z' '_'] ['a'-'z' 'A'-'Z' '_' '0'-'9']*;
+digit = ['0'-'9'];
+
+public { String } rule main =
+| ws		{ continue main; }
+| nl		{ newline(); continue main; }
+| "//" [^'\n' '\r']*
+			{ return token("LINE_COMMENT", lexemeByChars()); }
+| "/*"		{ saveStart(this::comment); return token("COMMENT"); }
+| '"'		{ saveStart(this::string); return token("STRING"); }
+| "do" | "od"
+			{ return token("DOOD"); }
+| "do"		{ return token("DO"); }
+| "if"		{ return token("IF"); }
+| "If"		{ return token("IF_"); }
+| "IF"		{ return token("IF__"); }
+| "in"		{ return token("IN"); }
+| "int"		{ return token("INT"); }
+| "else"	{ return token("ELSE"); }
+| "while"	{ return token("WHILE"); }
+| "x"		{ return token("X"); }
+| ident		{ return token("IDENT"); }
+| (digit+ as i) ('.' (digit+ as f))?
+			{ return token("NUMBER", i + "." + f.orElse("-")); }
+| '\'' ([^'\n' '\r'] as c) '\''
+			{ return token("CHAR", (int) c); }
+| '@'		{ throw error("Illegal character"); }
+| eof		{ return token("EOF"); }
+| _			{ return token("OTHER"); }
+
+private { void } rule comment =
+| "*/"		{ return; }
+| nl		{ newline(); continue comment; }
+| eof		{ throw error("Unterminated comment"); }
+| orelse	{ continue comment; }
+
+private { void } rule string =
+| '"'		{ return; }
+| '\\' [^'\n' '\r']
+			{ continue string; }
+| nl		{ throw error("Newline in string literal"); }
+| eof		{ throw error("Unterminated string literal"); }
+| orelse	{ continue string; }
+
+{ }